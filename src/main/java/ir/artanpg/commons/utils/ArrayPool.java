@@ -0,0 +1,289 @@
+package ir.artanpg.commons.utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * A size-classed pool of reusable arrays, intended for short-lived scratch
+ * buffers on hot paths.
+ *
+ * <p>Arrays are grouped into power-of-two size classes. Each thread keeps a
+ * small magazine of released arrays per size class, which serves most
+ * acquire and release calls without any synchronization. Arrays that do not
+ * fit in the magazine are handed to a shared depot, a fixed number of slots
+ * per size class that are claimed with compare-and-set, so the pool never
+ * blocks and never retains more than {@code magazineSize} arrays per size
+ * class per thread plus {@code depotSize} arrays per size class overall.
+ * Arrays that cannot be retained are simply left to the garbage collector.
+ *
+ * <p>The contents of an acquired array are undefined, and an acquired array
+ * may be longer than requested. Requests larger than the maximum pooled
+ * length are served by a plain allocation of the exact requested length and
+ * are not retained when released.
+ *
+ * <pre>{@code
+ * int[] buffer = ArrayPool.intArrays().acquire(first.length + second.length);
+ * try {
+ *     int count = ArrayUtils.merge(first, second, buffer, 0);
+ *     consume(buffer, count);
+ * } finally {
+ *     ArrayPool.intArrays().release(buffer);
+ * }
+ * }</pre>
+ *
+ * @param <A> the type of the arrays managed by this pool
+ * @author Mohammad Yazdian
+ */
+public final class ArrayPool<A> {
+
+    /**
+     * The default maximum length of the arrays retained by a pool.
+     */
+    public static final int DEFAULT_MAX_ARRAY_LENGTH = 1 << 20;
+
+    /**
+     * The default number of arrays each thread retains per size class.
+     */
+    public static final int DEFAULT_MAGAZINE_SIZE = 8;
+
+    /**
+     * The default number of arrays the shared depot retains per size class.
+     */
+    public static final int DEFAULT_DEPOT_SIZE = 32;
+
+    private static final int MIN_SIZE_CLASS = 4;
+
+    private static final ArrayPool<byte[]> BYTE_ARRAYS = create(byte[]::new, array -> array.length);
+    private static final ArrayPool<char[]> CHAR_ARRAYS = create(char[]::new, array -> array.length);
+    private static final ArrayPool<int[]> INT_ARRAYS = create(int[]::new, array -> array.length);
+    private static final ArrayPool<long[]> LONG_ARRAYS = create(long[]::new, array -> array.length);
+    private static final ArrayPool<double[]> DOUBLE_ARRAYS = create(double[]::new, array -> array.length);
+
+    private final IntFunction<A> allocator;
+    private final ToIntFunction<A> lengthFunction;
+    private final int maxSizeClass;
+    private final int magazineSize;
+    private final int depotSize;
+    private final AtomicReferenceArray<A> depot;
+    private final ThreadLocal<Magazine> magazines;
+
+    private ArrayPool(IntFunction<A> allocator,
+                      ToIntFunction<A> lengthFunction,
+                      int maxArrayLength,
+                      int magazineSize,
+                      int depotSize) {
+        this.allocator = allocator;
+        this.lengthFunction = lengthFunction;
+        this.maxSizeClass = Math.max(MIN_SIZE_CLASS, 31 - Integer.numberOfLeadingZeros(maxArrayLength));
+        this.magazineSize = magazineSize;
+        this.depotSize = depotSize;
+        this.depot = new AtomicReferenceArray<>((maxSizeClass + 1) * depotSize);
+        this.magazines = ThreadLocal.withInitial(() -> new Magazine(maxSizeClass + 1, magazineSize));
+    }
+
+    /**
+     * Returns the shared pool of {@code byte} arrays.
+     *
+     * @return the shared pool of {@code byte} arrays
+     */
+    public static ArrayPool<byte[]> byteArrays() {
+        return BYTE_ARRAYS;
+    }
+
+    /**
+     * Returns the shared pool of {@code char} arrays.
+     *
+     * @return the shared pool of {@code char} arrays
+     */
+    public static ArrayPool<char[]> charArrays() {
+        return CHAR_ARRAYS;
+    }
+
+    /**
+     * Returns the shared pool of {@code int} arrays.
+     *
+     * @return the shared pool of {@code int} arrays
+     */
+    public static ArrayPool<int[]> intArrays() {
+        return INT_ARRAYS;
+    }
+
+    /**
+     * Returns the shared pool of {@code long} arrays.
+     *
+     * @return the shared pool of {@code long} arrays
+     */
+    public static ArrayPool<long[]> longArrays() {
+        return LONG_ARRAYS;
+    }
+
+    /**
+     * Returns the shared pool of {@code double} arrays.
+     *
+     * @return the shared pool of {@code double} arrays
+     */
+    public static ArrayPool<double[]> doubleArrays() {
+        return DOUBLE_ARRAYS;
+    }
+
+    /**
+     * Creates a new pool with the default retention limits.
+     *
+     * @param <A>            the type of the arrays managed by the pool
+     * @param allocator      the function that allocates an array of a given length
+     * @param lengthFunction the function that returns the length of an array
+     * @return a new pool
+     * @throws IllegalArgumentException if allocator or lengthFunction is {@code null}
+     * @see #create(IntFunction, ToIntFunction, int, int, int)
+     */
+    public static <A> ArrayPool<A> create(IntFunction<A> allocator, ToIntFunction<A> lengthFunction) {
+        return create(allocator, lengthFunction, DEFAULT_MAX_ARRAY_LENGTH, DEFAULT_MAGAZINE_SIZE, DEFAULT_DEPOT_SIZE);
+    }
+
+    /**
+     * Creates a new pool with the specified retention limits.
+     *
+     * @param <A>            the type of the arrays managed by the pool
+     * @param allocator      the function that allocates an array of a given length
+     * @param lengthFunction the function that returns the length of an array
+     * @param maxArrayLength the maximum length of the arrays retained by the pool
+     * @param magazineSize   the number of arrays each thread retains per size class
+     * @param depotSize      the number of arrays the shared depot retains per size class
+     * @return a new pool
+     * @throws IllegalArgumentException if allocator or lengthFunction is {@code null}, or a limit is not positive
+     */
+    public static <A> ArrayPool<A> create(IntFunction<A> allocator,
+                                          ToIntFunction<A> lengthFunction,
+                                          int maxArrayLength,
+                                          int magazineSize,
+                                          int depotSize) {
+        if (allocator == null) throw new IllegalArgumentException("The allocator cannot be null");
+        if (lengthFunction == null) throw new IllegalArgumentException("The length function cannot be null");
+        if (maxArrayLength <= 0) throw new IllegalArgumentException("The max array length must be greater than 0");
+        if (magazineSize <= 0) throw new IllegalArgumentException("The magazine size must be greater than 0");
+        if (depotSize <= 0) throw new IllegalArgumentException("The depot size must be greater than 0");
+
+        return new ArrayPool<>(allocator, lengthFunction, maxArrayLength, magazineSize, depotSize);
+    }
+
+    /**
+     * Returns an array whose length is at least {@code minLength}, reusing a
+     * previously released array when one is available.
+     *
+     * <p>The contents of the returned array are undefined.
+     *
+     * @param minLength the minimum length of the array
+     * @return an array whose length is at least {@code minLength}
+     * @throws IllegalArgumentException if minLength is negative
+     */
+    public A acquire(int minLength) {
+        if (minLength < 0) throw new IllegalArgumentException("The length cannot be negative");
+
+        int sizeClass = sizeClass(minLength);
+        if (sizeClass > maxSizeClass) return allocator.apply(minLength);
+
+        A array = magazines.get().pop(sizeClass);
+        if (array == null) array = poll(sizeClass);
+
+        return array != null ? array : allocator.apply(1 << sizeClass);
+    }
+
+    /**
+     * Returns the specified array to the pool so that it can be reused by a
+     * later {@link #acquire(int)} call.
+     *
+     * <p>Arrays whose length is not a size class of this pool, and arrays
+     * that exceed the retention limits, are silently discarded. The caller
+     * must not use the array after releasing it, nor release it twice.
+     *
+     * @param array the array to release, may be {@code null}
+     */
+    public void release(A array) {
+        if (array == null) return;
+
+        int length = lengthFunction.applyAsInt(array);
+        if (Integer.bitCount(length) != 1) return;
+
+        int sizeClass = Integer.numberOfTrailingZeros(length);
+        if (sizeClass < MIN_SIZE_CLASS || sizeClass > maxSizeClass) return;
+
+        if (!magazines.get().push(sizeClass, array)) offer(sizeClass, array);
+    }
+
+    /**
+     * Discards all arrays retained by the shared depot and by the magazine of
+     * the calling thread.
+     */
+    public void clear() {
+        magazines.remove();
+        for (int i = 0; i < depot.length(); i++) {
+            depot.set(i, null);
+        }
+    }
+
+    private static int sizeClass(int minLength) {
+        return Math.max(MIN_SIZE_CLASS, 32 - Integer.numberOfLeadingZeros(Math.max(minLength, 1) - 1));
+    }
+
+    private A poll(int sizeClass) {
+        int base = sizeClass * depotSize;
+        int start = ThreadLocalRandom.current().nextInt(depotSize);
+
+        for (int i = 0; i < depotSize; i++) {
+            int slot = base + (start + i) % depotSize;
+            A array = depot.get(slot);
+            if (array != null && depot.compareAndSet(slot, array, null)) return array;
+        }
+
+        return null;
+    }
+
+    private void offer(int sizeClass, A array) {
+        int base = sizeClass * depotSize;
+        int start = ThreadLocalRandom.current().nextInt(depotSize);
+
+        for (int i = 0; i < depotSize; i++) {
+            int slot = base + (start + i) % depotSize;
+            if (depot.get(slot) == null && depot.compareAndSet(slot, null, array)) return;
+        }
+    }
+
+    /**
+     * A per-thread cache of released arrays, holding up to a fixed number of
+     * arrays for each size class.
+     */
+    private final class Magazine {
+        private final Object[] arrays;
+        private final int[] counts;
+
+        private Magazine(int sizeClasses, int magazineSize) {
+            this.arrays = new Object[sizeClasses * magazineSize];
+            this.counts = new int[sizeClasses];
+        }
+
+        @SuppressWarnings("unchecked")
+        private A pop(int sizeClass) {
+            int count = counts[sizeClass];
+            if (count == 0) return null;
+
+            int slot = sizeClass * magazineSize + count - 1;
+            A array = (A) arrays[slot];
+            arrays[slot] = null;
+            counts[sizeClass] = count - 1;
+
+            return array;
+        }
+
+        private boolean push(int sizeClass, A array) {
+            int count = counts[sizeClass];
+            if (count == magazineSize) return false;
+
+            arrays[sizeClass * magazineSize + count] = array;
+            counts[sizeClass] = count + 1;
+
+            return true;
+        }
+    }
+}
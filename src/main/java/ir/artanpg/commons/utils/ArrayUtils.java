@@ -2,11 +2,23 @@
 
 import ir.artanpg.commons.core.tools.jacoco.Generated;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Array;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.random.RandomGenerator;
 
 /**
  * Provides utility methods for {@link Array} instances.
@@ -70,8 +82,18 @@ public abstract class ArrayUtils {
      */
     public static final String[] EMPTY_STRING_ARRAY = new String[0];
 
+    private static final int PARALLEL_SCAN_THRESHOLD = 1 << 16;
     private static final String INPUT_ARRAY_IS_NULL_MESSAGE = "The input array cannot be null";
     private static final String INDEX_ARRAY_IS_INVALID = "Index %d out of bounds for length %d";
+    private static final String RANDOM_IS_NULL_MESSAGE = "The random generator cannot be null";
+    private static final String NEGATIVE_LENGTH_MESSAGE = "The length cannot be negative";
+    private static final String OVERLAPPING_RANGES_MESSAGE = "The ranges to swap cannot overlap";
+    private static final String DESTINATION_ARRAY_IS_NULL_MESSAGE = "The destination array cannot be null";
+    private static final long HASH_SEED = 0x9E3779B97F4A7C15L;
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final String KEY_EXTRACTOR_IS_NULL_MESSAGE = "The key extractor cannot be null";
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    private static final String DESTINATION_TOO_SMALL_MESSAGE = "Destination of length %d cannot hold %d elements at offset %d";
 
     /**
      * Private constructor to prevent instantiation of this utility class.
@@ -87,6 +109,110 @@ private static String invalidIndex(int index, int length) {
         return String.format(INDEX_ARRAY_IS_INVALID, index, length);
     }
 
+    private static void checkRange(int length, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > length) throw new IndexOutOfBoundsException(invalidIndex(fromIndex, length));
+        if (toIndex < fromIndex || toIndex > length) throw new IndexOutOfBoundsException(invalidIndex(toIndex, length));
+    }
+
+    private static long mix64(long hash, long value) {
+        return Long.rotateLeft(hash ^ (value * 0xBF58476D1CE4E5B9L), 31) * HASH_SEED;
+    }
+
+    private static long finalizeHash(long hash, int length) {
+        hash ^= length;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private static void checkDestination(int length, int offset, int count) {
+        if (offset < 0 || offset > length) throw new IndexOutOfBoundsException(invalidIndex(offset, length));
+        if (count > length - offset)
+            throw new IndexOutOfBoundsException(String.format(DESTINATION_TOO_SMALL_MESSAGE, length, count, offset));
+    }
+
+    private static <T> void permute(T[] source, int[] order) {
+        T[] copy = source.clone();
+        for (int i = 0; i < order.length; i++) {
+            source[i] = copy[order[i]];
+        }
+    }
+
+    private static int[] radixOrder(long[] keys) {
+        int length = keys.length;
+        int[] order = new int[length];
+        int[] orderBuffer = new int[length];
+        long[] keyBuffer = new long[length];
+        int[] counts = new int[256];
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+        }
+
+        // Least significant digit first, every pass is stable so equal keys keep their original order
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            Arrays.fill(counts, 0);
+            for (long key : keys) {
+                counts[digit(key, shift)]++;
+            }
+            if (counts[digit(keys[0], shift)] == length) continue;
+
+            for (int i = 0, sum = 0; i < counts.length; i++) {
+                int count = counts[i];
+                counts[i] = sum;
+                sum += count;
+            }
+            for (int i = 0; i < length; i++) {
+                int position = counts[digit(keys[i], shift)]++;
+                keyBuffer[position] = keys[i];
+                orderBuffer[position] = order[i];
+            }
+
+            long[] keySwap = keys;
+            keys = keyBuffer;
+            keyBuffer = keySwap;
+            int[] orderSwap = order;
+            order = orderBuffer;
+            orderBuffer = orderSwap;
+        }
+
+        return order;
+    }
+
+    private static int digit(long key, int shift) {
+        // Flipping the sign bit makes the unsigned byte order match the signed order
+        return (int) (((key ^ Long.MIN_VALUE) >>> shift) & 0xFF);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static void mergeOrder(int[] order, int[] buffer, Comparable[] keys, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int index = order[i];
+                int j = i - 1;
+                while (j >= from && keys[order[j]].compareTo(keys[index]) > 0) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = index;
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        mergeOrder(order, buffer, keys, from, middle);
+        mergeOrder(order, buffer, keys, middle, to);
+        if (keys[order[middle - 1]].compareTo(keys[order[middle]]) <= 0) return;
+
+        System.arraycopy(order, from, buffer, from, to - from);
+        for (int i = from, left = from, right = middle; i < to; i++) {
+            if (right >= to || (left < middle && keys[buffer[left]].compareTo(keys[buffer[right]]) <= 0)) {
+                order[i] = buffer[left++];
+            } else {
+                order[i] = buffer[right++];
+            }
+        }
+    }
+
     /**
      * Adds the given {@code boolean} element at the given index in the array.
      *
@@ -287,6 +413,259 @@ public static <T> T[] add(T[] source, T element, int index) {
         return newArray;
     }
 
+    /**
+     * Writes the elements of the {@code boolean} array with the given
+     * element inserted at the given index into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * @param source      the array to add the element to
+     * @param element     the value to add
+     * @param index       the position within array to add the new element
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #add(boolean[], boolean, int)
+     */
+    public static int add(boolean[] source, boolean element, int index, boolean[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index > source.length) throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length + 1);
+
+        System.arraycopy(source, index, destination, offset + index + 1, source.length - index);
+        System.arraycopy(source, 0, destination, offset, index);
+        destination[offset + index] = element;
+
+        return source.length + 1;
+    }
+
+    /**
+     * Writes the elements of the {@code byte} array with the given
+     * element inserted at the given index into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * @param source      the array to add the element to
+     * @param element     the value to add
+     * @param index       the position within array to add the new element
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #add(byte[], byte, int)
+     */
+    public static int add(byte[] source, byte element, int index, byte[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index > source.length) throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length + 1);
+
+        System.arraycopy(source, index, destination, offset + index + 1, source.length - index);
+        System.arraycopy(source, 0, destination, offset, index);
+        destination[offset + index] = element;
+
+        return source.length + 1;
+    }
+
+    /**
+     * Writes the elements of the {@code char} array with the given
+     * element inserted at the given index into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * @param source      the array to add the element to
+     * @param element     the value to add
+     * @param index       the position within array to add the new element
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #add(char[], char, int)
+     */
+    public static int add(char[] source, char element, int index, char[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index > source.length) throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length + 1);
+
+        System.arraycopy(source, index, destination, offset + index + 1, source.length - index);
+        System.arraycopy(source, 0, destination, offset, index);
+        destination[offset + index] = element;
+
+        return source.length + 1;
+    }
+
+    /**
+     * Writes the elements of the {@code short} array with the given
+     * element inserted at the given index into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * @param source      the array to add the element to
+     * @param element     the value to add
+     * @param index       the position within array to add the new element
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #add(short[], short, int)
+     */
+    public static int add(short[] source, short element, int index, short[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index > source.length) throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length + 1);
+
+        System.arraycopy(source, index, destination, offset + index + 1, source.length - index);
+        System.arraycopy(source, 0, destination, offset, index);
+        destination[offset + index] = element;
+
+        return source.length + 1;
+    }
+
+    /**
+     * Writes the elements of the {@code int} array with the given
+     * element inserted at the given index into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * @param source      the array to add the element to
+     * @param element     the value to add
+     * @param index       the position within array to add the new element
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #add(int[], int, int)
+     */
+    public static int add(int[] source, int element, int index, int[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index > source.length) throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length + 1);
+
+        System.arraycopy(source, index, destination, offset + index + 1, source.length - index);
+        System.arraycopy(source, 0, destination, offset, index);
+        destination[offset + index] = element;
+
+        return source.length + 1;
+    }
+
+    /**
+     * Writes the elements of the {@code long} array with the given
+     * element inserted at the given index into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * @param source      the array to add the element to
+     * @param element     the value to add
+     * @param index       the position within array to add the new element
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #add(long[], long, int)
+     */
+    public static int add(long[] source, long element, int index, long[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index > source.length) throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length + 1);
+
+        System.arraycopy(source, index, destination, offset + index + 1, source.length - index);
+        System.arraycopy(source, 0, destination, offset, index);
+        destination[offset + index] = element;
+
+        return source.length + 1;
+    }
+
+    /**
+     * Writes the elements of the {@code float} array with the given
+     * element inserted at the given index into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * @param source      the array to add the element to
+     * @param element     the value to add
+     * @param index       the position within array to add the new element
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #add(float[], float, int)
+     */
+    public static int add(float[] source, float element, int index, float[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index > source.length) throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length + 1);
+
+        System.arraycopy(source, index, destination, offset + index + 1, source.length - index);
+        System.arraycopy(source, 0, destination, offset, index);
+        destination[offset + index] = element;
+
+        return source.length + 1;
+    }
+
+    /**
+     * Writes the elements of the {@code double} array with the given
+     * element inserted at the given index into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * @param source      the array to add the element to
+     * @param element     the value to add
+     * @param index       the position within array to add the new element
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #add(double[], double, int)
+     */
+    public static int add(double[] source, double element, int index, double[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index > source.length) throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length + 1);
+
+        System.arraycopy(source, index, destination, offset + index + 1, source.length - index);
+        System.arraycopy(source, 0, destination, offset, index);
+        destination[offset + index] = element;
+
+        return source.length + 1;
+    }
+
+    /**
+     * Writes the elements of the {@code Object} array with the given
+     * element inserted at the given index into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * @param <T>         the type of array elements
+     * @param source      the array to add the element to
+     * @param element     the value to add
+     * @param index       the position within array to add the new element
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #add(Object[], Object, int)
+     */
+    public static <T> int add(T[] source, T element, int index, T[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index > source.length) throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length + 1);
+
+        System.arraycopy(source, index, destination, offset + index + 1, source.length - index);
+        System.arraycopy(source, 0, destination, offset, index);
+        destination[offset + index] = element;
+
+        return source.length + 1;
+    }
+
     /**
      * Adds the given {@code boolean} element at in the first position in the
      * array.
@@ -533,6 +912,114 @@ public static <T> T[] addLast(T[] source, T element) {
         return add(source, element, source.length);
     }
 
+    /**
+     * Returns a fixed-size {@link List} view backed by the specified
+     * {@code int} array.
+     *
+     * <p>Changes to the list write through to the array and vice versa.
+     * Unlike {@link Arrays#asList(Object[])} over a {@code Integer[]}, the
+     * elements are stored unboxed and the returned view offers primitive
+     * accessors such as {@link IntListView#getInt(int)}.
+     *
+     * @param source the array to view
+     * @return a writable, fixed-size list view of the array
+     * @throws IllegalArgumentException if the source is {@code null}
+     * @see #asUnmodifiableList(int[])
+     */
+    public static IntListView asList(int[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return new IntListView(source, 0, source.length, true);
+    }
+
+    /**
+     * Returns a fixed-size {@link List} view backed by the specified
+     * {@code long} array.
+     *
+     * <p>Changes to the list write through to the array and vice versa.
+     * Unlike {@link Arrays#asList(Object[])} over a {@code Long[]}, the
+     * elements are stored unboxed and the returned view offers primitive
+     * accessors such as {@link LongListView#getLong(int)}.
+     *
+     * @param source the array to view
+     * @return a writable, fixed-size list view of the array
+     * @throws IllegalArgumentException if the source is {@code null}
+     * @see #asUnmodifiableList(long[])
+     */
+    public static LongListView asList(long[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return new LongListView(source, 0, source.length, true);
+    }
+
+    /**
+     * Returns a fixed-size {@link List} view backed by the specified
+     * {@code double} array.
+     *
+     * <p>Changes to the list write through to the array and vice versa.
+     * Unlike {@link Arrays#asList(Object[])} over a {@code Double[]}, the
+     * elements are stored unboxed and the returned view offers primitive
+     * accessors such as {@link DoubleListView#getDouble(int)}.
+     *
+     * @param source the array to view
+     * @return a writable, fixed-size list view of the array
+     * @throws IllegalArgumentException if the source is {@code null}
+     * @see #asUnmodifiableList(double[])
+     */
+    public static DoubleListView asList(double[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return new DoubleListView(source, 0, source.length, true);
+    }
+
+    /**
+     * Returns a read-only {@link List} view backed by the specified
+     * {@code int} array.
+     *
+     * <p>The view cannot modify the array, but later changes to the array are
+     * visible through it.
+     *
+     * @param source the array to view
+     * @return a read-only list view of the array
+     * @throws IllegalArgumentException if the source is {@code null}
+     * @see #asList(int[])
+     */
+    public static IntListView asUnmodifiableList(int[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return new IntListView(source, 0, source.length, false);
+    }
+
+    /**
+     * Returns a read-only {@link List} view backed by the specified
+     * {@code long} array.
+     *
+     * <p>The view cannot modify the array, but later changes to the array are
+     * visible through it.
+     *
+     * @param source the array to view
+     * @return a read-only list view of the array
+     * @throws IllegalArgumentException if the source is {@code null}
+     * @see #asList(long[])
+     */
+    public static LongListView asUnmodifiableList(long[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return new LongListView(source, 0, source.length, false);
+    }
+
+    /**
+     * Returns a read-only {@link List} view backed by the specified
+     * {@code double} array.
+     *
+     * <p>The view cannot modify the array, but later changes to the array are
+     * visible through it.
+     *
+     * @param source the array to view
+     * @return a read-only list view of the array
+     * @throws IllegalArgumentException if the source is {@code null}
+     * @see #asList(double[])
+     */
+    public static DoubleListView asUnmodifiableList(double[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return new DoubleListView(source, 0, source.length, false);
+    }
+
     /**
      * Creates and returns a copy of source.
      *
@@ -625,2517 +1112,7386 @@ public static <T> T[] clone(T[] source) {
     }
 
     /**
-     * Check whether the given array contains the given element.
+     * Writes a copy of the {@code boolean} array into the destination
+     * array, starting at the given offset, without allocating a new array.
+     * {@code Null} source input writes no elements.
      *
-     * @param source  the array to check
-     * @param element the element to look for
-     * @return {@code true}, if found the element, {@code false} otherwise
+     * @param source      the array to copy
+     * @param destination the array to write the copy to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #clone(boolean[])
      */
-    public static boolean contains(boolean[] source, boolean element) {
-        return indexOf(source, element) != INDEX_NOT_FOUND;
+    public static int clone(boolean[] source, boolean[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+        checkDestination(destination.length, offset, source.length);
+
+        System.arraycopy(source, 0, destination, offset, source.length);
+        return source.length;
     }
 
     /**
-     * Check whether the given array contains the given element.
+     * Writes a copy of the {@code byte} array into the destination
+     * array, starting at the given offset, without allocating a new array.
+     * {@code Null} source input writes no elements.
      *
-     * @param source  the array to check
-     * @param element the element to look for
-     * @return {@code true}, if found the element, {@code false} otherwise
+     * @param source      the array to copy
+     * @param destination the array to write the copy to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #clone(byte[])
      */
-    public static boolean contains(byte[] source, byte element) {
-        return indexOf(source, element) != INDEX_NOT_FOUND;
+    public static int clone(byte[] source, byte[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+        checkDestination(destination.length, offset, source.length);
+
+        System.arraycopy(source, 0, destination, offset, source.length);
+        return source.length;
     }
 
     /**
-     * Check whether the given array contains the given element.
+     * Writes a copy of the {@code char} array into the destination
+     * array, starting at the given offset, without allocating a new array.
+     * {@code Null} source input writes no elements.
      *
-     * @param source  the array to check
-     * @param element the element to look for
-     * @return {@code true}, if found the element, {@code false} otherwise
+     * @param source      the array to copy
+     * @param destination the array to write the copy to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #clone(char[])
      */
-    public static boolean contains(char[] source, char element) {
-        return indexOf(source, element) != INDEX_NOT_FOUND;
+    public static int clone(char[] source, char[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+        checkDestination(destination.length, offset, source.length);
+
+        System.arraycopy(source, 0, destination, offset, source.length);
+        return source.length;
     }
 
     /**
-     * Check whether the given array contains the given element.
+     * Writes a copy of the {@code short} array into the destination
+     * array, starting at the given offset, without allocating a new array.
+     * {@code Null} source input writes no elements.
      *
-     * @param source  the array to check
-     * @param element the element to look for
-     * @return {@code true}, if found the element, {@code false} otherwise
+     * @param source      the array to copy
+     * @param destination the array to write the copy to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #clone(short[])
      */
-    public static boolean contains(short[] source, short element) {
-        return indexOf(source, element) != INDEX_NOT_FOUND;
+    public static int clone(short[] source, short[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+        checkDestination(destination.length, offset, source.length);
+
+        System.arraycopy(source, 0, destination, offset, source.length);
+        return source.length;
     }
 
     /**
-     * Check whether the given array contains the given element.
+     * Writes a copy of the {@code int} array into the destination
+     * array, starting at the given offset, without allocating a new array.
+     * {@code Null} source input writes no elements.
      *
-     * @param source  the array to check
-     * @param element the element to look for
-     * @return {@code true}, if found the element, {@code false} otherwise
+     * @param source      the array to copy
+     * @param destination the array to write the copy to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #clone(int[])
      */
-    public static boolean contains(int[] source, int element) {
-        return indexOf(source, element) != INDEX_NOT_FOUND;
+    public static int clone(int[] source, int[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+        checkDestination(destination.length, offset, source.length);
+
+        System.arraycopy(source, 0, destination, offset, source.length);
+        return source.length;
     }
 
     /**
-     * Check whether the given array contains the given element.
+     * Writes a copy of the {@code long} array into the destination
+     * array, starting at the given offset, without allocating a new array.
+     * {@code Null} source input writes no elements.
      *
-     * @param source  the array to check
-     * @param element the element to look for
-     * @return {@code true}, if found the element, {@code false} otherwise
+     * @param source      the array to copy
+     * @param destination the array to write the copy to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #clone(long[])
      */
-    public static boolean contains(long[] source, long element) {
-        return indexOf(source, element) != INDEX_NOT_FOUND;
+    public static int clone(long[] source, long[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+        checkDestination(destination.length, offset, source.length);
+
+        System.arraycopy(source, 0, destination, offset, source.length);
+        return source.length;
     }
 
     /**
-     * Check whether the given array contains the given element.
+     * Writes a copy of the {@code float} array into the destination
+     * array, starting at the given offset, without allocating a new array.
+     * {@code Null} source input writes no elements.
      *
-     * @param source  the array to check
-     * @param element the element to look for
-     * @return {@code true}, if found the element, {@code false} otherwise
+     * @param source      the array to copy
+     * @param destination the array to write the copy to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #clone(float[])
      */
-    public static boolean contains(float[] source, float element) {
-        return indexOf(source, element) != INDEX_NOT_FOUND;
+    public static int clone(float[] source, float[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+        checkDestination(destination.length, offset, source.length);
+
+        System.arraycopy(source, 0, destination, offset, source.length);
+        return source.length;
     }
 
     /**
-     * Check whether the given array contains the given element.
+     * Writes a copy of the {@code double} array into the destination
+     * array, starting at the given offset, without allocating a new array.
+     * {@code Null} source input writes no elements.
      *
-     * @param source  the array to check
-     * @param element the element to look for
-     * @return {@code true}, if found the element, {@code false} otherwise
+     * @param source      the array to copy
+     * @param destination the array to write the copy to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #clone(double[])
      */
-    public static boolean contains(double[] source, double element) {
-        return indexOf(source, element) != INDEX_NOT_FOUND;
+    public static int clone(double[] source, double[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+        checkDestination(destination.length, offset, source.length);
+
+        System.arraycopy(source, 0, destination, offset, source.length);
+        return source.length;
     }
 
     /**
-     * Check whether the given array contains the given element.
+     * Writes a copy of the {@code Object} array into the destination
+     * array, starting at the given offset, without allocating a new array.
+     * {@code Null} source input writes no elements.
      *
-     * @param <T>     the type of array elements
-     * @param source  the array to check
-     * @param element the element to look for
-     * @return {@code true}, if found the element, {@code false} otherwise
+     * @param <T>         the type of array elements
+     * @param source      the array to copy
+     * @param destination the array to write the copy to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #clone(Object[])
      */
-    public static <T> boolean contains(T[] source, T element) {
-        return indexOf(source, element) != INDEX_NOT_FOUND;
+    public static <T> int clone(T[] source, T[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+        checkDestination(destination.length, offset, source.length);
+
+        System.arraycopy(source, 0, destination, offset, source.length);
+        return source.length;
     }
 
     /**
-     * Safely retrieves a {@code boolean} value from an array at the specified
-     * index.
+     * Compares two {@code boolean} arrays lexicographically.
      *
-     * @param source values the array to get
-     * @param index  the index of the element to retrieve
-     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
-     * @see Optional
+     * <p>The arrays are compared element by element with
+     * {@link Boolean#compare(boolean, boolean)} up to the first mismatch, which is located with
+     * the vectorized {@link Arrays#mismatch(boolean[], boolean[])} kernel. A
+     * {@code null} array is less than a non-{@code null} array, and a
+     * proper prefix is less than the longer array.
+     *
+     * @param array1 the first array to compare
+     * @param array2 the second array to compare
+     * @return 0 if the arrays are equal, a negative value if the first array is lexicographically less, and a
+     * positive value otherwise
+     * @see Arrays#compare(boolean[], boolean[])
      */
-    public static Optional<Boolean> get(boolean[] source, int index) {
-        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    public static int compare(boolean[] array1, boolean[] array2) {
+        return Arrays.compare(array1, array2);
     }
 
     /**
-     * Safely retrieves a {@code byte} value from an array at the specified
-     * index.
+     * Compares two {@code boolean} array ranges lexicographically.
      *
-     * @param source values the array to get
-     * @param index  the index of the element to retrieve
-     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
-     * @see Optional
+     * @param array1     the first array to compare
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to compare
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return 0 if the ranges are equal, a negative value if the first range is lexicographically less, and a
+     * positive value otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#compare(boolean[], int, int, boolean[], int, int)
      */
-    public static Optional<Byte> get(byte[] source, int index) {
-        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    public static int compare(boolean[] array1, int fromIndex1, int toIndex1,
+                              boolean[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.compare(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
     }
 
     /**
-     * Safely retrieves a {@code char} value from an array at the specified
-     * index.
+     * Compares two {@code byte} arrays lexicographically.
      *
-     * @param source values the array to get
-     * @param index  the index of the element to retrieve
-     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
-     * @see Optional
+     * <p>The arrays are compared element by element with
+     * {@link Byte#compare(byte, byte)} up to the first mismatch, which is located with
+     * the vectorized {@link Arrays#mismatch(byte[], byte[])} kernel. A
+     * {@code null} array is less than a non-{@code null} array, and a
+     * proper prefix is less than the longer array.
+     *
+     * @param array1 the first array to compare
+     * @param array2 the second array to compare
+     * @return 0 if the arrays are equal, a negative value if the first array is lexicographically less, and a
+     * positive value otherwise
+     * @see Arrays#compare(byte[], byte[])
      */
-    public static Optional<Character> get(char[] source, int index) {
-        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    public static int compare(byte[] array1, byte[] array2) {
+        return Arrays.compare(array1, array2);
     }
 
     /**
-     * Safely retrieves a {@code short} value from an array at the specified
-     * index.
+     * Compares two {@code byte} array ranges lexicographically.
      *
-     * @param source values the array to get
-     * @param index  the index of the element to retrieve
-     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
-     * @see Optional
+     * @param array1     the first array to compare
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to compare
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return 0 if the ranges are equal, a negative value if the first range is lexicographically less, and a
+     * positive value otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#compare(byte[], int, int, byte[], int, int)
      */
-    public static Optional<Short> get(short[] source, int index) {
-        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    public static int compare(byte[] array1, int fromIndex1, int toIndex1,
+                              byte[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.compare(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
     }
 
     /**
-     * Safely retrieves a {@code int} value from an array at the specified
-     * index.
+     * Compares two {@code char} arrays lexicographically.
      *
-     * @param source values the array to get
-     * @param index  the index of the element to retrieve
-     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
-     * @see Optional
+     * <p>The arrays are compared element by element with
+     * {@link Character#compare(char, char)} up to the first mismatch, which is located with
+     * the vectorized {@link Arrays#mismatch(char[], char[])} kernel. A
+     * {@code null} array is less than a non-{@code null} array, and a
+     * proper prefix is less than the longer array.
+     *
+     * @param array1 the first array to compare
+     * @param array2 the second array to compare
+     * @return 0 if the arrays are equal, a negative value if the first array is lexicographically less, and a
+     * positive value otherwise
+     * @see Arrays#compare(char[], char[])
      */
-    public static Optional<Integer> get(int[] source, int index) {
-        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    public static int compare(char[] array1, char[] array2) {
+        return Arrays.compare(array1, array2);
     }
 
     /**
-     * Safely retrieves a {@code long} value from an array at the specified
-     * index.
+     * Compares two {@code char} array ranges lexicographically.
      *
-     * @param source values the array to get
-     * @param index  the index of the element to retrieve
-     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
-     * @see Optional
+     * @param array1     the first array to compare
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to compare
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return 0 if the ranges are equal, a negative value if the first range is lexicographically less, and a
+     * positive value otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#compare(char[], int, int, char[], int, int)
      */
-    public static Optional<Long> get(long[] source, int index) {
-        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    public static int compare(char[] array1, int fromIndex1, int toIndex1,
+                              char[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.compare(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
     }
 
     /**
-     * Safely retrieves a {@code float} value from an array at the specified
-     * index.
+     * Compares two {@code short} arrays lexicographically.
      *
-     * @param source values the array to get
-     * @param index  the index of the element to retrieve
-     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
-     * @see Optional
+     * <p>The arrays are compared element by element with
+     * {@link Short#compare(short, short)} up to the first mismatch, which is located with
+     * the vectorized {@link Arrays#mismatch(short[], short[])} kernel. A
+     * {@code null} array is less than a non-{@code null} array, and a
+     * proper prefix is less than the longer array.
+     *
+     * @param array1 the first array to compare
+     * @param array2 the second array to compare
+     * @return 0 if the arrays are equal, a negative value if the first array is lexicographically less, and a
+     * positive value otherwise
+     * @see Arrays#compare(short[], short[])
      */
-    public static Optional<Float> get(float[] source, int index) {
-        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    public static int compare(short[] array1, short[] array2) {
+        return Arrays.compare(array1, array2);
     }
 
     /**
-     * Safely retrieves a {@code double} value from an array at the specified
-     * index.
+     * Compares two {@code short} array ranges lexicographically.
      *
-     * @param source values the array to get
-     * @param index  the index of the element to retrieve
-     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
-     * @see Optional
+     * @param array1     the first array to compare
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to compare
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return 0 if the ranges are equal, a negative value if the first range is lexicographically less, and a
+     * positive value otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#compare(short[], int, int, short[], int, int)
      */
-    public static Optional<Double> get(double[] source, int index) {
-        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    public static int compare(short[] array1, int fromIndex1, int toIndex1,
+                              short[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.compare(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
     }
 
     /**
-     * Safely retrieves a {@code Object} value from an array at the specified
-     * index.
+     * Compares two {@code int} arrays lexicographically.
      *
-     * @param <T>    the type of array elements
-     * @param source values the array to get
-     * @param index  the index of the element to retrieve
-     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
-     * @see Optional
+     * <p>The arrays are compared element by element with
+     * {@link Integer#compare(int, int)} up to the first mismatch, which is located with
+     * the vectorized {@link Arrays#mismatch(int[], int[])} kernel. A
+     * {@code null} array is less than a non-{@code null} array, and a
+     * proper prefix is less than the longer array.
+     *
+     * @param array1 the first array to compare
+     * @param array2 the second array to compare
+     * @return 0 if the arrays are equal, a negative value if the first array is lexicographically less, and a
+     * positive value otherwise
+     * @see Arrays#compare(int[], int[])
      */
-    public static <T> Optional<T> get(T[] source, int index) {
-        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    public static int compare(int[] array1, int[] array2) {
+        return Arrays.compare(array1, array2);
     }
 
     /**
-     * Returns the component type of the specified array.
-     *
-     * <p>This method retrieves the {@code Class} object representing the type
-     * of elements in the given array.
-     *
-     * <p>If the input array is {@code null}, this method returns {@code null}.
+     * Compares two {@code int} array ranges lexicographically.
      *
-     * @param <T>    the type of array elements
-     * @param source the array whose component type is to be retrieved
-     * @return the {@code Class} object representing the component type of the array, or {@code null}
-     * if the input array is {@code null}
+     * @param array1     the first array to compare
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to compare
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return 0 if the ranges are equal, a negative value if the first range is lexicographically less, and a
+     * positive value otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#compare(int[], int, int, int[], int, int)
      */
-    @SuppressWarnings("unchecked")
-    public static <T> Class<T> getComponentType(T[] source) {
-        return (source == null) ? null : (Class<T>) source.getClass().getComponentType();
+    public static int compare(int[] array1, int fromIndex1, int toIndex1,
+                              int[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.compare(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
     }
 
     /**
-     * Checks if the specified {@code boolean} array is not {@code null} and
-     * has a length greater than zero.
+     * Compares two {@code long} arrays lexicographically.
      *
-     * @param source the boolean array to check
-     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     * <p>The arrays are compared element by element with
+     * {@link Long#compare(long, long)} up to the first mismatch, which is located with
+     * the vectorized {@link Arrays#mismatch(long[], long[])} kernel. A
+     * {@code null} array is less than a non-{@code null} array, and a
+     * proper prefix is less than the longer array.
+     *
+     * @param array1 the first array to compare
+     * @param array2 the second array to compare
+     * @return 0 if the arrays are equal, a negative value if the first array is lexicographically less, and a
+     * positive value otherwise
+     * @see Arrays#compare(long[], long[])
      */
-    public static boolean hasLength(boolean[] source) {
-        return source != null && source.length > 0;
+    public static int compare(long[] array1, long[] array2) {
+        return Arrays.compare(array1, array2);
     }
 
     /**
-     * Checks if the specified {@code byte} array is not {@code null} and has a
-     * length greater than zero.
+     * Compares two {@code long} array ranges lexicographically.
      *
-     * @param source the byte array to check
-     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     * @param array1     the first array to compare
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to compare
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return 0 if the ranges are equal, a negative value if the first range is lexicographically less, and a
+     * positive value otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#compare(long[], int, int, long[], int, int)
      */
-    public static boolean hasLength(byte[] source) {
-        return source != null && source.length > 0;
+    public static int compare(long[] array1, int fromIndex1, int toIndex1,
+                              long[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.compare(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
     }
 
     /**
-     * Checks if the specified {@code char} array is not {@code null} and has a
-     * length greater than zero.
+     * Compares two {@code float} arrays lexicographically.
      *
-     * @param source the char array to check
-     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     * <p>The arrays are compared element by element with
+     * {@link Float#compare(float, float)} up to the first mismatch, which is located with
+     * the vectorized {@link Arrays#mismatch(float[], float[])} kernel. A
+     * {@code null} array is less than a non-{@code null} array, and a
+     * proper prefix is less than the longer array.
+     *
+     * @param array1 the first array to compare
+     * @param array2 the second array to compare
+     * @return 0 if the arrays are equal, a negative value if the first array is lexicographically less, and a
+     * positive value otherwise
+     * @see Arrays#compare(float[], float[])
      */
-    public static boolean hasLength(char[] source) {
-        return source != null && source.length > 0;
+    public static int compare(float[] array1, float[] array2) {
+        return Arrays.compare(array1, array2);
     }
 
     /**
-     * Checks if the specified {@code short} array is not {@code null} and has
-     * a length greater than zero.
+     * Compares two {@code float} array ranges lexicographically.
      *
-     * @param source the short array to check
-     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     * @param array1     the first array to compare
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to compare
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return 0 if the ranges are equal, a negative value if the first range is lexicographically less, and a
+     * positive value otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#compare(float[], int, int, float[], int, int)
      */
-    public static boolean hasLength(short[] source) {
-        return source != null && source.length > 0;
+    public static int compare(float[] array1, int fromIndex1, int toIndex1,
+                              float[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.compare(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
     }
 
     /**
-     * Checks if the specified {@code int} array is not {@code null} and has a
-     * length greater than zero.
+     * Compares two {@code double} arrays lexicographically.
      *
-     * @param source the int array to check
-     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     * <p>The arrays are compared element by element with
+     * {@link Double#compare(double, double)} up to the first mismatch, which is located with
+     * the vectorized {@link Arrays#mismatch(double[], double[])} kernel. A
+     * {@code null} array is less than a non-{@code null} array, and a
+     * proper prefix is less than the longer array.
+     *
+     * @param array1 the first array to compare
+     * @param array2 the second array to compare
+     * @return 0 if the arrays are equal, a negative value if the first array is lexicographically less, and a
+     * positive value otherwise
+     * @see Arrays#compare(double[], double[])
      */
-    public static boolean hasLength(int[] source) {
-        return source != null && source.length > 0;
+    public static int compare(double[] array1, double[] array2) {
+        return Arrays.compare(array1, array2);
     }
 
     /**
-     * Checks if the specified {@code long} array is not {@code null} and has a
-     * length greater than zero.
+     * Compares two {@code double} array ranges lexicographically.
      *
-     * @param source the long array to check
-     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     * @param array1     the first array to compare
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to compare
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return 0 if the ranges are equal, a negative value if the first range is lexicographically less, and a
+     * positive value otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#compare(double[], int, int, double[], int, int)
      */
-    public static boolean hasLength(long[] source) {
-        return source != null && source.length > 0;
+    public static int compare(double[] array1, int fromIndex1, int toIndex1,
+                              double[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.compare(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
     }
 
     /**
-     * Checks if the specified {@code float} array is not {@code null} and has
-     * a length greater than zero.
+     * Compares two {@code Object} arrays lexicographically.
      *
-     * @param source the float array to check
-     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     * <p>The arrays are compared element by element with
+     * {@link Comparable#compareTo(Object)} up to the first mismatch, which is located with
+     * the vectorized {@link Arrays#mismatch(Comparable[], Comparable[])} kernel. A
+     * {@code null} array is less than a non-{@code null} array, and a
+     * proper prefix is less than the longer array.
+     *
+     * @param <T>    the type of comparable array elements
+     * @param array1 the first array to compare
+     * @param array2 the second array to compare
+     * @return 0 if the arrays are equal, a negative value if the first array is lexicographically less, and a
+     * positive value otherwise
+     * @see Arrays#compare(Comparable[], Comparable[])
      */
-    public static boolean hasLength(float[] source) {
-        return source != null && source.length > 0;
+    public static <T extends Comparable<? super T>> int compare(T[] array1, T[] array2) {
+        return Arrays.compare(array1, array2);
     }
 
     /**
-     * Checks if the specified {@code double} array is not {@code null} and has
-     * a length greater than zero.
+     * Compares two {@code Object} array ranges lexicographically.
      *
-     * @param source the double array to check
-     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     * @param <T>        the type of comparable array elements
+     * @param array1     the first array to compare
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to compare
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return 0 if the ranges are equal, a negative value if the first range is lexicographically less, and a
+     * positive value otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#compare(Comparable[], int, int, Comparable[], int, int)
      */
-    public static boolean hasLength(double[] source) {
-        return source != null && source.length > 0;
+    public static <T extends Comparable<? super T>> int compare(T[] array1, int fromIndex1, int toIndex1,
+                                                                T[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.compare(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
     }
 
     /**
-     * Checks if the specified {@code generic} array is not {@code null} and
-     * has a length greater than zero.
+     * Check whether the given array contains the given element.
      *
-     * @param <T>    the type of the array elements
-     * @param source the array to check
-     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     * @param source  the array to check
+     * @param element the element to look for
+     * @return {@code true}, if found the element, {@code false} otherwise
      */
-    public static <T> boolean hasLength(T[] source) {
-        return source != null && source.length > 0;
+    public static boolean contains(boolean[] source, boolean element) {
+        return indexOf(source, element) != INDEX_NOT_FOUND;
     }
 
     /**
-     * Finds the index of the given value in the array.
+     * Check whether the given array contains the given element.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return index of the value found in the array, {@code -1} otherwise
-     * @see #indexOf(boolean[], boolean, int)
+     * @param source  the array to check
+     * @param element the element to look for
+     * @return {@code true}, if found the element, {@code false} otherwise
      */
-    public static int indexOf(boolean[] source, boolean element) {
-        return indexOf(source, element, 0);
+    public static boolean contains(byte[] source, byte element) {
+        return indexOf(source, element) != INDEX_NOT_FOUND;
     }
 
     /**
-     * Finds the index of the given value in the array starting at the given
-     * index.
+     * Check whether the given array contains the given element.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return index of the value found in the array, {@code -1} otherwise
+     * @param source  the array to check
+     * @param element the element to look for
+     * @return {@code true}, if found the element, {@code false} otherwise
      */
-
-    public static int indexOf(boolean[] source, boolean element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
-
-        for (int i = fromIndex; i < source.length; i++) {
-            if (source[i] == element) return i;
-        }
-
-        return INDEX_NOT_FOUND;
+    public static boolean contains(char[] source, char element) {
+        return indexOf(source, element) != INDEX_NOT_FOUND;
     }
 
     /**
-     * Finds the index of the given value in the array.
+     * Check whether the given array contains the given element.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return index of the value found in the array, {@code -1} otherwise
-     * @see #indexOf(byte[], byte, int)
+     * @param source  the array to check
+     * @param element the element to look for
+     * @return {@code true}, if found the element, {@code false} otherwise
      */
-    public static int indexOf(byte[] source, byte element) {
-        return indexOf(source, element, 0);
+    public static boolean contains(short[] source, short element) {
+        return indexOf(source, element) != INDEX_NOT_FOUND;
     }
 
     /**
-     * Finds the index of the given value in the array starting at the given
-     * index.
+     * Check whether the given array contains the given element.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return index of the value found in the array, {@code -1} otherwise
+     * @param source  the array to check
+     * @param element the element to look for
+     * @return {@code true}, if found the element, {@code false} otherwise
      */
-
-    public static int indexOf(byte[] source, byte element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
-
-        for (int i = fromIndex; i < source.length; i++) {
-            if (source[i] == element) return i;
-        }
-
-        return INDEX_NOT_FOUND;
+    public static boolean contains(int[] source, int element) {
+        return indexOf(source, element) != INDEX_NOT_FOUND;
     }
 
     /**
-     * Finds the index of the given value in the array.
+     * Check whether the given array contains the given element.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return index of the value found in the array, {@code -1} otherwise
-     * @see #indexOf(char[], char, int)
+     * @param source  the array to check
+     * @param element the element to look for
+     * @return {@code true}, if found the element, {@code false} otherwise
      */
-    public static int indexOf(char[] source, char element) {
-        return indexOf(source, element, 0);
+    public static boolean contains(long[] source, long element) {
+        return indexOf(source, element) != INDEX_NOT_FOUND;
     }
 
     /**
-     * Finds the index of the given value in the array starting at the given
-     * index.
+     * Check whether the given array contains the given element.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return index of the value found in the array, {@code -1} otherwise
+     * @param source  the array to check
+     * @param element the element to look for
+     * @return {@code true}, if found the element, {@code false} otherwise
      */
-
-    public static int indexOf(char[] source, char element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
-
-        for (int i = fromIndex; i < source.length; i++) {
-            if (source[i] == element) return i;
-        }
-
-        return INDEX_NOT_FOUND;
+    public static boolean contains(float[] source, float element) {
+        return indexOf(source, element) != INDEX_NOT_FOUND;
     }
 
     /**
-     * Finds the index of the given value in the array.
+     * Check whether the given array contains the given element.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return index of the value found in the array, {@code -1} otherwise
-     * @see #indexOf(short[], short, int)
+     * @param source  the array to check
+     * @param element the element to look for
+     * @return {@code true}, if found the element, {@code false} otherwise
      */
-    public static int indexOf(short[] source, short element) {
-        return indexOf(source, element, 0);
+    public static boolean contains(double[] source, double element) {
+        return indexOf(source, element) != INDEX_NOT_FOUND;
     }
 
     /**
-     * Finds the index of the given value in the array starting at the given
-     * index.
+     * Check whether the given array contains the given element.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return index of the value found in the array, {@code -1} otherwise
+     * @param <T>     the type of array elements
+     * @param source  the array to check
+     * @param element the element to look for
+     * @return {@code true}, if found the element, {@code false} otherwise
      */
-
-    public static int indexOf(short[] source, short element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
-
-        for (int i = fromIndex; i < source.length; i++) {
-            if (source[i] == element) return i;
-        }
-
-        return INDEX_NOT_FOUND;
+    public static <T> boolean contains(T[] source, T element) {
+        return indexOf(source, element) != INDEX_NOT_FOUND;
     }
 
     /**
-     * Finds the index of the given value in the array.
+     * Copies the elements from the {@code start} index to the end of the
+     * {@code boolean} array to the {@code target} position within the
+     * same array, without allocating a new array.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return index of the value found in the array, {@code -1} otherwise
-     * @see #indexOf(int[], int, int)
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target or start is invalid
+     * @see #copyWithin(boolean[], int, int, int)
      */
-    public static int indexOf(int[] source, int element) {
-        return indexOf(source, element, 0);
+    public static boolean[] copyWithin(boolean[] source, int target, int start) {
+        if (source == null) return null;
+        return copyWithin(source, target, start, source.length);
     }
 
     /**
-     * Finds the index of the given value in the array starting at the given
-     * index.
+     * Copies the elements between the {@code start} and {@code end}
+     * indices of the {@code boolean} array to the {@code target}
+     * position within the same array, without allocating a new array.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return index of the value found in the array, {@code -1} otherwise
+     * <p>Overlapping ranges are copied as if the elements were first copied
+     * to a temporary array. Elements that would be copied past the end of the
+     * array are ignored.
+     *
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @param end    the ending index (exclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target, start or end is invalid
+     * @see System#arraycopy(Object, int, Object, int, int)
      */
+    public static boolean[] copyWithin(boolean[] source, int target, int start, int end) {
+        if (source == null) return null;
+        checkRange(source.length, start, end);
+        if (target < 0 || target > source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(target, source.length));
 
-    public static int indexOf(int[] source, int element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
-
-        for (int i = fromIndex; i < source.length; i++) {
-            if (source[i] == element) return i;
-        }
-
-        return INDEX_NOT_FOUND;
+        System.arraycopy(source, start, source, target, Math.min(end - start, source.length - target));
+        return source;
     }
 
     /**
-     * Finds the index of the given value in the array.
+     * Copies the elements from the {@code start} index to the end of the
+     * {@code byte} array to the {@code target} position within the
+     * same array, without allocating a new array.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return index of the value found in the array, {@code -1} otherwise
-     * @see #indexOf(long[], long, int)
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target or start is invalid
+     * @see #copyWithin(byte[], int, int, int)
      */
-    public static int indexOf(long[] source, long element) {
-        return indexOf(source, element, 0);
+    public static byte[] copyWithin(byte[] source, int target, int start) {
+        if (source == null) return null;
+        return copyWithin(source, target, start, source.length);
     }
 
     /**
-     * Finds the index of the given value in the array starting at the given
-     * index.
+     * Copies the elements between the {@code start} and {@code end}
+     * indices of the {@code byte} array to the {@code target}
+     * position within the same array, without allocating a new array.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return index of the value found in the array, {@code -1} otherwise
+     * <p>Overlapping ranges are copied as if the elements were first copied
+     * to a temporary array. Elements that would be copied past the end of the
+     * array are ignored.
+     *
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @param end    the ending index (exclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target, start or end is invalid
+     * @see System#arraycopy(Object, int, Object, int, int)
      */
+    public static byte[] copyWithin(byte[] source, int target, int start, int end) {
+        if (source == null) return null;
+        checkRange(source.length, start, end);
+        if (target < 0 || target > source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(target, source.length));
 
-    public static int indexOf(long[] source, long element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
-
-        for (int i = fromIndex; i < source.length; i++) {
-            if (source[i] == element) return i;
-        }
-
-        return INDEX_NOT_FOUND;
+        System.arraycopy(source, start, source, target, Math.min(end - start, source.length - target));
+        return source;
     }
 
     /**
-     * Finds the index of the given value in the array.
+     * Copies the elements from the {@code start} index to the end of the
+     * {@code char} array to the {@code target} position within the
+     * same array, without allocating a new array.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return index of the value found in the array, {@code -1} otherwise
-     * @see #indexOf(float[], float, int)
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target or start is invalid
+     * @see #copyWithin(char[], int, int, int)
      */
-    public static int indexOf(float[] source, float element) {
-        return indexOf(source, element, 0);
+    public static char[] copyWithin(char[] source, int target, int start) {
+        if (source == null) return null;
+        return copyWithin(source, target, start, source.length);
     }
 
     /**
-     * Finds the index of the given value in the array starting at the given
-     * index.
+     * Copies the elements between the {@code start} and {@code end}
+     * indices of the {@code char} array to the {@code target}
+     * position within the same array, without allocating a new array.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return index of the value found in the array, {@code -1} otherwise
+     * <p>Overlapping ranges are copied as if the elements were first copied
+     * to a temporary array. Elements that would be copied past the end of the
+     * array are ignored.
+     *
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @param end    the ending index (exclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target, start or end is invalid
+     * @see System#arraycopy(Object, int, Object, int, int)
      */
+    public static char[] copyWithin(char[] source, int target, int start, int end) {
+        if (source == null) return null;
+        checkRange(source.length, start, end);
+        if (target < 0 || target > source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(target, source.length));
 
-    public static int indexOf(float[] source, float element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
-
-        for (int i = fromIndex; i < source.length; i++) {
-            if (source[i] == element) return i;
-        }
-
-        return INDEX_NOT_FOUND;
+        System.arraycopy(source, start, source, target, Math.min(end - start, source.length - target));
+        return source;
     }
 
     /**
-     * Finds the index of the given value in the array.
+     * Copies the elements from the {@code start} index to the end of the
+     * {@code short} array to the {@code target} position within the
+     * same array, without allocating a new array.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return index of the value found in the array, {@code -1} otherwise
-     * @see #indexOf(double[], double, int)
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target or start is invalid
+     * @see #copyWithin(short[], int, int, int)
      */
-    public static int indexOf(double[] source, double element) {
-        return indexOf(source, element, 0);
+    public static short[] copyWithin(short[] source, int target, int start) {
+        if (source == null) return null;
+        return copyWithin(source, target, start, source.length);
     }
 
     /**
-     * Finds the index of the given value in the array starting at the given
-     * index.
+     * Copies the elements between the {@code start} and {@code end}
+     * indices of the {@code short} array to the {@code target}
+     * position within the same array, without allocating a new array.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return index of the value found in the array, {@code -1} otherwise
+     * <p>Overlapping ranges are copied as if the elements were first copied
+     * to a temporary array. Elements that would be copied past the end of the
+     * array are ignored.
+     *
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @param end    the ending index (exclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target, start or end is invalid
+     * @see System#arraycopy(Object, int, Object, int, int)
      */
+    public static short[] copyWithin(short[] source, int target, int start, int end) {
+        if (source == null) return null;
+        checkRange(source.length, start, end);
+        if (target < 0 || target > source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(target, source.length));
 
-    public static int indexOf(double[] source, double element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
-
-        for (int i = fromIndex; i < source.length; i++) {
-            if (source[i] == element) return i;
-        }
-
-        return INDEX_NOT_FOUND;
+        System.arraycopy(source, start, source, target, Math.min(end - start, source.length - target));
+        return source;
     }
 
     /**
-     * Finds the index of the given value in the array.
+     * Copies the elements from the {@code start} index to the end of the
+     * {@code int} array to the {@code target} position within the
+     * same array, without allocating a new array.
      *
-     * @param <T>     the type of array elements
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return index of the value found in the array, {@code -1} otherwise
-     * @see #indexOf(Object[], Object, int)
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target or start is invalid
+     * @see #copyWithin(int[], int, int, int)
      */
-    public static <T> int indexOf(T[] source, T element) {
-        return indexOf(source, element, 0);
+    public static int[] copyWithin(int[] source, int target, int start) {
+        if (source == null) return null;
+        return copyWithin(source, target, start, source.length);
     }
 
     /**
-     * Finds the index of the given value in the array starting at the given
-     * index.
+     * Copies the elements between the {@code start} and {@code end}
+     * indices of the {@code int} array to the {@code target}
+     * position within the same array, without allocating a new array.
      *
-     * @param <T>       the type of array elements
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return index of the value found in the array, {@code -1} otherwise
+     * <p>Overlapping ranges are copied as if the elements were first copied
+     * to a temporary array. Elements that would be copied past the end of the
+     * array are ignored.
+     *
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @param end    the ending index (exclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target, start or end is invalid
+     * @see System#arraycopy(Object, int, Object, int, int)
      */
-    public static <T> int indexOf(T[] source, T element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
+    public static int[] copyWithin(int[] source, int target, int start, int end) {
+        if (source == null) return null;
+        checkRange(source.length, start, end);
+        if (target < 0 || target > source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(target, source.length));
 
-        if (element == null) {
-            for (int i = fromIndex; i < source.length; i++) {
-                if (source[i] == null) return i;
-            }
-        } else if (source.getClass().getComponentType().isInstance(element)) {
-            for (int i = fromIndex; i < source.length; i++) {
-                if (element == source[i]) return i;
-            }
-        }
-        return INDEX_NOT_FOUND;
+        System.arraycopy(source, start, source, target, Math.min(end - start, source.length - target));
+        return source;
     }
 
     /**
-     * Finds the indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Copies the elements from the {@code start} index to the end of the
+     * {@code long} array to the {@code target} position within the
+     * same array, without allocating a new array.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #indexesOf(boolean[], boolean, int)
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target or start is invalid
+     * @see #copyWithin(long[], int, int, int)
      */
-    public static BitSet indexesOf(boolean[] source, boolean element) {
-        return indexesOf(source, element, 0);
+    public static long[] copyWithin(long[] source, int target, int start) {
+        if (source == null) return null;
+        return copyWithin(source, target, start, source.length);
     }
 
     /**
-     * Finds the indices of the given value in the array starting at the given
-     * index.
+     * Copies the elements between the {@code start} and {@code end}
+     * indices of the {@code long} array to the {@code target}
+     * position within the same array, without allocating a new array.
      *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * <p>Overlapping ranges are copied as if the elements were first copied
+     * to a temporary array. Elements that would be copied past the end of the
+     * array are ignored.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @param end    the ending index (exclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target, start or end is invalid
+     * @see System#arraycopy(Object, int, Object, int, int)
      */
-    public static BitSet indexesOf(boolean[] source, boolean element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+    public static long[] copyWithin(long[] source, int target, int start, int end) {
+        if (source == null) return null;
+        checkRange(source.length, start, end);
+        if (target < 0 || target > source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(target, source.length));
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex < source.length) {
-            fromIndex = indexOf(source, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            ++fromIndex;
-        }
-        return bitSet;
+        System.arraycopy(source, start, source, target, Math.min(end - start, source.length - target));
+        return source;
     }
 
     /**
-     * Finds the indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Copies the elements from the {@code start} index to the end of the
+     * {@code float} array to the {@code target} position within the
+     * same array, without allocating a new array.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #indexesOf(byte[], byte, int)
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target or start is invalid
+     * @see #copyWithin(float[], int, int, int)
      */
-    public static BitSet indexesOf(byte[] source, byte element) {
-        return indexesOf(source, element, 0);
+    public static float[] copyWithin(float[] source, int target, int start) {
+        if (source == null) return null;
+        return copyWithin(source, target, start, source.length);
     }
 
     /**
-     * Finds the indices of the given value in the array starting at the given
-     * index.
+     * Copies the elements between the {@code start} and {@code end}
+     * indices of the {@code float} array to the {@code target}
+     * position within the same array, without allocating a new array.
      *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * <p>Overlapping ranges are copied as if the elements were first copied
+     * to a temporary array. Elements that would be copied past the end of the
+     * array are ignored.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @param end    the ending index (exclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target, start or end is invalid
+     * @see System#arraycopy(Object, int, Object, int, int)
      */
-    public static BitSet indexesOf(byte[] source, byte element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+    public static float[] copyWithin(float[] source, int target, int start, int end) {
+        if (source == null) return null;
+        checkRange(source.length, start, end);
+        if (target < 0 || target > source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(target, source.length));
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex < source.length) {
-            fromIndex = indexOf(source, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            ++fromIndex;
-        }
-        return bitSet;
+        System.arraycopy(source, start, source, target, Math.min(end - start, source.length - target));
+        return source;
     }
 
     /**
-     * Finds the indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Copies the elements from the {@code start} index to the end of the
+     * {@code double} array to the {@code target} position within the
+     * same array, without allocating a new array.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #indexesOf(char[], char, int)
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target or start is invalid
+     * @see #copyWithin(double[], int, int, int)
      */
-    public static BitSet indexesOf(char[] source, char element) {
-        return indexesOf(source, element, 0);
+    public static double[] copyWithin(double[] source, int target, int start) {
+        if (source == null) return null;
+        return copyWithin(source, target, start, source.length);
     }
 
     /**
-     * Finds the indices of the given value in the array starting at the given
-     * index.
+     * Copies the elements between the {@code start} and {@code end}
+     * indices of the {@code double} array to the {@code target}
+     * position within the same array, without allocating a new array.
      *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * <p>Overlapping ranges are copied as if the elements were first copied
+     * to a temporary array. Elements that would be copied past the end of the
+     * array are ignored.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @param end    the ending index (exclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target, start or end is invalid
+     * @see System#arraycopy(Object, int, Object, int, int)
      */
-    public static BitSet indexesOf(char[] source, char element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+    public static double[] copyWithin(double[] source, int target, int start, int end) {
+        if (source == null) return null;
+        checkRange(source.length, start, end);
+        if (target < 0 || target > source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(target, source.length));
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex < source.length) {
-            fromIndex = indexOf(source, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            ++fromIndex;
-        }
-        return bitSet;
+        System.arraycopy(source, start, source, target, Math.min(end - start, source.length - target));
+        return source;
     }
 
     /**
-     * Finds the indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Copies the elements from the {@code start} index to the end of the
+     * {@code Object} array to the {@code target} position within the
+     * same array, without allocating a new array.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #indexesOf(short[], short, int)
+     * @param <T>    the type of array elements
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target or start is invalid
+     * @see #copyWithin(Object[], int, int, int)
      */
-    public static BitSet indexesOf(short[] source, short element) {
-        return indexesOf(source, element, 0);
+    public static <T> T[] copyWithin(T[] source, int target, int start) {
+        if (source == null) return null;
+        return copyWithin(source, target, start, source.length);
     }
 
     /**
-     * Finds the indices of the given value in the array starting at the given
-     * index.
+     * Copies the elements between the {@code start} and {@code end}
+     * indices of the {@code Object} array to the {@code target}
+     * position within the same array, without allocating a new array.
      *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * <p>Overlapping ranges are copied as if the elements were first copied
+     * to a temporary array. Elements that would be copied past the end of the
+     * array are ignored.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
-     */
-    public static BitSet indexesOf(short[] source, short element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
-
-        BitSet bitSet = new BitSet();
-        while (fromIndex < source.length) {
-            fromIndex = indexOf(source, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            ++fromIndex;
-        }
-        return bitSet;
+     * @param <T>    the type of array elements
+     * @param source the array to copy the elements within
+     * @param target the index the elements are copied to
+     * @param start  the starting index (inclusive) of the elements to copy
+     * @param end    the ending index (exclusive) of the elements to copy
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if target, start or end is invalid
+     * @see System#arraycopy(Object, int, Object, int, int)
+     */
+    public static <T> T[] copyWithin(T[] source, int target, int start, int end) {
+        if (source == null) return null;
+        checkRange(source.length, start, end);
+        if (target < 0 || target > source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(target, source.length));
+
+        System.arraycopy(source, start, source, target, Math.min(end - start, source.length - target));
+        return source;
     }
 
     /**
-     * Finds the indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Checks whether the two {@code boolean} arrays contain the same
+     * elements in the same order, using the vectorized
+     * {@link Arrays#equals(boolean[], boolean[])} kernel. Two {@code null} arrays are
+     * considered equal.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #indexesOf(int[], int, int)
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return {@code true}, if the arrays are equal, {@code false} otherwise
      */
-    public static BitSet indexesOf(int[] source, int element) {
-        return indexesOf(source, element, 0);
+    public static boolean equals(boolean[] array1, boolean[] array2) {
+        return Arrays.equals(array1, array2);
     }
 
     /**
-     * Finds the indices of the given value in the array starting at the given
-     * index.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Checks whether the two {@code boolean} array ranges contain the
+     * same elements in the same order.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return {@code true}, if the ranges are equal, {@code false} otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#equals(boolean[], int, int, boolean[], int, int)
      */
-    public static BitSet indexesOf(int[] source, int element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+    public static boolean equals(boolean[] array1, int fromIndex1, int toIndex1,
+                                 boolean[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex < source.length) {
-            fromIndex = indexOf(source, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            ++fromIndex;
-        }
-        return bitSet;
+        return Arrays.equals(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
     }
 
     /**
-     * Finds the indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Checks whether the two {@code byte} arrays contain the same
+     * elements in the same order, using the vectorized
+     * {@link Arrays#equals(byte[], byte[])} kernel. Two {@code null} arrays are
+     * considered equal.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #indexesOf(long[], long, int)
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return {@code true}, if the arrays are equal, {@code false} otherwise
      */
-    public static BitSet indexesOf(long[] source, long element) {
-        return indexesOf(source, element, 0);
+    public static boolean equals(byte[] array1, byte[] array2) {
+        return Arrays.equals(array1, array2);
     }
 
     /**
-     * Finds the indices of the given value in the array starting at the given
-     * index.
+     * Checks whether the two {@code byte} array ranges contain the
+     * same elements in the same order.
      *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
-     *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return {@code true}, if the ranges are equal, {@code false} otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#equals(byte[], int, int, byte[], int, int)
      */
-    public static BitSet indexesOf(long[] source, long element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+    public static boolean equals(byte[] array1, int fromIndex1, int toIndex1,
+                                 byte[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex < source.length) {
-            fromIndex = indexOf(source, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            ++fromIndex;
-        }
-        return bitSet;
+        return Arrays.equals(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
     }
 
     /**
-     * Finds the indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Checks whether the two {@code char} arrays contain the same
+     * elements in the same order, using the vectorized
+     * {@link Arrays#equals(char[], char[])} kernel. Two {@code null} arrays are
+     * considered equal.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #indexesOf(float[], float, int)
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return {@code true}, if the arrays are equal, {@code false} otherwise
      */
-    public static BitSet indexesOf(float[] source, float element) {
-        return indexesOf(source, element, 0);
+    public static boolean equals(char[] array1, char[] array2) {
+        return Arrays.equals(array1, array2);
     }
 
     /**
-     * Finds the indices of the given value in the array starting at the given
-     * index.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Checks whether the two {@code char} array ranges contain the
+     * same elements in the same order.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return {@code true}, if the ranges are equal, {@code false} otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#equals(char[], int, int, char[], int, int)
      */
-    public static BitSet indexesOf(float[] source, float element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+    public static boolean equals(char[] array1, int fromIndex1, int toIndex1,
+                                 char[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex < source.length) {
-            fromIndex = indexOf(source, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            ++fromIndex;
-        }
-        return bitSet;
+        return Arrays.equals(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
     }
 
     /**
-     * Finds the indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Checks whether the two {@code short} arrays contain the same
+     * elements in the same order, using the vectorized
+     * {@link Arrays#equals(short[], short[])} kernel. Two {@code null} arrays are
+     * considered equal.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #indexesOf(double[], double, int)
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return {@code true}, if the arrays are equal, {@code false} otherwise
      */
-    public static BitSet indexesOf(double[] source, double element) {
-        return indexesOf(source, element, 0);
+    public static boolean equals(short[] array1, short[] array2) {
+        return Arrays.equals(array1, array2);
     }
 
     /**
-     * Finds the indices of the given value in the array starting at the given
-     * index.
+     * Checks whether the two {@code short} array ranges contain the
+     * same elements in the same order.
      *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
-     *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return {@code true}, if the ranges are equal, {@code false} otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#equals(short[], int, int, short[], int, int)
      */
-    public static BitSet indexesOf(double[] source, double element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+    public static boolean equals(short[] array1, int fromIndex1, int toIndex1,
+                                 short[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex < source.length) {
-            fromIndex = indexOf(source, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            ++fromIndex;
-        }
-        return bitSet;
+        return Arrays.equals(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
     }
 
     /**
-     * Finds the indices of the given value in the array.
+     * Checks whether the two {@code int} arrays contain the same
+     * elements in the same order, using the vectorized
+     * {@link Arrays#equals(int[], int[])} kernel. Two {@code null} arrays are
+     * considered equal.
      *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return {@code true}, if the arrays are equal, {@code false} otherwise
+     */
+    public static boolean equals(int[] array1, int[] array2) {
+        return Arrays.equals(array1, array2);
+    }
+
+    /**
+     * Checks whether the two {@code int} array ranges contain the
+     * same elements in the same order.
      *
-     * @param <T>     the type of array elements
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #indexesOf(Object[], Object, int)
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return {@code true}, if the ranges are equal, {@code false} otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#equals(int[], int, int, int[], int, int)
      */
-    public static <T> BitSet indexesOf(T[] source, T element) {
-        return indexesOf(source, element, 0);
+    public static boolean equals(int[] array1, int fromIndex1, int toIndex1,
+                                 int[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.equals(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
     }
 
     /**
-     * Finds the indices of the given value in the array starting at the given
-     * index.
+     * Checks whether the two {@code long} arrays contain the same
+     * elements in the same order, using the vectorized
+     * {@link Arrays#equals(long[], long[])} kernel. Two {@code null} arrays are
+     * considered equal.
      *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return {@code true}, if the arrays are equal, {@code false} otherwise
+     */
+    public static boolean equals(long[] array1, long[] array2) {
+        return Arrays.equals(array1, array2);
+    }
+
+    /**
+     * Checks whether the two {@code long} array ranges contain the
+     * same elements in the same order.
      *
-     * @param <T>       the type of array elements
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return {@code true}, if the ranges are equal, {@code false} otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#equals(long[], int, int, long[], int, int)
      */
-    public static <T> BitSet indexesOf(T[] source, T element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+    public static boolean equals(long[] array1, int fromIndex1, int toIndex1,
+                                 long[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex < source.length) {
-            fromIndex = indexOf(source, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            ++fromIndex;
-        }
+        return Arrays.equals(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
+    }
 
-        return bitSet;
+    /**
+     * Checks whether the two {@code float} arrays contain the same
+     * elements in the same order, using the vectorized
+     * {@link Arrays#equals(float[], float[])} kernel. Two {@code null} arrays are
+     * considered equal.
+     *
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return {@code true}, if the arrays are equal, {@code false} otherwise
+     */
+    public static boolean equals(float[] array1, float[] array2) {
+        return Arrays.equals(array1, array2);
     }
 
     /**
-     * Finds the last index of the given value in the array.
+     * Checks whether the two {@code float} array ranges contain the
+     * same elements in the same order.
      *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return {@code true}, if the ranges are equal, {@code false} otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#equals(float[], int, int, float[], int, int)
+     */
+    public static boolean equals(float[] array1, int fromIndex1, int toIndex1,
+                                 float[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.equals(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
+    }
+
+    /**
+     * Checks whether the two {@code double} arrays contain the same
+     * elements in the same order, using the vectorized
+     * {@link Arrays#equals(double[], double[])} kernel. Two {@code null} arrays are
+     * considered equal.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return the last index of the value found in the array, {@code -1} otherwise
-     * @see #lastIndexOf(boolean[], boolean, int)
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return {@code true}, if the arrays are equal, {@code false} otherwise
      */
-    public static int lastIndexOf(boolean[] source, boolean element) {
-        if (!hasLength(source)) return INDEX_NOT_FOUND;
-        return lastIndexOf(source, element, source.length - 1);
+    public static boolean equals(double[] array1, double[] array2) {
+        return Arrays.equals(array1, array2);
     }
 
     /**
-     * Finds the last index of the given value in the array starting at the
-     * given index.
+     * Checks whether the two {@code double} array ranges contain the
+     * same elements in the same order.
      *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return {@code true}, if the ranges are equal, {@code false} otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#equals(double[], int, int, double[], int, int)
+     */
+    public static boolean equals(double[] array1, int fromIndex1, int toIndex1,
+                                 double[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.equals(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
+    }
+
+    /**
+     * Checks whether the two {@code Object} arrays contain the same
+     * elements in the same order, using the vectorized
+     * {@link Arrays#equals(Object[], Object[])} kernel. Two {@code null} arrays are
+     * considered equal.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @param <T>    the type of array elements
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return {@code true}, if the arrays are equal, {@code false} otherwise
      */
-    public static int lastIndexOf(boolean[] source, boolean element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+    public static <T> boolean equals(T[] array1, T[] array2) {
+        return Arrays.equals(array1, array2);
+    }
 
-        for (int i = fromIndex; i >= 0; i--) {
-            if (element == source[i]) return i;
+    /**
+     * Checks whether the two {@code Object} array ranges contain the
+     * same elements in the same order.
+     *
+     * @param <T>        the type of array elements
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return {@code true}, if the ranges are equal, {@code false} otherwise
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#equals(Object[], int, int, Object[], int, int)
+     */
+    public static <T> boolean equals(T[] array1, int fromIndex1, int toIndex1,
+                                     T[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.equals(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
+    }
+
+    /**
+     * Replaces each element of the {@code int} array with the sum of all
+     * preceding elements (an exclusive prefix sum), in place, and returns the
+     * sum of all elements.
+     *
+     * <p>This turns an array of lengths into an array of start offsets, with
+     * the returned total being the length of the whole, for example
+     * {@code [3, 1, 2]} becomes {@code [0, 3, 4]} and 6 is returned.
+     *
+     * @param source the array to scan
+     * @return the sum of all elements of the array, or 0 if the source is {@code null}
+     * @see #prefixSum(int[])
+     */
+    public static int exclusivePrefixSum(int[] source) {
+        if (source == null) return 0;
+
+        int sum = 0;
+        for (int i = 0; i < source.length; i++) {
+            int value = source[i];
+            source[i] = sum;
+            sum += value;
         }
 
-        return INDEX_NOT_FOUND;
+        return sum;
     }
 
     /**
-     * Finds the last index of the given value in the array.
+     * Replaces each element of the {@code long} array with the sum of all
+     * preceding elements (an exclusive prefix sum), in place, and returns the
+     * sum of all elements.
      *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * <p>This turns an array of lengths into an array of start offsets, with
+     * the returned total being the length of the whole, for example
+     * {@code [3, 1, 2]} becomes {@code [0, 3, 4]} and 6 is returned.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return the last index of the value found in the array, {@code -1} otherwise
-     * @see #lastIndexOf(byte[], byte, int)
+     * @param source the array to scan
+     * @return the sum of all elements of the array, or 0 if the source is {@code null}
+     * @see #prefixSum(long[])
      */
-    public static int lastIndexOf(byte[] source, byte element) {
-        if (!hasLength(source)) return INDEX_NOT_FOUND;
-        return lastIndexOf(source, element, source.length - 1);
+    public static long exclusivePrefixSum(long[] source) {
+        if (source == null) return 0;
+
+        long sum = 0;
+        for (int i = 0; i < source.length; i++) {
+            long value = source[i];
+            source[i] = sum;
+            sum += value;
+        }
+
+        return sum;
     }
 
     /**
-     * Finds the last index of the given value in the array starting at the
-     * given index.
+     * Replaces each element of the {@code float} array with the sum of all
+     * preceding elements (an exclusive prefix sum), in place, and returns the
+     * sum of all elements.
      *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * <p>This turns an array of lengths into an array of start offsets, with
+     * the returned total being the length of the whole, for example
+     * {@code [3, 1, 2]} becomes {@code [0, 3, 4]} and 6 is returned.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @param source the array to scan
+     * @return the sum of all elements of the array, or 0 if the source is {@code null}
+     * @see #prefixSum(float[])
      */
-    public static int lastIndexOf(byte[] source, byte element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+    public static float exclusivePrefixSum(float[] source) {
+        if (source == null) return 0;
 
-        for (int i = fromIndex; i >= 0; i--) {
-            if (element == source[i]) return i;
+        float sum = 0;
+        for (int i = 0; i < source.length; i++) {
+            float value = source[i];
+            source[i] = sum;
+            sum += value;
         }
 
-        return INDEX_NOT_FOUND;
+        return sum;
     }
 
     /**
-     * Finds the last index of the given value in the array.
+     * Replaces each element of the {@code double} array with the sum of all
+     * preceding elements (an exclusive prefix sum), in place, and returns the
+     * sum of all elements.
      *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * <p>This turns an array of lengths into an array of start offsets, with
+     * the returned total being the length of the whole, for example
+     * {@code [3, 1, 2]} becomes {@code [0, 3, 4]} and 6 is returned.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return the last index of the value found in the array, {@code -1} otherwise
-     * @see #lastIndexOf(char[], char, int)
+     * @param source the array to scan
+     * @return the sum of all elements of the array, or 0 if the source is {@code null}
+     * @see #prefixSum(double[])
      */
-    public static int lastIndexOf(char[] source, char element) {
-        if (!hasLength(source)) return INDEX_NOT_FOUND;
-        return lastIndexOf(source, element, source.length - 1);
-    }
+    public static double exclusivePrefixSum(double[] source) {
+        if (source == null) return 0;
+
+        double sum = 0;
+        for (int i = 0; i < source.length; i++) {
+            double value = source[i];
+            source[i] = sum;
+            sum += value;
+        }
+
+        return sum;
+    }
 
     /**
-     * Finds the last index of the given value in the array starting at the
-     * given index.
-     *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * Assigns the specified value to each element of the {@code boolean}
+     * array.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @param source the array to be filled
+     * @param value  the value to be stored in all elements of the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see Arrays#fill(boolean[], boolean)
      */
-    public static int lastIndexOf(char[] source, char element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+    public static boolean[] fill(boolean[] source, boolean value) {
+        if (source != null) Arrays.fill(source, value);
+        return source;
+    }
 
-        for (int i = fromIndex; i >= 0; i--) {
-            if (element == source[i]) return i;
-        }
+    /**
+     * Assigns the specified value to each element of the {@code boolean}
+     * array between the {@code fromIndex} and {@code toIndex} indices.
+     *
+     * @param source    the array to be filled
+     * @param fromIndex the starting index (inclusive) of the range to fill
+     * @param toIndex   the ending index (exclusive) of the range to fill
+     * @param value     the value to be stored in the elements of the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see Arrays#fill(boolean[], int, int, boolean)
+     */
+    public static boolean[] fill(boolean[] source, int fromIndex, int toIndex, boolean value) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        return INDEX_NOT_FOUND;
+        Arrays.fill(source, fromIndex, toIndex, value);
+        return source;
     }
 
     /**
-     * Finds the last index of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * Assigns the specified value to each element of the {@code byte}
+     * array.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return the last index of the value found in the array, {@code -1} otherwise
-     * @see #lastIndexOf(short[], short, int)
+     * @param source the array to be filled
+     * @param value  the value to be stored in all elements of the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see Arrays#fill(byte[], byte)
      */
-    public static int lastIndexOf(short[] source, short element) {
-        if (!hasLength(source)) return INDEX_NOT_FOUND;
-        return lastIndexOf(source, element, source.length - 1);
+    public static byte[] fill(byte[] source, byte value) {
+        if (source != null) Arrays.fill(source, value);
+        return source;
     }
 
     /**
-     * Finds the last index of the given value in the array starting at the
-     * given index.
-     *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * Assigns the specified value to each element of the {@code byte}
+     * array between the {@code fromIndex} and {@code toIndex} indices.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @param source    the array to be filled
+     * @param fromIndex the starting index (inclusive) of the range to fill
+     * @param toIndex   the ending index (exclusive) of the range to fill
+     * @param value     the value to be stored in the elements of the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see Arrays#fill(byte[], int, int, byte)
      */
-    public static int lastIndexOf(short[] source, short element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
-
-        for (int i = fromIndex; i >= 0; i--) {
-            if (element == source[i]) return i;
-        }
+    public static byte[] fill(byte[] source, int fromIndex, int toIndex, byte value) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        return INDEX_NOT_FOUND;
+        Arrays.fill(source, fromIndex, toIndex, value);
+        return source;
     }
 
     /**
-     * Finds the last index of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * Assigns the specified value to each element of the {@code char}
+     * array.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return the last index of the value found in the array, {@code -1} otherwise
-     * @see #lastIndexOf(int[], int, int)
+     * @param source the array to be filled
+     * @param value  the value to be stored in all elements of the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see Arrays#fill(char[], char)
      */
-    public static int lastIndexOf(int[] source, int element) {
-        if (!hasLength(source)) return INDEX_NOT_FOUND;
-        return lastIndexOf(source, element, source.length - 1);
+    public static char[] fill(char[] source, char value) {
+        if (source != null) Arrays.fill(source, value);
+        return source;
     }
 
     /**
-     * Finds the last index of the given value in the array starting at the
-     * given index.
-     *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * Assigns the specified value to each element of the {@code char}
+     * array between the {@code fromIndex} and {@code toIndex} indices.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @param source    the array to be filled
+     * @param fromIndex the starting index (inclusive) of the range to fill
+     * @param toIndex   the ending index (exclusive) of the range to fill
+     * @param value     the value to be stored in the elements of the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see Arrays#fill(char[], int, int, char)
      */
-    public static int lastIndexOf(int[] source, int element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+    public static char[] fill(char[] source, int fromIndex, int toIndex, char value) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        for (int i = fromIndex; i >= 0; i--) {
-            if (element == source[i]) return i;
-        }
+        Arrays.fill(source, fromIndex, toIndex, value);
+        return source;
+    }
 
-        return INDEX_NOT_FOUND;
+    /**
+     * Assigns the specified value to each element of the {@code short}
+     * array.
+     *
+     * @param source the array to be filled
+     * @param value  the value to be stored in all elements of the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see Arrays#fill(short[], short)
+     */
+    public static short[] fill(short[] source, short value) {
+        if (source != null) Arrays.fill(source, value);
+        return source;
     }
 
     /**
-     * Finds the last index of the given value in the array.
+     * Assigns the specified value to each element of the {@code short}
+     * array between the {@code fromIndex} and {@code toIndex} indices.
      *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * @param source    the array to be filled
+     * @param fromIndex the starting index (inclusive) of the range to fill
+     * @param toIndex   the ending index (exclusive) of the range to fill
+     * @param value     the value to be stored in the elements of the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see Arrays#fill(short[], int, int, short)
+     */
+    public static short[] fill(short[] source, int fromIndex, int toIndex, short value) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        Arrays.fill(source, fromIndex, toIndex, value);
+        return source;
+    }
+
+    /**
+     * Assigns the specified value to each element of the {@code int}
+     * array.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return the last index of the value found in the array, {@code -1} otherwise
-     * @see #lastIndexOf(long[], long, int)
+     * @param source the array to be filled
+     * @param value  the value to be stored in all elements of the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see Arrays#fill(int[], int)
      */
-    public static int lastIndexOf(long[] source, long element) {
-        if (!hasLength(source)) return INDEX_NOT_FOUND;
-        return lastIndexOf(source, element, source.length - 1);
+    public static int[] fill(int[] source, int value) {
+        if (source != null) Arrays.fill(source, value);
+        return source;
     }
 
     /**
-     * Finds the last index of the given value in the array starting at the
-     * given index.
+     * Assigns the specified value to each element of the {@code int}
+     * array between the {@code fromIndex} and {@code toIndex} indices.
      *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * @param source    the array to be filled
+     * @param fromIndex the starting index (inclusive) of the range to fill
+     * @param toIndex   the ending index (exclusive) of the range to fill
+     * @param value     the value to be stored in the elements of the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see Arrays#fill(int[], int, int, int)
+     */
+    public static int[] fill(int[] source, int fromIndex, int toIndex, int value) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        Arrays.fill(source, fromIndex, toIndex, value);
+        return source;
+    }
+
+    /**
+     * Assigns the specified value to each element of the {@code long}
+     * array.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @param source the array to be filled
+     * @param value  the value to be stored in all elements of the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see Arrays#fill(long[], long)
      */
-    public static int lastIndexOf(long[] source, long element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+    public static long[] fill(long[] source, long value) {
+        if (source != null) Arrays.fill(source, value);
+        return source;
+    }
 
-        for (int i = fromIndex; i >= 0; i--) {
-            if (element == source[i]) return i;
-        }
+    /**
+     * Assigns the specified value to each element of the {@code long}
+     * array between the {@code fromIndex} and {@code toIndex} indices.
+     *
+     * @param source    the array to be filled
+     * @param fromIndex the starting index (inclusive) of the range to fill
+     * @param toIndex   the ending index (exclusive) of the range to fill
+     * @param value     the value to be stored in the elements of the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see Arrays#fill(long[], int, int, long)
+     */
+    public static long[] fill(long[] source, int fromIndex, int toIndex, long value) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        return INDEX_NOT_FOUND;
+        Arrays.fill(source, fromIndex, toIndex, value);
+        return source;
     }
 
     /**
-     * Finds the last index of the given value in the array.
+     * Assigns the specified value to each element of the {@code float}
+     * array.
      *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * @param source the array to be filled
+     * @param value  the value to be stored in all elements of the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see Arrays#fill(float[], float)
+     */
+    public static float[] fill(float[] source, float value) {
+        if (source != null) Arrays.fill(source, value);
+        return source;
+    }
+
+    /**
+     * Assigns the specified value to each element of the {@code float}
+     * array between the {@code fromIndex} and {@code toIndex} indices.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return the last index of the value found in the array, {@code -1} otherwise
-     * @see #lastIndexOf(float[], float, int)
+     * @param source    the array to be filled
+     * @param fromIndex the starting index (inclusive) of the range to fill
+     * @param toIndex   the ending index (exclusive) of the range to fill
+     * @param value     the value to be stored in the elements of the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see Arrays#fill(float[], int, int, float)
      */
-    public static int lastIndexOf(float[] source, float element) {
-        if (!hasLength(source)) return INDEX_NOT_FOUND;
-        return lastIndexOf(source, element, source.length - 1);
+    public static float[] fill(float[] source, int fromIndex, int toIndex, float value) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        Arrays.fill(source, fromIndex, toIndex, value);
+        return source;
     }
 
     /**
-     * Finds the last index of the given value in the array starting at the
-     * given index.
+     * Assigns the specified value to each element of the {@code double}
+     * array.
      *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * @param source the array to be filled
+     * @param value  the value to be stored in all elements of the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see Arrays#fill(double[], double)
+     */
+    public static double[] fill(double[] source, double value) {
+        if (source != null) Arrays.fill(source, value);
+        return source;
+    }
+
+    /**
+     * Assigns the specified value to each element of the {@code double}
+     * array between the {@code fromIndex} and {@code toIndex} indices.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @param source    the array to be filled
+     * @param fromIndex the starting index (inclusive) of the range to fill
+     * @param toIndex   the ending index (exclusive) of the range to fill
+     * @param value     the value to be stored in the elements of the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see Arrays#fill(double[], int, int, double)
      */
-    public static int lastIndexOf(float[] source, float element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+    public static double[] fill(double[] source, int fromIndex, int toIndex, double value) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        for (int i = fromIndex; i >= 0; i--) {
-            if (element == source[i]) return i;
-        }
+        Arrays.fill(source, fromIndex, toIndex, value);
+        return source;
+    }
 
-        return INDEX_NOT_FOUND;
+    /**
+     * Assigns the specified value to each element of the {@code Object}
+     * array.
+     *
+     * @param <T>    the type of array elements
+     * @param source the array to be filled
+     * @param value  the value to be stored in all elements of the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see Arrays#fill(Object[], Object)
+     */
+    public static <T> T[] fill(T[] source, T value) {
+        if (source != null) Arrays.fill(source, value);
+        return source;
     }
 
     /**
-     * Finds the last index of the given value in the array.
+     * Assigns the specified value to each element of the {@code Object}
+     * array between the {@code fromIndex} and {@code toIndex} indices.
      *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * @param <T>       the type of array elements
+     * @param source    the array to be filled
+     * @param fromIndex the starting index (inclusive) of the range to fill
+     * @param toIndex   the ending index (exclusive) of the range to fill
+     * @param value     the value to be stored in the elements of the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see Arrays#fill(Object[], int, int, Object)
+     */
+    public static <T> T[] fill(T[] source, int fromIndex, int toIndex, T value) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        Arrays.fill(source, fromIndex, toIndex, value);
+        return source;
+    }
+
+    /**
+     * Counts the occurrences of each distinct value in the {@code int} array
+     * in a single pass.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return the last index of the value found in the array, {@code -1} otherwise
-     * @see #lastIndexOf(double[], double, int)
+     * <p>The counts are kept in an {@link IntIntHashMap}, so no boxing or
+     * per-entry allocation takes place and the memory used is proportional
+     * to the number of distinct values.
+     *
+     * @param source the array to count the values of
+     * @return a map from each distinct value to its number of occurrences, empty if the source is {@code null}
      */
-    public static int lastIndexOf(double[] source, double element) {
-        if (!hasLength(source)) return INDEX_NOT_FOUND;
-        return lastIndexOf(source, element, source.length - 1);
+    public static IntIntHashMap frequencies(int[] source) {
+        IntIntHashMap result = new IntIntHashMap();
+        if (source == null) return result;
+
+        for (int value : source) {
+            result.addTo(value, 1);
+        }
+
+        return result;
     }
 
     /**
-     * Finds the last index of the given value in the array starting at the
-     * given index.
+     * Counts the occurrences of each distinct value in the {@code long} array
+     * in a single pass.
      *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * <p>The counts are kept in a {@link LongIntHashMap}, so no boxing or
+     * per-entry allocation takes place and the memory used is proportional
+     * to the number of distinct values.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @param source the array to count the values of
+     * @return a map from each distinct value to its number of occurrences, empty if the source is {@code null}
      */
-    public static int lastIndexOf(double[] source, double element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+    public static LongIntHashMap frequencies(long[] source) {
+        LongIntHashMap result = new LongIntHashMap();
+        if (source == null) return result;
 
-        for (int i = fromIndex; i >= 0; i--) {
-            if (element == source[i]) return i;
+        for (long value : source) {
+            result.addTo(value, 1);
         }
 
-        return INDEX_NOT_FOUND;
+        return result;
     }
 
     /**
-     * Finds the last index of the given value in the array.
+     * Safely retrieves a {@code boolean} value from an array at the specified
+     * index.
      *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * @param source values the array to get
+     * @param index  the index of the element to retrieve
+     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
+     * @see Optional
+     */
+    public static Optional<Boolean> get(boolean[] source, int index) {
+        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    }
+
+    /**
+     * Safely retrieves a {@code byte} value from an array at the specified
+     * index.
      *
-     * @param <T>     the type of array elements
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return the last index of the value found in the array, {@code -1} otherwise
-     * @see #lastIndexOf(double[], double, int)
+     * @param source values the array to get
+     * @param index  the index of the element to retrieve
+     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
+     * @see Optional
      */
-    public static <T> int lastIndexOf(T[] source, T element) {
-        if (!hasLength(source)) return INDEX_NOT_FOUND;
-        return lastIndexOf(source, element, source.length - 1);
+    public static Optional<Byte> get(byte[] source, int index) {
+        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    }
+
+    /**
+     * Safely retrieves a {@code char} value from an array at the specified
+     * index.
+     *
+     * @param source values the array to get
+     * @param index  the index of the element to retrieve
+     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
+     * @see Optional
+     */
+    public static Optional<Character> get(char[] source, int index) {
+        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    }
+
+    /**
+     * Safely retrieves a {@code short} value from an array at the specified
+     * index.
+     *
+     * @param source values the array to get
+     * @param index  the index of the element to retrieve
+     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
+     * @see Optional
+     */
+    public static Optional<Short> get(short[] source, int index) {
+        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    }
+
+    /**
+     * Safely retrieves a {@code int} value from an array at the specified
+     * index.
+     *
+     * @param source values the array to get
+     * @param index  the index of the element to retrieve
+     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
+     * @see Optional
+     */
+    public static Optional<Integer> get(int[] source, int index) {
+        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    }
+
+    /**
+     * Safely retrieves a {@code long} value from an array at the specified
+     * index.
+     *
+     * @param source values the array to get
+     * @param index  the index of the element to retrieve
+     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
+     * @see Optional
+     */
+    public static Optional<Long> get(long[] source, int index) {
+        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    }
+
+    /**
+     * Safely retrieves a {@code float} value from an array at the specified
+     * index.
+     *
+     * @param source values the array to get
+     * @param index  the index of the element to retrieve
+     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
+     * @see Optional
+     */
+    public static Optional<Float> get(float[] source, int index) {
+        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    }
+
+    /**
+     * Safely retrieves a {@code double} value from an array at the specified
+     * index.
+     *
+     * @param source values the array to get
+     * @param index  the index of the element to retrieve
+     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
+     * @see Optional
+     */
+    public static Optional<Double> get(double[] source, int index) {
+        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    }
+
+    /**
+     * Safely retrieves a {@code Object} value from an array at the specified
+     * index.
+     *
+     * @param <T>    the type of array elements
+     * @param source values the array to get
+     * @param index  the index of the element to retrieve
+     * @return an {@link Optional} containing the value if the index is valid, an empty {@link Optional} otherwise.
+     * @see Optional
+     */
+    public static <T> Optional<T> get(T[] source, int index) {
+        return source != null && index >= 0 && source.length > index ? Optional.of(source[index]) : Optional.empty();
+    }
+
+    /**
+     * Returns the component type of the specified array.
+     *
+     * <p>This method retrieves the {@code Class} object representing the type
+     * of elements in the given array.
+     *
+     * <p>If the input array is {@code null}, this method returns {@code null}.
+     *
+     * @param <T>    the type of array elements
+     * @param source the array whose component type is to be retrieved
+     * @return the {@code Class} object representing the component type of the array, or {@code null}
+     * if the input array is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Class<T> getComponentType(T[] source) {
+        return (source == null) ? null : (Class<T>) source.getClass().getComponentType();
+    }
+
+    /**
+     * Computes a 64-bit hash of the contents of the {@code boolean} array,
+     * suitable as a compact key for hash tables and caches.
+     *
+     * @param source the array to hash
+     * @return the 64-bit hash of the array contents, or 0 if the source is {@code null}
+     * @see #hash64(boolean[], int, int)
+     */
+    public static long hash64(boolean[] source) {
+        if (source == null) return 0;
+        return hash64(source, 0, source.length);
+    }
+
+    /**
+     * Computes a 64-bit hash of the {@code boolean} array elements between the
+     * {@code fromIndex} and {@code toIndex} indices.
+     *
+     * <p>The hash is deterministic across runs and not seeded, so it must
+     * not be used for keys that are chosen by an untrusted party.
+     *
+     * @param source    the array to hash
+     * @param fromIndex the starting index (inclusive) of the range to hash
+     * @param toIndex   the ending index (exclusive) of the range to hash
+     * @return the 64-bit hash of the range contents
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     */
+    public static long hash64(boolean[] source, int fromIndex, int toIndex) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(source.length, fromIndex, toIndex);
+
+        long hash = HASH_SEED;
+        for (int i = fromIndex; i < toIndex; i++) {
+            hash = mix64(hash, source[i] ? 1231 : 1237);
+        }
+
+        return finalizeHash(hash, toIndex - fromIndex);
+    }
+
+    /**
+     * Computes a 64-bit hash of the contents of the {@code byte} array,
+     * suitable as a compact key for hash tables and caches.
+     *
+     * <p>The bytes are consumed eight at a time as little-endian {@code long}
+     * words, so the hash costs roughly one multiply per eight bytes.
+     *
+     * @param source the array to hash
+     * @return the 64-bit hash of the array contents, or 0 if the source is {@code null}
+     * @see #hash64(byte[], int, int)
+     */
+    public static long hash64(byte[] source) {
+        if (source == null) return 0;
+        return hash64(source, 0, source.length);
+    }
+
+    /**
+     * Computes a 64-bit hash of the {@code byte} array elements between the
+     * {@code fromIndex} and {@code toIndex} indices.
+     *
+     * <p>The hash is deterministic across runs and not seeded, so it must
+     * not be used for keys that are chosen by an untrusted party.
+     *
+     * @param source    the array to hash
+     * @param fromIndex the starting index (inclusive) of the range to hash
+     * @param toIndex   the ending index (exclusive) of the range to hash
+     * @return the 64-bit hash of the range contents
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     */
+    public static long hash64(byte[] source, int fromIndex, int toIndex) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(source.length, fromIndex, toIndex);
+
+        long hash = HASH_SEED;
+        int i = fromIndex;
+        for (; i <= toIndex - Long.BYTES; i += Long.BYTES) {
+            hash = mix64(hash, (long) LONG_VIEW.get(source, i));
+        }
+        for (; i < toIndex; i++) {
+            hash = mix64(hash, source[i]);
+        }
+
+        return finalizeHash(hash, toIndex - fromIndex);
+    }
+
+    /**
+     * Computes a 64-bit hash of the contents of the {@code char} array,
+     * suitable as a compact key for hash tables and caches.
+     *
+     * @param source the array to hash
+     * @return the 64-bit hash of the array contents, or 0 if the source is {@code null}
+     * @see #hash64(char[], int, int)
+     */
+    public static long hash64(char[] source) {
+        if (source == null) return 0;
+        return hash64(source, 0, source.length);
+    }
+
+    /**
+     * Computes a 64-bit hash of the {@code char} array elements between the
+     * {@code fromIndex} and {@code toIndex} indices.
+     *
+     * <p>The hash is deterministic across runs and not seeded, so it must
+     * not be used for keys that are chosen by an untrusted party.
+     *
+     * @param source    the array to hash
+     * @param fromIndex the starting index (inclusive) of the range to hash
+     * @param toIndex   the ending index (exclusive) of the range to hash
+     * @return the 64-bit hash of the range contents
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     */
+    public static long hash64(char[] source, int fromIndex, int toIndex) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(source.length, fromIndex, toIndex);
+
+        long hash = HASH_SEED;
+        for (int i = fromIndex; i < toIndex; i++) {
+            hash = mix64(hash, source[i]);
+        }
+
+        return finalizeHash(hash, toIndex - fromIndex);
+    }
+
+    /**
+     * Computes a 64-bit hash of the contents of the {@code short} array,
+     * suitable as a compact key for hash tables and caches.
+     *
+     * @param source the array to hash
+     * @return the 64-bit hash of the array contents, or 0 if the source is {@code null}
+     * @see #hash64(short[], int, int)
+     */
+    public static long hash64(short[] source) {
+        if (source == null) return 0;
+        return hash64(source, 0, source.length);
+    }
+
+    /**
+     * Computes a 64-bit hash of the {@code short} array elements between the
+     * {@code fromIndex} and {@code toIndex} indices.
+     *
+     * <p>The hash is deterministic across runs and not seeded, so it must
+     * not be used for keys that are chosen by an untrusted party.
+     *
+     * @param source    the array to hash
+     * @param fromIndex the starting index (inclusive) of the range to hash
+     * @param toIndex   the ending index (exclusive) of the range to hash
+     * @return the 64-bit hash of the range contents
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     */
+    public static long hash64(short[] source, int fromIndex, int toIndex) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(source.length, fromIndex, toIndex);
+
+        long hash = HASH_SEED;
+        for (int i = fromIndex; i < toIndex; i++) {
+            hash = mix64(hash, source[i]);
+        }
+
+        return finalizeHash(hash, toIndex - fromIndex);
+    }
+
+    /**
+     * Computes a 64-bit hash of the contents of the {@code int} array,
+     * suitable as a compact key for hash tables and caches.
+     *
+     * @param source the array to hash
+     * @return the 64-bit hash of the array contents, or 0 if the source is {@code null}
+     * @see #hash64(int[], int, int)
+     */
+    public static long hash64(int[] source) {
+        if (source == null) return 0;
+        return hash64(source, 0, source.length);
+    }
+
+    /**
+     * Computes a 64-bit hash of the {@code int} array elements between the
+     * {@code fromIndex} and {@code toIndex} indices.
+     *
+     * <p>The hash is deterministic across runs and not seeded, so it must
+     * not be used for keys that are chosen by an untrusted party.
+     *
+     * @param source    the array to hash
+     * @param fromIndex the starting index (inclusive) of the range to hash
+     * @param toIndex   the ending index (exclusive) of the range to hash
+     * @return the 64-bit hash of the range contents
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     */
+    public static long hash64(int[] source, int fromIndex, int toIndex) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(source.length, fromIndex, toIndex);
+
+        long hash = HASH_SEED;
+        int i = fromIndex;
+        for (; i < toIndex - 1; i += 2) {
+            hash = mix64(hash, ((long) source[i] << 32) | (source[i + 1] & 0xFFFFFFFFL));
+        }
+        if (i < toIndex) hash = mix64(hash, source[i]);
+
+        return finalizeHash(hash, toIndex - fromIndex);
+    }
+
+    /**
+     * Computes a 64-bit hash of the contents of the {@code long} array,
+     * suitable as a compact key for hash tables and caches.
+     *
+     * @param source the array to hash
+     * @return the 64-bit hash of the array contents, or 0 if the source is {@code null}
+     * @see #hash64(long[], int, int)
+     */
+    public static long hash64(long[] source) {
+        if (source == null) return 0;
+        return hash64(source, 0, source.length);
+    }
+
+    /**
+     * Computes a 64-bit hash of the {@code long} array elements between the
+     * {@code fromIndex} and {@code toIndex} indices.
+     *
+     * <p>The hash is deterministic across runs and not seeded, so it must
+     * not be used for keys that are chosen by an untrusted party.
+     *
+     * @param source    the array to hash
+     * @param fromIndex the starting index (inclusive) of the range to hash
+     * @param toIndex   the ending index (exclusive) of the range to hash
+     * @return the 64-bit hash of the range contents
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     */
+    public static long hash64(long[] source, int fromIndex, int toIndex) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(source.length, fromIndex, toIndex);
+
+        long hash = HASH_SEED;
+        for (int i = fromIndex; i < toIndex; i++) {
+            hash = mix64(hash, source[i]);
+        }
+
+        return finalizeHash(hash, toIndex - fromIndex);
+    }
+
+    /**
+     * Computes a 64-bit hash of the contents of the {@code float} array,
+     * suitable as a compact key for hash tables and caches.
+     *
+     * <p>Elements are hashed by their canonical bit pattern, so arrays that
+     * are equal according to {@link #equals(float[], float[])} have the same
+     * hash.
+     *
+     * @param source the array to hash
+     * @return the 64-bit hash of the array contents, or 0 if the source is {@code null}
+     * @see #hash64(float[], int, int)
+     */
+    public static long hash64(float[] source) {
+        if (source == null) return 0;
+        return hash64(source, 0, source.length);
+    }
+
+    /**
+     * Computes a 64-bit hash of the {@code float} array elements between the
+     * {@code fromIndex} and {@code toIndex} indices.
+     *
+     * <p>The hash is deterministic across runs and not seeded, so it must
+     * not be used for keys that are chosen by an untrusted party.
+     *
+     * @param source    the array to hash
+     * @param fromIndex the starting index (inclusive) of the range to hash
+     * @param toIndex   the ending index (exclusive) of the range to hash
+     * @return the 64-bit hash of the range contents
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     */
+    public static long hash64(float[] source, int fromIndex, int toIndex) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(source.length, fromIndex, toIndex);
+
+        long hash = HASH_SEED;
+        for (int i = fromIndex; i < toIndex; i++) {
+            hash = mix64(hash, Float.floatToIntBits(source[i]));
+        }
+
+        return finalizeHash(hash, toIndex - fromIndex);
+    }
+
+    /**
+     * Computes a 64-bit hash of the contents of the {@code double} array,
+     * suitable as a compact key for hash tables and caches.
+     *
+     * <p>Elements are hashed by their canonical bit pattern, so arrays that
+     * are equal according to {@link #equals(double[], double[])} have the same
+     * hash.
+     *
+     * @param source the array to hash
+     * @return the 64-bit hash of the array contents, or 0 if the source is {@code null}
+     * @see #hash64(double[], int, int)
+     */
+    public static long hash64(double[] source) {
+        if (source == null) return 0;
+        return hash64(source, 0, source.length);
+    }
+
+    /**
+     * Computes a 64-bit hash of the {@code double} array elements between the
+     * {@code fromIndex} and {@code toIndex} indices.
+     *
+     * <p>The hash is deterministic across runs and not seeded, so it must
+     * not be used for keys that are chosen by an untrusted party.
+     *
+     * @param source    the array to hash
+     * @param fromIndex the starting index (inclusive) of the range to hash
+     * @param toIndex   the ending index (exclusive) of the range to hash
+     * @return the 64-bit hash of the range contents
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     */
+    public static long hash64(double[] source, int fromIndex, int toIndex) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(source.length, fromIndex, toIndex);
+
+        long hash = HASH_SEED;
+        for (int i = fromIndex; i < toIndex; i++) {
+            hash = mix64(hash, Double.doubleToLongBits(source[i]));
+        }
+
+        return finalizeHash(hash, toIndex - fromIndex);
+    }
+
+    /**
+     * Checks if the specified {@code boolean} array is not {@code null} and
+     * has a length greater than zero.
+     *
+     * @param source the boolean array to check
+     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     */
+    public static boolean hasLength(boolean[] source) {
+        return source != null && source.length > 0;
+    }
+
+    /**
+     * Checks if the specified {@code byte} array is not {@code null} and has a
+     * length greater than zero.
+     *
+     * @param source the byte array to check
+     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     */
+    public static boolean hasLength(byte[] source) {
+        return source != null && source.length > 0;
+    }
+
+    /**
+     * Checks if the specified {@code char} array is not {@code null} and has a
+     * length greater than zero.
+     *
+     * @param source the char array to check
+     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     */
+    public static boolean hasLength(char[] source) {
+        return source != null && source.length > 0;
+    }
+
+    /**
+     * Checks if the specified {@code short} array is not {@code null} and has
+     * a length greater than zero.
+     *
+     * @param source the short array to check
+     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     */
+    public static boolean hasLength(short[] source) {
+        return source != null && source.length > 0;
+    }
+
+    /**
+     * Checks if the specified {@code int} array is not {@code null} and has a
+     * length greater than zero.
+     *
+     * @param source the int array to check
+     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     */
+    public static boolean hasLength(int[] source) {
+        return source != null && source.length > 0;
+    }
+
+    /**
+     * Checks if the specified {@code long} array is not {@code null} and has a
+     * length greater than zero.
+     *
+     * @param source the long array to check
+     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     */
+    public static boolean hasLength(long[] source) {
+        return source != null && source.length > 0;
+    }
+
+    /**
+     * Checks if the specified {@code float} array is not {@code null} and has
+     * a length greater than zero.
+     *
+     * @param source the float array to check
+     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     */
+    public static boolean hasLength(float[] source) {
+        return source != null && source.length > 0;
+    }
+
+    /**
+     * Checks if the specified {@code double} array is not {@code null} and has
+     * a length greater than zero.
+     *
+     * @param source the double array to check
+     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     */
+    public static boolean hasLength(double[] source) {
+        return source != null && source.length > 0;
+    }
+
+    /**
+     * Checks if the specified {@code generic} array is not {@code null} and
+     * has a length greater than zero.
+     *
+     * @param <T>    the type of the array elements
+     * @param source the array to check
+     * @return {@code true}, if the array is not {@code null} and has at least one element, {@code false} otherwise
+     */
+    public static <T> boolean hasLength(T[] source) {
+        return source != null && source.length > 0;
+    }
+
+    /**
+     * Counts the occurrences of each value in the {@code byte} array in a
+     * single pass over a flat table of counts.
+     *
+     * <p>The count of a value {@code b} is stored at index
+     * {@code b & 0xFF}, so the table is indexed by the unsigned value of each
+     * byte.
+     *
+     * @param source the array to count the values of
+     * @return a new array of 256 counts, all zero if the source is {@code null}
+     */
+    public static int[] histogram(byte[] source) {
+        int[] counts = new int[1 << Byte.SIZE];
+        if (source == null) return counts;
+
+        for (byte value : source) {
+            counts[value & 0xFF]++;
+        }
+
+        return counts;
+    }
+
+    /**
+     * Counts the occurrences of each value in the {@code char} array in a
+     * single pass over a flat table of counts, indexed by the value of each
+     * character.
+     *
+     * @param source the array to count the values of
+     * @return a new array of 65536 counts, all zero if the source is {@code null}
+     */
+    public static int[] histogram(char[] source) {
+        int[] counts = new int[1 << Character.SIZE];
+        if (source == null) return counts;
+
+        for (char value : source) {
+            counts[value]++;
+        }
+
+        return counts;
+    }
+
+    /**
+     * Counts the values of the {@code double} array into equal-width buckets
+     * spanning the range from {@code min} to {@code max} in a single pass.
+     *
+     * <p>A value {@code v} falls into bucket
+     * {@code (int) ((v - min) / (max - min) * buckets)}, and a value equal to
+     * {@code max} falls into the last bucket. Values outside the range and
+     * {@code NaN} values are not counted.
+     *
+     * @param source  the array to count the values of
+     * @param min     the lower bound (inclusive) of the first bucket
+     * @param max     the upper bound (inclusive) of the last bucket
+     * @param buckets the number of buckets
+     * @return a new array of counts, one per bucket, all zero if the source is {@code null}
+     * @throws IllegalArgumentException if buckets is not positive, or min is not less than max
+     */
+    public static int[] histogram(double[] source, double min, double max, int buckets) {
+        if (buckets <= 0) throw new IllegalArgumentException("The buckets must be greater than 0");
+        if (!(min < max) || Double.isInfinite(max - min))
+            throw new IllegalArgumentException("The min must be less than the max and the range must be finite");
+
+        int[] counts = new int[buckets];
+        if (source == null) return counts;
+
+        double scale = buckets / (max - min);
+        for (double value : source) {
+            if (value >= min && value <= max) counts[Math.min((int) ((value - min) * scale), buckets - 1)]++;
+        }
+
+        return counts;
+    }
+
+    /**
+     * Finds the index of the given value in the array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return index of the value found in the array, {@code -1} otherwise
+     * @see #indexOf(boolean[], boolean, int)
+     */
+    public static int indexOf(boolean[] source, boolean element) {
+        return indexOf(source, element, 0);
+    }
+
+    /**
+     * Finds the index of the given value in the array starting at the given
+     * index.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return index of the value found in the array, {@code -1} otherwise
+     */
+
+    public static int indexOf(boolean[] source, boolean element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i < source.length; i++) {
+            if (source[i] == element) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the index of the given value in the array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return index of the value found in the array, {@code -1} otherwise
+     * @see #indexOf(byte[], byte, int)
+     */
+    public static int indexOf(byte[] source, byte element) {
+        return indexOf(source, element, 0);
+    }
+
+    /**
+     * Finds the index of the given value in the array starting at the given
+     * index.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return index of the value found in the array, {@code -1} otherwise
+     */
+
+    public static int indexOf(byte[] source, byte element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i < source.length; i++) {
+            if (source[i] == element) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the index of the given value in the array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return index of the value found in the array, {@code -1} otherwise
+     * @see #indexOf(char[], char, int)
+     */
+    public static int indexOf(char[] source, char element) {
+        return indexOf(source, element, 0);
+    }
+
+    /**
+     * Finds the index of the given value in the array starting at the given
+     * index.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return index of the value found in the array, {@code -1} otherwise
+     */
+
+    public static int indexOf(char[] source, char element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i < source.length; i++) {
+            if (source[i] == element) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the index of the given value in the array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return index of the value found in the array, {@code -1} otherwise
+     * @see #indexOf(short[], short, int)
+     */
+    public static int indexOf(short[] source, short element) {
+        return indexOf(source, element, 0);
+    }
+
+    /**
+     * Finds the index of the given value in the array starting at the given
+     * index.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return index of the value found in the array, {@code -1} otherwise
+     */
+
+    public static int indexOf(short[] source, short element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i < source.length; i++) {
+            if (source[i] == element) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the index of the given value in the array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return index of the value found in the array, {@code -1} otherwise
+     * @see #indexOf(int[], int, int)
+     */
+    public static int indexOf(int[] source, int element) {
+        return indexOf(source, element, 0);
+    }
+
+    /**
+     * Finds the index of the given value in the array starting at the given
+     * index.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return index of the value found in the array, {@code -1} otherwise
+     */
+
+    public static int indexOf(int[] source, int element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i < source.length; i++) {
+            if (source[i] == element) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the index of the given value in the array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return index of the value found in the array, {@code -1} otherwise
+     * @see #indexOf(long[], long, int)
+     */
+    public static int indexOf(long[] source, long element) {
+        return indexOf(source, element, 0);
+    }
+
+    /**
+     * Finds the index of the given value in the array starting at the given
+     * index.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return index of the value found in the array, {@code -1} otherwise
+     */
+
+    public static int indexOf(long[] source, long element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i < source.length; i++) {
+            if (source[i] == element) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the index of the given value in the array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return index of the value found in the array, {@code -1} otherwise
+     * @see #indexOf(float[], float, int)
+     */
+    public static int indexOf(float[] source, float element) {
+        return indexOf(source, element, 0);
+    }
+
+    /**
+     * Finds the index of the given value in the array starting at the given
+     * index.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return index of the value found in the array, {@code -1} otherwise
+     */
+
+    public static int indexOf(float[] source, float element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i < source.length; i++) {
+            if (source[i] == element) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the index of the given value in the array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return index of the value found in the array, {@code -1} otherwise
+     * @see #indexOf(double[], double, int)
+     */
+    public static int indexOf(double[] source, double element) {
+        return indexOf(source, element, 0);
+    }
+
+    /**
+     * Finds the index of the given value in the array starting at the given
+     * index.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return index of the value found in the array, {@code -1} otherwise
+     */
+
+    public static int indexOf(double[] source, double element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i < source.length; i++) {
+            if (source[i] == element) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the index of the given value in the array.
+     *
+     * @param <T>     the type of array elements
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return index of the value found in the array, {@code -1} otherwise
+     * @see #indexOf(Object[], Object, int)
+     */
+    public static <T> int indexOf(T[] source, T element) {
+        return indexOf(source, element, 0);
+    }
+
+    /**
+     * Finds the index of the given value in the array starting at the given
+     * index.
+     *
+     * @param <T>       the type of array elements
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return index of the value found in the array, {@code -1} otherwise
+     */
+    public static <T> int indexOf(T[] source, T element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return INDEX_NOT_FOUND;
+
+        if (element == null) {
+            for (int i = fromIndex; i < source.length; i++) {
+                if (source[i] == null) return i;
+            }
+        } else if (source.getClass().getComponentType().isInstance(element)) {
+            for (int i = fromIndex; i < source.length; i++) {
+                if (element == source[i]) return i;
+            }
+        }
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #indexesOf(boolean[], boolean, int)
+     */
+    public static BitSet indexesOf(boolean[] source, boolean element) {
+        return indexesOf(source, element, 0);
+    }
+
+    /**
+     * Finds the indices of the given value in the array starting at the given
+     * index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet indexesOf(boolean[] source, boolean element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex < source.length) {
+            fromIndex = indexOf(source, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            ++fromIndex;
+        }
+        return bitSet;
+    }
+
+    /**
+     * Finds the indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #indexesOf(byte[], byte, int)
+     */
+    public static BitSet indexesOf(byte[] source, byte element) {
+        return indexesOf(source, element, 0);
+    }
+
+    /**
+     * Finds the indices of the given value in the array starting at the given
+     * index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet indexesOf(byte[] source, byte element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex < source.length) {
+            fromIndex = indexOf(source, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            ++fromIndex;
+        }
+        return bitSet;
+    }
+
+    /**
+     * Finds the indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #indexesOf(char[], char, int)
+     */
+    public static BitSet indexesOf(char[] source, char element) {
+        return indexesOf(source, element, 0);
+    }
+
+    /**
+     * Finds the indices of the given value in the array starting at the given
+     * index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet indexesOf(char[] source, char element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex < source.length) {
+            fromIndex = indexOf(source, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            ++fromIndex;
+        }
+        return bitSet;
+    }
+
+    /**
+     * Finds the indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #indexesOf(short[], short, int)
+     */
+    public static BitSet indexesOf(short[] source, short element) {
+        return indexesOf(source, element, 0);
+    }
+
+    /**
+     * Finds the indices of the given value in the array starting at the given
+     * index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet indexesOf(short[] source, short element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex < source.length) {
+            fromIndex = indexOf(source, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            ++fromIndex;
+        }
+        return bitSet;
+    }
+
+    /**
+     * Finds the indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #indexesOf(int[], int, int)
+     */
+    public static BitSet indexesOf(int[] source, int element) {
+        return indexesOf(source, element, 0);
+    }
+
+    /**
+     * Finds the indices of the given value in the array starting at the given
+     * index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet indexesOf(int[] source, int element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex < source.length) {
+            fromIndex = indexOf(source, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            ++fromIndex;
+        }
+        return bitSet;
+    }
+
+    /**
+     * Finds the indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #indexesOf(long[], long, int)
+     */
+    public static BitSet indexesOf(long[] source, long element) {
+        return indexesOf(source, element, 0);
+    }
+
+    /**
+     * Finds the indices of the given value in the array starting at the given
+     * index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet indexesOf(long[] source, long element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex < source.length) {
+            fromIndex = indexOf(source, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            ++fromIndex;
+        }
+        return bitSet;
+    }
+
+    /**
+     * Finds the indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #indexesOf(float[], float, int)
+     */
+    public static BitSet indexesOf(float[] source, float element) {
+        return indexesOf(source, element, 0);
+    }
+
+    /**
+     * Finds the indices of the given value in the array starting at the given
+     * index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet indexesOf(float[] source, float element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex < source.length) {
+            fromIndex = indexOf(source, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            ++fromIndex;
+        }
+        return bitSet;
+    }
+
+    /**
+     * Finds the indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #indexesOf(double[], double, int)
+     */
+    public static BitSet indexesOf(double[] source, double element) {
+        return indexesOf(source, element, 0);
+    }
+
+    /**
+     * Finds the indices of the given value in the array starting at the given
+     * index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet indexesOf(double[] source, double element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex < source.length) {
+            fromIndex = indexOf(source, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            ++fromIndex;
+        }
+        return bitSet;
+    }
+
+    /**
+     * Finds the indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param <T>     the type of array elements
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #indexesOf(Object[], Object, int)
+     */
+    public static <T> BitSet indexesOf(T[] source, T element) {
+        return indexesOf(source, element, 0);
+    }
+
+    /**
+     * Finds the indices of the given value in the array starting at the given
+     * index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param <T>       the type of array elements
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static <T> BitSet indexesOf(T[] source, T element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex > source.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex < source.length) {
+            fromIndex = indexOf(source, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            ++fromIndex;
+        }
+
+        return bitSet;
+    }
+
+    /**
+     * Finds the last index of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @see #lastIndexOf(boolean[], boolean, int)
+     */
+    public static int lastIndexOf(boolean[] source, boolean element) {
+        if (!hasLength(source)) return INDEX_NOT_FOUND;
+        return lastIndexOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last index of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     */
+    public static int lastIndexOf(boolean[] source, boolean element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i >= 0; i--) {
+            if (element == source[i]) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the last index of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @see #lastIndexOf(byte[], byte, int)
+     */
+    public static int lastIndexOf(byte[] source, byte element) {
+        if (!hasLength(source)) return INDEX_NOT_FOUND;
+        return lastIndexOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last index of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     */
+    public static int lastIndexOf(byte[] source, byte element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i >= 0; i--) {
+            if (element == source[i]) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the last index of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @see #lastIndexOf(char[], char, int)
+     */
+    public static int lastIndexOf(char[] source, char element) {
+        if (!hasLength(source)) return INDEX_NOT_FOUND;
+        return lastIndexOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last index of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     */
+    public static int lastIndexOf(char[] source, char element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i >= 0; i--) {
+            if (element == source[i]) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the last index of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @see #lastIndexOf(short[], short, int)
+     */
+    public static int lastIndexOf(short[] source, short element) {
+        if (!hasLength(source)) return INDEX_NOT_FOUND;
+        return lastIndexOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last index of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     */
+    public static int lastIndexOf(short[] source, short element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i >= 0; i--) {
+            if (element == source[i]) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the last index of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @see #lastIndexOf(int[], int, int)
+     */
+    public static int lastIndexOf(int[] source, int element) {
+        if (!hasLength(source)) return INDEX_NOT_FOUND;
+        return lastIndexOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last index of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     */
+    public static int lastIndexOf(int[] source, int element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i >= 0; i--) {
+            if (element == source[i]) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the last index of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @see #lastIndexOf(long[], long, int)
+     */
+    public static int lastIndexOf(long[] source, long element) {
+        if (!hasLength(source)) return INDEX_NOT_FOUND;
+        return lastIndexOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last index of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     */
+    public static int lastIndexOf(long[] source, long element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i >= 0; i--) {
+            if (element == source[i]) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the last index of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @see #lastIndexOf(float[], float, int)
+     */
+    public static int lastIndexOf(float[] source, float element) {
+        if (!hasLength(source)) return INDEX_NOT_FOUND;
+        return lastIndexOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last index of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     */
+    public static int lastIndexOf(float[] source, float element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i >= 0; i--) {
+            if (element == source[i]) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the last index of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @see #lastIndexOf(double[], double, int)
+     */
+    public static int lastIndexOf(double[] source, double element) {
+        if (!hasLength(source)) return INDEX_NOT_FOUND;
+        return lastIndexOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last index of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     */
+    public static int lastIndexOf(double[] source, double element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+
+        for (int i = fromIndex; i >= 0; i--) {
+            if (element == source[i]) return i;
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the last index of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param <T>     the type of array elements
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @see #lastIndexOf(double[], double, int)
+     */
+    public static <T> int lastIndexOf(T[] source, T element) {
+        if (!hasLength(source)) return INDEX_NOT_FOUND;
+        return lastIndexOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last index of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns {@code -1} for a
+     * {@code null} input array.
+     *
+     * @param <T>       the type of array elements
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return the last index of the value found in the array, {@code -1} otherwise
+     */
+    public static <T> int lastIndexOf(T[] source, T element, int fromIndex) {
+        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+
+        if (element == null) {
+            for (int i = fromIndex; i >= 0; i--) {
+                if (source[i] == null) return i;
+            }
+        } else if (source.getClass().getComponentType().isInstance(element)) {
+            for (int i = fromIndex; i >= 0; i--) {
+                if (element == source[i]) return i;
+            }
+        }
+
+        return INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the last indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #lastIndexesOf(boolean[], boolean, int)
+     */
+    public static BitSet lastIndexesOf(boolean[] source, boolean element) {
+        if (!hasLength(source)) return new BitSet();
+        return lastIndexesOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last indices of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet lastIndexesOf(boolean[] source, boolean element, int fromIndex) {
+        if (!hasLength(source) || fromIndex <= 0 || fromIndex > source.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex >= 0) {
+            fromIndex = lastIndexOf(source, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            --fromIndex;
+        }
+
+        return bitSet;
+    }
+
+    /**
+     * Finds the last indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #lastIndexesOf(byte[], byte, int)
+     */
+    public static BitSet lastIndexesOf(byte[] source, byte element) {
+        if (!hasLength(source)) return new BitSet();
+        return lastIndexesOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last indices of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param values    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet lastIndexesOf(byte[] values, byte element, int fromIndex) {
+        if (!hasLength(values) || fromIndex <= 0 || fromIndex > values.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex >= 0) {
+            fromIndex = lastIndexOf(values, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            --fromIndex;
+        }
+
+        return bitSet;
+    }
+
+    /**
+     * Finds the last indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #lastIndexesOf(char[], char, int)
+     */
+    public static BitSet lastIndexesOf(char[] source, char element) {
+        if (!hasLength(source)) return new BitSet();
+        return lastIndexesOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last indices of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param values    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet lastIndexesOf(char[] values, char element, int fromIndex) {
+        if (!hasLength(values) || fromIndex <= 0 || fromIndex > values.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex >= 0) {
+            fromIndex = lastIndexOf(values, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            --fromIndex;
+        }
+
+        return bitSet;
+    }
+
+    /**
+     * Finds the last indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #lastIndexesOf(short[], short, int)
+     */
+    public static BitSet lastIndexesOf(short[] source, short element) {
+        if (!hasLength(source)) return new BitSet();
+        return lastIndexesOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last indices of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet lastIndexesOf(short[] source, short element, int fromIndex) {
+        if (!hasLength(source) || fromIndex <= 0 || fromIndex > source.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex >= 0) {
+            fromIndex = lastIndexOf(source, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            --fromIndex;
+        }
+
+        return bitSet;
+    }
+
+    /**
+     * Finds the last indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #lastIndexesOf(int[], int, int)
+     */
+    public static BitSet lastIndexesOf(int[] source, int element) {
+        if (!hasLength(source)) return new BitSet();
+        return lastIndexesOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last indices of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet lastIndexesOf(int[] source, int element, int fromIndex) {
+        if (!hasLength(source) || fromIndex <= 0 || fromIndex > source.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex >= 0) {
+            fromIndex = lastIndexOf(source, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            --fromIndex;
+        }
+
+        return bitSet;
+    }
+
+    /**
+     * Finds the last indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #lastIndexesOf(long[], long, int)
+     */
+    public static BitSet lastIndexesOf(long[] source, long element) {
+        if (!hasLength(source)) return new BitSet();
+        return lastIndexesOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last indices of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet lastIndexesOf(long[] source, long element, int fromIndex) {
+        if (!hasLength(source) || fromIndex <= 0 || fromIndex > source.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex >= 0) {
+            fromIndex = lastIndexOf(source, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            --fromIndex;
+        }
+
+        return bitSet;
+    }
+
+    /**
+     * Finds the last indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #lastIndexesOf(float[], float, int)
+     */
+    public static BitSet lastIndexesOf(float[] source, float element) {
+        if (!hasLength(source)) return new BitSet();
+        return lastIndexesOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last indices of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet lastIndexesOf(float[] source, float element, int fromIndex) {
+        if (!hasLength(source) || fromIndex <= 0 || fromIndex > source.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex >= 0) {
+            fromIndex = lastIndexOf(source, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            --fromIndex;
+        }
+
+        return bitSet;
+    }
+
+    /**
+     * Finds the last indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #lastIndexesOf(double[], double, int)
+     */
+    public static BitSet lastIndexesOf(double[] source, double element) {
+        if (!hasLength(source)) return new BitSet();
+        return lastIndexesOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last indices of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param values    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static BitSet lastIndexesOf(double[] values, double element, int fromIndex) {
+        if (!hasLength(values) || fromIndex <= 0 || fromIndex > values.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex >= 0) {
+            fromIndex = lastIndexOf(values, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            --fromIndex;
+        }
+
+        return bitSet;
+    }
+
+    /**
+     * Finds the last indices of the given value in the array.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param <T>     the type of array elements
+     * @param source  the array to search through for the object
+     * @param element the value to find
+     * @return a {@code BitSet} of all found indices
+     * @see #lastIndexesOf(double[], double, int)
+     */
+    public static <T> BitSet lastIndexesOf(T[] source, T element) {
+        if (!hasLength(source)) return new BitSet();
+        return lastIndexesOf(source, element, source.length - 1);
+    }
+
+    /**
+     * Finds the last indices of the given value in the array starting at the
+     * given index.
+     *
+     * <p><strong>Note:</strong> This method returns an empty BitSet for a
+     * {@code null} input array.
+     *
+     * @param <T>       the type of array elements
+     * @param values    the array to search through for the object
+     * @param element   the value to find
+     * @param fromIndex the index to start searching at
+     * @return a {@code BitSet} of all found indices
+     * @see BitSet
+     */
+    public static <T> BitSet lastIndexesOf(T[] values, T element, int fromIndex) {
+        if (!hasLength(values) || fromIndex <= 0 || fromIndex > values.length) return new BitSet();
+
+        BitSet bitSet = new BitSet();
+        while (fromIndex >= 0) {
+            fromIndex = lastIndexOf(values, element, fromIndex);
+            if (fromIndex == INDEX_NOT_FOUND) break;
+            bitSet.set(fromIndex);
+            --fromIndex;
+        }
+
+        return bitSet;
+    }
+
+    /**
+     * Merges all elements of the given {@code boolean} arrays into a new
+     * {@code boolean} array.
+     *
+     * @param array1 the first array whose elements are added to the new array
+     * @param array2 the second array whose elements are added to the new array
+     * @return the new merged {@code boolean} array
+     * @see #hasLength(boolean[])
+     * @see #clone(boolean[])
+     */
+    public static boolean[] merge(boolean[] array1, boolean[] array2) {
+        if (!hasLength(array1)) return clone(array2);
+        if (!hasLength(array2)) return clone(array1);
+
+        boolean[] joinedArray = new boolean[array1.length + array2.length];
+        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
+        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
+
+        return joinedArray;
+    }
+
+    /**
+     * Merges all elements of the given {@code byte} arrays into a new
+     * {@code byte} array.
+     *
+     * @param array1 the first array whose elements are added to the new array
+     * @param array2 the second array whose elements are added to the new array
+     * @return the new merged {@code byte} array
+     * @see #hasLength(byte[])
+     * @see #clone(byte[])
+     */
+    public static byte[] merge(byte[] array1, byte[] array2) {
+        if (!hasLength(array1)) return clone(array2);
+        if (!hasLength(array2)) return clone(array1);
+
+        byte[] joinedArray = new byte[array1.length + array2.length];
+        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
+        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
+
+        return joinedArray;
+    }
+
+    /**
+     * Merges all elements of the given {@code char} arrays into a new
+     * {@code char} array.
+     *
+     * @param array1 the first array whose elements are added to the new array
+     * @param array2 the second array whose elements are added to the new array
+     * @return the new merged {@code char} array
+     * @see #hasLength(char[])
+     * @see #clone(char[])
+     */
+    public static char[] merge(char[] array1, char[] array2) {
+        if (!hasLength(array1)) return clone(array2);
+        if (!hasLength(array2)) return clone(array1);
+
+        char[] joinedArray = new char[array1.length + array2.length];
+        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
+        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
+
+        return joinedArray;
+    }
+
+    /**
+     * Merges all elements of the given {@code short} arrays into a new
+     * {@code short} array.
+     *
+     * @param array1 the first array whose elements are added to the new array
+     * @param array2 the second array whose elements are added to the new array
+     * @return the new merged {@code short} array
+     * @see #hasLength(short[])
+     * @see #clone(short[])
+     */
+    public static short[] merge(short[] array1, short[] array2) {
+        if (!hasLength(array1)) return clone(array2);
+        if (!hasLength(array2)) return clone(array1);
+
+        short[] joinedArray = new short[array1.length + array2.length];
+        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
+        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
+
+        return joinedArray;
+    }
+
+    /**
+     * Merges all elements of the given {@code int} arrays into a new
+     * {@code int} array.
+     *
+     * @param array1 the first array whose elements are added to the new array
+     * @param array2 the second array whose elements are added to the new array
+     * @return the new merged {@code int} array
+     * @see #hasLength(int[])
+     * @see #clone(int[])
+     */
+    public static int[] merge(int[] array1, int[] array2) {
+        if (!hasLength(array1)) return clone(array2);
+        if (!hasLength(array2)) return clone(array1);
+
+        int[] joinedArray = new int[array1.length + array2.length];
+        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
+        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
+
+        return joinedArray;
+    }
+
+    /**
+     * Merges all elements of the given {@code long} arrays into a new
+     * {@code long} array.
+     *
+     * @param array1 the first array whose elements are added to the new array
+     * @param array2 the second array whose elements are added to the new array
+     * @return the new merged {@code long} array
+     * @see #hasLength(long[])
+     * @see #clone(long[])
+     */
+    public static long[] merge(long[] array1, long[] array2) {
+        if (!hasLength(array1)) return clone(array2);
+        if (!hasLength(array2)) return clone(array1);
+
+        long[] joinedArray = new long[array1.length + array2.length];
+        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
+        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
+
+        return joinedArray;
+    }
+
+    /**
+     * Merges all elements of the given {@code float} arrays into a new
+     * {@code float} array.
+     *
+     * @param array1 the first array whose elements are added to the new array
+     * @param array2 the second array whose elements are added to the new array
+     * @return the new merged {@code float} array
+     * @see #hasLength(float[])
+     * @see #clone(float[])
+     */
+    public static float[] merge(float[] array1, float[] array2) {
+        if (!hasLength(array1)) return clone(array2);
+        if (!hasLength(array2)) return clone(array1);
+
+        float[] joinedArray = new float[array1.length + array2.length];
+        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
+        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
+
+        return joinedArray;
+    }
+
+    /**
+     * Merges all elements of the given {@code double} arrays into a new
+     * {@code double} array.
+     *
+     * @param array1 the first array whose elements are added to the new array
+     * @param array2 the second array whose elements are added to the new array
+     * @return the new merged {@code double} array
+     * @see #hasLength(double[])
+     * @see #clone(double[])
+     */
+    public static double[] merge(double[] array1, double[] array2) {
+        if (!hasLength(array1)) return clone(array2);
+        if (!hasLength(array2)) return clone(array1);
+
+        double[] joinedArray = new double[array1.length + array2.length];
+        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
+        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
+
+        return joinedArray;
+    }
+
+    /**
+     * Merges all elements of the given {@code Object} arrays into a new
+     * {@code Object} array.
+     *
+     * @param <T>    the type of array elements
+     * @param array1 the first array whose elements are added to the new array
+     * @param array2 the second array whose elements are added to the new array
+     * @return the new merged {@code Object} array
+     * @see #hasLength(Object[])
+     * @see #clone(Object[])
+     */
+    public static <T> T[] merge(T[] array1, T[] array2) {
+        if (!hasLength(array1)) return clone(array2);
+        if (!hasLength(array2)) return clone(array1);
+
+        T[] joinedArray = Arrays.copyOf(array1, array1.length + array2.length);
+        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
+
+        return joinedArray;
+    }
+
+    /**
+     * Writes all elements of the given {@code boolean} arrays into the
+     * destination array, starting at the given offset, without allocating a
+     * new array. {@code Null} arrays are treated as {@code empty}.
+     *
+     * @param array1      the first array whose elements are written to the destination
+     * @param array2      the second array whose elements are written to the destination
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #merge(boolean[], boolean[])
+     */
+    public static int merge(boolean[] array1, boolean[] array2, boolean[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+
+        int length1 = array1 != null ? array1.length : 0;
+        int length2 = array2 != null ? array2.length : 0;
+        checkDestination(destination.length, offset, length1 + length2);
+
+        if (length1 > 0) System.arraycopy(array1, 0, destination, offset, length1);
+        if (length2 > 0) System.arraycopy(array2, 0, destination, offset + length1, length2);
+
+        return length1 + length2;
+    }
+
+    /**
+     * Writes all elements of the given {@code byte} arrays into the
+     * destination array, starting at the given offset, without allocating a
+     * new array. {@code Null} arrays are treated as {@code empty}.
+     *
+     * @param array1      the first array whose elements are written to the destination
+     * @param array2      the second array whose elements are written to the destination
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #merge(byte[], byte[])
+     */
+    public static int merge(byte[] array1, byte[] array2, byte[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+
+        int length1 = array1 != null ? array1.length : 0;
+        int length2 = array2 != null ? array2.length : 0;
+        checkDestination(destination.length, offset, length1 + length2);
+
+        if (length1 > 0) System.arraycopy(array1, 0, destination, offset, length1);
+        if (length2 > 0) System.arraycopy(array2, 0, destination, offset + length1, length2);
+
+        return length1 + length2;
+    }
+
+    /**
+     * Writes all elements of the given {@code char} arrays into the
+     * destination array, starting at the given offset, without allocating a
+     * new array. {@code Null} arrays are treated as {@code empty}.
+     *
+     * @param array1      the first array whose elements are written to the destination
+     * @param array2      the second array whose elements are written to the destination
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #merge(char[], char[])
+     */
+    public static int merge(char[] array1, char[] array2, char[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+
+        int length1 = array1 != null ? array1.length : 0;
+        int length2 = array2 != null ? array2.length : 0;
+        checkDestination(destination.length, offset, length1 + length2);
+
+        if (length1 > 0) System.arraycopy(array1, 0, destination, offset, length1);
+        if (length2 > 0) System.arraycopy(array2, 0, destination, offset + length1, length2);
+
+        return length1 + length2;
+    }
+
+    /**
+     * Writes all elements of the given {@code short} arrays into the
+     * destination array, starting at the given offset, without allocating a
+     * new array. {@code Null} arrays are treated as {@code empty}.
+     *
+     * @param array1      the first array whose elements are written to the destination
+     * @param array2      the second array whose elements are written to the destination
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #merge(short[], short[])
+     */
+    public static int merge(short[] array1, short[] array2, short[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+
+        int length1 = array1 != null ? array1.length : 0;
+        int length2 = array2 != null ? array2.length : 0;
+        checkDestination(destination.length, offset, length1 + length2);
+
+        if (length1 > 0) System.arraycopy(array1, 0, destination, offset, length1);
+        if (length2 > 0) System.arraycopy(array2, 0, destination, offset + length1, length2);
+
+        return length1 + length2;
+    }
+
+    /**
+     * Writes all elements of the given {@code int} arrays into the
+     * destination array, starting at the given offset, without allocating a
+     * new array. {@code Null} arrays are treated as {@code empty}.
+     *
+     * @param array1      the first array whose elements are written to the destination
+     * @param array2      the second array whose elements are written to the destination
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #merge(int[], int[])
+     */
+    public static int merge(int[] array1, int[] array2, int[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+
+        int length1 = array1 != null ? array1.length : 0;
+        int length2 = array2 != null ? array2.length : 0;
+        checkDestination(destination.length, offset, length1 + length2);
+
+        if (length1 > 0) System.arraycopy(array1, 0, destination, offset, length1);
+        if (length2 > 0) System.arraycopy(array2, 0, destination, offset + length1, length2);
+
+        return length1 + length2;
+    }
+
+    /**
+     * Writes all elements of the given {@code long} arrays into the
+     * destination array, starting at the given offset, without allocating a
+     * new array. {@code Null} arrays are treated as {@code empty}.
+     *
+     * @param array1      the first array whose elements are written to the destination
+     * @param array2      the second array whose elements are written to the destination
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #merge(long[], long[])
+     */
+    public static int merge(long[] array1, long[] array2, long[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+
+        int length1 = array1 != null ? array1.length : 0;
+        int length2 = array2 != null ? array2.length : 0;
+        checkDestination(destination.length, offset, length1 + length2);
+
+        if (length1 > 0) System.arraycopy(array1, 0, destination, offset, length1);
+        if (length2 > 0) System.arraycopy(array2, 0, destination, offset + length1, length2);
+
+        return length1 + length2;
+    }
+
+    /**
+     * Writes all elements of the given {@code float} arrays into the
+     * destination array, starting at the given offset, without allocating a
+     * new array. {@code Null} arrays are treated as {@code empty}.
+     *
+     * @param array1      the first array whose elements are written to the destination
+     * @param array2      the second array whose elements are written to the destination
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #merge(float[], float[])
+     */
+    public static int merge(float[] array1, float[] array2, float[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+
+        int length1 = array1 != null ? array1.length : 0;
+        int length2 = array2 != null ? array2.length : 0;
+        checkDestination(destination.length, offset, length1 + length2);
+
+        if (length1 > 0) System.arraycopy(array1, 0, destination, offset, length1);
+        if (length2 > 0) System.arraycopy(array2, 0, destination, offset + length1, length2);
+
+        return length1 + length2;
+    }
+
+    /**
+     * Writes all elements of the given {@code double} arrays into the
+     * destination array, starting at the given offset, without allocating a
+     * new array. {@code Null} arrays are treated as {@code empty}.
+     *
+     * @param array1      the first array whose elements are written to the destination
+     * @param array2      the second array whose elements are written to the destination
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #merge(double[], double[])
+     */
+    public static int merge(double[] array1, double[] array2, double[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+
+        int length1 = array1 != null ? array1.length : 0;
+        int length2 = array2 != null ? array2.length : 0;
+        checkDestination(destination.length, offset, length1 + length2);
+
+        if (length1 > 0) System.arraycopy(array1, 0, destination, offset, length1);
+        if (length2 > 0) System.arraycopy(array2, 0, destination, offset + length1, length2);
+
+        return length1 + length2;
+    }
+
+    /**
+     * Writes all elements of the given {@code Object} arrays into the
+     * destination array, starting at the given offset, without allocating a
+     * new array. {@code Null} arrays are treated as {@code empty}.
+     *
+     * @param <T>         the type of array elements
+     * @param array1      the first array whose elements are written to the destination
+     * @param array2      the second array whose elements are written to the destination
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #merge(Object[], Object[])
+     */
+    public static <T> int merge(T[] array1, T[] array2, T[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+
+        int length1 = array1 != null ? array1.length : 0;
+        int length2 = array2 != null ? array2.length : 0;
+        checkDestination(destination.length, offset, length1 + length2);
+
+        if (length1 > 0) System.arraycopy(array1, 0, destination, offset, length1);
+        if (length2 > 0) System.arraycopy(array2, 0, destination, offset + length1, length2);
+
+        return length1 + length2;
+    }
+
+    /**
+     * Finds the index of the first mismatch between two {@code boolean}
+     * arrays, using the vectorized {@link Arrays#mismatch(boolean[], boolean[])}
+     * kernel.
+     *
+     * <p>If one array is a proper prefix of the other, the returned index is
+     * the length of the shorter array.
+     *
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return the index of the first mismatch, or {@link #INDEX_NOT_FOUND} if the arrays are equal
+     * @throws IllegalArgumentException if either array is {@code null}
+     */
+    public static int mismatch(boolean[] array1, boolean[] array2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return Arrays.mismatch(array1, array2);
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between two
+     * {@code boolean} array ranges.
+     *
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return the index of the first mismatch relative to the start of the ranges, or
+     * {@link #INDEX_NOT_FOUND} if the ranges are equal
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#mismatch(boolean[], int, int, boolean[], int, int)
+     */
+    public static int mismatch(boolean[] array1, int fromIndex1, int toIndex1,
+                               boolean[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.mismatch(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
+    }
+
+    /**
+     * Finds the index of the first mismatch between two {@code byte}
+     * arrays, using the vectorized {@link Arrays#mismatch(byte[], byte[])}
+     * kernel.
+     *
+     * <p>If one array is a proper prefix of the other, the returned index is
+     * the length of the shorter array.
+     *
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return the index of the first mismatch, or {@link #INDEX_NOT_FOUND} if the arrays are equal
+     * @throws IllegalArgumentException if either array is {@code null}
+     */
+    public static int mismatch(byte[] array1, byte[] array2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return Arrays.mismatch(array1, array2);
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between two
+     * {@code byte} array ranges.
+     *
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return the index of the first mismatch relative to the start of the ranges, or
+     * {@link #INDEX_NOT_FOUND} if the ranges are equal
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#mismatch(byte[], int, int, byte[], int, int)
+     */
+    public static int mismatch(byte[] array1, int fromIndex1, int toIndex1,
+                               byte[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.mismatch(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
+    }
+
+    /**
+     * Finds the index of the first mismatch between two {@code char}
+     * arrays, using the vectorized {@link Arrays#mismatch(char[], char[])}
+     * kernel.
+     *
+     * <p>If one array is a proper prefix of the other, the returned index is
+     * the length of the shorter array.
+     *
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return the index of the first mismatch, or {@link #INDEX_NOT_FOUND} if the arrays are equal
+     * @throws IllegalArgumentException if either array is {@code null}
+     */
+    public static int mismatch(char[] array1, char[] array2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return Arrays.mismatch(array1, array2);
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between two
+     * {@code char} array ranges.
+     *
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return the index of the first mismatch relative to the start of the ranges, or
+     * {@link #INDEX_NOT_FOUND} if the ranges are equal
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#mismatch(char[], int, int, char[], int, int)
+     */
+    public static int mismatch(char[] array1, int fromIndex1, int toIndex1,
+                               char[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.mismatch(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
+    }
+
+    /**
+     * Finds the index of the first mismatch between two {@code short}
+     * arrays, using the vectorized {@link Arrays#mismatch(short[], short[])}
+     * kernel.
+     *
+     * <p>If one array is a proper prefix of the other, the returned index is
+     * the length of the shorter array.
+     *
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return the index of the first mismatch, or {@link #INDEX_NOT_FOUND} if the arrays are equal
+     * @throws IllegalArgumentException if either array is {@code null}
+     */
+    public static int mismatch(short[] array1, short[] array2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return Arrays.mismatch(array1, array2);
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between two
+     * {@code short} array ranges.
+     *
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return the index of the first mismatch relative to the start of the ranges, or
+     * {@link #INDEX_NOT_FOUND} if the ranges are equal
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#mismatch(short[], int, int, short[], int, int)
+     */
+    public static int mismatch(short[] array1, int fromIndex1, int toIndex1,
+                               short[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.mismatch(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
+    }
+
+    /**
+     * Finds the index of the first mismatch between two {@code int}
+     * arrays, using the vectorized {@link Arrays#mismatch(int[], int[])}
+     * kernel.
+     *
+     * <p>If one array is a proper prefix of the other, the returned index is
+     * the length of the shorter array.
+     *
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return the index of the first mismatch, or {@link #INDEX_NOT_FOUND} if the arrays are equal
+     * @throws IllegalArgumentException if either array is {@code null}
+     */
+    public static int mismatch(int[] array1, int[] array2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return Arrays.mismatch(array1, array2);
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between two
+     * {@code int} array ranges.
+     *
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return the index of the first mismatch relative to the start of the ranges, or
+     * {@link #INDEX_NOT_FOUND} if the ranges are equal
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#mismatch(int[], int, int, int[], int, int)
+     */
+    public static int mismatch(int[] array1, int fromIndex1, int toIndex1,
+                               int[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.mismatch(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
+    }
+
+    /**
+     * Finds the index of the first mismatch between two {@code long}
+     * arrays, using the vectorized {@link Arrays#mismatch(long[], long[])}
+     * kernel.
+     *
+     * <p>If one array is a proper prefix of the other, the returned index is
+     * the length of the shorter array.
+     *
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return the index of the first mismatch, or {@link #INDEX_NOT_FOUND} if the arrays are equal
+     * @throws IllegalArgumentException if either array is {@code null}
+     */
+    public static int mismatch(long[] array1, long[] array2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return Arrays.mismatch(array1, array2);
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between two
+     * {@code long} array ranges.
+     *
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return the index of the first mismatch relative to the start of the ranges, or
+     * {@link #INDEX_NOT_FOUND} if the ranges are equal
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#mismatch(long[], int, int, long[], int, int)
+     */
+    public static int mismatch(long[] array1, int fromIndex1, int toIndex1,
+                               long[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.mismatch(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
+    }
+
+    /**
+     * Finds the index of the first mismatch between two {@code float}
+     * arrays, using the vectorized {@link Arrays#mismatch(float[], float[])}
+     * kernel.
+     *
+     * <p>If one array is a proper prefix of the other, the returned index is
+     * the length of the shorter array.
+     *
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return the index of the first mismatch, or {@link #INDEX_NOT_FOUND} if the arrays are equal
+     * @throws IllegalArgumentException if either array is {@code null}
+     */
+    public static int mismatch(float[] array1, float[] array2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return Arrays.mismatch(array1, array2);
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between two
+     * {@code float} array ranges.
+     *
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return the index of the first mismatch relative to the start of the ranges, or
+     * {@link #INDEX_NOT_FOUND} if the ranges are equal
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#mismatch(float[], int, int, float[], int, int)
+     */
+    public static int mismatch(float[] array1, int fromIndex1, int toIndex1,
+                               float[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.mismatch(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
+    }
+
+    /**
+     * Finds the index of the first mismatch between two {@code double}
+     * arrays, using the vectorized {@link Arrays#mismatch(double[], double[])}
+     * kernel.
+     *
+     * <p>If one array is a proper prefix of the other, the returned index is
+     * the length of the shorter array.
+     *
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return the index of the first mismatch, or {@link #INDEX_NOT_FOUND} if the arrays are equal
+     * @throws IllegalArgumentException if either array is {@code null}
+     */
+    public static int mismatch(double[] array1, double[] array2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return Arrays.mismatch(array1, array2);
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between two
+     * {@code double} array ranges.
+     *
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return the index of the first mismatch relative to the start of the ranges, or
+     * {@link #INDEX_NOT_FOUND} if the ranges are equal
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#mismatch(double[], int, int, double[], int, int)
+     */
+    public static int mismatch(double[] array1, int fromIndex1, int toIndex1,
+                               double[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.mismatch(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
+    }
+
+    /**
+     * Finds the index of the first mismatch between two {@code Object}
+     * arrays, using the vectorized {@link Arrays#mismatch(Object[], Object[])}
+     * kernel.
+     *
+     * <p>If one array is a proper prefix of the other, the returned index is
+     * the length of the shorter array.
+     *
+     * @param <T>    the type of array elements
+     * @param array1 the first array to check
+     * @param array2 the second array to check
+     * @return the index of the first mismatch, or {@link #INDEX_NOT_FOUND} if the arrays are equal
+     * @throws IllegalArgumentException if either array is {@code null}
+     */
+    public static <T> int mismatch(T[] array1, T[] array2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return Arrays.mismatch(array1, array2);
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between two
+     * {@code Object} array ranges.
+     *
+     * @param <T>        the type of array elements
+     * @param array1     the first array to check
+     * @param fromIndex1 the starting index (inclusive) of the range in the first array
+     * @param toIndex1   the ending index (exclusive) of the range in the first array
+     * @param array2     the second array to check
+     * @param fromIndex2 the starting index (inclusive) of the range in the second array
+     * @param toIndex2   the ending index (exclusive) of the range in the second array
+     * @return the index of the first mismatch relative to the start of the ranges, or
+     * {@link #INDEX_NOT_FOUND} if the ranges are equal
+     * @throws IllegalArgumentException  if either array is {@code null}
+     * @throws IndexOutOfBoundsException if a range is invalid
+     * @see Arrays#mismatch(Object[], int, int, Object[], int, int)
+     */
+    public static <T> int mismatch(T[] array1, int fromIndex1, int toIndex1,
+                                   T[] array2, int fromIndex2, int toIndex2) {
+        if (array1 == null || array2 == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        checkRange(array1.length, fromIndex1, toIndex1);
+        checkRange(array2.length, fromIndex2, toIndex2);
+
+        return Arrays.mismatch(array1, fromIndex1, toIndex1, array2, fromIndex2, toIndex2);
+    }
+
+    /**
+     * Replaces each element of the {@code int} array with the sum of itself
+     * and all preceding elements (an inclusive prefix sum), in place.
+     *
+     * <p>Arrays of at least 65536 elements are scanned in parallel with
+     * {@link Arrays#parallelPrefix(int[], IntBinaryOperator)}.
+     * The sums wrap around on overflow, as {@code int} addition does.
+     *
+     * @param source the array to scan
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #exclusivePrefixSum(int[])
+     */
+    public static int[] prefixSum(int[] source) {
+        if (source == null) return null;
+
+        if (source.length >= PARALLEL_SCAN_THRESHOLD) {
+            Arrays.parallelPrefix(source, Integer::sum);
+        } else {
+            for (int i = 1; i < source.length; i++) {
+                source[i] += source[i - 1];
+            }
+        }
+
+        return source;
+    }
+
+    /**
+     * Replaces each element of the {@code long} array with the sum of itself
+     * and all preceding elements (an inclusive prefix sum), in place.
+     *
+     * <p>Arrays of at least 65536 elements are scanned in parallel with
+     * {@link Arrays#parallelPrefix(long[], LongBinaryOperator)}.
+     * The sums wrap around on overflow, as {@code long} addition does.
+     *
+     * @param source the array to scan
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #exclusivePrefixSum(long[])
+     */
+    public static long[] prefixSum(long[] source) {
+        if (source == null) return null;
+
+        if (source.length >= PARALLEL_SCAN_THRESHOLD) {
+            Arrays.parallelPrefix(source, Long::sum);
+        } else {
+            for (int i = 1; i < source.length; i++) {
+                source[i] += source[i - 1];
+            }
+        }
+
+        return source;
+    }
+
+    /**
+     * Replaces each element of the {@code float} array with the sum of itself
+     * and all preceding elements (an inclusive prefix sum), in place.
+     *
+     * <p>The sums are always accumulated sequentially from left to right, so
+     * the rounding of the result does not depend on the array length.
+     *
+     * @param source the array to scan
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #exclusivePrefixSum(float[])
+     */
+    public static float[] prefixSum(float[] source) {
+        if (source == null) return null;
+
+        for (int i = 1; i < source.length; i++) {
+            source[i] += source[i - 1];
+        }
+
+        return source;
+    }
+
+    /**
+     * Replaces each element of the {@code double} array with the sum of itself
+     * and all preceding elements (an inclusive prefix sum), in place.
+     *
+     * <p>The sums are always accumulated sequentially from left to right, so
+     * the rounding of the result does not depend on the array length.
+     *
+     * @param source the array to scan
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #exclusivePrefixSum(double[])
+     */
+    public static double[] prefixSum(double[] source) {
+        if (source == null) return null;
+
+        for (int i = 1; i < source.length; i++) {
+            source[i] += source[i - 1];
+        }
+
+        return source;
+    }
+
+    /**
+     * Removes the given {@code boolean} element at the given index in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @param index  the position of the element to be removed
+     * @return new array containing the existing elements except the element at the specified position
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    public static boolean[] remove(boolean[] source, int index) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+
+        boolean[] newArray = new boolean[source.length - 1];
+        System.arraycopy(source, 0, newArray, 0, index);
+        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
+        return newArray;
+    }
+
+    /**
+     * Removes the given {@code byte} element at the given index in the array.
+     *
+     * @param source the array to remove the element from
+     * @param index  the position of the element to be removed
+     * @return new array containing the existing elements except the element at the specified position
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    public static byte[] remove(byte[] source, int index) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+
+        byte[] newArray = new byte[source.length - 1];
+        System.arraycopy(source, 0, newArray, 0, index);
+        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
+        return newArray;
+    }
+
+    /**
+     * Removes the given {@code char} element at the given index in the array.
+     *
+     * @param source the array to remove the element from
+     * @param index  the position of the element to be removed
+     * @return new array containing the existing elements except the element at the specified position
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    public static char[] remove(char[] source, int index) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+
+        char[] newArray = new char[source.length - 1];
+        System.arraycopy(source, 0, newArray, 0, index);
+        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
+        return newArray;
+    }
+
+    /**
+     * Removes the given {@code short} element at the given index in the array.
+     *
+     * @param source the array to remove the element from
+     * @param index  the position of the element to be removed
+     * @return new array containing the existing elements except the element at the specified position
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    public static short[] remove(short[] source, int index) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+
+        short[] newArray = new short[source.length - 1];
+        System.arraycopy(source, 0, newArray, 0, index);
+        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
+        return newArray;
+    }
+
+    /**
+     * Removes the given {@code int} element at the given index in the array.
+     *
+     * @param source the array to remove the element from
+     * @param index  the position of the element to be removed
+     * @return new array containing the existing elements except the element at the specified position
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    public static int[] remove(int[] source, int index) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+
+        int[] newArray = new int[source.length - 1];
+        System.arraycopy(source, 0, newArray, 0, index);
+        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
+        return newArray;
+    }
+
+    /**
+     * Removes the given {@code long} element at the given index in the array.
+     *
+     * @param source the array to remove the element from
+     * @param index  the position of the element to be removed
+     * @return new array containing the existing elements except the element at the specified position
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    public static long[] remove(long[] source, int index) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+
+        long[] newArray = new long[source.length - 1];
+        System.arraycopy(source, 0, newArray, 0, index);
+        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
+        return newArray;
+    }
+
+    /**
+     * Removes the given {@code float} element at the given index in the array.
+     *
+     * @param source the array to remove the element from
+     * @param index  the position of the element to be removed
+     * @return new array containing the existing elements except the element at the specified position
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    public static float[] remove(float[] source, int index) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+
+        float[] newArray = new float[source.length - 1];
+        System.arraycopy(source, 0, newArray, 0, index);
+        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
+        return newArray;
+    }
+
+    /**
+     * Removes the given {@code double} element at the given index in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @param index  the position of the element to be removed
+     * @return new array containing the existing elements except the element at the specified position
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    public static double[] remove(double[] source, int index) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+
+        double[] newArray = new double[source.length - 1];
+        System.arraycopy(source, 0, newArray, 0, index);
+        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
+        return newArray;
+    }
+
+    /**
+     * Removes the given {@code Object} element at the given index in the
+     * array.
+     *
+     * @param <T>    the type of array elements
+     * @param source the array to remove the element from
+     * @param index  the position of the element to be removed
+     * @return new array containing the existing elements except the element at the specified position
+     * @throws IllegalArgumentException  if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index is invalid
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T[] remove(T[] source, int index) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+
+        T[] newArray = (T[]) Array.newInstance(source.getClass().getComponentType(), source.length - 1);
+        System.arraycopy(source, 0, newArray, 0, index);
+        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
+        return newArray;
+    }
+
+    /**
+     * Writes the elements of the {@code boolean} array except the element
+     * at the given index into the destination array, starting at the given
+     * offset, without allocating a new array.
+     *
+     * @param source      the array to remove the element from
+     * @param index       the position of the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #remove(boolean[], int)
+     */
+    public static int remove(boolean[] source, int index, boolean[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length - 1);
+
+        System.arraycopy(source, 0, destination, offset, index);
+        System.arraycopy(source, index + 1, destination, offset + index, source.length - index - 1);
+        return source.length - 1;
+    }
+
+    /**
+     * Writes the elements of the {@code byte} array except the element
+     * at the given index into the destination array, starting at the given
+     * offset, without allocating a new array.
+     *
+     * @param source      the array to remove the element from
+     * @param index       the position of the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #remove(byte[], int)
+     */
+    public static int remove(byte[] source, int index, byte[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length - 1);
+
+        System.arraycopy(source, 0, destination, offset, index);
+        System.arraycopy(source, index + 1, destination, offset + index, source.length - index - 1);
+        return source.length - 1;
+    }
+
+    /**
+     * Writes the elements of the {@code char} array except the element
+     * at the given index into the destination array, starting at the given
+     * offset, without allocating a new array.
+     *
+     * @param source      the array to remove the element from
+     * @param index       the position of the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #remove(char[], int)
+     */
+    public static int remove(char[] source, int index, char[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length - 1);
+
+        System.arraycopy(source, 0, destination, offset, index);
+        System.arraycopy(source, index + 1, destination, offset + index, source.length - index - 1);
+        return source.length - 1;
+    }
+
+    /**
+     * Writes the elements of the {@code short} array except the element
+     * at the given index into the destination array, starting at the given
+     * offset, without allocating a new array.
+     *
+     * @param source      the array to remove the element from
+     * @param index       the position of the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #remove(short[], int)
+     */
+    public static int remove(short[] source, int index, short[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length - 1);
+
+        System.arraycopy(source, 0, destination, offset, index);
+        System.arraycopy(source, index + 1, destination, offset + index, source.length - index - 1);
+        return source.length - 1;
+    }
+
+    /**
+     * Writes the elements of the {@code int} array except the element
+     * at the given index into the destination array, starting at the given
+     * offset, without allocating a new array.
+     *
+     * @param source      the array to remove the element from
+     * @param index       the position of the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #remove(int[], int)
+     */
+    public static int remove(int[] source, int index, int[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length - 1);
+
+        System.arraycopy(source, 0, destination, offset, index);
+        System.arraycopy(source, index + 1, destination, offset + index, source.length - index - 1);
+        return source.length - 1;
+    }
+
+    /**
+     * Writes the elements of the {@code long} array except the element
+     * at the given index into the destination array, starting at the given
+     * offset, without allocating a new array.
+     *
+     * @param source      the array to remove the element from
+     * @param index       the position of the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #remove(long[], int)
+     */
+    public static int remove(long[] source, int index, long[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length - 1);
+
+        System.arraycopy(source, 0, destination, offset, index);
+        System.arraycopy(source, index + 1, destination, offset + index, source.length - index - 1);
+        return source.length - 1;
+    }
+
+    /**
+     * Writes the elements of the {@code float} array except the element
+     * at the given index into the destination array, starting at the given
+     * offset, without allocating a new array.
+     *
+     * @param source      the array to remove the element from
+     * @param index       the position of the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #remove(float[], int)
+     */
+    public static int remove(float[] source, int index, float[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length - 1);
+
+        System.arraycopy(source, 0, destination, offset, index);
+        System.arraycopy(source, index + 1, destination, offset + index, source.length - index - 1);
+        return source.length - 1;
+    }
+
+    /**
+     * Writes the elements of the {@code double} array except the element
+     * at the given index into the destination array, starting at the given
+     * offset, without allocating a new array.
+     *
+     * @param source      the array to remove the element from
+     * @param index       the position of the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #remove(double[], int)
+     */
+    public static int remove(double[] source, int index, double[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length - 1);
+
+        System.arraycopy(source, 0, destination, offset, index);
+        System.arraycopy(source, index + 1, destination, offset + index, source.length - index - 1);
+        return source.length - 1;
+    }
+
+    /**
+     * Writes the elements of the {@code Object} array except the element
+     * at the given index into the destination array, starting at the given
+     * offset, without allocating a new array.
+     *
+     * @param <T>         the type of array elements
+     * @param source      the array to remove the element from
+     * @param index       the position of the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the source or destination is {@code null}
+     * @throws IndexOutOfBoundsException if index or offset is invalid, or the destination is too small
+     * @see #remove(Object[], int)
+     */
+    public static <T> int remove(T[] source, int index, T[] destination, int offset) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (index < 0 || index >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+        checkDestination(destination.length, offset, source.length - 1);
+
+        System.arraycopy(source, 0, destination, offset, index);
+        System.arraycopy(source, index + 1, destination, offset + index, source.length - index - 1);
+        return source.length - 1;
+    }
+
+    /**
+     * Removes the given {@code boolean} element at in the first position in
+     * the array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the first position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static boolean[] removeFirst(boolean[] source) {
+        return remove(source, 0);
+    }
+
+    /**
+     * Removes the given {@code byte} element at in the first position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the first position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static byte[] removeFirst(byte[] source) {
+        return remove(source, 0);
+    }
+
+    /**
+     * Removes the given {@code char} element at in the first position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the first position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static char[] removeFirst(char[] source) {
+        return remove(source, 0);
+    }
+
+    /**
+     * Removes the given {@code short} element at in the first position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the first position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static short[] removeFirst(short[] source) {
+        return remove(source, 0);
+    }
+
+    /**
+     * Removes the given {@code int} element at in the first position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the first position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static int[] removeFirst(int[] source) {
+        return remove(source, 0);
+    }
+
+    /**
+     * Removes the given {@code long} element at in the first position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the first position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static long[] removeFirst(long[] source) {
+        return remove(source, 0);
+    }
+
+    /**
+     * Removes the given {@code float} element at in the first position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the first position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static float[] removeFirst(float[] source) {
+        return remove(source, 0);
+    }
+
+    /**
+     * Removes the given {@code double} element at in the first position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the first position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static double[] removeFirst(double[] source) {
+        return remove(source, 0);
+    }
+
+    /**
+     * Removes the given {@code Object} element at in the first position in the
+     * array.
+     *
+     * @param <T>    the type of array elements
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the first position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static <T> T[] removeFirst(T[] source) {
+        return remove(source, 0);
+    }
+
+    /**
+     * Removes the given {@code boolean} element at in the last position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the last position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static boolean[] removeLast(boolean[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return remove(source, source.length - 1);
+    }
+
+    /**
+     * Removes the given {@code byte} element at in the last position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the last position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static byte[] removeLast(byte[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return remove(source, source.length - 1);
+    }
+
+    /**
+     * Removes the given {@code char} element at in the last position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the last position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static char[] removeLast(char[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return remove(source, source.length - 1);
+    }
+
+    /**
+     * Removes the given {@code short} element at in the last position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the last position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static short[] removeLast(short[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return remove(source, source.length - 1);
+    }
+
+    /**
+     * Removes the given {@code int} element at in the last position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the last position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static int[] removeLast(int[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return remove(source, source.length - 1);
+    }
+
+    /**
+     * Removes the given {@code long} element at in the last position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the last position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static long[] removeLast(long[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return remove(source, source.length - 1);
+    }
+
+    /**
+     * Removes the given {@code float} element at in the last position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the last position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static float[] removeLast(float[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return remove(source, source.length - 1);
+    }
+
+    /**
+     * Removes the given {@code double} element at in the last position in the
+     * array.
+     *
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the last position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static double[] removeLast(double[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return remove(source, source.length - 1);
+    }
+
+    /**
+     * Removes the given {@code Object} element at in the last position in the
+     * array.
+     *
+     * @param <T>    the type of array elements
+     * @param source the array to remove the element from
+     * @return new array containing the existing elements except the element at the last position
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static <T> T[] removeLast(T[] source) {
+        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
+        return remove(source, source.length - 1);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the specified
+     * array. All subsequent elements are shifted to the left. If the array
+     * doesn't contain such an element, no elements are removed from the array.
+     *
+     * <p>This method returns a new array with the same elements of the input
+     * array except the first occurrence of the specified element. The
+     * component type of the returned array is always the same as that of the
+     * input array.
+     *
+     * @param source  the type of array elements
+     * @param element the element to be removed
+     * @return A new array containing the existing elements except the first occurrence of the specified element
+     */
+    public static boolean[] removeElement(boolean[] source, boolean element) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the specified
+     * array. All subsequent elements are shifted to the left. If the array
+     * doesn't contain such an element, no elements are removed from the array.
+     *
+     * <p>This method returns a new array with the same elements of the input
+     * array except the first occurrence of the specified element. The
+     * component type of the returned array is always the same as that of the
+     * input array.
+     *
+     * @param source  the type of array elements
+     * @param element the element to be removed
+     * @return A new array containing the existing elements except the first occurrence of the specified element
+     */
+    public static byte[] removeElement(byte[] source, byte element) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the specified
+     * array. All subsequent elements are shifted to the left. If the array
+     * doesn't contain such an element, no elements are removed from the array.
+     *
+     * <p>This method returns a new array with the same elements of the input
+     * array except the first occurrence of the specified element. The
+     * component type of the returned array is always the same as that of the
+     * input array.
+     *
+     * @param source  the type of array elements
+     * @param element the element to be removed
+     * @return A new array containing the existing elements except the first occurrence of the specified element
+     */
+    public static char[] removeElement(char[] source, char element) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the specified
+     * array. All subsequent elements are shifted to the left. If the array
+     * doesn't contain such an element, no elements are removed from the array.
+     *
+     * <p>This method returns a new array with the same elements of the input
+     * array except the first occurrence of the specified element. The
+     * component type of the returned array is always the same as that of the
+     * input array.
+     *
+     * @param source  the type of array elements
+     * @param element the element to be removed
+     * @return A new array containing the existing elements except the first occurrence of the specified element
+     */
+    public static short[] removeElement(short[] source, short element) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the specified
+     * array. All subsequent elements are shifted to the left. If the array
+     * doesn't contain such an element, no elements are removed from the array.
+     *
+     * <p>This method returns a new array with the same elements of the input
+     * array except the first occurrence of the specified element. The
+     * component type of the returned array is always the same as that of the
+     * input array.
+     *
+     * @param source  the type of array elements
+     * @param element the element to be removed
+     * @return A new array containing the existing elements except the first occurrence of the specified element
+     */
+    public static int[] removeElement(int[] source, int element) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the specified
+     * array. All subsequent elements are shifted to the left. If the array
+     * doesn't contain such an element, no elements are removed from the array.
+     *
+     * <p>This method returns a new array with the same elements of the input
+     * array except the first occurrence of the specified element. The
+     * component type of the returned array is always the same as that of the
+     * input array.
+     *
+     * @param source  the type of array elements
+     * @param element the element to be removed
+     * @return A new array containing the existing elements except the first occurrence of the specified element
+     */
+    public static long[] removeElement(long[] source, long element) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the specified
+     * array. All subsequent elements are shifted to the left. If the array
+     * doesn't contain such an element, no elements are removed from the array.
+     *
+     * <p>This method returns a new array with the same elements of the input
+     * array except the first occurrence of the specified element. The
+     * component type of the returned array is always the same as that of the
+     * input array.
+     *
+     * @param source  the type of array elements
+     * @param element the element to be removed
+     * @return A new array containing the existing elements except the first occurrence of the specified element
+     */
+    public static float[] removeElement(float[] source, float element) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the specified
+     * array. All subsequent elements are shifted to the left. If the array
+     * doesn't contain such an element, no elements are removed from the array.
+     *
+     * <p>This method returns a new array with the same elements of the input
+     * array except the first occurrence of the specified element. The
+     * component type of the returned array is always the same as that of the
+     * input array.
+     *
+     * @param source  the type of array elements
+     * @param element the element to be removed
+     * @return A new array containing the existing elements except the first occurrence of the specified element
+     */
+    public static double[] removeElement(double[] source, double element) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the specified
+     * array. All subsequent elements are shifted to the left. If the array
+     * doesn't contain such an element, no elements are removed from the array.
+     *
+     * <p>This method returns a new array with the same elements of the input
+     * array except the first occurrence of the specified element. The
+     * component type of the returned array is always the same as that of the
+     * input array.
+     *
+     * @param <T>     the type of array elements
+     * @param source  the type of array elements
+     * @param element the element to be removed
+     * @return A new array containing the existing elements except the first occurrence of the specified element
+     */
+    public static <T> T[] removeElement(T[] source, T element) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    }
+
+    /**
+     * Writes the elements of the {@code boolean} array except the first
+     * occurrence of the specified element into the destination array,
+     * starting at the given offset, without allocating a new array. If the
+     * array doesn't contain such an element, all elements are written.
+     * {@code Null} source input writes no elements.
+     *
+     * @param source      the array to remove the element from
+     * @param element     the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #removeElement(boolean[], boolean)
+     */
+    public static int removeElement(boolean[] source, boolean element, boolean[] destination, int offset) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND
+                ? clone(source, destination, offset)
+                : remove(source, index, destination, offset);
+    }
+
+    /**
+     * Writes the elements of the {@code byte} array except the first
+     * occurrence of the specified element into the destination array,
+     * starting at the given offset, without allocating a new array. If the
+     * array doesn't contain such an element, all elements are written.
+     * {@code Null} source input writes no elements.
+     *
+     * @param source      the array to remove the element from
+     * @param element     the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #removeElement(byte[], byte)
+     */
+    public static int removeElement(byte[] source, byte element, byte[] destination, int offset) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND
+                ? clone(source, destination, offset)
+                : remove(source, index, destination, offset);
+    }
+
+    /**
+     * Writes the elements of the {@code char} array except the first
+     * occurrence of the specified element into the destination array,
+     * starting at the given offset, without allocating a new array. If the
+     * array doesn't contain such an element, all elements are written.
+     * {@code Null} source input writes no elements.
+     *
+     * @param source      the array to remove the element from
+     * @param element     the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #removeElement(char[], char)
+     */
+    public static int removeElement(char[] source, char element, char[] destination, int offset) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND
+                ? clone(source, destination, offset)
+                : remove(source, index, destination, offset);
+    }
+
+    /**
+     * Writes the elements of the {@code short} array except the first
+     * occurrence of the specified element into the destination array,
+     * starting at the given offset, without allocating a new array. If the
+     * array doesn't contain such an element, all elements are written.
+     * {@code Null} source input writes no elements.
+     *
+     * @param source      the array to remove the element from
+     * @param element     the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #removeElement(short[], short)
+     */
+    public static int removeElement(short[] source, short element, short[] destination, int offset) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND
+                ? clone(source, destination, offset)
+                : remove(source, index, destination, offset);
+    }
+
+    /**
+     * Writes the elements of the {@code int} array except the first
+     * occurrence of the specified element into the destination array,
+     * starting at the given offset, without allocating a new array. If the
+     * array doesn't contain such an element, all elements are written.
+     * {@code Null} source input writes no elements.
+     *
+     * @param source      the array to remove the element from
+     * @param element     the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #removeElement(int[], int)
+     */
+    public static int removeElement(int[] source, int element, int[] destination, int offset) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND
+                ? clone(source, destination, offset)
+                : remove(source, index, destination, offset);
+    }
+
+    /**
+     * Writes the elements of the {@code long} array except the first
+     * occurrence of the specified element into the destination array,
+     * starting at the given offset, without allocating a new array. If the
+     * array doesn't contain such an element, all elements are written.
+     * {@code Null} source input writes no elements.
+     *
+     * @param source      the array to remove the element from
+     * @param element     the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #removeElement(long[], long)
+     */
+    public static int removeElement(long[] source, long element, long[] destination, int offset) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND
+                ? clone(source, destination, offset)
+                : remove(source, index, destination, offset);
+    }
+
+    /**
+     * Writes the elements of the {@code float} array except the first
+     * occurrence of the specified element into the destination array,
+     * starting at the given offset, without allocating a new array. If the
+     * array doesn't contain such an element, all elements are written.
+     * {@code Null} source input writes no elements.
+     *
+     * @param source      the array to remove the element from
+     * @param element     the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #removeElement(float[], float)
+     */
+    public static int removeElement(float[] source, float element, float[] destination, int offset) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND
+                ? clone(source, destination, offset)
+                : remove(source, index, destination, offset);
+    }
+
+    /**
+     * Writes the elements of the {@code double} array except the first
+     * occurrence of the specified element into the destination array,
+     * starting at the given offset, without allocating a new array. If the
+     * array doesn't contain such an element, all elements are written.
+     * {@code Null} source input writes no elements.
+     *
+     * @param source      the array to remove the element from
+     * @param element     the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #removeElement(double[], double)
+     */
+    public static int removeElement(double[] source, double element, double[] destination, int offset) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND
+                ? clone(source, destination, offset)
+                : remove(source, index, destination, offset);
+    }
+
+    /**
+     * Writes the elements of the {@code Object} array except the first
+     * occurrence of the specified element into the destination array,
+     * starting at the given offset, without allocating a new array. If the
+     * array doesn't contain such an element, all elements are written.
+     * {@code Null} source input writes no elements.
+     *
+     * @param <T>         the type of array elements
+     * @param source      the array to remove the element from
+     * @param element     the element to be removed
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #removeElement(Object[], Object)
+     */
+    public static <T> int removeElement(T[] source, T element, T[] destination, int offset) {
+        final int index = indexOf(source, element);
+        return index == INDEX_NOT_FOUND
+                ? clone(source, destination, offset)
+                : remove(source, index, destination, offset);
+    }
+
+    /**
+     * Reverses the order of the elements of the {@code boolean} array in
+     * place.
+     *
+     * @param source the array to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #reverse(boolean[], int, int)
+     */
+    public static boolean[] reverse(boolean[] source) {
+        if (source == null) return null;
+        return reverse(source, 0, source.length);
+    }
+
+    /**
+     * Reverses the order of the elements of the {@code boolean} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place.
+     *
+     * @param source    the array to reverse
+     * @param fromIndex the starting index (inclusive) of the range to reverse
+     * @param toIndex   the ending index (exclusive) of the range to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     */
+    public static boolean[] reverse(boolean[] source, int fromIndex, int toIndex) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        for (int i = fromIndex, k = toIndex - 1; i < k; i++, k--) {
+            boolean temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
+        }
+
+        return source;
+    }
+
+    /**
+     * Reverses the order of the elements of the {@code byte} array in
+     * place.
+     *
+     * @param source the array to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #reverse(byte[], int, int)
+     */
+    public static byte[] reverse(byte[] source) {
+        if (source == null) return null;
+        return reverse(source, 0, source.length);
     }
 
     /**
-     * Finds the last index of the given value in the array starting at the
-     * given index.
-     *
-     * <p><strong>Note:</strong> This method returns {@code -1} for a
-     * {@code null} input array.
+     * Reverses the order of the elements of the {@code byte} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place.
      *
-     * @param <T>       the type of array elements
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return the last index of the value found in the array, {@code -1} otherwise
+     * @param source    the array to reverse
+     * @param fromIndex the starting index (inclusive) of the range to reverse
+     * @param toIndex   the ending index (exclusive) of the range to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static <T> int lastIndexOf(T[] source, T element, int fromIndex) {
-        if (!hasLength(source) || fromIndex < 0 || fromIndex >= source.length) return INDEX_NOT_FOUND;
+    public static byte[] reverse(byte[] source, int fromIndex, int toIndex) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        if (element == null) {
-            for (int i = fromIndex; i >= 0; i--) {
-                if (source[i] == null) return i;
-            }
-        } else if (source.getClass().getComponentType().isInstance(element)) {
-            for (int i = fromIndex; i >= 0; i--) {
-                if (element == source[i]) return i;
-            }
+        for (int i = fromIndex, k = toIndex - 1; i < k; i++, k--) {
+            byte temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
         }
 
-        return INDEX_NOT_FOUND;
+        return source;
     }
 
     /**
-     * Finds the last indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Reverses the order of the elements of the {@code char} array in
+     * place.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #lastIndexesOf(boolean[], boolean, int)
+     * @param source the array to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #reverse(char[], int, int)
      */
-    public static BitSet lastIndexesOf(boolean[] source, boolean element) {
-        if (!hasLength(source)) return new BitSet();
-        return lastIndexesOf(source, element, source.length - 1);
+    public static char[] reverse(char[] source) {
+        if (source == null) return null;
+        return reverse(source, 0, source.length);
     }
 
     /**
-     * Finds the last indices of the given value in the array starting at the
-     * given index.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Reverses the order of the elements of the {@code char} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param source    the array to reverse
+     * @param fromIndex the starting index (inclusive) of the range to reverse
+     * @param toIndex   the ending index (exclusive) of the range to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static BitSet lastIndexesOf(boolean[] source, boolean element, int fromIndex) {
-        if (!hasLength(source) || fromIndex <= 0 || fromIndex > source.length) return new BitSet();
+    public static char[] reverse(char[] source, int fromIndex, int toIndex) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex >= 0) {
-            fromIndex = lastIndexOf(source, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            --fromIndex;
+        for (int i = fromIndex, k = toIndex - 1; i < k; i++, k--) {
+            char temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
         }
 
-        return bitSet;
+        return source;
     }
 
     /**
-     * Finds the last indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Reverses the order of the elements of the {@code short} array in
+     * place.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #lastIndexesOf(byte[], byte, int)
+     * @param source the array to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #reverse(short[], int, int)
      */
-    public static BitSet lastIndexesOf(byte[] source, byte element) {
-        if (!hasLength(source)) return new BitSet();
-        return lastIndexesOf(source, element, source.length - 1);
+    public static short[] reverse(short[] source) {
+        if (source == null) return null;
+        return reverse(source, 0, source.length);
     }
 
     /**
-     * Finds the last indices of the given value in the array starting at the
-     * given index.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Reverses the order of the elements of the {@code short} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place.
      *
-     * @param values    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param source    the array to reverse
+     * @param fromIndex the starting index (inclusive) of the range to reverse
+     * @param toIndex   the ending index (exclusive) of the range to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static BitSet lastIndexesOf(byte[] values, byte element, int fromIndex) {
-        if (!hasLength(values) || fromIndex <= 0 || fromIndex > values.length) return new BitSet();
+    public static short[] reverse(short[] source, int fromIndex, int toIndex) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex >= 0) {
-            fromIndex = lastIndexOf(values, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            --fromIndex;
+        for (int i = fromIndex, k = toIndex - 1; i < k; i++, k--) {
+            short temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
         }
 
-        return bitSet;
+        return source;
     }
 
     /**
-     * Finds the last indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Reverses the order of the elements of the {@code int} array in
+     * place.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #lastIndexesOf(char[], char, int)
+     * @param source the array to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #reverse(int[], int, int)
      */
-    public static BitSet lastIndexesOf(char[] source, char element) {
-        if (!hasLength(source)) return new BitSet();
-        return lastIndexesOf(source, element, source.length - 1);
+    public static int[] reverse(int[] source) {
+        if (source == null) return null;
+        return reverse(source, 0, source.length);
     }
 
     /**
-     * Finds the last indices of the given value in the array starting at the
-     * given index.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Reverses the order of the elements of the {@code int} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place.
      *
-     * @param values    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param source    the array to reverse
+     * @param fromIndex the starting index (inclusive) of the range to reverse
+     * @param toIndex   the ending index (exclusive) of the range to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static BitSet lastIndexesOf(char[] values, char element, int fromIndex) {
-        if (!hasLength(values) || fromIndex <= 0 || fromIndex > values.length) return new BitSet();
+    public static int[] reverse(int[] source, int fromIndex, int toIndex) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex >= 0) {
-            fromIndex = lastIndexOf(values, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            --fromIndex;
+        for (int i = fromIndex, k = toIndex - 1; i < k; i++, k--) {
+            int temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
         }
 
-        return bitSet;
+        return source;
     }
 
     /**
-     * Finds the last indices of the given value in the array.
+     * Reverses the order of the elements of the {@code long} array in
+     * place.
      *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
-     *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #lastIndexesOf(short[], short, int)
+     * @param source the array to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #reverse(long[], int, int)
      */
-    public static BitSet lastIndexesOf(short[] source, short element) {
-        if (!hasLength(source)) return new BitSet();
-        return lastIndexesOf(source, element, source.length - 1);
+    public static long[] reverse(long[] source) {
+        if (source == null) return null;
+        return reverse(source, 0, source.length);
     }
 
     /**
-     * Finds the last indices of the given value in the array starting at the
-     * given index.
+     * Reverses the order of the elements of the {@code long} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place.
      *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
-     *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param source    the array to reverse
+     * @param fromIndex the starting index (inclusive) of the range to reverse
+     * @param toIndex   the ending index (exclusive) of the range to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static BitSet lastIndexesOf(short[] source, short element, int fromIndex) {
-        if (!hasLength(source) || fromIndex <= 0 || fromIndex > source.length) return new BitSet();
+    public static long[] reverse(long[] source, int fromIndex, int toIndex) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex >= 0) {
-            fromIndex = lastIndexOf(source, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            --fromIndex;
+        for (int i = fromIndex, k = toIndex - 1; i < k; i++, k--) {
+            long temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
         }
 
-        return bitSet;
+        return source;
     }
 
     /**
-     * Finds the last indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Reverses the order of the elements of the {@code float} array in
+     * place.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #lastIndexesOf(int[], int, int)
+     * @param source the array to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #reverse(float[], int, int)
      */
-    public static BitSet lastIndexesOf(int[] source, int element) {
-        if (!hasLength(source)) return new BitSet();
-        return lastIndexesOf(source, element, source.length - 1);
+    public static float[] reverse(float[] source) {
+        if (source == null) return null;
+        return reverse(source, 0, source.length);
     }
 
     /**
-     * Finds the last indices of the given value in the array starting at the
-     * given index.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Reverses the order of the elements of the {@code float} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param source    the array to reverse
+     * @param fromIndex the starting index (inclusive) of the range to reverse
+     * @param toIndex   the ending index (exclusive) of the range to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static BitSet lastIndexesOf(int[] source, int element, int fromIndex) {
-        if (!hasLength(source) || fromIndex <= 0 || fromIndex > source.length) return new BitSet();
+    public static float[] reverse(float[] source, int fromIndex, int toIndex) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex >= 0) {
-            fromIndex = lastIndexOf(source, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            --fromIndex;
+        for (int i = fromIndex, k = toIndex - 1; i < k; i++, k--) {
+            float temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
         }
 
-        return bitSet;
+        return source;
     }
 
     /**
-     * Finds the last indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Reverses the order of the elements of the {@code double} array in
+     * place.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #lastIndexesOf(long[], long, int)
+     * @param source the array to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #reverse(double[], int, int)
      */
-    public static BitSet lastIndexesOf(long[] source, long element) {
-        if (!hasLength(source)) return new BitSet();
-        return lastIndexesOf(source, element, source.length - 1);
+    public static double[] reverse(double[] source) {
+        if (source == null) return null;
+        return reverse(source, 0, source.length);
     }
 
     /**
-     * Finds the last indices of the given value in the array starting at the
-     * given index.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Reverses the order of the elements of the {@code double} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param source    the array to reverse
+     * @param fromIndex the starting index (inclusive) of the range to reverse
+     * @param toIndex   the ending index (exclusive) of the range to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static BitSet lastIndexesOf(long[] source, long element, int fromIndex) {
-        if (!hasLength(source) || fromIndex <= 0 || fromIndex > source.length) return new BitSet();
+    public static double[] reverse(double[] source, int fromIndex, int toIndex) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex >= 0) {
-            fromIndex = lastIndexOf(source, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            --fromIndex;
+        for (int i = fromIndex, k = toIndex - 1; i < k; i++, k--) {
+            double temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
         }
 
-        return bitSet;
+        return source;
     }
 
     /**
-     * Finds the last indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Reverses the order of the elements of the {@code Object} array in
+     * place.
      *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #lastIndexesOf(float[], float, int)
+     * @param <T>    the type of array elements
+     * @param source the array to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #reverse(Object[], int, int)
      */
-    public static BitSet lastIndexesOf(float[] source, float element) {
-        if (!hasLength(source)) return new BitSet();
-        return lastIndexesOf(source, element, source.length - 1);
+    public static <T> T[] reverse(T[] source) {
+        if (source == null) return null;
+        return reverse(source, 0, source.length);
     }
 
     /**
-     * Finds the last indices of the given value in the array starting at the
-     * given index.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Reverses the order of the elements of the {@code Object} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place.
      *
-     * @param source    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
-     */
-    public static BitSet lastIndexesOf(float[] source, float element, int fromIndex) {
-        if (!hasLength(source) || fromIndex <= 0 || fromIndex > source.length) return new BitSet();
-
-        BitSet bitSet = new BitSet();
-        while (fromIndex >= 0) {
-            fromIndex = lastIndexOf(source, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            --fromIndex;
+     * @param <T>       the type of array elements
+     * @param source    the array to reverse
+     * @param fromIndex the starting index (inclusive) of the range to reverse
+     * @param toIndex   the ending index (exclusive) of the range to reverse
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     */
+    public static <T> T[] reverse(T[] source, int fromIndex, int toIndex) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        for (int i = fromIndex, k = toIndex - 1; i < k; i++, k--) {
+            T temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
         }
 
-        return bitSet;
+        return source;
     }
 
     /**
-     * Finds the last indices of the given value in the array.
+     * Rotates the elements of the {@code boolean} array in place by the
+     * specified distance. The element at index {@code i} is moved to index
+     * {@code (i + distance) mod source.length}, so a negative distance
+     * rotates the elements towards the start of the array.
      *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
-     *
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #lastIndexesOf(double[], double, int)
+     * @param source   the array to rotate
+     * @param distance the distance to rotate the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #rotate(boolean[], int, int, int)
      */
-    public static BitSet lastIndexesOf(double[] source, double element) {
-        if (!hasLength(source)) return new BitSet();
-        return lastIndexesOf(source, element, source.length - 1);
+    public static boolean[] rotate(boolean[] source, int distance) {
+        if (source == null) return null;
+        return rotate(source, 0, source.length, distance);
     }
 
     /**
-     * Finds the last indices of the given value in the array starting at the
-     * given index.
+     * Rotates the elements of the {@code boolean} array between the
+     * {@code fromIndex} and {@code toIndex} indices in place by the
+     * specified distance.
      *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * <p>The rotation is performed with three reversals, so no temporary
+     * array is allocated.
      *
-     * @param values    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param source    the array to rotate
+     * @param fromIndex the starting index (inclusive) of the range to rotate
+     * @param toIndex   the ending index (exclusive) of the range to rotate
+     * @param distance  the distance to rotate the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see java.util.Collections#rotate(java.util.List, int)
      */
-    public static BitSet lastIndexesOf(double[] values, double element, int fromIndex) {
-        if (!hasLength(values) || fromIndex <= 0 || fromIndex > values.length) return new BitSet();
+    public static boolean[] rotate(boolean[] source, int fromIndex, int toIndex, int distance) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex >= 0) {
-            fromIndex = lastIndexOf(values, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            --fromIndex;
-        }
+        int length = toIndex - fromIndex;
+        int shift = length > 1 ? Math.floorMod(distance, length) : 0;
+        if (shift == 0) return source;
 
-        return bitSet;
+        reverse(source, fromIndex, toIndex);
+        reverse(source, fromIndex, fromIndex + shift);
+        reverse(source, fromIndex + shift, toIndex);
+        return source;
     }
 
     /**
-     * Finds the last indices of the given value in the array.
-     *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * Rotates the elements of the {@code byte} array in place by the
+     * specified distance. The element at index {@code i} is moved to index
+     * {@code (i + distance) mod source.length}, so a negative distance
+     * rotates the elements towards the start of the array.
      *
-     * @param <T>     the type of array elements
-     * @param source  the array to search through for the object
-     * @param element the value to find
-     * @return a {@code BitSet} of all found indices
-     * @see #lastIndexesOf(double[], double, int)
+     * @param source   the array to rotate
+     * @param distance the distance to rotate the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #rotate(byte[], int, int, int)
      */
-    public static <T> BitSet lastIndexesOf(T[] source, T element) {
-        if (!hasLength(source)) return new BitSet();
-        return lastIndexesOf(source, element, source.length - 1);
+    public static byte[] rotate(byte[] source, int distance) {
+        if (source == null) return null;
+        return rotate(source, 0, source.length, distance);
     }
 
     /**
-     * Finds the last indices of the given value in the array starting at the
-     * given index.
+     * Rotates the elements of the {@code byte} array between the
+     * {@code fromIndex} and {@code toIndex} indices in place by the
+     * specified distance.
      *
-     * <p><strong>Note:</strong> This method returns an empty BitSet for a
-     * {@code null} input array.
+     * <p>The rotation is performed with three reversals, so no temporary
+     * array is allocated.
      *
-     * @param <T>       the type of array elements
-     * @param values    the array to search through for the object
-     * @param element   the value to find
-     * @param fromIndex the index to start searching at
-     * @return a {@code BitSet} of all found indices
-     * @see BitSet
+     * @param source    the array to rotate
+     * @param fromIndex the starting index (inclusive) of the range to rotate
+     * @param toIndex   the ending index (exclusive) of the range to rotate
+     * @param distance  the distance to rotate the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see java.util.Collections#rotate(java.util.List, int)
      */
-    public static <T> BitSet lastIndexesOf(T[] values, T element, int fromIndex) {
-        if (!hasLength(values) || fromIndex <= 0 || fromIndex > values.length) return new BitSet();
+    public static byte[] rotate(byte[] source, int fromIndex, int toIndex, int distance) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        BitSet bitSet = new BitSet();
-        while (fromIndex >= 0) {
-            fromIndex = lastIndexOf(values, element, fromIndex);
-            if (fromIndex == INDEX_NOT_FOUND) break;
-            bitSet.set(fromIndex);
-            --fromIndex;
-        }
+        int length = toIndex - fromIndex;
+        int shift = length > 1 ? Math.floorMod(distance, length) : 0;
+        if (shift == 0) return source;
 
-        return bitSet;
+        reverse(source, fromIndex, toIndex);
+        reverse(source, fromIndex, fromIndex + shift);
+        reverse(source, fromIndex + shift, toIndex);
+        return source;
     }
 
     /**
-     * Merges all elements of the given {@code boolean} arrays into a new
-     * {@code boolean} array.
+     * Rotates the elements of the {@code char} array in place by the
+     * specified distance. The element at index {@code i} is moved to index
+     * {@code (i + distance) mod source.length}, so a negative distance
+     * rotates the elements towards the start of the array.
      *
-     * @param array1 the first array whose elements are added to the new array
-     * @param array2 the second array whose elements are added to the new array
-     * @return the new merged {@code boolean} array
-     * @see #hasLength(boolean[])
-     * @see #clone(boolean[])
+     * @param source   the array to rotate
+     * @param distance the distance to rotate the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #rotate(char[], int, int, int)
      */
-    public static boolean[] merge(boolean[] array1, boolean[] array2) {
-        if (!hasLength(array1)) return clone(array2);
-        if (!hasLength(array2)) return clone(array1);
-
-        boolean[] joinedArray = new boolean[array1.length + array2.length];
-        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
-        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
-
-        return joinedArray;
+    public static char[] rotate(char[] source, int distance) {
+        if (source == null) return null;
+        return rotate(source, 0, source.length, distance);
     }
 
     /**
-     * Merges all elements of the given {@code byte} arrays into a new
-     * {@code byte} array.
+     * Rotates the elements of the {@code char} array between the
+     * {@code fromIndex} and {@code toIndex} indices in place by the
+     * specified distance.
      *
-     * @param array1 the first array whose elements are added to the new array
-     * @param array2 the second array whose elements are added to the new array
-     * @return the new merged {@code byte} array
-     * @see #hasLength(byte[])
-     * @see #clone(byte[])
+     * <p>The rotation is performed with three reversals, so no temporary
+     * array is allocated.
+     *
+     * @param source    the array to rotate
+     * @param fromIndex the starting index (inclusive) of the range to rotate
+     * @param toIndex   the ending index (exclusive) of the range to rotate
+     * @param distance  the distance to rotate the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see java.util.Collections#rotate(java.util.List, int)
      */
-    public static byte[] merge(byte[] array1, byte[] array2) {
-        if (!hasLength(array1)) return clone(array2);
-        if (!hasLength(array2)) return clone(array1);
+    public static char[] rotate(char[] source, int fromIndex, int toIndex, int distance) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        byte[] joinedArray = new byte[array1.length + array2.length];
-        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
-        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
+        int length = toIndex - fromIndex;
+        int shift = length > 1 ? Math.floorMod(distance, length) : 0;
+        if (shift == 0) return source;
 
-        return joinedArray;
+        reverse(source, fromIndex, toIndex);
+        reverse(source, fromIndex, fromIndex + shift);
+        reverse(source, fromIndex + shift, toIndex);
+        return source;
     }
 
     /**
-     * Merges all elements of the given {@code char} arrays into a new
-     * {@code char} array.
+     * Rotates the elements of the {@code short} array in place by the
+     * specified distance. The element at index {@code i} is moved to index
+     * {@code (i + distance) mod source.length}, so a negative distance
+     * rotates the elements towards the start of the array.
      *
-     * @param array1 the first array whose elements are added to the new array
-     * @param array2 the second array whose elements are added to the new array
-     * @return the new merged {@code char} array
-     * @see #hasLength(char[])
-     * @see #clone(char[])
+     * @param source   the array to rotate
+     * @param distance the distance to rotate the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #rotate(short[], int, int, int)
      */
-    public static char[] merge(char[] array1, char[] array2) {
-        if (!hasLength(array1)) return clone(array2);
-        if (!hasLength(array2)) return clone(array1);
-
-        char[] joinedArray = new char[array1.length + array2.length];
-        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
-        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
-
-        return joinedArray;
+    public static short[] rotate(short[] source, int distance) {
+        if (source == null) return null;
+        return rotate(source, 0, source.length, distance);
     }
 
     /**
-     * Merges all elements of the given {@code short} arrays into a new
-     * {@code short} array.
+     * Rotates the elements of the {@code short} array between the
+     * {@code fromIndex} and {@code toIndex} indices in place by the
+     * specified distance.
      *
-     * @param array1 the first array whose elements are added to the new array
-     * @param array2 the second array whose elements are added to the new array
-     * @return the new merged {@code short} array
-     * @see #hasLength(short[])
-     * @see #clone(short[])
+     * <p>The rotation is performed with three reversals, so no temporary
+     * array is allocated.
+     *
+     * @param source    the array to rotate
+     * @param fromIndex the starting index (inclusive) of the range to rotate
+     * @param toIndex   the ending index (exclusive) of the range to rotate
+     * @param distance  the distance to rotate the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see java.util.Collections#rotate(java.util.List, int)
      */
-    public static short[] merge(short[] array1, short[] array2) {
-        if (!hasLength(array1)) return clone(array2);
-        if (!hasLength(array2)) return clone(array1);
+    public static short[] rotate(short[] source, int fromIndex, int toIndex, int distance) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        short[] joinedArray = new short[array1.length + array2.length];
-        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
-        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
+        int length = toIndex - fromIndex;
+        int shift = length > 1 ? Math.floorMod(distance, length) : 0;
+        if (shift == 0) return source;
 
-        return joinedArray;
+        reverse(source, fromIndex, toIndex);
+        reverse(source, fromIndex, fromIndex + shift);
+        reverse(source, fromIndex + shift, toIndex);
+        return source;
     }
 
     /**
-     * Merges all elements of the given {@code int} arrays into a new
-     * {@code int} array.
+     * Rotates the elements of the {@code int} array in place by the
+     * specified distance. The element at index {@code i} is moved to index
+     * {@code (i + distance) mod source.length}, so a negative distance
+     * rotates the elements towards the start of the array.
      *
-     * @param array1 the first array whose elements are added to the new array
-     * @param array2 the second array whose elements are added to the new array
-     * @return the new merged {@code int} array
-     * @see #hasLength(int[])
-     * @see #clone(int[])
+     * @param source   the array to rotate
+     * @param distance the distance to rotate the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #rotate(int[], int, int, int)
      */
-    public static int[] merge(int[] array1, int[] array2) {
-        if (!hasLength(array1)) return clone(array2);
-        if (!hasLength(array2)) return clone(array1);
-
-        int[] joinedArray = new int[array1.length + array2.length];
-        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
-        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
-
-        return joinedArray;
+    public static int[] rotate(int[] source, int distance) {
+        if (source == null) return null;
+        return rotate(source, 0, source.length, distance);
     }
 
     /**
-     * Merges all elements of the given {@code long} arrays into a new
-     * {@code long} array.
+     * Rotates the elements of the {@code int} array between the
+     * {@code fromIndex} and {@code toIndex} indices in place by the
+     * specified distance.
      *
-     * @param array1 the first array whose elements are added to the new array
-     * @param array2 the second array whose elements are added to the new array
-     * @return the new merged {@code long} array
-     * @see #hasLength(long[])
-     * @see #clone(long[])
+     * <p>The rotation is performed with three reversals, so no temporary
+     * array is allocated.
+     *
+     * @param source    the array to rotate
+     * @param fromIndex the starting index (inclusive) of the range to rotate
+     * @param toIndex   the ending index (exclusive) of the range to rotate
+     * @param distance  the distance to rotate the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see java.util.Collections#rotate(java.util.List, int)
      */
-    public static long[] merge(long[] array1, long[] array2) {
-        if (!hasLength(array1)) return clone(array2);
-        if (!hasLength(array2)) return clone(array1);
+    public static int[] rotate(int[] source, int fromIndex, int toIndex, int distance) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        long[] joinedArray = new long[array1.length + array2.length];
-        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
-        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
+        int length = toIndex - fromIndex;
+        int shift = length > 1 ? Math.floorMod(distance, length) : 0;
+        if (shift == 0) return source;
 
-        return joinedArray;
+        reverse(source, fromIndex, toIndex);
+        reverse(source, fromIndex, fromIndex + shift);
+        reverse(source, fromIndex + shift, toIndex);
+        return source;
     }
 
     /**
-     * Merges all elements of the given {@code float} arrays into a new
-     * {@code float} array.
+     * Rotates the elements of the {@code long} array in place by the
+     * specified distance. The element at index {@code i} is moved to index
+     * {@code (i + distance) mod source.length}, so a negative distance
+     * rotates the elements towards the start of the array.
      *
-     * @param array1 the first array whose elements are added to the new array
-     * @param array2 the second array whose elements are added to the new array
-     * @return the new merged {@code float} array
-     * @see #hasLength(float[])
-     * @see #clone(float[])
+     * @param source   the array to rotate
+     * @param distance the distance to rotate the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #rotate(long[], int, int, int)
      */
-    public static float[] merge(float[] array1, float[] array2) {
-        if (!hasLength(array1)) return clone(array2);
-        if (!hasLength(array2)) return clone(array1);
-
-        float[] joinedArray = new float[array1.length + array2.length];
-        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
-        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
-
-        return joinedArray;
+    public static long[] rotate(long[] source, int distance) {
+        if (source == null) return null;
+        return rotate(source, 0, source.length, distance);
     }
 
     /**
-     * Merges all elements of the given {@code double} arrays into a new
-     * {@code double} array.
+     * Rotates the elements of the {@code long} array between the
+     * {@code fromIndex} and {@code toIndex} indices in place by the
+     * specified distance.
      *
-     * @param array1 the first array whose elements are added to the new array
-     * @param array2 the second array whose elements are added to the new array
-     * @return the new merged {@code double} array
-     * @see #hasLength(double[])
-     * @see #clone(double[])
+     * <p>The rotation is performed with three reversals, so no temporary
+     * array is allocated.
+     *
+     * @param source    the array to rotate
+     * @param fromIndex the starting index (inclusive) of the range to rotate
+     * @param toIndex   the ending index (exclusive) of the range to rotate
+     * @param distance  the distance to rotate the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see java.util.Collections#rotate(java.util.List, int)
      */
-    public static double[] merge(double[] array1, double[] array2) {
-        if (!hasLength(array1)) return clone(array2);
-        if (!hasLength(array2)) return clone(array1);
+    public static long[] rotate(long[] source, int fromIndex, int toIndex, int distance) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        double[] joinedArray = new double[array1.length + array2.length];
-        System.arraycopy(array1, 0, joinedArray, 0, array1.length);
-        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
+        int length = toIndex - fromIndex;
+        int shift = length > 1 ? Math.floorMod(distance, length) : 0;
+        if (shift == 0) return source;
 
-        return joinedArray;
+        reverse(source, fromIndex, toIndex);
+        reverse(source, fromIndex, fromIndex + shift);
+        reverse(source, fromIndex + shift, toIndex);
+        return source;
     }
 
     /**
-     * Merges all elements of the given {@code Object} arrays into a new
-     * {@code Object} array.
+     * Rotates the elements of the {@code float} array in place by the
+     * specified distance. The element at index {@code i} is moved to index
+     * {@code (i + distance) mod source.length}, so a negative distance
+     * rotates the elements towards the start of the array.
      *
-     * @param <T>    the type of array elements
-     * @param array1 the first array whose elements are added to the new array
-     * @param array2 the second array whose elements are added to the new array
-     * @return the new merged {@code Object} array
-     * @see #hasLength(Object[])
-     * @see #clone(Object[])
+     * @param source   the array to rotate
+     * @param distance the distance to rotate the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #rotate(float[], int, int, int)
      */
-    public static <T> T[] merge(T[] array1, T[] array2) {
-        if (!hasLength(array1)) return clone(array2);
-        if (!hasLength(array2)) return clone(array1);
-
-        T[] joinedArray = Arrays.copyOf(array1, array1.length + array2.length);
-        System.arraycopy(array2, 0, joinedArray, array1.length, array2.length);
-
-        return joinedArray;
+    public static float[] rotate(float[] source, int distance) {
+        if (source == null) return null;
+        return rotate(source, 0, source.length, distance);
     }
 
     /**
-     * Removes the given {@code boolean} element at the given index in the
-     * array.
+     * Rotates the elements of the {@code float} array between the
+     * {@code fromIndex} and {@code toIndex} indices in place by the
+     * specified distance.
      *
-     * @param source the array to remove the element from
-     * @param index  the position of the element to be removed
-     * @return new array containing the existing elements except the element at the specified position
-     * @throws IllegalArgumentException  if the source is {@code null}
-     * @throws IndexOutOfBoundsException if index is invalid
+     * <p>The rotation is performed with three reversals, so no temporary
+     * array is allocated.
+     *
+     * @param source    the array to rotate
+     * @param fromIndex the starting index (inclusive) of the range to rotate
+     * @param toIndex   the ending index (exclusive) of the range to rotate
+     * @param distance  the distance to rotate the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see java.util.Collections#rotate(java.util.List, int)
      */
-    public static boolean[] remove(boolean[] source, int index) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        if (index < 0 || index >= source.length)
-            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+    public static float[] rotate(float[] source, int fromIndex, int toIndex, int distance) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        boolean[] newArray = new boolean[source.length - 1];
-        System.arraycopy(source, 0, newArray, 0, index);
-        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
-        return newArray;
+        int length = toIndex - fromIndex;
+        int shift = length > 1 ? Math.floorMod(distance, length) : 0;
+        if (shift == 0) return source;
+
+        reverse(source, fromIndex, toIndex);
+        reverse(source, fromIndex, fromIndex + shift);
+        reverse(source, fromIndex + shift, toIndex);
+        return source;
     }
 
     /**
-     * Removes the given {@code byte} element at the given index in the array.
+     * Rotates the elements of the {@code double} array in place by the
+     * specified distance. The element at index {@code i} is moved to index
+     * {@code (i + distance) mod source.length}, so a negative distance
+     * rotates the elements towards the start of the array.
      *
-     * @param source the array to remove the element from
-     * @param index  the position of the element to be removed
-     * @return new array containing the existing elements except the element at the specified position
-     * @throws IllegalArgumentException  if the source is {@code null}
-     * @throws IndexOutOfBoundsException if index is invalid
+     * @param source   the array to rotate
+     * @param distance the distance to rotate the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #rotate(double[], int, int, int)
      */
-    public static byte[] remove(byte[] source, int index) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        if (index < 0 || index >= source.length)
-            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
-
-        byte[] newArray = new byte[source.length - 1];
-        System.arraycopy(source, 0, newArray, 0, index);
-        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
-        return newArray;
+    public static double[] rotate(double[] source, int distance) {
+        if (source == null) return null;
+        return rotate(source, 0, source.length, distance);
     }
 
     /**
-     * Removes the given {@code char} element at the given index in the array.
+     * Rotates the elements of the {@code double} array between the
+     * {@code fromIndex} and {@code toIndex} indices in place by the
+     * specified distance.
      *
-     * @param source the array to remove the element from
-     * @param index  the position of the element to be removed
-     * @return new array containing the existing elements except the element at the specified position
-     * @throws IllegalArgumentException  if the source is {@code null}
-     * @throws IndexOutOfBoundsException if index is invalid
+     * <p>The rotation is performed with three reversals, so no temporary
+     * array is allocated.
+     *
+     * @param source    the array to rotate
+     * @param fromIndex the starting index (inclusive) of the range to rotate
+     * @param toIndex   the ending index (exclusive) of the range to rotate
+     * @param distance  the distance to rotate the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see java.util.Collections#rotate(java.util.List, int)
      */
-    public static char[] remove(char[] source, int index) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        if (index < 0 || index >= source.length)
-            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+    public static double[] rotate(double[] source, int fromIndex, int toIndex, int distance) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
 
-        char[] newArray = new char[source.length - 1];
-        System.arraycopy(source, 0, newArray, 0, index);
-        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
-        return newArray;
+        int length = toIndex - fromIndex;
+        int shift = length > 1 ? Math.floorMod(distance, length) : 0;
+        if (shift == 0) return source;
+
+        reverse(source, fromIndex, toIndex);
+        reverse(source, fromIndex, fromIndex + shift);
+        reverse(source, fromIndex + shift, toIndex);
+        return source;
     }
 
     /**
-     * Removes the given {@code short} element at the given index in the array.
+     * Rotates the elements of the {@code Object} array in place by the
+     * specified distance. The element at index {@code i} is moved to index
+     * {@code (i + distance) mod source.length}, so a negative distance
+     * rotates the elements towards the start of the array.
      *
-     * @param source the array to remove the element from
-     * @param index  the position of the element to be removed
-     * @return new array containing the existing elements except the element at the specified position
-     * @throws IllegalArgumentException  if the source is {@code null}
-     * @throws IndexOutOfBoundsException if index is invalid
+     * @param <T>      the type of array elements
+     * @param source   the array to rotate
+     * @param distance the distance to rotate the array
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @see #rotate(Object[], int, int, int)
      */
-    public static short[] remove(short[] source, int index) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        if (index < 0 || index >= source.length)
-            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+    public static <T> T[] rotate(T[] source, int distance) {
+        if (source == null) return null;
+        return rotate(source, 0, source.length, distance);
+    }
 
-        short[] newArray = new short[source.length - 1];
-        System.arraycopy(source, 0, newArray, 0, index);
-        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
-        return newArray;
+    /**
+     * Rotates the elements of the {@code Object} array between the
+     * {@code fromIndex} and {@code toIndex} indices in place by the
+     * specified distance.
+     *
+     * <p>The rotation is performed with three reversals, so no temporary
+     * array is allocated.
+     *
+     * @param <T>       the type of array elements
+     * @param source    the array to rotate
+     * @param fromIndex the starting index (inclusive) of the range to rotate
+     * @param toIndex   the ending index (exclusive) of the range to rotate
+     * @param distance  the distance to rotate the range
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     * @see java.util.Collections#rotate(java.util.List, int)
+     */
+    public static <T> T[] rotate(T[] source, int fromIndex, int toIndex, int distance) {
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        int length = toIndex - fromIndex;
+        int shift = length > 1 ? Math.floorMod(distance, length) : 0;
+        if (shift == 0) return source;
+
+        reverse(source, fromIndex, toIndex);
+        reverse(source, fromIndex, fromIndex + shift);
+        reverse(source, fromIndex + shift, toIndex);
+        return source;
     }
 
     /**
-     * Removes the given {@code int} element at the given index in the array.
+     * Replaces each element of the {@code int} array with the maximum of
+     * itself and all preceding elements, in place.
      *
-     * @param source the array to remove the element from
-     * @param index  the position of the element to be removed
-     * @return new array containing the existing elements except the element at the specified position
-     * @throws IllegalArgumentException  if the source is {@code null}
-     * @throws IndexOutOfBoundsException if index is invalid
+     * <p>Arrays of at least 65536 elements are scanned in parallel.
+     *
+     * @param source the array to scan
+     * @return the same array instance, or {@code null} if the source is {@code null}
      */
-    public static int[] remove(int[] source, int index) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        if (index < 0 || index >= source.length)
-            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+    public static int[] runningMax(int[] source) {
+        if (source == null) return null;
 
-        int[] newArray = new int[source.length - 1];
-        System.arraycopy(source, 0, newArray, 0, index);
-        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
-        return newArray;
+        if (source.length >= PARALLEL_SCAN_THRESHOLD) {
+            Arrays.parallelPrefix(source, Math::max);
+        } else {
+            for (int i = 1; i < source.length; i++) {
+                source[i] = Math.max(source[i], source[i - 1]);
+            }
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code long} element at the given index in the array.
+     * Replaces each element of the {@code long} array with the maximum of
+     * itself and all preceding elements, in place.
      *
-     * @param source the array to remove the element from
-     * @param index  the position of the element to be removed
-     * @return new array containing the existing elements except the element at the specified position
-     * @throws IllegalArgumentException  if the source is {@code null}
-     * @throws IndexOutOfBoundsException if index is invalid
+     * <p>Arrays of at least 65536 elements are scanned in parallel.
+     *
+     * @param source the array to scan
+     * @return the same array instance, or {@code null} if the source is {@code null}
      */
-    public static long[] remove(long[] source, int index) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        if (index < 0 || index >= source.length)
-            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+    public static long[] runningMax(long[] source) {
+        if (source == null) return null;
 
-        long[] newArray = new long[source.length - 1];
-        System.arraycopy(source, 0, newArray, 0, index);
-        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
-        return newArray;
+        if (source.length >= PARALLEL_SCAN_THRESHOLD) {
+            Arrays.parallelPrefix(source, Math::max);
+        } else {
+            for (int i = 1; i < source.length; i++) {
+                source[i] = Math.max(source[i], source[i - 1]);
+            }
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code float} element at the given index in the array.
+     * Replaces each element of the {@code float} array with the maximum of
+     * itself and all preceding elements, in place.
      *
-     * @param source the array to remove the element from
-     * @param index  the position of the element to be removed
-     * @return new array containing the existing elements except the element at the specified position
-     * @throws IllegalArgumentException  if the source is {@code null}
-     * @throws IndexOutOfBoundsException if index is invalid
+     * <p>As with {@link Math#max(float, float)}, a {@code NaN} element makes
+     * every following element {@code NaN}.
+     *
+     * @param source the array to scan
+     * @return the same array instance, or {@code null} if the source is {@code null}
      */
-    public static float[] remove(float[] source, int index) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        if (index < 0 || index >= source.length)
-            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+    public static float[] runningMax(float[] source) {
+        if (source == null) return null;
 
-        float[] newArray = new float[source.length - 1];
-        System.arraycopy(source, 0, newArray, 0, index);
-        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
-        return newArray;
+        for (int i = 1; i < source.length; i++) {
+            source[i] = Math.max(source[i], source[i - 1]);
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code double} element at the given index in the
-     * array.
+     * Replaces each element of the {@code double} array with the maximum of
+     * itself and all preceding elements, in place.
      *
-     * @param source the array to remove the element from
-     * @param index  the position of the element to be removed
-     * @return new array containing the existing elements except the element at the specified position
-     * @throws IllegalArgumentException  if the source is {@code null}
-     * @throws IndexOutOfBoundsException if index is invalid
+     * <p>Arrays of at least 65536 elements are scanned in parallel.
+     *
+     * <p>As with {@link Math#max(double, double)}, a {@code NaN} element makes
+     * every following element {@code NaN}.
+     *
+     * @param source the array to scan
+     * @return the same array instance, or {@code null} if the source is {@code null}
      */
-    public static double[] remove(double[] source, int index) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        if (index < 0 || index >= source.length)
-            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+    public static double[] runningMax(double[] source) {
+        if (source == null) return null;
 
-        double[] newArray = new double[source.length - 1];
-        System.arraycopy(source, 0, newArray, 0, index);
-        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
-        return newArray;
+        if (source.length >= PARALLEL_SCAN_THRESHOLD) {
+            Arrays.parallelPrefix(source, Math::max);
+        } else {
+            for (int i = 1; i < source.length; i++) {
+                source[i] = Math.max(source[i], source[i - 1]);
+            }
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code Object} element at the given index in the
-     * array.
+     * Replaces each element of the {@code int} array with the minimum of
+     * itself and all preceding elements, in place.
      *
-     * @param <T>    the type of array elements
-     * @param source the array to remove the element from
-     * @param index  the position of the element to be removed
-     * @return new array containing the existing elements except the element at the specified position
-     * @throws IllegalArgumentException  if the source is {@code null}
-     * @throws IndexOutOfBoundsException if index is invalid
+     * <p>Arrays of at least 65536 elements are scanned in parallel.
+     *
+     * @param source the array to scan
+     * @return the same array instance, or {@code null} if the source is {@code null}
      */
-    @SuppressWarnings("unchecked")
-    public static <T> T[] remove(T[] source, int index) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        if (index < 0 || index >= source.length)
-            throw new IndexOutOfBoundsException(invalidIndex(index, source.length));
+    public static int[] runningMin(int[] source) {
+        if (source == null) return null;
 
-        T[] newArray = (T[]) Array.newInstance(source.getClass().getComponentType(), source.length - 1);
-        System.arraycopy(source, 0, newArray, 0, index);
-        System.arraycopy(source, index + 1, newArray, index, source.length - index - 1);
-        return newArray;
+        if (source.length >= PARALLEL_SCAN_THRESHOLD) {
+            Arrays.parallelPrefix(source, Math::min);
+        } else {
+            for (int i = 1; i < source.length; i++) {
+                source[i] = Math.min(source[i], source[i - 1]);
+            }
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code boolean} element at in the first position in
-     * the array.
+     * Replaces each element of the {@code long} array with the minimum of
+     * itself and all preceding elements, in place.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the first position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * <p>Arrays of at least 65536 elements are scanned in parallel.
+     *
+     * @param source the array to scan
+     * @return the same array instance, or {@code null} if the source is {@code null}
      */
-    public static boolean[] removeFirst(boolean[] source) {
-        return remove(source, 0);
+    public static long[] runningMin(long[] source) {
+        if (source == null) return null;
+
+        if (source.length >= PARALLEL_SCAN_THRESHOLD) {
+            Arrays.parallelPrefix(source, Math::min);
+        } else {
+            for (int i = 1; i < source.length; i++) {
+                source[i] = Math.min(source[i], source[i - 1]);
+            }
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code byte} element at in the first position in the
-     * array.
+     * Replaces each element of the {@code float} array with the minimum of
+     * itself and all preceding elements, in place.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the first position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * <p>As with {@link Math#min(float, float)}, a {@code NaN} element makes
+     * every following element {@code NaN}.
+     *
+     * @param source the array to scan
+     * @return the same array instance, or {@code null} if the source is {@code null}
      */
-    public static byte[] removeFirst(byte[] source) {
-        return remove(source, 0);
+    public static float[] runningMin(float[] source) {
+        if (source == null) return null;
+
+        for (int i = 1; i < source.length; i++) {
+            source[i] = Math.min(source[i], source[i - 1]);
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code char} element at in the first position in the
-     * array.
+     * Replaces each element of the {@code double} array with the minimum of
+     * itself and all preceding elements, in place.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the first position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * <p>Arrays of at least 65536 elements are scanned in parallel.
+     *
+     * <p>As with {@link Math#min(double, double)}, a {@code NaN} element makes
+     * every following element {@code NaN}.
+     *
+     * @param source the array to scan
+     * @return the same array instance, or {@code null} if the source is {@code null}
      */
-    public static char[] removeFirst(char[] source) {
-        return remove(source, 0);
+    public static double[] runningMin(double[] source) {
+        if (source == null) return null;
+
+        if (source.length >= PARALLEL_SCAN_THRESHOLD) {
+            Arrays.parallelPrefix(source, Math::min);
+        } else {
+            for (int i = 1; i < source.length; i++) {
+                source[i] = Math.min(source[i], source[i - 1]);
+            }
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code short} element at in the first position in the
-     * array.
+     * Replaces each element of the {@code int} array with the result of
+     * combining itself and all preceding elements with the given operator (an
+     * inclusive scan), in place.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the first position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * <p>Arrays of at least 65536 elements are scanned in parallel with
+     * {@link Arrays#parallelPrefix(int[], IntBinaryOperator)},
+     * so the operator must be associative and free of side effects.
+     *
+     * @param source   the array to scan
+     * @param operator the associative operator that combines two elements
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if the operator is {@code null}
      */
-    public static short[] removeFirst(short[] source) {
-        return remove(source, 0);
+    public static int[] scan(int[] source, IntBinaryOperator operator) {
+        if (operator == null) throw new IllegalArgumentException("The operator cannot be null");
+        if (source == null) return null;
+
+        if (source.length >= PARALLEL_SCAN_THRESHOLD) {
+            Arrays.parallelPrefix(source, operator);
+        } else {
+            for (int i = 1; i < source.length; i++) {
+                source[i] = operator.applyAsInt(source[i - 1], source[i]);
+            }
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code int} element at in the first position in the
-     * array.
+     * Replaces each element of the {@code long} array with the result of
+     * combining itself and all preceding elements with the given operator (an
+     * inclusive scan), in place.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the first position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * <p>Arrays of at least 65536 elements are scanned in parallel with
+     * {@link Arrays#parallelPrefix(long[], LongBinaryOperator)},
+     * so the operator must be associative and free of side effects.
+     *
+     * @param source   the array to scan
+     * @param operator the associative operator that combines two elements
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if the operator is {@code null}
      */
-    public static int[] removeFirst(int[] source) {
-        return remove(source, 0);
+    public static long[] scan(long[] source, LongBinaryOperator operator) {
+        if (operator == null) throw new IllegalArgumentException("The operator cannot be null");
+        if (source == null) return null;
+
+        if (source.length >= PARALLEL_SCAN_THRESHOLD) {
+            Arrays.parallelPrefix(source, operator);
+        } else {
+            for (int i = 1; i < source.length; i++) {
+                source[i] = operator.applyAsLong(source[i - 1], source[i]);
+            }
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code long} element at in the first position in the
-     * array.
+     * Replaces each element of the {@code double} array with the result of
+     * combining itself and all preceding elements with the given operator (an
+     * inclusive scan), in place.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the first position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * <p>Arrays of at least 65536 elements are scanned in parallel with
+     * {@link Arrays#parallelPrefix(double[], DoubleBinaryOperator)},
+     * so the operator must be associative and free of side effects.
+     *
+     * @param source   the array to scan
+     * @param operator the associative operator that combines two elements
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if the operator is {@code null}
      */
-    public static long[] removeFirst(long[] source) {
-        return remove(source, 0);
+    public static double[] scan(double[] source, DoubleBinaryOperator operator) {
+        if (operator == null) throw new IllegalArgumentException("The operator cannot be null");
+        if (source == null) return null;
+
+        if (source.length >= PARALLEL_SCAN_THRESHOLD) {
+            Arrays.parallelPrefix(source, operator);
+        } else {
+            for (int i = 1; i < source.length; i++) {
+                source[i] = operator.applyAsDouble(source[i - 1], source[i]);
+            }
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code float} element at in the first position in the
-     * array.
+     * Computes an inclusive prefix sum of the {@code int} array in place,
+     * restarting the sum at every index whose bit is set in
+     * {@code segmentStarts}.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the first position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * <p>For example {@code [1, 2, 3, 4, 5]} with bits 0 and 3 set becomes
+     * {@code [1, 3, 6, 4, 9]}.
+     *
+     * @param source        the array to scan
+     * @param segmentStarts the indexes at which a new segment starts
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if segmentStarts is {@code null}
+     * @see #indexesOf(int[], int)
      */
-    public static float[] removeFirst(float[] source) {
-        return remove(source, 0);
+    public static int[] segmentedPrefixSum(int[] source, BitSet segmentStarts) {
+        if (segmentStarts == null) throw new IllegalArgumentException("The segment starts cannot be null");
+        if (source == null) return null;
+
+        for (int i = 1; i < source.length; i++) {
+            if (!segmentStarts.get(i)) source[i] += source[i - 1];
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code double} element at in the first position in the
-     * array.
+     * Computes an inclusive prefix sum of the {@code long} array in place,
+     * restarting the sum at every index whose bit is set in
+     * {@code segmentStarts}.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the first position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * <p>For example {@code [1, 2, 3, 4, 5]} with bits 0 and 3 set becomes
+     * {@code [1, 3, 6, 4, 9]}.
+     *
+     * @param source        the array to scan
+     * @param segmentStarts the indexes at which a new segment starts
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if segmentStarts is {@code null}
+     * @see #indexesOf(long[], long)
      */
-    public static double[] removeFirst(double[] source) {
-        return remove(source, 0);
+    public static long[] segmentedPrefixSum(long[] source, BitSet segmentStarts) {
+        if (segmentStarts == null) throw new IllegalArgumentException("The segment starts cannot be null");
+        if (source == null) return null;
+
+        for (int i = 1; i < source.length; i++) {
+            if (!segmentStarts.get(i)) source[i] += source[i - 1];
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code Object} element at in the first position in the
-     * array.
+     * Computes an inclusive prefix sum of the {@code float} array in place,
+     * restarting the sum at every index whose bit is set in
+     * {@code segmentStarts}.
      *
-     * @param <T>    the type of array elements
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the first position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * <p>For example {@code [1, 2, 3, 4, 5]} with bits 0 and 3 set becomes
+     * {@code [1, 3, 6, 4, 9]}.
+     *
+     * @param source        the array to scan
+     * @param segmentStarts the indexes at which a new segment starts
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if segmentStarts is {@code null}
+     * @see #indexesOf(float[], float)
      */
-    public static <T> T[] removeFirst(T[] source) {
-        return remove(source, 0);
+    public static float[] segmentedPrefixSum(float[] source, BitSet segmentStarts) {
+        if (segmentStarts == null) throw new IllegalArgumentException("The segment starts cannot be null");
+        if (source == null) return null;
+
+        for (int i = 1; i < source.length; i++) {
+            if (!segmentStarts.get(i)) source[i] += source[i - 1];
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code boolean} element at in the last position in the
-     * array.
+     * Computes an inclusive prefix sum of the {@code double} array in place,
+     * restarting the sum at every index whose bit is set in
+     * {@code segmentStarts}.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the last position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * <p>For example {@code [1, 2, 3, 4, 5]} with bits 0 and 3 set becomes
+     * {@code [1, 3, 6, 4, 9]}.
+     *
+     * @param source        the array to scan
+     * @param segmentStarts the indexes at which a new segment starts
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if segmentStarts is {@code null}
+     * @see #indexesOf(double[], double)
      */
-    public static boolean[] removeLast(boolean[] source) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        return remove(source, source.length - 1);
+    public static double[] segmentedPrefixSum(double[] source, BitSet segmentStarts) {
+        if (segmentStarts == null) throw new IllegalArgumentException("The segment starts cannot be null");
+        if (source == null) return null;
+
+        for (int i = 1; i < source.length; i++) {
+            if (!segmentStarts.get(i)) source[i] += source[i - 1];
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code byte} element at in the last position in the
-     * array.
+     * Randomly permutes the elements of the {@code boolean} array in
+     * place using the specified source of randomness.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the last position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * @param source the array to shuffle
+     * @param random the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if the random is {@code null}
+     * @see #shuffle(boolean[], int, int, RandomGenerator)
      */
-    public static byte[] removeLast(byte[] source) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        return remove(source, source.length - 1);
+    public static boolean[] shuffle(boolean[] source, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        return shuffle(source, 0, source.length, random);
     }
 
     /**
-     * Removes the given {@code char} element at in the last position in the
-     * array.
+     * Randomly permutes the elements of the {@code boolean} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place
+     * using the Fisher-Yates algorithm.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the last position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * @param source    the array to shuffle
+     * @param fromIndex the starting index (inclusive) of the range to shuffle
+     * @param toIndex   the ending index (exclusive) of the range to shuffle
+     * @param random    the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the random is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static char[] removeLast(char[] source) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        return remove(source, source.length - 1);
+    public static boolean[] shuffle(boolean[] source, int fromIndex, int toIndex, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        for (int i = toIndex - 1; i > fromIndex; i--) {
+            int k = fromIndex + random.nextInt(i - fromIndex + 1);
+            boolean temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code short} element at in the last position in the
-     * array.
+     * Randomly permutes the elements of the {@code byte} array in
+     * place using the specified source of randomness.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the last position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * @param source the array to shuffle
+     * @param random the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if the random is {@code null}
+     * @see #shuffle(byte[], int, int, RandomGenerator)
      */
-    public static short[] removeLast(short[] source) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        return remove(source, source.length - 1);
+    public static byte[] shuffle(byte[] source, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        return shuffle(source, 0, source.length, random);
     }
 
     /**
-     * Removes the given {@code int} element at in the last position in the
-     * array.
+     * Randomly permutes the elements of the {@code byte} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place
+     * using the Fisher-Yates algorithm.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the last position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * @param source    the array to shuffle
+     * @param fromIndex the starting index (inclusive) of the range to shuffle
+     * @param toIndex   the ending index (exclusive) of the range to shuffle
+     * @param random    the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the random is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static int[] removeLast(int[] source) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        return remove(source, source.length - 1);
+    public static byte[] shuffle(byte[] source, int fromIndex, int toIndex, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        for (int i = toIndex - 1; i > fromIndex; i--) {
+            int k = fromIndex + random.nextInt(i - fromIndex + 1);
+            byte temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code long} element at in the last position in the
-     * array.
+     * Randomly permutes the elements of the {@code char} array in
+     * place using the specified source of randomness.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the last position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * @param source the array to shuffle
+     * @param random the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if the random is {@code null}
+     * @see #shuffle(char[], int, int, RandomGenerator)
      */
-    public static long[] removeLast(long[] source) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        return remove(source, source.length - 1);
+    public static char[] shuffle(char[] source, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        return shuffle(source, 0, source.length, random);
     }
 
     /**
-     * Removes the given {@code float} element at in the last position in the
-     * array.
+     * Randomly permutes the elements of the {@code char} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place
+     * using the Fisher-Yates algorithm.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the last position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * @param source    the array to shuffle
+     * @param fromIndex the starting index (inclusive) of the range to shuffle
+     * @param toIndex   the ending index (exclusive) of the range to shuffle
+     * @param random    the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the random is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static float[] removeLast(float[] source) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        return remove(source, source.length - 1);
+    public static char[] shuffle(char[] source, int fromIndex, int toIndex, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        for (int i = toIndex - 1; i > fromIndex; i--) {
+            int k = fromIndex + random.nextInt(i - fromIndex + 1);
+            char temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
+        }
+
+        return source;
     }
 
     /**
-     * Removes the given {@code double} element at in the last position in the
-     * array.
+     * Randomly permutes the elements of the {@code short} array in
+     * place using the specified source of randomness.
      *
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the last position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * @param source the array to shuffle
+     * @param random the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if the random is {@code null}
+     * @see #shuffle(short[], int, int, RandomGenerator)
      */
-    public static double[] removeLast(double[] source) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        return remove(source, source.length - 1);
+    public static short[] shuffle(short[] source, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        return shuffle(source, 0, source.length, random);
     }
 
     /**
-     * Removes the given {@code Object} element at in the last position in the
-     * array.
+     * Randomly permutes the elements of the {@code short} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place
+     * using the Fisher-Yates algorithm.
      *
-     * @param <T>    the type of array elements
-     * @param source the array to remove the element from
-     * @return new array containing the existing elements except the element at the last position
-     * @throws IllegalArgumentException if the source is {@code null}
+     * @param source    the array to shuffle
+     * @param fromIndex the starting index (inclusive) of the range to shuffle
+     * @param toIndex   the ending index (exclusive) of the range to shuffle
+     * @param random    the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the random is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static <T> T[] removeLast(T[] source) {
-        if (source == null) throw new IllegalArgumentException(INPUT_ARRAY_IS_NULL_MESSAGE);
-        return remove(source, source.length - 1);
+    public static short[] shuffle(short[] source, int fromIndex, int toIndex, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        for (int i = toIndex - 1; i > fromIndex; i--) {
+            int k = fromIndex + random.nextInt(i - fromIndex + 1);
+            short temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
+        }
+
+        return source;
     }
 
     /**
-     * Removes the first occurrence of the specified element from the specified
-     * array. All subsequent elements are shifted to the left. If the array
-     * doesn't contain such an element, no elements are removed from the array.
+     * Randomly permutes the elements of the {@code int} array in
+     * place using the specified source of randomness.
      *
-     * <p>This method returns a new array with the same elements of the input
-     * array except the first occurrence of the specified element. The
-     * component type of the returned array is always the same as that of the
-     * input array.
-     *
-     * @param source  the type of array elements
-     * @param element the element to be removed
-     * @return A new array containing the existing elements except the first occurrence of the specified element
+     * @param source the array to shuffle
+     * @param random the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if the random is {@code null}
+     * @see #shuffle(int[], int, int, RandomGenerator)
      */
-    public static boolean[] removeElement(boolean[] source, boolean element) {
-        final int index = indexOf(source, element);
-        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    public static int[] shuffle(int[] source, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        return shuffle(source, 0, source.length, random);
     }
 
     /**
-     * Removes the first occurrence of the specified element from the specified
-     * array. All subsequent elements are shifted to the left. If the array
-     * doesn't contain such an element, no elements are removed from the array.
-     *
-     * <p>This method returns a new array with the same elements of the input
-     * array except the first occurrence of the specified element. The
-     * component type of the returned array is always the same as that of the
-     * input array.
+     * Randomly permutes the elements of the {@code int} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place
+     * using the Fisher-Yates algorithm.
      *
-     * @param source  the type of array elements
-     * @param element the element to be removed
-     * @return A new array containing the existing elements except the first occurrence of the specified element
+     * @param source    the array to shuffle
+     * @param fromIndex the starting index (inclusive) of the range to shuffle
+     * @param toIndex   the ending index (exclusive) of the range to shuffle
+     * @param random    the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the random is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static byte[] removeElement(byte[] source, byte element) {
-        final int index = indexOf(source, element);
-        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    public static int[] shuffle(int[] source, int fromIndex, int toIndex, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        for (int i = toIndex - 1; i > fromIndex; i--) {
+            int k = fromIndex + random.nextInt(i - fromIndex + 1);
+            int temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
+        }
+
+        return source;
     }
 
     /**
-     * Removes the first occurrence of the specified element from the specified
-     * array. All subsequent elements are shifted to the left. If the array
-     * doesn't contain such an element, no elements are removed from the array.
+     * Randomly permutes the elements of the {@code long} array in
+     * place using the specified source of randomness.
      *
-     * <p>This method returns a new array with the same elements of the input
-     * array except the first occurrence of the specified element. The
-     * component type of the returned array is always the same as that of the
-     * input array.
-     *
-     * @param source  the type of array elements
-     * @param element the element to be removed
-     * @return A new array containing the existing elements except the first occurrence of the specified element
+     * @param source the array to shuffle
+     * @param random the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if the random is {@code null}
+     * @see #shuffle(long[], int, int, RandomGenerator)
      */
-    public static char[] removeElement(char[] source, char element) {
-        final int index = indexOf(source, element);
-        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    public static long[] shuffle(long[] source, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        return shuffle(source, 0, source.length, random);
     }
 
     /**
-     * Removes the first occurrence of the specified element from the specified
-     * array. All subsequent elements are shifted to the left. If the array
-     * doesn't contain such an element, no elements are removed from the array.
-     *
-     * <p>This method returns a new array with the same elements of the input
-     * array except the first occurrence of the specified element. The
-     * component type of the returned array is always the same as that of the
-     * input array.
+     * Randomly permutes the elements of the {@code long} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place
+     * using the Fisher-Yates algorithm.
      *
-     * @param source  the type of array elements
-     * @param element the element to be removed
-     * @return A new array containing the existing elements except the first occurrence of the specified element
+     * @param source    the array to shuffle
+     * @param fromIndex the starting index (inclusive) of the range to shuffle
+     * @param toIndex   the ending index (exclusive) of the range to shuffle
+     * @param random    the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the random is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static short[] removeElement(short[] source, short element) {
-        final int index = indexOf(source, element);
-        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    public static long[] shuffle(long[] source, int fromIndex, int toIndex, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        for (int i = toIndex - 1; i > fromIndex; i--) {
+            int k = fromIndex + random.nextInt(i - fromIndex + 1);
+            long temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
+        }
+
+        return source;
     }
 
     /**
-     * Removes the first occurrence of the specified element from the specified
-     * array. All subsequent elements are shifted to the left. If the array
-     * doesn't contain such an element, no elements are removed from the array.
+     * Randomly permutes the elements of the {@code float} array in
+     * place using the specified source of randomness.
      *
-     * <p>This method returns a new array with the same elements of the input
-     * array except the first occurrence of the specified element. The
-     * component type of the returned array is always the same as that of the
-     * input array.
-     *
-     * @param source  the type of array elements
-     * @param element the element to be removed
-     * @return A new array containing the existing elements except the first occurrence of the specified element
+     * @param source the array to shuffle
+     * @param random the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if the random is {@code null}
+     * @see #shuffle(float[], int, int, RandomGenerator)
      */
-    public static int[] removeElement(int[] source, int element) {
-        final int index = indexOf(source, element);
-        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    public static float[] shuffle(float[] source, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        return shuffle(source, 0, source.length, random);
     }
 
     /**
-     * Removes the first occurrence of the specified element from the specified
-     * array. All subsequent elements are shifted to the left. If the array
-     * doesn't contain such an element, no elements are removed from the array.
-     *
-     * <p>This method returns a new array with the same elements of the input
-     * array except the first occurrence of the specified element. The
-     * component type of the returned array is always the same as that of the
-     * input array.
+     * Randomly permutes the elements of the {@code float} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place
+     * using the Fisher-Yates algorithm.
      *
-     * @param source  the type of array elements
-     * @param element the element to be removed
-     * @return A new array containing the existing elements except the first occurrence of the specified element
+     * @param source    the array to shuffle
+     * @param fromIndex the starting index (inclusive) of the range to shuffle
+     * @param toIndex   the ending index (exclusive) of the range to shuffle
+     * @param random    the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the random is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static long[] removeElement(long[] source, long element) {
-        final int index = indexOf(source, element);
-        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    public static float[] shuffle(float[] source, int fromIndex, int toIndex, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        for (int i = toIndex - 1; i > fromIndex; i--) {
+            int k = fromIndex + random.nextInt(i - fromIndex + 1);
+            float temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
+        }
+
+        return source;
     }
 
     /**
-     * Removes the first occurrence of the specified element from the specified
-     * array. All subsequent elements are shifted to the left. If the array
-     * doesn't contain such an element, no elements are removed from the array.
+     * Randomly permutes the elements of the {@code double} array in
+     * place using the specified source of randomness.
      *
-     * <p>This method returns a new array with the same elements of the input
-     * array except the first occurrence of the specified element. The
-     * component type of the returned array is always the same as that of the
-     * input array.
-     *
-     * @param source  the type of array elements
-     * @param element the element to be removed
-     * @return A new array containing the existing elements except the first occurrence of the specified element
+     * @param source the array to shuffle
+     * @param random the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if the random is {@code null}
+     * @see #shuffle(double[], int, int, RandomGenerator)
      */
-    public static float[] removeElement(float[] source, float element) {
-        final int index = indexOf(source, element);
-        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    public static double[] shuffle(double[] source, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        return shuffle(source, 0, source.length, random);
     }
 
     /**
-     * Removes the first occurrence of the specified element from the specified
-     * array. All subsequent elements are shifted to the left. If the array
-     * doesn't contain such an element, no elements are removed from the array.
-     *
-     * <p>This method returns a new array with the same elements of the input
-     * array except the first occurrence of the specified element. The
-     * component type of the returned array is always the same as that of the
-     * input array.
+     * Randomly permutes the elements of the {@code double} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place
+     * using the Fisher-Yates algorithm.
      *
-     * @param source  the type of array elements
-     * @param element the element to be removed
-     * @return A new array containing the existing elements except the first occurrence of the specified element
+     * @param source    the array to shuffle
+     * @param fromIndex the starting index (inclusive) of the range to shuffle
+     * @param toIndex   the ending index (exclusive) of the range to shuffle
+     * @param random    the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the random is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
      */
-    public static double[] removeElement(double[] source, double element) {
-        final int index = indexOf(source, element);
-        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    public static double[] shuffle(double[] source, int fromIndex, int toIndex, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        for (int i = toIndex - 1; i > fromIndex; i--) {
+            int k = fromIndex + random.nextInt(i - fromIndex + 1);
+            double temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
+        }
+
+        return source;
     }
 
     /**
-     * Removes the first occurrence of the specified element from the specified
-     * array. All subsequent elements are shifted to the left. If the array
-     * doesn't contain such an element, no elements are removed from the array.
+     * Randomly permutes the elements of the {@code Object} array in
+     * place using the specified source of randomness.
      *
-     * <p>This method returns a new array with the same elements of the input
-     * array except the first occurrence of the specified element. The
-     * component type of the returned array is always the same as that of the
-     * input array.
-     *
-     * @param <T>     the type of array elements
-     * @param source  the type of array elements
-     * @param element the element to be removed
-     * @return A new array containing the existing elements except the first occurrence of the specified element
+     * @param <T>    the type of array elements
+     * @param source the array to shuffle
+     * @param random the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException if the random is {@code null}
+     * @see #shuffle(Object[], int, int, RandomGenerator)
      */
-    public static <T> T[] removeElement(T[] source, T element) {
-        final int index = indexOf(source, element);
-        return index == INDEX_NOT_FOUND ? clone(source) : remove(source, index);
+    public static <T> T[] shuffle(T[] source, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        return shuffle(source, 0, source.length, random);
+    }
+
+    /**
+     * Randomly permutes the elements of the {@code Object} array
+     * between the {@code fromIndex} and {@code toIndex} indices in place
+     * using the Fisher-Yates algorithm.
+     *
+     * @param <T>       the type of array elements
+     * @param source    the array to shuffle
+     * @param fromIndex the starting index (inclusive) of the range to shuffle
+     * @param toIndex   the ending index (exclusive) of the range to shuffle
+     * @param random    the source of randomness to use
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the random is {@code null}
+     * @throws IndexOutOfBoundsException if fromIndex or toIndex is invalid
+     */
+    public static <T> T[] shuffle(T[] source, int fromIndex, int toIndex, RandomGenerator random) {
+        if (random == null) throw new IllegalArgumentException(RANDOM_IS_NULL_MESSAGE);
+        if (source == null) return null;
+        checkRange(source.length, fromIndex, toIndex);
+
+        for (int i = toIndex - 1; i > fromIndex; i--) {
+            int k = fromIndex + random.nextInt(i - fromIndex + 1);
+            T temp = source[i];
+            source[i] = source[k];
+            source[k] = temp;
+        }
+
+        return source;
     }
 
     /**
@@ -3228,16 +8584,146 @@ public static <T> T[] sort(T[] source) {
     }
 
     /**
-     * Sorts the specified array of objects according to the order induced by
-     * the provided comparator.
+     * Sorts the specified array of objects according to the order induced by
+     * the provided comparator.
+     *
+     * @param <T>        the type of array elements
+     * @param source     the array to be sorted, may be {@code null} or empty
+     * @param comparator the comparator to determine the order of the array elements
+     * @return the sorted array, or {@code null} if the input array is {@code null}
+     */
+    public static <T> T[] sort(T[] source, Comparator<T> comparator) {
+        if (hasLength(source)) Arrays.sort(source, comparator);
+        return source;
+    }
+
+    /**
+     * Sorts the specified array of objects by the {@code double} key that the
+     * given function extracts from each element.
+     *
+     * <p>Unlike {@link #sort(Object[], Comparator)} with
+     * {@link Comparator#comparingDouble(ToDoubleFunction)}, the key is extracted
+     * exactly once per element, so this method is preferable when the key is
+     * expensive to compute. The keys are ordered as by
+     * {@link Double#compare(double, double)}, and the sort is stable: elements
+     * with equal keys keep their relative order.
+     *
+     * @param <T>          the type of array elements
+     * @param source       the array to be sorted, may be {@code null} or empty
+     * @param keyExtractor the function that extracts the sort key from an element
+     * @return the sorted array, or {@code null} if the input array is {@code null}
+     * @throws IllegalArgumentException if keyExtractor is {@code null}
+     */
+    public static <T> T[] sortByDoubleKey(T[] source, ToDoubleFunction<? super T> keyExtractor) {
+        if (keyExtractor == null) throw new IllegalArgumentException(KEY_EXTRACTOR_IS_NULL_MESSAGE);
+        if (source == null || source.length < 2) return source;
+
+        long[] keys = new long[source.length];
+        for (int i = 0; i < source.length; i++) {
+            long bits = Double.doubleToLongBits(keyExtractor.applyAsDouble(source[i]));
+            keys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+        }
+        permute(source, radixOrder(keys));
+
+        return source;
+    }
+
+    /**
+     * Sorts the specified array of objects by the {@code int} key that the
+     * given function extracts from each element.
+     *
+     * <p>Unlike {@link #sort(Object[], Comparator)} with
+     * {@link Comparator#comparingInt(ToIntFunction)}, the key is extracted
+     * exactly once per element, so this method is preferable when the key is
+     * expensive to compute. The sort is stable: elements with equal keys keep
+     * their relative order.
+     *
+     * @param <T>          the type of array elements
+     * @param source       the array to be sorted, may be {@code null} or empty
+     * @param keyExtractor the function that extracts the sort key from an element
+     * @return the sorted array, or {@code null} if the input array is {@code null}
+     * @throws IllegalArgumentException if keyExtractor is {@code null}
+     */
+    public static <T> T[] sortByIntKey(T[] source, ToIntFunction<? super T> keyExtractor) {
+        if (keyExtractor == null) throw new IllegalArgumentException(KEY_EXTRACTOR_IS_NULL_MESSAGE);
+        if (source == null || source.length < 2) return source;
+
+        // The key goes in the high half and the index in the low half, so equal keys stay in index order
+        long[] packed = new long[source.length];
+        for (int i = 0; i < source.length; i++) {
+            packed[i] = (long) keyExtractor.applyAsInt(source[i]) << 32 | i;
+        }
+        Arrays.sort(packed);
+
+        int[] order = new int[packed.length];
+        for (int i = 0; i < packed.length; i++) {
+            order[i] = (int) packed[i];
+        }
+        permute(source, order);
+
+        return source;
+    }
+
+    /**
+     * Sorts the specified array of objects by the {@link Comparable} key that
+     * the given function extracts from each element.
+     *
+     * <p>Unlike {@link #sort(Object[], Comparator)} with
+     * {@link Comparator#comparing(Function)}, the key is extracted exactly
+     * once per element, so this method is preferable when the key is
+     * expensive to compute. The sort is stable: elements with equal keys keep
+     * their relative order. The extracted keys must not be {@code null}.
+     *
+     * @param <T>          the type of array elements
+     * @param <K>          the type of the sort key
+     * @param source       the array to be sorted, may be {@code null} or empty
+     * @param keyExtractor the function that extracts the sort key from an element
+     * @return the sorted array, or {@code null} if the input array is {@code null}
+     * @throws IllegalArgumentException if keyExtractor is {@code null}
+     */
+    public static <T, K extends Comparable<? super K>> T[] sortByKey(T[] source,
+                                                                   Function<? super T, ? extends K> keyExtractor) {
+        if (keyExtractor == null) throw new IllegalArgumentException(KEY_EXTRACTOR_IS_NULL_MESSAGE);
+        if (source == null || source.length < 2) return source;
+
+        Comparable<?>[] keys = new Comparable<?>[source.length];
+        int[] order = new int[source.length];
+        for (int i = 0; i < source.length; i++) {
+            keys[i] = keyExtractor.apply(source[i]);
+            order[i] = i;
+        }
+        mergeOrder(order, new int[order.length], keys, 0, order.length);
+        permute(source, order);
+
+        return source;
+    }
+
+    /**
+     * Sorts the specified array of objects by the {@code long} key that the
+     * given function extracts from each element.
      *
-     * @param <T>        the type of array elements
-     * @param source     the array to be sorted, may be {@code null} or empty
-     * @param comparator the comparator to determine the order of the array elements
+     * <p>Unlike {@link #sort(Object[], Comparator)} with
+     * {@link Comparator#comparingLong(ToLongFunction)}, the key is extracted
+     * exactly once per element, so this method is preferable when the key is
+     * expensive to compute. The sort is stable: elements with equal keys keep
+     * their relative order.
+     *
+     * @param <T>          the type of array elements
+     * @param source       the array to be sorted, may be {@code null} or empty
+     * @param keyExtractor the function that extracts the sort key from an element
      * @return the sorted array, or {@code null} if the input array is {@code null}
+     * @throws IllegalArgumentException if keyExtractor is {@code null}
      */
-    public static <T> T[] sort(T[] source, Comparator<T> comparator) {
-        if (hasLength(source)) Arrays.sort(source, comparator);
+    public static <T> T[] sortByLongKey(T[] source, ToLongFunction<? super T> keyExtractor) {
+        if (keyExtractor == null) throw new IllegalArgumentException(KEY_EXTRACTOR_IS_NULL_MESSAGE);
+        if (source == null || source.length < 2) return source;
+
+        long[] keys = new long[source.length];
+        for (int i = 0; i < source.length; i++) {
+            keys[i] = keyExtractor.applyAsLong(source[i]);
+        }
+        permute(source, radixOrder(keys));
+
         return source;
     }
 
@@ -3458,4 +8944,754 @@ public static <T> T[] subarray(T[] value, int start, int end) {
 
         return (newSize <= 0) ? (T[]) Array.newInstance(type, 0) : Arrays.copyOfRange(value, start, end);
     }
+
+    /**
+     * Writes the elements of the {@code boolean} array between the
+     * {@code start} and {@code end} indices into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * <p>{@code Null} source input writes no elements.
+     *
+     * @param source      the input array to extract the elements from
+     * @param start       the starting index (inclusive), negative values are treated as 0
+     * @param end         the ending index (exclusive), capped at the array length
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #subarray(boolean[], int, int)
+     */
+    public static int subarray(boolean[] source, int start, int end, boolean[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+
+        start = Math.max(0, start);
+        end = Math.min(end, source.length);
+
+        int newSize = Math.max(0, end - start);
+        checkDestination(destination.length, offset, newSize);
+        if (newSize > 0) System.arraycopy(source, start, destination, offset, newSize);
+
+        return newSize;
+    }
+
+    /**
+     * Writes the elements of the {@code byte} array between the
+     * {@code start} and {@code end} indices into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * <p>{@code Null} source input writes no elements.
+     *
+     * @param source      the input array to extract the elements from
+     * @param start       the starting index (inclusive), negative values are treated as 0
+     * @param end         the ending index (exclusive), capped at the array length
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #subarray(byte[], int, int)
+     */
+    public static int subarray(byte[] source, int start, int end, byte[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+
+        start = Math.max(0, start);
+        end = Math.min(end, source.length);
+
+        int newSize = Math.max(0, end - start);
+        checkDestination(destination.length, offset, newSize);
+        if (newSize > 0) System.arraycopy(source, start, destination, offset, newSize);
+
+        return newSize;
+    }
+
+    /**
+     * Writes the elements of the {@code char} array between the
+     * {@code start} and {@code end} indices into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * <p>{@code Null} source input writes no elements.
+     *
+     * @param source      the input array to extract the elements from
+     * @param start       the starting index (inclusive), negative values are treated as 0
+     * @param end         the ending index (exclusive), capped at the array length
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #subarray(char[], int, int)
+     */
+    public static int subarray(char[] source, int start, int end, char[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+
+        start = Math.max(0, start);
+        end = Math.min(end, source.length);
+
+        int newSize = Math.max(0, end - start);
+        checkDestination(destination.length, offset, newSize);
+        if (newSize > 0) System.arraycopy(source, start, destination, offset, newSize);
+
+        return newSize;
+    }
+
+    /**
+     * Writes the elements of the {@code short} array between the
+     * {@code start} and {@code end} indices into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * <p>{@code Null} source input writes no elements.
+     *
+     * @param source      the input array to extract the elements from
+     * @param start       the starting index (inclusive), negative values are treated as 0
+     * @param end         the ending index (exclusive), capped at the array length
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #subarray(short[], int, int)
+     */
+    public static int subarray(short[] source, int start, int end, short[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+
+        start = Math.max(0, start);
+        end = Math.min(end, source.length);
+
+        int newSize = Math.max(0, end - start);
+        checkDestination(destination.length, offset, newSize);
+        if (newSize > 0) System.arraycopy(source, start, destination, offset, newSize);
+
+        return newSize;
+    }
+
+    /**
+     * Writes the elements of the {@code int} array between the
+     * {@code start} and {@code end} indices into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * <p>{@code Null} source input writes no elements.
+     *
+     * @param source      the input array to extract the elements from
+     * @param start       the starting index (inclusive), negative values are treated as 0
+     * @param end         the ending index (exclusive), capped at the array length
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #subarray(int[], int, int)
+     */
+    public static int subarray(int[] source, int start, int end, int[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+
+        start = Math.max(0, start);
+        end = Math.min(end, source.length);
+
+        int newSize = Math.max(0, end - start);
+        checkDestination(destination.length, offset, newSize);
+        if (newSize > 0) System.arraycopy(source, start, destination, offset, newSize);
+
+        return newSize;
+    }
+
+    /**
+     * Writes the elements of the {@code long} array between the
+     * {@code start} and {@code end} indices into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * <p>{@code Null} source input writes no elements.
+     *
+     * @param source      the input array to extract the elements from
+     * @param start       the starting index (inclusive), negative values are treated as 0
+     * @param end         the ending index (exclusive), capped at the array length
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #subarray(long[], int, int)
+     */
+    public static int subarray(long[] source, int start, int end, long[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+
+        start = Math.max(0, start);
+        end = Math.min(end, source.length);
+
+        int newSize = Math.max(0, end - start);
+        checkDestination(destination.length, offset, newSize);
+        if (newSize > 0) System.arraycopy(source, start, destination, offset, newSize);
+
+        return newSize;
+    }
+
+    /**
+     * Writes the elements of the {@code float} array between the
+     * {@code start} and {@code end} indices into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * <p>{@code Null} source input writes no elements.
+     *
+     * @param source      the input array to extract the elements from
+     * @param start       the starting index (inclusive), negative values are treated as 0
+     * @param end         the ending index (exclusive), capped at the array length
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #subarray(float[], int, int)
+     */
+    public static int subarray(float[] source, int start, int end, float[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+
+        start = Math.max(0, start);
+        end = Math.min(end, source.length);
+
+        int newSize = Math.max(0, end - start);
+        checkDestination(destination.length, offset, newSize);
+        if (newSize > 0) System.arraycopy(source, start, destination, offset, newSize);
+
+        return newSize;
+    }
+
+    /**
+     * Writes the elements of the {@code double} array between the
+     * {@code start} and {@code end} indices into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * <p>{@code Null} source input writes no elements.
+     *
+     * @param source      the input array to extract the elements from
+     * @param start       the starting index (inclusive), negative values are treated as 0
+     * @param end         the ending index (exclusive), capped at the array length
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #subarray(double[], int, int)
+     */
+    public static int subarray(double[] source, int start, int end, double[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+
+        start = Math.max(0, start);
+        end = Math.min(end, source.length);
+
+        int newSize = Math.max(0, end - start);
+        checkDestination(destination.length, offset, newSize);
+        if (newSize > 0) System.arraycopy(source, start, destination, offset, newSize);
+
+        return newSize;
+    }
+
+    /**
+     * Writes the elements of the {@code Object} array between the
+     * {@code start} and {@code end} indices into the destination array,
+     * starting at the given offset, without allocating a new array.
+     *
+     * <p>{@code Null} source input writes no elements.
+     *
+     * @param <T>         the type of array elements
+     * @param source      the input array to extract the elements from
+     * @param start       the starting index (inclusive), negative values are treated as 0
+     * @param end         the ending index (exclusive), capped at the array length
+     * @param destination the array to write the result to
+     * @param offset      the position within destination to write the first element
+     * @return the number of elements written to the destination
+     * @throws IllegalArgumentException  if the destination is {@code null}
+     * @throws IndexOutOfBoundsException if offset is invalid, or the destination is too small
+     * @see #subarray(Object[], int, int)
+     */
+    public static <T> int subarray(T[] source, int start, int end, T[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException(DESTINATION_ARRAY_IS_NULL_MESSAGE);
+        if (source == null) return 0;
+
+        start = Math.max(0, start);
+        end = Math.min(end, source.length);
+
+        int newSize = Math.max(0, end - start);
+        checkDestination(destination.length, offset, newSize);
+        if (newSize > 0) System.arraycopy(source, start, destination, offset, newSize);
+
+        return newSize;
+    }
+
+    /**
+     * Swaps the two elements of the {@code boolean} array at the
+     * specified indices in place.
+     *
+     * @param source the array to swap the elements in
+     * @param index1 the index of the first element
+     * @param index2 the index of the second element
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index1 or index2 is invalid
+     */
+    public static boolean[] swap(boolean[] source, int index1, int index2) {
+        if (source == null) return null;
+        if (index1 < 0 || index1 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index1, source.length));
+        if (index2 < 0 || index2 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index2, source.length));
+
+        boolean temp = source[index1];
+        source[index1] = source[index2];
+        source[index2] = temp;
+        return source;
+    }
+
+    /**
+     * Swaps two non-overlapping ranges of the {@code boolean} array of
+     * the specified length in place.
+     *
+     * @param source  the array to swap the ranges in
+     * @param offset1 the starting index of the first range
+     * @param offset2 the starting index of the second range
+     * @param length  the number of elements to swap
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the length is negative or the ranges overlap
+     * @throws IndexOutOfBoundsException if a range exceeds the bounds of the array
+     */
+    public static boolean[] swap(boolean[] source, int offset1, int offset2, int length) {
+        if (source == null) return null;
+        if (length < 0) throw new IllegalArgumentException(NEGATIVE_LENGTH_MESSAGE);
+        checkRange(source.length, offset1, offset1 + length);
+        checkRange(source.length, offset2, offset2 + length);
+        if (offset1 != offset2 && Math.abs(offset1 - offset2) < length)
+            throw new IllegalArgumentException(OVERLAPPING_RANGES_MESSAGE);
+
+        for (int i = 0; i < length; i++) {
+            boolean temp = source[offset1 + i];
+            source[offset1 + i] = source[offset2 + i];
+            source[offset2 + i] = temp;
+        }
+
+        return source;
+    }
+
+    /**
+     * Swaps the two elements of the {@code byte} array at the
+     * specified indices in place.
+     *
+     * @param source the array to swap the elements in
+     * @param index1 the index of the first element
+     * @param index2 the index of the second element
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index1 or index2 is invalid
+     */
+    public static byte[] swap(byte[] source, int index1, int index2) {
+        if (source == null) return null;
+        if (index1 < 0 || index1 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index1, source.length));
+        if (index2 < 0 || index2 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index2, source.length));
+
+        byte temp = source[index1];
+        source[index1] = source[index2];
+        source[index2] = temp;
+        return source;
+    }
+
+    /**
+     * Swaps two non-overlapping ranges of the {@code byte} array of
+     * the specified length in place.
+     *
+     * @param source  the array to swap the ranges in
+     * @param offset1 the starting index of the first range
+     * @param offset2 the starting index of the second range
+     * @param length  the number of elements to swap
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the length is negative or the ranges overlap
+     * @throws IndexOutOfBoundsException if a range exceeds the bounds of the array
+     */
+    public static byte[] swap(byte[] source, int offset1, int offset2, int length) {
+        if (source == null) return null;
+        if (length < 0) throw new IllegalArgumentException(NEGATIVE_LENGTH_MESSAGE);
+        checkRange(source.length, offset1, offset1 + length);
+        checkRange(source.length, offset2, offset2 + length);
+        if (offset1 != offset2 && Math.abs(offset1 - offset2) < length)
+            throw new IllegalArgumentException(OVERLAPPING_RANGES_MESSAGE);
+
+        for (int i = 0; i < length; i++) {
+            byte temp = source[offset1 + i];
+            source[offset1 + i] = source[offset2 + i];
+            source[offset2 + i] = temp;
+        }
+
+        return source;
+    }
+
+    /**
+     * Swaps the two elements of the {@code char} array at the
+     * specified indices in place.
+     *
+     * @param source the array to swap the elements in
+     * @param index1 the index of the first element
+     * @param index2 the index of the second element
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index1 or index2 is invalid
+     */
+    public static char[] swap(char[] source, int index1, int index2) {
+        if (source == null) return null;
+        if (index1 < 0 || index1 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index1, source.length));
+        if (index2 < 0 || index2 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index2, source.length));
+
+        char temp = source[index1];
+        source[index1] = source[index2];
+        source[index2] = temp;
+        return source;
+    }
+
+    /**
+     * Swaps two non-overlapping ranges of the {@code char} array of
+     * the specified length in place.
+     *
+     * @param source  the array to swap the ranges in
+     * @param offset1 the starting index of the first range
+     * @param offset2 the starting index of the second range
+     * @param length  the number of elements to swap
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the length is negative or the ranges overlap
+     * @throws IndexOutOfBoundsException if a range exceeds the bounds of the array
+     */
+    public static char[] swap(char[] source, int offset1, int offset2, int length) {
+        if (source == null) return null;
+        if (length < 0) throw new IllegalArgumentException(NEGATIVE_LENGTH_MESSAGE);
+        checkRange(source.length, offset1, offset1 + length);
+        checkRange(source.length, offset2, offset2 + length);
+        if (offset1 != offset2 && Math.abs(offset1 - offset2) < length)
+            throw new IllegalArgumentException(OVERLAPPING_RANGES_MESSAGE);
+
+        for (int i = 0; i < length; i++) {
+            char temp = source[offset1 + i];
+            source[offset1 + i] = source[offset2 + i];
+            source[offset2 + i] = temp;
+        }
+
+        return source;
+    }
+
+    /**
+     * Swaps the two elements of the {@code short} array at the
+     * specified indices in place.
+     *
+     * @param source the array to swap the elements in
+     * @param index1 the index of the first element
+     * @param index2 the index of the second element
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index1 or index2 is invalid
+     */
+    public static short[] swap(short[] source, int index1, int index2) {
+        if (source == null) return null;
+        if (index1 < 0 || index1 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index1, source.length));
+        if (index2 < 0 || index2 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index2, source.length));
+
+        short temp = source[index1];
+        source[index1] = source[index2];
+        source[index2] = temp;
+        return source;
+    }
+
+    /**
+     * Swaps two non-overlapping ranges of the {@code short} array of
+     * the specified length in place.
+     *
+     * @param source  the array to swap the ranges in
+     * @param offset1 the starting index of the first range
+     * @param offset2 the starting index of the second range
+     * @param length  the number of elements to swap
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the length is negative or the ranges overlap
+     * @throws IndexOutOfBoundsException if a range exceeds the bounds of the array
+     */
+    public static short[] swap(short[] source, int offset1, int offset2, int length) {
+        if (source == null) return null;
+        if (length < 0) throw new IllegalArgumentException(NEGATIVE_LENGTH_MESSAGE);
+        checkRange(source.length, offset1, offset1 + length);
+        checkRange(source.length, offset2, offset2 + length);
+        if (offset1 != offset2 && Math.abs(offset1 - offset2) < length)
+            throw new IllegalArgumentException(OVERLAPPING_RANGES_MESSAGE);
+
+        for (int i = 0; i < length; i++) {
+            short temp = source[offset1 + i];
+            source[offset1 + i] = source[offset2 + i];
+            source[offset2 + i] = temp;
+        }
+
+        return source;
+    }
+
+    /**
+     * Swaps the two elements of the {@code int} array at the
+     * specified indices in place.
+     *
+     * @param source the array to swap the elements in
+     * @param index1 the index of the first element
+     * @param index2 the index of the second element
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index1 or index2 is invalid
+     */
+    public static int[] swap(int[] source, int index1, int index2) {
+        if (source == null) return null;
+        if (index1 < 0 || index1 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index1, source.length));
+        if (index2 < 0 || index2 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index2, source.length));
+
+        int temp = source[index1];
+        source[index1] = source[index2];
+        source[index2] = temp;
+        return source;
+    }
+
+    /**
+     * Swaps two non-overlapping ranges of the {@code int} array of
+     * the specified length in place.
+     *
+     * @param source  the array to swap the ranges in
+     * @param offset1 the starting index of the first range
+     * @param offset2 the starting index of the second range
+     * @param length  the number of elements to swap
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the length is negative or the ranges overlap
+     * @throws IndexOutOfBoundsException if a range exceeds the bounds of the array
+     */
+    public static int[] swap(int[] source, int offset1, int offset2, int length) {
+        if (source == null) return null;
+        if (length < 0) throw new IllegalArgumentException(NEGATIVE_LENGTH_MESSAGE);
+        checkRange(source.length, offset1, offset1 + length);
+        checkRange(source.length, offset2, offset2 + length);
+        if (offset1 != offset2 && Math.abs(offset1 - offset2) < length)
+            throw new IllegalArgumentException(OVERLAPPING_RANGES_MESSAGE);
+
+        for (int i = 0; i < length; i++) {
+            int temp = source[offset1 + i];
+            source[offset1 + i] = source[offset2 + i];
+            source[offset2 + i] = temp;
+        }
+
+        return source;
+    }
+
+    /**
+     * Swaps the two elements of the {@code long} array at the
+     * specified indices in place.
+     *
+     * @param source the array to swap the elements in
+     * @param index1 the index of the first element
+     * @param index2 the index of the second element
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index1 or index2 is invalid
+     */
+    public static long[] swap(long[] source, int index1, int index2) {
+        if (source == null) return null;
+        if (index1 < 0 || index1 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index1, source.length));
+        if (index2 < 0 || index2 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index2, source.length));
+
+        long temp = source[index1];
+        source[index1] = source[index2];
+        source[index2] = temp;
+        return source;
+    }
+
+    /**
+     * Swaps two non-overlapping ranges of the {@code long} array of
+     * the specified length in place.
+     *
+     * @param source  the array to swap the ranges in
+     * @param offset1 the starting index of the first range
+     * @param offset2 the starting index of the second range
+     * @param length  the number of elements to swap
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the length is negative or the ranges overlap
+     * @throws IndexOutOfBoundsException if a range exceeds the bounds of the array
+     */
+    public static long[] swap(long[] source, int offset1, int offset2, int length) {
+        if (source == null) return null;
+        if (length < 0) throw new IllegalArgumentException(NEGATIVE_LENGTH_MESSAGE);
+        checkRange(source.length, offset1, offset1 + length);
+        checkRange(source.length, offset2, offset2 + length);
+        if (offset1 != offset2 && Math.abs(offset1 - offset2) < length)
+            throw new IllegalArgumentException(OVERLAPPING_RANGES_MESSAGE);
+
+        for (int i = 0; i < length; i++) {
+            long temp = source[offset1 + i];
+            source[offset1 + i] = source[offset2 + i];
+            source[offset2 + i] = temp;
+        }
+
+        return source;
+    }
+
+    /**
+     * Swaps the two elements of the {@code float} array at the
+     * specified indices in place.
+     *
+     * @param source the array to swap the elements in
+     * @param index1 the index of the first element
+     * @param index2 the index of the second element
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index1 or index2 is invalid
+     */
+    public static float[] swap(float[] source, int index1, int index2) {
+        if (source == null) return null;
+        if (index1 < 0 || index1 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index1, source.length));
+        if (index2 < 0 || index2 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index2, source.length));
+
+        float temp = source[index1];
+        source[index1] = source[index2];
+        source[index2] = temp;
+        return source;
+    }
+
+    /**
+     * Swaps two non-overlapping ranges of the {@code float} array of
+     * the specified length in place.
+     *
+     * @param source  the array to swap the ranges in
+     * @param offset1 the starting index of the first range
+     * @param offset2 the starting index of the second range
+     * @param length  the number of elements to swap
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the length is negative or the ranges overlap
+     * @throws IndexOutOfBoundsException if a range exceeds the bounds of the array
+     */
+    public static float[] swap(float[] source, int offset1, int offset2, int length) {
+        if (source == null) return null;
+        if (length < 0) throw new IllegalArgumentException(NEGATIVE_LENGTH_MESSAGE);
+        checkRange(source.length, offset1, offset1 + length);
+        checkRange(source.length, offset2, offset2 + length);
+        if (offset1 != offset2 && Math.abs(offset1 - offset2) < length)
+            throw new IllegalArgumentException(OVERLAPPING_RANGES_MESSAGE);
+
+        for (int i = 0; i < length; i++) {
+            float temp = source[offset1 + i];
+            source[offset1 + i] = source[offset2 + i];
+            source[offset2 + i] = temp;
+        }
+
+        return source;
+    }
+
+    /**
+     * Swaps the two elements of the {@code double} array at the
+     * specified indices in place.
+     *
+     * @param source the array to swap the elements in
+     * @param index1 the index of the first element
+     * @param index2 the index of the second element
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index1 or index2 is invalid
+     */
+    public static double[] swap(double[] source, int index1, int index2) {
+        if (source == null) return null;
+        if (index1 < 0 || index1 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index1, source.length));
+        if (index2 < 0 || index2 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index2, source.length));
+
+        double temp = source[index1];
+        source[index1] = source[index2];
+        source[index2] = temp;
+        return source;
+    }
+
+    /**
+     * Swaps two non-overlapping ranges of the {@code double} array of
+     * the specified length in place.
+     *
+     * @param source  the array to swap the ranges in
+     * @param offset1 the starting index of the first range
+     * @param offset2 the starting index of the second range
+     * @param length  the number of elements to swap
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the length is negative or the ranges overlap
+     * @throws IndexOutOfBoundsException if a range exceeds the bounds of the array
+     */
+    public static double[] swap(double[] source, int offset1, int offset2, int length) {
+        if (source == null) return null;
+        if (length < 0) throw new IllegalArgumentException(NEGATIVE_LENGTH_MESSAGE);
+        checkRange(source.length, offset1, offset1 + length);
+        checkRange(source.length, offset2, offset2 + length);
+        if (offset1 != offset2 && Math.abs(offset1 - offset2) < length)
+            throw new IllegalArgumentException(OVERLAPPING_RANGES_MESSAGE);
+
+        for (int i = 0; i < length; i++) {
+            double temp = source[offset1 + i];
+            source[offset1 + i] = source[offset2 + i];
+            source[offset2 + i] = temp;
+        }
+
+        return source;
+    }
+
+    /**
+     * Swaps the two elements of the {@code Object} array at the
+     * specified indices in place.
+     *
+     * @param <T>    the type of array elements
+     * @param source the array to swap the elements in
+     * @param index1 the index of the first element
+     * @param index2 the index of the second element
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IndexOutOfBoundsException if index1 or index2 is invalid
+     */
+    public static <T> T[] swap(T[] source, int index1, int index2) {
+        if (source == null) return null;
+        if (index1 < 0 || index1 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index1, source.length));
+        if (index2 < 0 || index2 >= source.length)
+            throw new IndexOutOfBoundsException(invalidIndex(index2, source.length));
+
+        T temp = source[index1];
+        source[index1] = source[index2];
+        source[index2] = temp;
+        return source;
+    }
+
+    /**
+     * Swaps two non-overlapping ranges of the {@code Object} array of
+     * the specified length in place.
+     *
+     * @param <T>     the type of array elements
+     * @param source  the array to swap the ranges in
+     * @param offset1 the starting index of the first range
+     * @param offset2 the starting index of the second range
+     * @param length  the number of elements to swap
+     * @return the same array instance, or {@code null} if the source is {@code null}
+     * @throws IllegalArgumentException  if the length is negative or the ranges overlap
+     * @throws IndexOutOfBoundsException if a range exceeds the bounds of the array
+     */
+    public static <T> T[] swap(T[] source, int offset1, int offset2, int length) {
+        if (source == null) return null;
+        if (length < 0) throw new IllegalArgumentException(NEGATIVE_LENGTH_MESSAGE);
+        checkRange(source.length, offset1, offset1 + length);
+        checkRange(source.length, offset2, offset2 + length);
+        if (offset1 != offset2 && Math.abs(offset1 - offset2) < length)
+            throw new IllegalArgumentException(OVERLAPPING_RANGES_MESSAGE);
+
+        for (int i = 0; i < length; i++) {
+            T temp = source[offset1 + i];
+            source[offset1 + i] = source[offset2 + i];
+            source[offset2 + i] = temp;
+        }
+
+        return source;
+    }
 }
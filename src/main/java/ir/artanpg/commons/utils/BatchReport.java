@@ -0,0 +1,223 @@
+package ir.artanpg.commons.utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The outcome of processing a collection in batches with
+ * {@link CollectionUtils#processBatches(java.util.Collection, int, java.util.function.Function,
+ * java.util.concurrent.Executor, int, Duration)}, holding the result or the failure and the latency of every
+ * batch in source order.
+ *
+ * <p>A failing batch does not stop the others, so the report lists every
+ * failure at once instead of only the first one. Callers that want to stop
+ * on any failure call {@link #rethrowFailures()}.
+ *
+ * <pre>{@code
+ * BatchReport<Integer> report = CollectionUtils.processBatches(orders, 500, repository::saveAll, executor, 4, null);
+ * report.failures().forEach(batch -> log.warn("Batch {} failed", batch.index(), batch.failure()));
+ * }</pre>
+ *
+ * @param <R> the type of the batch results
+ * @author Mohammad Yazdian
+ */
+public final class BatchReport<R> {
+
+    private final List<Batch<R>> batches;
+
+    BatchReport(List<Batch<R>> batches) {
+        this.batches = Collections.unmodifiableList(batches);
+    }
+
+    /**
+     * Returns every batch, in source order.
+     *
+     * @return an unmodifiable list of the batches
+     */
+    public List<Batch<R>> batches() {
+        return batches;
+    }
+
+    /**
+     * Returns the results of the successful batches, in source order.
+     *
+     * @return a new list of the results
+     */
+    public List<R> results() {
+        List<R> result = new ArrayList<>(batches.size());
+        for (Batch<R> batch : batches) {
+            if (batch.isSuccessful()) result.add(batch.result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the batches that failed, in source order.
+     *
+     * @return a new list of the failed batches, empty if all batches succeeded
+     */
+    public List<Batch<R>> failures() {
+        List<Batch<R>> result = new ArrayList<>();
+        for (Batch<R> batch : batches) {
+            if (!batch.isSuccessful()) result.add(batch);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks whether any batch failed.
+     *
+     * @return {@code true} if a batch failed, {@code false} otherwise
+     */
+    public boolean hasFailures() {
+        for (Batch<R> batch : batches) {
+            if (!batch.isSuccessful()) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the longest latency of a single batch.
+     *
+     * @return the maximum batch latency, {@link Duration#ZERO} if there are no batches
+     */
+    public Duration maxLatency() {
+        long max = 0;
+        for (Batch<R> batch : batches) {
+            max = Math.max(max, batch.latencyNanos);
+        }
+
+        return Duration.ofNanos(max);
+    }
+
+    /**
+     * Returns the sum of the latencies of all batches, which exceeds the
+     * elapsed time when batches ran concurrently.
+     *
+     * @return the total batch latency
+     */
+    public Duration totalLatency() {
+        long total = 0;
+        for (Batch<R> batch : batches) {
+            total += batch.latencyNanos;
+        }
+
+        return Duration.ofNanos(total);
+    }
+
+    /**
+     * Throws the failure of the first failed batch, with the failures of the
+     * later failed batches added as suppressed exceptions.
+     *
+     * @return this report, if no batch failed
+     * @throws CompletionException if a batch failed, with the first failure as its cause
+     */
+    public BatchReport<R> rethrowFailures() {
+        CompletionException exception = null;
+        for (Batch<R> batch : batches) {
+            if (batch.isSuccessful()) continue;
+
+            if (exception == null) {
+                exception = new CompletionException("Batch " + batch.index + " failed", batch.failure);
+            } else {
+                exception.addSuppressed(batch.failure);
+            }
+        }
+        if (exception != null) throw exception;
+
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchReport{batches=" + batches.size() + ", failures=" + failures().size() + ", maxLatency="
+                + maxLatency() + '}';
+    }
+
+    /**
+     * The outcome of a single batch.
+     *
+     * @param <R> the type of the batch result
+     */
+    public static final class Batch<R> {
+        private final int index;
+        private final int size;
+        private final long latencyNanos;
+        private final R result;
+        private final RuntimeException failure;
+
+        Batch(int index, int size, long latencyNanos, R result, RuntimeException failure) {
+            this.index = index;
+            this.size = size;
+            this.latencyNanos = latencyNanos;
+            this.result = result;
+            this.failure = failure;
+        }
+
+        /**
+         * Returns the position of the batch in source order, starting at 0.
+         *
+         * @return the batch index
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Returns the number of elements in the batch.
+         *
+         * @return the batch size
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Returns the time spent processing the batch.
+         *
+         * @return the batch latency
+         */
+        public Duration latency() {
+            return Duration.ofNanos(latencyNanos);
+        }
+
+        /**
+         * Returns the result of the batch.
+         *
+         * @return the result, {@code null} if the batch failed
+         */
+        public R result() {
+            return result;
+        }
+
+        /**
+         * Returns the exception thrown while processing the batch.
+         *
+         * @return the failure, {@code null} if the batch succeeded
+         */
+        public RuntimeException failure() {
+            return failure;
+        }
+
+        /**
+         * Checks whether the batch was processed without an exception.
+         *
+         * @return {@code true} if the batch succeeded, {@code false} otherwise
+         */
+        public boolean isSuccessful() {
+            return failure == null;
+        }
+
+        @Override
+        public String toString() {
+            return "Batch{index=" + index + ", size=" + size + ", latency=" + latency()
+                    + (failure == null ? "" : ", failure=" + failure) + '}';
+        }
+    }
+}
@@ -0,0 +1,515 @@
+package ir.artanpg.commons.utils;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * A fixed-length array of flags packed into 64-bit words, offering the
+ * {@code boolean[]} operations of {@link ArrayUtils} at one bit per flag.
+ *
+ * <p>Counting uses {@link Long#bitCount(long)} and searching uses
+ * {@link Long#numberOfTrailingZeros(long)}, so both process 64 flags per
+ * step. The bulk logical operations combine whole words and modify this
+ * array in place, while {@link #add(int, boolean)}, {@link #remove(int)} and
+ * {@link #merge(BitArray)} return a new array, like their {@link ArrayUtils}
+ * counterparts. This class is not thread-safe.
+ *
+ * <pre>{@code
+ * BitArray mask = BitArray.valueOf(featureFlags);
+ * mask.and(enabledFlags);
+ * int enabled = mask.count();
+ * int first = mask.indexOf(true);
+ * }</pre>
+ *
+ * @author Mohammad Yazdian
+ */
+public final class BitArray {
+
+    private static final int ADDRESS_BITS = 6;
+    private static final int WORD_MASK = Long.SIZE - 1;
+    private static final String OTHER_IS_NULL_MESSAGE = "The other bit array cannot be null";
+
+    private final long[] words;
+    private final int length;
+
+    /**
+     * Creates a bit array of the specified length with every flag cleared.
+     *
+     * @param length the number of flags
+     * @throws IllegalArgumentException if length is negative
+     */
+    public BitArray(int length) {
+        if (length < 0) throw new IllegalArgumentException("The length cannot be negative");
+
+        this.words = new long[wordCount(length)];
+        this.length = length;
+    }
+
+    private BitArray(long[] words, int length) {
+        this.words = words;
+        this.length = length;
+    }
+
+    /**
+     * Creates a bit array holding the same flags as the specified
+     * {@code boolean} array.
+     *
+     * @param source the flags to pack
+     * @return a new bit array with the same length and flags as the source
+     * @throws IllegalArgumentException if the source is {@code null}
+     */
+    public static BitArray valueOf(boolean[] source) {
+        if (source == null) throw new IllegalArgumentException("The input array cannot be null");
+
+        BitArray result = new BitArray(source.length);
+        for (int i = 0; i < source.length; i++) {
+            if (source[i]) result.words[i >>> ADDRESS_BITS] |= 1L << i;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the number of flags in this array.
+     *
+     * @return the number of flags
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the flag at the specified index.
+     *
+     * @param index the index of the flag
+     * @return the flag at the specified index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public boolean get(int index) {
+        Objects.checkIndex(index, length);
+        return (words[index >>> ADDRESS_BITS] & (1L << index)) != 0;
+    }
+
+    /**
+     * Sets the flag at the specified index to the specified value.
+     *
+     * @param index the index of the flag
+     * @param value the value to set
+     * @return this bit array
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public BitArray set(int index, boolean value) {
+        Objects.checkIndex(index, length);
+
+        if (value) words[index >>> ADDRESS_BITS] |= 1L << index;
+        else words[index >>> ADDRESS_BITS] &= ~(1L << index);
+
+        return this;
+    }
+
+    /**
+     * Inverts the flag at the specified index.
+     *
+     * @param index the index of the flag
+     * @return this bit array
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public BitArray flip(int index) {
+        Objects.checkIndex(index, length);
+
+        words[index >>> ADDRESS_BITS] ^= 1L << index;
+        return this;
+    }
+
+    /**
+     * Sets every flag to the specified value.
+     *
+     * @param value the value to set
+     * @return this bit array
+     */
+    public BitArray fill(boolean value) {
+        return fill(0, length, value);
+    }
+
+    /**
+     * Sets every flag in the specified range to the specified value.
+     *
+     * @param fromIndex the index of the first flag to set (inclusive)
+     * @param toIndex   the index of the last flag to set (exclusive)
+     * @param value     the value to set
+     * @return this bit array
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public BitArray fill(int fromIndex, int toIndex, boolean value) {
+        Objects.checkFromToIndex(fromIndex, toIndex, length);
+        if (fromIndex == toIndex) return this;
+
+        int first = fromIndex >>> ADDRESS_BITS;
+        int last = (toIndex - 1) >>> ADDRESS_BITS;
+        long firstMask = -1L << fromIndex;
+        long lastMask = -1L >>> -toIndex;
+
+        if (first == last) {
+            apply(first, firstMask & lastMask, value);
+            return this;
+        }
+
+        apply(first, firstMask, value);
+        Arrays.fill(words, first + 1, last, value ? -1L : 0L);
+        apply(last, lastMask, value);
+
+        return this;
+    }
+
+    /**
+     * Returns the number of flags that are set.
+     *
+     * @return the number of {@code true} flags
+     */
+    public int count() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the number of flags that are set in the specified range.
+     *
+     * @param fromIndex the index of the first flag to count (inclusive)
+     * @param toIndex   the index of the last flag to count (exclusive)
+     * @return the number of {@code true} flags in the range
+     * @throws IndexOutOfBoundsException if the range is out of bounds
+     */
+    public int count(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, length);
+        if (fromIndex == toIndex) return 0;
+
+        int first = fromIndex >>> ADDRESS_BITS;
+        int last = (toIndex - 1) >>> ADDRESS_BITS;
+        long firstMask = -1L << fromIndex;
+        long lastMask = -1L >>> -toIndex;
+
+        if (first == last) return Long.bitCount(words[first] & firstMask & lastMask);
+
+        int count = Long.bitCount(words[first] & firstMask) + Long.bitCount(words[last] & lastMask);
+        for (int i = first + 1; i < last; i++) {
+            count += Long.bitCount(words[i]);
+        }
+
+        return count;
+    }
+
+    /**
+     * Finds the index of the first flag with the given value.
+     *
+     * @param value the value to find
+     * @return the index of the first matching flag, {@code -1} otherwise
+     * @see #indexOf(boolean, int)
+     */
+    public int indexOf(boolean value) {
+        return indexOf(value, 0);
+    }
+
+    /**
+     * Finds the index of the first flag with the given value, starting at the
+     * given index.
+     *
+     * @param value     the value to find
+     * @param fromIndex the index to start searching at
+     * @return the index of the first matching flag, {@code -1} otherwise
+     */
+    public int indexOf(boolean value, int fromIndex) {
+        if (fromIndex < 0 || fromIndex >= length) return ArrayUtils.INDEX_NOT_FOUND;
+
+        int index = fromIndex >>> ADDRESS_BITS;
+        long word = wordOf(index, value) & (-1L << fromIndex);
+        while (word == 0) {
+            if (++index == words.length) return ArrayUtils.INDEX_NOT_FOUND;
+            word = wordOf(index, value);
+        }
+
+        int result = (index << ADDRESS_BITS) + Long.numberOfTrailingZeros(word);
+        return result < length ? result : ArrayUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * Finds the index of the last flag with the given value.
+     *
+     * @param value the value to find
+     * @return the index of the last matching flag, {@code -1} otherwise
+     * @see #lastIndexOf(boolean, int)
+     */
+    public int lastIndexOf(boolean value) {
+        return lastIndexOf(value, length - 1);
+    }
+
+    /**
+     * Finds the index of the last flag with the given value, searching
+     * backwards from the given index.
+     *
+     * @param value     the value to find
+     * @param fromIndex the index to start searching backwards at
+     * @return the index of the last matching flag, {@code -1} otherwise
+     */
+    public int lastIndexOf(boolean value, int fromIndex) {
+        if (fromIndex < 0 || fromIndex >= length) return ArrayUtils.INDEX_NOT_FOUND;
+
+        int index = fromIndex >>> ADDRESS_BITS;
+        long word = wordOf(index, value) & (-1L >>> (WORD_MASK - (fromIndex & WORD_MASK)));
+        while (word == 0) {
+            if (--index < 0) return ArrayUtils.INDEX_NOT_FOUND;
+            word = wordOf(index, value);
+        }
+
+        return (index << ADDRESS_BITS) + WORD_MASK - Long.numberOfLeadingZeros(word);
+    }
+
+    /**
+     * Finds the indices of all flags with the given value.
+     *
+     * @param value the value to find
+     * @return a {@code BitSet} of all matching indices
+     */
+    public BitSet indexesOf(boolean value) {
+        if (value) return BitSet.valueOf(words);
+
+        long[] inverted = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            inverted[i] = ~words[i];
+        }
+        if (inverted.length > 0) inverted[inverted.length - 1] &= lastWordMask();
+
+        return BitSet.valueOf(inverted);
+    }
+
+    /**
+     * Returns a new bit array with the given flag inserted at the given index.
+     *
+     * @param index the position to insert the flag at
+     * @param value the flag to insert
+     * @return a new bit array one flag longer than this one
+     * @throws IndexOutOfBoundsException if index is negative or greater than the length
+     */
+    public BitArray add(int index, boolean value) {
+        if (index < 0 || index > length)
+            throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for length %d", index, length));
+
+        BitArray result = new BitArray(length + 1);
+        copyBits(words, 0, result.words, 0, index);
+        copyBits(words, index, result.words, index + 1, length - index);
+        if (value) result.words[index >>> ADDRESS_BITS] |= 1L << index;
+
+        return result;
+    }
+
+    /**
+     * Returns a new bit array without the flag at the given index.
+     *
+     * @param index the position of the flag to remove
+     * @return a new bit array one flag shorter than this one
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public BitArray remove(int index) {
+        Objects.checkIndex(index, length);
+
+        BitArray result = new BitArray(length - 1);
+        copyBits(words, 0, result.words, 0, index);
+        copyBits(words, index + 1, result.words, index, length - index - 1);
+
+        return result;
+    }
+
+    /**
+     * Returns a new bit array holding the flags of this array followed by
+     * the flags of the other array.
+     *
+     * @param other the bit array to append, {@code null} is treated as empty
+     * @return a new bit array containing the flags of both arrays
+     */
+    public BitArray merge(BitArray other) {
+        if (other == null) return copy();
+
+        BitArray result = new BitArray(length + other.length);
+        System.arraycopy(words, 0, result.words, 0, words.length);
+        copyBits(other.words, 0, result.words, length, other.length);
+
+        return result;
+    }
+
+    /**
+     * Sets each flag to the logical AND of itself and the corresponding flag
+     * of the other array.
+     *
+     * @param other the bit array to combine with
+     * @return this bit array
+     * @throws IllegalArgumentException if other is {@code null} or has a different length
+     */
+    public BitArray and(BitArray other) {
+        checkSameLength(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+
+        return this;
+    }
+
+    /**
+     * Clears each flag whose corresponding flag in the other array is set.
+     *
+     * @param other the bit array to combine with
+     * @return this bit array
+     * @throws IllegalArgumentException if other is {@code null} or has a different length
+     */
+    public BitArray andNot(BitArray other) {
+        checkSameLength(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= ~other.words[i];
+        }
+
+        return this;
+    }
+
+    /**
+     * Sets each flag to the logical OR of itself and the corresponding flag
+     * of the other array.
+     *
+     * @param other the bit array to combine with
+     * @return this bit array
+     * @throws IllegalArgumentException if other is {@code null} or has a different length
+     */
+    public BitArray or(BitArray other) {
+        checkSameLength(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+
+        return this;
+    }
+
+    /**
+     * Sets each flag to the logical XOR of itself and the corresponding flag
+     * of the other array.
+     *
+     * @param other the bit array to combine with
+     * @return this bit array
+     * @throws IllegalArgumentException if other is {@code null} or has a different length
+     */
+    public BitArray xor(BitArray other) {
+        checkSameLength(other);
+        for (int i = 0; i < words.length; i++) {
+            words[i] ^= other.words[i];
+        }
+
+        return this;
+    }
+
+    /**
+     * Inverts every flag.
+     *
+     * @return this bit array
+     */
+    public BitArray not() {
+        for (int i = 0; i < words.length; i++) {
+            words[i] = ~words[i];
+        }
+        if (words.length > 0) words[words.length - 1] &= lastWordMask();
+
+        return this;
+    }
+
+    /**
+     * Returns a copy of this bit array.
+     *
+     * @return a new bit array with the same length and flags
+     */
+    public BitArray copy() {
+        return new BitArray(words.clone(), length);
+    }
+
+    /**
+     * Unpacks the flags into a {@code boolean} array.
+     *
+     * @return a new {@code boolean} array with the same length and flags
+     */
+    public boolean[] toBooleanArray() {
+        boolean[] result = new boolean[length];
+        for (int i = indexOf(true); i >= 0; i = indexOf(true, i + 1)) {
+            result[i] = true;
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof BitArray)) return false;
+
+        BitArray that = (BitArray) other;
+        return length == that.length && Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * length + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(get(i) ? '1' : '0');
+        }
+        return builder.toString();
+    }
+
+    private static int wordCount(int length) {
+        return (length + WORD_MASK) >>> ADDRESS_BITS;
+    }
+
+    private static long readBits(long[] words, int position) {
+        int index = position >>> ADDRESS_BITS;
+        int shift = position & WORD_MASK;
+        long bits = words[index] >>> shift;
+        if (shift != 0 && index + 1 < words.length) bits |= words[index + 1] << -shift;
+
+        return bits;
+    }
+
+    private static void copyBits(long[] source, int sourcePosition, long[] target, int targetPosition, int count) {
+        // Each step writes up to the next word boundary of the target, reading an unaligned window of the source
+        while (count > 0) {
+            int shift = targetPosition & WORD_MASK;
+            int step = Math.min(count, Long.SIZE - shift);
+            long mask = -1L >>> (Long.SIZE - step);
+            int index = targetPosition >>> ADDRESS_BITS;
+
+            target[index] = (target[index] & ~(mask << shift)) | ((readBits(source, sourcePosition) & mask) << shift);
+            sourcePosition += step;
+            targetPosition += step;
+            count -= step;
+        }
+    }
+
+    private long wordOf(int index, boolean value) {
+        return value ? words[index] : ~words[index];
+    }
+
+    private long lastWordMask() {
+        return -1L >>> -length;
+    }
+
+    private void apply(int index, long mask, boolean value) {
+        if (value) words[index] |= mask;
+        else words[index] &= ~mask;
+    }
+
+    private void checkSameLength(BitArray other) {
+        if (other == null) throw new IllegalArgumentException(OTHER_IS_NULL_MESSAGE);
+        if (other.length != length) throw new IllegalArgumentException("The bit arrays must have the same length");
+    }
+}
@@ -0,0 +1,208 @@
+package ir.artanpg.commons.utils;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * A space-efficient probabilistic set that answers whether an element might
+ * have been added, with no false negatives and a configurable rate of false
+ * positives.
+ *
+ * <p>Each element sets {@link #hashCount()} bits of a fixed bit array chosen
+ * from its {@link Object#hashCode()}, so the filter takes about 10 bits per
+ * element at a 1% false positive rate regardless of the element type, where
+ * a {@link java.util.HashSet} takes a node of several dozen bytes and keeps
+ * the element itself reachable. The filter cannot list or remove elements;
+ * use {@link CountingBloomFilter} when removal is needed. Elements with equal
+ * hash codes are indistinguishable, and adding more elements than the filter
+ * was sized for raises the false positive rate above the configured one.
+ *
+ * <p>A common use is as a pre-check in front of an exact but expensive
+ * lookup: a {@code false} answer from {@link #mightContain(Object)} skips
+ * the lookup for good, and only the few {@code true} answers have to be
+ * confirmed. {@link CollectionUtils#difference(Collection, Collection, double)}
+ * and its siblings work this way. This class is not thread-safe.
+ *
+ * <pre>{@code
+ * BloomFilter<String> seen = BloomFilter.of(1_000_000, 0.01);
+ * for (String id : incomingIds) {
+ *     if (!seen.mightContain(id) || repository.exists(id)) process(id);
+ *     seen.add(id);
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the elements
+ * @author Mohammad Yazdian
+ */
+public final class BloomFilter<T> {
+
+    private static final double LN2 = Math.log(2);
+    private static final long MAX_BITS = (long) (Integer.MAX_VALUE - 8) * Long.SIZE;
+
+    private final long[] words;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.words = new long[(int) ((bitSize + Long.SIZE - 1) / Long.SIZE)];
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Creates an empty filter sized for the specified number of elements and
+     * false positive rate.
+     *
+     * @param <T>               the type of the elements
+     * @param expectedElements  the number of elements the filter is expected to hold
+     * @param falsePositiveRate the acceptable probability of a false positive, between 0 and 1 exclusive
+     * @return a new empty filter
+     * @throws IllegalArgumentException if expectedElements is negative or falsePositiveRate is not between 0 and 1
+     */
+    public static <T> BloomFilter<T> of(int expectedElements, double falsePositiveRate) {
+        long bits = Math.min(optimalBitSize(expectedElements, falsePositiveRate), MAX_BITS);
+        return new BloomFilter<>(bits, optimalHashCount(falsePositiveRate));
+    }
+
+    /**
+     * Creates a filter sized for and holding the elements of the specified
+     * collection.
+     *
+     * @param <T>               the type of the elements
+     * @param source            the elements to add, may be {@code null} or {@code empty}
+     * @param falsePositiveRate the acceptable probability of a false positive, between 0 and 1 exclusive
+     * @return a new filter holding the elements
+     * @throws IllegalArgumentException if falsePositiveRate is not between 0 and 1
+     */
+    public static <T> BloomFilter<T> of(Collection<? extends T> source, double falsePositiveRate) {
+        BloomFilter<T> result = of(source == null ? 0 : source.size(), falsePositiveRate);
+        result.addAll(source);
+
+        return result;
+    }
+
+    /**
+     * Adds the specified element to the filter.
+     *
+     * @param element the element to add, may be {@code null}
+     * @return {@code true} if the filter changed, which means the element was certainly not added before,
+     * {@code false} otherwise
+     */
+    public boolean add(T element) {
+        long hash = hash(element);
+        boolean changed = false;
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(hash, i, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            if ((words[word] & mask) == 0) {
+                words[word] |= mask;
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Adds all elements of the specified collection to the filter.
+     *
+     * @param elements the elements to add, may be {@code null} or {@code empty}
+     */
+    public void addAll(Collection<? extends T> elements) {
+        if (CollectionUtils.isEmpty(elements)) return;
+
+        for (T element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Checks whether the specified element might have been added to the
+     * filter.
+     *
+     * @param element the element to check, may be {@code null}
+     * @return {@code false} if the element was certainly never added, {@code true} if it probably was
+     */
+    public boolean mightContain(Object element) {
+        long hash = hash(element);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = index(hash, i, bitSize);
+            if ((words[(int) (index >>> 6)] & (1L << index)) == 0) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the number of bits in the filter.
+     *
+     * @return the bit size
+     */
+    public long bitSize() {
+        return bitSize;
+    }
+
+    /**
+     * Returns the number of bits set for each element.
+     *
+     * @return the number of hash functions
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Estimates the current false positive rate from the fraction of bits
+     * that are set. The estimate exceeds the configured rate once more
+     * elements have been added than the filter was sized for.
+     *
+     * @return the estimated probability that {@link #mightContain(Object)} returns {@code true} for an element that
+     * was never added
+     */
+    public double expectedFalsePositiveRate() {
+        long setBits = 0;
+        for (long word : words) {
+            setBits += Long.bitCount(word);
+        }
+
+        return Math.pow((double) setBits / bitSize, hashCount);
+    }
+
+    @Override
+    public String toString() {
+        return "BloomFilter{bitSize=" + bitSize + ", hashCount=" + hashCount + '}';
+    }
+
+    static long optimalBitSize(int expectedElements, double falsePositiveRate) {
+        if (expectedElements < 0)
+            throw new IllegalArgumentException("The expected number of elements cannot be negative");
+        checkFalsePositiveRate(falsePositiveRate);
+
+        double bits = -Math.max(expectedElements, 1) * Math.log(falsePositiveRate) / (LN2 * LN2);
+        return Math.max(Long.SIZE, (long) Math.ceil(bits));
+    }
+
+    static void checkFalsePositiveRate(double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1))
+            throw new IllegalArgumentException("The false positive rate must be between 0 and 1");
+    }
+
+    // Depends on the rate alone, so a bit size clamped up to Long.SIZE for a tiny filter does not inflate it
+    static int optimalHashCount(double falsePositiveRate) {
+        return Math.max(1, (int) Math.round(-Math.log(falsePositiveRate) / LN2));
+    }
+
+    // Spreads the 32-bit hash code over 64 bits, whose halves seed the double hashing in index
+    static long hash(Object element) {
+        long hash = Objects.hashCode(element) * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        hash *= 0xD6E8FEB86659FD93L;
+        return hash ^ (hash >>> 32);
+    }
+
+    static long index(long hash, int i, long bitSize) {
+        long combined = (int) hash + (long) i * (int) (hash >>> 32);
+        return (combined & Long.MAX_VALUE) % bitSize;
+    }
+}
@@ -2,27 +2,54 @@
 
 import ir.artanpg.commons.core.tools.jacoco.Generated;
 
+import java.time.Duration;
 import java.util.AbstractList;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.Vector;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Provides utility methods for {@link Collection} instances.
@@ -31,6 +58,10 @@
  */
 public abstract class CollectionUtils {
 
+    private static final int LINEAR_SCAN_THRESHOLD = 16;
+    private static final int MIN_HASHED_LOOKUPS = 4;
+    private static final int PARALLEL_GROUPING_THRESHOLD = 1 << 13;
+
     /**
      * Private constructor to prevent instantiation of this utility class.
      *
@@ -41,13 +72,408 @@ private CollectionUtils() {
         throw new UnsupportedOperationException("This class cannot be instantiated");
     }
 
+    private static <T, C extends Collection<T>> C unionInto(Collection<T> dominant, Collection<T> recessive, C result) {
+        if (!isEmpty(dominant)) result.addAll(dominant);
+        if (isEmpty(recessive)) return result;
+
+        // Tracks everything already in the result, replacing a linear contains on the growing result
+        Set<T> seen = isEmpty(dominant) ? new HashSet<>() : new HashSet<>(dominant);
+        for (T element : recessive) {
+            if (seen.add(element)) result.add(element);
+        }
+
+        return result;
+    }
+
+    private static <T> MembershipIndex<T> lookup(Collection<T> source, int lookups) {
+        if (source instanceof Set) return new MembershipIndex<>((Set<T>) source, null);
+
+        // Hashing costs a few scans of the source, so it only pays off for a large source and several lookups
+        boolean hash = source.size() > LINEAR_SCAN_THRESHOLD && lookups > MIN_HASHED_LOOKUPS;
+        return hash ? new MembershipIndex<>(new HashSet<>(source), null) : new MembershipIndex<>(null, source);
+    }
+
+    private static <T, C extends Collection<T>> C subtractInto(Collection<T> source,
+                                                             Collection<T> elementsToRemove,
+                                                             Predicate<T> predicate,
+                                                             C result) {
+        Predicate<T> kept;
+        if (elementsToRemove instanceof Set || elementsToRemove.size() <= source.size()) {
+            MembershipIndex<T> removed = lookup(elementsToRemove, source.size());
+            kept = item -> !removed.contains(item);
+        } else {
+            // The removal side is larger, so the distinct source elements are hashed and struck off as it streams by
+            Set<T> remaining = new HashSet<>(source);
+            for (T element : elementsToRemove) {
+                if (remaining.remove(element) && remaining.isEmpty()) break;
+            }
+            kept = remaining::contains;
+        }
+
+        for (T item : source) {
+            if (predicate.test(item) && kept.test(item)) result.add(item);
+        }
+
+        return result;
+    }
+
+    // Returns the source elements that are in candidates, or null when the plain set operation applies
+    private static <T> Set<T> bloomMatches(Collection<T> source, Collection<T> candidates, double falsePositiveRate) {
+        BloomFilter.checkFalsePositiveRate(falsePositiveRate);
+        if (isEmpty(source) || isEmpty(candidates) || candidates instanceof Set) return null;
+
+        // Only the source elements that pass the filter are hashed and confirmed against the candidates
+        BloomFilter<T> filter = BloomFilter.of(candidates, falsePositiveRate);
+        Set<T> possible = new HashSet<>();
+        for (T item : source) {
+            if (filter.mightContain(item)) possible.add(item);
+        }
+
+        Set<T> present = new HashSet<>();
+        for (T candidate : candidates) {
+            if (possible.remove(candidate)) {
+                present.add(candidate);
+                if (possible.isEmpty()) break;
+            }
+        }
+
+        return present;
+    }
+
+    private static <T> Iterable<T> sortedMerge(Collection<T> left,
+                                               Collection<T> right,
+                                               Comparator<? super T> comparator,
+                                               int operation) {
+        if (comparator == null) throw new IllegalArgumentException("The comparator cannot be null");
+
+        return () -> new SortedMerge<>(iterator(left), iterator(right), comparator, operation);
+    }
+
+    private static <T> Iterator<T> iterator(Collection<T> collection) {
+        return isEmpty(collection) ? Collections.emptyIterator() : collection.iterator();
+    }
+
+    private static <T, K, A> Map<K, A> groupInto(Object[] elements,
+                                                 int from,
+                                                 int to,
+                                                 Function<? super T, ? extends K> function,
+                                                 Collector<? super T, A, ?> downstream) {
+        Supplier<A> supplier = downstream.supplier();
+        BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+
+        Map<K, A> containers = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            @SuppressWarnings("unchecked") T item = (T) elements[i];
+            accumulator.accept(containers.computeIfAbsent(function.apply(item), key -> supplier.get()), item);
+        }
+
+        return containers;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <K, A, D> Map<K, D> finishGroups(Map<K, A> containers, Collector<?, A, D> downstream) {
+        if (downstream.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH))
+            return (Map<K, D>) containers;
+
+        // Each container is replaced by its finished value in place, reusing the map instead of copying it
+        Function<A, D> finisher = downstream.finisher();
+        ((Map<K, Object>) containers).replaceAll((key, container) -> finisher.apply((A) container));
+
+        return (Map<K, D>) containers;
+    }
+
+    private static Object[] applyConcurrently(Object[] elements,
+                                              Function<Object, ?> function,
+                                              Executor executor,
+                                              int concurrency,
+                                              Duration timeout) {
+        if (executor == null) throw new IllegalArgumentException("The executor cannot be null");
+        if (concurrency < 1) throw new IllegalArgumentException("The concurrency must be positive");
+        if (timeout != null && timeout.isNegative())
+            throw new IllegalArgumentException("The timeout cannot be negative");
+
+        int workers = Math.min(concurrency, elements.length);
+        ConcurrentApply run = new ConcurrentApply(elements, function, workers);
+
+        int started = 0;
+        try {
+            for (; started < workers; started++) {
+                executor.execute(run);
+            }
+        } catch (RejectedExecutionException e) {
+            if (started == 0) throw e;
+
+            // The workers that did start share the remaining elements between them
+            for (int i = started; i < workers; i++) {
+                run.done.countDown();
+            }
+        }
+
+        try {
+            if (timeout == null) {
+                run.done.await();
+            } else if (!run.done.await(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                run.cancel();
+                throw new CompletionException(new TimeoutException("The operation did not complete within " + timeout));
+            }
+        } catch (InterruptedException e) {
+            run.cancel();
+            Thread.currentThread().interrupt();
+            throw new CancellationException("The operation was interrupted");
+        }
+
+        Throwable failure = run.failure.get();
+        if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+        if (failure instanceof Error) throw (Error) failure;
+        if (failure != null) throw new CompletionException(failure);
+
+        return run.results;
+    }
+
+    private static <T, V> PropertyIndex<T, V> propertyIndex(Collection<T> source,
+                                                            Function<? super T, ? extends V> extractor,
+                                                            boolean unique) {
+        if (extractor == null) throw new IllegalArgumentException("The extractor cannot be null");
+
+        PropertyIndex<T, V> result = new PropertyIndex<>(extractor, unique, isEmpty(source) ? 0 : source.size());
+        if (isEmpty(source)) return result;
+
+        for (T element : source) {
+            result.add(element);
+        }
+
+        return result;
+    }
+
+    private static <T> List<T> selectRanked(Collection<T> source,
+                                            int k,
+                                            Comparator<? super T> comparator,
+                                            ToLongFunction<? super T> key,
+                                            boolean largest) {
+        if (k < 0) throw new IllegalArgumentException("The number of elements cannot be negative");
+        if (isEmpty(source) || k == 0) return List.of();
+
+        BoundedHeap<T> heap = new BoundedHeap<>(Math.min(k, source.size()), comparator, key, largest);
+        for (T element : source) {
+            heap.offer(element);
+        }
+
+        return heap.drain();
+    }
+
+    /**
+     * Applies the specified function to each element of the collection on the
+     * specified executor, running at most {@code concurrency} calls at once,
+     * and returns the results in source order.
+     *
+     * <p>This is the concurrent counterpart of
+     * {@link #transform(Collection, Function)} for functions that spend most
+     * of their time blocked, such as cache reads or file lookups, where a
+     * serial loop would pay the full latency for every element. On Java 21 or
+     * later, passing {@code Executors.newVirtualThreadPerTaskExecutor()} runs
+     * the calls on virtual threads; any other executor works as well, as long
+     * as it can run {@code concurrency} tasks at once and the calling thread
+     * is not one of its threads.
+     *
+     * @param <T>         the type of elements in the input collection
+     * @param <R>         the type of elements in the resulting list
+     * @param source      the collection to transform, may be {@code null} or {@code empty}
+     * @param transformer the function to apply to each element
+     * @param executor    the executor that runs the calls
+     * @param concurrency the maximum number of calls running at once
+     * @return a new list containing the transformed elements in the same order as the input collection
+     * @throws IllegalArgumentException if transformer or executor is {@code null}, or concurrency is not positive
+     * @throws CancellationException    if the calling thread is interrupted while waiting
+     * @see #concurrentTransform(Collection, Function, Executor, int, Duration)
+     */
+    public static <T, R> List<R> concurrentTransform(Collection<T> source,
+                                                     Function<? super T, ? extends R> transformer,
+                                                     Executor executor,
+                                                     int concurrency) {
+        return concurrentTransform(source, transformer, executor, concurrency, null);
+    }
+
+    /**
+     * Applies the specified function to each element of the collection on the
+     * specified executor, running at most {@code concurrency} calls at once,
+     * and returns the results in source order, waiting no longer than the
+     * specified timeout.
+     *
+     * <p>The elements are shared out to at most {@code concurrency} tasks,
+     * each of which takes the next unclaimed element until none is left. The
+     * first exception thrown by the function is rethrown to the caller after
+     * the remaining work has been cancelled. Cancelling stops the tasks from
+     * claiming further elements and interrupts the calls in progress, so a
+     * blocking call that responds to interruption ends early. The same
+     * happens when the timeout elapses or the calling thread is interrupted.
+     *
+     * @param <T>         the type of elements in the input collection
+     * @param <R>         the type of elements in the resulting list
+     * @param source      the collection to transform, may be {@code null} or {@code empty}
+     * @param transformer the function to apply to each element
+     * @param executor    the executor that runs the calls
+     * @param concurrency the maximum number of calls running at once
+     * @param timeout     the maximum time to wait, or {@code null} to wait without limit
+     * @return a new list containing the transformed elements in the same order as the input collection
+     * @throws IllegalArgumentException if transformer or executor is {@code null}, concurrency is not positive or
+     *                                  timeout is negative
+     * @throws CompletionException      if the timeout elapses, with a {@link TimeoutException} as its cause
+     * @throws CancellationException    if the calling thread is interrupted while waiting
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> List<R> concurrentTransform(Collection<T> source,
+                                                     Function<? super T, ? extends R> transformer,
+                                                     Executor executor,
+                                                     int concurrency,
+                                                     Duration timeout) {
+        if (transformer == null) throw new IllegalArgumentException("The transformer cannot be null");
+
+        Object[] elements = isEmpty(source) ? new Object[0] : source.toArray();
+        Object[] results = applyConcurrently(elements, element -> transformer.apply((T) element), executor,
+                concurrency, timeout);
+
+        return (List<R>) new ArrayList<>(Arrays.asList(results));
+    }
+
+    /**
+     * Tests each element of the collection against the specified predicate on
+     * the specified executor, running at most {@code concurrency} tests at
+     * once, and returns the matching elements in source order.
+     *
+     * @param <T>         the type of elements in the collection
+     * @param source      the collection to filter, may be {@code null} or {@code empty}
+     * @param predicate   the condition to test each element against
+     * @param executor    the executor that runs the tests
+     * @param concurrency the maximum number of tests running at once
+     * @return a new list containing all elements that match the predicate, in source order
+     * @throws IllegalArgumentException if predicate or executor is {@code null}, or concurrency is not positive
+     * @throws CancellationException    if the calling thread is interrupted while waiting
+     * @see #concurrentFindAll(Collection, Predicate, Executor, int, Duration)
+     */
+    public static <T> List<T> concurrentFindAll(Collection<T> source,
+                                                Predicate<? super T> predicate,
+                                                Executor executor,
+                                                int concurrency) {
+        return concurrentFindAll(source, predicate, executor, concurrency, null);
+    }
+
+    /**
+     * Tests each element of the collection against the specified predicate on
+     * the specified executor, running at most {@code concurrency} tests at
+     * once, and returns the matching elements in source order.
+     *
+     * <p>This is the concurrent counterpart of
+     * {@link #findAll(Collection, Predicate)} for predicates that block. The
+     * scheduling, failure, cancellation and timeout behavior is that of
+     * {@link #concurrentTransform(Collection, Function, Executor, int, Duration)}.
+     *
+     * @param <T>         the type of elements in the collection
+     * @param source      the collection to filter, may be {@code null} or {@code empty}
+     * @param predicate   the condition to test each element against
+     * @param executor    the executor that runs the tests
+     * @param concurrency the maximum number of tests running at once
+     * @param timeout     the maximum time to wait, or {@code null} to wait without limit
+     * @return a new list containing all elements that match the predicate, in source order
+     * @throws IllegalArgumentException if predicate or executor is {@code null}, concurrency is not positive or
+     *                                  timeout is negative
+     * @throws CompletionException      if the timeout elapses, with a {@link TimeoutException} as its cause
+     * @throws CancellationException    if the calling thread is interrupted while waiting
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> concurrentFindAll(Collection<T> source,
+                                                Predicate<? super T> predicate,
+                                                Executor executor,
+                                                int concurrency,
+                                                Duration timeout) {
+        if (predicate == null) throw new IllegalArgumentException("The predicate cannot be null");
+
+        Object[] elements = isEmpty(source) ? new Object[0] : source.toArray();
+        Object[] matches = applyConcurrently(elements, element -> predicate.test((T) element), executor,
+                concurrency, timeout);
+
+        List<T> result = new ArrayList<>();
+        for (int i = 0; i < elements.length; i++) {
+            if ((Boolean) matches[i]) result.add((T) elements[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Groups elements of a collection by a key computed on the specified
+     * executor, running at most {@code concurrency} key computations at once.
+     *
+     * @param <T>         the type of elements in the source collection
+     * @param <K>         the type of keys used for grouping
+     * @param source      the collection to group, may be {@code null} or {@code empty}
+     * @param function    the function that extracts the grouping key from each element
+     * @param executor    the executor that runs the key computations
+     * @param concurrency the maximum number of key computations running at once
+     * @return a new map where keys are the computed grouping keys and values are lists of elements that share the
+     * same key, in source order
+     * @throws IllegalArgumentException if function or executor is {@code null}, or concurrency is not positive
+     * @throws CancellationException    if the calling thread is interrupted while waiting
+     * @see #concurrentGroupBy(Collection, Function, Executor, int, Duration)
+     */
+    public static <K, T> Map<K, List<T>> concurrentGroupBy(Collection<T> source,
+                                                           Function<? super T, ? extends K> function,
+                                                           Executor executor,
+                                                           int concurrency) {
+        return concurrentGroupBy(source, function, executor, concurrency, null);
+    }
+
+    /**
+     * Groups elements of a collection by a key computed on the specified
+     * executor, running at most {@code concurrency} key computations at once.
+     *
+     * <p>This is the concurrent counterpart of
+     * {@link #groupBy(Collection, Function)} for key functions that block.
+     * Only the keys are computed concurrently; the groups are then built on
+     * the calling thread, so each group lists its elements in source order.
+     * The scheduling, failure, cancellation and timeout behavior is that of
+     * {@link #concurrentTransform(Collection, Function, Executor, int, Duration)}.
+     *
+     * @param <T>         the type of elements in the source collection
+     * @param <K>         the type of keys used for grouping
+     * @param source      the collection to group, may be {@code null} or {@code empty}
+     * @param function    the function that extracts the grouping key from each element
+     * @param executor    the executor that runs the key computations
+     * @param concurrency the maximum number of key computations running at once
+     * @param timeout     the maximum time to wait, or {@code null} to wait without limit
+     * @return a new map where keys are the computed grouping keys and values are lists of elements that share the
+     * same key, in source order
+     * @throws IllegalArgumentException if function or executor is {@code null}, concurrency is not positive or
+     *                                  timeout is negative
+     * @throws CompletionException      if the timeout elapses, with a {@link TimeoutException} as its cause
+     * @throws CancellationException    if the calling thread is interrupted while waiting
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, T> Map<K, List<T>> concurrentGroupBy(Collection<T> source,
+                                                           Function<? super T, ? extends K> function,
+                                                           Executor executor,
+                                                           int concurrency,
+                                                           Duration timeout) {
+        if (function == null) throw new IllegalArgumentException("The function cannot be null");
+
+        Object[] elements = isEmpty(source) ? new Object[0] : source.toArray();
+        Object[] keys = applyConcurrently(elements, element -> function.apply((T) element), executor,
+                concurrency, timeout);
+
+        Map<K, List<T>> result = new HashMap<>();
+        for (int i = 0; i < elements.length; i++) {
+            result.computeIfAbsent((K) keys[i], key -> new ArrayList<>()).add((T) elements[i]);
+        }
+
+        return result;
+    }
+
     /**
      * Checks if the specified candidate exists in the collection.
      *
-     * <p>This method efficiently checks for the presence of a candidate in the
-     * collection. If the source collection is already a {@link Set}, it
-     * directly uses the set's {@code contains} method. Otherwise, it converts
-     * the collection to a {@link HashSet} for efficient O(1) lookup performance.
+     * <p>If the source collection is already a {@link Set}, it directly uses
+     * the set's {@code contains} method. Otherwise, it scans the collection
+     * once, which is cheaper than building a {@link HashSet} for a single
+     * lookup. Use {@link #index(Collection)} to look up many candidates.
      *
      * @param <T>       the type of elements in the collection
      * @param source    the collection to search through
@@ -56,10 +482,7 @@ private CollectionUtils() {
      */
     public static <T> boolean contains(Collection<T> source, T candidate) {
         if (isEmpty(source)) return false;
-
-        Set<T> sourceSet = (source instanceof Set) ? (Set<T>) source : new HashSet<>(source);
-
-        return sourceSet.contains(candidate);
+        return lookup(source, 1).contains(candidate);
     }
 
     /**
@@ -68,9 +491,9 @@ public static <T> boolean contains(Collection<T> source, T candidate) {
      *
      * <p>This method efficiently determines whether at least one element from
      * the {@code candidates} collection is present in the {@code source}
-     * collection. The implementation optimizes for performance by converting
-     * the source collection to a {@link HashSet} when it's not already a
-     * {@link Set}, allowing for O(1) lookups during the candidate checks.
+     * collection. A source that is not already a {@link Set} is converted to
+     * a {@link HashSet} for O(1) lookups only when it is large and there are
+     * enough candidates to pay for the conversion, otherwise it is scanned.
      *
      * @param <T>        the type of elements in the collections
      * @param source     the collection to search within
@@ -79,11 +502,43 @@ public static <T> boolean contains(Collection<T> source, T candidate) {
      */
     public static <T> boolean contains(Collection<T> source, Collection<T> candidates) {
         if (isEmpty(source) || isEmpty(candidates)) return false;
+        return lookup(source, candidates.size()).containsAny(candidates);
+    }
 
-        Set<T> sourceSet = (source instanceof Set) ? (Set<T>) source : new HashSet<>(source);
+    /**
+     * Checks if any of the specified candidates exists in the collection,
+     * using a {@link BloomFilter} of the source as a pre-filter.
+     *
+     * <p>This mode is meant for a large source that is not a {@link Set} and
+     * candidates that mostly miss. Instead of hashing the whole source into a
+     * {@link HashSet}, it builds a Bloom filter of the source, keeps only the
+     * candidates the filter lets through and confirms them with one more scan
+     * of the source. The answer is exact; the false positive rate only trades
+     * filter memory against the number of candidates that need confirming. A
+     * {@link Set} source is queried directly.
+     *
+     * @param <T>               the type of elements in the collections
+     * @param source            the collection to search through, may be {@code null} or {@code empty}
+     * @param candidates        the elements to search for, may be {@code null} or {@code empty}
+     * @param falsePositiveRate the false positive rate of the pre-filter, between 0 and 1 exclusive
+     * @return {@code true} if any candidate is found in the source, {@code false} otherwise
+     * @throws IllegalArgumentException if falsePositiveRate is not between 0 and 1
+     * @see #contains(Collection, Collection)
+     */
+    public static <T> boolean contains(Collection<T> source, Collection<T> candidates, double falsePositiveRate) {
+        BloomFilter.checkFalsePositiveRate(falsePositiveRate);
+        if (isEmpty(source) || isEmpty(candidates)) return false;
+        if (source instanceof Set) return contains(source, candidates);
 
+        BloomFilter<T> filter = BloomFilter.of(source, falsePositiveRate);
+        Set<T> possible = new HashSet<>();
         for (T candidate : candidates) {
-            if (sourceSet.contains(candidate)) return true;
+            if (filter.mightContain(candidate)) possible.add(candidate);
+        }
+        if (possible.isEmpty()) return false;
+
+        for (T element : source) {
+            if (possible.contains(element)) return true;
         }
 
         return false;
@@ -240,6 +695,42 @@ public static <T> List<T> difference(Collection<T> source, Collection<T> candida
         return difference(source, candidates, ArrayList::new);
     }
 
+    /**
+     * Returns a List containing elements from the source collection that are
+     * not present in the candidates' collection, using a {@link BloomFilter}
+     * of the candidates as a pre-filter.
+     *
+     * <p>This mode is meant for a huge candidates collection that is not a
+     * {@link Set} and that most source elements are absent from. Instead of
+     * hashing every candidate into a {@link HashSet}, it builds a Bloom
+     * filter of the candidates. Source elements the filter rejects are
+     * certainly kept; only the few it lets through are hashed and confirmed
+     * with one more pass over the candidates. The result is exact and equal
+     * to that of {@link #difference(Collection, Collection)}; the false
+     * positive rate only trades filter memory against the number of source
+     * elements that need confirming. A {@link Set} of candidates is queried
+     * directly.
+     *
+     * @param <T>               the type of elements in the collections
+     * @param source            the source collection to get elements from
+     * @param candidates        the collection of elements to exclude
+     * @param falsePositiveRate the false positive rate of the pre-filter, between 0 and 1 exclusive
+     * @return a new {@link ArrayList} containing elements from source that are not in candidates
+     * @throws IllegalArgumentException if falsePositiveRate is not between 0 and 1
+     * @see BloomFilter
+     */
+    public static <T> List<T> difference(Collection<T> source, Collection<T> candidates, double falsePositiveRate) {
+        Set<T> present = bloomMatches(source, candidates, falsePositiveRate);
+        if (present == null) return difference(source, candidates);
+
+        List<T> result = new ArrayList<>(source.size());
+        for (T item : source) {
+            if (!present.contains(item)) result.add(item);
+        }
+
+        return result;
+    }
+
     /**
      * Returns a new collection containing all elements from the source
      * collection that are not present in the candidates' collection.
@@ -308,12 +799,7 @@ public static <T, C extends Collection<T>> C difference(Collection<T> source,
             return result;
         }
 
-        Set<T> candidateSet = (candidates instanceof Set) ? (Set<T>) candidates : new HashSet<>(candidates);
-        for (T item : source) {
-            if (predicate.test(item) && !candidateSet.contains(item)) result.add(item);
-        }
-
-        return result;
+        return subtractInto(source, candidates, predicate, result);
     }
 
     /**
@@ -366,10 +852,7 @@ public static <K, V, C extends Map<K, V>> C difference(Map<K, V> source,
      */
     public static <T> Optional<T> find(Collection<T> source, T candidate) {
         if (isEmpty(source) || candidate == null) return Optional.empty();
-
-        Set<T> sourceSet = (source instanceof Set) ? (Set<T>) source : new HashSet<>(source);
-
-        return (sourceSet.contains(candidate)) ? Optional.of(candidate) : Optional.empty();
+        return lookup(source, 1).find(candidate);
     }
 
     /**
@@ -389,13 +872,7 @@ public static <T> Optional<T> find(Collection<T> source, T candidate) {
      */
     public static <T> Optional<T> find(Collection<T> source, Collection<T> candidates) {
         if (isEmpty(source) || isEmpty(candidates)) return Optional.empty();
-
-        Set<T> sourceSet = (source instanceof Set) ? (Set<T>) source : new HashSet<>(source);
-        for (T candidate : candidates) {
-            if (sourceSet.contains(candidate)) return Optional.ofNullable(candidate);
-        }
-
-        return Optional.empty();
+        return lookup(source, candidates.size()).findFirst(candidates);
     }
 
     /**
@@ -658,6 +1135,74 @@ public static <K, V> List<Map.Entry<K, V>> findAll(Map<K, V> source, Predicate<M
         return Collections.unmodifiableList(result);
     }
 
+    /**
+     * Returns a lazy view of the elements in the collection that match the
+     * given predicate.
+     *
+     * <p>Unlike {@link #findAll(Collection, Predicate)}, no list is built:
+     * the predicate is tested only as far as the view is iterated, every time
+     * it is iterated, so reading the first match stops at the first match.
+     * Further steps can be chained on the view and the result copied once
+     * with {@link LazyCollection#materialize()}.
+     *
+     * @param <T>       the type of elements in the collection
+     * @param source    the collection to view, may be {@code null} or {@code empty}
+     * @param predicate the condition to test each element against
+     * @return a lazy view of the matching elements, in source order
+     * @throws IllegalArgumentException if predicate is {@code null}
+     */
+    public static <T> LazyCollection<T> filterView(Collection<T> source, Predicate<? super T> predicate) {
+        Collection<T> elements = source == null ? List.of() : source;
+        return new LazyCollection<>(elements, elements).filter(predicate);
+    }
+
+    /**
+     * Finds the {@code k} smallest elements of the collection according to the
+     * comparator, smallest first.
+     *
+     * <p>The collection is iterated once without being copied, and only a
+     * bounded heap of the best {@code k} elements seen so far is kept, so
+     * this costs O(n log k) time and O(k) extra memory instead of sorting the
+     * whole collection. Equal elements keep their source order.
+     *
+     * @param <T>        the type of elements
+     * @param source     the collection to search, may be {@code null} or {@code empty}
+     * @param k          the maximum number of elements to return
+     * @param comparator the comparator to determine order
+     * @return an unmodifiable list of at most k elements in ascending order
+     * @throws IllegalArgumentException if k is negative or comparator is {@code null}
+     * @see #findTopK(Collection, int, Comparator)
+     */
+    public static <T> List<T> findBottomK(Collection<T> source, int k, Comparator<? super T> comparator) {
+        if (comparator == null) throw new IllegalArgumentException("The comparator cannot be null");
+
+        return selectRanked(source, k, comparator, null, false);
+    }
+
+    /**
+     * Finds the {@code k} elements of the collection with the smallest
+     * {@code long} keys, smallest first.
+     *
+     * <p>The key of each element is extracted exactly once and kept in the
+     * bounded heap beside the element, so it is compared as a primitive
+     * instead of being extracted again for every comparison as a
+     * {@link Comparator#comparingLong(ToLongFunction)} comparator would. The
+     * extra memory is O(k), as for the comparator variant.
+     *
+     * @param <T>    the type of elements
+     * @param source the collection to search, may be {@code null} or {@code empty}
+     * @param k      the maximum number of elements to return
+     * @param key    the function that extracts the key of each element
+     * @return an unmodifiable list of at most k elements in ascending key order
+     * @throws IllegalArgumentException if k is negative or key is {@code null}
+     * @see #findBottomK(Collection, int, Comparator)
+     */
+    public static <T> List<T> findBottomKByLongKey(Collection<T> source, int k, ToLongFunction<? super T> key) {
+        if (key == null) throw new IllegalArgumentException("The key extractor cannot be null");
+
+        return selectRanked(source, k, null, key, false);
+    }
+
     /**
      * Finds the element with {@code maximum} value based on the
      * {@code comparator}.
@@ -698,6 +1243,130 @@ public static <T> Optional<T> findMin(Collection<T> source, Comparator<T> compar
         return Optional.ofNullable(min);
     }
 
+    /**
+     * Finds both the smallest and the largest element of the collection
+     * according to the comparator in a single pass.
+     *
+     * <p>The elements are taken in pairs: the two are compared with each
+     * other first, then only the smaller one with the current minimum and the
+     * larger one with the current maximum, which takes about 3n/2 comparisons
+     * instead of the 2n of {@link #findMin(Collection, Comparator)} followed
+     * by {@link #findMax(Collection, Comparator)}. Of several equal minimum
+     * or maximum elements, the first one is returned.
+     *
+     * @param <T>        the type of elements
+     * @param source     the collection to search, may be {@code null} or {@code empty}
+     * @param comparator the comparator to determine order
+     * @return the minimum and maximum elements, {@link Optional#empty()} if source is {@code null} or {@code empty}
+     * @throws IllegalArgumentException if comparator is {@code null}
+     */
+    public static <T> Optional<MinMax<T>> findMinMax(Collection<T> source, Comparator<? super T> comparator) {
+        if (comparator == null) throw new IllegalArgumentException("The comparator cannot be null");
+        if (isEmpty(source)) return Optional.empty();
+
+        Iterator<T> iterator = source.iterator();
+        T min = iterator.next();
+        T max = min;
+        while (iterator.hasNext()) {
+            T first = iterator.next();
+            T second = iterator.hasNext() ? iterator.next() : first;
+
+            int comparison = comparator.compare(first, second);
+            T smaller = comparison <= 0 ? first : second;
+            T larger = comparison >= 0 ? first : second;
+            if (comparator.compare(smaller, min) < 0) min = smaller;
+            if (comparator.compare(larger, max) > 0) max = larger;
+        }
+
+        return Optional.of(new MinMax<>(min, max));
+    }
+
+    /**
+     * Finds both the element with the smallest and the element with the
+     * largest {@code long} key in a single pass, extracting each key exactly
+     * once. Of several elements with the minimum or maximum key, the first
+     * one is returned.
+     *
+     * @param <T>    the type of elements
+     * @param source the collection to search, may be {@code null} or {@code empty}
+     * @param key    the function that extracts the key of each element
+     * @return the minimum and maximum elements, {@link Optional#empty()} if source is {@code null} or {@code empty}
+     * @throws IllegalArgumentException if key is {@code null}
+     */
+    public static <T> Optional<MinMax<T>> findMinMaxByLongKey(Collection<T> source, ToLongFunction<? super T> key) {
+        if (key == null) throw new IllegalArgumentException("The key extractor cannot be null");
+        if (isEmpty(source)) return Optional.empty();
+
+        Iterator<T> iterator = source.iterator();
+        T min = iterator.next();
+        T max = min;
+        long minKey = key.applyAsLong(min);
+        long maxKey = minKey;
+        while (iterator.hasNext()) {
+            T element = iterator.next();
+            long elementKey = key.applyAsLong(element);
+            if (elementKey < minKey) {
+                min = element;
+                minKey = elementKey;
+            } else if (elementKey > maxKey) {
+                max = element;
+                maxKey = elementKey;
+            }
+        }
+
+        return Optional.of(new MinMax<>(min, max));
+    }
+
+    /**
+     * Finds the {@code k} largest elements of the collection according to the
+     * comparator, largest first.
+     *
+     * <p>The collection is iterated once without being copied, and only a
+     * bounded heap of the best {@code k} elements seen so far is kept, so
+     * this costs O(n log k) time and O(k) extra memory instead of sorting the
+     * whole collection. Equal elements keep their source order.
+     *
+     * <pre>{@code
+     * List<Player> leaders = CollectionUtils.findTopK(players, 50, Comparator.comparingInt(Player::score));
+     * }</pre>
+     *
+     * @param <T>        the type of elements
+     * @param source     the collection to search, may be {@code null} or {@code empty}
+     * @param k          the maximum number of elements to return
+     * @param comparator the comparator to determine order
+     * @return an unmodifiable list of at most k elements in descending order
+     * @throws IllegalArgumentException if k is negative or comparator is {@code null}
+     * @see #findTopKByLongKey(Collection, int, ToLongFunction)
+     */
+    public static <T> List<T> findTopK(Collection<T> source, int k, Comparator<? super T> comparator) {
+        if (comparator == null) throw new IllegalArgumentException("The comparator cannot be null");
+
+        return selectRanked(source, k, comparator, null, true);
+    }
+
+    /**
+     * Finds the {@code k} elements of the collection with the largest
+     * {@code long} keys, largest first.
+     *
+     * <p>The key of each element is extracted exactly once and kept in the
+     * bounded heap beside the element, so it is compared as a primitive
+     * instead of being extracted again for every comparison as a
+     * {@link Comparator#comparingLong(ToLongFunction)} comparator would. The
+     * extra memory is O(k), as for the comparator variant.
+     *
+     * @param <T>    the type of elements
+     * @param source the collection to search, may be {@code null} or {@code empty}
+     * @param k      the maximum number of elements to return
+     * @param key    the function that extracts the key of each element
+     * @return an unmodifiable list of at most k elements in descending key order
+     * @throws IllegalArgumentException if k is negative or key is {@code null}
+     */
+    public static <T> List<T> findTopKByLongKey(Collection<T> source, int k, ToLongFunction<? super T> key) {
+        if (key == null) throw new IllegalArgumentException("The key extractor cannot be null");
+
+        return selectRanked(source, k, null, key, true);
+    }
+
     /**
      * Groups elements of a collection by a key derived from each element using
      * the specified function.
@@ -726,69 +1395,341 @@ public static <K, T> Map<K, List<T>> groupBy(Collection<T> source, Function<T, K
     }
 
     /**
-     * Checks whether the specified {@link Collection} is {@code null} or
-     * {@code empty}.
-     *
-     * @param collection the collection to check
-     * @return {@code true}, if the collection is {@code null} or {@code empty}, {@code false} otherwise
+     * Groups elements of a collection by a key derived from each element and
+     * reduces each group with the specified downstream collector.
+     *
+     * <p>Unlike {@link #groupBy(Collection, Function)}, no list is built per
+     * key unless the downstream collector builds one, so aggregations such as
+     * {@link Collectors#counting()}, {@link Collectors#summingLong} or
+     * {@link Collectors#minBy} keep a single container per key. A custom
+     * accumulation is expressed with {@link Collector#of}.
+     *
+     * <pre>{@code
+     * Map<String, Long> ordersPerCustomer = CollectionUtils.groupBy(orders, Order::customer, Collectors.counting());
+     * }</pre>
+     *
+     * @param <T>        the type of elements in the source collection
+     * @param <K>        the type of keys used for grouping
+     * @param <A>        the mutable accumulation type of the downstream collector
+     * @param <D>        the result type of the downstream reduction
+     * @param source     the collection to group, may be {@code null} or {@code empty}
+     * @param function   the function that extracts the grouping key from each element
+     * @param downstream the collector that reduces the elements of each group
+     * @return a new map where keys are the computed grouping keys and values are the reduced groups
+     * @throws IllegalArgumentException if function or downstream is {@code null}
+     * @see #parallelGroupBy(Collection, Function, Collector)
      */
-    public static boolean isEmpty(Collection<?> collection) {
-        return collection == null || collection.isEmpty();
+    public static <K, T, A, D> Map<K, D> groupBy(Collection<T> source,
+                                                 Function<? super T, ? extends K> function,
+                                                 Collector<? super T, A, D> downstream) {
+        if (function == null) throw new IllegalArgumentException("The function cannot be null");
+        if (downstream == null) throw new IllegalArgumentException("The downstream cannot be null");
+        if (isEmpty(source)) return new HashMap<>();
+
+        Supplier<A> supplier = downstream.supplier();
+        BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        Map<K, A> containers = new HashMap<>();
+        for (T item : source) {
+            accumulator.accept(containers.computeIfAbsent(function.apply(item), key -> supplier.get()), item);
+        }
+
+        return finishGroups(containers, downstream);
     }
 
     /**
-     * Checks whether the specified {@link Map} is {@code null} or
-     * {@code empty}.
+     * Groups elements of a collection by an {@code int} key into a compact,
+     * read-only {@link IntGrouping}.
      *
-     * @param map the map to check
-     * @return {@code true}, if the map is {@code null} or {@code empty}, {@code false} otherwise
+     * <p>Each key is extracted once without boxing, and the elements are laid
+     * out in a single permutation array with one contiguous range per group,
+     * so the grouping costs a few {@code int} arrays instead of a boxed key,
+     * a map entry and an {@link ArrayList} per group.
+     *
+     * @param <T>      the type of elements in the source collection
+     * @param source   the collection to group, may be {@code null} or {@code empty}
+     * @param function the function that extracts the grouping key from each element
+     * @return a grouping of the source elements by their keys
+     * @throws IllegalArgumentException if function is {@code null}
      */
-    public static boolean isEmpty(Map<?, ?> map) {
-        return map == null || map.isEmpty();
+    public static <T> IntGrouping<T> groupByInt(Collection<T> source, ToIntFunction<? super T> function) {
+        if (function == null) throw new IllegalArgumentException("The function cannot be null");
+
+        Object[] elements = isEmpty(source) ? new Object[0] : source.toArray();
+        int[] keys = new int[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            @SuppressWarnings("unchecked") T item = (T) elements[i];
+            keys[i] = function.applyAsInt(item);
+        }
+
+        return new IntGrouping<>(elements, keys);
     }
 
     /**
-     * Returns a new collection containing the intersection of two collections,
-     * considering the cardinality of elements. The result includes elements
-     * common to both collections, with each element appearing the minimum
-     * number of times it occurs in either collection.
+     * Groups elements of a collection by a {@code long} key into a compact,
+     * read-only {@link LongGrouping}.
      *
-     * @param <T>        the type of elements in the collections
-     * @param source     the first collection, may contain duplicates
-     * @param candidates the second collection, may contain duplicates
-     * @return a new {@link ArrayList} containing the common elements
+     * <p>Each key is extracted once without boxing, and the elements are laid
+     * out in a single permutation array with one contiguous range per group,
+     * so the grouping costs a few primitive arrays instead of a boxed key, a
+     * map entry and an {@link ArrayList} per group.
+     *
+     * @param <T>      the type of elements in the source collection
+     * @param source   the collection to group, may be {@code null} or {@code empty}
+     * @param function the function that extracts the grouping key from each element
+     * @return a grouping of the source elements by their keys
+     * @throws IllegalArgumentException if function is {@code null}
      */
-    public static <T> Collection<T> intersection(Collection<T> source, Collection<T> candidates) {
-        if (isEmpty(source) || isEmpty(candidates)) return List.of();
-
-        Map<T, Integer> countA = new HashMap<>();
-        Map<T, Integer> countB = new HashMap<>();
-
-        for (T item : source) {
-            countA.put(item, countA.getOrDefault(item, 0) + 1);
-        }
-
-        for (T item : candidates) {
-            countB.put(item, countB.getOrDefault(item, 0) + 1);
+    public static <T> LongGrouping<T> groupByLong(Collection<T> source, ToLongFunction<? super T> function) {
+        if (function == null) throw new IllegalArgumentException("The function cannot be null");
+
+        Object[] elements = isEmpty(source) ? new Object[0] : source.toArray();
+        long[] keys = new long[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            @SuppressWarnings("unchecked") T item = (T) elements[i];
+            keys[i] = function.applyAsLong(item);
         }
 
-        List<T> result = new ArrayList<>();
+        return new LongGrouping<>(elements, keys);
+    }
 
-        for (Map.Entry<T, Integer> entry : countA.entrySet()) {
-            if (countB.containsKey(entry.getKey())) {
-                int minCount = Math.min(entry.getValue(), countB.get(entry.getKey()));
-                for (int i = 0; i < minCount; i++) {
-                    result.add(entry.getKey());
-                }
-            }
-        }
+    /**
+     * Groups elements of a collection by a key derived from each element,
+     * splitting the work across the common {@link ForkJoinPool}.
+     *
+     * @param <T>      the type of elements in the source collection
+     * @param <K>      the type of keys used for grouping
+     * @param source   the collection to group, may be {@code null} or {@code empty}
+     * @param function the function that extracts the grouping key from each element
+     * @return a new map where keys are the computed grouping keys and values are lists of elements that share the
+     * same key, in source order
+     * @throws IllegalArgumentException if function is {@code null}
+     * @see #parallelGroupBy(Collection, Function, Collector, ForkJoinPool)
+     */
+    public static <K, T> Map<K, List<T>> parallelGroupBy(Collection<T> source,
+                                                         Function<? super T, ? extends K> function) {
+        return parallelGroupBy(source, function, Collectors.toList(), ForkJoinPool.commonPool());
+    }
 
-        return List.copyOf(result);
+    /**
+     * Groups elements of a collection by a key derived from each element and
+     * reduces each group with the specified downstream collector, splitting
+     * the work across the common {@link ForkJoinPool}.
+     *
+     * @param <T>        the type of elements in the source collection
+     * @param <K>        the type of keys used for grouping
+     * @param <A>        the mutable accumulation type of the downstream collector
+     * @param <D>        the result type of the downstream reduction
+     * @param source     the collection to group, may be {@code null} or {@code empty}
+     * @param function   the function that extracts the grouping key from each element
+     * @param downstream the collector that reduces the elements of each group
+     * @return a new map where keys are the computed grouping keys and values are the reduced groups
+     * @throws IllegalArgumentException if function or downstream is {@code null}
+     * @see #parallelGroupBy(Collection, Function, Collector, ForkJoinPool)
+     */
+    public static <K, T, A, D> Map<K, D> parallelGroupBy(Collection<T> source,
+                                                         Function<? super T, ? extends K> function,
+                                                         Collector<? super T, A, D> downstream) {
+        return parallelGroupBy(source, function, downstream, ForkJoinPool.commonPool());
     }
 
     /**
-     * Returns a new map containing the intersection of two maps, based on
-     * their keys.
+     * Groups elements of a collection by a key derived from each element and
+     * reduces each group with the specified downstream collector, splitting
+     * the work across the specified {@link ForkJoinPool}.
+     *
+     * <p>The source is copied into an array once and split into ranges of at
+     * least a few thousand elements. Each task groups its range into a map of
+     * its own, so the threads never contend on a shared map, and the maps are
+     * merged pairwise with the collector's combiner as the tasks complete.
+     * Ranges are combined in source order, so order-sensitive collectors such
+     * as {@link Collectors#toList()} see the elements of a group in source
+     * order. A source too small to split is grouped on the calling thread.
+     * The function and the collector must be safe to call from several
+     * threads at once.
+     *
+     * @param <T>        the type of elements in the source collection
+     * @param <K>        the type of keys used for grouping
+     * @param <A>        the mutable accumulation type of the downstream collector
+     * @param <D>        the result type of the downstream reduction
+     * @param source     the collection to group, may be {@code null} or {@code empty}
+     * @param function   the function that extracts the grouping key from each element
+     * @param downstream the collector that reduces the elements of each group
+     * @param pool       the pool that runs the grouping tasks
+     * @return a new map where keys are the computed grouping keys and values are the reduced groups
+     * @throws IllegalArgumentException if function, downstream or pool is {@code null}
+     */
+    public static <K, T, A, D> Map<K, D> parallelGroupBy(Collection<T> source,
+                                                         Function<? super T, ? extends K> function,
+                                                         Collector<? super T, A, D> downstream,
+                                                         ForkJoinPool pool) {
+        if (function == null) throw new IllegalArgumentException("The function cannot be null");
+        if (downstream == null) throw new IllegalArgumentException("The downstream cannot be null");
+        if (pool == null) throw new IllegalArgumentException("The pool cannot be null");
+        if (isEmpty(source)) return new HashMap<>();
+
+        Object[] elements = source.toArray();
+        if (elements.length <= PARALLEL_GROUPING_THRESHOLD)
+            return finishGroups(groupInto(elements, 0, elements.length, function, downstream), downstream);
+
+        int chunk = Math.max(PARALLEL_GROUPING_THRESHOLD, elements.length / (pool.getParallelism() * 4));
+        GroupingTask<T, K, A> task = new GroupingTask<>(elements, 0, elements.length, chunk, function, downstream);
+
+        return finishGroups(pool.invoke(task), downstream);
+    }
+
+    /**
+     * Creates a reusable membership index over the specified collection.
+     *
+     * <p>Building the index once and reusing it for many lookups avoids the
+     * per-call cost of {@link #contains(Collection, Object)} and
+     * {@link #find(Collection, Object)}. A {@link Set} source is used as is.
+     * Any other source is copied, into an array that is scanned linearly when
+     * it is small and into a {@link HashSet} otherwise, so the index does not
+     * see later changes to it.
+     *
+     * @param <T>    the type of elements in the collection
+     * @param source the collection to index, may be {@code null} or {@code empty}
+     * @return a membership index over the elements of the source
+     */
+    public static <T> MembershipIndex<T> index(Collection<T> source) {
+        if (isEmpty(source)) return new MembershipIndex<>(null, List.of());
+        if (source instanceof Set) return new MembershipIndex<>((Set<T>) source, null);
+        if (source.size() <= LINEAR_SCAN_THRESHOLD) return new MembershipIndex<>(null, Arrays.asList(source.toArray()));
+
+        return new MembershipIndex<>(new HashSet<>(source), null);
+    }
+
+    /**
+     * Creates an index of the elements of the collection by the property
+     * extracted by the specified function, allowing several elements per
+     * value.
+     *
+     * <p>Build the index once and reuse it when the same collection is
+     * searched by the same property many times: each lookup then takes
+     * constant time instead of scanning the collection and applying the
+     * extractor to every element, as
+     * {@link #find(Collection, Function, Object)},
+     * {@link #findAll(Collection, Function, Object)} and
+     * {@link #contains(Collection, Function, Object)} do.
+     *
+     * @param <T>       the type of elements in the collection
+     * @param <V>       the type of the indexed property
+     * @param source    the collection to index, may be {@code null} or {@code empty}
+     * @param extractor the function to extract the indexed property from each element
+     * @return an index of the source elements by their property
+     * @throws IllegalArgumentException if extractor is {@code null}
+     * @see #uniqueIndex(Collection, Function)
+     */
+    public static <T, V> PropertyIndex<T, V> index(Collection<T> source, Function<? super T, ? extends V> extractor) {
+        return propertyIndex(source, extractor, false);
+    }
+
+    /**
+     * Checks whether the specified {@link Collection} is {@code null} or
+     * {@code empty}.
+     *
+     * @param collection the collection to check
+     * @return {@code true}, if the collection is {@code null} or {@code empty}, {@code false} otherwise
+     */
+    public static boolean isEmpty(Collection<?> collection) {
+        return collection == null || collection.isEmpty();
+    }
+
+    /**
+     * Checks whether the specified {@link Map} is {@code null} or
+     * {@code empty}.
+     *
+     * @param map the map to check
+     * @return {@code true}, if the map is {@code null} or {@code empty}, {@code false} otherwise
+     */
+    public static boolean isEmpty(Map<?, ?> map) {
+        return map == null || map.isEmpty();
+    }
+
+    /**
+     * Returns a new collection containing the intersection of two collections,
+     * considering the cardinality of elements. The result includes elements
+     * common to both collections, with each element appearing the minimum
+     * number of times it occurs in either collection.
+     *
+     * <p>Only the smaller collection is counted, into a {@link Multiset}. The
+     * larger one is then streamed against it, consuming one occurrence per
+     * match, so the common elements appear in the iteration order of the
+     * larger collection.
+     *
+     * @param <T>        the type of elements in the collections
+     * @param source     the first collection, may contain duplicates
+     * @param candidates the second collection, may contain duplicates
+     * @return an unmodifiable list containing the common elements
+     * @see Multiset#intersection(Multiset)
+     */
+    public static <T> Collection<T> intersection(Collection<T> source, Collection<T> candidates) {
+        if (isEmpty(source) || isEmpty(candidates)) return List.of();
+
+        boolean sourceIsSmaller = source.size() <= candidates.size();
+        Multiset<T> remaining = Multiset.of(sourceIsSmaller ? source : candidates);
+
+        List<T> result = new ArrayList<>(Math.min(source.size(), candidates.size()));
+        for (T item : sourceIsSmaller ? candidates : source) {
+            if (remaining.remove(item)) result.add(item);
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the intersection of two collections, using a
+     * {@link BloomFilter} of the candidates as a pre-filter.
+     *
+     * <p>This mode is meant for a huge candidates collection that is not a
+     * {@link Set} and shares few elements with the source. Only the source
+     * elements that pass a Bloom filter of the candidates are counted, and
+     * the candidates are then streamed once against those counts, so the
+     * candidates are never hashed into a collection. As with
+     * {@link #intersection(Collection, Collection)}, an element appears as
+     * many times as it does in both collections, in the iteration order of
+     * the larger collection. A {@link Set} of candidates, or a source larger
+     * than the candidates, is handled by
+     * {@link #intersection(Collection, Collection)}.
+     *
+     * @param <T>               the type of elements in the collections
+     * @param source            the first collection
+     * @param candidates        the second collection
+     * @param falsePositiveRate the false positive rate of the pre-filter, between 0 and 1 exclusive
+     * @return an unmodifiable collection containing the common elements
+     * @throws IllegalArgumentException if falsePositiveRate is not between 0 and 1
+     * @see BloomFilter
+     */
+    public static <T> Collection<T> intersection(Collection<T> source,
+                                                 Collection<T> candidates,
+                                                 double falsePositiveRate) {
+        BloomFilter.checkFalsePositiveRate(falsePositiveRate);
+        if (isEmpty(source) || isEmpty(candidates) || candidates instanceof Set
+                || source.size() > candidates.size())
+            return intersection(source, candidates);
+
+        BloomFilter<T> filter = BloomFilter.of(candidates, falsePositiveRate);
+        List<T> possible = new ArrayList<>();
+        for (T item : source) {
+            if (filter.mightContain(item)) possible.add(item);
+        }
+        if (possible.isEmpty()) return List.of();
+
+        Multiset<T> remaining = Multiset.of(possible);
+        List<T> result = new ArrayList<>();
+        for (T candidate : candidates) {
+            if (remaining.remove(candidate)) {
+                result.add(candidate);
+                if (remaining.isEmpty()) break;
+            }
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns a new map containing the intersection of two maps, based on
+     * their keys.
      *
      * @param <K>        the type of keys in the maps
      * @param <V>        the type of values in the maps
@@ -860,20 +1801,86 @@ public static <T> List<T> merge(Collection<T> source, Collection<T> candidates)
      * collection that are not present in the {@code elementsToRemove}
      * collection.
      *
+     * <p>Every occurrence of a removed element is dropped, as with
+     * {@link Collection#removeAll(Collection)}, but the work is linear in the
+     * size of both collections instead of quadratic when
+     * {@code elementsToRemove} is a list.
+     *
      * @param <T>              the type of elements in the collection
      * @param source           the collection from which elements are taken
      * @param elementsToRemove the collection whose elements are to be subtracted from the source
      * @return a new {@link ArrayList} containing elements from the {@code source} that are not in {@code elementsToRemove}
-     * @see Collection#removeAll(Collection)
+     * @see #subtract(Collection, Collection, Predicate, Supplier)
      */
     public static <T> Collection<T> subtract(Collection<T> source, Collection<T> elementsToRemove) {
         if (isEmpty(source)) return List.of();
 
-        List<T> subtract = new ArrayList<>(source);
+        return subtract(source, elementsToRemove, item -> true, () -> new ArrayList<>(source.size()));
+    }
+
+    /**
+     * Returns a new collection containing all elements from the {@code source}
+     * collection that are not present in the {@code elementsToRemove}
+     * collection. The type of the returned collection is determined by the
+     * provided collection factory.
+     *
+     * @param <T>              the type of elements in the collections
+     * @param <C>              the type of the returned collection
+     * @param source           the collection from which elements are taken
+     * @param elementsToRemove the collection whose elements are to be subtracted from the source
+     * @param factory          a supplier that creates the result collection instance
+     * @return a new collection of type {@code C} containing elements from source that are not in elementsToRemove
+     * @throws IllegalArgumentException if factory is {@code null}
+     * @see #subtract(Collection, Collection, Predicate, Supplier)
+     */
+    public static <T, C extends Collection<T>> C subtract(Collection<T> source,
+                                                          Collection<T> elementsToRemove,
+                                                          Supplier<C> factory) {
+        return subtract(source, elementsToRemove, item -> true, factory);
+    }
+
+    /**
+     * Returns a new collection containing the elements from the
+     * {@code source} collection that satisfy the given predicate and are not
+     * present in the {@code elementsToRemove} collection, in source order.
+     * The type of the returned collection is determined by the provided
+     * factory.
+     *
+     * <p><b>Performance Note:</b> The smaller side is indexed once and the
+     * other side is streamed, without copying the source. A {@link Set} or a
+     * smaller {@code elementsToRemove} collection is used for the lookups,
+     * scanned linearly when it is small and hashed otherwise. When
+     * {@code elementsToRemove} is larger, the distinct source elements are
+     * hashed instead and struck off while it is streamed, stopping early once
+     * none is left.
+     *
+     * @param <T>              the type of elements in the collections
+     * @param <C>              the type of the returned collection
+     * @param source           the collection from which elements are taken
+     * @param elementsToRemove the collection whose elements are to be subtracted from the source
+     * @param predicate        the condition that elements must satisfy
+     * @param factory          a supplier that creates the result collection instance
+     * @return a new collection of type {@code C} holding the matching source elements not in elementsToRemove
+     * @throws IllegalArgumentException if predicate or factory is {@code null}
+     */
+    public static <T, C extends Collection<T>> C subtract(Collection<T> source,
+                                                          Collection<T> elementsToRemove,
+                                                          Predicate<T> predicate,
+                                                          Supplier<C> factory) {
+        if (predicate == null) throw new IllegalArgumentException("The predicate cannot be null");
+        if (factory == null) throw new IllegalArgumentException("The factory cannot be null");
+
+        C result = factory.get();
 
-        if (!isEmpty(elementsToRemove)) subtract.removeAll(elementsToRemove);
+        if (isEmpty(source)) return result;
+        if (isEmpty(elementsToRemove)) {
+            for (T item : source) {
+                if (predicate.test(item)) result.add(item);
+            }
+            return result;
+        }
 
-        return subtract;
+        return subtractInto(source, elementsToRemove, predicate, result);
     }
 
     /**
@@ -904,6 +1911,84 @@ public static <K, V> Map<K, V> subtract(Map<K, V> source, Map<K, V> elementsToRe
         return Map.copyOf(result);
     }
 
+    /**
+     * Returns the elements of the sorted {@code source} collection that are
+     * not present in the sorted {@code candidates} collection, computed
+     * lazily with a single merge pass.
+     *
+     * <p>This is the sorted counterpart of
+     * {@link #difference(Collection, Collection)} and
+     * {@link #subtract(Collection, Collection)}: every occurrence of an
+     * element that is absent from the candidates is kept, in source order.
+     * Both collections must be sorted by the given comparator, which also
+     * decides equality; otherwise the result is unspecified. No hash index is
+     * built, so each iteration is a single linear walk over both collections
+     * with O(1) extra memory. The returned iterable reads the collections
+     * directly and therefore reflects later changes to them.
+     *
+     * @param <T>        the type of elements in the collections
+     * @param source     the sorted collection from which elements are taken, may be {@code null}
+     * @param candidates the sorted collection of elements to exclude, may be {@code null}
+     * @param comparator the comparator by which both collections are sorted
+     * @return a lazy iterable over the elements of source that are not in candidates
+     * @throws IllegalArgumentException if comparator is {@code null}
+     */
+    public static <T> Iterable<T> sortedDifference(Collection<T> source,
+                                                   Collection<T> candidates,
+                                                   Comparator<? super T> comparator) {
+        return sortedMerge(source, candidates, comparator, SortedMerge.DIFFERENCE);
+    }
+
+    /**
+     * Returns the elements common to the sorted {@code source} and
+     * {@code candidates} collections, computed lazily with a single merge
+     * pass.
+     *
+     * <p>This is the sorted counterpart of
+     * {@link #intersection(Collection, Collection)}: an element occurs in the
+     * result as many times as it occurs in the collection holding fewer
+     * occurrences of it, and the source instances are returned. Both
+     * collections must be sorted by the given comparator, which also decides
+     * equality; otherwise the result is unspecified.
+     *
+     * @param <T>        the type of elements in the collections
+     * @param source     the first sorted collection, may be {@code null}
+     * @param candidates the second sorted collection, may be {@code null}
+     * @param comparator the comparator by which both collections are sorted
+     * @return a lazy iterable over the common elements, in sorted order
+     * @throws IllegalArgumentException if comparator is {@code null}
+     */
+    public static <T> Iterable<T> sortedIntersection(Collection<T> source,
+                                                     Collection<T> candidates,
+                                                     Comparator<? super T> comparator) {
+        return sortedMerge(source, candidates, comparator, SortedMerge.INTERSECTION);
+    }
+
+    /**
+     * Returns the union of the sorted {@code dominant} and {@code recessive}
+     * collections, computed lazily with a single merge pass.
+     *
+     * <p>This is the sorted counterpart of
+     * {@link #union(Collection, Collection)}: every element of the dominant
+     * collection is kept, including duplicates, while an element of the
+     * recessive collection is added once and only if the dominant collection
+     * does not contain it. The result is sorted. Both collections must be
+     * sorted by the given comparator, which also decides equality; otherwise
+     * the result is unspecified.
+     *
+     * @param <T>        the type of elements in the collections
+     * @param dominant   the sorted collection whose elements are all kept, may be {@code null}
+     * @param recessive  the sorted collection whose new elements are added, may be {@code null}
+     * @param comparator the comparator by which both collections are sorted
+     * @return a lazy iterable over the union of both collections, in sorted order
+     * @throws IllegalArgumentException if comparator is {@code null}
+     */
+    public static <T> Iterable<T> sortedUnion(Collection<T> dominant,
+                                              Collection<T> recessive,
+                                              Comparator<? super T> comparator) {
+        return sortedMerge(dominant, recessive, comparator, SortedMerge.UNION);
+    }
+
     /**
      * Partitions the specified list into sublists of the specified size.
      *
@@ -912,6 +1997,12 @@ public static <K, V> Map<K, V> subtract(Map<K, V> source, Map<K, V> elementsToRe
      * last partition will contain the remaining elements and will be smaller
      * than the specified size.
      *
+     * <p>The result implements {@link RandomAccess} when the source does.
+     * Every partition of a sequential list such as a {@link LinkedList} is a
+     * sublist view that seeks from the head of the list; to read such a list
+     * in partitions without writing through them, use
+     * {@link #partition(Iterable, int)}, which walks the source once.
+     *
      * @param <T>    the type of elements in the list
      * @param source the list to partition
      * @param size   the desired size of each partition
@@ -923,7 +2014,245 @@ public static <T> List<List<T>> partition(List<T> source, int size) {
         if (isEmpty(source)) return List.of();
         if (size <= 0) throw new IllegalArgumentException("Size must be greater than 0");
 
-        return Collections.unmodifiableList(new Partition<>(source, size));
+        return Collections.unmodifiableList(source instanceof RandomAccess
+                ? new RandomAccessPartition<>(source, size)
+                : new Partition<>(source, size));
+    }
+
+    /**
+     * Partitions the elements of the specified iterable into lists of the
+     * specified size, lazily.
+     *
+     * <p>Nothing is read when the partitions are created. Each iteration
+     * walks the source once and fills one new list at a time, so the source
+     * does not need to know its size and only a single partition is held in
+     * memory. The last partition holds the remaining elements and may be
+     * smaller than the specified size.
+     *
+     * @param <T>    the type of elements
+     * @param source the iterable to partition, may be {@code null}
+     * @param size   the desired size of each partition
+     * @return an iterable of new lists, empty if source is {@code null}
+     * @throws IllegalArgumentException if {@code size} is less than or equal to 0
+     * @see #forEachPartition(Iterable, int, Consumer)
+     */
+    public static <T> Iterable<List<T>> partition(Iterable<T> source, int size) {
+        if (source == null) return List.of();
+        if (size <= 0) throw new IllegalArgumentException("Size must be greater than 0");
+
+        return () -> new PartitioningIterator<>(source.iterator(), size);
+    }
+
+    /**
+     * Partitions the remaining elements of the specified iterator into lists
+     * of the specified size, lazily. The source is advanced only as far as
+     * the partitions that have been read.
+     *
+     * @param <T>    the type of elements
+     * @param source the iterator to partition, may be {@code null}
+     * @param size   the desired size of each partition
+     * @return an iterator of new lists, empty if source is {@code null}
+     * @throws IllegalArgumentException if {@code size} is less than or equal to 0
+     */
+    public static <T> Iterator<List<T>> partition(Iterator<T> source, int size) {
+        if (source == null) return Collections.emptyIterator();
+        if (size <= 0) throw new IllegalArgumentException("Size must be greater than 0");
+
+        return new PartitioningIterator<>(source, size);
+    }
+
+    /**
+     * Partitions the elements of the specified stream into lists of the
+     * specified size, lazily.
+     *
+     * <p>The returned stream is sequential and ordered, pulls elements from
+     * the source only as partitions are consumed and closes the source when
+     * it is closed.
+     *
+     * <pre>{@code
+     * try (Stream<String> lines = Files.lines(path)) {
+     *     CollectionUtils.partition(lines, 500).forEach(repository::insertAll);
+     * }
+     * }</pre>
+     *
+     * @param <T>    the type of elements
+     * @param source the stream to partition, may be {@code null}
+     * @param size   the desired size of each partition
+     * @return a stream of new lists, empty if source is {@code null}
+     * @throws IllegalArgumentException if {@code size} is less than or equal to 0
+     */
+    public static <T> Stream<List<T>> partition(Stream<T> source, int size) {
+        if (source == null) return Stream.empty();
+        if (size <= 0) throw new IllegalArgumentException("Size must be greater than 0");
+
+        Spliterator<List<T>> partitions = Spliterators.spliteratorUnknownSize(
+                new PartitioningIterator<>(source.iterator(), size),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(partitions, false).onClose(source::close);
+    }
+
+    /**
+     * Performs the given action for each partition of the specified size of
+     * the elements of the iterable, reusing a single buffer.
+     *
+     * <p>The same list is passed to every call of the action and is cleared
+     * before it is filled with the next partition, so the elements are
+     * batched without allocating a list per partition. The list is only
+     * valid during the call; an action that keeps a partition must copy it.
+     *
+     * @param <T>    the type of elements
+     * @param source the iterable to partition, may be {@code null}
+     * @param size   the desired size of each partition
+     * @param action the action to perform for each partition
+     * @throws IllegalArgumentException if {@code size} is less than or equal to 0 or action is {@code null}
+     * @see #partition(Iterable, int)
+     */
+    public static <T> void forEachPartition(Iterable<T> source, int size, Consumer<? super List<T>> action) {
+        if (size <= 0) throw new IllegalArgumentException("Size must be greater than 0");
+        if (action == null) throw new IllegalArgumentException("The action cannot be null");
+        if (source == null) return;
+
+        List<T> buffer = new ArrayList<>(PartitioningIterator.initialCapacity(source, size));
+        for (T element : source) {
+            buffer.add(element);
+            if (buffer.size() == size) {
+                action.accept(buffer);
+                buffer.clear();
+            }
+        }
+        if (!buffer.isEmpty()) action.accept(buffer);
+    }
+
+    /**
+     * Starts a fused pipeline over the specified collection.
+     *
+     * <p>Filter, map, distinct and limit steps appended to the pipeline are
+     * evaluated together in a single pass when a terminal method collects
+     * the result, instead of building a collection after every step as
+     * chained calls to {@link #findAll(Collection, Predicate)},
+     * {@link #transform(Collection, Function)} and
+     * {@link #groupBy(Collection, Function)} do.
+     *
+     * <pre>{@code
+     * Map<String, Long> activeByCountry = CollectionUtils.pipeline(users)
+     *         .filter(User::isActive)
+     *         .groupBy(User::country, Collectors.counting());
+     * }</pre>
+     *
+     * @param <T>    the type of elements in the collection
+     * @param source the collection to process, may be {@code null} or {@code empty}
+     * @return a pipeline over the elements of the source
+     */
+    public static <T> Pipeline<T> pipeline(Collection<T> source) {
+        return Pipeline.of(source == null ? List.of() : source);
+    }
+
+    /**
+     * Splits the collection into batches of the specified size and applies
+     * the specified function to each batch on the specified executor, running
+     * at most {@code concurrency} batches at once.
+     *
+     * <p>The batches are the {@link #partition(List, int) partitions} of the
+     * source, passed to the function as read-only list views. Only
+     * {@code concurrency} tasks are submitted to the executor and each of
+     * them takes the next unprocessed batch when it finishes the previous
+     * one, so the executor queue never holds more than {@code concurrency}
+     * tasks however many batches there are. A batch that throws a
+     * {@link RuntimeException} is recorded as failed and does not stop the
+     * other batches; the returned report holds the result or failure and the
+     * latency of every batch. The cancellation and timeout behavior is that
+     * of {@link #concurrentTransform(Collection, Function, Executor, int, Duration)}.
+     *
+     * <pre>{@code
+     * BatchReport<Integer> report = CollectionUtils.processBatches(rows, 1_000, dao::insertAll, executor, 4, null);
+     * int inserted = report.rethrowFailures().results().stream().mapToInt(Integer::intValue).sum();
+     * }</pre>
+     *
+     * @param <T>         the type of elements in the collection
+     * @param <R>         the type of the batch results
+     * @param source      the collection to process, may be {@code null} or {@code empty}
+     * @param batchSize   the maximum number of elements in a batch
+     * @param processor   the function to apply to each batch
+     * @param executor    the executor that runs the batches
+     * @param concurrency the maximum number of batches running at once
+     * @param timeout     the maximum time to wait, or {@code null} to wait without limit
+     * @return the report of every batch, in source order
+     * @throws IllegalArgumentException if batchSize or concurrency is not positive, processor or executor is
+     *                                  {@code null} or timeout is negative
+     * @throws CompletionException      if the timeout elapses, with a {@link TimeoutException} as its cause
+     * @throws CancellationException    if the calling thread is interrupted while waiting
+     * @see #forEachBatch(Collection, int, Consumer, Executor, int, Duration)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> BatchReport<R> processBatches(Collection<T> source,
+                                                       int batchSize,
+                                                       Function<? super List<T>, ? extends R> processor,
+                                                       Executor executor,
+                                                       int concurrency,
+                                                       Duration timeout) {
+        if (batchSize <= 0) throw new IllegalArgumentException("Size must be greater than 0");
+        if (processor == null) throw new IllegalArgumentException("The processor cannot be null");
+
+        // A sequential list is copied once, since every batch view of it would otherwise seek from the head
+        List<T> list = source instanceof RandomAccess ? (List<T>) source : toArrayList(source);
+        List<List<T>> partitions = partition(list, batchSize);
+
+        // The workers are handed batch indexes, so each one can build its batch outcome with the index in place
+        Object[] indexes = new Object[partitions.size()];
+        Arrays.setAll(indexes, Integer::valueOf);
+        Object[] batches = applyConcurrently(indexes, index -> {
+            int batchIndex = (Integer) index;
+            List<T> batch = Collections.unmodifiableList(partitions.get(batchIndex));
+            long start = System.nanoTime();
+            try {
+                R result = processor.apply(batch);
+                return new BatchReport.Batch<>(batchIndex, batch.size(), System.nanoTime() - start, result, null);
+            } catch (RuntimeException e) {
+                return new BatchReport.Batch<R>(batchIndex, batch.size(), System.nanoTime() - start, null, e);
+            }
+        }, executor, concurrency, timeout);
+
+        List<BatchReport.Batch<R>> result = new ArrayList<>(batches.length);
+        for (Object batch : batches) {
+            result.add((BatchReport.Batch<R>) batch);
+        }
+
+        return new BatchReport<>(result);
+    }
+
+    /**
+     * Splits the collection into batches of the specified size and performs
+     * the specified action for each batch on the specified executor, running
+     * at most {@code concurrency} batches at once.
+     *
+     * <p>This is {@link #processBatches(Collection, int, Function, Executor, int, Duration)}
+     * for actions without a result.
+     *
+     * @param <T>         the type of elements in the collection
+     * @param source      the collection to process, may be {@code null} or {@code empty}
+     * @param batchSize   the maximum number of elements in a batch
+     * @param action      the action to perform for each batch
+     * @param executor    the executor that runs the batches
+     * @param concurrency the maximum number of batches running at once
+     * @param timeout     the maximum time to wait, or {@code null} to wait without limit
+     * @return the report of every batch, in source order
+     * @throws IllegalArgumentException if batchSize or concurrency is not positive, action or executor is
+     *                                  {@code null} or timeout is negative
+     * @throws CompletionException      if the timeout elapses, with a {@link TimeoutException} as its cause
+     * @throws CancellationException    if the calling thread is interrupted while waiting
+     */
+    public static <T> BatchReport<Void> forEachBatch(Collection<T> source,
+                                                     int batchSize,
+                                                     Consumer<? super List<T>> action,
+                                                     Executor executor,
+                                                     int concurrency,
+                                                     Duration timeout) {
+        if (action == null) throw new IllegalArgumentException("The action cannot be null");
+
+        return processBatches(source, batchSize, batch -> {
+            action.accept(batch);
+            return null;
+        }, executor, concurrency, timeout);
     }
 
     /**
@@ -953,6 +2282,53 @@ public static <T, R> List<R> transform(Collection<T> source, Function<T, R> tran
         return result;
     }
 
+    /**
+     * Returns a lazy view that applies the specified function to each element
+     * of the collection on access.
+     *
+     * <p>Unlike {@link #transform(Collection, Function)}, no list is built:
+     * the function runs only for the elements that are actually iterated,
+     * every time they are iterated. Further steps can be chained on the view
+     * with {@link LazyCollection#transform(Function)} and
+     * {@link LazyCollection#filter(Predicate)}, and the result copied once with
+     * {@link LazyCollection#materialize()}.
+     *
+     * @param <T>         the type of elements in the source collection
+     * @param <R>         the type of elements in the view
+     * @param source      the collection to view, may be {@code null} or {@code empty}
+     * @param transformer the function to apply to each element
+     * @return a lazy view of the transformed elements
+     * @throws IllegalArgumentException if transformer is {@code null}
+     * @see #transformView(List, Function)
+     */
+    public static <T, R> LazyCollection<R> transformView(Collection<T> source,
+                                                         Function<? super T, ? extends R> transformer) {
+        Collection<T> elements = source == null ? List.of() : source;
+        return new LazyCollection<>(elements, elements).transform(transformer);
+    }
+
+    /**
+     * Returns a lazy list view that applies the specified function to each
+     * element of the list on access.
+     *
+     * <p>The view supports indexed access, applying the function only to the
+     * element that is read, and implements {@link RandomAccess} exactly when
+     * the source does. Further transforms chained on the view are fused into
+     * one function.
+     *
+     * @param <T>         the type of elements in the source list
+     * @param <R>         the type of elements in the view
+     * @param source      the list to view, may be {@code null} or {@code empty}
+     * @param transformer the function to apply to each element
+     * @return a lazy list view of the transformed elements
+     * @throws IllegalArgumentException if transformer is {@code null}
+     */
+    public static <T, R> LazyList<R> transformView(List<T> source, Function<? super T, ? extends R> transformer) {
+        if (transformer == null) throw new IllegalArgumentException("The transformer cannot be null");
+
+        return LazyList.of(source == null ? List.of() : source, transformer);
+    }
+
     /**
      * Converts a given {@code Collection} to an {@code ArrayList}.
      *
@@ -1058,6 +2434,125 @@ public static <T> Set<T> toCopyOnWriteArraySet(Collection<T> collection) {
         return new CopyOnWriteArraySet<>(collection);
     }
 
+    /**
+     * Converts a given {@code Collection} of {@link Integer} elements to a
+     * {@code int} array.
+     *
+     * <p>Views created by {@link ArrayUtils#asList(int[])} are copied in
+     * bulk, and {@link RandomAccess} lists such as {@link ArrayList} are
+     * read by index, so neither pays for an iterator. If the collection is
+     * {@code null} or {@code empty}, an {@code empty} array is returned.
+     *
+     * @param collection the collection to convert
+     * @return a new {@code int} array containing all elements from the input collection
+     * @throws NullPointerException if the collection contains a {@code null} element
+     */
+    public static int[] toIntArray(Collection<Integer> collection) {
+        if (isEmpty(collection)) return new int[0];
+        if (collection instanceof IntListView) return ((IntListView) collection).toIntArray();
+
+        int[] result = new int[collection.size()];
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            List<Integer> list = (List<Integer>) collection;
+            for (int i = 0; i < result.length; i++) {
+                result[i] = list.get(i);
+            }
+            return result;
+        }
+
+        int index = 0;
+        for (Integer element : collection) {
+            result[index++] = element;
+        }
+
+        return result;
+    }
+
+    /**
+     * Converts a given {@code Collection} of {@link Long} elements to a
+     * {@code long} array.
+     *
+     * <p>Views created by {@link ArrayUtils#asList(long[])} are copied in
+     * bulk, and {@link RandomAccess} lists such as {@link ArrayList} are
+     * read by index, so neither pays for an iterator. If the collection is
+     * {@code null} or {@code empty}, an {@code empty} array is returned.
+     *
+     * @param collection the collection to convert
+     * @return a new {@code long} array containing all elements from the input collection
+     * @throws NullPointerException if the collection contains a {@code null} element
+     */
+    public static long[] toLongArray(Collection<Long> collection) {
+        if (isEmpty(collection)) return new long[0];
+        if (collection instanceof LongListView) return ((LongListView) collection).toLongArray();
+
+        long[] result = new long[collection.size()];
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            List<Long> list = (List<Long>) collection;
+            for (int i = 0; i < result.length; i++) {
+                result[i] = list.get(i);
+            }
+            return result;
+        }
+
+        int index = 0;
+        for (Long element : collection) {
+            result[index++] = element;
+        }
+
+        return result;
+    }
+
+    /**
+     * Converts a given {@code Collection} of {@link Double} elements to a
+     * {@code double} array.
+     *
+     * <p>Views created by {@link ArrayUtils#asList(double[])} are copied in
+     * bulk, and {@link RandomAccess} lists such as {@link ArrayList} are
+     * read by index, so neither pays for an iterator. If the collection is
+     * {@code null} or {@code empty}, an {@code empty} array is returned.
+     *
+     * @param collection the collection to convert
+     * @return a new {@code double} array containing all elements from the input collection
+     * @throws NullPointerException if the collection contains a {@code null} element
+     */
+    public static double[] toDoubleArray(Collection<Double> collection) {
+        if (isEmpty(collection)) return new double[0];
+        if (collection instanceof DoubleListView) return ((DoubleListView) collection).toDoubleArray();
+
+        double[] result = new double[collection.size()];
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            List<Double> list = (List<Double>) collection;
+            for (int i = 0; i < result.length; i++) {
+                result[i] = list.get(i);
+            }
+            return result;
+        }
+
+        int index = 0;
+        for (Double element : collection) {
+            result[index++] = element;
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates an index of the elements of the collection by the property
+     * extracted by the specified function, allowing at most one element per
+     * value.
+     *
+     * @param <T>       the type of elements in the collection
+     * @param <V>       the type of the indexed property
+     * @param source    the collection to index, may be {@code null} or {@code empty}
+     * @param extractor the function to extract the indexed property from each element
+     * @return a unique index of the source elements by their property
+     * @throws IllegalArgumentException if extractor is {@code null} or two elements have the same property value
+     * @see #index(Collection, Function)
+     */
+    public static <T, V> PropertyIndex<T, V> uniqueIndex(Collection<T> source,
+                                                         Function<? super T, ? extends V> extractor) {
+        return propertyIndex(source, extractor, true);
+    }
 
     /**
      * Merges a {@link Collection} and a variable number of elements into a
@@ -1068,6 +2563,9 @@ public static <T> Set<T> toCopyOnWriteArraySet(Collection<T> collection) {
      * <p>If the {@code dominant} and {@code recessive} is {@code null} or
      * {@code empty}, an {@code empty} list is returned.
      *
+     * <p>Membership is tracked with a {@link HashSet}, so the union runs in
+     * time linear in the total number of elements.
+     *
      * @param <T>       the type of elements in the collection and varargs
      * @param dominant  the collection whose elements take precedence and appear first in the result
      * @param recessive the variable number of elements to be merged
@@ -1078,14 +2576,15 @@ public static <T> Set<T> toCopyOnWriteArraySet(Collection<T> collection) {
     public static <T> List<T> union(Collection<T> dominant, T... recessive) {
         if (isEmpty(dominant) && !ArrayUtils.hasLength(recessive)) return List.of();
 
-        List<T> result = new ArrayList<>();
+        int capacity = (isEmpty(dominant) ? 0 : dominant.size()) + (recessive == null ? 0 : recessive.length);
+        List<T> result = new ArrayList<>(capacity);
 
         if (!isEmpty(dominant)) result.addAll(dominant);
         if (ArrayUtils.hasLength(recessive)) {
+            // Tracks everything already in the result, replacing a linear contains on the growing result
+            Set<T> seen = new HashSet<>(result);
             for (T element : recessive) {
-                if (!result.contains(element)) {
-                    result.add(element);
-                }
+                if (seen.add(element)) result.add(element);
             }
         }
 
@@ -1101,6 +2600,9 @@ public static <T> List<T> union(Collection<T> dominant, T... recessive) {
      * <p>If the {@code dominant} and {@code recessive} is {@code null}
      * or {@code empty}, an {@code empty} list is returned.
      *
+     * <p>Membership is tracked with a {@link HashSet}, so the union runs in
+     * time linear in the total number of elements.
+     *
      * @param <T>       the type of elements in the collections
      * @param dominant  the collection whose elements take precedence and appear first in the result
      * @param recessive the collection whose elements are included only if not present in the dominant
@@ -1110,18 +2612,35 @@ public static <T> List<T> union(Collection<T> dominant, T... recessive) {
     public static <T> List<T> union(Collection<T> dominant, Collection<T> recessive) {
         if (isEmpty(dominant) && isEmpty(recessive)) return List.of();
 
-        List<T> result = new ArrayList<>();
+        int capacity = (isEmpty(dominant) ? 0 : dominant.size()) + (isEmpty(recessive) ? 0 : recessive.size());
 
-        if (!isEmpty(dominant)) result.addAll(dominant);
-        if (!isEmpty(recessive)) {
-            for (T element : recessive) {
-                if (!result.contains(element)) {
-                    result.add(element);
-                }
-            }
-        }
+        return Collections.unmodifiableList(unionInto(dominant, recessive, new ArrayList<>(capacity)));
+    }
 
-        return Collections.unmodifiableList(result);
+    /**
+     * Merges two {@link Collection}s into a collection created by the given
+     * factory, with elements from the dominant collection appearing first,
+     * followed by elements from the recessive collection that are not already
+     * present in the dominant collection or earlier in the recessive one.
+     *
+     * <p>This has the same semantics as
+     * {@link #union(Collection, Collection)}, but lets the caller choose the
+     * type and initial capacity of the result. Membership is tracked with a
+     * {@link HashSet}, so the union runs in linear time.
+     *
+     * @param <T>       the type of elements in the collections
+     * @param <C>       the type of the returned collection
+     * @param dominant  the collection whose elements take precedence and appear first in the result
+     * @param recessive the collection whose elements are included only if not present in the dominant
+     * @param factory   a supplier that creates the result collection instance
+     * @return a new collection of type {@code C} containing the union of both collections
+     * @throws IllegalArgumentException if factory is {@code null}
+     */
+    public static <T, C extends Collection<T>> C union(Collection<T> dominant,
+                                                       Collection<T> recessive,
+                                                       Supplier<C> factory) {
+        if (factory == null) throw new IllegalArgumentException("The factory cannot be null");
+        return unionInto(dominant, recessive, factory.get());
     }
 
     /**
@@ -1174,7 +2693,7 @@ public static <K, V> Map<K, V> union(Map<K, V> dominant, Map<K, V> recessive) {
      *
      * @param <T> the type of elements in the list
      */
-    private static final class Partition<T> extends AbstractList<List<T>> {
+    private static class Partition<T> extends AbstractList<List<T>> {
         private final List<T> list;
         private final int size;
 
@@ -1185,13 +2704,14 @@ private Partition(List<T> list, int size) {
 
         @Override
         public List<T> get(int index) {
-            int listSize = size();
+            int listSize = list.size();
+            int count = count(listSize);
             if (index < 0) throw new IndexOutOfBoundsException("Index " + index + " must not be negative");
-            if (index >= listSize)
-                throw new IndexOutOfBoundsException("Index " + index + " must be less than size " + listSize);
+            if (index >= count)
+                throw new IndexOutOfBoundsException("Index " + index + " must be less than size " + count);
 
             int start = index * size;
-            int end = Math.min(start + size, list.size());
+            int end = start + Math.min(size, listSize - start);
             return list.subList(start, end);
         }
 
@@ -1202,7 +2722,11 @@ public boolean isEmpty() {
 
         @Override
         public int size() {
-            return (int) Math.ceil((double) list.size() / (double) size);
+            return count(list.size());
+        }
+
+        private int count(int listSize) {
+            return listSize / size + (listSize % size == 0 ? 0 : 1);
         }
 
         @Override
@@ -1220,4 +2744,420 @@ public int hashCode() {
             return Objects.hash(super.hashCode(), list, size);
         }
     }
+
+    /**
+     * A partition view of a list that supports fast random access.
+     *
+     * @param <T> the type of elements in the list
+     */
+    private static final class RandomAccessPartition<T> extends Partition<T> implements RandomAccess {
+
+        private RandomAccessPartition(List<T> list, int size) {
+            super(list, size);
+        }
+    }
+
+    /**
+     * An iterator that groups the elements of another iterator into new lists
+     * of a fixed size, reading the source one partition at a time.
+     *
+     * @param <T> the type of elements being partitioned
+     */
+    private static final class PartitioningIterator<T> implements Iterator<List<T>> {
+        private static final int MAX_INITIAL_CAPACITY = 1 << 10;
+
+        private final Iterator<T> source;
+        private final int size;
+
+        private PartitioningIterator(Iterator<T> source, int size) {
+            this.source = source;
+            this.size = size;
+        }
+
+        // A huge partition size must not allocate its whole buffer up front
+        private static int initialCapacity(Iterable<?> source, int size) {
+            int capacity = Math.min(size, MAX_INITIAL_CAPACITY);
+            return source instanceof Collection ? Math.min(capacity, ((Collection<?>) source).size()) : capacity;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public List<T> next() {
+            if (!source.hasNext()) throw new NoSuchElementException();
+
+            List<T> partition = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+            while (partition.size() < size && source.hasNext()) {
+                partition.add(source.next());
+            }
+
+            return partition;
+        }
+    }
+
+    /**
+     * A lazy iterator that combines two sorted iterators in a single merge
+     * pass, holding only the current head of each side.
+     *
+     * <p>The left side is the source or dominant collection and the right
+     * side is the candidates or recessive collection. Elements are compared
+     * only with the comparator, so equal elements are those for which it
+     * returns 0.
+     *
+     * @param <T> the type of elements being merged
+     */
+    private static final class SortedMerge<T> implements Iterator<T> {
+        private static final int DIFFERENCE = 0;
+        private static final int INTERSECTION = 1;
+        private static final int UNION = 2;
+
+        private final Iterator<T> left;
+        private final Iterator<T> right;
+        private final Comparator<? super T> comparator;
+        private final int operation;
+
+        private T leftHead;
+        private T rightHead;
+        private boolean hasLeft;
+        private boolean hasRight;
+
+        private T lastRight;
+        private boolean hasLastRight;
+
+        private T next;
+        private boolean ready;
+
+        private SortedMerge(Iterator<T> left, Iterator<T> right, Comparator<? super T> comparator, int operation) {
+            this.left = left;
+            this.right = right;
+            this.comparator = comparator;
+            this.operation = operation;
+            advanceLeft();
+            advanceRight();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!ready) ready = operation == DIFFERENCE ? nextDifference()
+                    : operation == INTERSECTION ? nextIntersection() : nextUnion();
+            return ready;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            ready = false;
+            T result = next;
+            next = null;
+            return result;
+        }
+
+        private boolean nextDifference() {
+            while (hasLeft) {
+                while (hasRight && comparator.compare(rightHead, leftHead) < 0) {
+                    advanceRight();
+                }
+
+                T element = leftHead;
+                advanceLeft();
+                if (!hasRight || comparator.compare(rightHead, element) != 0) return emit(element);
+            }
+
+            return false;
+        }
+
+        private boolean nextIntersection() {
+            while (hasLeft && hasRight) {
+                int comparison = comparator.compare(leftHead, rightHead);
+                if (comparison < 0) {
+                    advanceLeft();
+                } else if (comparison > 0) {
+                    advanceRight();
+                } else {
+                    T element = leftHead;
+                    advanceLeft();
+                    advanceRight();
+                    return emit(element);
+                }
+            }
+
+            return false;
+        }
+
+        private boolean nextUnion() {
+            while (hasLeft || hasRight) {
+                int comparison = !hasRight ? -1 : !hasLeft ? 1 : comparator.compare(leftHead, rightHead);
+                if (comparison < 0) {
+                    T element = leftHead;
+                    advanceLeft();
+                    return emit(element);
+                }
+
+                T element = rightHead;
+                advanceRight();
+
+                // A recessive element equal to a dominant one or to the previous recessive one is already covered
+                if (comparison == 0 || hasLastRight && comparator.compare(element, lastRight) == 0) continue;
+
+                lastRight = element;
+                hasLastRight = true;
+                return emit(element);
+            }
+
+            return false;
+        }
+
+        private boolean emit(T element) {
+            next = element;
+            return true;
+        }
+
+        private void advanceLeft() {
+            hasLeft = left.hasNext();
+            leftHead = hasLeft ? left.next() : null;
+        }
+
+        private void advanceRight() {
+            hasRight = right.hasNext();
+            rightHead = hasRight ? right.next() : null;
+        }
+    }
+
+    /**
+     * A binary heap of the best elements offered so far, bounded to a fixed
+     * capacity, with the weakest element at the root so that a better one
+     * replaces it in O(log k).
+     *
+     * <p>Elements are ranked by a comparator, or by a {@code long} key that is
+     * extracted once per element and kept in a parallel array. Of equal
+     * elements, the one offered first ranks higher. The slot after the last
+     * heap slot holds the element being offered, so it can be ranked against
+     * the root before it enters the heap.
+     *
+     * @param <T> the type of elements being ranked
+     */
+    private static final class BoundedHeap<T> {
+        private final Object[] elements;
+        private final long[] keys;
+        private final int[] sequence;
+        private final Comparator<? super T> comparator;
+        private final ToLongFunction<? super T> key;
+        private final boolean largest;
+        private final int capacity;
+
+        private int size;
+        private int offered;
+
+        private BoundedHeap(int capacity,
+                            Comparator<? super T> comparator,
+                            ToLongFunction<? super T> key,
+                            boolean largest) {
+            this.elements = new Object[capacity + 1];
+            this.keys = key == null ? null : new long[capacity + 1];
+            this.sequence = new int[capacity + 1];
+            this.comparator = comparator;
+            this.key = key;
+            this.largest = largest;
+            this.capacity = capacity;
+        }
+
+        private void offer(T element) {
+            int slot = Math.min(size, capacity);
+            elements[slot] = element;
+            if (keys != null) keys[slot] = key.applyAsLong(element);
+            sequence[slot] = offered++;
+
+            if (size < capacity) {
+                siftUp(size++);
+            } else if (rank(capacity, 0) > 0) {
+                move(capacity, 0);
+                siftDown(0);
+            }
+            elements[capacity] = null;
+        }
+
+        // Removing the weakest element repeatedly fills the result from the back
+        @SuppressWarnings("unchecked")
+        private List<T> drain() {
+            Object[] result = new Object[size];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = elements[0];
+                move(--size, 0);
+                elements[size] = null;
+                siftDown(0);
+            }
+
+            return Collections.unmodifiableList((List<T>) Arrays.asList(result));
+        }
+
+        @SuppressWarnings("unchecked")
+        private int rank(int i, int j) {
+            int comparison = keys != null
+                    ? Long.compare(keys[i], keys[j])
+                    : comparator.compare((T) elements[i], (T) elements[j]);
+            if (comparison == 0) return Integer.compare(sequence[j], sequence[i]);
+
+            return largest == comparison > 0 ? 1 : -1;
+        }
+
+        private void siftUp(int position) {
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (rank(position, parent) >= 0) return;
+
+                swap(position, parent);
+                position = parent;
+            }
+        }
+
+        private void siftDown(int position) {
+            int child;
+            while ((child = 2 * position + 1) < size) {
+                if (child + 1 < size && rank(child + 1, child) < 0) child++;
+                if (rank(position, child) <= 0) return;
+
+                swap(position, child);
+                position = child;
+            }
+        }
+
+        private void move(int from, int to) {
+            elements[to] = elements[from];
+            if (keys != null) keys[to] = keys[from];
+            sequence[to] = sequence[from];
+        }
+
+        private void swap(int i, int j) {
+            Object element = elements[i];
+            elements[i] = elements[j];
+            elements[j] = element;
+            if (keys != null) {
+                long temporary = keys[i];
+                keys[i] = keys[j];
+                keys[j] = temporary;
+            }
+            int order = sequence[i];
+            sequence[i] = sequence[j];
+            sequence[j] = order;
+        }
+    }
+
+    /**
+     * A fork-join task that groups a range of elements into a map of its own
+     * and merges the maps of its halves with the collector's combiner. The
+     * task lives only for one call and is never serialized.
+     *
+     * @param <T> the type of elements being grouped
+     * @param <K> the type of keys used for grouping
+     * @param <A> the mutable accumulation type of the downstream collector
+     */
+    @SuppressWarnings("serial")
+    private static final class GroupingTask<T, K, A> extends RecursiveTask<Map<K, A>> {
+        private final Object[] elements;
+        private final int from;
+        private final int to;
+        private final int chunk;
+        private final Function<? super T, ? extends K> function;
+        private final Collector<? super T, A, ?> downstream;
+
+        private GroupingTask(Object[] elements,
+                             int from,
+                             int to,
+                             int chunk,
+                             Function<? super T, ? extends K> function,
+                             Collector<? super T, A, ?> downstream) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+            this.function = function;
+            this.downstream = downstream;
+        }
+
+        @Override
+        protected Map<K, A> compute() {
+            if (to - from <= chunk) return groupInto(elements, from, to, function, downstream);
+
+            int middle = (from + to) >>> 1;
+            GroupingTask<T, K, A> left = new GroupingTask<>(elements, from, middle, chunk, function, downstream);
+            GroupingTask<T, K, A> right = new GroupingTask<>(elements, middle, to, chunk, function, downstream);
+            left.fork();
+            Map<K, A> rightGroups = right.compute();
+            Map<K, A> leftGroups = left.join();
+
+            BinaryOperator<A> combiner = downstream.combiner();
+            for (Map.Entry<K, A> entry : rightGroups.entrySet()) {
+                leftGroups.merge(entry.getKey(), entry.getValue(), combiner);
+            }
+
+            return leftGroups;
+        }
+    }
+
+    /**
+     * The shared state of one concurrent application of a function, run by
+     * several executor tasks that claim elements from a common cursor.
+     *
+     * <p>Each task registers its thread while it works so that cancelling can
+     * interrupt the calls in progress. Registration and cancellation share a
+     * lock, so a thread is never interrupted after it has left the task and
+     * returned to its executor, and a task clears any interrupt that
+     * cancelling left behind before it returns.
+     */
+    private static final class ConcurrentApply implements Runnable {
+        private final Object[] elements;
+        private final Function<Object, ?> function;
+        private final Object[] results;
+        private final Thread[] threads;
+        private final AtomicInteger nextElement = new AtomicInteger();
+        private final AtomicInteger nextSlot = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final CountDownLatch done;
+        private volatile boolean cancelled;
+
+        private ConcurrentApply(Object[] elements, Function<Object, ?> function, int workers) {
+            this.elements = elements;
+            this.function = function;
+            this.results = new Object[elements.length];
+            this.threads = new Thread[workers];
+            this.done = new CountDownLatch(workers);
+        }
+
+        @Override
+        public void run() {
+            int slot = nextSlot.getAndIncrement();
+            try {
+                synchronized (threads) {
+                    if (cancelled) return;
+                    threads[slot] = Thread.currentThread();
+                }
+
+                int index;
+                while (!cancelled && (index = nextElement.getAndIncrement()) < elements.length) {
+                    results[index] = function.apply(elements[index]);
+                }
+            } catch (Throwable e) {
+                if (failure.compareAndSet(null, e)) cancel();
+            } finally {
+                synchronized (threads) {
+                    threads[slot] = null;
+                    if (cancelled) Thread.interrupted();
+                }
+                done.countDown();
+            }
+        }
+
+        private void cancel() {
+            synchronized (threads) {
+                cancelled = true;
+                for (Thread thread : threads) {
+                    if (thread != null && thread != Thread.currentThread()) thread.interrupt();
+                }
+            }
+        }
+    }
 }
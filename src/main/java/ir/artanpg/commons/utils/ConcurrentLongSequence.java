@@ -0,0 +1,281 @@
+package ir.artanpg.commons.utils;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free, append-only sequence of {@code long} values for many producer
+ * threads.
+ *
+ * <p>Each append claims its slots by advancing a shared tail index with
+ * compare-and-set, so a bulk {@link #appendAll(long[], int, int)} claims a whole
+ * chunk with a single atomic update and then fills it without contention.
+ * Storage grows in segments that double in size and are never copied or
+ * moved, so appends never wait for a resize, nor for each other.
+ *
+ * <p>Reads only ever observe a prefix of the sequence in which every value
+ * has been fully written. That visible prefix advances whenever no append is
+ * in flight, so once the producers are done {@link #size()} covers every
+ * appended value. {@link #toArray()} and {@link #copyTo(long[], int)} return a
+ * consistent snapshot of the visible prefix that can be handed straight to
+ * {@link ArrayUtils} operations.
+ *
+ * <pre>{@code
+ * ConcurrentLongSequence sequence = new ConcurrentLongSequence();
+ * producers.forEach(producer -> executor.submit(() -> sequence.appendAll(producer.batch())));
+ * ...
+ * long[] snapshot = ArrayUtils.sort(sequence.toArray());
+ * }</pre>
+ *
+ * @author Mohammad Yazdian
+ */
+public final class ConcurrentLongSequence {
+
+    /**
+     * The maximum number of values a sequence can hold.
+     */
+    public static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final int DEFAULT_FIRST_SEGMENT_LENGTH = 64;
+    private static final int MIN_FIRST_SEGMENT_LENGTH = 16;
+
+    private final int firstSegmentShift;
+    private final AtomicReferenceArray<long[]> segments;
+    private final AtomicInteger tail = new AtomicInteger();
+    private final AtomicInteger committed = new AtomicInteger();
+    private final AtomicInteger published = new AtomicInteger();
+
+    /**
+     * Creates an empty sequence.
+     */
+    public ConcurrentLongSequence() {
+        this(DEFAULT_FIRST_SEGMENT_LENGTH);
+    }
+
+    /**
+     * Creates an empty sequence whose first segment holds at least the
+     * specified number of values.
+     *
+     * @param initialCapacity the number of values the sequence holds before it allocates a second segment
+     * @throws IllegalArgumentException if initialCapacity is negative or greater than {@link #MAX_SIZE}
+     */
+    public ConcurrentLongSequence(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("The initial capacity cannot be negative");
+        if (initialCapacity > MAX_SIZE) throw new IllegalArgumentException("The initial capacity is too large");
+
+        int firstLength = Math.max(MIN_FIRST_SEGMENT_LENGTH, initialCapacity);
+        this.firstSegmentShift = 32 - Integer.numberOfLeadingZeros(firstLength - 1);
+        this.segments = new AtomicReferenceArray<>(33 - firstSegmentShift);
+    }
+
+    /**
+     * Appends the specified value to the end of the sequence.
+     *
+     * @param value the value to append
+     * @return the index at which the value was stored
+     * @throws IllegalStateException if the sequence already holds {@link #MAX_SIZE} values
+     */
+    public int append(long value) {
+        int index = claim(1);
+        segmentFor(index)[offsetIn(index)] = value;
+        publish(1);
+
+        return index;
+    }
+
+    /**
+     * Appends all values of the specified array to the end of the sequence as
+     * one contiguous chunk.
+     *
+     * @param values the values to append
+     * @return the index at which the first value was stored
+     * @throws IllegalArgumentException if values is {@code null}
+     * @throws IllegalStateException    if the values do not fit in the sequence
+     */
+    public int appendAll(long[] values) {
+        if (values == null) throw new IllegalArgumentException("The input array cannot be null");
+        return appendAll(values, 0, values.length);
+    }
+
+    /**
+     * Appends the values of the specified range of the array to the end of
+     * the sequence as one contiguous chunk.
+     *
+     * <p>Values appended concurrently by other threads are never interleaved
+     * with the chunk.
+     *
+     * @param values    the array containing the values to append
+     * @param fromIndex the index of the first value to append (inclusive)
+     * @param toIndex   the index of the last value to append (exclusive)
+     * @return the index at which the first value was stored
+     * @throws IllegalArgumentException  if values is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the array
+     * @throws IllegalStateException     if the values do not fit in the sequence
+     */
+    public int appendAll(long[] values, int fromIndex, int toIndex) {
+        if (values == null) throw new IllegalArgumentException("The input array cannot be null");
+        Objects.checkFromToIndex(fromIndex, toIndex, values.length);
+
+        int count = toIndex - fromIndex;
+        int start = claim(count);
+        int index = start;
+        while (fromIndex < toIndex) {
+            long[] segment = segmentFor(index);
+            int offset = offsetIn(index);
+            int length = Math.min(toIndex - fromIndex, segment.length - offset);
+            System.arraycopy(values, fromIndex, segment, offset, length);
+            fromIndex += length;
+            index += length;
+        }
+        publish(count);
+
+        return start;
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param index the index of the value to return
+     * @return the value at the specified index
+     * @throws IndexOutOfBoundsException if index is negative or not less than {@link #size()}
+     */
+    public long get(int index) {
+        Objects.checkIndex(index, size());
+        return segments.get(segmentIndex(index))[offsetIn(index)];
+    }
+
+    /**
+     * Returns the number of values visible in the sequence.
+     *
+     * @return the number of values in the visible prefix of the sequence
+     */
+    public int size() {
+        int count = committed.get();
+        if (count == tail.get()) advance(count);
+
+        return published.get();
+    }
+
+    /**
+     * Checks whether the sequence has no visible values.
+     *
+     * @return {@code true}, if no values are visible, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns a snapshot of the visible values as a new array.
+     *
+     * @return a new array containing the first {@link #size()} values
+     */
+    public long[] toArray() {
+        return toArray(0, size());
+    }
+
+    /**
+     * Returns a snapshot of the specified range of the visible values as a
+     * new array.
+     *
+     * @param fromIndex the index of the first value to copy (inclusive)
+     * @param toIndex   the index of the last value to copy (exclusive)
+     * @return a new array containing the values of the range
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the visible values
+     */
+    public long[] toArray(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+
+        long[] result = new long[toIndex - fromIndex];
+        copyRange(fromIndex, toIndex, result, 0);
+
+        return result;
+    }
+
+    /**
+     * Copies a snapshot of the visible values into the destination array.
+     *
+     * @param destination the array to copy the values into
+     * @param offset      the position in the destination array to start writing at
+     * @return the number of values written
+     * @throws IllegalArgumentException  if destination is {@code null}
+     * @throws IndexOutOfBoundsException if the values do not fit in the destination at the offset
+     */
+    public int copyTo(long[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException("The destination array cannot be null");
+
+        int size = size();
+        Objects.checkFromIndexSize(offset, size, destination.length);
+        copyRange(0, size, destination, offset);
+
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) builder.append(", ");
+            builder.append(get(i));
+        }
+        return builder.append(']').toString();
+    }
+
+    private int claim(int count) {
+        int start;
+        do {
+            start = tail.get();
+            if (count > MAX_SIZE - start) throw new IllegalStateException("The sequence is full");
+        } while (!tail.compareAndSet(start, start + count));
+
+        return start;
+    }
+
+    private void publish(int count) {
+        // Once every claimed slot has been written, everything below the tail can become visible
+        int total = committed.addAndGet(count);
+        if (total == tail.get()) advance(total);
+    }
+
+    private void advance(int count) {
+        int current;
+        do {
+            current = published.get();
+        } while (current < count && !published.compareAndSet(current, count));
+    }
+
+    private void copyRange(int fromIndex, int toIndex, long[] destination, int offset) {
+        while (fromIndex < toIndex) {
+            long[] segment = segments.get(segmentIndex(fromIndex));
+            int segmentOffset = offsetIn(fromIndex);
+            int length = Math.min(toIndex - fromIndex, segment.length - segmentOffset);
+            System.arraycopy(segment, segmentOffset, destination, offset, length);
+            fromIndex += length;
+            offset += length;
+        }
+    }
+
+    private int segmentIndex(int index) {
+        // Segment k starts at (2^k - 1) * firstLength and holds 2^k * firstLength values
+        return 31 - Integer.numberOfLeadingZeros((index >>> firstSegmentShift) + 1);
+    }
+
+    private int offsetIn(int index) {
+        int segment = segmentIndex(index);
+        return (int) (index - (((1L << segment) - 1) << firstSegmentShift));
+    }
+
+    private long[] segmentFor(int index) {
+        int segmentIndex = segmentIndex(index);
+        long[] segment = segments.get(segmentIndex);
+        if (segment != null) return segment;
+
+        long start = ((1L << segmentIndex) - 1) << firstSegmentShift;
+        int length = (int) Math.min(1L << (segmentIndex + firstSegmentShift), MAX_SIZE - start);
+        long[] allocated = new long[length];
+
+        return segments.compareAndSet(segmentIndex, null, allocated) ? allocated : segments.get(segmentIndex);
+    }
+}
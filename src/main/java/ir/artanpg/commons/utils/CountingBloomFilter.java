@@ -0,0 +1,151 @@
+package ir.artanpg.commons.utils;
+
+import java.util.Collection;
+
+/**
+ * A {@link BloomFilter} that keeps a small counter instead of a single bit
+ * per slot, so elements can be removed as well as added.
+ *
+ * <p>Adding an element increments its {@link #hashCount()} counters and
+ * removing it decrements them, which takes a byte per slot, eight times the
+ * memory of a {@link BloomFilter} of the same size. A counter that reaches
+ * 255 saturates and is never decremented again, trading a slightly higher
+ * false positive rate for never producing a false negative. Removing an
+ * element that was never added can clear counters that other elements rely
+ * on, so only elements known to have been added should be removed. This
+ * class is not thread-safe.
+ *
+ * <pre>{@code
+ * CountingBloomFilter<Long> active = CountingBloomFilter.of(100_000, 0.01);
+ * sessions.onOpen(session -> active.add(session.userId()));
+ * sessions.onClose(session -> active.remove(session.userId()));
+ * }</pre>
+ *
+ * @param <T> the type of the elements
+ * @author Mohammad Yazdian
+ */
+public final class CountingBloomFilter<T> {
+
+    private static final int MAX_COUNT = 0xFF;
+    private static final int MAX_SLOTS = Integer.MAX_VALUE - 8;
+
+    private final byte[] counters;
+    private final int hashCount;
+
+    private CountingBloomFilter(int slots, int hashCount) {
+        this.counters = new byte[slots];
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Creates an empty filter sized for the specified number of elements and
+     * false positive rate.
+     *
+     * @param <T>               the type of the elements
+     * @param expectedElements  the number of elements the filter is expected to hold at once
+     * @param falsePositiveRate the acceptable probability of a false positive, between 0 and 1 exclusive
+     * @return a new empty filter
+     * @throws IllegalArgumentException if expectedElements is negative or falsePositiveRate is not between 0 and 1
+     */
+    public static <T> CountingBloomFilter<T> of(int expectedElements, double falsePositiveRate) {
+        int slots = (int) Math.min(BloomFilter.optimalBitSize(expectedElements, falsePositiveRate), MAX_SLOTS);
+        return new CountingBloomFilter<>(slots, BloomFilter.optimalHashCount(falsePositiveRate));
+    }
+
+    /**
+     * Adds the specified element to the filter.
+     *
+     * @param element the element to add, may be {@code null}
+     */
+    public void add(T element) {
+        long hash = BloomFilter.hash(element);
+        for (int i = 1; i <= hashCount; i++) {
+            int slot = (int) BloomFilter.index(hash, i, counters.length);
+            if (Byte.toUnsignedInt(counters[slot]) < MAX_COUNT) counters[slot]++;
+        }
+    }
+
+    /**
+     * Adds all elements of the specified collection to the filter.
+     *
+     * @param elements the elements to add, may be {@code null} or {@code empty}
+     */
+    public void addAll(Collection<? extends T> elements) {
+        if (CollectionUtils.isEmpty(elements)) return;
+
+        for (T element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Removes one occurrence of the specified element from the filter. The
+     * element should have been added before; see the class documentation.
+     *
+     * @param element the element to remove, may be {@code null}
+     * @return {@code true} if the element might have been present and was removed, {@code false} if it was
+     * certainly absent and the filter is unchanged
+     */
+    public boolean remove(Object element) {
+        if (!mightContain(element)) return false;
+
+        long hash = BloomFilter.hash(element);
+        for (int i = 1; i <= hashCount; i++) {
+            int slot = (int) BloomFilter.index(hash, i, counters.length);
+            int count = Byte.toUnsignedInt(counters[slot]);
+            if (count < MAX_COUNT) counters[slot] = (byte) (count - 1);
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether the specified element might be in the filter.
+     *
+     * @param element the element to check, may be {@code null}
+     * @return {@code false} if the element is certainly absent, {@code true} if it is probably present
+     */
+    public boolean mightContain(Object element) {
+        return approximateCount(element) > 0;
+    }
+
+    /**
+     * Returns an upper bound of the number of times the specified element is
+     * in the filter, which is the smallest of its counters.
+     *
+     * @param element the element to count, may be {@code null}
+     * @return the estimated number of occurrences, never less than the actual number up to 255
+     */
+    public int approximateCount(Object element) {
+        long hash = BloomFilter.hash(element);
+        int result = MAX_COUNT;
+        for (int i = 1; i <= hashCount && result > 0; i++) {
+            result = Math.min(result, Byte.toUnsignedInt(counters[(int) BloomFilter.index(hash, i, counters.length)]));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the number of counters in the filter.
+     *
+     * @return the number of counters
+     */
+    public int size() {
+        return counters.length;
+    }
+
+    /**
+     * Returns the number of counters incremented for each element.
+     *
+     * @return the number of hash functions
+     */
+    public int hashCount() {
+        return hashCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CountingBloomFilter{size=" + counters.length + ", hashCount=" + hashCount + '}';
+    }
+}
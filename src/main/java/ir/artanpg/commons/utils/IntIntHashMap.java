@@ -0,0 +1,308 @@
+package ir.artanpg.commons.utils;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from {@code int} keys to {@code int} values that stores both
+ * in flat primitive arrays, avoiding the boxing and per-entry allocation of
+ * a {@code HashMap<Integer, Integer>}.
+ *
+ * <p>The map uses open addressing with linear probing and keeps its load
+ * factor at or below 3/4. Iteration order is unspecified. This class is not
+ * thread-safe.
+ *
+ * @author Mohammad Yazdian
+ */
+public final class IntIntHashMap {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    /**
+     * Creates an empty map.
+     */
+    public IntIntHashMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * Creates an empty map that can hold the specified number of entries
+     * without resizing.
+     *
+     * @param expectedSize the expected number of entries
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public IntIntHashMap(int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException("The expected size cannot be negative");
+
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the value mapped to the specified key, or 0 if the key is not
+     * present.
+     *
+     * @param key the key whose value is to be returned
+     * @return the value mapped to the key, or 0 if the key is not present
+     */
+    public int get(int key) {
+        return getOrDefault(key, 0);
+    }
+
+    /**
+     * Returns the value mapped to the specified key, or the default value if
+     * the key is not present.
+     *
+     * @param key          the key whose value is to be returned
+     * @param defaultValue the value to return if the key is not present
+     * @return the value mapped to the key, or defaultValue if the key is not present
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0) return hasZeroKey ? zeroValue : defaultValue;
+
+        int slot = find(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Checks whether the map contains the specified key.
+     *
+     * @param key the key to look for
+     * @return {@code true}, if the key is present, {@code false} otherwise
+     */
+    public boolean containsKey(int key) {
+        return key == 0 ? hasZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * Maps the specified key to the specified value, replacing any previous
+     * value.
+     *
+     * @param key   the key to map
+     * @param value the value to map the key to
+     */
+    public void put(int key, int value) {
+        if (key == 0) {
+            if (!hasZeroKey) size++;
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+
+        int slot = slot(key);
+        if (keys[slot] == 0) {
+            keys[slot] = key;
+            values[slot] = value;
+            afterInsert();
+        } else {
+            values[slot] = value;
+        }
+    }
+
+    /**
+     * Adds the specified delta to the value mapped to the specified key,
+     * treating an absent key as mapped to 0.
+     *
+     * @param key   the key whose value is to be incremented
+     * @param delta the amount to add
+     * @return the new value mapped to the key
+     */
+    public int addTo(int key, int delta) {
+        if (key == 0) {
+            if (!hasZeroKey) size++;
+            hasZeroKey = true;
+            return zeroValue += delta;
+        }
+
+        int slot = slot(key);
+        if (keys[slot] == 0) {
+            keys[slot] = key;
+            values[slot] = delta;
+            afterInsert();
+            return delta;
+        }
+
+        return values[slot] += delta;
+    }
+
+    /**
+     * Removes the mapping for the specified key, if present.
+     *
+     * @param key the key to remove
+     * @return {@code true}, if a mapping was removed, {@code false} otherwise
+     */
+    public boolean remove(int key) {
+        if (key == 0) {
+            if (!hasZeroKey) return false;
+            hasZeroKey = false;
+            zeroValue = 0;
+            size--;
+            return true;
+        }
+
+        int slot = find(key);
+        if (slot < 0) return false;
+
+        // Backward-shift deletion keeps every probe sequence contiguous
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != 0) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = 0;
+        values[gap] = 0;
+        size--;
+
+        return true;
+    }
+
+    /**
+     * Returns the number of entries in the map.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the map contains no entries.
+     *
+     * @return {@code true}, if the map is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all entries while keeping the allocated capacity.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, 0);
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the keys of the map in unspecified order.
+     *
+     * @return a new array containing all keys
+     */
+    public int[] keys() {
+        int[] result = new int[size];
+        int index = 0;
+
+        if (hasZeroKey) result[index++] = 0;
+        for (int key : keys) {
+            if (key != 0) result[index++] = key;
+        }
+
+        return result;
+    }
+
+    /**
+     * Performs the given action for each entry of the map in unspecified
+     * order.
+     *
+     * @param action the action to perform for each entry
+     * @throws IllegalArgumentException if action is {@code null}
+     */
+    public void forEach(EntryConsumer action) {
+        if (action == null) throw new IllegalArgumentException("The action cannot be null");
+
+        if (hasZeroKey) action.accept(0, zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) action.accept(keys[i], values[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (builder.length() > 1) builder.append(", ");
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    private static int hash(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long required = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / 0.75) + 1);
+        if (required > (1 << 30)) throw new IllegalArgumentException("The expected size is too large");
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private int find(int key) {
+        int slot = hash(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slot(int key) {
+        int slot = hash(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void afterInsert() {
+        size++;
+        if ((size - (hasZeroKey ? 1 : 0)) * 4L < keys.length * 3L) return;
+
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(keys.length << 1);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Represents an operation that accepts a key and its value.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+
+        /**
+         * Performs this operation on the given entry.
+         *
+         * @param key   the key of the entry
+         * @param value the value of the entry
+         */
+        void accept(int key, int value);
+    }
+}
@@ -0,0 +1,177 @@
+package ir.artanpg.commons.utils;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A fixed-size {@link java.util.List} view over a range of an {@code int}
+ * array.
+ *
+ * <p>The view reads and writes straight through to the backing array, so
+ * changes to either are visible in the other. Elements are boxed only when
+ * accessed through the {@link java.util.List} methods, and the primitive
+ * {@link #getInt(int)}, {@link #setInt(int, int)} and {@link #toIntArray()}
+ * methods avoid boxing entirely. A read-only view rejects every
+ * modification with an {@link UnsupportedOperationException}.
+ *
+ * <p>Instances are created by {@link ArrayUtils#asList(int[])} and
+ * {@link ArrayUtils#asUnmodifiableList(int[])}.
+ *
+ * @author Mohammad Yazdian
+ */
+public final class IntListView extends AbstractList<Integer> implements RandomAccess {
+
+    private final int[] array;
+    private final int offset;
+    private final int size;
+    private final boolean writable;
+
+    IntListView(int[] array, int offset, int size, boolean writable) {
+        this.array = array;
+        this.offset = offset;
+        this.size = size;
+        this.writable = writable;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    /**
+     * Returns the element at the specified position without boxing it.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int getInt(int index) {
+        return array[offset + Objects.checkIndex(index, size)];
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        return setInt(index, element);
+    }
+
+    /**
+     * Replaces the element at the specified position without boxing it.
+     *
+     * @param index   the index of the element to replace
+     * @param element the element to store at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException     if index is out of range
+     * @throws UnsupportedOperationException if this view is read-only
+     */
+    public int setInt(int index, int element) {
+        if (!writable) throw new UnsupportedOperationException("The view is read-only");
+
+        int position = offset + Objects.checkIndex(index, size);
+        int previous = array[position];
+        array[position] = element;
+
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        if (!(element instanceof Integer)) return -1;
+
+        int value = (Integer) element;
+        for (int i = 0; i < size; i++) {
+            if (array[offset + i] == value) return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object element) {
+        if (!(element instanceof Integer)) return -1;
+
+        int value = (Integer) element;
+        for (int i = size - 1; i >= 0; i--) {
+            if (array[offset + i] == value) return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public IntListView subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        return new IntListView(array, offset + fromIndex, toIndex - fromIndex, writable);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = array[offset + i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a new {@code int} array containing the elements of this view.
+     *
+     * @return a new array containing the elements of this view
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOfRange(array, offset, offset + size);
+    }
+
+    /**
+     * Copies the elements of this view into the destination array.
+     *
+     * @param destination the array to copy the elements into
+     * @param offset      the position in the destination array to start writing at
+     * @return the number of elements written
+     * @throws IllegalArgumentException  if destination is {@code null}
+     * @throws IndexOutOfBoundsException if the elements do not fit in the destination at the offset
+     */
+    public int copyTo(int[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException("The destination array cannot be null");
+        Objects.checkFromIndexSize(offset, size, destination.length);
+
+        System.arraycopy(array, this.offset, destination, offset, size);
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) return true;
+        if (!(other instanceof IntListView)) return super.equals(other);
+
+        IntListView view = (IntListView) other;
+        return Arrays.equals(array, offset, offset + size, view.array, view.offset, view.offset + view.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Integer.hashCode(array[offset + i]);
+        }
+
+        return hash;
+    }
+}
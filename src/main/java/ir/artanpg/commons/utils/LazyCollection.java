@@ -0,0 +1,185 @@
+package ir.artanpg.commons.utils;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A read-only, lazily evaluated view of a collection, created by
+ * {@link CollectionUtils#transformView(Collection, Function)} and
+ * {@link CollectionUtils#filterView(Collection, Predicate)}.
+ *
+ * <p>Nothing is computed when the view is created. Every iteration walks the
+ * source once and applies the chained functions and predicates to each
+ * element as it is reached, so reading only the first few elements costs
+ * only those elements, and no intermediate list is built between the steps
+ * of a chain. Because the work is repeated on every iteration, a view that
+ * is read several times, or whose functions are expensive, should be copied
+ * once with {@link #materialize()}. The view reads the source directly and
+ * therefore reflects later changes to it.
+ *
+ * <pre>{@code
+ * List<String> names = CollectionUtils.filterView(users, User::isActive)
+ *         .transform(User::name)
+ *         .materialize();
+ * }</pre>
+ *
+ * @param <T> the type of elements in the view
+ * @author Mohammad Yazdian
+ */
+public final class LazyCollection<T> extends AbstractCollection<T> {
+
+    private final Iterable<T> elements;
+    private final Collection<?> sizeSource;
+
+    LazyCollection(Iterable<T> elements, Collection<?> sizeSource) {
+        this.elements = elements;
+        this.sizeSource = sizeSource;
+    }
+
+    /**
+     * Returns a view that applies the specified function to each element of
+     * this view on access.
+     *
+     * @param <R>         the type of elements in the resulting view
+     * @param transformer the function to apply to each element
+     * @return a lazy view of the transformed elements
+     * @throws IllegalArgumentException if transformer is {@code null}
+     */
+    public <R> LazyCollection<R> transform(Function<? super T, ? extends R> transformer) {
+        if (transformer == null) throw new IllegalArgumentException("The transformer cannot be null");
+
+        return new LazyCollection<>(() -> new TransformingIterator<>(elements.iterator(), transformer), sizeSource);
+    }
+
+    /**
+     * Returns a view of the elements of this view that match the specified
+     * predicate, tested on access.
+     *
+     * @param predicate the condition to test each element against
+     * @return a lazy view of the matching elements
+     * @throws IllegalArgumentException if predicate is {@code null}
+     */
+    public LazyCollection<T> filter(Predicate<? super T> predicate) {
+        if (predicate == null) throw new IllegalArgumentException("The predicate cannot be null");
+
+        return new LazyCollection<>(() -> new FilteringIterator<>(elements.iterator(), predicate), null);
+    }
+
+    /**
+     * Evaluates the view once and copies its elements into a new list.
+     *
+     * @return a new list containing the elements of the view, in iteration order
+     */
+    public List<T> materialize() {
+        List<T> result = sizeSource == null ? new ArrayList<>() : new ArrayList<>(sizeSource.size());
+        for (T element : elements) {
+            result.add(element);
+        }
+
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return elements.iterator();
+    }
+
+    /**
+     * Returns the number of elements in the view. A view without a filter
+     * takes the size of its source; a filtered view is evaluated to count its
+     * elements.
+     *
+     * @return the number of elements in the view
+     */
+    @Override
+    public int size() {
+        if (sizeSource != null) return sizeSource.size();
+
+        int size = 0;
+        for (Iterator<T> iterator = elements.iterator(); iterator.hasNext(); iterator.next()) {
+            size++;
+        }
+
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return sizeSource != null ? sizeSource.isEmpty() : !elements.iterator().hasNext();
+    }
+
+    /**
+     * An iterator that applies a function to each element of another
+     * iterator as it is returned.
+     *
+     * @param <S> the type of elements in the source iterator
+     * @param <R> the type of the returned elements
+     */
+    static final class TransformingIterator<S, R> implements Iterator<R> {
+        private final Iterator<S> source;
+        private final Function<? super S, ? extends R> transformer;
+
+        TransformingIterator(Iterator<S> source, Function<? super S, ? extends R> transformer) {
+            this.source = source;
+            this.transformer = transformer;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public R next() {
+            return transformer.apply(source.next());
+        }
+    }
+
+    /**
+     * An iterator that skips the elements of another iterator that do not
+     * match a predicate, looking one element ahead.
+     *
+     * @param <T> the type of elements being filtered
+     */
+    private static final class FilteringIterator<T> implements Iterator<T> {
+        private final Iterator<T> source;
+        private final Predicate<? super T> predicate;
+
+        private T next;
+        private boolean ready;
+
+        private FilteringIterator(Iterator<T> source, Predicate<? super T> predicate) {
+            this.source = source;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!ready && source.hasNext()) {
+                T candidate = source.next();
+                if (predicate.test(candidate)) {
+                    next = candidate;
+                    ready = true;
+                }
+            }
+
+            return ready;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+
+            ready = false;
+            T result = next;
+            next = null;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package ir.artanpg.commons.utils;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A read-only list view that applies a function to the elements of a source
+ * list on access, created by
+ * {@link CollectionUtils#transformView(List, Function)}.
+ *
+ * <p>Reading an element applies the function to the source element at the
+ * same index, so a caller that reads only a few elements pays only for those.
+ * The view implements {@link RandomAccess} exactly when the source does, and
+ * iterates a sequential source through its iterator rather than by index.
+ * Chained {@link #transform(Function) transforms} are fused into a single
+ * function over the source. The function is applied again on every access,
+ * so a view that is read several times, or whose function is expensive,
+ * should be copied once with {@link #materialize()}. The view reads the
+ * source directly and therefore reflects later changes to it.
+ *
+ * @param <T> the type of elements in the view
+ * @author Mohammad Yazdian
+ */
+public class LazyList<T> extends AbstractList<T> {
+
+    private final List<Object> source;
+    private final Function<Object, ? extends T> transformer;
+
+    LazyList(List<Object> source, Function<Object, ? extends T> transformer) {
+        this.source = source;
+        this.transformer = transformer;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <S, T> LazyList<T> of(List<S> source, Function<? super S, ? extends T> transformer) {
+        List<Object> elements = (List<Object>) source;
+        Function<Object, ? extends T> function = (Function) transformer;
+
+        return source instanceof RandomAccess
+                ? new RandomAccessLazyList<>(elements, function)
+                : new LazyList<>(elements, function);
+    }
+
+    /**
+     * Returns a list view that applies the specified function to each element
+     * of this view on access. The function is composed with the function of
+     * this view, so the source is still read only once per access.
+     *
+     * @param <R>         the type of elements in the resulting view
+     * @param transformer the function to apply to each element
+     * @return a lazy list view of the transformed elements
+     * @throws IllegalArgumentException if transformer is {@code null}
+     */
+    public <R> LazyList<R> transform(Function<? super T, ? extends R> transformer) {
+        if (transformer == null) throw new IllegalArgumentException("The transformer cannot be null");
+
+        return of(source, this.transformer.andThen(transformer));
+    }
+
+    /**
+     * Returns a view of the elements of this view that match the specified
+     * predicate, tested on access.
+     *
+     * @param predicate the condition to test each element against
+     * @return a lazy view of the matching elements
+     * @throws IllegalArgumentException if predicate is {@code null}
+     */
+    public LazyCollection<T> filter(Predicate<? super T> predicate) {
+        return new LazyCollection<>(this, this).filter(predicate);
+    }
+
+    /**
+     * Evaluates the view once and copies its elements into a new list.
+     *
+     * @return a new list containing the elements of the view, in order
+     */
+    public List<T> materialize() {
+        List<T> result = new ArrayList<>(source.size());
+        for (T element : this) {
+            result.add(element);
+        }
+
+        return result;
+    }
+
+    @Override
+    public T get(int index) {
+        return transformer.apply(source.get(index));
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return source.isEmpty();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new LazyCollection.TransformingIterator<>(source.iterator(), transformer);
+    }
+
+    /**
+     * A lazy list view over a source that supports fast random access.
+     *
+     * @param <T> the type of elements in the view
+     */
+    private static final class RandomAccessLazyList<T> extends LazyList<T> implements RandomAccess {
+
+        private RandomAccessLazyList(List<Object> source, Function<Object, ? extends T> transformer) {
+            super(source, transformer);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package ir.artanpg.commons.utils;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * A compact, read-only grouping of elements by a {@code long} key, created
+ * by {@link CollectionUtils#groupByLong(java.util.Collection, java.util.function.ToLongFunction)}.
+ *
+ * <p>Instead of a {@code HashMap<Long, List<T>>} with a boxed key and a
+ * growable list per group, the elements are laid out once, counting-sort
+ * style, in a single permutation array in which every group occupies a
+ * contiguous range. Keys map to group numbers through an
+ * {@link LongIntHashMap}, and group boundaries are kept in an {@code int[]}
+ * of offsets. Groups are numbered in the order their keys first occur, and
+ * the elements of a group keep their source order. The grouping is a
+ * snapshot and does not see later changes to the source.
+ *
+ * <pre>{@code
+ * LongGrouping<Order> byShard = CollectionUtils.groupByLong(orders, Order::shardId);
+ * for (Order order : byShard.get(42L)) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the grouped elements
+ * @author Mohammad Yazdian
+ */
+public final class LongGrouping<T> {
+
+    private final Object[] elements;
+    private final int[] permutation;
+    private final int[] offsets;
+    private final long[] groupKeys;
+    private final LongIntHashMap groups;
+
+    LongGrouping(Object[] elements, long[] keys) {
+        LongIntHashMap groups = new LongIntHashMap();
+        int[] groupOf = new int[keys.length];
+        long[] groupKeys = new long[Math.min(keys.length, 16)];
+        int groupCount = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            int group = groups.getOrDefault(keys[i], -1);
+            if (group < 0) {
+                group = groupCount++;
+                groups.put(keys[i], group);
+                if (group == groupKeys.length) groupKeys = Arrays.copyOf(groupKeys, group << 1);
+                groupKeys[group] = keys[i];
+            }
+            groupOf[i] = group;
+        }
+
+        // Counting sort: group sizes become start offsets, then each index is placed at its group's cursor
+        int[] offsets = new int[groupCount + 1];
+        for (int group : groupOf) {
+            offsets[group + 1]++;
+        }
+        for (int group = 0; group < groupCount; group++) {
+            offsets[group + 1] += offsets[group];
+        }
+
+        int[] cursors = Arrays.copyOf(offsets, groupCount);
+        int[] permutation = new int[keys.length];
+        for (int i = 0; i < groupOf.length; i++) {
+            permutation[cursors[groupOf[i]]++] = i;
+        }
+
+        this.elements = elements;
+        this.permutation = permutation;
+        this.offsets = offsets;
+        this.groupKeys = Arrays.copyOf(groupKeys, groupCount);
+        this.groups = groups;
+    }
+
+    /**
+     * Returns the number of groups, which is the number of distinct keys.
+     *
+     * @return the number of groups
+     */
+    public int groupCount() {
+        return groupKeys.length;
+    }
+
+    /**
+     * Returns the number of grouped elements.
+     *
+     * @return the number of elements in all groups
+     */
+    public int size() {
+        return permutation.length;
+    }
+
+    /**
+     * Checks whether the grouping contains no elements.
+     *
+     * @return {@code true}, if there are no elements, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return permutation.length == 0;
+    }
+
+    /**
+     * Returns the distinct keys in the order they first occur in the source.
+     *
+     * @return a new array containing all keys
+     */
+    public long[] keys() {
+        return groupKeys.clone();
+    }
+
+    /**
+     * Checks whether the grouping has a group for the specified key.
+     *
+     * @param key the key to look for
+     * @return {@code true}, if at least one element has the key, {@code false} otherwise
+     */
+    public boolean containsKey(long key) {
+        return groups.containsKey(key);
+    }
+
+    /**
+     * Returns the number of elements with the specified key.
+     *
+     * @param key the key whose group is to be measured
+     * @return the size of the group, or 0 if the key is absent
+     */
+    public int count(long key) {
+        int group = groups.getOrDefault(key, -1);
+        return group < 0 ? 0 : offsets[group + 1] - offsets[group];
+    }
+
+    /**
+     * Returns an unmodifiable view of the elements with the specified key, in
+     * source order.
+     *
+     * @param key the key whose group is to be returned
+     * @return the elements of the group, or an empty list if the key is absent
+     */
+    public List<T> get(long key) {
+        int group = groups.getOrDefault(key, -1);
+        return group < 0 ? List.of() : new Group(offsets[group], offsets[group + 1]);
+    }
+
+    /**
+     * Returns the positions in the source of the elements with the specified
+     * key, in ascending order.
+     *
+     * @param key the key whose group is to be returned
+     * @return a new array of source positions, empty if the key is absent
+     */
+    public int[] indexes(long key) {
+        int group = groups.getOrDefault(key, -1);
+        return group < 0 ? new int[0] : Arrays.copyOfRange(permutation, offsets[group], offsets[group + 1]);
+    }
+
+    /**
+     * Performs the given action for each group and its key, in the order the
+     * keys first occur in the source.
+     *
+     * @param action the action to perform for each group
+     * @throws IllegalArgumentException if action is {@code null}
+     */
+    public void forEach(ObjLongConsumer<? super List<T>> action) {
+        if (action == null) throw new IllegalArgumentException("The action cannot be null");
+
+        for (int group = 0; group < groupKeys.length; group++) {
+            action.accept(new Group(offsets[group], offsets[group + 1]), groupKeys[group]);
+        }
+    }
+
+    /**
+     * Returns the grouping as a map from boxed keys to group views, for
+     * interoperability with APIs that expect a {@link Map}.
+     *
+     * @return a new map from each key to an unmodifiable view of its group
+     */
+    public Map<Long, List<T>> toMap() {
+        Map<Long, List<T>> result = new HashMap<>(Math.max(16, (int) (groupKeys.length / 0.75f) + 1));
+        forEach((group, key) -> result.put(key, group));
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((group, key) -> {
+            if (builder.length() > 1) builder.append(", ");
+            builder.append(key).append('=').append(group);
+        });
+        return builder.append('}').toString();
+    }
+
+    /**
+     * A read-only view of one contiguous range of the permutation array.
+     */
+    private final class Group extends AbstractList<T> implements RandomAccess {
+        private final int from;
+        private final int to;
+
+        private Group(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            return (T) elements[permutation[from + Objects.checkIndex(index, to - from)]];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
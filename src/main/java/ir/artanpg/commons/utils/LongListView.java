@@ -0,0 +1,177 @@
+package ir.artanpg.commons.utils;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A fixed-size {@link java.util.List} view over a range of a {@code long}
+ * array.
+ *
+ * <p>The view reads and writes straight through to the backing array, so
+ * changes to either are visible in the other. Elements are boxed only when
+ * accessed through the {@link java.util.List} methods, and the primitive
+ * {@link #getLong(int)}, {@link #setLong(int, long)} and
+ * {@link #toLongArray()} methods avoid boxing entirely. A read-only view
+ * rejects every modification with an {@link UnsupportedOperationException}.
+ *
+ * <p>Instances are created by {@link ArrayUtils#asList(long[])} and
+ * {@link ArrayUtils#asUnmodifiableList(long[])}.
+ *
+ * @author Mohammad Yazdian
+ */
+public final class LongListView extends AbstractList<Long> implements RandomAccess {
+
+    private final long[] array;
+    private final int offset;
+    private final int size;
+    private final boolean writable;
+
+    LongListView(long[] array, int offset, int size, boolean writable) {
+        this.array = array;
+        this.offset = offset;
+        this.size = size;
+        this.writable = writable;
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    /**
+     * Returns the element at the specified position without boxing it.
+     *
+     * @param index the index of the element to return
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public long getLong(int index) {
+        return array[offset + Objects.checkIndex(index, size)];
+    }
+
+    @Override
+    public Long set(int index, Long element) {
+        return setLong(index, element);
+    }
+
+    /**
+     * Replaces the element at the specified position without boxing it.
+     *
+     * @param index   the index of the element to replace
+     * @param element the element to store at the specified position
+     * @return the element previously at the specified position
+     * @throws IndexOutOfBoundsException     if index is out of range
+     * @throws UnsupportedOperationException if this view is read-only
+     */
+    public long setLong(int index, long element) {
+        if (!writable) throw new UnsupportedOperationException("The view is read-only");
+
+        int position = offset + Objects.checkIndex(index, size);
+        long previous = array[position];
+        array[position] = element;
+
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return indexOf(element) >= 0;
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        if (!(element instanceof Long)) return -1;
+
+        long value = (Long) element;
+        for (int i = 0; i < size; i++) {
+            if (array[offset + i] == value) return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object element) {
+        if (!(element instanceof Long)) return -1;
+
+        long value = (Long) element;
+        for (int i = size - 1; i >= 0; i--) {
+            if (array[offset + i] == value) return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public LongListView subList(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        return new LongListView(array, offset + fromIndex, toIndex - fromIndex, writable);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = array[offset + i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a new {@code long} array containing the elements of this view.
+     *
+     * @return a new array containing the elements of this view
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOfRange(array, offset, offset + size);
+    }
+
+    /**
+     * Copies the elements of this view into the destination array.
+     *
+     * @param destination the array to copy the elements into
+     * @param offset      the position in the destination array to start writing at
+     * @return the number of elements written
+     * @throws IllegalArgumentException  if destination is {@code null}
+     * @throws IndexOutOfBoundsException if the elements do not fit in the destination at the offset
+     */
+    public int copyTo(long[] destination, int offset) {
+        if (destination == null) throw new IllegalArgumentException("The destination array cannot be null");
+        Objects.checkFromIndexSize(offset, size, destination.length);
+
+        System.arraycopy(array, this.offset, destination, offset, size);
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) return true;
+        if (!(other instanceof LongListView)) return super.equals(other);
+
+        LongListView view = (LongListView) other;
+        return Arrays.equals(array, offset, offset + size, view.array, view.offset, view.offset + view.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Long.hashCode(array[offset + i]);
+        }
+
+        return hash;
+    }
+}
@@ -0,0 +1,99 @@
+package ir.artanpg.commons.utils;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A reusable index for answering repeated membership queries against a
+ * collection, created by {@link CollectionUtils#index(Collection)}.
+ *
+ * <p>The index is built once and then shared by every lookup, instead of
+ * copying the source into a new {@link HashSet} per call. A {@link Set}
+ * source is used directly and therefore reflects later changes to it. Any
+ * other source is copied when the index is created: small sources into an
+ * array that is scanned linearly, which beats hashing at that size, and
+ * larger sources into a {@link HashSet}. A copied index is a snapshot and
+ * must be recreated after the source changes.
+ *
+ * <pre>{@code
+ * MembershipIndex<String> allowed = CollectionUtils.index(allowedNames);
+ * for (Request request : requests) {
+ *     if (allowed.contains(request.name())) handle(request);
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the indexed elements
+ * @author Mohammad Yazdian
+ */
+public final class MembershipIndex<T> {
+
+    private final Set<?> set;
+    private final Collection<?> elements;
+
+    MembershipIndex(Set<?> set, Collection<?> elements) {
+        this.set = set;
+        this.elements = elements;
+    }
+
+    /**
+     * Checks if the specified candidate is in the index.
+     *
+     * @param candidate the candidate to look up
+     * @return {@code true} if the candidate is in the index, {@code false} otherwise
+     */
+    public boolean contains(Object candidate) {
+        if (set != null) return set.contains(candidate);
+
+        for (Object element : elements) {
+            if (Objects.equals(element, candidate)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if any of the specified candidates is in the index.
+     *
+     * @param candidates the candidates to look up
+     * @return {@code true} if at least one candidate is in the index, {@code false} otherwise
+     */
+    public boolean containsAny(Collection<?> candidates) {
+        if (CollectionUtils.isEmpty(candidates)) return false;
+
+        for (Object candidate : candidates) {
+            if (contains(candidate)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the specified candidate if it is in the index.
+     *
+     * @param candidate the candidate to look up
+     * @return the candidate if it is in the index, {@link Optional#empty()} otherwise
+     */
+    public Optional<T> find(T candidate) {
+        return candidate != null && contains(candidate) ? Optional.of(candidate) : Optional.empty();
+    }
+
+    /**
+     * Returns the first of the specified candidates, in their iteration
+     * order, that is in the index.
+     *
+     * @param candidates the candidates to look up
+     * @return the first candidate that is in the index, {@link Optional#empty()} otherwise
+     */
+    public Optional<T> findFirst(Collection<T> candidates) {
+        if (CollectionUtils.isEmpty(candidates)) return Optional.empty();
+
+        for (T candidate : candidates) {
+            if (contains(candidate)) return Optional.ofNullable(candidate);
+        }
+
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,61 @@
+package ir.artanpg.commons.utils;
+
+import java.util.Objects;
+
+/**
+ * The smallest and largest elements of a collection, found together in a
+ * single pass by {@link CollectionUtils#findMinMax(java.util.Collection, java.util.Comparator)}
+ * and {@link CollectionUtils#findMinMaxByLongKey(java.util.Collection, java.util.function.ToLongFunction)}.
+ *
+ * @param <T> the type of the elements
+ * @author Mohammad Yazdian
+ */
+public final class MinMax<T> {
+
+    private final T min;
+    private final T max;
+
+    MinMax(T min, T max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Returns the smallest element, the first one if several are equally
+     * small.
+     *
+     * @return the minimum element
+     */
+    public T min() {
+        return min;
+    }
+
+    /**
+     * Returns the largest element, the first one if several are equally
+     * large.
+     *
+     * @return the maximum element
+     */
+    public T max() {
+        return max;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof MinMax)) return false;
+
+        MinMax<?> that = (MinMax<?>) other;
+        return Objects.equals(min, that.min) && Objects.equals(max, that.max);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(min, max);
+    }
+
+    @Override
+    public String toString() {
+        return "MinMax{min=" + min + ", max=" + max + '}';
+    }
+}
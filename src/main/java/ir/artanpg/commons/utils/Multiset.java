@@ -0,0 +1,365 @@
+package ir.artanpg.commons.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A collection that counts occurrences of equal elements, also known as a
+ * bag.
+ *
+ * <p>Each distinct element maps to a mutable primitive counter, so adding an
+ * occurrence is a single hash lookup and an increment instead of the boxing
+ * and re-insertion of a {@code Map<T, Integer>}. The set algebra methods
+ * {@link #intersection(Multiset)}, {@link #union(Multiset)},
+ * {@link #sum(Multiset)} and {@link #difference(Multiset)} combine counts and
+ * return a new multiset, iterating the smaller operand where the operation
+ * allows it. {@code null} elements are permitted. This class is not
+ * thread-safe.
+ *
+ * <pre>{@code
+ * Multiset<String> stock = Multiset.of(warehouse);
+ * Multiset<String> reserved = Multiset.of(orders);
+ * Multiset<String> available = stock.difference(reserved);
+ * }</pre>
+ *
+ * @param <T> the type of elements in the multiset
+ * @author Mohammad Yazdian
+ */
+public final class Multiset<T> {
+
+    private static final String OTHER_IS_NULL_MESSAGE = "The other multiset cannot be null";
+    private static final String NEGATIVE_OCCURRENCES_MESSAGE = "The occurrences cannot be negative";
+
+    private final Map<T, Count> counts;
+    private long size;
+
+    /**
+     * Creates an empty multiset.
+     */
+    public Multiset() {
+        this.counts = new HashMap<>();
+    }
+
+    private Multiset(int distinctElements) {
+        this.counts = new HashMap<>(Math.max(16, (int) (distinctElements / 0.75f) + 1));
+    }
+
+    /**
+     * Creates a multiset containing every element of the specified
+     * collection, counting duplicates.
+     *
+     * @param <T>    the type of elements in the collection
+     * @param source the collection to count, may be {@code null} or {@code empty}
+     * @return a new multiset containing the elements of the source
+     */
+    public static <T> Multiset<T> of(Collection<? extends T> source) {
+        if (CollectionUtils.isEmpty(source)) return new Multiset<>();
+
+        Multiset<T> result = new Multiset<>(source.size());
+        for (T element : source) {
+            result.add(element);
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds one occurrence of the specified element.
+     *
+     * @param element the element to add, may be {@code null}
+     * @return the number of occurrences of the element before the call
+     */
+    public int add(T element) {
+        return add(element, 1);
+    }
+
+    /**
+     * Adds the specified number of occurrences of the element.
+     *
+     * @param element     the element to add, may be {@code null}
+     * @param occurrences the number of occurrences to add
+     * @return the number of occurrences of the element before the call
+     * @throws IllegalArgumentException if occurrences is negative or the count would overflow
+     */
+    public int add(T element, int occurrences) {
+        if (occurrences < 0) throw new IllegalArgumentException(NEGATIVE_OCCURRENCES_MESSAGE);
+        if (occurrences == 0) return count(element);
+
+        Count count = counts.computeIfAbsent(element, key -> new Count());
+        int previous = count.value;
+        if (previous > Integer.MAX_VALUE - occurrences)
+            throw new IllegalArgumentException("The number of occurrences cannot exceed " + Integer.MAX_VALUE);
+
+        count.value = previous + occurrences;
+        size += occurrences;
+
+        return previous;
+    }
+
+    /**
+     * Removes one occurrence of the specified element, if present.
+     *
+     * @param element the element to remove, may be {@code null}
+     * @return {@code true} if an occurrence was removed, {@code false} otherwise
+     */
+    public boolean remove(Object element) {
+        return remove(element, 1) > 0;
+    }
+
+    /**
+     * Removes up to the specified number of occurrences of the element.
+     *
+     * @param element     the element to remove, may be {@code null}
+     * @param occurrences the maximum number of occurrences to remove
+     * @return the number of occurrences of the element before the call
+     * @throws IllegalArgumentException if occurrences is negative
+     */
+    public int remove(Object element, int occurrences) {
+        if (occurrences < 0) throw new IllegalArgumentException(NEGATIVE_OCCURRENCES_MESSAGE);
+
+        Count count = counts.get(element);
+        if (count == null) return 0;
+
+        int previous = count.value;
+        if (occurrences >= previous) {
+            counts.remove(element);
+            size -= previous;
+        } else {
+            count.value = previous - occurrences;
+            size -= occurrences;
+        }
+
+        return previous;
+    }
+
+    /**
+     * Returns the number of occurrences of the specified element.
+     *
+     * @param element the element to count, may be {@code null}
+     * @return the number of occurrences, or 0 if the element is absent
+     */
+    public int count(Object element) {
+        Count count = counts.get(element);
+        return count == null ? 0 : count.value;
+    }
+
+    /**
+     * Checks whether the multiset contains at least one occurrence of the
+     * specified element.
+     *
+     * @param element the element to look for, may be {@code null}
+     * @return {@code true} if the element is present, {@code false} otherwise
+     */
+    public boolean contains(Object element) {
+        return counts.containsKey(element);
+    }
+
+    /**
+     * Returns the total number of occurrences of all elements, or
+     * {@link Integer#MAX_VALUE} if there are more.
+     *
+     * @return the number of elements, counting duplicates
+     */
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Checks whether the multiset contains no elements.
+     *
+     * @return {@code true} if the multiset is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an unmodifiable view of the distinct elements.
+     *
+     * @return the set of distinct elements
+     */
+    public Set<T> elementSet() {
+        return Collections.unmodifiableSet(counts.keySet());
+    }
+
+    /**
+     * Performs the given action for each distinct element and its number of
+     * occurrences, in unspecified order.
+     *
+     * @param action the action to perform for each distinct element
+     * @throws IllegalArgumentException if action is {@code null}
+     */
+    public void forEach(ObjIntConsumer<? super T> action) {
+        if (action == null) throw new IllegalArgumentException("The action cannot be null");
+
+        for (Map.Entry<T, Count> entry : counts.entrySet()) {
+            action.accept(entry.getKey(), entry.getValue().value);
+        }
+    }
+
+    /**
+     * Returns a multiset in which each element occurs the minimum number of
+     * times it occurs in this multiset and the other one.
+     *
+     * @param other the multiset to intersect with
+     * @return a new multiset holding the common occurrences
+     * @throws IllegalArgumentException if other is {@code null}
+     */
+    public Multiset<T> intersection(Multiset<? extends T> other) {
+        if (other == null) throw new IllegalArgumentException(OTHER_IS_NULL_MESSAGE);
+
+        boolean thisIsSmaller = counts.size() <= other.counts.size();
+        Map<? extends T, Count> smaller = thisIsSmaller ? counts : other.counts;
+        Multiset<?> larger = thisIsSmaller ? other : this;
+
+        Multiset<T> result = new Multiset<>(smaller.size());
+        for (Map.Entry<? extends T, Count> entry : smaller.entrySet()) {
+            int common = Math.min(entry.getValue().value, larger.count(entry.getKey()));
+            if (common > 0) result.add(entry.getKey(), common);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a multiset in which each element occurs the maximum number of
+     * times it occurs in this multiset or the other one.
+     *
+     * @param other the multiset to unite with
+     * @return a new multiset holding the maximum occurrences
+     * @throws IllegalArgumentException if other is {@code null}
+     */
+    public Multiset<T> union(Multiset<? extends T> other) {
+        if (other == null) throw new IllegalArgumentException(OTHER_IS_NULL_MESSAGE);
+
+        Multiset<T> result = copy(counts.size() + other.counts.size());
+        for (Map.Entry<? extends T, Count> entry : other.counts.entrySet()) {
+            int extra = entry.getValue().value - count(entry.getKey());
+            if (extra > 0) result.add(entry.getKey(), extra);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a multiset in which each element occurs the number of times it
+     * occurs in this multiset plus the number of times it occurs in the other
+     * one.
+     *
+     * @param other the multiset to add
+     * @return a new multiset holding the summed occurrences
+     * @throws IllegalArgumentException if other is {@code null} or a count would overflow
+     */
+    public Multiset<T> sum(Multiset<? extends T> other) {
+        if (other == null) throw new IllegalArgumentException(OTHER_IS_NULL_MESSAGE);
+
+        Multiset<T> result = copy(counts.size() + other.counts.size());
+        for (Map.Entry<? extends T, Count> entry : other.counts.entrySet()) {
+            result.add(entry.getKey(), entry.getValue().value);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a multiset in which each element occurs the number of times it
+     * occurs in this multiset minus the number of times it occurs in the
+     * other one, dropping elements whose count would not be positive.
+     *
+     * @param other the multiset to subtract
+     * @return a new multiset holding the remaining occurrences
+     * @throws IllegalArgumentException if other is {@code null}
+     */
+    public Multiset<T> difference(Multiset<?> other) {
+        if (other == null) throw new IllegalArgumentException(OTHER_IS_NULL_MESSAGE);
+
+        Multiset<T> result = new Multiset<>(counts.size());
+        for (Map.Entry<T, Count> entry : counts.entrySet()) {
+            int remaining = entry.getValue().value - other.count(entry.getKey());
+            if (remaining > 0) result.add(entry.getKey(), remaining);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a list containing every occurrence of every element, with
+     * equal elements next to each other.
+     *
+     * @return a new list of all elements, counting duplicates
+     */
+    public List<T> toList() {
+        List<T> result = new ArrayList<>(size());
+        forEach((element, count) -> {
+            for (int i = 0; i < count; i++) {
+                result.add(element);
+            }
+        });
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof Multiset)) return false;
+
+        Multiset<?> that = (Multiset<?>) other;
+        if (size != that.size || counts.size() != that.counts.size()) return false;
+        for (Map.Entry<T, Count> entry : counts.entrySet()) {
+            if (that.count(entry.getKey()) != entry.getValue().value) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (Map.Entry<T, Count> entry : counts.entrySet()) {
+            hash += (entry.getKey() == null ? 0 : entry.getKey().hashCode()) ^ entry.getValue().value;
+        }
+
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((element, count) -> {
+            if (builder.length() > 1) builder.append(", ");
+            builder.append(element).append('=').append(count);
+        });
+        return builder.append('}').toString();
+    }
+
+    private Multiset<T> copy(int expectedDistinct) {
+        Multiset<T> result = new Multiset<>(expectedDistinct);
+        for (Map.Entry<T, Count> entry : counts.entrySet()) {
+            result.counts.put(entry.getKey(), new Count(entry.getValue().value));
+        }
+        result.size = size;
+
+        return result;
+    }
+
+    /**
+     * A mutable occurrence counter, updated in place to avoid re-boxing.
+     */
+    private static final class Count {
+        private int value;
+
+        private Count() {
+        }
+
+        private Count(int value) {
+            this.value = value;
+        }
+    }
+}
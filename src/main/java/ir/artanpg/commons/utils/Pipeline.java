@@ -0,0 +1,326 @@
+package ir.artanpg.commons.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * A fused filter-map-collect pipeline over a collection, created by
+ * {@link CollectionUtils#pipeline(Collection)}.
+ *
+ * <p>Intermediate steps such as {@link #filter(Predicate)},
+ * {@link #map(Function)}, {@link #distinct()} and {@link #limit(int)} only
+ * compose functions; nothing is evaluated until a terminal method such as
+ * {@link #toList()} or {@link #groupBy(Function)} is called. The terminal
+ * method then walks the source once and pushes each element through every
+ * step straight into the result, so unlike chaining
+ * {@link CollectionUtils#findAll(Collection, Predicate)},
+ * {@link CollectionUtils#transform(Collection, Function)} and
+ * {@link CollectionUtils#groupBy(Collection, Function)} no collection is
+ * built between the steps. Unlike a {@link java.util.stream.Stream}, there
+ * is no spliterator, no parallel machinery and no per-step object graph to
+ * set up, which makes the pipeline cheaper for small and medium
+ * collections. When no step can drop elements, list and set results are
+ * presized to the number of elements that will reach them.
+ *
+ * <p>A pipeline is immutable and can be run any number of times; each
+ * terminal call reads the source again and therefore reflects later changes
+ * to it.
+ *
+ * <pre>{@code
+ * Set<String> domains = CollectionUtils.pipeline(users)
+ *         .filter(User::isActive)
+ *         .map(User::email)
+ *         .map(email -> email.substring(email.indexOf('@') + 1))
+ *         .toSet();
+ * }</pre>
+ *
+ * @param <T> the type of elements leaving the pipeline
+ * @author Mohammad Yazdian
+ */
+public final class Pipeline<T> {
+
+    private final Collection<?> source;
+    private final Function<Sink<T>, Sink<Object>> stages;
+    private final boolean sized;
+    private final int limit;
+
+    private Pipeline(Collection<?> source, Function<Sink<T>, Sink<Object>> stages, boolean sized, int limit) {
+        this.source = source;
+        this.stages = stages;
+        this.sized = sized;
+        this.limit = limit;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> Pipeline<T> of(Collection<T> source) {
+        return new Pipeline<>(source, sink -> (Sink) sink, true, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a pipeline that keeps only the elements matching the specified
+     * predicate.
+     *
+     * @param predicate the condition to test each element against
+     * @return a new pipeline with the filter step appended
+     * @throws IllegalArgumentException if predicate is {@code null}
+     */
+    public Pipeline<T> filter(Predicate<? super T> predicate) {
+        if (predicate == null) throw new IllegalArgumentException("The predicate cannot be null");
+
+        return new Pipeline<>(source,
+                downstream -> stages.apply(element -> !predicate.test(element) || downstream.accept(element)),
+                false,
+                limit);
+    }
+
+    /**
+     * Returns a pipeline that applies the specified function to each element.
+     *
+     * @param <R>    the type of elements after the mapping
+     * @param mapper the function to apply to each element
+     * @return a new pipeline with the mapping step appended
+     * @throws IllegalArgumentException if mapper is {@code null}
+     */
+    public <R> Pipeline<R> map(Function<? super T, ? extends R> mapper) {
+        if (mapper == null) throw new IllegalArgumentException("The mapper cannot be null");
+
+        return new Pipeline<>(source,
+                downstream -> stages.apply(element -> downstream.accept(mapper.apply(element))),
+                sized,
+                limit);
+    }
+
+    /**
+     * Returns a pipeline that drops elements equal to one already passed on,
+     * keeping the first occurrence.
+     *
+     * @return a new pipeline with the distinct step appended
+     */
+    public Pipeline<T> distinct() {
+        return new Pipeline<>(source, downstream -> {
+            Set<T> seen = new HashSet<>();
+            return stages.apply(element -> !seen.add(element) || downstream.accept(element));
+        }, false, limit);
+    }
+
+    /**
+     * Returns a pipeline that passes on at most the specified number of
+     * elements and stops reading the source once they have been passed on.
+     *
+     * @param maxSize the maximum number of elements to pass on
+     * @return a new pipeline with the limit step appended
+     * @throws IllegalArgumentException if maxSize is negative
+     */
+    public Pipeline<T> limit(int maxSize) {
+        if (maxSize < 0) throw new IllegalArgumentException("The max size cannot be negative");
+
+        return new Pipeline<>(source, downstream -> {
+            int[] remaining = {maxSize};
+            return stages.apply(element -> {
+                if (remaining[0] == 0) return false;
+                remaining[0]--;
+                return downstream.accept(element) && remaining[0] > 0;
+            });
+        }, sized, Math.min(limit, maxSize));
+    }
+
+    /**
+     * Runs the pipeline and collects the elements into a new list.
+     *
+     * @return a new {@link ArrayList} containing the elements, in source order
+     */
+    public List<T> toList() {
+        List<T> result = expectedSize() < 0 ? new ArrayList<>() : new ArrayList<>(expectedSize());
+        drain(result::add);
+
+        return result;
+    }
+
+    /**
+     * Runs the pipeline and collects the elements into a new set.
+     *
+     * @return a new {@link HashSet} containing the distinct elements
+     */
+    public Set<T> toSet() {
+        Set<T> result = expectedSize() < 0 ? new HashSet<>() : new HashSet<>(capacityFor(expectedSize()));
+        drain(result::add);
+
+        return result;
+    }
+
+    /**
+     * Runs the pipeline and adds the elements to a collection created by the
+     * specified factory.
+     *
+     * @param <C>     the type of the returned collection
+     * @param factory a supplier that creates the result collection instance
+     * @return the collection created by the factory, holding the elements
+     * @throws IllegalArgumentException if factory is {@code null}
+     */
+    public <C extends Collection<T>> C toCollection(Supplier<C> factory) {
+        if (factory == null) throw new IllegalArgumentException("The factory cannot be null");
+
+        C result = factory.get();
+        drain(result::add);
+
+        return result;
+    }
+
+    /**
+     * Runs the pipeline and groups the elements by a key derived from each
+     * element.
+     *
+     * @param <K>      the type of keys used for grouping
+     * @param function the function that extracts the grouping key from each element
+     * @return a new map where keys are the computed grouping keys and values are lists of elements that share the
+     * same key, in source order
+     * @throws IllegalArgumentException if function is {@code null}
+     */
+    public <K> Map<K, List<T>> groupBy(Function<? super T, ? extends K> function) {
+        if (function == null) throw new IllegalArgumentException("The function cannot be null");
+
+        Map<K, List<T>> result = new HashMap<>();
+        drain(element -> result.computeIfAbsent(function.apply(element), key -> new ArrayList<>()).add(element));
+
+        return result;
+    }
+
+    /**
+     * Runs the pipeline, groups the elements by a key derived from each
+     * element and reduces each group with the specified downstream collector.
+     *
+     * @param <K>        the type of keys used for grouping
+     * @param <A>        the mutable accumulation type of the downstream collector
+     * @param <D>        the result type of the downstream reduction
+     * @param function   the function that extracts the grouping key from each element
+     * @param downstream the collector that reduces the elements of each group
+     * @return a new map where keys are the computed grouping keys and values are the reduced groups
+     * @throws IllegalArgumentException if function or downstream is {@code null}
+     */
+    public <K, A, D> Map<K, D> groupBy(Function<? super T, ? extends K> function,
+                                       Collector<? super T, A, D> downstream) {
+        if (function == null) throw new IllegalArgumentException("The function cannot be null");
+        if (downstream == null) throw new IllegalArgumentException("The downstream cannot be null");
+
+        Supplier<A> supplier = downstream.supplier();
+        BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        Map<K, A> containers = new HashMap<>();
+        drain(element -> accumulator.accept(containers.computeIfAbsent(function.apply(element), key -> supplier.get()),
+                element));
+
+        return CollectionUtils.finishGroups(containers, downstream);
+    }
+
+    /**
+     * Runs the pipeline and reduces the elements with the specified
+     * collector.
+     *
+     * @param <A>       the mutable accumulation type of the collector
+     * @param <R>       the result type of the reduction
+     * @param collector the collector that reduces the elements
+     * @return the result of the reduction
+     * @throws IllegalArgumentException if collector is {@code null}
+     */
+    public <A, R> R collect(Collector<? super T, A, R> collector) {
+        if (collector == null) throw new IllegalArgumentException("The collector cannot be null");
+
+        A container = collector.supplier().get();
+        BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        drain(element -> accumulator.accept(container, element));
+
+        return collector.finisher().apply(container);
+    }
+
+    /**
+     * Runs the pipeline and returns the first element, reading the source
+     * only up to it.
+     *
+     * @return the first element, or {@link Optional#empty()} if there is none or it is {@code null}
+     */
+    public Optional<T> findFirst() {
+        List<T> first = new ArrayList<>(1);
+        run(element -> {
+            first.add(element);
+            return false;
+        });
+
+        return first.isEmpty() ? Optional.empty() : Optional.ofNullable(first.get(0));
+    }
+
+    /**
+     * Runs the pipeline and counts the elements.
+     *
+     * @return the number of elements leaving the pipeline
+     */
+    public long count() {
+        long[] count = {0};
+        drain(element -> count[0]++);
+
+        return count[0];
+    }
+
+    /**
+     * Runs the pipeline and performs the given action for each element.
+     *
+     * @param action the action to perform for each element
+     * @throws IllegalArgumentException if action is {@code null}
+     */
+    public void forEach(Consumer<? super T> action) {
+        if (action == null) throw new IllegalArgumentException("The action cannot be null");
+
+        drain(action);
+    }
+
+    private int expectedSize() {
+        return sized ? Math.min(source.size(), limit) : -1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        return Math.max(16, (int) (expectedSize / 0.75f) + 1);
+    }
+
+    private void drain(Consumer<? super T> terminal) {
+        run(element -> {
+            terminal.accept(element);
+            return true;
+        });
+    }
+
+    private void run(Sink<T> terminal) {
+        if (limit == 0) return;
+
+        Sink<Object> sink = stages.apply(terminal);
+        for (Object element : source) {
+            if (!sink.accept(element)) return;
+        }
+    }
+
+    /**
+     * Receives the elements pushed through a pipeline.
+     *
+     * @param <T> the type of the received elements
+     */
+    @FunctionalInterface
+    private interface Sink<T> {
+
+        /**
+         * Receives one element.
+         *
+         * @param element the element to receive
+         * @return {@code true} to keep receiving elements, {@code false} to stop reading the source
+         */
+        boolean accept(T element);
+    }
+}
@@ -0,0 +1,210 @@
+package ir.artanpg.commons.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An index of elements by a property, built once from a collection and an
+ * extractor by {@link CollectionUtils#index(Collection, Function)} or
+ * {@link CollectionUtils#uniqueIndex(Collection, Function)}.
+ *
+ * <p>The extractor is applied once per element when it is added, and the
+ * elements are hashed by the extracted value, so {@link #contains(Object)},
+ * {@link #find(Object)} and {@link #count(Object)} take constant time instead
+ * of the linear scan of
+ * {@link CollectionUtils#contains(Collection, Function, Object)},
+ * {@link CollectionUtils#find(Collection, Function, Object)} and
+ * {@link CollectionUtils#findAll(Collection, Function, Object)}. A value held
+ * by a single element maps straight to that element; a list is only created
+ * for values shared by several elements. Values are compared with
+ * {@link Object#equals(Object)} and may be {@code null}.
+ *
+ * <p>The index is a snapshot of the source and is kept up to date through
+ * {@link #add(Object)} and {@link #remove(Object)}. An element whose property
+ * changes while it is indexed must be removed before the change and added
+ * again after it. This class is not thread-safe.
+ *
+ * <pre>{@code
+ * PropertyIndex<User, String> byEmail = CollectionUtils.uniqueIndex(users, User::email);
+ * for (String email : requestedEmails) {
+ *     byEmail.find(email).ifPresent(this::notify);
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the indexed elements
+ * @param <V> the type of the indexed property
+ * @author Mohammad Yazdian
+ */
+public final class PropertyIndex<T, V> {
+
+    private final Function<? super T, ? extends V> extractor;
+    private final boolean unique;
+    private final Map<V, Object> entries;
+    private int size;
+
+    PropertyIndex(Function<? super T, ? extends V> extractor, boolean unique, int expectedSize) {
+        this.extractor = extractor;
+        this.unique = unique;
+        this.entries = new HashMap<>(Math.max(16, (int) (expectedSize / 0.75f) + 1));
+    }
+
+    /**
+     * Adds the specified element to the index under the value of its
+     * property.
+     *
+     * @param element the element to add
+     * @throws IllegalArgumentException if the index is unique and already holds an element with the same value
+     */
+    @SuppressWarnings("unchecked")
+    public void add(T element) {
+        V value = extractor.apply(element);
+        Object current = entries.get(value);
+
+        if (current == null && !entries.containsKey(value)) {
+            entries.put(value, element);
+        } else if (unique) {
+            throw new IllegalArgumentException("The index already contains an element with value " + value);
+        } else if (current instanceof Bucket) {
+            ((Bucket<T>) current).elements.add(element);
+        } else {
+            Bucket<T> bucket = new Bucket<>();
+            bucket.elements.add((T) current);
+            bucket.elements.add(element);
+            entries.put(value, bucket);
+        }
+
+        size++;
+    }
+
+    /**
+     * Removes one occurrence of the specified element from the index, looking
+     * it up by the current value of its property.
+     *
+     * @param element the element to remove
+     * @return {@code true} if the element was removed, {@code false} if it was not indexed under its value
+     */
+    @SuppressWarnings("unchecked")
+    public boolean remove(T element) {
+        V value = extractor.apply(element);
+        Object current = entries.get(value);
+
+        if (current instanceof Bucket) {
+            Bucket<T> bucket = (Bucket<T>) current;
+            if (!bucket.elements.remove(element)) return false;
+            if (bucket.elements.size() == 1) entries.put(value, bucket.elements.get(0));
+        } else if (entries.containsKey(value) && Objects.equals(current, element)) {
+            entries.remove(value);
+        } else {
+            return false;
+        }
+
+        size--;
+        return true;
+    }
+
+    /**
+     * Checks whether any indexed element has the specified property value.
+     *
+     * @param value the value to look up
+     * @return {@code true} if an element has the value, {@code false} otherwise
+     */
+    public boolean contains(Object value) {
+        return entries.containsKey(value);
+    }
+
+    /**
+     * Returns the first indexed element, in insertion order, that has the
+     * specified property value.
+     *
+     * @param value the value to look up
+     * @return the first element with the value, {@link Optional#empty()} if there is none or it is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<T> find(Object value) {
+        Object current = entries.get(value);
+        return Optional.ofNullable(current instanceof Bucket ? ((Bucket<T>) current).elements.get(0) : (T) current);
+    }
+
+    /**
+     * Returns all indexed elements, in insertion order, that have the
+     * specified property value.
+     *
+     * @param value the value to look up
+     * @return an unmodifiable list of the elements with the value, empty if there are none
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> findAll(Object value) {
+        Object current = entries.get(value);
+        if (current instanceof Bucket) return Collections.unmodifiableList(new ArrayList<>(((Bucket<T>) current).elements));
+
+        return current != null || entries.containsKey(value) ? Collections.singletonList((T) current) : List.of();
+    }
+
+    /**
+     * Returns the number of indexed elements that have the specified property
+     * value.
+     *
+     * @param value the value to look up
+     * @return the number of elements with the value
+     */
+    public int count(Object value) {
+        Object current = entries.get(value);
+        if (current instanceof Bucket) return ((Bucket<?>) current).elements.size();
+
+        return current != null || entries.containsKey(value) ? 1 : 0;
+    }
+
+    /**
+     * Returns an unmodifiable view of the distinct property values.
+     *
+     * @return the set of indexed values
+     */
+    public Set<V> values() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Checks whether the index allows at most one element per value.
+     *
+     * @return {@code true} if the index is unique, {@code false} otherwise
+     */
+    public boolean isUnique() {
+        return unique;
+    }
+
+    /**
+     * Returns the number of indexed elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the index contains no elements.
+     *
+     * @return {@code true} if the index is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The elements sharing one property value, distinguished by type from an
+     * element that happens to be a list itself.
+     *
+     * @param <T> the type of the elements
+     */
+    private static final class Bucket<T> {
+        private final List<T> elements = new ArrayList<>(4);
+    }
+}
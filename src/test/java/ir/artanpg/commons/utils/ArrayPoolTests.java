@@ -0,0 +1,218 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link ArrayPool} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("ArrayPool")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class ArrayPoolTests {
+
+    @Nested
+    @DisplayName("create(IntFunction<A>, ToIntFunction<A>, int, int, int)")
+    class Create {
+
+        @Test
+        void create_ShouldThrowIllegalArgumentException_WhenAllocatorIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> ArrayPool.<int[]>create(null, array -> array.length))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The allocator cannot be null");
+        }
+
+        @Test
+        void create_ShouldThrowIllegalArgumentException_WhenLengthFunctionIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> ArrayPool.create(int[]::new, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The length function cannot be null");
+        }
+
+        @Test
+        void create_ShouldThrowIllegalArgumentException_WhenMagazineSizeIsNotPositive() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> ArrayPool.create(int[]::new, array -> array.length, 1024, 0, 4))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The magazine size must be greater than 0");
+        }
+    }
+
+    @Nested
+    @DisplayName("acquire(int)")
+    class Acquire {
+
+        @Test
+        void acquire_ShouldThrowIllegalArgumentException_WhenLengthIsNegative() {
+            // Given
+            ArrayPool<int[]> pool = ArrayPool.create(int[]::new, array -> array.length);
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> pool.acquire(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The length cannot be negative");
+        }
+
+        @Test
+        void acquire_ShouldRoundUpToSizeClass_WhenLengthIsNotPowerOfTwo() {
+            // Given
+            ArrayPool<int[]> pool = ArrayPool.create(int[]::new, array -> array.length);
+
+            // When
+            int[] small = pool.acquire(0);
+            int[] medium = pool.acquire(17);
+            int[] exact = pool.acquire(64);
+
+            // Then
+            then(small).hasSize(16);
+            then(medium).hasSize(32);
+            then(exact).hasSize(64);
+        }
+
+        @Test
+        void acquire_ShouldAllocateExactLength_WhenLengthExceedsMaxArrayLength() {
+            // Given
+            ArrayPool<byte[]> pool = ArrayPool.create(byte[]::new, array -> array.length, 64, 2, 2);
+
+            // When
+            byte[] actual = pool.acquire(100);
+
+            // Then
+            then(actual).hasSize(100);
+        }
+
+        @Test
+        void acquire_ShouldReuseReleasedArray_WhenSameSizeClassIsRequested() {
+            // Given
+            ArrayPool<long[]> pool = ArrayPool.create(long[]::new, array -> array.length);
+            long[] released = pool.acquire(100);
+            pool.release(released);
+
+            // When
+            long[] actual = pool.acquire(120);
+
+            // Then
+            then(actual).isSameAs(released);
+        }
+
+        @Test
+        void acquire_ShouldReuseArrayFromDepot_WhenReleasedByAnotherThread() {
+            // Given
+            ArrayPool<char[]> pool = ArrayPool.create(char[]::new, array -> array.length, 1024, 1, 4);
+            char[] first = pool.acquire(32);
+            char[] second = pool.acquire(32);
+            CompletableFuture.runAsync(() -> {
+                pool.release(first);
+                pool.release(second);
+            }).join();
+
+            // When
+            char[] actual = pool.acquire(32);
+
+            // Then
+            then(actual).isSameAs(second);
+        }
+    }
+
+    @Nested
+    @DisplayName("release(A)")
+    class Release {
+
+        @Test
+        void release_ShouldIgnoreArray_WhenLengthIsNotSizeClass() {
+            // Given
+            ArrayPool<int[]> pool = ArrayPool.create(int[]::new, array -> array.length);
+            int[] foreign = new int[20];
+            pool.release(foreign);
+
+            // When
+            int[] actual = pool.acquire(20);
+
+            // Then
+            then(actual)
+                    .isNotSameAs(foreign)
+                    .hasSize(32);
+        }
+
+        @Test
+        void release_ShouldIgnoreNull_WhenArrayIsNull() {
+            // Given
+            ArrayPool<int[]> pool = ArrayPool.create(int[]::new, array -> array.length);
+
+            // When
+            pool.release(null);
+
+            // Then
+            then(pool.acquire(16)).hasSize(16);
+        }
+
+        @Test
+        void release_ShouldDiscardArray_WhenRetentionLimitsAreExceeded() {
+            // Given
+            ArrayPool<int[]> pool = ArrayPool.create(int[]::new, array -> array.length, 1024, 1, 1);
+            int[] first = pool.acquire(16);
+            int[] second = pool.acquire(16);
+            int[] third = pool.acquire(16);
+            pool.release(first);
+            pool.release(second);
+            pool.release(third);
+
+            // When
+            int[] actual1 = pool.acquire(16);
+            int[] actual2 = pool.acquire(16);
+            int[] actual3 = pool.acquire(16);
+
+            // Then
+            then(actual1).isSameAs(first);
+            then(actual2).isSameAs(second);
+            then(actual3).isNotSameAs(third);
+        }
+    }
+
+    @Nested
+    @DisplayName("clear()")
+    class Clear {
+
+        @Test
+        void clear_ShouldDiscardRetainedArrays_WhenCalled() {
+            // Given
+            ArrayPool<double[]> pool = ArrayPool.create(double[]::new, array -> array.length);
+            double[] released = pool.acquire(16);
+            pool.release(released);
+
+            // When
+            pool.clear();
+
+            // Then
+            then(pool.acquire(16)).isNotSameAs(released);
+        }
+    }
+
+    @Nested
+    @DisplayName("shared pools")
+    class SharedPools {
+
+        @Test
+        void sharedPools_ShouldReturnSameInstance_WhenCalledRepeatedly() {
+            // When & Then
+            then(ArrayPool.byteArrays()).isSameAs(ArrayPool.byteArrays());
+            then(ArrayPool.charArrays()).isSameAs(ArrayPool.charArrays());
+            then(ArrayPool.intArrays()).isSameAs(ArrayPool.intArrays());
+            then(ArrayPool.longArrays()).isSameAs(ArrayPool.longArrays());
+            then(ArrayPool.doubleArrays()).isSameAs(ArrayPool.doubleArrays());
+        }
+    }
+}
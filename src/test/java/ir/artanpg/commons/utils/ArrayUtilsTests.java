@@ -5,9 +5,11 @@
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Comparator;
 import java.util.Optional;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static ir.artanpg.commons.utils.ArrayUtils.INDEX_NOT_FOUND;
@@ -976,6 +978,157 @@ void addGeneric_ShouldAddElementToEmptyArray_WhenArrayIsEmpty() {
                 .containsExactly("a");
     }
 
+    @Test
+    void addBooleanWithDestination_ShouldWriteElementsAtOffset_WhenDestinationIsLargeEnough() {
+        // Given
+        boolean[] inputSource = new boolean[]{true, true, false};
+        boolean[] destination = new boolean[6];
+
+        // When
+        int actual = ArrayUtils.add(inputSource, false, 1, destination, 1);
+
+        // Then
+        then(actual).isEqualTo(4);
+        then(destination).containsExactly(false, true, false, true, false, false);
+    }
+
+    @Test
+    void addByteWithDestination_ShouldWriteElementsAtOffset_WhenDestinationIsLargeEnough() {
+        // Given
+        byte[] inputSource = new byte[]{1, 2, 3};
+        byte[] destination = new byte[6];
+
+        // When
+        int actual = ArrayUtils.add(inputSource, (byte) 6, 1, destination, 1);
+
+        // Then
+        then(actual).isEqualTo(4);
+        then(destination).containsExactly((byte) 0, 1, (byte) 6, 2, 3, (byte) 0);
+    }
+
+    @Test
+    void addCharWithDestination_ShouldWriteElementsAtOffset_WhenDestinationIsLargeEnough() {
+        // Given
+        char[] inputSource = new char[]{'a', 'b', 'c'};
+        char[] destination = new char[6];
+
+        // When
+        int actual = ArrayUtils.add(inputSource, 'f', 1, destination, 1);
+
+        // Then
+        then(actual).isEqualTo(4);
+        then(destination).containsExactly('\u0000', 'a', 'f', 'b', 'c', '\u0000');
+    }
+
+    @Test
+    void addShortWithDestination_ShouldWriteElementsAtOffset_WhenDestinationIsLargeEnough() {
+        // Given
+        short[] inputSource = new short[]{1, 2, 3};
+        short[] destination = new short[6];
+
+        // When
+        int actual = ArrayUtils.add(inputSource, (short) 6, 1, destination, 1);
+
+        // Then
+        then(actual).isEqualTo(4);
+        then(destination).containsExactly((short) 0, 1, (short) 6, 2, 3, (short) 0);
+    }
+
+    @Test
+    void addIntWithDestination_ShouldWriteElementsAtOffset_WhenDestinationIsLargeEnough() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3};
+        int[] destination = new int[6];
+
+        // When
+        int actual = ArrayUtils.add(inputSource, 6, 1, destination, 1);
+
+        // Then
+        then(actual).isEqualTo(4);
+        then(destination).containsExactly(0, 1, 6, 2, 3, 0);
+    }
+
+    @Test
+    void addIntWithDestination_ShouldThrowIllegalArgumentException_WhenDestinationIsNull() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.add(inputSource, 6, 0, null, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The destination array cannot be null");
+    }
+
+    @Test
+    void addIntWithDestination_ShouldThrowIndexOutOfBoundsException_WhenDestinationIsTooSmall() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3};
+        int[] destination = new int[4];
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.add(inputSource, 6, 0, destination, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Destination of length 4 cannot hold 4 elements at offset 1");
+    }
+
+    @Test
+    void addLongWithDestination_ShouldWriteElementsAtOffset_WhenDestinationIsLargeEnough() {
+        // Given
+        long[] inputSource = new long[]{1L, 2L, 3L};
+        long[] destination = new long[6];
+
+        // When
+        int actual = ArrayUtils.add(inputSource, 6L, 1, destination, 1);
+
+        // Then
+        then(actual).isEqualTo(4);
+        then(destination).containsExactly(0L, 1L, 6L, 2L, 3L, 0L);
+    }
+
+    @Test
+    void addFloatWithDestination_ShouldWriteElementsAtOffset_WhenDestinationIsLargeEnough() {
+        // Given
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f};
+        float[] destination = new float[6];
+
+        // When
+        int actual = ArrayUtils.add(inputSource, 6.0f, 1, destination, 1);
+
+        // Then
+        then(actual).isEqualTo(4);
+        then(destination).containsExactly(0.0f, 1.0f, 6.0f, 2.0f, 3.0f, 0.0f);
+    }
+
+    @Test
+    void addDoubleWithDestination_ShouldWriteElementsAtOffset_WhenDestinationIsLargeEnough() {
+        // Given
+        double[] inputSource = new double[]{1.0, 2.0, 3.0};
+        double[] destination = new double[6];
+
+        // When
+        int actual = ArrayUtils.add(inputSource, 6.0, 1, destination, 1);
+
+        // Then
+        then(actual).isEqualTo(4);
+        then(destination).containsExactly(0.0, 1.0, 6.0, 2.0, 3.0, 0.0);
+    }
+
+    @Test
+    void addGenericWithDestination_ShouldWriteElementsAtOffset_WhenDestinationIsLargeEnough() {
+        // Given
+        String[] inputSource = new String[]{"a", "b", "c"};
+        String[] destination = new String[6];
+
+        // When
+        int actual = ArrayUtils.add(inputSource, "f", 1, destination, 1);
+
+        // Then
+        then(actual).isEqualTo(4);
+        then(destination).containsExactly(null, "a", "f", "b", "c", null);
+    }
+
     @Test
     void addFirstBoolean_ShouldThrowIllegalArgumentException_WhenSourceArrayIsNull() {
         // Given
@@ -1750,6 +1903,105 @@ void addLastGeneric_ShouldAddElementToEmptyArray_WhenArrayIsEmpty() {
                 .containsExactly("a");
     }
 
+    @Test
+    void asListInt_ShouldWriteThroughToArray_WhenViewIsModified() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3};
+
+        // When
+        IntListView actual = ArrayUtils.asList(inputSource);
+        actual.set(1, 9);
+
+        // Then
+        then(actual).hasSize(3);
+        then(inputSource[1]).isEqualTo(9);
+        then(actual.getInt(1)).isEqualTo(9);
+    }
+
+    @Test
+    void asListInt_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        int[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.asList(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void asListLong_ShouldWriteThroughToArray_WhenViewIsModified() {
+        // Given
+        long[] inputSource = new long[]{1L, 2L, 3L};
+
+        // When
+        LongListView actual = ArrayUtils.asList(inputSource);
+        actual.set(1, 9L);
+
+        // Then
+        then(actual).hasSize(3);
+        then(inputSource[1]).isEqualTo(9L);
+        then(actual.getLong(1)).isEqualTo(9L);
+    }
+
+    @Test
+    void asListDouble_ShouldWriteThroughToArray_WhenViewIsModified() {
+        // Given
+        double[] inputSource = new double[]{1.0, 2.0, 3.0};
+
+        // When
+        DoubleListView actual = ArrayUtils.asList(inputSource);
+        actual.set(1, 9.0);
+
+        // Then
+        then(actual).hasSize(3);
+        then(inputSource[1]).isEqualTo(9.0);
+        then(actual.getDouble(1)).isEqualTo(9.0);
+    }
+
+    @Test
+    void asUnmodifiableListInt_ShouldRejectModification_WhenViewIsReadOnly() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3};
+        IntListView view = ArrayUtils.asUnmodifiableList(inputSource);
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> view.setInt(0, 9))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .withMessage("The view is read-only");
+        then(view).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void asUnmodifiableListLong_ShouldRejectModification_WhenViewIsReadOnly() {
+        // Given
+        long[] inputSource = new long[]{1L, 2L, 3L};
+        LongListView view = ArrayUtils.asUnmodifiableList(inputSource);
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> view.setLong(0, 9L))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .withMessage("The view is read-only");
+        then(view).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void asUnmodifiableListDouble_ShouldRejectModification_WhenViewIsReadOnly() {
+        // Given
+        double[] inputSource = new double[]{1.0, 2.0, 3.0};
+        DoubleListView view = ArrayUtils.asUnmodifiableList(inputSource);
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> view.setDouble(0, 9.0))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .withMessage("The view is read-only");
+        then(view).containsExactly(1.0, 2.0, 3.0);
+    }
+
     @Test
     void cloneBoolean_ShouldReturnEmptyArray_WhenInputIsNull() {
         // Given
@@ -2136,400 +2388,434 @@ void cloneGeneric_ShouldReturnCopy_WhenInputIsNotEmpty() {
     }
 
     @Test
-    void containsBoolean_ShouldReturnFalse_WhenArrayIsNull() {
+    void cloneBooleanWithDestination_ShouldWriteCopyAtOffset_WhenDestinationIsLargeEnough() {
         // Given
-        boolean[] inputSource = null;
-        boolean inputElement = true;
+        boolean[] inputSource = new boolean[]{true, true, false};
+        boolean[] destination = new boolean[4];
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.clone(inputSource, destination, 1);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(false, true, true, false);
     }
 
     @Test
-    void containsBoolean_ShouldReturnFalse_WhenArrayIsEmpty() {
+    void cloneByteWithDestination_ShouldWriteCopyAtOffset_WhenDestinationIsLargeEnough() {
         // Given
-        boolean[] inputSource = new boolean[]{};
-        boolean inputElement = true;
+        byte[] inputSource = new byte[]{1, 2, 3};
+        byte[] destination = new byte[4];
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.clone(inputSource, destination, 1);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly((byte) 0, 1, 2, 3);
     }
 
     @Test
-    void containsBoolean_ShouldReturnFalse_WhenElementIsAbsent() {
+    void cloneCharWithDestination_ShouldWriteCopyAtOffset_WhenDestinationIsLargeEnough() {
         // Given
-        boolean[] inputSource = new boolean[]{false, false};
-        boolean inputElement = true;
+        char[] inputSource = new char[]{'a', 'b', 'c'};
+        char[] destination = new char[4];
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.clone(inputSource, destination, 1);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly('\u0000', 'a', 'b', 'c');
     }
 
     @Test
-    void containsBoolean_ShouldReturnTrue_WhenElementIsPresent() {
+    void cloneShortWithDestination_ShouldWriteCopyAtOffset_WhenDestinationIsLargeEnough() {
         // Given
-        boolean[] inputSource = new boolean[]{true, false, true};
-        boolean inputElement = true;
+        short[] inputSource = new short[]{1, 2, 3};
+        short[] destination = new short[4];
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.clone(inputSource, destination, 1);
 
         // Then
-        then(actual).isTrue();
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly((short) 0, 1, 2, 3);
     }
 
     @Test
-    void containsByte_ShouldReturnFalse_WhenArrayIsNull() {
+    void cloneIntWithDestination_ShouldWriteCopyAtOffset_WhenDestinationIsLargeEnough() {
         // Given
-        byte[] inputSource = null;
-        byte inputElement = 1;
+        int[] inputSource = new int[]{1, 2, 3};
+        int[] destination = new int[4];
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.clone(inputSource, destination, 1);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(0, 1, 2, 3);
     }
 
     @Test
-    void containsByte_ShouldReturnFalse_WhenArrayIsEmpty() {
+    void cloneIntWithDestination_ShouldWriteNothing_WhenSourceIsNull() {
         // Given
-        byte[] inputSource = new byte[]{};
-        byte inputElement = 1;
+        int[] destination = new int[1];
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.clone(null, destination, 0);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isEqualTo(0);
+        then(destination).containsExactly(0);
     }
 
     @Test
-    void containsByte_ShouldReturnFalse_WhenElementIsAbsent() {
+    void cloneIntWithDestination_ShouldThrowIndexOutOfBoundsException_WhenDestinationIsTooSmall() {
         // Given
-        byte[] inputSource = new byte[]{2, 3};
-        byte inputElement = 1;
+        int[] inputSource = new int[]{1, 2, 3};
+        int[] destination = new int[4];
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.clone(inputSource, destination, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Destination of length 4 cannot hold 3 elements at offset 2");
+    }
+
+    @Test
+    void cloneLongWithDestination_ShouldWriteCopyAtOffset_WhenDestinationIsLargeEnough() {
+        // Given
+        long[] inputSource = new long[]{1L, 2L, 3L};
+        long[] destination = new long[4];
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.clone(inputSource, destination, 1);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(0L, 1L, 2L, 3L);
     }
 
     @Test
-    void containsByte_ShouldReturnTrue_WhenElementIsPresent() {
+    void cloneFloatWithDestination_ShouldWriteCopyAtOffset_WhenDestinationIsLargeEnough() {
         // Given
-        byte[] inputSource = new byte[]{1, 2, 1};
-        byte inputElement = 1;
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f};
+        float[] destination = new float[4];
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.clone(inputSource, destination, 1);
 
         // Then
-        then(actual).isTrue();
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(0.0f, 1.0f, 2.0f, 3.0f);
     }
 
     @Test
-    void containsChar_ShouldReturnFalse_WhenArrayIsNull() {
+    void cloneDoubleWithDestination_ShouldWriteCopyAtOffset_WhenDestinationIsLargeEnough() {
         // Given
-        char[] inputSource = null;
-        char inputElement = 'a';
+        double[] inputSource = new double[]{1.0, 2.0, 3.0};
+        double[] destination = new double[4];
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.clone(inputSource, destination, 1);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(0.0, 1.0, 2.0, 3.0);
     }
 
     @Test
-    void containsChar_ShouldReturnFalse_WhenArrayIsEmpty() {
+    void cloneGenericWithDestination_ShouldWriteCopyAtOffset_WhenDestinationIsLargeEnough() {
         // Given
-        char[] inputSource = new char[]{};
-        char inputElement = 'a';
+        String[] inputSource = new String[]{"a", "b", "c"};
+        String[] destination = new String[4];
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.clone(inputSource, destination, 1);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(null, "a", "b", "c");
     }
 
     @Test
-    void containsChar_ShouldReturnFalse_WhenElementIsAbsent() {
+    void compareBoolean_ShouldReturnNegative_WhenFirstArrayIsLexicographicallyLess() {
         // Given
-        char[] inputSource = new char[]{'b', 'c'};
-        char inputElement = 'a';
+        boolean[] inputArray1 = new boolean[]{false, true, false, true};
+        boolean[] inputArray2 = new boolean[]{false, true, true, true};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, inputArray2);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isNegative();
     }
 
     @Test
-    void containsChar_ShouldReturnTrue_WhenElementIsPresent() {
+    void compareBooleanWithRange_ShouldReturnZero_WhenRangesAreEqual() {
         // Given
-        char[] inputSource = new char[]{'a', 'b', 'a'};
-        char inputElement = 'a';
+        boolean[] inputArray1 = new boolean[]{false, true, false, true};
+        boolean[] inputArray2 = new boolean[]{true, true, false};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, 1, 3, inputArray2, 1, 3);
 
         // Then
-        then(actual).isTrue();
+        then(actual).isZero();
     }
 
     @Test
-    void containsShort_ShouldReturnFalse_WhenArrayIsNull() {
+    void compareByte_ShouldReturnNegative_WhenFirstArrayIsLexicographicallyLess() {
         // Given
-        short[] inputSource = null;
-        short inputElement = 1;
+        byte[] inputArray1 = new byte[]{1, 2, 3, 4};
+        byte[] inputArray2 = new byte[]{1, 2, 6, 4};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, inputArray2);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isNegative();
     }
 
     @Test
-    void containsShort_ShouldReturnFalse_WhenArrayIsEmpty() {
+    void compareByteWithRange_ShouldReturnZero_WhenRangesAreEqual() {
         // Given
-        short[] inputSource = new short[]{};
-        short inputElement = 1;
+        byte[] inputArray1 = new byte[]{1, 2, 3, 4};
+        byte[] inputArray2 = new byte[]{6, 2, 3};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, 1, 3, inputArray2, 1, 3);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isZero();
     }
 
     @Test
-    void containsShort_ShouldReturnFalse_WhenElementIsAbsent() {
+    void compareChar_ShouldReturnNegative_WhenFirstArrayIsLexicographicallyLess() {
         // Given
-        short[] inputSource = new short[]{2, 3};
-        short inputElement = 1;
+        char[] inputArray1 = new char[]{'a', 'b', 'c', 'd'};
+        char[] inputArray2 = new char[]{'a', 'b', 'f', 'd'};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, inputArray2);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isNegative();
     }
 
     @Test
-    void containsShort_ShouldReturnTrue_WhenElementIsPresent() {
+    void compareCharWithRange_ShouldReturnZero_WhenRangesAreEqual() {
         // Given
-        short[] inputSource = new short[]{1, 2, 1};
-        short inputElement = 1;
+        char[] inputArray1 = new char[]{'a', 'b', 'c', 'd'};
+        char[] inputArray2 = new char[]{'f', 'b', 'c'};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, 1, 3, inputArray2, 1, 3);
 
         // Then
-        then(actual).isTrue();
+        then(actual).isZero();
     }
 
     @Test
-    void containsInt_ShouldReturnFalse_WhenArrayIsNull() {
+    void compareShort_ShouldReturnNegative_WhenFirstArrayIsLexicographicallyLess() {
         // Given
-        int[] inputSource = null;
-        int inputElement = 1;
+        short[] inputArray1 = new short[]{1, 2, 3, 4};
+        short[] inputArray2 = new short[]{1, 2, 6, 4};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, inputArray2);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isNegative();
     }
 
     @Test
-    void containsInt_ShouldReturnFalse_WhenArrayIsEmpty() {
+    void compareShortWithRange_ShouldReturnZero_WhenRangesAreEqual() {
         // Given
-        int[] inputSource = new int[]{};
-        int inputElement = 1;
+        short[] inputArray1 = new short[]{1, 2, 3, 4};
+        short[] inputArray2 = new short[]{6, 2, 3};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, 1, 3, inputArray2, 1, 3);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isZero();
     }
 
     @Test
-    void containsInt_ShouldReturnFalse_WhenElementIsAbsent() {
+    void compareInt_ShouldReturnNegative_WhenFirstArrayIsLexicographicallyLess() {
         // Given
-        int[] inputSource = new int[]{2, 3};
-        int inputElement = 1;
+        int[] inputArray1 = new int[]{1, 2, 3, 4};
+        int[] inputArray2 = new int[]{1, 2, 6, 4};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, inputArray2);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isNegative();
     }
 
     @Test
-    void containsInt_ShouldReturnTrue_WhenElementIsPresent() {
+    void compareIntWithRange_ShouldReturnZero_WhenRangesAreEqual() {
         // Given
-        int[] inputSource = new int[]{1, 2, 1};
-        int inputElement = 1;
+        int[] inputArray1 = new int[]{1, 2, 3, 4};
+        int[] inputArray2 = new int[]{6, 2, 3};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, 1, 3, inputArray2, 1, 3);
 
         // Then
-        then(actual).isTrue();
+        then(actual).isZero();
     }
 
     @Test
-    void containsLong_ShouldReturnFalse_WhenArrayIsNull() {
+    void compareInt_ShouldReturnPositive_WhenSecondArrayIsPrefix() {
         // Given
-        long[] inputSource = null;
-        long inputElement = 1L;
+        int[] inputArray1 = new int[]{1, 2, 3, 4};
+        int[] inputArray2 = new int[]{1, 2};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, inputArray2);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isPositive();
     }
 
     @Test
-    void containsLong_ShouldReturnFalse_WhenArrayIsEmpty() {
+    void compareInt_ShouldTreatNullAsLess_WhenFirstArrayIsNull() {
         // Given
-        long[] inputSource = new long[]{};
-        long inputElement = 1L;
+        int[] inputArray2 = new int[]{1, 2, 3, 4};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(null, inputArray2);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isNegative();
     }
 
     @Test
-    void containsLong_ShouldReturnFalse_WhenElementIsAbsent() {
+    void compareIntWithRange_ShouldThrowIndexOutOfBoundsException_WhenRangeIsInvalid() {
         // Given
-        long[] inputSource = new long[]{2L, 3L};
-        long inputElement = 1L;
+        int[] inputArray1 = new int[]{1, 2, 3, 4};
+        int[] inputArray2 = new int[]{1, 2, 3, 4};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.compare(inputArray1, 0, 5, inputArray2, 0, 4))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 5 out of bounds for length 4");
+    }
+
+    @Test
+    void compareLong_ShouldReturnNegative_WhenFirstArrayIsLexicographicallyLess() {
+        // Given
+        long[] inputArray1 = new long[]{1L, 2L, 3L, 4L};
+        long[] inputArray2 = new long[]{1L, 2L, 6L, 4L};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, inputArray2);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isNegative();
     }
 
     @Test
-    void containsLong_ShouldReturnTrue_WhenElementIsPresent() {
+    void compareLongWithRange_ShouldReturnZero_WhenRangesAreEqual() {
         // Given
-        long[] inputSource = new long[]{1L, 2L, 1L};
-        long inputElement = 1L;
+        long[] inputArray1 = new long[]{1L, 2L, 3L, 4L};
+        long[] inputArray2 = new long[]{6L, 2L, 3L};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, 1, 3, inputArray2, 1, 3);
 
         // Then
-        then(actual).isTrue();
+        then(actual).isZero();
     }
 
     @Test
-    void containsFloat_ShouldReturnFalse_WhenArrayIsNull() {
+    void compareFloat_ShouldReturnNegative_WhenFirstArrayIsLexicographicallyLess() {
         // Given
-        float[] inputSource = null;
-        float inputElement = 1.0F;
+        float[] inputArray1 = new float[]{1.0f, 2.0f, 3.0f, 4.0f};
+        float[] inputArray2 = new float[]{1.0f, 2.0f, 6.0f, 4.0f};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, inputArray2);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isNegative();
     }
 
     @Test
-    void containsFloat_ShouldReturnFalse_WhenArrayIsEmpty() {
+    void compareFloatWithRange_ShouldReturnZero_WhenRangesAreEqual() {
         // Given
-        float[] inputSource = new float[]{};
-        float inputElement = 1.0F;
+        float[] inputArray1 = new float[]{1.0f, 2.0f, 3.0f, 4.0f};
+        float[] inputArray2 = new float[]{6.0f, 2.0f, 3.0f};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, 1, 3, inputArray2, 1, 3);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isZero();
     }
 
     @Test
-    void containsFloat_ShouldReturnFalse_WhenElementIsAbsent() {
+    void compareDouble_ShouldReturnNegative_WhenFirstArrayIsLexicographicallyLess() {
         // Given
-        float[] inputSource = new float[]{2.0F, 3.0F};
-        float inputElement = 1.0F;
+        double[] inputArray1 = new double[]{1.0, 2.0, 3.0, 4.0};
+        double[] inputArray2 = new double[]{1.0, 2.0, 6.0, 4.0};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, inputArray2);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isNegative();
     }
 
     @Test
-    void containsFloat_ShouldReturnTrue_WhenElementIsPresent() {
+    void compareDoubleWithRange_ShouldReturnZero_WhenRangesAreEqual() {
         // Given
-        float[] inputSource = new float[]{1.0F, 2.0F, 1.0F};
-        float inputElement = 1.0F;
+        double[] inputArray1 = new double[]{1.0, 2.0, 3.0, 4.0};
+        double[] inputArray2 = new double[]{6.0, 2.0, 3.0};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, 1, 3, inputArray2, 1, 3);
 
         // Then
-        then(actual).isTrue();
+        then(actual).isZero();
     }
 
     @Test
-    void containsDouble_ShouldReturnFalse_WhenArrayIsNull() {
+    void compareGeneric_ShouldReturnNegative_WhenFirstArrayIsLexicographicallyLess() {
         // Given
-        double[] inputSource = null;
-        double inputElement = 1.0;
+        String[] inputArray1 = new String[]{"a", "b", "c", "d"};
+        String[] inputArray2 = new String[]{"a", "b", "f", "d"};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, inputArray2);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isNegative();
     }
 
     @Test
-    void containsDouble_ShouldReturnFalse_WhenArrayIsEmpty() {
+    void compareGenericWithRange_ShouldReturnZero_WhenRangesAreEqual() {
         // Given
-        double[] inputSource = new double[]{};
-        double inputElement = 1.0;
+        String[] inputArray1 = new String[]{"a", "b", "c", "d"};
+        String[] inputArray2 = new String[]{"f", "b", "c"};
 
         // When
-        boolean actual = ArrayUtils.contains(inputSource, inputElement);
+        int actual = ArrayUtils.compare(inputArray1, 1, 3, inputArray2, 1, 3);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isZero();
     }
 
     @Test
-    void containsDouble_ShouldReturnFalse_WhenElementIsAbsent() {
+    void containsBoolean_ShouldReturnFalse_WhenArrayIsNull() {
         // Given
-        double[] inputSource = new double[]{2.0, 3.0};
-        double inputElement = 1.0;
+        boolean[] inputSource = null;
+        boolean inputElement = true;
 
         // When
         boolean actual = ArrayUtils.contains(inputSource, inputElement);
@@ -2539,23 +2825,23 @@ void containsDouble_ShouldReturnFalse_WhenElementIsAbsent() {
     }
 
     @Test
-    void containsDouble_ShouldReturnTrue_WhenElementIsPresent() {
+    void containsBoolean_ShouldReturnFalse_WhenArrayIsEmpty() {
         // Given
-        double[] inputSource = new double[]{1.0, 2.0, 1.0};
-        double inputElement = 1.0;
+        boolean[] inputSource = new boolean[]{};
+        boolean inputElement = true;
 
         // When
         boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void containsGeneric_ShouldReturnFalse_WhenArrayIsNull() {
+    void containsBoolean_ShouldReturnFalse_WhenElementIsAbsent() {
         // Given
-        String[] inputSource = null;
-        String inputElement = "a";
+        boolean[] inputSource = new boolean[]{false, false};
+        boolean inputElement = true;
 
         // When
         boolean actual = ArrayUtils.contains(inputSource, inputElement);
@@ -2565,23 +2851,23 @@ void containsGeneric_ShouldReturnFalse_WhenArrayIsNull() {
     }
 
     @Test
-    void containsGeneric_ShouldReturnFalse_WhenArrayIsEmpty() {
+    void containsBoolean_ShouldReturnTrue_WhenElementIsPresent() {
         // Given
-        String[] inputSource = new String[]{};
-        String inputElement = "a";
+        boolean[] inputSource = new boolean[]{true, false, true};
+        boolean inputElement = true;
 
         // When
         boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isTrue();
     }
 
     @Test
-    void containsGeneric_ShouldReturnFalse_WhenElementIsAbsent() {
+    void containsByte_ShouldReturnFalse_WhenArrayIsNull() {
         // Given
-        String[] inputSource = new String[]{"b", "c"};
-        String inputElement = "a";
+        byte[] inputSource = null;
+        byte inputElement = 1;
 
         // When
         boolean actual = ArrayUtils.contains(inputSource, inputElement);
@@ -2591,10 +2877,10 @@ void containsGeneric_ShouldReturnFalse_WhenElementIsAbsent() {
     }
 
     @Test
-    void containsGeneric_ShouldReturnFalse_WhenElementTypeIsIncompatible() {
+    void containsByte_ShouldReturnFalse_WhenArrayIsEmpty() {
         // Given
-        String[] inputSource = new String[]{"a", "b"};
-        Object inputElement = 1;
+        byte[] inputSource = new byte[]{};
+        byte inputElement = 1;
 
         // When
         boolean actual = ArrayUtils.contains(inputSource, inputElement);
@@ -2604,23 +2890,23 @@ void containsGeneric_ShouldReturnFalse_WhenElementTypeIsIncompatible() {
     }
 
     @Test
-    void containsGeneric_ShouldReturnTrue_WhenElementIsPresent() {
+    void containsByte_ShouldReturnFalse_WhenElementIsAbsent() {
         // Given
-        String[] inputSource = new String[]{"a", "b", "a"};
-        String inputElement = "a";
+        byte[] inputSource = new byte[]{2, 3};
+        byte inputElement = 1;
 
         // When
         boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void containsGeneric_ShouldReturnTrue_WhenNullElementIsPresent() {
+    void containsByte_ShouldReturnTrue_WhenElementIsPresent() {
         // Given
-        String[] inputSource = new String[]{"a", null, "b"};
-        String inputElement = null;
+        byte[] inputSource = new byte[]{1, 2, 1};
+        byte inputElement = 1;
 
         // When
         boolean actual = ArrayUtils.contains(inputSource, inputElement);
@@ -2630,9831 +2916,15169 @@ void containsGeneric_ShouldReturnTrue_WhenNullElementIsPresent() {
     }
 
     @Test
-    void getBoolean_ShouldReturnEmptyOptional_WhenArrayIsNull() {
+    void containsChar_ShouldReturnFalse_WhenArrayIsNull() {
         // Given
-        boolean[] inputValues = null;
-        int inputIndex = 0;
+        char[] inputSource = null;
+        char inputElement = 'a';
 
         // When
-        Optional<Boolean> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getBoolean_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
+    void containsChar_ShouldReturnFalse_WhenArrayIsEmpty() {
         // Given
-        boolean[] inputValues = new boolean[0];
-        int inputIndex = 0;
+        char[] inputSource = new char[]{};
+        char inputElement = 'a';
 
         // When
-        Optional<Boolean> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getBoolean_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
+    void containsChar_ShouldReturnFalse_WhenElementIsAbsent() {
         // Given
-        boolean[] inputValues = new boolean[]{true, false};
-        int inputIndex = -1;
+        char[] inputSource = new char[]{'b', 'c'};
+        char inputElement = 'a';
 
         // When
-        Optional<Boolean> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getBoolean_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
+    void containsChar_ShouldReturnTrue_WhenElementIsPresent() {
         // Given
-        boolean[] inputValues = new boolean[]{true, false};
-        int inputIndex = 2;
+        char[] inputSource = new char[]{'a', 'b', 'a'};
+        char inputElement = 'a';
 
         // When
-        Optional<Boolean> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isTrue();
     }
 
     @Test
-    void getBoolean_ShouldReturnValue_WhenIndexIsValid() {
+    void containsShort_ShouldReturnFalse_WhenArrayIsNull() {
         // Given
-        boolean[] inputValues = new boolean[]{true, false};
-        int inputIndex = 1;
+        short[] inputSource = null;
+        short inputElement = 1;
 
         // When
-        Optional<Boolean> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual)
-                .isPresent()
-                .hasValue(false);
+        then(actual).isFalse();
     }
 
     @Test
-    void getByte_ShouldReturnEmptyOptional_WhenArrayIsNull() {
+    void containsShort_ShouldReturnFalse_WhenArrayIsEmpty() {
         // Given
-        byte[] inputValues = null;
-        int inputIndex = 0;
+        short[] inputSource = new short[]{};
+        short inputElement = 1;
 
         // When
-        Optional<Byte> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getByte_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
+    void containsShort_ShouldReturnFalse_WhenElementIsAbsent() {
         // Given
-        byte[] inputValues = new byte[0];
-        int inputIndex = 0;
+        short[] inputSource = new short[]{2, 3};
+        short inputElement = 1;
 
         // When
-        Optional<Byte> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getByte_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
+    void containsShort_ShouldReturnTrue_WhenElementIsPresent() {
         // Given
-        byte[] inputValues = new byte[]{-128, -127};
-        int inputIndex = -1;
+        short[] inputSource = new short[]{1, 2, 1};
+        short inputElement = 1;
 
         // When
-        Optional<Byte> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isTrue();
     }
 
     @Test
-    void getByte_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
+    void containsInt_ShouldReturnFalse_WhenArrayIsNull() {
         // Given
-        byte[] inputValues = new byte[]{-128, -127};
-        int inputIndex = 2;
+        int[] inputSource = null;
+        int inputElement = 1;
 
         // When
-        Optional<Byte> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getByte_ShouldReturnValue_WhenIndexIsValid() {
+    void containsInt_ShouldReturnFalse_WhenArrayIsEmpty() {
         // Given
-        byte[] inputValues = new byte[]{-128, -127};
-        int inputIndex = 1;
+        int[] inputSource = new int[]{};
+        int inputElement = 1;
 
         // When
-        Optional<Byte> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual)
-                .isPresent()
-                .hasValue((byte) -127);
+        then(actual).isFalse();
     }
 
     @Test
-    void getChar_ShouldReturnEmptyOptional_WhenArrayIsNull() {
+    void containsInt_ShouldReturnFalse_WhenElementIsAbsent() {
         // Given
-        char[] inputValues = null;
-        int inputIndex = 0;
+        int[] inputSource = new int[]{2, 3};
+        int inputElement = 1;
 
         // When
-        Optional<Character> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getChar_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
+    void containsInt_ShouldReturnTrue_WhenElementIsPresent() {
         // Given
-        char[] inputValues = new char[0];
-        int inputIndex = 0;
+        int[] inputSource = new int[]{1, 2, 1};
+        int inputElement = 1;
 
         // When
-        Optional<Character> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isTrue();
     }
 
     @Test
-    void getChar_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
+    void containsLong_ShouldReturnFalse_WhenArrayIsNull() {
         // Given
-        char[] inputValues = new char[]{'a', 'b'};
-        int inputIndex = -1;
+        long[] inputSource = null;
+        long inputElement = 1L;
 
         // When
-        Optional<Character> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getChar_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
+    void containsLong_ShouldReturnFalse_WhenArrayIsEmpty() {
         // Given
-        char[] inputValues = new char[]{'a', 'b'};
-        int inputIndex = 2;
+        long[] inputSource = new long[]{};
+        long inputElement = 1L;
 
         // When
-        Optional<Character> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getChar_ShouldReturnValue_WhenIndexIsValid() {
+    void containsLong_ShouldReturnFalse_WhenElementIsAbsent() {
         // Given
-        char[] inputValues = new char[]{'a', 'b'};
-        int inputIndex = 1;
+        long[] inputSource = new long[]{2L, 3L};
+        long inputElement = 1L;
 
         // When
-        Optional<Character> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual)
-                .isPresent()
-                .hasValue('b');
+        then(actual).isFalse();
     }
 
     @Test
-    void getShort_ShouldReturnEmptyOptional_WhenArrayIsNull() {
+    void containsLong_ShouldReturnTrue_WhenElementIsPresent() {
         // Given
-        short[] inputValues = null;
-        int inputIndex = 0;
+        long[] inputSource = new long[]{1L, 2L, 1L};
+        long inputElement = 1L;
 
         // When
-        Optional<Short> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isTrue();
     }
 
     @Test
-    void getShort_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
+    void containsFloat_ShouldReturnFalse_WhenArrayIsNull() {
         // Given
-        short[] inputValues = new short[0];
-        int inputIndex = 0;
+        float[] inputSource = null;
+        float inputElement = 1.0F;
 
         // When
-        Optional<Short> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getShort_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
+    void containsFloat_ShouldReturnFalse_WhenArrayIsEmpty() {
         // Given
-        short[] inputValues = new short[]{32767, 32766};
-        int inputIndex = -1;
+        float[] inputSource = new float[]{};
+        float inputElement = 1.0F;
 
         // When
-        Optional<Short> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getShort_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
+    void containsFloat_ShouldReturnFalse_WhenElementIsAbsent() {
         // Given
-        short[] inputValues = new short[]{32767, 32766};
-        int inputIndex = 2;
+        float[] inputSource = new float[]{2.0F, 3.0F};
+        float inputElement = 1.0F;
 
         // When
-        Optional<Short> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getShort_ShouldReturnValue_WhenIndexIsValid() {
+    void containsFloat_ShouldReturnTrue_WhenElementIsPresent() {
         // Given
-        short[] inputValues = new short[]{32767, 32766};
-        int inputIndex = 1;
+        float[] inputSource = new float[]{1.0F, 2.0F, 1.0F};
+        float inputElement = 1.0F;
 
         // When
-        Optional<Short> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual)
-                .isPresent()
-                .hasValue((short) 32766);
+        then(actual).isTrue();
     }
 
     @Test
-    void getInt_ShouldReturnEmptyOptional_WhenArrayIsNull() {
+    void containsDouble_ShouldReturnFalse_WhenArrayIsNull() {
         // Given
-        int[] inputValues = null;
-        int inputIndex = 0;
+        double[] inputSource = null;
+        double inputElement = 1.0;
 
         // When
-        Optional<Integer> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getInt_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
+    void containsDouble_ShouldReturnFalse_WhenArrayIsEmpty() {
         // Given
-        int[] inputValues = new int[0];
-        int inputIndex = 0;
+        double[] inputSource = new double[]{};
+        double inputElement = 1.0;
 
         // When
-        Optional<Integer> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getInt_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
+    void containsDouble_ShouldReturnFalse_WhenElementIsAbsent() {
         // Given
-        int[] inputValues = new int[]{1, 2};
-        int inputIndex = -1;
+        double[] inputSource = new double[]{2.0, 3.0};
+        double inputElement = 1.0;
 
         // When
-        Optional<Integer> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getInt_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
+    void containsDouble_ShouldReturnTrue_WhenElementIsPresent() {
         // Given
-        int[] inputValues = new int[]{1, 2};
-        int inputIndex = 2;
+        double[] inputSource = new double[]{1.0, 2.0, 1.0};
+        double inputElement = 1.0;
 
         // When
-        Optional<Integer> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isTrue();
     }
 
     @Test
-    void getInt_ShouldReturnValue_WhenIndexIsValid() {
+    void containsGeneric_ShouldReturnFalse_WhenArrayIsNull() {
         // Given
-        int[] inputValues = new int[]{1, 2};
-        int inputIndex = 1;
+        String[] inputSource = null;
+        String inputElement = "a";
 
         // When
-        Optional<Integer> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual)
-                .isPresent()
-                .hasValue(2);
+        then(actual).isFalse();
     }
 
     @Test
-    void getLong_ShouldReturnEmptyOptional_WhenArrayIsNull() {
+    void containsGeneric_ShouldReturnFalse_WhenArrayIsEmpty() {
         // Given
-        long[] inputValues = null;
-        int inputIndex = 0;
+        String[] inputSource = new String[]{};
+        String inputElement = "a";
 
         // When
-        Optional<Long> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getLong_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
+    void containsGeneric_ShouldReturnFalse_WhenElementIsAbsent() {
         // Given
-        long[] inputValues = new long[0];
-        int inputIndex = 0;
+        String[] inputSource = new String[]{"b", "c"};
+        String inputElement = "a";
 
         // When
-        Optional<Long> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getLong_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
+    void containsGeneric_ShouldReturnFalse_WhenElementTypeIsIncompatible() {
         // Given
-        long[] inputValues = new long[]{1L, 2L};
-        int inputIndex = -1;
+        String[] inputSource = new String[]{"a", "b"};
+        Object inputElement = 1;
 
         // When
-        Optional<Long> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isFalse();
     }
 
     @Test
-    void getLong_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
+    void containsGeneric_ShouldReturnTrue_WhenElementIsPresent() {
         // Given
-        long[] inputValues = new long[]{1L, 2L};
-        int inputIndex = 2;
+        String[] inputSource = new String[]{"a", "b", "a"};
+        String inputElement = "a";
 
         // When
-        Optional<Long> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isTrue();
     }
 
     @Test
-    void getLong_ShouldReturnValue_WhenIndexIsValid() {
+    void containsGeneric_ShouldReturnTrue_WhenNullElementIsPresent() {
         // Given
-        long[] inputValues = new long[]{1L, 2L};
-        int inputIndex = 1;
+        String[] inputSource = new String[]{"a", null, "b"};
+        String inputElement = null;
 
         // When
-        Optional<Long> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean actual = ArrayUtils.contains(inputSource, inputElement);
 
         // Then
-        then(actual)
-                .isPresent()
-                .hasValue(2L);
+        then(actual).isTrue();
     }
 
     @Test
-    void getFloat_ShouldReturnEmptyOptional_WhenArrayIsNull() {
+    void copyWithinBoolean_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        float[] inputValues = null;
-        int inputIndex = 0;
+        boolean[] inputSource = null;
 
         // When
-        Optional<Float> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void getFloat_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
+    void copyWithinBoolean_ShouldShiftElementsLeft_WhenTargetIsBeforeStart() {
         // Given
-        float[] inputValues = new float[0];
-        int inputIndex = 0;
+        boolean[] inputSource = new boolean[]{true, true, false, true, false};
 
         // When
-        Optional<Float> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual).isEmpty();
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(true, false, true, false, false);
     }
 
     @Test
-    void getFloat_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
+    void copyWithinBoolean_ShouldCopyOverlappingRange_WhenTargetIsAfterStart() {
         // Given
-        float[] inputValues = new float[]{1.0F, 2.0F};
-        int inputIndex = -1;
+        boolean[] inputSource = new boolean[]{true, true, false, true, false};
 
         // When
-        Optional<Float> actual = ArrayUtils.get(inputValues, inputIndex);
+        boolean[] actual = ArrayUtils.copyWithin(inputSource, 2, 0, 4);
 
         // Then
-        then(actual).isEmpty();
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(true, true, true, true, false);
     }
 
     @Test
-    void getFloat_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
+    void copyWithinByte_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        float[] inputValues = new float[]{1.0F, 2.0F};
-        int inputIndex = 2;
+        byte[] inputSource = null;
 
         // When
-        Optional<Float> actual = ArrayUtils.get(inputValues, inputIndex);
+        byte[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void getFloat_ShouldReturnValue_WhenIndexIsValid() {
+    void copyWithinByte_ShouldShiftElementsLeft_WhenTargetIsBeforeStart() {
         // Given
-        float[] inputValues = new float[]{1.0F, 2.0F};
-        int inputIndex = 1;
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5};
 
         // When
-        Optional<Float> actual = ArrayUtils.get(inputValues, inputIndex);
+        byte[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
         then(actual)
-                .isPresent()
-                .hasValue(2.0F);
+                .isSameAs(inputSource)
+                .containsExactly(2, 3, 4, 5, 5);
     }
 
     @Test
-    void getDouble_ShouldReturnEmptyOptional_WhenArrayIsNull() {
+    void copyWithinByte_ShouldCopyOverlappingRange_WhenTargetIsAfterStart() {
         // Given
-        double[] inputValues = null;
-        int inputIndex = 0;
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5};
 
         // When
-        Optional<Double> actual = ArrayUtils.get(inputValues, inputIndex);
+        byte[] actual = ArrayUtils.copyWithin(inputSource, 2, 0, 4);
 
         // Then
-        then(actual).isEmpty();
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1, 2, 1, 2, 3);
     }
 
     @Test
-    void getDouble_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
+    void copyWithinChar_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        double[] inputValues = new double[0];
-        int inputIndex = 0;
+        char[] inputSource = null;
 
         // When
-        Optional<Double> actual = ArrayUtils.get(inputValues, inputIndex);
+        char[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void getDouble_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
+    void copyWithinChar_ShouldShiftElementsLeft_WhenTargetIsBeforeStart() {
         // Given
-        double[] inputValues = new double[]{1.0, 2.0};
-        int inputIndex = -1;
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e'};
 
         // When
-        Optional<Double> actual = ArrayUtils.get(inputValues, inputIndex);
+        char[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual).isEmpty();
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly('b', 'c', 'd', 'e', 'e');
     }
 
     @Test
-    void getDouble_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
+    void copyWithinChar_ShouldCopyOverlappingRange_WhenTargetIsAfterStart() {
         // Given
-        double[] inputValues = new double[]{1.0, 2.0};
-        int inputIndex = 2;
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e'};
 
         // When
-        Optional<Double> actual = ArrayUtils.get(inputValues, inputIndex);
+        char[] actual = ArrayUtils.copyWithin(inputSource, 2, 0, 4);
 
         // Then
-        then(actual).isEmpty();
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly('a', 'b', 'a', 'b', 'c');
     }
 
     @Test
-    void getDouble_ShouldReturnValue_WhenIndexIsValid() {
+    void copyWithinShort_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        double[] inputValues = new double[]{1.0, 2.0};
-        int inputIndex = 1;
+        short[] inputSource = null;
 
         // When
-        Optional<Double> actual = ArrayUtils.get(inputValues, inputIndex);
+        short[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual)
-                .isPresent()
-                .hasValue(2.0);
+        then(actual).isNull();
     }
 
     @Test
-    void getGeneric_ShouldReturnEmptyOptional_WhenArrayIsNull() {
+    void copyWithinShort_ShouldShiftElementsLeft_WhenTargetIsBeforeStart() {
         // Given
-        String[] inputValues = null;
-        int inputIndex = 0;
+        short[] inputSource = new short[]{1, 2, 3, 4, 5};
 
         // When
-        Optional<String> actual = ArrayUtils.get(inputValues, inputIndex);
+        short[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual).isEmpty();
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(2, 3, 4, 5, 5);
     }
 
     @Test
-    void getGeneric_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
+    void copyWithinShort_ShouldCopyOverlappingRange_WhenTargetIsAfterStart() {
         // Given
-        String[] inputValues = new String[0];
-        int inputIndex = 0;
+        short[] inputSource = new short[]{1, 2, 3, 4, 5};
 
         // When
-        Optional<String> actual = ArrayUtils.get(inputValues, inputIndex);
+        short[] actual = ArrayUtils.copyWithin(inputSource, 2, 0, 4);
 
         // Then
-        then(actual).isEmpty();
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1, 2, 1, 2, 3);
     }
 
     @Test
-    void getGeneric_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
+    void copyWithinInt_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        String[] inputValues = new String[]{"a", "b"};
-        int inputIndex = -1;
+        int[] inputSource = null;
 
         // When
-        Optional<String> actual = ArrayUtils.get(inputValues, inputIndex);
+        int[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void getGeneric_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
+    void copyWithinInt_ShouldShiftElementsLeft_WhenTargetIsBeforeStart() {
         // Given
-        String[] inputValues = new String[]{"a", "b"};
-        int inputIndex = 2;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
         // When
-        Optional<String> actual = ArrayUtils.get(inputValues, inputIndex);
+        int[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual).isEmpty();
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(2, 3, 4, 5, 5);
     }
 
     @Test
-    void getGeneric_ShouldReturnValue_WhenIndexIsValid() {
+    void copyWithinInt_ShouldCopyOverlappingRange_WhenTargetIsAfterStart() {
         // Given
-        String[] inputValues = new String[]{"a", "b"};
-        int inputIndex = 1;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
         // When
-        Optional<String> actual = ArrayUtils.get(inputValues, inputIndex);
+        int[] actual = ArrayUtils.copyWithin(inputSource, 2, 0, 4);
 
         // Then
         then(actual)
-                .isPresent()
-                .hasValue("b");
+                .isSameAs(inputSource)
+                .containsExactly(1, 2, 1, 2, 3);
     }
 
     @Test
-    void getComponentType_ShouldReturnNull_WhenArrayIsNull() {
+    void copyWithinInt_ShouldThrowIndexOutOfBoundsException_WhenTargetIsInvalid() {
         // Given
-        String[] inputArray = null;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
-        // When
-        Class<String> actual = ArrayUtils.getComponentType(inputArray);
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.copyWithin(inputSource, 6, 0, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 6 out of bounds for length 5");
+    }
 
-        // Then
-        then(actual).isNull();
+    @Test
+    void copyWithinInt_ShouldThrowIndexOutOfBoundsException_WhenEndIsBeforeStart() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.copyWithin(inputSource, 0, 3, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 2 out of bounds for length 5");
     }
 
     @Test
-    void getComponentType_ShouldReturnStringClass_WhenArrayIsStringArray() {
+    void copyWithinLong_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        String[] inputArray = new String[]{"a", "b"};
+        long[] inputSource = null;
 
         // When
-        Class<String> actual = ArrayUtils.getComponentType(inputArray);
+        long[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEqualTo(String.class);
+        then(actual).isNull();
     }
 
     @Test
-    void getComponentType_ShouldReturnIntegerClass_WhenArrayIsIntegerArray() {
+    void copyWithinLong_ShouldShiftElementsLeft_WhenTargetIsBeforeStart() {
         // Given
-        Integer[] inputArray = new Integer[]{1, 2, 3};
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L};
 
         // When
-        Class<Integer> actual = ArrayUtils.getComponentType(inputArray);
+        long[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
         then(actual)
-                .isNotNull()
-                .isEqualTo(Integer.class);
+                .isSameAs(inputSource)
+                .containsExactly(2L, 3L, 4L, 5L, 5L);
     }
 
     @Test
-    void getComponentType_ShouldReturnBooleanClass_WhenArrayIsBooleanArray() {
+    void copyWithinLong_ShouldCopyOverlappingRange_WhenTargetIsAfterStart() {
         // Given
-        Boolean[] inputArray = new Boolean[]{true, false};
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L};
 
         // When
-        Class<Boolean> actual = ArrayUtils.getComponentType(inputArray);
+        long[] actual = ArrayUtils.copyWithin(inputSource, 2, 0, 4);
 
         // Then
         then(actual)
-                .isNotNull()
-                .isEqualTo(Boolean.class);
+                .isSameAs(inputSource)
+                .containsExactly(1L, 2L, 1L, 2L, 3L);
     }
 
     @Test
-    void getComponentType_ShouldReturnCharacterClass_WhenArrayIsEmptyCharacterArray() {
+    void copyWithinFloat_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        Character[] inputArray = new Character[0];
+        float[] inputSource = null;
 
         // When
-        Class<Character> actual = ArrayUtils.getComponentType(inputArray);
+        float[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEqualTo(Character.class);
+        then(actual).isNull();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenBooleanArrayIsNull() {
+    void copyWithinFloat_ShouldShiftElementsLeft_WhenTargetIsBeforeStart() {
         // Given
-        boolean[] input = null;
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        float[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual).isFalse();
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(2.0f, 3.0f, 4.0f, 5.0f, 5.0f);
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenBooleanArrayIsEmpty() {
+    void copyWithinFloat_ShouldCopyOverlappingRange_WhenTargetIsAfterStart() {
         // Given
-        boolean[] input = new boolean[0];
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        float[] actual = ArrayUtils.copyWithin(inputSource, 2, 0, 4);
 
         // Then
-        then(actual).isFalse();
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1.0f, 2.0f, 1.0f, 2.0f, 3.0f);
     }
 
     @Test
-    void hasLength_ShouldReturnTrue_WhenBooleanArrayIsNonEmpty() {
+    void copyWithinDouble_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        boolean[] input = {true, false};
+        double[] inputSource = null;
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        double[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual).isTrue();
+        then(actual).isNull();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenByteArrayIsNull() {
+    void copyWithinDouble_ShouldShiftElementsLeft_WhenTargetIsBeforeStart() {
         // Given
-        byte[] input = null;
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        double[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual).isFalse();
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(2.0, 3.0, 4.0, 5.0, 5.0);
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenByteArrayIsEmpty() {
+    void copyWithinDouble_ShouldCopyOverlappingRange_WhenTargetIsAfterStart() {
         // Given
-        byte[] input = new byte[0];
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        double[] actual = ArrayUtils.copyWithin(inputSource, 2, 0, 4);
 
         // Then
-        then(actual).isFalse();
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1.0, 2.0, 1.0, 2.0, 3.0);
     }
 
     @Test
-    void hasLength_ShouldReturnTrue_WhenByteArrayIsNonEmpty() {
+    void copyWithinGeneric_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        byte[] input = {1, 2};
+        String[] inputSource = null;
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        String[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual).isTrue();
+        then(actual).isNull();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenCharArrayIsNull() {
+    void copyWithinGeneric_ShouldShiftElementsLeft_WhenTargetIsBeforeStart() {
         // Given
-        char[] input = null;
+        String[] inputSource = new String[]{"a", "b", "c", "d", "e"};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        String[] actual = ArrayUtils.copyWithin(inputSource, 0, 1);
 
         // Then
-        then(actual).isFalse();
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly("b", "c", "d", "e", "e");
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenCharArrayIsEmpty() {
+    void copyWithinGeneric_ShouldCopyOverlappingRange_WhenTargetIsAfterStart() {
         // Given
-        char[] input = new char[0];
+        String[] inputSource = new String[]{"a", "b", "c", "d", "e"};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        String[] actual = ArrayUtils.copyWithin(inputSource, 2, 0, 4);
 
         // Then
-        then(actual).isFalse();
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly("a", "b", "a", "b", "c");
     }
 
     @Test
-    void hasLength_ShouldReturnTrue_WhenCharArrayIsNonEmpty() {
+    void equalsBoolean_ShouldReturnTrue_WhenArraysHaveSameElements() {
         // Given
-        char[] input = {'a', 'b'};
+        boolean[] inputArray1 = new boolean[]{false, true, false, true};
+        boolean[] inputArray2 = new boolean[]{false, true, false, true};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
         then(actual).isTrue();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenShortArrayIsNull() {
+    void equalsBoolean_ShouldReturnFalse_WhenArraysDiffer() {
         // Given
-        short[] input = null;
+        boolean[] inputArray1 = new boolean[]{false, true, false, true};
+        boolean[] inputArray2 = new boolean[]{false, true, false, false};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
         then(actual).isFalse();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenShortArrayIsEmpty() {
+    void equalsBooleanWithRange_ShouldReturnTrue_WhenRangesHaveSameElements() {
         // Given
-        short[] input = new short[0];
+        boolean[] inputArray1 = new boolean[]{false, true, false, true};
+        boolean[] inputArray2 = new boolean[]{true, false, true};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, 0, 2, inputArray2, 1, 3);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isTrue();
     }
 
     @Test
-    void hasLength_ShouldReturnTrue_WhenShortArrayIsNonEmpty() {
+    void equalsByte_ShouldReturnTrue_WhenArraysHaveSameElements() {
         // Given
-        short[] input = {1, 2};
+        byte[] inputArray1 = new byte[]{1, 2, 3, 4};
+        byte[] inputArray2 = new byte[]{1, 2, 3, 4};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
         then(actual).isTrue();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenIntArrayIsNull() {
+    void equalsByte_ShouldReturnFalse_WhenArraysDiffer() {
         // Given
-        int[] input = null;
+        byte[] inputArray1 = new byte[]{1, 2, 3, 4};
+        byte[] inputArray2 = new byte[]{1, 2, 3, 6};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
         then(actual).isFalse();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenIntArrayIsEmpty() {
+    void equalsByteWithRange_ShouldReturnTrue_WhenRangesHaveSameElements() {
         // Given
-        int[] input = new int[0];
+        byte[] inputArray1 = new byte[]{1, 2, 3, 4};
+        byte[] inputArray2 = new byte[]{6, 1, 2};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, 0, 2, inputArray2, 1, 3);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isTrue();
     }
 
     @Test
-    void hasLength_ShouldReturnTrue_WhenIntArrayIsNonEmpty() {
+    void equalsChar_ShouldReturnTrue_WhenArraysHaveSameElements() {
         // Given
-        int[] input = {1, 2, 3};
+        char[] inputArray1 = new char[]{'a', 'b', 'c', 'd'};
+        char[] inputArray2 = new char[]{'a', 'b', 'c', 'd'};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
         then(actual).isTrue();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenLongArrayIsNull() {
+    void equalsChar_ShouldReturnFalse_WhenArraysDiffer() {
         // Given
-        long[] input = null;
+        char[] inputArray1 = new char[]{'a', 'b', 'c', 'd'};
+        char[] inputArray2 = new char[]{'a', 'b', 'c', 'f'};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
         then(actual).isFalse();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenLongArrayIsEmpty() {
+    void equalsCharWithRange_ShouldReturnTrue_WhenRangesHaveSameElements() {
         // Given
-        long[] input = new long[0];
+        char[] inputArray1 = new char[]{'a', 'b', 'c', 'd'};
+        char[] inputArray2 = new char[]{'f', 'a', 'b'};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, 0, 2, inputArray2, 1, 3);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isTrue();
     }
 
     @Test
-    void hasLength_ShouldReturnTrue_WhenLongArrayIsNonEmpty() {
+    void equalsShort_ShouldReturnTrue_WhenArraysHaveSameElements() {
         // Given
-        long[] input = {1L, 2L};
+        short[] inputArray1 = new short[]{1, 2, 3, 4};
+        short[] inputArray2 = new short[]{1, 2, 3, 4};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
         then(actual).isTrue();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenFloatArrayIsNull() {
+    void equalsShort_ShouldReturnFalse_WhenArraysDiffer() {
         // Given
-        float[] input = null;
+        short[] inputArray1 = new short[]{1, 2, 3, 4};
+        short[] inputArray2 = new short[]{1, 2, 3, 6};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
         then(actual).isFalse();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenFloatArrayIsEmpty() {
+    void equalsShortWithRange_ShouldReturnTrue_WhenRangesHaveSameElements() {
         // Given
-        float[] input = new float[0];
+        short[] inputArray1 = new short[]{1, 2, 3, 4};
+        short[] inputArray2 = new short[]{6, 1, 2};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, 0, 2, inputArray2, 1, 3);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isTrue();
     }
 
     @Test
-    void hasLength_ShouldReturnTrue_WhenFloatArrayIsNonEmpty() {
+    void equalsInt_ShouldReturnTrue_WhenArraysHaveSameElements() {
         // Given
-        float[] input = {1.0F, 2.0F};
+        int[] inputArray1 = new int[]{1, 2, 3, 4};
+        int[] inputArray2 = new int[]{1, 2, 3, 4};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
         then(actual).isTrue();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenDoubleArrayIsNull() {
+    void equalsInt_ShouldReturnFalse_WhenArraysDiffer() {
         // Given
-        double[] input = null;
+        int[] inputArray1 = new int[]{1, 2, 3, 4};
+        int[] inputArray2 = new int[]{1, 2, 3, 6};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
         then(actual).isFalse();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenDoubleArrayIsEmpty() {
+    void equalsIntWithRange_ShouldReturnTrue_WhenRangesHaveSameElements() {
         // Given
-        double[] input = new double[0];
+        int[] inputArray1 = new int[]{1, 2, 3, 4};
+        int[] inputArray2 = new int[]{6, 1, 2};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, 0, 2, inputArray2, 1, 3);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isTrue();
     }
 
     @Test
-    void hasLength_ShouldReturnTrue_WhenDoubleArrayIsNonEmpty() {
+    void equalsInt_ShouldReturnTrue_WhenBothArraysAreNull() {
         // Given
-        double[] input = {1.0, 2.0};
+        int[] inputArray1 = null;
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, (int[]) null);
 
         // Then
         then(actual).isTrue();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenGenericArrayIsNull() {
+    void equalsIntWithRange_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
         // Given
-        Integer[] input = null;
+        int[] inputArray1 = new int[]{1, 2, 3, 4};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.equals(inputArray1, 0, 1, null, 0, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void equalsLong_ShouldReturnTrue_WhenArraysHaveSameElements() {
+        // Given
+        long[] inputArray1 = new long[]{1L, 2L, 3L, 4L};
+        long[] inputArray2 = new long[]{1L, 2L, 3L, 4L};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
-        then(actual).isFalse();
+        then(actual).isTrue();
     }
 
     @Test
-    void hasLength_ShouldReturnFalse_WhenGenericArrayIsEmpty() {
+    void equalsLong_ShouldReturnFalse_WhenArraysDiffer() {
         // Given
-        Integer[] input = new Integer[0];
+        long[] inputArray1 = new long[]{1L, 2L, 3L, 4L};
+        long[] inputArray2 = new long[]{1L, 2L, 3L, 6L};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
         then(actual).isFalse();
     }
 
     @Test
-    void hasLength_ShouldReturnTrue_WhenGenericArrayIsNonEmpty() {
+    void equalsLongWithRange_ShouldReturnTrue_WhenRangesHaveSameElements() {
         // Given
-        Integer[] input = {1, 2, 3};
+        long[] inputArray1 = new long[]{1L, 2L, 3L, 4L};
+        long[] inputArray2 = new long[]{6L, 1L, 2L};
 
         // When
-        boolean actual = ArrayUtils.hasLength(input);
+        boolean actual = ArrayUtils.equals(inputArray1, 0, 2, inputArray2, 1, 3);
 
         // Then
         then(actual).isTrue();
     }
 
     @Test
-    void indexOfBoolean_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void equalsFloat_ShouldReturnTrue_WhenArraysHaveSameElements() {
         // Given
-        boolean[] inputSource = null;
-        boolean inputElement = true;
+        float[] inputArray1 = new float[]{1.0f, 2.0f, 3.0f, 4.0f};
+        float[] inputArray2 = new float[]{1.0f, 2.0f, 3.0f, 4.0f};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isTrue();
     }
 
     @Test
-    void indexOfBoolean_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void equalsFloat_ShouldReturnFalse_WhenArraysDiffer() {
         // Given
-        boolean[] inputSource = new boolean[]{};
-        boolean inputElement = true;
+        float[] inputArray1 = new float[]{1.0f, 2.0f, 3.0f, 4.0f};
+        float[] inputArray2 = new float[]{1.0f, 2.0f, 3.0f, 6.0f};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isFalse();
     }
 
     @Test
-    void indexOfBoolean_ShouldReturnIndex_WhenElementIsPresent() {
+    void equalsFloatWithRange_ShouldReturnTrue_WhenRangesHaveSameElements() {
         // Given
-        boolean[] inputSource = new boolean[]{true, false, true};
-        boolean inputElement = true;
+        float[] inputArray1 = new float[]{1.0f, 2.0f, 3.0f, 4.0f};
+        float[] inputArray2 = new float[]{6.0f, 1.0f, 2.0f};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        boolean actual = ArrayUtils.equals(inputArray1, 0, 2, inputArray2, 1, 3);
 
         // Then
-        then(actual).isEqualTo(0);
+        then(actual).isTrue();
     }
 
     @Test
-    void indexOfBoolean_ShouldReturnMinusOne_WhenElementIsAbsent() {
+    void equalsDouble_ShouldReturnTrue_WhenArraysHaveSameElements() {
         // Given
-        boolean[] inputSource = new boolean[]{false, false};
-        boolean inputElement = true;
+        double[] inputArray1 = new double[]{1.0, 2.0, 3.0, 4.0};
+        double[] inputArray2 = new double[]{1.0, 2.0, 3.0, 4.0};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isTrue();
     }
 
     @Test
-    void indexOfBooleanWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void equalsDouble_ShouldReturnFalse_WhenArraysDiffer() {
         // Given
-        boolean[] inputSource = null;
-        boolean inputElement = true;
-        int inputFromIndex = 0;
+        double[] inputArray1 = new double[]{1.0, 2.0, 3.0, 4.0};
+        double[] inputArray2 = new double[]{1.0, 2.0, 3.0, 6.0};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isFalse();
     }
 
     @Test
-    void indexOfBooleanWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void equalsDoubleWithRange_ShouldReturnTrue_WhenRangesHaveSameElements() {
         // Given
-        boolean[] inputSource = new boolean[]{};
-        boolean inputElement = true;
-        int inputFromIndex = 0;
+        double[] inputArray1 = new double[]{1.0, 2.0, 3.0, 4.0};
+        double[] inputArray2 = new double[]{6.0, 1.0, 2.0};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        boolean actual = ArrayUtils.equals(inputArray1, 0, 2, inputArray2, 1, 3);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isTrue();
     }
 
     @Test
-    void indexOfBooleanWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void equalsGeneric_ShouldReturnTrue_WhenArraysHaveSameElements() {
         // Given
-        boolean[] inputSource = new boolean[]{true, false};
-        boolean inputElement = true;
-        int inputFromIndex = -1;
+        String[] inputArray1 = new String[]{"a", "b", "c", "d"};
+        String[] inputArray2 = new String[]{"a", "b", "c", "d"};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isTrue();
     }
 
     @Test
-    void indexOfBooleanWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
+    void equalsGeneric_ShouldReturnFalse_WhenArraysDiffer() {
         // Given
-        boolean[] inputSource = new boolean[]{true, false};
-        boolean inputElement = true;
-        int inputFromIndex = 3;
+        String[] inputArray1 = new String[]{"a", "b", "c", "d"};
+        String[] inputArray2 = new String[]{"a", "b", "c", "f"};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        boolean actual = ArrayUtils.equals(inputArray1, inputArray2);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isFalse();
     }
 
     @Test
-    void indexOfBooleanWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
+    void equalsGenericWithRange_ShouldReturnTrue_WhenRangesHaveSameElements() {
         // Given
-        boolean[] inputSource = new boolean[]{true, false};
-        boolean inputElement = true;
-        int inputFromIndex = 2;
+        String[] inputArray1 = new String[]{"a", "b", "c", "d"};
+        String[] inputArray2 = new String[]{"f", "a", "b"};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        boolean actual = ArrayUtils.equals(inputArray1, 0, 2, inputArray2, 1, 3);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isTrue();
     }
 
     @Test
-    void indexOfBooleanWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
+    void exclusivePrefixSumInt_ShouldReplaceElementsWithOffsets_WhenSourceIsProvided() {
         // Given
-        boolean[] inputSource = new boolean[]{false, true, false, true};
-        boolean inputElement = true;
-        int inputFromIndex = 1;
+        int[] inputSource = new int[]{3, 1, 4, 1, 5};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        int actual = ArrayUtils.exclusivePrefixSum(inputSource);
 
         // Then
-        then(actual).isEqualTo(1);
+        then(actual).isEqualTo(14);
+        then(inputSource).containsExactly(0, 3, 4, 8, 9);
     }
 
     @Test
-    void indexOfBooleanWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
+    void exclusivePrefixSumInt_ShouldReturnZero_WhenSourceIsNull() {
         // Given
-        boolean[] inputSource = new boolean[]{true, false, false};
-        boolean inputElement = true;
-        int inputFromIndex = 1;
+        int[] inputSource = null;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        int actual = ArrayUtils.exclusivePrefixSum(inputSource);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isZero();
     }
 
     @Test
-    void indexOfByte_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void exclusivePrefixSumLong_ShouldReplaceElementsWithOffsets_WhenSourceIsProvided() {
         // Given
-        byte[] inputSource = null;
-        byte inputElement = 1;
+        long[] inputSource = new long[]{3L, 1L, 4L, 1L, 5L};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        long actual = ArrayUtils.exclusivePrefixSum(inputSource);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEqualTo(14L);
+        then(inputSource).containsExactly(0L, 3L, 4L, 8L, 9L);
     }
 
     @Test
-    void indexOfByte_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void exclusivePrefixSumFloat_ShouldReplaceElementsWithOffsets_WhenSourceIsProvided() {
         // Given
-        byte[] inputSource = new byte[]{};
-        byte inputElement = 1;
+        float[] inputSource = new float[]{3.0f, 1.0f, 4.0f, 1.0f, 5.0f};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        float actual = ArrayUtils.exclusivePrefixSum(inputSource);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEqualTo(14.0f);
+        then(inputSource).containsExactly(0.0f, 3.0f, 4.0f, 8.0f, 9.0f);
     }
 
     @Test
-    void indexOfByte_ShouldReturnIndex_WhenElementIsPresent() {
+    void exclusivePrefixSumDouble_ShouldReplaceElementsWithOffsets_WhenSourceIsProvided() {
         // Given
-        byte[] inputSource = new byte[]{1, 2, 1};
-        byte inputElement = 1;
+        double[] inputSource = new double[]{3.0, 1.0, 4.0, 1.0, 5.0};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        double actual = ArrayUtils.exclusivePrefixSum(inputSource);
 
         // Then
-        then(actual).isEqualTo(0);
+        then(actual).isEqualTo(14.0);
+        then(inputSource).containsExactly(0.0, 3.0, 4.0, 8.0, 9.0);
     }
 
     @Test
-    void indexOfByte_ShouldReturnMinusOne_WhenElementIsAbsent() {
+    void fillBoolean_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        byte[] inputSource = new byte[]{2, 3};
-        byte inputElement = 1;
+        boolean[] inputSource = null;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        boolean[] actual = ArrayUtils.fill(inputSource, false);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isNull();
     }
 
     @Test
-    void indexOfByteWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void fillBoolean_ShouldAssignValueToAllElements_WhenSourceIsProvided() {
         // Given
-        byte[] inputSource = null;
-        byte inputElement = 1;
-        int inputFromIndex = 0;
+        boolean[] inputSource = new boolean[]{true, true, false, true, false};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        boolean[] actual = ArrayUtils.fill(inputSource, false);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(false, false, false, false, false);
     }
 
     @Test
-    void indexOfByteWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void fillBoolean_ShouldAssignValueToRange_WhenRangeIsProvided() {
         // Given
-        byte[] inputSource = new byte[]{};
-        byte inputElement = 1;
-        int inputFromIndex = 0;
+        boolean[] inputSource = new boolean[]{true, true, false, true, false};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        boolean[] actual = ArrayUtils.fill(inputSource, 1, 3, false);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(true, false, false, true, false);
     }
 
     @Test
-    void indexOfByteWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void fillByte_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        byte[] inputSource = new byte[]{1, 2};
-        byte inputElement = 1;
-        int inputFromIndex = -1;
+        byte[] inputSource = null;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        byte[] actual = ArrayUtils.fill(inputSource, (byte) 6);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isNull();
     }
 
     @Test
-    void indexOfByteWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
+    void fillByte_ShouldAssignValueToAllElements_WhenSourceIsProvided() {
         // Given
-        byte[] inputSource = new byte[]{1, 2};
-        byte inputElement = 1;
-        int inputFromIndex = 3;
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        byte[] actual = ArrayUtils.fill(inputSource, (byte) 6);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly((byte) 6, (byte) 6, (byte) 6, (byte) 6, (byte) 6);
     }
 
     @Test
-    void indexOfByteWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
+    void fillByte_ShouldAssignValueToRange_WhenRangeIsProvided() {
         // Given
-        byte[] inputSource = new byte[]{1, 2};
-        byte inputElement = 1;
-        int inputFromIndex = 2;
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        byte[] actual = ArrayUtils.fill(inputSource, 1, 3, (byte) 6);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1, (byte) 6, (byte) 6, 4, 5);
     }
 
     @Test
-    void indexOfByteWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
+    void fillChar_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        byte[] inputSource = new byte[]{2, 1, 3, 1};
-        byte inputElement = 1;
-        int inputFromIndex = 1;
+        char[] inputSource = null;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        char[] actual = ArrayUtils.fill(inputSource, 'f');
 
         // Then
-        then(actual).isEqualTo(1);
+        then(actual).isNull();
     }
 
     @Test
-    void indexOfByteWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
+    void fillChar_ShouldAssignValueToAllElements_WhenSourceIsProvided() {
         // Given
-        byte[] inputSource = new byte[]{1, 2, 3};
-        byte inputElement = 1;
-        int inputFromIndex = 1;
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e'};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        char[] actual = ArrayUtils.fill(inputSource, 'f');
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly('f', 'f', 'f', 'f', 'f');
     }
 
     @Test
-    void indexOfChar_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void fillChar_ShouldAssignValueToRange_WhenRangeIsProvided() {
         // Given
-        char[] inputSource = null;
-        char inputElement = 'a';
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e'};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        char[] actual = ArrayUtils.fill(inputSource, 1, 3, 'f');
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly('a', 'f', 'f', 'd', 'e');
     }
 
     @Test
-    void indexOfChar_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void fillShort_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        char[] inputSource = new char[]{};
-        char inputElement = 'a';
+        short[] inputSource = null;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        short[] actual = ArrayUtils.fill(inputSource, (short) 6);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isNull();
     }
 
     @Test
-    void indexOfChar_ShouldReturnIndex_WhenElementIsPresent() {
+    void fillShort_ShouldAssignValueToAllElements_WhenSourceIsProvided() {
         // Given
-        char[] inputSource = new char[]{'a', 'b', 'a'};
-        char inputElement = 'a';
+        short[] inputSource = new short[]{1, 2, 3, 4, 5};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        short[] actual = ArrayUtils.fill(inputSource, (short) 6);
 
         // Then
-        then(actual).isEqualTo(0);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly((short) 6, (short) 6, (short) 6, (short) 6, (short) 6);
     }
 
     @Test
-    void indexOfChar_ShouldReturnMinusOne_WhenElementIsAbsent() {
+    void fillShort_ShouldAssignValueToRange_WhenRangeIsProvided() {
         // Given
-        char[] inputSource = new char[]{'b', 'c'};
-        char inputElement = 'a';
+        short[] inputSource = new short[]{1, 2, 3, 4, 5};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        short[] actual = ArrayUtils.fill(inputSource, 1, 3, (short) 6);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1, (short) 6, (short) 6, 4, 5);
     }
 
     @Test
-    void indexOfCharWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void fillInt_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        char[] inputSource = null;
-        char inputElement = 'a';
-        int inputFromIndex = 0;
+        int[] inputSource = null;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        int[] actual = ArrayUtils.fill(inputSource, 6);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isNull();
     }
 
     @Test
-    void indexOfCharWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void fillInt_ShouldAssignValueToAllElements_WhenSourceIsProvided() {
         // Given
-        char[] inputSource = new char[]{};
-        char inputElement = 'a';
-        int inputFromIndex = 0;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        int[] actual = ArrayUtils.fill(inputSource, 6);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(6, 6, 6, 6, 6);
     }
 
     @Test
-    void indexOfCharWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void fillInt_ShouldAssignValueToRange_WhenRangeIsProvided() {
         // Given
-        char[] inputSource = new char[]{'a', 'b'};
-        char inputElement = 'a';
-        int inputFromIndex = -1;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        int[] actual = ArrayUtils.fill(inputSource, 1, 3, 6);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1, 6, 6, 4, 5);
     }
 
     @Test
-    void indexOfCharWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
+    void fillInt_ShouldThrowIndexOutOfBoundsException_WhenToIndexExceedsArrayLength() {
         // Given
-        char[] inputSource = new char[]{'a', 'b'};
-        char inputElement = 'a';
-        int inputFromIndex = 3;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
-        // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
-
-        // Then
-        then(actual).isEqualTo(-1);
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.fill(inputSource, 1, 6, 0))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 6 out of bounds for length 5");
     }
 
     @Test
-    void indexOfCharWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
+    void fillLong_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        char[] inputSource = new char[]{'a', 'b'};
-        char inputElement = 'a';
-        int inputFromIndex = 2;
+        long[] inputSource = null;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        long[] actual = ArrayUtils.fill(inputSource, 6L);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isNull();
     }
 
     @Test
-    void indexOfCharWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
+    void fillLong_ShouldAssignValueToAllElements_WhenSourceIsProvided() {
         // Given
-        char[] inputSource = new char[]{'b', 'a', 'c', 'a'};
-        char inputElement = 'a';
-        int inputFromIndex = 1;
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        long[] actual = ArrayUtils.fill(inputSource, 6L);
 
         // Then
-        then(actual).isEqualTo(1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(6L, 6L, 6L, 6L, 6L);
     }
 
     @Test
-    void indexOfCharWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
+    void fillLong_ShouldAssignValueToRange_WhenRangeIsProvided() {
         // Given
-        char[] inputSource = new char[]{'a', 'b', 'c'};
-        char inputElement = 'a';
-        int inputFromIndex = 1;
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        long[] actual = ArrayUtils.fill(inputSource, 1, 3, 6L);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1L, 6L, 6L, 4L, 5L);
     }
 
     @Test
-    void indexOfShort_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void fillFloat_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        short[] inputSource = null;
-        short inputElement = 1;
+        float[] inputSource = null;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        float[] actual = ArrayUtils.fill(inputSource, 6.0f);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isNull();
     }
 
     @Test
-    void indexOfShort_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void fillFloat_ShouldAssignValueToAllElements_WhenSourceIsProvided() {
         // Given
-        short[] inputSource = new short[]{};
-        short inputElement = 1;
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        float[] actual = ArrayUtils.fill(inputSource, 6.0f);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(6.0f, 6.0f, 6.0f, 6.0f, 6.0f);
     }
 
     @Test
-    void indexOfShort_ShouldReturnIndex_WhenElementIsPresent() {
+    void fillFloat_ShouldAssignValueToRange_WhenRangeIsProvided() {
         // Given
-        short[] inputSource = new short[]{1, 2, 1};
-        short inputElement = 1;
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        float[] actual = ArrayUtils.fill(inputSource, 1, 3, 6.0f);
 
         // Then
-        then(actual).isEqualTo(0);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1.0f, 6.0f, 6.0f, 4.0f, 5.0f);
     }
 
     @Test
-    void indexOfShort_ShouldReturnMinusOne_WhenElementIsAbsent() {
+    void fillDouble_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        short[] inputSource = new short[]{2, 3};
-        short inputElement = 1;
+        double[] inputSource = null;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        double[] actual = ArrayUtils.fill(inputSource, 6.0);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isNull();
     }
 
     @Test
-    void indexOfShortWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void fillDouble_ShouldAssignValueToAllElements_WhenSourceIsProvided() {
         // Given
-        short[] inputSource = null;
-        short inputElement = 1;
-        int inputFromIndex = 0;
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        double[] actual = ArrayUtils.fill(inputSource, 6.0);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(6.0, 6.0, 6.0, 6.0, 6.0);
     }
 
     @Test
-    void indexOfShortWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void fillDouble_ShouldAssignValueToRange_WhenRangeIsProvided() {
         // Given
-        short[] inputSource = new short[]{};
-        short inputElement = 1;
-        int inputFromIndex = 0;
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        double[] actual = ArrayUtils.fill(inputSource, 1, 3, 6.0);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1.0, 6.0, 6.0, 4.0, 5.0);
     }
 
     @Test
-    void indexOfShortWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void fillGeneric_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        short[] inputSource = new short[]{1, 2};
-        short inputElement = 1;
-        int inputFromIndex = -1;
+        String[] inputSource = null;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        String[] actual = ArrayUtils.fill(inputSource, "f");
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isNull();
     }
 
     @Test
-    void indexOfShortWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
+    void fillGeneric_ShouldAssignValueToAllElements_WhenSourceIsProvided() {
         // Given
-        short[] inputSource = new short[]{1, 2};
-        short inputElement = 1;
-        int inputFromIndex = 3;
+        String[] inputSource = new String[]{"a", "b", "c", "d", "e"};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        String[] actual = ArrayUtils.fill(inputSource, "f");
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly("f", "f", "f", "f", "f");
     }
 
     @Test
-    void indexOfShortWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
+    void fillGeneric_ShouldAssignValueToRange_WhenRangeIsProvided() {
         // Given
-        short[] inputSource = new short[]{1, 2};
-        short inputElement = 1;
-        int inputFromIndex = 2;
+        String[] inputSource = new String[]{"a", "b", "c", "d", "e"};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        String[] actual = ArrayUtils.fill(inputSource, 1, 3, "f");
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly("a", "f", "f", "d", "e");
     }
 
     @Test
-    void indexOfShortWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
+    void frequenciesInt_ShouldCountEachDistinctValue_WhenSourceHasDuplicates() {
         // Given
-        short[] inputSource = new short[]{2, 1, 3, 1};
-        short inputElement = 1;
-        int inputFromIndex = 1;
+        int[] inputSource = new int[]{3, 0, 3, -1, 3, 0};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        IntIntHashMap actual = ArrayUtils.frequencies(inputSource);
 
         // Then
-        then(actual).isEqualTo(1);
+        then(actual.size()).isEqualTo(3);
+        then(actual.get(3)).isEqualTo(3);
+        then(actual.get(0)).isEqualTo(2);
+        then(actual.get(-1)).isEqualTo(1);
     }
 
     @Test
-    void indexOfShortWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
+    void frequenciesInt_ShouldReturnEmptyMap_WhenSourceIsNull() {
         // Given
-        short[] inputSource = new short[]{1, 2, 3};
-        short inputElement = 1;
-        int inputFromIndex = 1;
+        int[] inputSource = null;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        IntIntHashMap actual = ArrayUtils.frequencies(inputSource);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual.isEmpty()).isTrue();
     }
 
     @Test
-    void indexOfInt_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void frequenciesLong_ShouldCountEachDistinctValue_WhenSourceHasDuplicates() {
         // Given
-        int[] inputSource = null;
-        int inputElement = 1;
+        long[] inputSource = new long[]{Long.MAX_VALUE, 0L, Long.MAX_VALUE, Long.MIN_VALUE};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        LongIntHashMap actual = ArrayUtils.frequencies(inputSource);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual.size()).isEqualTo(3);
+        then(actual.get(Long.MAX_VALUE)).isEqualTo(2);
+        then(actual.get(0L)).isEqualTo(1);
+        then(actual.get(Long.MIN_VALUE)).isEqualTo(1);
     }
 
     @Test
-    void indexOfInt_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void frequenciesLong_ShouldReturnEmptyMap_WhenSourceIsNull() {
         // Given
-        int[] inputSource = new int[]{};
-        int inputElement = 1;
+        long[] inputSource = null;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        LongIntHashMap actual = ArrayUtils.frequencies(inputSource);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual.isEmpty()).isTrue();
     }
 
     @Test
-    void indexOfInt_ShouldReturnIndex_WhenElementIsPresent() {
+    void getBoolean_ShouldReturnEmptyOptional_WhenArrayIsNull() {
         // Given
-        int[] inputSource = new int[]{1, 2, 1};
-        int inputElement = 1;
+        boolean[] inputValues = null;
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<Boolean> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(0);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfInt_ShouldReturnMinusOne_WhenElementIsAbsent() {
+    void getBoolean_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
         // Given
-        int[] inputSource = new int[]{2, 3};
-        int inputElement = 1;
+        boolean[] inputValues = new boolean[0];
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<Boolean> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfIntWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void getBoolean_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
         // Given
-        int[] inputSource = null;
-        int inputElement = 1;
-        int inputFromIndex = 0;
+        boolean[] inputValues = new boolean[]{true, false};
+        int inputIndex = -1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Boolean> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfIntWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void getBoolean_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
         // Given
-        int[] inputSource = new int[]{};
-        int inputElement = 1;
-        int inputFromIndex = 0;
+        boolean[] inputValues = new boolean[]{true, false};
+        int inputIndex = 2;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Boolean> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfIntWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void getBoolean_ShouldReturnValue_WhenIndexIsValid() {
         // Given
-        int[] inputSource = new int[]{1, 2};
-        int inputElement = 1;
-        int inputFromIndex = -1;
+        boolean[] inputValues = new boolean[]{true, false};
+        int inputIndex = 1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Boolean> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isPresent()
+                .hasValue(false);
     }
 
     @Test
-    void indexOfIntWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
+    void getByte_ShouldReturnEmptyOptional_WhenArrayIsNull() {
         // Given
-        int[] inputSource = new int[]{1, 2};
-        int inputElement = 1;
-        int inputFromIndex = 3;
+        byte[] inputValues = null;
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Byte> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfIntWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
+    void getByte_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
         // Given
-        int[] inputSource = new int[]{1, 2};
-        int inputElement = 1;
-        int inputFromIndex = 2;
+        byte[] inputValues = new byte[0];
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Byte> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfIntWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
+    void getByte_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
         // Given
-        int[] inputSource = new int[]{2, 1, 3, 1};
-        int inputElement = 1;
-        int inputFromIndex = 1;
+        byte[] inputValues = new byte[]{-128, -127};
+        int inputIndex = -1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Byte> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfIntWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
+    void getByte_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
         // Given
-        int[] inputSource = new int[]{1, 2, 3};
-        int inputElement = 1;
-        int inputFromIndex = 1;
+        byte[] inputValues = new byte[]{-128, -127};
+        int inputIndex = 2;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Byte> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfLong_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void getByte_ShouldReturnValue_WhenIndexIsValid() {
         // Given
-        long[] inputSource = null;
-        long inputElement = 1L;
+        byte[] inputValues = new byte[]{-128, -127};
+        int inputIndex = 1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<Byte> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isPresent()
+                .hasValue((byte) -127);
     }
 
     @Test
-    void indexOfLong_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void getChar_ShouldReturnEmptyOptional_WhenArrayIsNull() {
         // Given
-        long[] inputSource = new long[]{};
-        long inputElement = 1L;
+        char[] inputValues = null;
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<Character> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfLong_ShouldReturnIndex_WhenElementIsPresent() {
+    void getChar_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
         // Given
-        long[] inputSource = new long[]{1L, 2L, 1L};
-        long inputElement = 1L;
+        char[] inputValues = new char[0];
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<Character> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(0);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfLong_ShouldReturnMinusOne_WhenElementIsAbsent() {
+    void getChar_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
         // Given
-        long[] inputSource = new long[]{2L, 3L};
-        long inputElement = 1L;
+        char[] inputValues = new char[]{'a', 'b'};
+        int inputIndex = -1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<Character> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfLongWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void getChar_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
         // Given
-        long[] inputSource = null;
-        long inputElement = 1L;
-        int inputFromIndex = 0;
+        char[] inputValues = new char[]{'a', 'b'};
+        int inputIndex = 2;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Character> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfLongWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void getChar_ShouldReturnValue_WhenIndexIsValid() {
         // Given
-        long[] inputSource = new long[]{};
-        long inputElement = 1L;
-        int inputFromIndex = 0;
+        char[] inputValues = new char[]{'a', 'b'};
+        int inputIndex = 1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Character> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isPresent()
+                .hasValue('b');
     }
 
     @Test
-    void indexOfLongWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void getShort_ShouldReturnEmptyOptional_WhenArrayIsNull() {
         // Given
-        long[] inputSource = new long[]{1L, 2L};
-        long inputElement = 1L;
-        int inputFromIndex = -1;
+        short[] inputValues = null;
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Short> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfLongWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
+    void getShort_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
         // Given
-        long[] inputSource = new long[]{1L, 2L};
-        long inputElement = 1L;
-        int inputFromIndex = 3;
+        short[] inputValues = new short[0];
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Short> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfLongWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
+    void getShort_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
         // Given
-        long[] inputSource = new long[]{1L, 2L};
-        long inputElement = 1L;
-        int inputFromIndex = 2;
+        short[] inputValues = new short[]{32767, 32766};
+        int inputIndex = -1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Short> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfLongWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
+    void getShort_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
         // Given
-        long[] inputSource = new long[]{2L, 1L, 3L, 1L};
-        long inputElement = 1L;
-        int inputFromIndex = 1;
+        short[] inputValues = new short[]{32767, 32766};
+        int inputIndex = 2;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Short> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfLongWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
+    void getShort_ShouldReturnValue_WhenIndexIsValid() {
         // Given
-        long[] inputSource = new long[]{1L, 2L, 3L};
-        long inputElement = 1L;
-        int inputFromIndex = 1;
+        short[] inputValues = new short[]{32767, 32766};
+        int inputIndex = 1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Short> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isPresent()
+                .hasValue((short) 32766);
     }
 
     @Test
-    void indexOfFloat_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void getInt_ShouldReturnEmptyOptional_WhenArrayIsNull() {
         // Given
-        float[] inputSource = null;
-        float inputElement = 1.0F;
+        int[] inputValues = null;
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<Integer> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfFloat_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void getInt_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
         // Given
-        float[] inputSource = new float[]{};
-        float inputElement = 1.0F;
+        int[] inputValues = new int[0];
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<Integer> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfFloat_ShouldReturnIndex_WhenElementIsPresent() {
+    void getInt_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
         // Given
-        float[] inputSource = new float[]{1.0F, 2.0F, 1.0F};
-        float inputElement = 1.0F;
+        int[] inputValues = new int[]{1, 2};
+        int inputIndex = -1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<Integer> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(0);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfFloat_ShouldReturnMinusOne_WhenElementIsAbsent() {
+    void getInt_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
         // Given
-        float[] inputSource = new float[]{2.0F, 3.0F};
-        float inputElement = 1.0F;
+        int[] inputValues = new int[]{1, 2};
+        int inputIndex = 2;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<Integer> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfFloatWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void getInt_ShouldReturnValue_WhenIndexIsValid() {
         // Given
-        float[] inputSource = null;
-        float inputElement = 1.0F;
-        int inputFromIndex = 0;
+        int[] inputValues = new int[]{1, 2};
+        int inputIndex = 1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Integer> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isPresent()
+                .hasValue(2);
     }
 
     @Test
-    void indexOfFloatWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void getLong_ShouldReturnEmptyOptional_WhenArrayIsNull() {
         // Given
-        float[] inputSource = new float[]{};
-        float inputElement = 1.0F;
-        int inputFromIndex = 0;
+        long[] inputValues = null;
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Long> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfFloatWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void getLong_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
         // Given
-        float[] inputSource = new float[]{1.0F, 2.0F};
-        float inputElement = 1.0F;
-        int inputFromIndex = -1;
+        long[] inputValues = new long[0];
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Long> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfFloatWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
+    void getLong_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
         // Given
-        float[] inputSource = new float[]{1.0F, 2.0F};
-        float inputElement = 1.0F;
-        int inputFromIndex = 3;
+        long[] inputValues = new long[]{1L, 2L};
+        int inputIndex = -1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Long> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfFloatWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
+    void getLong_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
         // Given
-        float[] inputSource = new float[]{1.0F, 2.0F};
-        float inputElement = 1.0F;
-        int inputFromIndex = 2;
+        long[] inputValues = new long[]{1L, 2L};
+        int inputIndex = 2;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Long> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfFloatWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
+    void getLong_ShouldReturnValue_WhenIndexIsValid() {
         // Given
-        float[] inputSource = new float[]{2.0F, 1.0F, 3.0F, 1.0F};
-        float inputElement = 1.0F;
-        int inputFromIndex = 1;
+        long[] inputValues = new long[]{1L, 2L};
+        int inputIndex = 1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Long> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(1);
+        then(actual)
+                .isPresent()
+                .hasValue(2L);
     }
 
     @Test
-    void indexOfFloatWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
+    void getFloat_ShouldReturnEmptyOptional_WhenArrayIsNull() {
         // Given
-        float[] inputSource = new float[]{1.0F, 2.0F, 3.0F};
-        float inputElement = 1.0F;
-        int inputFromIndex = 1;
+        float[] inputValues = null;
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Float> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfDouble_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void getFloat_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
         // Given
-        double[] inputSource = null;
-        double inputElement = 1.0;
+        float[] inputValues = new float[0];
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<Float> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfDouble_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void getFloat_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
         // Given
-        double[] inputSource = new double[]{};
-        double inputElement = 1.0;
+        float[] inputValues = new float[]{1.0F, 2.0F};
+        int inputIndex = -1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<Float> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfDouble_ShouldReturnIndex_WhenElementIsPresent() {
+    void getFloat_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
         // Given
-        double[] inputSource = new double[]{1.0, 2.0, 1.0};
-        double inputElement = 1.0;
+        float[] inputValues = new float[]{1.0F, 2.0F};
+        int inputIndex = 2;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<Float> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(0);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfDouble_ShouldReturnMinusOne_WhenElementIsAbsent() {
+    void getFloat_ShouldReturnValue_WhenIndexIsValid() {
         // Given
-        double[] inputSource = new double[]{2.0, 3.0};
-        double inputElement = 1.0;
+        float[] inputValues = new float[]{1.0F, 2.0F};
+        int inputIndex = 1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<Float> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isPresent()
+                .hasValue(2.0F);
     }
 
     @Test
-    void indexOfDoubleWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void getDouble_ShouldReturnEmptyOptional_WhenArrayIsNull() {
         // Given
-        double[] inputSource = null;
-        double inputElement = 1.0;
-        int inputFromIndex = 0;
+        double[] inputValues = null;
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Double> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfDoubleWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void getDouble_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
         // Given
-        double[] inputSource = new double[]{};
-        double inputElement = 1.0;
-        int inputFromIndex = 0;
+        double[] inputValues = new double[0];
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Double> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfDoubleWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void getDouble_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
         // Given
-        double[] inputSource = new double[]{1.0, 2.0};
-        double inputElement = 1.0;
-        int inputFromIndex = -1;
+        double[] inputValues = new double[]{1.0, 2.0};
+        int inputIndex = -1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Double> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfDoubleWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
+    void getDouble_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
         // Given
-        double[] inputSource = new double[]{1.0, 2.0};
-        double inputElement = 1.0;
-        int inputFromIndex = 3;
+        double[] inputValues = new double[]{1.0, 2.0};
+        int inputIndex = 2;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Double> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfDoubleWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
+    void getDouble_ShouldReturnValue_WhenIndexIsValid() {
         // Given
-        double[] inputSource = new double[]{1.0, 2.0};
-        double inputElement = 1.0;
-        int inputFromIndex = 2;
+        double[] inputValues = new double[]{1.0, 2.0};
+        int inputIndex = 1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<Double> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isPresent()
+                .hasValue(2.0);
     }
 
     @Test
-    void indexOfDoubleWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
+    void getGeneric_ShouldReturnEmptyOptional_WhenArrayIsNull() {
         // Given
-        double[] inputSource = new double[]{2.0, 1.0, 3.0, 1.0};
-        double inputElement = 1.0;
-        int inputFromIndex = 1;
+        String[] inputValues = null;
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<String> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfDoubleWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
+    void getGeneric_ShouldReturnEmptyOptional_WhenArrayIsEmpty() {
         // Given
-        double[] inputSource = new double[]{1.0, 2.0, 3.0};
-        double inputElement = 1.0;
-        int inputFromIndex = 1;
+        String[] inputValues = new String[0];
+        int inputIndex = 0;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Optional<String> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfGeneric_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void getGeneric_ShouldReturnEmptyOptional_WhenIndexIsNegative() {
         // Given
-        String[] inputSource = null;
-        String inputElement = "a";
+        String[] inputValues = new String[]{"a", "b"};
+        int inputIndex = -1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<String> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfGeneric_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void getGeneric_ShouldReturnEmptyOptional_WhenIndexIsOutOfBounds() {
         // Given
-        String[] inputSource = new String[]{};
-        String inputElement = "a";
+        String[] inputValues = new String[]{"a", "b"};
+        int inputIndex = 2;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<String> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEmpty();
     }
 
     @Test
-    void indexOfGeneric_ShouldReturnIndex_WhenElementIsPresent() {
+    void getGeneric_ShouldReturnValue_WhenIndexIsValid() {
         // Given
-        String[] inputSource = new String[]{"a", "b", "a"};
-        String inputElement = "a";
+        String[] inputValues = new String[]{"a", "b"};
+        int inputIndex = 1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Optional<String> actual = ArrayUtils.get(inputValues, inputIndex);
 
         // Then
-        then(actual).isEqualTo(0);
+        then(actual)
+                .isPresent()
+                .hasValue("b");
     }
 
     @Test
-    void indexOfGeneric_ShouldReturnMinusOne_WhenElementIsAbsent() {
+    void getComponentType_ShouldReturnNull_WhenArrayIsNull() {
         // Given
-        String[] inputSource = new String[]{"b", "c"};
-        String inputElement = "a";
+        String[] inputArray = null;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Class<String> actual = ArrayUtils.getComponentType(inputArray);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isNull();
     }
 
     @Test
-    void indexOfGeneric_ShouldReturnIndex_WhenNullElementIsPresent() {
+    void getComponentType_ShouldReturnStringClass_WhenArrayIsStringArray() {
         // Given
-        String[] inputSource = new String[]{"a", null, "b"};
-        String inputElement = null;
+        String[] inputArray = new String[]{"a", "b"};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement);
+        Class<String> actual = ArrayUtils.getComponentType(inputArray);
 
         // Then
-        then(actual).isEqualTo(1);
+        then(actual)
+                .isNotNull()
+                .isEqualTo(String.class);
     }
 
     @Test
-    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void getComponentType_ShouldReturnIntegerClass_WhenArrayIsIntegerArray() {
         // Given
-        String[] inputSource = null;
-        String inputElement = "a";
-        int inputFromIndex = 0;
+        Integer[] inputArray = new Integer[]{1, 2, 3};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Class<Integer> actual = ArrayUtils.getComponentType(inputArray);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isNotNull()
+                .isEqualTo(Integer.class);
     }
 
     @Test
-    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void getComponentType_ShouldReturnBooleanClass_WhenArrayIsBooleanArray() {
         // Given
-        String[] inputSource = new String[]{};
-        String inputElement = "a";
-        int inputFromIndex = 0;
+        Boolean[] inputArray = new Boolean[]{true, false};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Class<Boolean> actual = ArrayUtils.getComponentType(inputArray);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isNotNull()
+                .isEqualTo(Boolean.class);
     }
 
     @Test
-    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void getComponentType_ShouldReturnCharacterClass_WhenArrayIsEmptyCharacterArray() {
         // Given
-        String[] inputSource = new String[]{"a", "b"};
-        String inputElement = "a";
-        int inputFromIndex = -1;
+        Character[] inputArray = new Character[0];
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        Class<Character> actual = ArrayUtils.getComponentType(inputArray);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual)
+                .isNotNull()
+                .isEqualTo(Character.class);
     }
 
     @Test
-    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
+    void hash64Boolean_ShouldReturnSameHash_WhenContentsAreEqual() {
         // Given
-        String[] inputSource = new String[]{"a", "b"};
-        String inputElement = "a";
-        int inputFromIndex = 3;
+        boolean[] inputArray1 = new boolean[]{true, false, false, true, true, false};
+        boolean[] inputArray2 = new boolean[]{true, false, false, true, true, false};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual1).isEqualTo(actual2);
     }
 
     @Test
-    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
+    void hash64Boolean_ShouldReturnDifferentHash_WhenContentsDiffer() {
         // Given
-        String[] inputSource = new String[]{"a", "b"};
-        String inputElement = "a";
-        int inputFromIndex = 2;
+        boolean[] inputArray1 = new boolean[]{true, false, false, true, true, false};
+        boolean[] inputArray2 = new boolean[]{true, false, false, true, true, true};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual1).isNotEqualTo(actual2);
     }
 
     @Test
-    void indexOfGenericWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
+    void hash64BooleanWithRange_ShouldMatchHashOfSubarray_WhenRangeIsProvided() {
         // Given
-        String[] inputSource = new String[]{"b", "a", "c", "a"};
-        String inputElement = "a";
-        int inputFromIndex = 1;
+        boolean[] inputSource = new boolean[]{true, false, false, true, true, false};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        long actual = ArrayUtils.hash64(inputSource, 1, 5);
 
         // Then
-        then(actual).isEqualTo(1);
+        then(actual).isEqualTo(ArrayUtils.hash64(ArrayUtils.subarray(inputSource, 1, 5)));
     }
 
     @Test
-    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
+    void hash64Byte_ShouldReturnSameHash_WhenContentsAreEqual() {
         // Given
-        String[] inputSource = new String[]{"a", "b", "c"};
-        String inputElement = "a";
-        int inputFromIndex = 1;
+        byte[] inputArray1 = new byte[]{1, 2, 3, 4, 5, 6};
+        byte[] inputArray2 = new byte[]{1, 2, 3, 4, 5, 6};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual1).isEqualTo(actual2);
     }
 
     @Test
-    void indexOfGenericWithFromIndex_ShouldReturnIndex_WhenNullElementIsPresentAfterFromIndex() {
+    void hash64Byte_ShouldReturnDifferentHash_WhenContentsDiffer() {
         // Given
-        String[] inputSource = new String[]{"a", "b", null, "c"};
-        String inputElement = null;
-        int inputFromIndex = 2;
+        byte[] inputArray1 = new byte[]{1, 2, 3, 4, 5, 6};
+        byte[] inputArray2 = new byte[]{1, 2, 3, 4, 5, 1};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(actual).isEqualTo(2);
+        then(actual1).isNotEqualTo(actual2);
     }
 
     @Test
-    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenNullElementNotPresent() {
+    void hash64ByteWithRange_ShouldMatchHashOfSubarray_WhenRangeIsProvided() {
         // Given
-        String[] inputSource = new String[]{"a", "b", "c"};
-        String inputElement = null;
-        int inputFromIndex = 0;
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5, 6};
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        long actual = ArrayUtils.hash64(inputSource, 1, 5);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual).isEqualTo(ArrayUtils.hash64(ArrayUtils.subarray(inputSource, 1, 5)));
     }
 
     @Test
-    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenElementTypeIsIncompatible() {
+    void hash64Byte_ShouldDependOnEveryByte_WhenArrayIsLongerThanWord() {
         // Given
-        String[] inputSource = new String[]{"a", "b"};
-        Object inputElement = 1;
-        int inputFromIndex = 0;
+        byte[] inputArray1 = new byte[19];
+        byte[] inputArray2 = new byte[19];
+        inputArray2[17] = 1;
 
         // When
-        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(actual).isEqualTo(-1);
+        then(actual1).isNotEqualTo(actual2);
     }
 
     @Test
-    void indexesOfBoolean_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
+    void hash64Byte_ShouldDependOnLength_WhenContentsAreZero() {
         // Given
-        boolean[] source = null;
-        boolean element = true;
+        byte[] inputArray1 = new byte[8];
+        byte[] inputArray2 = new byte[9];
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual1).isNotEqualTo(actual2);
     }
 
     @Test
-    void indexesOfBoolean_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
+    void hash64Char_ShouldReturnSameHash_WhenContentsAreEqual() {
         // Given
-        boolean[] source = {};
-        boolean element = true;
+        char[] inputArray1 = new char[]{'a', 'b', 'c', 'd', 'e', 'f'};
+        char[] inputArray2 = new char[]{'a', 'b', 'c', 'd', 'e', 'f'};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual1).isEqualTo(actual2);
     }
 
     @Test
-    void indexesOfBoolean_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void hash64Char_ShouldReturnDifferentHash_WhenContentsDiffer() {
         // Given
-        boolean[] source = {true, false, true};
-        boolean element = false;
-        int fromIndex = -1;
+        char[] inputArray1 = new char[]{'a', 'b', 'c', 'd', 'e', 'f'};
+        char[] inputArray2 = new char[]{'a', 'b', 'c', 'd', 'e', 'a'};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual1).isNotEqualTo(actual2);
     }
 
     @Test
-    void indexesOfBoolean_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
+    void hash64CharWithRange_ShouldMatchHashOfSubarray_WhenRangeIsProvided() {
         // Given
-        boolean[] source = {true, false, true};
-        boolean element = false;
-        int fromIndex = 4;
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e', 'f'};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        long actual = ArrayUtils.hash64(inputSource, 1, 5);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isEqualTo(ArrayUtils.hash64(ArrayUtils.subarray(inputSource, 1, 5)));
     }
 
     @Test
-    void indexesOfBoolean_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
+    void hash64Short_ShouldReturnSameHash_WhenContentsAreEqual() {
         // Given
-        boolean[] source = {true, false, true};
-        boolean element = false;
-        int fromIndex = 3;
+        short[] inputArray1 = new short[]{1, 2, 3, 4, 5, 6};
+        short[] inputArray2 = new short[]{1, 2, 3, 4, 5, 6};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual1).isEqualTo(actual2);
     }
 
     @Test
-    void indexesOfBoolean_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
+    void hash64Short_ShouldReturnDifferentHash_WhenContentsDiffer() {
         // Given
-        boolean[] source = {true, true, true};
-        boolean element = false;
+        short[] inputArray1 = new short[]{1, 2, 3, 4, 5, 6};
+        short[] inputArray2 = new short[]{1, 2, 3, 4, 5, 1};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual1).isNotEqualTo(actual2);
     }
 
     @Test
-    void indexesOfBoolean_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
+    void hash64ShortWithRange_ShouldMatchHashOfSubarray_WhenRangeIsProvided() {
         // Given
-        boolean[] source = {true, false, true};
-        boolean element = true;
+        short[] inputSource = new short[]{1, 2, 3, 4, 5, 6};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        long actual = ArrayUtils.hash64(inputSource, 1, 5);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isFalse();
-        then(result.stream().toArray())
-                .hasSize(2)
-                .containsExactly(0, 2);
+        then(actual).isEqualTo(ArrayUtils.hash64(ArrayUtils.subarray(inputSource, 1, 5)));
     }
 
     @Test
-    void indexesOfByte_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
+    void hash64Int_ShouldReturnSameHash_WhenContentsAreEqual() {
         // Given
-        byte[] source = null;
-        byte element = 127;
+        int[] inputArray1 = new int[]{1, 2, 3, 4, 5, 6};
+        int[] inputArray2 = new int[]{1, 2, 3, 4, 5, 6};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual1).isEqualTo(actual2);
     }
 
     @Test
-    void indexesOfByte_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
+    void hash64Int_ShouldReturnDifferentHash_WhenContentsDiffer() {
         // Given
-        byte[] source = {};
-        byte element = 127;
+        int[] inputArray1 = new int[]{1, 2, 3, 4, 5, 6};
+        int[] inputArray2 = new int[]{1, 2, 3, 4, 5, 1};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual1).isNotEqualTo(actual2);
     }
 
     @Test
-    void indexesOfByte_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void hash64IntWithRange_ShouldMatchHashOfSubarray_WhenRangeIsProvided() {
         // Given
-        byte[] source = {127, 126, 127};
-        byte element = 127;
-        int fromIndex = -1;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5, 6};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        long actual = ArrayUtils.hash64(inputSource, 1, 5);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isEqualTo(ArrayUtils.hash64(ArrayUtils.subarray(inputSource, 1, 5)));
     }
 
     @Test
-    void indexesOfByte_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
+    void hash64Int_ShouldReturnZero_WhenSourceIsNull() {
         // Given
-        byte[] source = {127, 126, 127};
-        byte element = 127;
-        int fromIndex = 4;
+        int[] inputSource = null;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        long actual = ArrayUtils.hash64(inputSource);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isZero();
     }
 
     @Test
-    void indexesOfByte_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
+    void hash64Long_ShouldReturnSameHash_WhenContentsAreEqual() {
         // Given
-        byte[] source = {127, 126, 127};
-        byte element = 127;
-        int fromIndex = 3;
+        long[] inputArray1 = new long[]{1L, 2L, 3L, 4L, 5L, 6L};
+        long[] inputArray2 = new long[]{1L, 2L, 3L, 4L, 5L, 6L};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual1).isEqualTo(actual2);
     }
 
     @Test
-    void indexesOfByte_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
+    void hash64Long_ShouldReturnDifferentHash_WhenContentsDiffer() {
         // Given
-        byte[] source = {127, 126, 127};
-        byte element = 125;
+        long[] inputArray1 = new long[]{1L, 2L, 3L, 4L, 5L, 6L};
+        long[] inputArray2 = new long[]{1L, 2L, 3L, 4L, 5L, 1L};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual1).isNotEqualTo(actual2);
     }
 
     @Test
-    void indexesOfByte_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
+    void hash64LongWithRange_ShouldMatchHashOfSubarray_WhenRangeIsProvided() {
         // Given
-        byte[] source = {127, 126, 127};
-        byte element = 127;
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L, 6L};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        long actual = ArrayUtils.hash64(inputSource, 1, 5);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isFalse();
-        then(result.stream().toArray())
-                .hasSize(2)
-                .containsExactly(0, 2);
+        then(actual).isEqualTo(ArrayUtils.hash64(ArrayUtils.subarray(inputSource, 1, 5)));
     }
 
     @Test
-    void indexesOfChar_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
+    void hash64Float_ShouldReturnSameHash_WhenContentsAreEqual() {
         // Given
-        char[] source = null;
-        char element = 'a';
+        float[] inputArray1 = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f};
+        float[] inputArray2 = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual1).isEqualTo(actual2);
     }
 
     @Test
-    void indexesOfChar_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
+    void hash64Float_ShouldReturnDifferentHash_WhenContentsDiffer() {
         // Given
-        char[] source = {};
-        char element = 'a';
+        float[] inputArray1 = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f};
+        float[] inputArray2 = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 1.0f};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual1).isNotEqualTo(actual2);
     }
 
     @Test
-    void indexesOfChar_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void hash64FloatWithRange_ShouldMatchHashOfSubarray_WhenRangeIsProvided() {
         // Given
-        char[] source = {'a', 'b', 'a'};
-        char element = 'a';
-        int fromIndex = -1;
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        long actual = ArrayUtils.hash64(inputSource, 1, 5);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isEqualTo(ArrayUtils.hash64(ArrayUtils.subarray(inputSource, 1, 5)));
     }
 
     @Test
-    void indexesOfChar_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
+    void hash64Double_ShouldReturnSameHash_WhenContentsAreEqual() {
         // Given
-        char[] source = {'a', 'b', 'a'};
-        char element = 'a';
-        int fromIndex = 4;
+        double[] inputArray1 = new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0};
+        double[] inputArray2 = new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual1).isEqualTo(actual2);
     }
 
     @Test
-    void indexesOfChar_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
+    void hash64Double_ShouldReturnDifferentHash_WhenContentsDiffer() {
         // Given
-        char[] source = {'a', 'b', 'a'};
-        char element = 'a';
-        int fromIndex = 3;
+        double[] inputArray1 = new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0};
+        double[] inputArray2 = new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 1.0};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual1).isNotEqualTo(actual2);
     }
 
     @Test
-    void indexesOfChar_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
+    void hash64DoubleWithRange_ShouldMatchHashOfSubarray_WhenRangeIsProvided() {
         // Given
-        char[] source = {'a', 'b', 'a'};
-        char element = 'c';
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        long actual = ArrayUtils.hash64(inputSource, 1, 5);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isEqualTo(ArrayUtils.hash64(ArrayUtils.subarray(inputSource, 1, 5)));
     }
 
     @Test
-    void indexesOfChar_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
+    void hash64Double_ShouldReturnSameHash_WhenArraysContainNaN() {
         // Given
-        char[] source = {'a', 'b', 'a'};
-        char element = 'a';
+        double[] inputArray1 = new double[]{Double.NaN, 1.0};
+        double[] inputArray2 = new double[]{0.0 / 0.0, 1.0};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        long actual1 = ArrayUtils.hash64(inputArray1);
+        long actual2 = ArrayUtils.hash64(inputArray2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isFalse();
-        then(result.stream().toArray())
-                .hasSize(2)
-                .containsExactly(0, 2);
+        then(actual1).isEqualTo(actual2);
     }
 
     @Test
-    void indexesOfShort_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
+    void hasLength_ShouldReturnFalse_WhenBooleanArrayIsNull() {
         // Given
-        short[] source = null;
-        short element = Short.MIN_VALUE;
+        boolean[] input = null;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfShort_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
+    void hasLength_ShouldReturnFalse_WhenBooleanArrayIsEmpty() {
         // Given
-        short[] source = {};
-        short element = Short.MIN_VALUE;
+        boolean[] input = new boolean[0];
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfShort_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void hasLength_ShouldReturnTrue_WhenBooleanArrayIsNonEmpty() {
         // Given
-        short[] source = {Short.MIN_VALUE, Short.MAX_VALUE, Short.MIN_VALUE};
-        short element = Short.MIN_VALUE;
-        int fromIndex = -1;
+        boolean[] input = {true, false};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isTrue();
     }
 
     @Test
-    void indexesOfShort_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
+    void hasLength_ShouldReturnFalse_WhenByteArrayIsNull() {
         // Given
-        short[] source = {Short.MIN_VALUE, Short.MAX_VALUE, Short.MIN_VALUE};
-        short element = Short.MIN_VALUE;
-        int fromIndex = 4;
+        byte[] input = null;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfShort_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
+    void hasLength_ShouldReturnFalse_WhenByteArrayIsEmpty() {
         // Given
-        short[] source = {Short.MIN_VALUE, Short.MAX_VALUE, Short.MIN_VALUE};
-        short element = Short.MIN_VALUE;
-        int fromIndex = 3;
+        byte[] input = new byte[0];
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfShort_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
+    void hasLength_ShouldReturnTrue_WhenByteArrayIsNonEmpty() {
         // Given
-        short[] source = {Short.MIN_VALUE, Short.MAX_VALUE, Short.MIN_VALUE};
-        short element = 32766;
+        byte[] input = {1, 2};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isTrue();
     }
 
     @Test
-    void indexesOfShort_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
+    void hasLength_ShouldReturnFalse_WhenCharArrayIsNull() {
         // Given
-        short[] source = {Short.MIN_VALUE, Short.MAX_VALUE, Short.MIN_VALUE};
-        short element = Short.MIN_VALUE;
+        char[] input = null;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isFalse();
-        then(result.stream().toArray())
-                .hasSize(2)
-                .containsExactly(0, 2);
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfInt_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
+    void hasLength_ShouldReturnFalse_WhenCharArrayIsEmpty() {
         // Given
-        int[] source = null;
-        int element = Integer.MIN_VALUE;
+        char[] input = new char[0];
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfInt_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
+    void hasLength_ShouldReturnTrue_WhenCharArrayIsNonEmpty() {
         // Given
-        int[] source = {};
-        int element = Integer.MIN_VALUE;
+        char[] input = {'a', 'b'};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isTrue();
     }
 
     @Test
-    void indexesOfInt_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void hasLength_ShouldReturnFalse_WhenShortArrayIsNull() {
         // Given
-        int[] source = {Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE};
-        int element = Integer.MIN_VALUE;
-        int fromIndex = -1;
+        short[] input = null;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfInt_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
+    void hasLength_ShouldReturnFalse_WhenShortArrayIsEmpty() {
         // Given
-        int[] source = {Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE};
-        int element = Integer.MIN_VALUE;
-        int fromIndex = 4;
+        short[] input = new short[0];
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfInt_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
+    void hasLength_ShouldReturnTrue_WhenShortArrayIsNonEmpty() {
         // Given
-        int[] source = {Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE};
-        int element = Integer.MIN_VALUE;
-        int fromIndex = 3;
+        short[] input = {1, 2};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isTrue();
     }
 
     @Test
-    void indexesOfInt_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
+    void hasLength_ShouldReturnFalse_WhenIntArrayIsNull() {
         // Given
-        int[] source = {Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE};
-        int element = Integer.MIN_VALUE + 1;
+        int[] input = null;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfInt_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
+    void hasLength_ShouldReturnFalse_WhenIntArrayIsEmpty() {
         // Given
-        int[] source = {Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE};
-        int element = Integer.MIN_VALUE;
+        int[] input = new int[0];
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isFalse();
-        then(result.stream().toArray())
-                .hasSize(2)
-                .containsExactly(0, 2);
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfLong_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
+    void hasLength_ShouldReturnTrue_WhenIntArrayIsNonEmpty() {
         // Given
-        long[] source = null;
-        long element = Long.MIN_VALUE;
+        int[] input = {1, 2, 3};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isTrue();
     }
 
     @Test
-    void indexesOfLong_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
+    void hasLength_ShouldReturnFalse_WhenLongArrayIsNull() {
         // Given
-        long[] source = {};
-        long element = Long.MIN_VALUE;
+        long[] input = null;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfLong_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void hasLength_ShouldReturnFalse_WhenLongArrayIsEmpty() {
         // Given
-        long[] source = {Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
-        long element = Long.MIN_VALUE;
-        int fromIndex = -1;
+        long[] input = new long[0];
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfLong_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
+    void hasLength_ShouldReturnTrue_WhenLongArrayIsNonEmpty() {
         // Given
-        long[] source = {Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
-        long element = Long.MIN_VALUE;
-        int fromIndex = 4;
+        long[] input = {1L, 2L};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isTrue();
     }
 
     @Test
-    void indexesOfLong_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
+    void hasLength_ShouldReturnFalse_WhenFloatArrayIsNull() {
         // Given
-        long[] source = {Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
-        long element = Long.MIN_VALUE;
-        int fromIndex = 3;
+        float[] input = null;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfLong_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
+    void hasLength_ShouldReturnFalse_WhenFloatArrayIsEmpty() {
         // Given
-        long[] source = {Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
-        long element = Long.MIN_VALUE + 1;
+        float[] input = new float[0];
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfLong_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
+    void hasLength_ShouldReturnTrue_WhenFloatArrayIsNonEmpty() {
         // Given
-        long[] source = {Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
-        long element = Long.MIN_VALUE;
+        float[] input = {1.0F, 2.0F};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isFalse();
-        then(result.stream().toArray())
-                .hasSize(2)
-                .containsExactly(0, 2);
+        then(actual).isTrue();
     }
 
     @Test
-    void indexesOfFloat_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
+    void hasLength_ShouldReturnFalse_WhenDoubleArrayIsNull() {
         // Given
-        float[] source = null;
-        float element = Float.MIN_VALUE;
+        double[] input = null;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfFloat_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
+    void hasLength_ShouldReturnFalse_WhenDoubleArrayIsEmpty() {
         // Given
-        float[] source = {};
-        float element = Float.MIN_VALUE;
+        double[] input = new double[0];
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfFloat_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void hasLength_ShouldReturnTrue_WhenDoubleArrayIsNonEmpty() {
         // Given
-        float[] source = {Float.MIN_VALUE, Float.MAX_VALUE, Float.MIN_VALUE};
-        float element = Float.MIN_VALUE;
-        int fromIndex = -1;
+        double[] input = {1.0, 2.0};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isTrue();
     }
 
     @Test
-    void indexesOfFloat_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
+    void hasLength_ShouldReturnFalse_WhenGenericArrayIsNull() {
         // Given
-        float[] source = {Float.MIN_VALUE, Float.MAX_VALUE, Float.MIN_VALUE};
-        float element = Float.MIN_VALUE;
-        int fromIndex = 4;
+        Integer[] input = null;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfFloat_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
+    void hasLength_ShouldReturnFalse_WhenGenericArrayIsEmpty() {
         // Given
-        float[] source = {Float.MIN_VALUE, Float.MAX_VALUE, Float.MIN_VALUE};
-        float element = Float.MIN_VALUE;
-        int fromIndex = 3;
+        Integer[] input = new Integer[0];
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isFalse();
     }
 
     @Test
-    void indexesOfFloat_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
+    void hasLength_ShouldReturnTrue_WhenGenericArrayIsNonEmpty() {
         // Given
-        float[] source = {Float.MIN_VALUE, Float.MAX_VALUE, Float.MIN_VALUE};
-        float element = Float.MIN_VALUE + 1.0F;
+        Integer[] input = {1, 2, 3};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        boolean actual = ArrayUtils.hasLength(input);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isTrue();
     }
 
     @Test
-    void indexesOfFloat_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
+    void histogramByte_ShouldIndexByUnsignedValue_WhenSourceHasNegativeBytes() {
         // Given
-        float[] source = {Float.MIN_VALUE, Float.MAX_VALUE, Float.MIN_VALUE};
-        float element = Float.MIN_VALUE;
+        byte[] inputSource = new byte[]{-1, -1, 0, 127, -128};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        int[] actual = ArrayUtils.histogram(inputSource);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isFalse();
-        then(result.stream().toArray())
-                .hasSize(2)
-                .containsExactly(0, 2);
+        then(actual).hasSize(256);
+        then(actual[255]).isEqualTo(2);
+        then(actual[0]).isEqualTo(1);
+        then(actual[127]).isEqualTo(1);
+        then(actual[128]).isEqualTo(1);
     }
 
     @Test
-    void indexesOfDouble_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
+    void histogramByte_ShouldReturnZeroCounts_WhenSourceIsNull() {
         // Given
-        double[] source = null;
-        double element = Double.MIN_VALUE;
+        byte[] inputSource = null;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        int[] actual = ArrayUtils.histogram(inputSource);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).hasSize(256).containsOnly(0);
     }
 
     @Test
-    void indexesOfDouble_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
+    void histogramChar_ShouldCountEachCharacter_WhenSourceIsProvided() {
         // Given
-        double[] source = {};
-        double element = Double.MIN_VALUE;
+        char[] inputSource = "hello".toCharArray();
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        int[] actual = ArrayUtils.histogram(inputSource);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).hasSize(65536);
+        then(actual['l']).isEqualTo(2);
+        then(actual['h']).isEqualTo(1);
+        then(actual['z']).isZero();
     }
 
     @Test
-    void indexesOfDouble_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void histogramDouble_ShouldCountValuesIntoBuckets_WhenValuesAreInRange() {
         // Given
-        double[] source = {Double.MIN_VALUE, Double.MAX_VALUE, Double.MIN_VALUE};
-        double element = Double.MIN_VALUE;
-        int fromIndex = -1;
+        double[] inputSource = new double[]{0.0, 0.1, 2.5, 4.99, 5.0, 9.99, 10.0};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        int[] actual = ArrayUtils.histogram(inputSource, 0.0, 10.0, 2);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).containsExactly(4, 3);
     }
 
     @Test
-    void indexesOfDouble_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
+    void histogramDouble_ShouldIgnoreValues_WhenValuesAreOutOfRangeOrNaN() {
         // Given
-        double[] source = {Double.MIN_VALUE, Double.MAX_VALUE, Double.MIN_VALUE};
-        double element = Double.MIN_VALUE;
-        int fromIndex = 4;
+        double[] inputSource = new double[]{-0.5, 1.0, 10.5, Double.NaN, Double.POSITIVE_INFINITY};
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        int[] actual = ArrayUtils.histogram(inputSource, 0.0, 10.0, 5);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).containsExactly(1, 0, 0, 0, 0);
     }
 
     @Test
-    void indexesOfDouble_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
+    void histogramDouble_ShouldThrowIllegalArgumentException_WhenBucketsIsNotPositive() {
         // Given
-        double[] source = {Double.MIN_VALUE, Double.MAX_VALUE, Double.MIN_VALUE};
-        double element = Double.MIN_VALUE;
-        int fromIndex = 3;
-
-        // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        double[] inputSource = new double[]{1.0};
 
-        // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.histogram(inputSource, 0.0, 1.0, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The buckets must be greater than 0");
     }
 
     @Test
-    void indexesOfDouble_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
+    void histogramDouble_ShouldThrowIllegalArgumentException_WhenMinIsNotLessThanMax() {
         // Given
-        double[] source = {Double.MIN_VALUE, Double.MAX_VALUE, Double.MIN_VALUE};
-        double element = Double.MIN_VALUE + 1.0;
-
-        // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        double[] inputSource = new double[]{1.0};
 
-        // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.histogram(inputSource, 1.0, 1.0, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The min must be less than the max and the range must be finite");
     }
 
     @Test
-    void indexesOfDouble_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
+    void indexOfBoolean_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        double[] source = {Double.MIN_VALUE, Double.MAX_VALUE, Double.MIN_VALUE};
-        double element = Double.MIN_VALUE;
+        boolean[] inputSource = null;
+        boolean inputElement = true;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isFalse();
-        then(result.stream().toArray())
-                .hasSize(2)
-                .containsExactly(0, 2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void indexesOfGeneric_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
+    void indexOfBoolean_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        String[] source = null;
-        String element = "a";
+        boolean[] inputSource = new boolean[]{};
+        boolean inputElement = true;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void indexesOfGeneric_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
+    void indexOfBoolean_ShouldReturnIndex_WhenElementIsPresent() {
         // Given
-        String[] source = {};
-        String element = "a";
+        boolean[] inputSource = new boolean[]{true, false, true};
+        boolean inputElement = true;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isEqualTo(0);
     }
 
     @Test
-    void indexesOfGeneric_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void indexOfBoolean_ShouldReturnMinusOne_WhenElementIsAbsent() {
         // Given
-        String[] source = {"a", "b", "a"};
-        String element = "a";
-        int fromIndex = -1;
+        boolean[] inputSource = new boolean[]{false, false};
+        boolean inputElement = true;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void indexesOfGeneric_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
+    void indexOfBooleanWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        String[] source = {"a", "b", "a"};
-        String element = "a";
-        int fromIndex = 4;
+        boolean[] inputSource = null;
+        boolean inputElement = true;
+        int inputFromIndex = 0;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void indexesOfGeneric_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
+    void indexOfBooleanWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        String[] source = {"a", "b", "a"};
-        String element = "a";
-        int fromIndex = 3;
+        boolean[] inputSource = new boolean[]{};
+        boolean inputElement = true;
+        int inputFromIndex = 0;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void indexesOfGeneric_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
+    void indexOfBooleanWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        String[] source = {"a", "b", "a"};
-        String element = "c";
+        boolean[] inputSource = new boolean[]{true, false};
+        boolean inputElement = true;
+        int inputFromIndex = -1;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isTrue();
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void indexesOfGeneric_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
+    void indexOfBooleanWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
         // Given
-        String[] source = {"a", "b", "a"};
-        String element = "a";
+        boolean[] inputSource = new boolean[]{true, false};
+        boolean inputElement = true;
+        int inputFromIndex = 3;
 
         // When
-        BitSet result = ArrayUtils.indexesOf(source, element);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isNotNull();
-        then(result.isEmpty()).isFalse();
-        then(result.stream().toArray())
-                .hasSize(2)
-                .containsExactly(0, 2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void indexOfBooleanWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
         // Given
-        boolean[] inputSource = null;
+        boolean[] inputSource = new boolean[]{true, false};
         boolean inputElement = true;
+        int inputFromIndex = 2;
 
         // When
-        int actual = ArrayUtils.lastIndexOf(inputSource, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(actual).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void indexOfBooleanWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
         // Given
-        boolean[] inputSource = {};
+        boolean[] inputSource = new boolean[]{false, true, false, true};
         boolean inputElement = true;
+        int inputFromIndex = 1;
 
         // When
-        int actual = ArrayUtils.lastIndexOf(inputSource, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(actual).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(1);
     }
 
     @Test
-    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenElementDoesNotExist() {
+    void indexOfBooleanWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
         // Given
-        boolean[] source = {false, false, false};
+        boolean[] inputSource = new boolean[]{true, false, false};
         boolean inputElement = true;
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfBoolean_ShouldReturnLastIndex_WhenElementExists() {
+    void indexOfByte_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        boolean[] source = {true, false, true, false};
-        boolean inputElement = true;
+        byte[] inputSource = null;
+        byte inputElement = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
+    void indexOfByte_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        boolean[] source = null;
-        boolean inputElement = true;
-        int fromIndex = 0;
+        byte[] inputSource = new byte[]{};
+        byte inputElement = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexOfByte_ShouldReturnIndex_WhenElementIsPresent() {
         // Given
-        boolean[] source = {};
-        boolean inputElement = true;
-        int fromIndex = 0;
+        byte[] inputSource = new byte[]{1, 2, 1};
+        byte inputElement = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(0);
     }
 
     @Test
-    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void indexOfByte_ShouldReturnMinusOne_WhenElementIsAbsent() {
         // Given
-        boolean[] source = {true, false};
-        boolean inputElement = true;
-        int fromIndex = -1;
+        byte[] inputSource = new byte[]{2, 3};
+        byte inputElement = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
+    void indexOfByteWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        boolean[] source = {true, false};
-        boolean inputElement = true;
-        int fromIndex = 2;
+        byte[] inputSource = null;
+        byte inputElement = 1;
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
+    void indexOfByteWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        boolean[] source = {false, false, true};
-        boolean inputElement = true;
-        int fromIndex = 1;
+        byte[] inputSource = new byte[]{};
+        byte inputElement = 1;
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfBoolean_ShouldReturnLastMatchingIndexBeforeFromIndex_WhenElementExists() {
+    void indexOfByteWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        boolean[] source = {true, false, true, false};
-        boolean inputElement = true;
-        int fromIndex = 3;
+        byte[] inputSource = new byte[]{1, 2};
+        byte inputElement = 1;
+        int inputFromIndex = -1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfByte_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void indexOfByteWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
         // Given
-        byte[] inputSource = null;
-        byte inputElement = 127;
+        byte[] inputSource = new byte[]{1, 2};
+        byte inputElement = 1;
+        int inputFromIndex = 3;
 
         // When
-        int actual = ArrayUtils.lastIndexOf(inputSource, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(actual).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfByte_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void indexOfByteWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
         // Given
-        byte[] inputSource = {};
-        byte inputElement = 127;
+        byte[] inputSource = new byte[]{1, 2};
+        byte inputElement = 1;
+        int inputFromIndex = 2;
 
         // When
-        int actual = ArrayUtils.lastIndexOf(inputSource, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(actual).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfByte_ShouldReturnMinusOne_WhenElementDoesNotExist() {
+    void indexOfByteWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
         // Given
-        byte[] source = {126, 125, 124};
-        byte inputElement = 127;
+        byte[] inputSource = new byte[]{2, 1, 3, 1};
+        byte inputElement = 1;
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(1);
     }
 
     @Test
-    void lastIndexOfByte_ShouldReturnLastIndex_WhenElementExists() {
+    void indexOfByteWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
         // Given
-        byte[] source = {126, 125, 124, 123};
-        byte inputElement = 124;
+        byte[] inputSource = new byte[]{1, 2, 3};
+        byte inputElement = 1;
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfByte_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
+    void indexOfChar_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        byte[] source = null;
-        byte inputElement = 127;
-        int fromIndex = 0;
+        char[] inputSource = null;
+        char inputElement = 'a';
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfByte_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexOfChar_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        byte[] source = {};
-        byte inputElement = 127;
-        int fromIndex = 0;
+        char[] inputSource = new char[]{};
+        char inputElement = 'a';
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfByte_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void indexOfChar_ShouldReturnIndex_WhenElementIsPresent() {
         // Given
-        byte[] source = {127, 126, 125, 124};
-        byte inputElement = 127;
-        int fromIndex = -1;
+        char[] inputSource = new char[]{'a', 'b', 'a'};
+        char inputElement = 'a';
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(0);
     }
 
     @Test
-    void lastIndexOfByte_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
+    void indexOfChar_ShouldReturnMinusOne_WhenElementIsAbsent() {
         // Given
-        byte[] source = {127, 126};
-        byte inputElement = 127;
-        int fromIndex = 2;
+        char[] inputSource = new char[]{'b', 'c'};
+        char inputElement = 'a';
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfByte_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
+    void indexOfCharWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        byte[] source = {127, 126, 125, 124};
-        byte inputElement = 124;
-        int fromIndex = 1;
+        char[] inputSource = null;
+        char inputElement = 'a';
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfByte_ShouldReturnLastMatchingIndexBeforeFromIndex_WhenElementExists() {
+    void indexOfCharWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        byte[] source = {127, 126, 125, 124};
-        byte inputElement = 125;
-        int fromIndex = 3;
+        char[] inputSource = new char[]{};
+        char inputElement = 'a';
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfChar_ShouldReturnMinusOne_WhenArrayIsNull() {
+    void indexOfCharWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        char[] inputSource = null;
+        char[] inputSource = new char[]{'a', 'b'};
         char inputElement = 'a';
+        int inputFromIndex = -1;
 
         // When
-        int actual = ArrayUtils.lastIndexOf(inputSource, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(actual).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfChar_ShouldReturnMinusOne_WhenArrayIsEmpty() {
+    void indexOfCharWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
         // Given
-        char[] inputSource = {};
+        char[] inputSource = new char[]{'a', 'b'};
         char inputElement = 'a';
+        int inputFromIndex = 3;
 
         // When
-        int actual = ArrayUtils.lastIndexOf(inputSource, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(actual).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfChar_ShouldReturnMinusOne_WhenElementDoesNotExist() {
+    void indexOfCharWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
         // Given
-        char[] source = {'a', 'b', 'c'};
-        char inputElement = 'd';
+        char[] inputSource = new char[]{'a', 'b'};
+        char inputElement = 'a';
+        int inputFromIndex = 2;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfChar_ShouldReturnLastIndex_WhenElementExists() {
+    void indexOfCharWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
         // Given
-        char[] source = {'a', 'b', 'c', 'd'};
-        char inputElement = 'c';
+        char[] inputSource = new char[]{'b', 'a', 'c', 'a'};
+        char inputElement = 'a';
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(1);
     }
 
     @Test
-    void lastIndexOfChar_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
+    void indexOfCharWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
         // Given
-        char[] source = null;
+        char[] inputSource = new char[]{'a', 'b', 'c'};
         char inputElement = 'a';
-        int fromIndex = 0;
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfChar_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexOfShort_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        char[] source = {};
-        char inputElement = 'a';
-        int fromIndex = 0;
+        short[] inputSource = null;
+        short inputElement = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfChar_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void indexOfShort_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        char[] source = {'a', 'b', 'c', 'd'};
-        char inputElement = 'c';
-        int fromIndex = -1;
+        short[] inputSource = new short[]{};
+        short inputElement = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfChar_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
+    void indexOfShort_ShouldReturnIndex_WhenElementIsPresent() {
         // Given
-        char[] source = {'a', 'b'};
-        char inputElement = 'b';
-        int fromIndex = 2;
+        short[] inputSource = new short[]{1, 2, 1};
+        short inputElement = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(0);
     }
 
     @Test
-    void lastIndexOfChar_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
+    void indexOfShort_ShouldReturnMinusOne_WhenElementIsAbsent() {
         // Given
-        char[] source = {'a', 'b', 'c', 'd'};
-        char inputElement = 'd';
-        int fromIndex = 2;
+        short[] inputSource = new short[]{2, 3};
+        short inputElement = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfChar_ShouldReturnLastMatchingIndexBeforeFromIndex_WhenElementExists() {
+    void indexOfShortWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        char[] source = {'a', 'b', 'c', 'd'};
-        char inputElement = 'c';
-        int fromIndex = 3;
+        short[] inputSource = null;
+        short inputElement = 1;
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfShort_ShouldReturnMinusOne_WhenSourceIsNull() {
+    void indexOfShortWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        short[] source = null;
+        short[] inputSource = new short[]{};
         short inputElement = 1;
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfShort_ShouldReturnMinusOne_WhenSourceIsEmpty() {
+    void indexOfShortWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        short[] source = {};
+        short[] inputSource = new short[]{1, 2};
         short inputElement = 1;
+        int inputFromIndex = -1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfShort_ShouldReturnMinusOne_WhenElementDoesNotExist() {
+    void indexOfShortWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
         // Given
-        short[] source = {2, 3};
+        short[] inputSource = new short[]{1, 2};
         short inputElement = 1;
+        int inputFromIndex = 3;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfShort_ShouldReturnLastOccurrenceIndex_WhenElementExists() {
+    void indexOfShortWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
         // Given
-        short[] source = {1, 2, 1, 3};
+        short[] inputSource = new short[]{1, 2};
         short inputElement = 1;
+        int inputFromIndex = 2;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfShort_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
+    void indexOfShortWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
         // Given
-        short[] source = null;
-        short inputElement = Short.MIN_VALUE;
-        int fromIndex = 0;
+        short[] inputSource = new short[]{2, 1, 3, 1};
+        short inputElement = 1;
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(1);
     }
 
     @Test
-    void lastIndexOfShort_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexOfShortWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
         // Given
-        short[] source = {};
-        short inputElement = Short.MIN_VALUE;
-        int fromIndex = 0;
+        short[] inputSource = new short[]{1, 2, 3};
+        short inputElement = 1;
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfShort_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void indexOfInt_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        short[] source = {1, 2};
-        short inputElement = 1;
-        int fromIndex = -1;
+        int[] inputSource = null;
+        int inputElement = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfShort_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
+    void indexOfInt_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        short[] source = {1, 2};
-        short inputElement = 1;
-        int fromIndex = 2;
+        int[] inputSource = new int[]{};
+        int inputElement = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfShort_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
+    void indexOfInt_ShouldReturnIndex_WhenElementIsPresent() {
         // Given
-        short[] source = {2, 2, 2};
-        short inputElement = 1;
-        int fromIndex = 2;
+        int[] inputSource = new int[]{1, 2, 1};
+        int inputElement = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(0);
     }
 
     @Test
-    void lastIndexOfShort_ShouldReturnLastOccurrenceBeforeFromIndex_WhenElementExists() {
+    void indexOfInt_ShouldReturnMinusOne_WhenElementIsAbsent() {
         // Given
-        short[] source = {1, 2, 1, 3};
-        short inputElement = 1;
-        int fromIndex = 3;
+        int[] inputSource = new int[]{2, 3};
+        int inputElement = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfInt_ShouldReturnMinusOne_WhenSourceIsNull() {
+    void indexOfIntWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        int[] source = null;
+        int[] inputSource = null;
         int inputElement = 1;
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfInt_ShouldReturnMinusOne_WhenSourceIsEmpty() {
+    void indexOfIntWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        int[] source = {};
+        int[] inputSource = new int[]{};
         int inputElement = 1;
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfInt_ShouldReturnMinusOne_WhenElementDoesNotExist() {
+    void indexOfIntWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        int[] source = {2, 3};
+        int[] inputSource = new int[]{1, 2};
         int inputElement = 1;
+        int inputFromIndex = -1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfInt_ShouldReturnLastOccurrenceIndex_WhenElementExists() {
+    void indexOfIntWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
         // Given
-        int[] source = {1, 2, 1, 3};
+        int[] inputSource = new int[]{1, 2};
         int inputElement = 1;
+        int inputFromIndex = 3;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfInt_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
+    void indexOfIntWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
         // Given
-        int[] source = null;
-        int inputElement = Integer.MIN_VALUE;
-        int fromIndex = 0;
+        int[] inputSource = new int[]{1, 2};
+        int inputElement = 1;
+        int inputFromIndex = 2;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfInt_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexOfIntWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
         // Given
-        int[] source = {};
-        int inputElement = Integer.MIN_VALUE;
-        int fromIndex = 0;
+        int[] inputSource = new int[]{2, 1, 3, 1};
+        int inputElement = 1;
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(1);
     }
 
     @Test
-    void lastIndexOfInt_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void indexOfIntWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
         // Given
-        int[] source = {1, 2};
+        int[] inputSource = new int[]{1, 2, 3};
         int inputElement = 1;
-        int fromIndex = -1;
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfInt_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
+    void indexOfLong_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        int[] source = {1, 2};
-        int inputElement = 1;
-        int fromIndex = 2;
+        long[] inputSource = null;
+        long inputElement = 1L;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfInt_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
+    void indexOfLong_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        int[] source = {2, 2, 2};
-        int inputElement = 1;
-        int fromIndex = 2;
+        long[] inputSource = new long[]{};
+        long inputElement = 1L;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfInt_ShouldReturnLastOccurrenceBeforeFromIndex_WhenElementExists() {
+    void indexOfLong_ShouldReturnIndex_WhenElementIsPresent() {
         // Given
-        int[] source = {1, 2, 1, 3};
-        int inputElement = 1;
-        int fromIndex = 3;
+        long[] inputSource = new long[]{1L, 2L, 1L};
+        long inputElement = 1L;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(0);
     }
 
     @Test
-    void lastIndexOfLong_ShouldReturnMinusOne_WhenSourceIsNull() {
+    void indexOfLong_ShouldReturnMinusOne_WhenElementIsAbsent() {
         // Given
-        long[] source = null;
-        long inputElement = 10L;
+        long[] inputSource = new long[]{2L, 3L};
+        long inputElement = 1L;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfLong_ShouldReturnMinusOne_WhenSourceIsEmpty() {
+    void indexOfLongWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        long[] source = {};
-        long inputElement = 10L;
+        long[] inputSource = null;
+        long inputElement = 1L;
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfLong_ShouldReturnMinusOne_WhenElementDoesNotExist() {
+    void indexOfLongWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        long[] source = {20L, 30L};
-        long inputElement = 10L;
+        long[] inputSource = new long[]{};
+        long inputElement = 1L;
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfLong_ShouldReturnLastOccurrenceIndex_WhenElementExists() {
+    void indexOfLongWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        long[] source = {10L, 20L, 10L};
-        long inputElement = 10L;
+        long[] inputSource = new long[]{1L, 2L};
+        long inputElement = 1L;
+        int inputFromIndex = -1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfLong_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
+    void indexOfLongWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
         // Given
-        long[] source = null;
-        long inputElement = Long.MIN_VALUE;
-        int fromIndex = 0;
+        long[] inputSource = new long[]{1L, 2L};
+        long inputElement = 1L;
+        int inputFromIndex = 3;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfLong_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexOfLongWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
         // Given
-        long[] source = {};
-        long inputElement = Long.MIN_VALUE;
-        int fromIndex = 0;
+        long[] inputSource = new long[]{1L, 2L};
+        long inputElement = 1L;
+        int inputFromIndex = 2;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfLong_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void indexOfLongWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
         // Given
-        long[] source = {10L, 20L};
-        long inputElement = 10L;
-        int fromIndex = -1;
+        long[] inputSource = new long[]{2L, 1L, 3L, 1L};
+        long inputElement = 1L;
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(1);
     }
 
     @Test
-    void lastIndexOfLong_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
+    void indexOfLongWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
         // Given
-        long[] source = {10L, 20L};
-        long inputElement = 10L;
-        int fromIndex = 2;
+        long[] inputSource = new long[]{1L, 2L, 3L};
+        long inputElement = 1L;
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfLong_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
+    void indexOfFloat_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        long[] source = {20L, 20L};
-        long inputElement = 10L;
-        int fromIndex = 1;
+        float[] inputSource = null;
+        float inputElement = 1.0F;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfLong_ShouldReturnLastOccurrenceBeforeFromIndex_WhenElementExists() {
+    void indexOfFloat_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        long[] source = {10L, 20L, 10L};
-        long inputElement = 10L;
-        int fromIndex = 2;
+        float[] inputSource = new float[]{};
+        float inputElement = 1.0F;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfFloat_ShouldReturnMinusOne_WhenSourceIsNull() {
+    void indexOfFloat_ShouldReturnIndex_WhenElementIsPresent() {
         // Given
-        float[] source = null;
-        float inputElement = 1.1F;
+        float[] inputSource = new float[]{1.0F, 2.0F, 1.0F};
+        float inputElement = 1.0F;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(0);
     }
 
     @Test
-    void lastIndexOfFloat_ShouldReturnMinusOne_WhenSourceIsEmpty() {
+    void indexOfFloat_ShouldReturnMinusOne_WhenElementIsAbsent() {
         // Given
-        float[] source = {};
-        float inputElement = 1.1F;
+        float[] inputSource = new float[]{2.0F, 3.0F};
+        float inputElement = 1.0F;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfFloat_ShouldReturnMinusOne_WhenElementDoesNotExist() {
+    void indexOfFloatWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        float[] source = {2.2F, 3.3F};
-        float inputElement = 1.1F;
+        float[] inputSource = null;
+        float inputElement = 1.0F;
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfFloat_ShouldReturnLastOccurrenceIndex_WhenElementExists() {
+    void indexOfFloatWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        float[] source = {1.1F, 2.2F, 1.1F};
-        float inputElement = 1.1F;
+        float[] inputSource = new float[]{};
+        float inputElement = 1.0F;
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfFloat_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
+    void indexOfFloatWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        float[] source = null;
-        float inputElement = Float.MIN_VALUE;
-        int fromIndex = 0;
+        float[] inputSource = new float[]{1.0F, 2.0F};
+        float inputElement = 1.0F;
+        int inputFromIndex = -1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfFloat_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexOfFloatWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
         // Given
-        float[] source = {};
-        float inputElement = Float.MIN_VALUE;
-        int fromIndex = 0;
+        float[] inputSource = new float[]{1.0F, 2.0F};
+        float inputElement = 1.0F;
+        int inputFromIndex = 3;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfFloat_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void indexOfFloatWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
         // Given
-        float[] source = {1.1F, 2.2F};
-        float inputElement = 1.1F;
-        int fromIndex = -1;
+        float[] inputSource = new float[]{1.0F, 2.0F};
+        float inputElement = 1.0F;
+        int inputFromIndex = 2;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfFloat_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
+    void indexOfFloatWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
         // Given
-        float[] source = {1.1F, 2.2F};
-        float inputElement = 1.1F;
-        int fromIndex = 2;
+        float[] inputSource = new float[]{2.0F, 1.0F, 3.0F, 1.0F};
+        float inputElement = 1.0F;
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(1);
     }
 
     @Test
-    void lastIndexOfFloat_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
+    void indexOfFloatWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
         // Given
-        float[] source = {2.2F, 2.2F};
-        float inputElement = 1.1F;
-        int fromIndex = 1;
+        float[] inputSource = new float[]{1.0F, 2.0F, 3.0F};
+        float inputElement = 1.0F;
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfFloat_ShouldReturnLastOccurrenceBeforeFromIndex_WhenElementExists() {
+    void indexOfDouble_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        float[] source = {1.1F, 2.2F, 1.1F};
-        float inputElement = 1.1F;
-        int fromIndex = 2;
+        double[] inputSource = null;
+        double inputElement = 1.0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfDouble_ShouldReturnMinusOne_WhenSourceIsNull() {
+    void indexOfDouble_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        double[] source = null;
-        double inputElement = 1.5;
+        double[] inputSource = new double[]{};
+        double inputElement = 1.0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfDouble_ShouldReturnMinusOne_WhenSourceIsEmpty() {
+    void indexOfDouble_ShouldReturnIndex_WhenElementIsPresent() {
         // Given
-        double[] source = {};
-        double inputElement = 1.5;
+        double[] inputSource = new double[]{1.0, 2.0, 1.0};
+        double inputElement = 1.0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(0);
     }
 
     @Test
-    void lastIndexOfDouble_ShouldReturnMinusOne_WhenElementDoesNotExist() {
+    void indexOfDouble_ShouldReturnMinusOne_WhenElementIsAbsent() {
         // Given
-        double[] source = {2.5, 3.5};
-        double inputElement = 1.5;
+        double[] inputSource = new double[]{2.0, 3.0};
+        double inputElement = 1.0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfDouble_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void indexOfDoubleWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        double[] source = {1.5, 2.5};
-        double inputElement = 1.5;
-        int fromIndex = -1;
+        double[] inputSource = null;
+        double inputElement = 1.0;
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfDouble_ShouldReturnLastOccurrenceIndex_WhenElementExists() {
+    void indexOfDoubleWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        double[] source = {1.5, 2.5, 1.5};
-        double inputElement = 1.5;
+        double[] inputSource = new double[]{};
+        double inputElement = 1.0;
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfDouble_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
+    void indexOfDoubleWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        double[] source = null;
-        double inputElement = Double.MIN_VALUE;
-        int fromIndex = 0;
+        double[] inputSource = new double[]{1.0, 2.0};
+        double inputElement = 1.0;
+        int inputFromIndex = -1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfDouble_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexOfDoubleWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
         // Given
-        double[] source = {};
-        double inputElement = Double.MIN_VALUE;
-        int fromIndex = 0;
+        double[] inputSource = new double[]{1.0, 2.0};
+        double inputElement = 1.0;
+        int inputFromIndex = 3;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfDouble_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
+    void indexOfDoubleWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
         // Given
-        double[] source = {1.5, 2.5};
-        double inputElement = 1.5;
-        int fromIndex = 2;
+        double[] inputSource = new double[]{1.0, 2.0};
+        double inputElement = 1.0;
+        int inputFromIndex = 2;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfDouble_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
+    void indexOfDoubleWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
         // Given
-        double[] source = {2.5, 2.5};
-        double inputElement = 1.5;
-        int fromIndex = 1;
+        double[] inputSource = new double[]{2.0, 1.0, 3.0, 1.0};
+        double inputElement = 1.0;
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(1);
     }
 
     @Test
-    void lastIndexOfDouble_ShouldReturnLastOccurrenceBeforeFromIndex_WhenElementExists() {
+    void indexOfDoubleWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
         // Given
-        double[] source = {1.5, 2.5, 1.5};
-        double inputElement = 1.5;
-        int fromIndex = 2;
+        double[] inputSource = new double[]{1.0, 2.0, 3.0};
+        double inputElement = 1.0;
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenSourceIsNull() {
+    void indexOfGeneric_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        String[] source = null;
-        String inputElement = "A";
+        String[] inputSource = null;
+        String inputElement = "a";
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenSourceIsEmpty() {
+    void indexOfGeneric_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        String[] source = {};
-        String inputElement = "A";
+        String[] inputSource = new String[]{};
+        String inputElement = "a";
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenElementDoesNotExist() {
+    void indexOfGeneric_ShouldReturnIndex_WhenElementIsPresent() {
         // Given
-        String[] source = {"B", "C"};
-        String inputElement = "A";
+        String[] inputSource = new String[]{"a", "b", "a"};
+        String inputElement = "a";
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(0);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnLastOccurrenceIndex_WhenElementExists() {
+    void indexOfGeneric_ShouldReturnMinusOne_WhenElementIsAbsent() {
         // Given
-        String[] source = {"A", "B", "A"};
-        String inputElement = "A";
+        String[] inputSource = new String[]{"b", "c"};
+        String inputElement = "a";
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(2);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnLastNullIndex_WhenElementIsNull() {
+    void indexOfGeneric_ShouldReturnIndex_WhenNullElementIsPresent() {
         // Given
-        String[] source = {"A", null, "B", null};
+        String[] inputSource = new String[]{"a", null, "b"};
         String inputElement = null;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement);
 
         // Then
-        then(result).isEqualTo(3);
+        then(actual).isEqualTo(1);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
+    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        String[] source = null;
-        String inputElement = "A";
-        int fromIndex = 0;
+        String[] inputSource = null;
+        String inputElement = "a";
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        String[] source = {};
-        String inputElement = "A";
-        int fromIndex = 0;
+        String[] inputSource = new String[]{};
+        String inputElement = "a";
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenElementIsNullAndNoNullExists() {
+    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        String[] source = {"A", "B", "C"};
-        String inputElement = null;
-        int fromIndex = 2;
+        String[] inputSource = new String[]{"a", "b"};
+        String inputElement = "a";
+        int inputFromIndex = -1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenFromIndexExceedsArrayLength() {
         // Given
-        String[] source = {"A", "B"};
-        String inputElement = "A";
-        int fromIndex = -1;
+        String[] inputSource = new String[]{"a", "b"};
+        String inputElement = "a";
+        int inputFromIndex = 3;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
+    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenFromIndexEqualsArrayLength() {
         // Given
-        String[] source = {"A", "B"};
-        String inputElement = "A";
-        int fromIndex = 2;
+        String[] inputSource = new String[]{"a", "b"};
+        String inputElement = "a";
+        int inputFromIndex = 2;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
+    void indexOfGenericWithFromIndex_ShouldReturnIndex_WhenElementIsPresentAfterFromIndex() {
         // Given
-        String[] source = {"B", "B"};
-        String inputElement = "A";
-        int fromIndex = 1;
+        String[] inputSource = new String[]{"b", "a", "c", "a"};
+        String inputElement = "a";
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(1);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenElementTypeMatchesButNotFound() {
+    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenElementIsAbsentAfterFromIndex() {
         // Given
-        String[] source = {"A", "B", "C"};
-        String inputElement = "D";
-        int fromIndex = 2;
+        String[] inputSource = new String[]{"a", "b", "c"};
+        String inputElement = "a";
+        int inputFromIndex = 1;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenElementTypeIsNotInstanceOfArrayType() {
+    void indexOfGenericWithFromIndex_ShouldReturnIndex_WhenNullElementIsPresentAfterFromIndex() {
         // Given
-        Number[] source = {1, 2, 3};
-        String inputElement = "2";
-        int fromIndex = 2;
+        String[] inputSource = new String[]{"a", "b", null, "c"};
+        String inputElement = null;
+        int inputFromIndex = 2;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(INDEX_NOT_FOUND);
+        then(actual).isEqualTo(2);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnLastIndex_WhenElementAfterFromIndexOnly() {
+    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenNullElementNotPresent() {
         // Given
-        String[] source = {"A", "B", "C", "A"};
-        String inputElement = "A";
-        int fromIndex = 2;
+        String[] inputSource = new String[]{"a", "b", "c"};
+        String inputElement = null;
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(0);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnLastIndex_WhenElementTypeIsIncompatible() {
+    void indexOfGenericWithFromIndex_ShouldReturnMinusOne_WhenElementTypeIsIncompatible() {
         // Given
-        Number[] source = {1, 2, 3};
-        Integer inputElement = 2;
-        int fromIndex = 2;
+        String[] inputSource = new String[]{"a", "b"};
+        Object inputElement = 1;
+        int inputFromIndex = 0;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        int actual = ArrayUtils.indexOf(inputSource, inputElement, inputFromIndex);
 
         // Then
-        then(result).isEqualTo(1);
+        then(actual).isEqualTo(-1);
     }
 
     @Test
-    void lastIndexOfGeneric_ShouldReturnLastOccurrenceBeforeFromIndex_WhenElementExists() {
+    void indexesOfBoolean_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
         // Given
-        String[] source = {"A", "B", "A"};
-        String inputElement = "A";
-        int fromIndex = 2;
+        boolean[] source = null;
+        boolean element = true;
 
         // When
-        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result).isEqualTo(2);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfBoolean_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+    void indexesOfBoolean_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
         // Given
-        boolean[] source = null;
-        boolean inputElement = true;
+        boolean[] source = {};
+        boolean element = true;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfBoolean_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+    void indexesOfBoolean_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
         // Given
-        boolean[] source = {};
-        boolean inputElement = true;
+        boolean[] source = {true, false, true};
+        boolean element = false;
+        int fromIndex = -1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfBoolean_ShouldReturnIndexes_WhenElementExists() {
+    void indexesOfBoolean_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
         // Given
-        boolean[] source = {true, false, true, false, true};
-        boolean inputElement = true;
+        boolean[] source = {true, false, true};
+        boolean element = false;
+        int fromIndex = 4;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(4)).isTrue();
-        then(result.cardinality()).isEqualTo(3);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfBoolean_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+    void indexesOfBoolean_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
         // Given
-        boolean[] source = {false, false, false};
-        boolean inputElement = true;
+        boolean[] source = {true, false, true};
+        boolean element = false;
+        int fromIndex = 3;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfBoolean_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+    void indexesOfBoolean_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
         // Given
-        boolean[] source = null;
-        boolean inputElement = true;
-        int fromIndex = 1;
+        boolean[] source = {true, true, true};
+        boolean element = false;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfBoolean_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexesOfBoolean_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
         // Given
-        boolean[] source = {};
-        boolean inputElement = true;
-        int fromIndex = 1;
+        boolean[] source = {true, false, true};
+        boolean element = true;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isNotNull();
+        then(result.isEmpty()).isFalse();
+        then(result.stream().toArray())
+                .hasSize(2)
+                .containsExactly(0, 2);
     }
 
     @Test
-    void lastIndexesOfBoolean_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void indexesOfByte_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
         // Given
-        boolean[] source = {true, false};
-        boolean inputElement = true;
-        int fromIndex = -1;
+        byte[] source = null;
+        byte element = 127;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfBoolean_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+    void indexesOfByte_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
         // Given
-        boolean[] source = {true, false};
-        boolean inputElement = true;
-        int fromIndex = 3;
+        byte[] source = {};
+        byte element = 127;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfBoolean_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+    void indexesOfByte_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
         // Given
-        boolean[] source = {false, true, false};
-        boolean inputElement = true;
-        int fromIndex = 1;
+        byte[] source = {127, 126, 127};
+        byte element = 127;
+        int fromIndex = -1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
-        then(result.get(1)).isTrue();
-        then(result.cardinality()).isEqualTo(1);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfBoolean_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+    void indexesOfByte_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
         // Given
-        boolean[] source = {true, false, true, true, false, true};
-        boolean inputElement = true;
-        int fromIndex = 5;
+        byte[] source = {127, 126, 127};
+        byte element = 127;
+        int fromIndex = 4;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(3)).isTrue();
-        then(result.get(5)).isTrue();
-        then(result.cardinality()).isEqualTo(4);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfByte_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+    void indexesOfByte_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
         // Given
-        byte[] source = null;
-        byte inputElement = 127;
+        byte[] source = {127, 126, 127};
+        byte element = 127;
+        int fromIndex = 3;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfByte_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+    void indexesOfByte_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
         // Given
-        byte[] source = {};
-        byte inputElement = 127;
+        byte[] source = {127, 126, 127};
+        byte element = 125;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfByte_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+    void indexesOfByte_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
         // Given
-        byte[] source = {127, 126, 127, 125, 127};
-        byte inputElement = 127;
+        byte[] source = {127, 126, 127};
+        byte element = 127;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(4)).isTrue();
-        then(result.cardinality()).isEqualTo(3);
+        then(result).isNotNull();
+        then(result.isEmpty()).isFalse();
+        then(result.stream().toArray())
+                .hasSize(2)
+                .containsExactly(0, 2);
     }
 
     @Test
-    void lastIndexesOfByte_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+    void indexesOfChar_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
         // Given
-        byte[] source = {126, 125, 124};
-        byte inputElement = 127;
+        char[] source = null;
+        char element = 'a';
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfByte_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+    void indexesOfChar_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
         // Given
-        byte[] source = null;
-        byte inputElement = 127;
-        int fromIndex = 1;
+        char[] source = {};
+        char element = 'a';
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfByte_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexesOfChar_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
         // Given
-        byte[] source = {};
-        byte inputElement = 127;
-        int fromIndex = 1;
+        char[] source = {'a', 'b', 'a'};
+        char element = 'a';
+        int fromIndex = -1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfByte_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void indexesOfChar_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
         // Given
-        byte[] source = {127, 126};
-        byte inputElement = 127;
-        int fromIndex = -1;
+        char[] source = {'a', 'b', 'a'};
+        char element = 'a';
+        int fromIndex = 4;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfByte_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+    void indexesOfChar_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
         // Given
-        byte[] source = {127, 126};
-        byte inputElement = 127;
+        char[] source = {'a', 'b', 'a'};
+        char element = 'a';
         int fromIndex = 3;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfByte_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+    void indexesOfChar_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
         // Given
-        byte[] source = {126, 127, 125};
-        byte inputElement = 127;
-        int fromIndex = 1;
+        char[] source = {'a', 'b', 'a'};
+        char element = 'c';
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.get(1)).isTrue();
-        then(result.cardinality()).isEqualTo(1);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfByte_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+    void indexesOfChar_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
         // Given
-        byte[] source = {127, 126, 127, 127, 125, 127};
-        byte inputElement = 127;
-        int fromIndex = 5;
+        char[] source = {'a', 'b', 'a'};
+        char element = 'a';
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(3)).isTrue();
-        then(result.get(5)).isTrue();
-        then(result.cardinality()).isEqualTo(4);
+        then(result).isNotNull();
+        then(result.isEmpty()).isFalse();
+        then(result.stream().toArray())
+                .hasSize(2)
+                .containsExactly(0, 2);
     }
 
     @Test
-    void lastIndexesOfChar_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+    void indexesOfShort_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
         // Given
-        char[] source = null;
-        char inputElement = 'a';
+        short[] source = null;
+        short element = Short.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfChar_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+    void indexesOfShort_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
         // Given
-        char[] source = {};
-        char inputElement = 'a';
+        short[] source = {};
+        short element = Short.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfChar_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+    void indexesOfShort_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
         // Given
-        char[] source = {'a', 'b', 'a', 'c', 'a'};
-        char inputElement = 'a';
+        short[] source = {Short.MIN_VALUE, Short.MAX_VALUE, Short.MIN_VALUE};
+        short element = Short.MIN_VALUE;
+        int fromIndex = -1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(4)).isTrue();
-        then(result.cardinality()).isEqualTo(3);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfChar_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+    void indexesOfShort_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
         // Given
-        char[] source = {'b', 'c', 'd'};
-        char inputElement = 'a';
+        short[] source = {Short.MIN_VALUE, Short.MAX_VALUE, Short.MIN_VALUE};
+        short element = Short.MIN_VALUE;
+        int fromIndex = 4;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfChar_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+    void indexesOfShort_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
         // Given
-        char[] source = null;
-        char inputElement = 'a';
-        int fromIndex = 1;
-
-        // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        short[] source = {Short.MIN_VALUE, Short.MAX_VALUE, Short.MIN_VALUE};
+        short element = Short.MIN_VALUE;
+        int fromIndex = 3;
+
+        // When
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfChar_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexesOfShort_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
         // Given
-        char[] source = {};
-        char inputElement = 'a';
-        int fromIndex = 1;
+        short[] source = {Short.MIN_VALUE, Short.MAX_VALUE, Short.MIN_VALUE};
+        short element = 32766;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfChar_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void indexesOfShort_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
         // Given
-        char[] source = {'a', 'b'};
-        char inputElement = 'a';
-        int fromIndex = -1;
+        short[] source = {Short.MIN_VALUE, Short.MAX_VALUE, Short.MIN_VALUE};
+        short element = Short.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isNotNull();
+        then(result.isEmpty()).isFalse();
+        then(result.stream().toArray())
+                .hasSize(2)
+                .containsExactly(0, 2);
     }
 
     @Test
-    void lastIndexesOfChar_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+    void indexesOfInt_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
         // Given
-        char[] source = {'a', 'b'};
-        char inputElement = 'a';
-        int fromIndex = 3;
+        int[] source = null;
+        int element = Integer.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfChar_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+    void indexesOfInt_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
         // Given
-        char[] source = {'b', 'a', 'c'};
-        char inputElement = 'a';
-        int fromIndex = 1;
+        int[] source = {};
+        int element = Integer.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.get(1)).isTrue();
-        then(result.cardinality()).isEqualTo(1);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfChar_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+    void indexesOfInt_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
         // Given
-        char[] source = {'a', 'b', 'a', 'a', 'c', 'a'};
-        char inputElement = 'a';
-        int fromIndex = 5;
+        int[] source = {Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        int element = Integer.MIN_VALUE;
+        int fromIndex = -1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(3)).isTrue();
-        then(result.get(5)).isTrue();
-        then(result.cardinality()).isEqualTo(4);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfShort_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+    void indexesOfInt_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
         // Given
-        short[] source = null;
-        short inputElement = Short.MIN_VALUE;
+        int[] source = {Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        int element = Integer.MIN_VALUE;
+        int fromIndex = 4;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfShort_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+    void indexesOfInt_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
         // Given
-        short[] source = {};
-        short inputElement = Short.MIN_VALUE;
+        int[] source = {Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        int element = Integer.MIN_VALUE;
+        int fromIndex = 3;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfShort_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+    void indexesOfInt_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
         // Given
-        short[] source = {1, 2, 1, 3, 1};
-        short inputElement = 1;
+        int[] source = {Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        int element = Integer.MIN_VALUE + 1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(4)).isTrue();
-        then(result.cardinality()).isEqualTo(3);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfShort_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+    void indexesOfInt_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
         // Given
-        short[] source = {1, 2, 3};
-        short inputElement = Short.MIN_VALUE;
+        int[] source = {Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        int element = Integer.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isNotNull();
+        then(result.isEmpty()).isFalse();
+        then(result.stream().toArray())
+                .hasSize(2)
+                .containsExactly(0, 2);
     }
 
     @Test
-    void lastIndexesOfShort_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+    void indexesOfLong_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
         // Given
-        short[] source = null;
-        short inputElement = Short.MIN_VALUE;
-        int fromIndex = 1;
+        long[] source = null;
+        long element = Long.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfShort_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexesOfLong_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
         // Given
-        short[] source = {};
-        short inputElement = Short.MIN_VALUE;
-        int fromIndex = 1;
+        long[] source = {};
+        long element = Long.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfShort_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void indexesOfLong_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
         // Given
-        short[] source = {Short.MIN_VALUE, Short.MAX_VALUE};
-        short inputElement = Short.MIN_VALUE;
+        long[] source = {Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+        long element = Long.MIN_VALUE;
         int fromIndex = -1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfShort_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+    void indexesOfLong_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
         // Given
-        short[] source = {Short.MIN_VALUE, Short.MAX_VALUE};
-        short inputElement = Short.MIN_VALUE;
-        int fromIndex = 3;
+        long[] source = {Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+        long element = Long.MIN_VALUE;
+        int fromIndex = 4;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfShort_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+    void indexesOfLong_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
         // Given
-        short[] source = {2, 1, 3};
-        short inputElement = 1;
-        int fromIndex = 1;
+        long[] source = {Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+        long element = Long.MIN_VALUE;
+        int fromIndex = 3;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
-        then(result.get(1)).isTrue();
-        then(result.cardinality()).isEqualTo(1);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfShort_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+    void indexesOfLong_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
         // Given
-        short[] source = {1, 2, 1, 1, 3, 1};
-        short inputElement = 1;
-        int fromIndex = 5;
+        long[] source = {Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+        long element = Long.MIN_VALUE + 1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(3)).isTrue();
-        then(result.get(5)).isTrue();
-        then(result.cardinality()).isEqualTo(4);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfInt_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+    void indexesOfLong_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
         // Given
-        int[] source = null;
-        int inputElement = Integer.MIN_VALUE;
+        long[] source = {Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+        long element = Long.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isNotNull();
+        then(result.isEmpty()).isFalse();
+        then(result.stream().toArray())
+                .hasSize(2)
+                .containsExactly(0, 2);
     }
 
     @Test
-    void lastIndexesOfInt_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+    void indexesOfFloat_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
         // Given
-        int[] source = {};
-        int inputElement = Integer.MIN_VALUE;
+        float[] source = null;
+        float element = Float.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfInt_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+    void indexesOfFloat_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
         // Given
-        int[] source = {1, 2, 1, 3, 1};
-        int inputElement = 1;
+        float[] source = {};
+        float element = Float.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(4)).isTrue();
-        then(result.cardinality()).isEqualTo(3);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfInt_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+    void indexesOfFloat_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
         // Given
-        int[] source = {1, 2, 3};
-        int inputElement = Integer.MIN_VALUE;
+        float[] source = {Float.MIN_VALUE, Float.MAX_VALUE, Float.MIN_VALUE};
+        float element = Float.MIN_VALUE;
+        int fromIndex = -1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfInt_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+    void indexesOfFloat_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
         // Given
-        int[] source = null;
-        int inputElement = Integer.MIN_VALUE;
-        int fromIndex = 1;
+        float[] source = {Float.MIN_VALUE, Float.MAX_VALUE, Float.MIN_VALUE};
+        float element = Float.MIN_VALUE;
+        int fromIndex = 4;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfInt_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexesOfFloat_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
         // Given
-        int[] source = {};
-        int inputElement = Integer.MIN_VALUE;
-        int fromIndex = 1;
-
-        // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        float[] source = {Float.MIN_VALUE, Float.MAX_VALUE, Float.MIN_VALUE};
+        float element = Float.MIN_VALUE;
+        int fromIndex = 3;
+
+        // When
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfInt_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void indexesOfFloat_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
         // Given
-        int[] source = {Integer.MIN_VALUE, Integer.MAX_VALUE};
-        int inputElement = Integer.MIN_VALUE;
-        int fromIndex = -1;
+        float[] source = {Float.MIN_VALUE, Float.MAX_VALUE, Float.MIN_VALUE};
+        float element = Float.MIN_VALUE + 1.0F;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfInt_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+    void indexesOfFloat_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
         // Given
-        int[] source = {Integer.MIN_VALUE, Integer.MAX_VALUE};
-        int inputElement = Integer.MIN_VALUE;
-        int fromIndex = 3;
+        float[] source = {Float.MIN_VALUE, Float.MAX_VALUE, Float.MIN_VALUE};
+        float element = Float.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isNotNull();
+        then(result.isEmpty()).isFalse();
+        then(result.stream().toArray())
+                .hasSize(2)
+                .containsExactly(0, 2);
     }
 
     @Test
-    void lastIndexesOfInt_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+    void indexesOfDouble_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
         // Given
-        int[] source = {2, 1, 3};
-        int inputElement = 1;
-        int fromIndex = 1;
+        double[] source = null;
+        double element = Double.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.get(1)).isTrue();
-        then(result.cardinality()).isEqualTo(1);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfInt_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+    void indexesOfDouble_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
         // Given
-        int[] source = {1, 2, 1, 1, 3, 1};
-        int inputElement = 1;
-        int fromIndex = 5;
+        double[] source = {};
+        double element = Double.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(3)).isTrue();
-        then(result.get(5)).isTrue();
-        then(result.cardinality()).isEqualTo(4);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfLong_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+    void indexesOfDouble_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
         // Given
-        long[] source = null;
-        long inputElement = Long.MIN_VALUE;
+        double[] source = {Double.MIN_VALUE, Double.MAX_VALUE, Double.MIN_VALUE};
+        double element = Double.MIN_VALUE;
+        int fromIndex = -1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfLong_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+    void indexesOfDouble_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
         // Given
-        long[] source = {};
-        long inputElement = Long.MIN_VALUE;
+        double[] source = {Double.MIN_VALUE, Double.MAX_VALUE, Double.MIN_VALUE};
+        double element = Double.MIN_VALUE;
+        int fromIndex = 4;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfLong_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+    void indexesOfDouble_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
         // Given
-        long[] source = {1, 2, 1, 3, 1};
-        long inputElement = 1;
+        double[] source = {Double.MIN_VALUE, Double.MAX_VALUE, Double.MIN_VALUE};
+        double element = Double.MIN_VALUE;
+        int fromIndex = 3;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(4)).isTrue();
-        then(result.cardinality()).isEqualTo(3);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfLong_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+    void indexesOfDouble_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
         // Given
-        long[] source = {1, 2, 3};
-        long inputElement = Long.MIN_VALUE;
+        double[] source = {Double.MIN_VALUE, Double.MAX_VALUE, Double.MIN_VALUE};
+        double element = Double.MIN_VALUE + 1.0;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfLong_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+    void indexesOfDouble_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
         // Given
-        long[] source = null;
-        long inputElement = Long.MIN_VALUE;
-        int fromIndex = 1;
+        double[] source = {Double.MIN_VALUE, Double.MAX_VALUE, Double.MIN_VALUE};
+        double element = Double.MIN_VALUE;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isNotNull();
+        then(result.isEmpty()).isFalse();
+        then(result.stream().toArray())
+                .hasSize(2)
+                .containsExactly(0, 2);
     }
 
     @Test
-    void lastIndexesOfLong_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+    void indexesOfGeneric_ShouldReturnEmptyBitSet_WhenArrayIsNull() {
         // Given
-        long[] source = {};
-        long inputElement = Long.MIN_VALUE;
-        int fromIndex = 1;
+        String[] source = null;
+        String element = "a";
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfLong_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void indexesOfGeneric_ShouldReturnEmptyBitSet_WhenArrayIsEmpty() {
         // Given
-        long[] source = {Long.MIN_VALUE, Long.MAX_VALUE};
-        long inputElement = Long.MIN_VALUE;
-        int fromIndex = -1;
+        String[] source = {};
+        String element = "a";
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfLong_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+    void indexesOfGeneric_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
         // Given
-        long[] source = {Long.MIN_VALUE, Long.MAX_VALUE};
-        long inputElement = Long.MIN_VALUE;
-        int fromIndex = 3;
+        String[] source = {"a", "b", "a"};
+        String element = "a";
+        int fromIndex = -1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfLong_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+    void indexesOfGeneric_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanArraySize() {
         // Given
-        long[] source = {2, 1, 3};
-        long inputElement = 1;
-        int fromIndex = 1;
+        String[] source = {"a", "b", "a"};
+        String element = "a";
+        int fromIndex = 4;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
-        then(result.get(1)).isTrue();
-        then(result.cardinality()).isEqualTo(1);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfLong_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+    void indexesOfGeneric_ShouldReturnEmptyBitSet_WhenFromIndexIsEqualsArraySize() {
         // Given
-        long[] source = {1, 2, 1, 1, 3, 1};
-        long inputElement = 1;
-        int fromIndex = 5;
+        String[] source = {"a", "b", "a"};
+        String element = "a";
+        int fromIndex = 3;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        BitSet result = ArrayUtils.indexesOf(source, element, fromIndex);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(3)).isTrue();
-        then(result.get(5)).isTrue();
-        then(result.cardinality()).isEqualTo(4);
+        then(result).isNotNull();
+        then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfFloat_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+    void indexesOfGeneric_ShouldReturnsEmptyBitSet_WhenElementNotFound() {
         // Given
-        float[] source = null;
-        float inputElement = Float.MIN_VALUE;
+        String[] source = {"a", "b", "a"};
+        String element = "c";
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
+        then(result).isNotNull();
         then(result.isEmpty()).isTrue();
     }
 
     @Test
-    void lastIndexesOfFloat_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+    void indexesOfGeneric_ShouldReturnsBitSetWithIndex_WhenElementIsPresent() {
         // Given
-        float[] source = {};
-        float inputElement = Float.MIN_VALUE;
+        String[] source = {"a", "b", "a"};
+        String element = "a";
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        BitSet result = ArrayUtils.indexesOf(source, element);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isNotNull();
+        then(result.isEmpty()).isFalse();
+        then(result.stream().toArray())
+                .hasSize(2)
+                .containsExactly(0, 2);
     }
 
     @Test
-    void lastIndexesOfFloat_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        float[] source = {1.0F, 2.0F, 1.0F, 3.0F, 1.0F};
-        float inputElement = 1.0F;
+        boolean[] inputSource = null;
+        boolean inputElement = true;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        int actual = ArrayUtils.lastIndexOf(inputSource, inputElement);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(4)).isTrue();
-        then(result.cardinality()).isEqualTo(3);
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfFloat_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        float[] source = {1.0F, 2.0F, 3.0F};
-        float inputElement = Float.MIN_VALUE;
+        boolean[] inputSource = {};
+        boolean inputElement = true;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        int actual = ArrayUtils.lastIndexOf(inputSource, inputElement);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfFloat_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenElementDoesNotExist() {
         // Given
-        float[] source = null;
-        float inputElement = Float.MIN_VALUE;
-        int fromIndex = 1;
+        boolean[] source = {false, false, false};
+        boolean inputElement = true;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfFloat_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+    void lastIndexOfBoolean_ShouldReturnLastIndex_WhenElementExists() {
         // Given
-        float[] source = {};
-        float inputElement = Float.MIN_VALUE;
-        int fromIndex = 1;
+        boolean[] source = {true, false, true, false};
+        boolean inputElement = true;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void lastIndexesOfFloat_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
         // Given
-        float[] source = {Float.MIN_VALUE, Float.MAX_VALUE};
-        float inputElement = Float.MIN_VALUE;
-        int fromIndex = -1;
+        boolean[] source = null;
+        boolean inputElement = true;
+        int fromIndex = 0;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfFloat_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
         // Given
-        float[] source = {Float.MIN_VALUE, Float.MAX_VALUE};
-        float inputElement = Float.MIN_VALUE;
-        int fromIndex = 3;
+        boolean[] source = {};
+        boolean inputElement = true;
+        int fromIndex = 0;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfFloat_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        float[] source = {2.0F, 1.0F, 3.0F};
-        float inputElement = 1.0F;
-        int fromIndex = 1;
+        boolean[] source = {true, false};
+        boolean inputElement = true;
+        int fromIndex = -1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.get(1)).isTrue();
-        then(result.cardinality()).isEqualTo(1);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfFloat_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
         // Given
-        float[] source = {1.0F, 2.0F, 1.0F, 1.0F, 3.0F, 1.0F};
-        float inputElement = 1.0F;
-        int fromIndex = 5;
+        boolean[] source = {true, false};
+        boolean inputElement = true;
+        int fromIndex = 2;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(3)).isTrue();
-        then(result.get(5)).isTrue();
-        then(result.cardinality()).isEqualTo(4);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfDouble_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+    void lastIndexOfBoolean_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
         // Given
-        double[] source = null;
-        double inputElement = Double.MIN_VALUE;
+        boolean[] source = {false, false, true};
+        boolean inputElement = true;
+        int fromIndex = 1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfDouble_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+    void lastIndexOfBoolean_ShouldReturnLastMatchingIndexBeforeFromIndex_WhenElementExists() {
         // Given
-        double[] source = {};
-        double inputElement = Double.MIN_VALUE;
+        boolean[] source = {true, false, true, false};
+        boolean inputElement = true;
+        int fromIndex = 3;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void lastIndexesOfDouble_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+    void lastIndexOfByte_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        double[] source = {1.0, 2.0, 1.0, 3.0, 1.0};
-        double inputElement = 1.0;
+        byte[] inputSource = null;
+        byte inputElement = 127;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        int actual = ArrayUtils.lastIndexOf(inputSource, inputElement);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(4)).isTrue();
-        then(result.cardinality()).isEqualTo(3);
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfDouble_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+    void lastIndexOfByte_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        double[] source = {1.0, 2.0, 3.0};
-        double inputElement = Double.MIN_VALUE;
+        byte[] inputSource = {};
+        byte inputElement = 127;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        int actual = ArrayUtils.lastIndexOf(inputSource, inputElement);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfDouble_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+    void lastIndexOfByte_ShouldReturnMinusOne_WhenElementDoesNotExist() {
         // Given
-        double[] source = null;
-        double inputElement = Double.MIN_VALUE;
-        int fromIndex = 1;
+        byte[] source = {126, 125, 124};
+        byte inputElement = 127;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfDouble_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+    void lastIndexOfByte_ShouldReturnLastIndex_WhenElementExists() {
         // Given
-        double[] source = {};
-        double inputElement = Double.MIN_VALUE;
-        int fromIndex = 1;
+        byte[] source = {126, 125, 124, 123};
+        byte inputElement = 124;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void lastIndexesOfDouble_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void lastIndexOfByte_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
         // Given
-        double[] source = {Double.MIN_VALUE, Double.MAX_VALUE};
-        double inputElement = Double.MIN_VALUE;
-        int fromIndex = -1;
+        byte[] source = null;
+        byte inputElement = 127;
+        int fromIndex = 0;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfDouble_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+    void lastIndexOfByte_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
         // Given
-        double[] source = {Double.MIN_VALUE, Double.MAX_VALUE};
-        double inputElement = Double.MIN_VALUE;
-        int fromIndex = 3;
+        byte[] source = {};
+        byte inputElement = 127;
+        int fromIndex = 0;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfDouble_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+    void lastIndexOfByte_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        double[] source = {2.0, 1.0, 3.0};
-        double inputElement = 1.0;
-        int fromIndex = 1;
+        byte[] source = {127, 126, 125, 124};
+        byte inputElement = 127;
+        int fromIndex = -1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.get(1)).isTrue();
-        then(result.cardinality()).isEqualTo(1);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfDouble_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+    void lastIndexOfByte_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
         // Given
-        double[] source = {1.0, 2.0, 1.0, 1.0, 3.0, 1.0};
-        double inputElement = 1.0;
-        int fromIndex = 5;
+        byte[] source = {127, 126};
+        byte inputElement = 127;
+        int fromIndex = 2;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(3)).isTrue();
-        then(result.get(5)).isTrue();
-        then(result.cardinality()).isEqualTo(4);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfGeneric_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+    void lastIndexOfByte_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
         // Given
-        String[] source = null;
-        String inputElement = "A";
+        byte[] source = {127, 126, 125, 124};
+        byte inputElement = 124;
+        int fromIndex = 1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfGeneric_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+    void lastIndexOfByte_ShouldReturnLastMatchingIndexBeforeFromIndex_WhenElementExists() {
         // Given
-        String[] source = {};
-        String inputElement = "A";
+        byte[] source = {127, 126, 125, 124};
+        byte inputElement = 125;
+        int fromIndex = 3;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void lastIndexesOfGeneric_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+    void lastIndexOfChar_ShouldReturnMinusOne_WhenArrayIsNull() {
         // Given
-        String[] source = {"A", "B", "A", "C", "A"};
-        String inputElement = "A";
+        char[] inputSource = null;
+        char inputElement = 'a';
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        int actual = ArrayUtils.lastIndexOf(inputSource, inputElement);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(4)).isTrue();
-        then(result.cardinality()).isEqualTo(3);
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfGeneric_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+    void lastIndexOfChar_ShouldReturnMinusOne_WhenArrayIsEmpty() {
         // Given
-        String[] source = {"B", "C", "D"};
-        String inputElement = "A";
+        char[] inputSource = {};
+        char inputElement = 'a';
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+        int actual = ArrayUtils.lastIndexOf(inputSource, inputElement);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfGeneric_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+    void lastIndexOfChar_ShouldReturnMinusOne_WhenElementDoesNotExist() {
         // Given
-        Integer[] source = null;
-        Integer inputElement = Integer.MIN_VALUE;
-        int fromIndex = 1;
+        char[] source = {'a', 'b', 'c'};
+        char inputElement = 'd';
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfGeneric_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+    void lastIndexOfChar_ShouldReturnLastIndex_WhenElementExists() {
         // Given
-        Integer[] source = {};
-        Integer inputElement = Integer.MIN_VALUE;
-        int fromIndex = 1;
+        char[] source = {'a', 'b', 'c', 'd'};
+        char inputElement = 'c';
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void lastIndexesOfGeneric_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+    void lastIndexOfChar_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
         // Given
-        Integer[] source = {1, 2, 3};
-        Integer inputElement = 1;
-        int fromIndex = -1;
+        char[] source = null;
+        char inputElement = 'a';
+        int fromIndex = 0;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfGeneric_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+    void lastIndexOfChar_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
         // Given
-        Double[] source = {Double.MIN_VALUE, Double.MAX_VALUE};
-        Double inputElement = Double.MIN_VALUE;
-        int fromIndex = 3;
+        char[] source = {};
+        char inputElement = 'a';
+        int fromIndex = 0;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.isEmpty()).isTrue();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfGeneric_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+    void lastIndexOfChar_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        Long[] source = {2L, 1L, 3L};
-        Long inputElement = 1L;
-        int fromIndex = 1;
+        char[] source = {'a', 'b', 'c', 'd'};
+        char inputElement = 'c';
+        int fromIndex = -1;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.get(1)).isTrue();
-        then(result.cardinality()).isEqualTo(1);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void lastIndexesOfGeneric_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+    void lastIndexOfChar_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
         // Given
-        Long[] source = {1L, 2L, 1L, 1L, 3L, 1L};
-        Long inputElement = 1L;
-        int fromIndex = 5;
+        char[] source = {'a', 'b'};
+        char inputElement = 'b';
+        int fromIndex = 2;
 
         // When
-        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(result.get(0)).isTrue();
-        then(result.get(2)).isTrue();
-        then(result.get(3)).isTrue();
-        then(result.get(5)).isTrue();
-        then(result.cardinality()).isEqualTo(4);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeBoolean_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+    void lastIndexOfChar_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
         // Given
-        boolean[] inputArray1 = null;
-        boolean[] inputArray2 = null;
+        char[] source = {'a', 'b', 'c', 'd'};
+        char inputElement = 'd';
+        int fromIndex = 2;
 
         // When
-        boolean[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeBoolean_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+    void lastIndexOfChar_ShouldReturnLastMatchingIndexBeforeFromIndex_WhenElementExists() {
         // Given
-        boolean[] inputArray1 = new boolean[0];
-        boolean[] inputArray2 = new boolean[0];
+        char[] source = {'a', 'b', 'c', 'd'};
+        char inputElement = 'c';
+        int fromIndex = 3;
 
         // When
-        boolean[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .isEmpty();
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void mergeBoolean_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+    void lastIndexOfShort_ShouldReturnMinusOne_WhenSourceIsNull() {
         // Given
-        boolean[] inputArray1 = null;
-        boolean[] inputArray2 = new boolean[]{true, false};
+        short[] source = null;
+        short inputElement = 1;
 
         // When
-        boolean[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly(true, false);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeBoolean_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+    void lastIndexOfShort_ShouldReturnMinusOne_WhenSourceIsEmpty() {
         // Given
-        boolean[] inputArray1 = new boolean[0];
-        boolean[] inputArray2 = new boolean[]{true, false};
+        short[] source = {};
+        short inputElement = 1;
 
         // When
-        boolean[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly(true, false);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeBoolean_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+    void lastIndexOfShort_ShouldReturnMinusOne_WhenElementDoesNotExist() {
         // Given
-        boolean[] inputArray1 = new boolean[]{true, false};
-        boolean[] inputArray2 = null;
+        short[] source = {2, 3};
+        short inputElement = 1;
 
         // When
-        boolean[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly(true, false);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeBoolean_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+    void lastIndexOfShort_ShouldReturnLastOccurrenceIndex_WhenElementExists() {
         // Given
-        boolean[] inputArray1 = new boolean[]{true, false};
-        boolean[] inputArray2 = new boolean[0];
+        short[] source = {1, 2, 1, 3};
+        short inputElement = 1;
 
         // When
-        boolean[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly(true, false);
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void mergeBoolean_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+    void lastIndexOfShort_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
         // Given
-        boolean[] inputArray1 = new boolean[]{true, false};
-        boolean[] inputArray2 = new boolean[]{false, true};
+        short[] source = null;
+        short inputElement = Short.MIN_VALUE;
+        int fromIndex = 0;
 
         // When
-        boolean[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .hasSize(4)
-                .containsExactly(true, false, false, true);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeByte_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+    void lastIndexOfShort_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
         // Given
-        byte[] inputArray1 = null;
-        byte[] inputArray2 = null;
+        short[] source = {};
+        short inputElement = Short.MIN_VALUE;
+        int fromIndex = 0;
 
         // When
-        byte[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeByte_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+    void lastIndexOfShort_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        byte[] inputArray1 = new byte[0];
-        byte[] inputArray2 = new byte[0];
+        short[] source = {1, 2};
+        short inputElement = 1;
+        int fromIndex = -1;
 
         // When
-        byte[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .isEmpty();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeByte_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+    void lastIndexOfShort_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
         // Given
-        byte[] inputArray1 = null;
-        byte[] inputArray2 = new byte[]{-128, -127};
+        short[] source = {1, 2};
+        short inputElement = 1;
+        int fromIndex = 2;
 
         // When
-        byte[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly(-128, -127);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeByte_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+    void lastIndexOfShort_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
         // Given
-        byte[] inputArray1 = new byte[0];
-        byte[] inputArray2 = new byte[]{-128, -127};
+        short[] source = {2, 2, 2};
+        short inputElement = 1;
+        int fromIndex = 2;
 
         // When
-        byte[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly(-128, -127);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeByte_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+    void lastIndexOfShort_ShouldReturnLastOccurrenceBeforeFromIndex_WhenElementExists() {
         // Given
-        byte[] inputArray1 = new byte[]{-128, -127};
-        byte[] inputArray2 = null;
+        short[] source = {1, 2, 1, 3};
+        short inputElement = 1;
+        int fromIndex = 3;
 
         // When
-        byte[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly(-128, -127);
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void mergeByte_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+    void lastIndexOfInt_ShouldReturnMinusOne_WhenSourceIsNull() {
         // Given
-        byte[] inputArray1 = new byte[]{-128, -127};
-        byte[] inputArray2 = new byte[0];
+        int[] source = null;
+        int inputElement = 1;
 
         // When
-        byte[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly(-128, -127);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeByte_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+    void lastIndexOfInt_ShouldReturnMinusOne_WhenSourceIsEmpty() {
         // Given
-        byte[] inputArray1 = new byte[]{-128, -127};
-        byte[] inputArray2 = new byte[]{-126, -125};
+        int[] source = {};
+        int inputElement = 1;
 
         // When
-        byte[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .hasSize(4)
-                .containsExactly(-128, -127, -126, -125);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeChar_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+    void lastIndexOfInt_ShouldReturnMinusOne_WhenElementDoesNotExist() {
         // Given
-        char[] inputArray1 = null;
-        char[] inputArray2 = null;
+        int[] source = {2, 3};
+        int inputElement = 1;
 
         // When
-        char[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeChar_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+    void lastIndexOfInt_ShouldReturnLastOccurrenceIndex_WhenElementExists() {
         // Given
-        char[] inputArray1 = new char[0];
-        char[] inputArray2 = new char[0];
+        int[] source = {1, 2, 1, 3};
+        int inputElement = 1;
 
         // When
-        char[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .isEmpty();
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void mergeChar_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+    void lastIndexOfInt_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
         // Given
-        char[] inputArray1 = null;
-        char[] inputArray2 = new char[]{'a', 'b'};
+        int[] source = null;
+        int inputElement = Integer.MIN_VALUE;
+        int fromIndex = 0;
 
         // When
-        char[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly('a', 'b');
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeChar_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+    void lastIndexOfInt_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
         // Given
-        char[] inputArray1 = new char[0];
-        char[] inputArray2 = new char[]{'a', 'b'};
+        int[] source = {};
+        int inputElement = Integer.MIN_VALUE;
+        int fromIndex = 0;
 
         // When
-        char[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly('a', 'b');
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeChar_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+    void lastIndexOfInt_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        char[] inputArray1 = new char[]{'a', 'b'};
-        char[] inputArray2 = null;
+        int[] source = {1, 2};
+        int inputElement = 1;
+        int fromIndex = -1;
 
         // When
-        char[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly('a', 'b');
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeChar_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+    void lastIndexOfInt_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
         // Given
-        char[] inputArray1 = new char[]{'a', 'b'};
-        char[] inputArray2 = new char[0];
+        int[] source = {1, 2};
+        int inputElement = 1;
+        int fromIndex = 2;
 
         // When
-        char[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly('a', 'b');
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeChar_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+    void lastIndexOfInt_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
         // Given
-        char[] inputArray1 = new char[]{'a', 'b'};
-        char[] inputArray2 = new char[]{'c', 'd'};
+        int[] source = {2, 2, 2};
+        int inputElement = 1;
+        int fromIndex = 2;
 
         // When
-        char[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .hasSize(4)
-                .containsExactly('a', 'b', 'c', 'd');
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeShort_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+    void lastIndexOfInt_ShouldReturnLastOccurrenceBeforeFromIndex_WhenElementExists() {
         // Given
-        short[] inputArray1 = null;
-        short[] inputArray2 = null;
+        int[] source = {1, 2, 1, 3};
+        int inputElement = 1;
+        int fromIndex = 3;
 
         // When
-        short[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void mergeShort_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+    void lastIndexOfLong_ShouldReturnMinusOne_WhenSourceIsNull() {
         // Given
-        short[] inputArray1 = new short[0];
-        short[] inputArray2 = new short[0];
+        long[] source = null;
+        long inputElement = 10L;
 
         // When
-        short[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .isEmpty();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeShort_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+    void lastIndexOfLong_ShouldReturnMinusOne_WhenSourceIsEmpty() {
         // Given
-        short[] inputArray1 = null;
-        short[] inputArray2 = new short[]{32767, 32766};
+        long[] source = {};
+        long inputElement = 10L;
 
         // When
-        short[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly(32767, 32766);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeShort_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+    void lastIndexOfLong_ShouldReturnMinusOne_WhenElementDoesNotExist() {
         // Given
-        short[] inputArray1 = new short[0];
-        short[] inputArray2 = new short[]{32767, 32766};
+        long[] source = {20L, 30L};
+        long inputElement = 10L;
 
         // When
-        short[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly(32767, 32766);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeShort_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+    void lastIndexOfLong_ShouldReturnLastOccurrenceIndex_WhenElementExists() {
         // Given
-        short[] inputArray1 = new short[]{32767, 32766};
-        short[] inputArray2 = null;
+        long[] source = {10L, 20L, 10L};
+        long inputElement = 10L;
 
         // When
-        short[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly(32767, 32766);
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void mergeShort_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+    void lastIndexOfLong_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
         // Given
-        short[] inputArray1 = new short[]{32767, 32766};
-        short[] inputArray2 = new short[0];
+        long[] source = null;
+        long inputElement = Long.MIN_VALUE;
+        int fromIndex = 0;
 
         // When
-        short[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly(32767, 32766);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeShort_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+    void lastIndexOfLong_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
         // Given
-        short[] inputArray1 = new short[]{32767, 32766};
-        short[] inputArray2 = new short[]{32765, 32764};
+        long[] source = {};
+        long inputElement = Long.MIN_VALUE;
+        int fromIndex = 0;
 
         // When
-        short[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .hasSize(4)
-                .containsExactly(32767, 32766, 32765, 32764);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeInt_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+    void lastIndexOfLong_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        int[] inputArray1 = null;
-        int[] inputArray2 = null;
+        long[] source = {10L, 20L};
+        long inputElement = 10L;
+        int fromIndex = -1;
 
         // When
-        int[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeInt_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+    void lastIndexOfLong_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
         // Given
-        int[] inputArray1 = new int[0];
-        int[] inputArray2 = new int[0];
+        long[] source = {10L, 20L};
+        long inputElement = 10L;
+        int fromIndex = 2;
 
         // When
-        int[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .isEmpty();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeInt_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+    void lastIndexOfLong_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
         // Given
-        int[] inputArray1 = null;
-        int[] inputArray2 = new int[]{1, 2};
+        long[] source = {20L, 20L};
+        long inputElement = 10L;
+        int fromIndex = 1;
 
         // When
-        int[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly(1, 2);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeInt_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+    void lastIndexOfLong_ShouldReturnLastOccurrenceBeforeFromIndex_WhenElementExists() {
         // Given
-        int[] inputArray1 = new int[0];
-        int[] inputArray2 = new int[]{1, 2};
+        long[] source = {10L, 20L, 10L};
+        long inputElement = 10L;
+        int fromIndex = 2;
 
         // When
-        int[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly(1, 2);
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void mergeInt_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+    void lastIndexOfFloat_ShouldReturnMinusOne_WhenSourceIsNull() {
         // Given
-        int[] inputArray1 = new int[]{1, 2};
-        int[] inputArray2 = null;
+        float[] source = null;
+        float inputElement = 1.1F;
 
         // When
-        int[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly(1, 2);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeInt_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+    void lastIndexOfFloat_ShouldReturnMinusOne_WhenSourceIsEmpty() {
         // Given
-        int[] inputArray1 = new int[]{1, 2};
-        int[] inputArray2 = new int[0];
+        float[] source = {};
+        float inputElement = 1.1F;
 
         // When
-        int[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly(1, 2);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeInt_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+    void lastIndexOfFloat_ShouldReturnMinusOne_WhenElementDoesNotExist() {
         // Given
-        int[] inputArray1 = new int[]{1, 2};
-        int[] inputArray2 = new int[]{3, 4};
+        float[] source = {2.2F, 3.3F};
+        float inputElement = 1.1F;
 
         // When
-        int[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .hasSize(4)
-                .containsExactly(1, 2, 3, 4);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeLong_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+    void lastIndexOfFloat_ShouldReturnLastOccurrenceIndex_WhenElementExists() {
         // Given
-        long[] inputArray1 = null;
-        long[] inputArray2 = null;
-
+        float[] source = {1.1F, 2.2F, 1.1F};
+        float inputElement = 1.1F;
+
         // When
-        long[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void mergeLong_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+    void lastIndexOfFloat_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
         // Given
-        long[] inputArray1 = new long[0];
-        long[] inputArray2 = new long[0];
+        float[] source = null;
+        float inputElement = Float.MIN_VALUE;
+        int fromIndex = 0;
 
         // When
-        long[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .isEmpty();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeLong_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+    void lastIndexOfFloat_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
         // Given
-        long[] inputArray1 = null;
-        long[] inputArray2 = new long[]{1L, 2L};
+        float[] source = {};
+        float inputElement = Float.MIN_VALUE;
+        int fromIndex = 0;
 
         // When
-        long[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly(1L, 2L);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeLong_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+    void lastIndexOfFloat_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        long[] inputArray1 = new long[0];
-        long[] inputArray2 = new long[]{1L, 2L};
+        float[] source = {1.1F, 2.2F};
+        float inputElement = 1.1F;
+        int fromIndex = -1;
 
         // When
-        long[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly(1L, 2L);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeLong_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+    void lastIndexOfFloat_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
         // Given
-        long[] inputArray1 = new long[]{1L, 2L};
-        long[] inputArray2 = null;
+        float[] source = {1.1F, 2.2F};
+        float inputElement = 1.1F;
+        int fromIndex = 2;
 
         // When
-        long[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly(1L, 2L);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeLong_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+    void lastIndexOfFloat_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
         // Given
-        long[] inputArray1 = new long[]{1L, 2L};
-        long[] inputArray2 = new long[0];
+        float[] source = {2.2F, 2.2F};
+        float inputElement = 1.1F;
+        int fromIndex = 1;
 
         // When
-        long[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly(1L, 2L);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeLong_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+    void lastIndexOfFloat_ShouldReturnLastOccurrenceBeforeFromIndex_WhenElementExists() {
         // Given
-        long[] inputArray1 = new long[]{1L, 2L};
-        long[] inputArray2 = new long[]{3L, 4L};
+        float[] source = {1.1F, 2.2F, 1.1F};
+        float inputElement = 1.1F;
+        int fromIndex = 2;
 
         // When
-        long[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .hasSize(4)
-                .containsExactly(1L, 2L, 3L, 4L);
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void mergeFloat_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+    void lastIndexOfDouble_ShouldReturnMinusOne_WhenSourceIsNull() {
         // Given
-        float[] inputArray1 = null;
-        float[] inputArray2 = null;
+        double[] source = null;
+        double inputElement = 1.5;
 
         // When
-        float[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeFloat_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+    void lastIndexOfDouble_ShouldReturnMinusOne_WhenSourceIsEmpty() {
         // Given
-        float[] inputArray1 = new float[0];
-        float[] inputArray2 = new float[0];
+        double[] source = {};
+        double inputElement = 1.5;
 
         // When
-        float[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .isEmpty();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeFloat_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+    void lastIndexOfDouble_ShouldReturnMinusOne_WhenElementDoesNotExist() {
         // Given
-        float[] inputArray1 = null;
-        float[] inputArray2 = new float[]{1.0F, 2.0F};
+        double[] source = {2.5, 3.5};
+        double inputElement = 1.5;
 
         // When
-        float[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly(1.0F, 2.0F);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeFloat_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+    void lastIndexOfDouble_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
         // Given
-        float[] inputArray1 = new float[0];
-        float[] inputArray2 = new float[]{1.0F, 2.0F};
+        double[] source = {1.5, 2.5};
+        double inputElement = 1.5;
+        int fromIndex = -1;
 
         // When
-        float[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly(1.0F, 2.0F);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeFloat_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+    void lastIndexOfDouble_ShouldReturnLastOccurrenceIndex_WhenElementExists() {
         // Given
-        float[] inputArray1 = new float[]{1.0F, 2.0F};
-        float[] inputArray2 = null;
+        double[] source = {1.5, 2.5, 1.5};
+        double inputElement = 1.5;
 
         // When
-        float[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly(1.0F, 2.0F);
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void mergeFloat_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+    void lastIndexOfDouble_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
         // Given
-        float[] inputArray1 = new float[]{1.0F, 2.0F};
-        float[] inputArray2 = new float[0];
+        double[] source = null;
+        double inputElement = Double.MIN_VALUE;
+        int fromIndex = 0;
 
         // When
-        float[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly(1.0F, 2.0F);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeFloat_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+    void lastIndexOfDouble_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
         // Given
-        float[] inputArray1 = new float[]{1.0F, 2.0F};
-        float[] inputArray2 = new float[]{3.0F, 4.0F};
+        double[] source = {};
+        double inputElement = Double.MIN_VALUE;
+        int fromIndex = 0;
 
         // When
-        float[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .hasSize(4)
-                .containsExactly(1.0F, 2.0F, 3.0F, 4.0F);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeDouble_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+    void lastIndexOfDouble_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
         // Given
-        double[] inputArray1 = null;
-        double[] inputArray2 = null;
+        double[] source = {1.5, 2.5};
+        double inputElement = 1.5;
+        int fromIndex = 2;
 
         // When
-        double[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeDouble_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+    void lastIndexOfDouble_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
         // Given
-        double[] inputArray1 = new double[0];
-        double[] inputArray2 = new double[0];
+        double[] source = {2.5, 2.5};
+        double inputElement = 1.5;
+        int fromIndex = 1;
 
         // When
-        double[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .isEmpty();
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeDouble_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+    void lastIndexOfDouble_ShouldReturnLastOccurrenceBeforeFromIndex_WhenElementExists() {
         // Given
-        double[] inputArray1 = null;
-        double[] inputArray2 = new double[]{1.0, 2.0};
+        double[] source = {1.5, 2.5, 1.5};
+        double inputElement = 1.5;
+        int fromIndex = 2;
 
         // When
-        double[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly(1.0, 2.0);
+        then(result).isEqualTo(2);
     }
 
     @Test
-    void mergeDouble_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenSourceIsNull() {
         // Given
-        double[] inputArray1 = new double[0];
-        double[] inputArray2 = new double[]{1.0, 2.0};
+        String[] source = null;
+        String inputElement = "A";
 
         // When
-        double[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly(1.0, 2.0);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeDouble_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenSourceIsEmpty() {
         // Given
-        double[] inputArray1 = new double[]{1.0, 2.0};
-        double[] inputArray2 = null;
+        String[] source = {};
+        String inputElement = "A";
 
         // When
-        double[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly(1.0, 2.0);
+        then(result).isEqualTo(INDEX_NOT_FOUND);
     }
 
     @Test
-    void mergeDouble_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenElementDoesNotExist() {
+        // Given
+        String[] source = {"B", "C"};
+        String inputElement = "A";
+
+        // When
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
+
+        // Then
+        then(result).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void lastIndexOfGeneric_ShouldReturnLastOccurrenceIndex_WhenElementExists() {
+        // Given
+        String[] source = {"A", "B", "A"};
+        String inputElement = "A";
+
+        // When
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
+
+        // Then
+        then(result).isEqualTo(2);
+    }
+
+    @Test
+    void lastIndexOfGeneric_ShouldReturnLastNullIndex_WhenElementIsNull() {
+        // Given
+        String[] source = {"A", null, "B", null};
+        String inputElement = null;
+
+        // When
+        int result = ArrayUtils.lastIndexOf(source, inputElement);
+
+        // Then
+        then(result).isEqualTo(3);
+    }
+
+    @Test
+    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenSourceIsNullAndFromIndexProvided() {
+        // Given
+        String[] source = null;
+        String inputElement = "A";
+        int fromIndex = 0;
+
+        // When
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenSourceIsEmptyAndFromIndexProvided() {
+        // Given
+        String[] source = {};
+        String inputElement = "A";
+        int fromIndex = 0;
+
+        // When
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenElementIsNullAndNoNullExists() {
+        // Given
+        String[] source = {"A", "B", "C"};
+        String inputElement = null;
+        int fromIndex = 2;
+
+        // When
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenFromIndexIsNegative() {
+        // Given
+        String[] source = {"A", "B"};
+        String inputElement = "A";
+        int fromIndex = -1;
+
+        // When
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenFromIndexIsGreaterThanArrayLength() {
+        // Given
+        String[] source = {"A", "B"};
+        String inputElement = "A";
+        int fromIndex = 2;
+
+        // When
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenNoMatchingElementFoundBeforeFromIndex() {
+        // Given
+        String[] source = {"B", "B"};
+        String inputElement = "A";
+        int fromIndex = 1;
+
+        // When
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenElementTypeMatchesButNotFound() {
+        // Given
+        String[] source = {"A", "B", "C"};
+        String inputElement = "D";
+        int fromIndex = 2;
+
+        // When
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void lastIndexOfGeneric_ShouldReturnMinusOne_WhenElementTypeIsNotInstanceOfArrayType() {
+        // Given
+        Number[] source = {1, 2, 3};
+        String inputElement = "2";
+        int fromIndex = 2;
+
+        // When
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void lastIndexOfGeneric_ShouldReturnLastIndex_WhenElementAfterFromIndexOnly() {
+        // Given
+        String[] source = {"A", "B", "C", "A"};
+        String inputElement = "A";
+        int fromIndex = 2;
+
+        // When
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result).isEqualTo(0);
+    }
+
+    @Test
+    void lastIndexOfGeneric_ShouldReturnLastIndex_WhenElementTypeIsIncompatible() {
+        // Given
+        Number[] source = {1, 2, 3};
+        Integer inputElement = 2;
+        int fromIndex = 2;
+
+        // When
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result).isEqualTo(1);
+    }
+
+    @Test
+    void lastIndexOfGeneric_ShouldReturnLastOccurrenceBeforeFromIndex_WhenElementExists() {
+        // Given
+        String[] source = {"A", "B", "A"};
+        String inputElement = "A";
+        int fromIndex = 2;
+
+        // When
+        int result = ArrayUtils.lastIndexOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result).isEqualTo(2);
+    }
+
+    @Test
+    void lastIndexesOfBoolean_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+        // Given
+        boolean[] source = null;
+        boolean inputElement = true;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfBoolean_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+        // Given
+        boolean[] source = {};
+        boolean inputElement = true;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfBoolean_ShouldReturnIndexes_WhenElementExists() {
+        // Given
+        boolean[] source = {true, false, true, false, true};
+        boolean inputElement = true;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(4)).isTrue();
+        then(result.cardinality()).isEqualTo(3);
+    }
+
+    @Test
+    void lastIndexesOfBoolean_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+        // Given
+        boolean[] source = {false, false, false};
+        boolean inputElement = true;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfBoolean_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+        // Given
+        boolean[] source = null;
+        boolean inputElement = true;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfBoolean_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+        // Given
+        boolean[] source = {};
+        boolean inputElement = true;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfBoolean_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+        // Given
+        boolean[] source = {true, false};
+        boolean inputElement = true;
+        int fromIndex = -1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfBoolean_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+        // Given
+        boolean[] source = {true, false};
+        boolean inputElement = true;
+        int fromIndex = 3;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfBoolean_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+        // Given
+        boolean[] source = {false, true, false};
+        boolean inputElement = true;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(1)).isTrue();
+        then(result.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void lastIndexesOfBoolean_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+        // Given
+        boolean[] source = {true, false, true, true, false, true};
+        boolean inputElement = true;
+        int fromIndex = 5;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(3)).isTrue();
+        then(result.get(5)).isTrue();
+        then(result.cardinality()).isEqualTo(4);
+    }
+
+    @Test
+    void lastIndexesOfByte_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+        // Given
+        byte[] source = null;
+        byte inputElement = 127;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfByte_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+        // Given
+        byte[] source = {};
+        byte inputElement = 127;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfByte_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+        // Given
+        byte[] source = {127, 126, 127, 125, 127};
+        byte inputElement = 127;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(4)).isTrue();
+        then(result.cardinality()).isEqualTo(3);
+    }
+
+    @Test
+    void lastIndexesOfByte_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+        // Given
+        byte[] source = {126, 125, 124};
+        byte inputElement = 127;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfByte_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+        // Given
+        byte[] source = null;
+        byte inputElement = 127;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfByte_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+        // Given
+        byte[] source = {};
+        byte inputElement = 127;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfByte_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+        // Given
+        byte[] source = {127, 126};
+        byte inputElement = 127;
+        int fromIndex = -1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfByte_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+        // Given
+        byte[] source = {127, 126};
+        byte inputElement = 127;
+        int fromIndex = 3;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfByte_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+        // Given
+        byte[] source = {126, 127, 125};
+        byte inputElement = 127;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(1)).isTrue();
+        then(result.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void lastIndexesOfByte_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+        // Given
+        byte[] source = {127, 126, 127, 127, 125, 127};
+        byte inputElement = 127;
+        int fromIndex = 5;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(3)).isTrue();
+        then(result.get(5)).isTrue();
+        then(result.cardinality()).isEqualTo(4);
+    }
+
+    @Test
+    void lastIndexesOfChar_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+        // Given
+        char[] source = null;
+        char inputElement = 'a';
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfChar_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+        // Given
+        char[] source = {};
+        char inputElement = 'a';
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfChar_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+        // Given
+        char[] source = {'a', 'b', 'a', 'c', 'a'};
+        char inputElement = 'a';
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(4)).isTrue();
+        then(result.cardinality()).isEqualTo(3);
+    }
+
+    @Test
+    void lastIndexesOfChar_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+        // Given
+        char[] source = {'b', 'c', 'd'};
+        char inputElement = 'a';
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfChar_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+        // Given
+        char[] source = null;
+        char inputElement = 'a';
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfChar_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+        // Given
+        char[] source = {};
+        char inputElement = 'a';
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfChar_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+        // Given
+        char[] source = {'a', 'b'};
+        char inputElement = 'a';
+        int fromIndex = -1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfChar_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+        // Given
+        char[] source = {'a', 'b'};
+        char inputElement = 'a';
+        int fromIndex = 3;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfChar_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+        // Given
+        char[] source = {'b', 'a', 'c'};
+        char inputElement = 'a';
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(1)).isTrue();
+        then(result.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void lastIndexesOfChar_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+        // Given
+        char[] source = {'a', 'b', 'a', 'a', 'c', 'a'};
+        char inputElement = 'a';
+        int fromIndex = 5;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(3)).isTrue();
+        then(result.get(5)).isTrue();
+        then(result.cardinality()).isEqualTo(4);
+    }
+
+    @Test
+    void lastIndexesOfShort_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+        // Given
+        short[] source = null;
+        short inputElement = Short.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfShort_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+        // Given
+        short[] source = {};
+        short inputElement = Short.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfShort_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+        // Given
+        short[] source = {1, 2, 1, 3, 1};
+        short inputElement = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(4)).isTrue();
+        then(result.cardinality()).isEqualTo(3);
+    }
+
+    @Test
+    void lastIndexesOfShort_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+        // Given
+        short[] source = {1, 2, 3};
+        short inputElement = Short.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfShort_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+        // Given
+        short[] source = null;
+        short inputElement = Short.MIN_VALUE;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfShort_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+        // Given
+        short[] source = {};
+        short inputElement = Short.MIN_VALUE;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfShort_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+        // Given
+        short[] source = {Short.MIN_VALUE, Short.MAX_VALUE};
+        short inputElement = Short.MIN_VALUE;
+        int fromIndex = -1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfShort_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+        // Given
+        short[] source = {Short.MIN_VALUE, Short.MAX_VALUE};
+        short inputElement = Short.MIN_VALUE;
+        int fromIndex = 3;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfShort_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+        // Given
+        short[] source = {2, 1, 3};
+        short inputElement = 1;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(1)).isTrue();
+        then(result.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void lastIndexesOfShort_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+        // Given
+        short[] source = {1, 2, 1, 1, 3, 1};
+        short inputElement = 1;
+        int fromIndex = 5;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(3)).isTrue();
+        then(result.get(5)).isTrue();
+        then(result.cardinality()).isEqualTo(4);
+    }
+
+    @Test
+    void lastIndexesOfInt_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+        // Given
+        int[] source = null;
+        int inputElement = Integer.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfInt_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+        // Given
+        int[] source = {};
+        int inputElement = Integer.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfInt_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+        // Given
+        int[] source = {1, 2, 1, 3, 1};
+        int inputElement = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(4)).isTrue();
+        then(result.cardinality()).isEqualTo(3);
+    }
+
+    @Test
+    void lastIndexesOfInt_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+        // Given
+        int[] source = {1, 2, 3};
+        int inputElement = Integer.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfInt_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+        // Given
+        int[] source = null;
+        int inputElement = Integer.MIN_VALUE;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfInt_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+        // Given
+        int[] source = {};
+        int inputElement = Integer.MIN_VALUE;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfInt_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+        // Given
+        int[] source = {Integer.MIN_VALUE, Integer.MAX_VALUE};
+        int inputElement = Integer.MIN_VALUE;
+        int fromIndex = -1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfInt_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+        // Given
+        int[] source = {Integer.MIN_VALUE, Integer.MAX_VALUE};
+        int inputElement = Integer.MIN_VALUE;
+        int fromIndex = 3;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfInt_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+        // Given
+        int[] source = {2, 1, 3};
+        int inputElement = 1;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(1)).isTrue();
+        then(result.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void lastIndexesOfInt_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+        // Given
+        int[] source = {1, 2, 1, 1, 3, 1};
+        int inputElement = 1;
+        int fromIndex = 5;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(3)).isTrue();
+        then(result.get(5)).isTrue();
+        then(result.cardinality()).isEqualTo(4);
+    }
+
+    @Test
+    void lastIndexesOfLong_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+        // Given
+        long[] source = null;
+        long inputElement = Long.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfLong_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+        // Given
+        long[] source = {};
+        long inputElement = Long.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfLong_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+        // Given
+        long[] source = {1, 2, 1, 3, 1};
+        long inputElement = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(4)).isTrue();
+        then(result.cardinality()).isEqualTo(3);
+    }
+
+    @Test
+    void lastIndexesOfLong_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+        // Given
+        long[] source = {1, 2, 3};
+        long inputElement = Long.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfLong_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+        // Given
+        long[] source = null;
+        long inputElement = Long.MIN_VALUE;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfLong_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+        // Given
+        long[] source = {};
+        long inputElement = Long.MIN_VALUE;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfLong_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+        // Given
+        long[] source = {Long.MIN_VALUE, Long.MAX_VALUE};
+        long inputElement = Long.MIN_VALUE;
+        int fromIndex = -1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfLong_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+        // Given
+        long[] source = {Long.MIN_VALUE, Long.MAX_VALUE};
+        long inputElement = Long.MIN_VALUE;
+        int fromIndex = 3;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfLong_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+        // Given
+        long[] source = {2, 1, 3};
+        long inputElement = 1;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(1)).isTrue();
+        then(result.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void lastIndexesOfLong_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+        // Given
+        long[] source = {1, 2, 1, 1, 3, 1};
+        long inputElement = 1;
+        int fromIndex = 5;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(3)).isTrue();
+        then(result.get(5)).isTrue();
+        then(result.cardinality()).isEqualTo(4);
+    }
+
+    @Test
+    void lastIndexesOfFloat_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+        // Given
+        float[] source = null;
+        float inputElement = Float.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfFloat_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+        // Given
+        float[] source = {};
+        float inputElement = Float.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfFloat_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+        // Given
+        float[] source = {1.0F, 2.0F, 1.0F, 3.0F, 1.0F};
+        float inputElement = 1.0F;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(4)).isTrue();
+        then(result.cardinality()).isEqualTo(3);
+    }
+
+    @Test
+    void lastIndexesOfFloat_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+        // Given
+        float[] source = {1.0F, 2.0F, 3.0F};
+        float inputElement = Float.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfFloat_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+        // Given
+        float[] source = null;
+        float inputElement = Float.MIN_VALUE;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfFloat_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+        // Given
+        float[] source = {};
+        float inputElement = Float.MIN_VALUE;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfFloat_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+        // Given
+        float[] source = {Float.MIN_VALUE, Float.MAX_VALUE};
+        float inputElement = Float.MIN_VALUE;
+        int fromIndex = -1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfFloat_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+        // Given
+        float[] source = {Float.MIN_VALUE, Float.MAX_VALUE};
+        float inputElement = Float.MIN_VALUE;
+        int fromIndex = 3;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfFloat_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+        // Given
+        float[] source = {2.0F, 1.0F, 3.0F};
+        float inputElement = 1.0F;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(1)).isTrue();
+        then(result.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void lastIndexesOfFloat_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+        // Given
+        float[] source = {1.0F, 2.0F, 1.0F, 1.0F, 3.0F, 1.0F};
+        float inputElement = 1.0F;
+        int fromIndex = 5;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(3)).isTrue();
+        then(result.get(5)).isTrue();
+        then(result.cardinality()).isEqualTo(4);
+    }
+
+    @Test
+    void lastIndexesOfDouble_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+        // Given
+        double[] source = null;
+        double inputElement = Double.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfDouble_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+        // Given
+        double[] source = {};
+        double inputElement = Double.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfDouble_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+        // Given
+        double[] source = {1.0, 2.0, 1.0, 3.0, 1.0};
+        double inputElement = 1.0;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(4)).isTrue();
+        then(result.cardinality()).isEqualTo(3);
+    }
+
+    @Test
+    void lastIndexesOfDouble_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+        // Given
+        double[] source = {1.0, 2.0, 3.0};
+        double inputElement = Double.MIN_VALUE;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfDouble_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+        // Given
+        double[] source = null;
+        double inputElement = Double.MIN_VALUE;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfDouble_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+        // Given
+        double[] source = {};
+        double inputElement = Double.MIN_VALUE;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfDouble_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+        // Given
+        double[] source = {Double.MIN_VALUE, Double.MAX_VALUE};
+        double inputElement = Double.MIN_VALUE;
+        int fromIndex = -1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfDouble_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+        // Given
+        double[] source = {Double.MIN_VALUE, Double.MAX_VALUE};
+        double inputElement = Double.MIN_VALUE;
+        int fromIndex = 3;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfDouble_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+        // Given
+        double[] source = {2.0, 1.0, 3.0};
+        double inputElement = 1.0;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(1)).isTrue();
+        then(result.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void lastIndexesOfDouble_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+        // Given
+        double[] source = {1.0, 2.0, 1.0, 1.0, 3.0, 1.0};
+        double inputElement = 1.0;
+        int fromIndex = 5;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(3)).isTrue();
+        then(result.get(5)).isTrue();
+        then(result.cardinality()).isEqualTo(4);
+    }
+
+    @Test
+    void lastIndexesOfGeneric_ShouldReturnEmptyBitSet_WhenSourceIsNull() {
+        // Given
+        String[] source = null;
+        String inputElement = "A";
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfGeneric_ShouldReturnEmptyBitSet_WhenSourceIsEmpty() {
+        // Given
+        String[] source = {};
+        String inputElement = "A";
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfGeneric_ShouldReturnAllMatchingIndexes_WhenElementExists() {
+        // Given
+        String[] source = {"A", "B", "A", "C", "A"};
+        String inputElement = "A";
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(4)).isTrue();
+        then(result.cardinality()).isEqualTo(3);
+    }
+
+    @Test
+    void lastIndexesOfGeneric_ShouldReturnEmptyBitSet_WhenElementDoesNotExist() {
+        // Given
+        String[] source = {"B", "C", "D"};
+        String inputElement = "A";
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfGeneric_ShouldReturnEmptyBitSet_WhenSourceIsNullAndFromIndexProvided() {
+        // Given
+        Integer[] source = null;
+        Integer inputElement = Integer.MIN_VALUE;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfGeneric_ShouldReturnEmptyBitSet_WhenSourceIsEmptyAndFromIndexProvided() {
+        // Given
+        Integer[] source = {};
+        Integer inputElement = Integer.MIN_VALUE;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfGeneric_ShouldReturnEmptyBitSet_WhenFromIndexIsNegative() {
+        // Given
+        Integer[] source = {1, 2, 3};
+        Integer inputElement = 1;
+        int fromIndex = -1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfGeneric_ShouldReturnEmptyBitSet_WhenFromIndexIsGreaterThanLength() {
+        // Given
+        Double[] source = {Double.MIN_VALUE, Double.MAX_VALUE};
+        Double inputElement = Double.MIN_VALUE;
+        int fromIndex = 3;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void lastIndexesOfGeneric_ShouldReturnSingleIndex_WhenElementExistsOnce() {
+        // Given
+        Long[] source = {2L, 1L, 3L};
+        Long inputElement = 1L;
+        int fromIndex = 1;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(1)).isTrue();
+        then(result.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void lastIndexesOfGeneric_ShouldReturnAllMatchingIndexes_WhenElementExistsMultipleTimes() {
+        // Given
+        Long[] source = {1L, 2L, 1L, 1L, 3L, 1L};
+        Long inputElement = 1L;
+        int fromIndex = 5;
+
+        // When
+        BitSet result = ArrayUtils.lastIndexesOf(source, inputElement, fromIndex);
+
+        // Then
+        then(result.get(0)).isTrue();
+        then(result.get(2)).isTrue();
+        then(result.get(3)).isTrue();
+        then(result.get(5)).isTrue();
+        then(result.cardinality()).isEqualTo(4);
+    }
+
+    @Test
+    void mergeBoolean_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+        // Given
+        boolean[] inputArray1 = null;
+        boolean[] inputArray2 = null;
+
+        // When
+        boolean[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotNull()
+                .isEmpty();
+    }
+
+    @Test
+    void mergeBoolean_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+        // Given
+        boolean[] inputArray1 = new boolean[0];
+        boolean[] inputArray2 = new boolean[0];
+
+        // When
+        boolean[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .isEmpty();
+    }
+
+    @Test
+    void mergeBoolean_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+        // Given
+        boolean[] inputArray1 = null;
+        boolean[] inputArray2 = new boolean[]{true, false};
+
+        // When
+        boolean[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly(true, false);
+    }
+
+    @Test
+    void mergeBoolean_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+        // Given
+        boolean[] inputArray1 = new boolean[0];
+        boolean[] inputArray2 = new boolean[]{true, false};
+
+        // When
+        boolean[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly(true, false);
+    }
+
+    @Test
+    void mergeBoolean_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+        // Given
+        boolean[] inputArray1 = new boolean[]{true, false};
+        boolean[] inputArray2 = null;
+
+        // When
+        boolean[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly(true, false);
+    }
+
+    @Test
+    void mergeBoolean_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+        // Given
+        boolean[] inputArray1 = new boolean[]{true, false};
+        boolean[] inputArray2 = new boolean[0];
+
+        // When
+        boolean[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly(true, false);
+    }
+
+    @Test
+    void mergeBoolean_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+        // Given
+        boolean[] inputArray1 = new boolean[]{true, false};
+        boolean[] inputArray2 = new boolean[]{false, true};
+
+        // When
+        boolean[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .hasSize(4)
+                .containsExactly(true, false, false, true);
+    }
+
+    @Test
+    void mergeByte_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+        // Given
+        byte[] inputArray1 = null;
+        byte[] inputArray2 = null;
+
+        // When
+        byte[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotNull()
+                .isEmpty();
+    }
+
+    @Test
+    void mergeByte_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+        // Given
+        byte[] inputArray1 = new byte[0];
+        byte[] inputArray2 = new byte[0];
+
+        // When
+        byte[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .isEmpty();
+    }
+
+    @Test
+    void mergeByte_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+        // Given
+        byte[] inputArray1 = null;
+        byte[] inputArray2 = new byte[]{-128, -127};
+
+        // When
+        byte[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly(-128, -127);
+    }
+
+    @Test
+    void mergeByte_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+        // Given
+        byte[] inputArray1 = new byte[0];
+        byte[] inputArray2 = new byte[]{-128, -127};
+
+        // When
+        byte[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly(-128, -127);
+    }
+
+    @Test
+    void mergeByte_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+        // Given
+        byte[] inputArray1 = new byte[]{-128, -127};
+        byte[] inputArray2 = null;
+
+        // When
+        byte[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly(-128, -127);
+    }
+
+    @Test
+    void mergeByte_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+        // Given
+        byte[] inputArray1 = new byte[]{-128, -127};
+        byte[] inputArray2 = new byte[0];
+
+        // When
+        byte[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly(-128, -127);
+    }
+
+    @Test
+    void mergeByte_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+        // Given
+        byte[] inputArray1 = new byte[]{-128, -127};
+        byte[] inputArray2 = new byte[]{-126, -125};
+
+        // When
+        byte[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .hasSize(4)
+                .containsExactly(-128, -127, -126, -125);
+    }
+
+    @Test
+    void mergeChar_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+        // Given
+        char[] inputArray1 = null;
+        char[] inputArray2 = null;
+
+        // When
+        char[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotNull()
+                .isEmpty();
+    }
+
+    @Test
+    void mergeChar_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+        // Given
+        char[] inputArray1 = new char[0];
+        char[] inputArray2 = new char[0];
+
+        // When
+        char[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .isEmpty();
+    }
+
+    @Test
+    void mergeChar_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+        // Given
+        char[] inputArray1 = null;
+        char[] inputArray2 = new char[]{'a', 'b'};
+
+        // When
+        char[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly('a', 'b');
+    }
+
+    @Test
+    void mergeChar_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+        // Given
+        char[] inputArray1 = new char[0];
+        char[] inputArray2 = new char[]{'a', 'b'};
+
+        // When
+        char[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly('a', 'b');
+    }
+
+    @Test
+    void mergeChar_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+        // Given
+        char[] inputArray1 = new char[]{'a', 'b'};
+        char[] inputArray2 = null;
+
+        // When
+        char[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly('a', 'b');
+    }
+
+    @Test
+    void mergeChar_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+        // Given
+        char[] inputArray1 = new char[]{'a', 'b'};
+        char[] inputArray2 = new char[0];
+
+        // When
+        char[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly('a', 'b');
+    }
+
+    @Test
+    void mergeChar_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+        // Given
+        char[] inputArray1 = new char[]{'a', 'b'};
+        char[] inputArray2 = new char[]{'c', 'd'};
+
+        // When
+        char[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .hasSize(4)
+                .containsExactly('a', 'b', 'c', 'd');
+    }
+
+    @Test
+    void mergeShort_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+        // Given
+        short[] inputArray1 = null;
+        short[] inputArray2 = null;
+
+        // When
+        short[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotNull()
+                .isEmpty();
+    }
+
+    @Test
+    void mergeShort_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+        // Given
+        short[] inputArray1 = new short[0];
+        short[] inputArray2 = new short[0];
+
+        // When
+        short[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .isEmpty();
+    }
+
+    @Test
+    void mergeShort_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+        // Given
+        short[] inputArray1 = null;
+        short[] inputArray2 = new short[]{32767, 32766};
+
+        // When
+        short[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly(32767, 32766);
+    }
+
+    @Test
+    void mergeShort_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+        // Given
+        short[] inputArray1 = new short[0];
+        short[] inputArray2 = new short[]{32767, 32766};
+
+        // When
+        short[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly(32767, 32766);
+    }
+
+    @Test
+    void mergeShort_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+        // Given
+        short[] inputArray1 = new short[]{32767, 32766};
+        short[] inputArray2 = null;
+
+        // When
+        short[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly(32767, 32766);
+    }
+
+    @Test
+    void mergeShort_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+        // Given
+        short[] inputArray1 = new short[]{32767, 32766};
+        short[] inputArray2 = new short[0];
+
+        // When
+        short[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly(32767, 32766);
+    }
+
+    @Test
+    void mergeShort_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+        // Given
+        short[] inputArray1 = new short[]{32767, 32766};
+        short[] inputArray2 = new short[]{32765, 32764};
+
+        // When
+        short[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .hasSize(4)
+                .containsExactly(32767, 32766, 32765, 32764);
+    }
+
+    @Test
+    void mergeInt_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+        // Given
+        int[] inputArray1 = null;
+        int[] inputArray2 = null;
+
+        // When
+        int[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotNull()
+                .isEmpty();
+    }
+
+    @Test
+    void mergeInt_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+        // Given
+        int[] inputArray1 = new int[0];
+        int[] inputArray2 = new int[0];
+
+        // When
+        int[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .isEmpty();
+    }
+
+    @Test
+    void mergeInt_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+        // Given
+        int[] inputArray1 = null;
+        int[] inputArray2 = new int[]{1, 2};
+
+        // When
+        int[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    void mergeInt_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+        // Given
+        int[] inputArray1 = new int[0];
+        int[] inputArray2 = new int[]{1, 2};
+
+        // When
+        int[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    void mergeInt_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+        // Given
+        int[] inputArray1 = new int[]{1, 2};
+        int[] inputArray2 = null;
+
+        // When
+        int[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    void mergeInt_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+        // Given
+        int[] inputArray1 = new int[]{1, 2};
+        int[] inputArray2 = new int[0];
+
+        // When
+        int[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    void mergeInt_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+        // Given
+        int[] inputArray1 = new int[]{1, 2};
+        int[] inputArray2 = new int[]{3, 4};
+
+        // When
+        int[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .hasSize(4)
+                .containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void mergeLong_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+        // Given
+        long[] inputArray1 = null;
+        long[] inputArray2 = null;
+
+        // When
+        long[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotNull()
+                .isEmpty();
+    }
+
+    @Test
+    void mergeLong_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+        // Given
+        long[] inputArray1 = new long[0];
+        long[] inputArray2 = new long[0];
+
+        // When
+        long[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .isEmpty();
+    }
+
+    @Test
+    void mergeLong_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+        // Given
+        long[] inputArray1 = null;
+        long[] inputArray2 = new long[]{1L, 2L};
+
+        // When
+        long[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void mergeLong_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+        // Given
+        long[] inputArray1 = new long[0];
+        long[] inputArray2 = new long[]{1L, 2L};
+
+        // When
+        long[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void mergeLong_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+        // Given
+        long[] inputArray1 = new long[]{1L, 2L};
+        long[] inputArray2 = null;
+
+        // When
+        long[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void mergeLong_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+        // Given
+        long[] inputArray1 = new long[]{1L, 2L};
+        long[] inputArray2 = new long[0];
+
+        // When
+        long[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void mergeLong_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+        // Given
+        long[] inputArray1 = new long[]{1L, 2L};
+        long[] inputArray2 = new long[]{3L, 4L};
+
+        // When
+        long[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .hasSize(4)
+                .containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void mergeFloat_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+        // Given
+        float[] inputArray1 = null;
+        float[] inputArray2 = null;
+
+        // When
+        float[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotNull()
+                .isEmpty();
+    }
+
+    @Test
+    void mergeFloat_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+        // Given
+        float[] inputArray1 = new float[0];
+        float[] inputArray2 = new float[0];
+
+        // When
+        float[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .isEmpty();
+    }
+
+    @Test
+    void mergeFloat_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+        // Given
+        float[] inputArray1 = null;
+        float[] inputArray2 = new float[]{1.0F, 2.0F};
+
+        // When
+        float[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly(1.0F, 2.0F);
+    }
+
+    @Test
+    void mergeFloat_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+        // Given
+        float[] inputArray1 = new float[0];
+        float[] inputArray2 = new float[]{1.0F, 2.0F};
+
+        // When
+        float[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly(1.0F, 2.0F);
+    }
+
+    @Test
+    void mergeFloat_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+        // Given
+        float[] inputArray1 = new float[]{1.0F, 2.0F};
+        float[] inputArray2 = null;
+
+        // When
+        float[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly(1.0F, 2.0F);
+    }
+
+    @Test
+    void mergeFloat_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+        // Given
+        float[] inputArray1 = new float[]{1.0F, 2.0F};
+        float[] inputArray2 = new float[0];
+
+        // When
+        float[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly(1.0F, 2.0F);
+    }
+
+    @Test
+    void mergeFloat_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+        // Given
+        float[] inputArray1 = new float[]{1.0F, 2.0F};
+        float[] inputArray2 = new float[]{3.0F, 4.0F};
+
+        // When
+        float[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .hasSize(4)
+                .containsExactly(1.0F, 2.0F, 3.0F, 4.0F);
+    }
+
+    @Test
+    void mergeDouble_ShouldReturnEmptyArray_WhenBothArraysAreNull() {
+        // Given
+        double[] inputArray1 = null;
+        double[] inputArray2 = null;
+
+        // When
+        double[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotNull()
+                .isEmpty();
+    }
+
+    @Test
+    void mergeDouble_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+        // Given
+        double[] inputArray1 = new double[0];
+        double[] inputArray2 = new double[0];
+
+        // When
+        double[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .isEmpty();
+    }
+
+    @Test
+    void mergeDouble_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+        // Given
+        double[] inputArray1 = null;
+        double[] inputArray2 = new double[]{1.0, 2.0};
+
+        // When
+        double[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    void mergeDouble_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+        // Given
+        double[] inputArray1 = new double[0];
+        double[] inputArray2 = new double[]{1.0, 2.0};
+
+        // When
+        double[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    void mergeDouble_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+        // Given
+        double[] inputArray1 = new double[]{1.0, 2.0};
+        double[] inputArray2 = null;
+
+        // When
+        double[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    void mergeDouble_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+        // Given
+        double[] inputArray1 = new double[]{1.0, 2.0};
+        double[] inputArray2 = new double[0];
+
+        // When
+        double[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    void mergeDouble_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+        // Given
+        double[] inputArray1 = new double[]{1.0, 2.0};
+        double[] inputArray2 = new double[]{3.0, 4.0};
+
+        // When
+        double[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .hasSize(4)
+                .containsExactly(1.0, 2.0, 3.0, 4.0);
+    }
+
+    @Test
+    void mergeGeneric_ShouldReturnNull_WhenBothArraysAreNull() {
+        // Given
+        String[] inputArray1 = null;
+        String[] inputArray2 = null;
+
+        // When
+        String[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isNull();
+    }
+
+    @Test
+    void mergeGeneric_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+        // Given
+        String[] inputArray1 = new String[0];
+        String[] inputArray2 = new String[0];
+
+        // When
+        String[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .isEmpty();
+    }
+
+    @Test
+    void mergeGeneric_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+        // Given
+        String[] inputArray1 = null;
+        String[] inputArray2 = new String[]{"a", "b"};
+
+        // When
+        String[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly("a", "b");
+    }
+
+    @Test
+    void mergeGeneric_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+        // Given
+        String[] inputArray1 = new String[0];
+        String[] inputArray2 = new String[]{"a", "b"};
+
+        // When
+        String[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray2)
+                .hasSize(2)
+                .containsExactly("a", "b");
+    }
+
+    @Test
+    void mergeGeneric_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+        // Given
+        String[] inputArray1 = new String[]{"a", "b"};
+        String[] inputArray2 = null;
+
+        // When
+        String[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly("a", "b");
+    }
+
+    @Test
+    void mergeGeneric_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+        // Given
+        String[] inputArray1 = new String[]{"a", "b"};
+        String[] inputArray2 = new String[0];
+
+        // When
+        String[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .hasSize(2)
+                .containsExactly("a", "b");
+    }
+
+    @Test
+    void mergeGeneric_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+        // Given
+        String[] inputArray1 = new String[]{"a", "b"};
+        String[] inputArray2 = new String[]{"c", "d"};
+
+        // When
+        String[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputArray1)
+                .isNotSameAs(inputArray2)
+                .hasSize(4)
+                .containsExactly("a", "b", "c", "d");
+    }
+
+    @Test
+    void mergeBooleanWithDestination_ShouldWriteBothArrays_WhenDestinationIsLargeEnough() {
+        // Given
+        boolean[] inputArray1 = new boolean[]{true, true};
+        boolean[] inputArray2 = new boolean[]{false, true, false};
+        boolean[] destination = new boolean[6];
+
+        // When
+        int actual = ArrayUtils.merge(inputArray1, inputArray2, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(5);
+        then(destination).containsExactly(true, true, false, true, false, false);
+    }
+
+    @Test
+    void mergeByteWithDestination_ShouldWriteBothArrays_WhenDestinationIsLargeEnough() {
+        // Given
+        byte[] inputArray1 = new byte[]{1, 2};
+        byte[] inputArray2 = new byte[]{3, 4, 5};
+        byte[] destination = new byte[6];
+
+        // When
+        int actual = ArrayUtils.merge(inputArray1, inputArray2, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(5);
+        then(destination).containsExactly(1, 2, 3, 4, 5, (byte) 0);
+    }
+
+    @Test
+    void mergeCharWithDestination_ShouldWriteBothArrays_WhenDestinationIsLargeEnough() {
+        // Given
+        char[] inputArray1 = new char[]{'a', 'b'};
+        char[] inputArray2 = new char[]{'c', 'd', 'e'};
+        char[] destination = new char[6];
+
+        // When
+        int actual = ArrayUtils.merge(inputArray1, inputArray2, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(5);
+        then(destination).containsExactly('a', 'b', 'c', 'd', 'e', '\u0000');
+    }
+
+    @Test
+    void mergeShortWithDestination_ShouldWriteBothArrays_WhenDestinationIsLargeEnough() {
+        // Given
+        short[] inputArray1 = new short[]{1, 2};
+        short[] inputArray2 = new short[]{3, 4, 5};
+        short[] destination = new short[6];
+
+        // When
+        int actual = ArrayUtils.merge(inputArray1, inputArray2, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(5);
+        then(destination).containsExactly(1, 2, 3, 4, 5, (short) 0);
+    }
+
+    @Test
+    void mergeIntWithDestination_ShouldWriteBothArrays_WhenDestinationIsLargeEnough() {
+        // Given
+        int[] inputArray1 = new int[]{1, 2};
+        int[] inputArray2 = new int[]{3, 4, 5};
+        int[] destination = new int[6];
+
+        // When
+        int actual = ArrayUtils.merge(inputArray1, inputArray2, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(5);
+        then(destination).containsExactly(1, 2, 3, 4, 5, 0);
+    }
+
+    @Test
+    void mergeIntWithDestination_ShouldTreatNullAsEmpty_WhenArrayIsNull() {
+        // Given
+        int[] inputArray2 = new int[]{1, 2};
+        int[] destination = new int[3];
+
+        // When
+        int actual = ArrayUtils.merge(null, inputArray2, destination, 1);
+
+        // Then
+        then(actual).isEqualTo(2);
+        then(destination).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void mergeIntWithDestination_ShouldThrowIndexOutOfBoundsException_WhenOffsetIsNegative() {
+        // Given
+        int[] destination = new int[3];
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.merge(null, null, destination, -1))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 3");
+    }
+
+    @Test
+    void mergeLongWithDestination_ShouldWriteBothArrays_WhenDestinationIsLargeEnough() {
+        // Given
+        long[] inputArray1 = new long[]{1L, 2L};
+        long[] inputArray2 = new long[]{3L, 4L, 5L};
+        long[] destination = new long[6];
+
+        // When
+        int actual = ArrayUtils.merge(inputArray1, inputArray2, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(5);
+        then(destination).containsExactly(1L, 2L, 3L, 4L, 5L, 0L);
+    }
+
+    @Test
+    void mergeFloatWithDestination_ShouldWriteBothArrays_WhenDestinationIsLargeEnough() {
+        // Given
+        float[] inputArray1 = new float[]{1.0f, 2.0f};
+        float[] inputArray2 = new float[]{3.0f, 4.0f, 5.0f};
+        float[] destination = new float[6];
+
+        // When
+        int actual = ArrayUtils.merge(inputArray1, inputArray2, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(5);
+        then(destination).containsExactly(1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 0.0f);
+    }
+
+    @Test
+    void mergeDoubleWithDestination_ShouldWriteBothArrays_WhenDestinationIsLargeEnough() {
+        // Given
+        double[] inputArray1 = new double[]{1.0, 2.0};
+        double[] inputArray2 = new double[]{3.0, 4.0, 5.0};
+        double[] destination = new double[6];
+
+        // When
+        int actual = ArrayUtils.merge(inputArray1, inputArray2, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(5);
+        then(destination).containsExactly(1.0, 2.0, 3.0, 4.0, 5.0, 0.0);
+    }
+
+    @Test
+    void mergeGenericWithDestination_ShouldWriteBothArrays_WhenDestinationIsLargeEnough() {
+        // Given
+        String[] inputArray1 = new String[]{"a", "b"};
+        String[] inputArray2 = new String[]{"c", "d", "e"};
+        String[] destination = new String[6];
+
+        // When
+        int actual = ArrayUtils.merge(inputArray1, inputArray2, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(5);
+        then(destination).containsExactly("a", "b", "c", "d", "e", null);
+    }
+
+    @Test
+    void mismatchBoolean_ShouldReturnIndexOfFirstDifference_WhenArraysDiffer() {
+        // Given
+        boolean[] inputArray1 = new boolean[]{false, true, false, true};
+        boolean[] inputArray2 = new boolean[]{false, true, true, true};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(2);
+    }
+
+    @Test
+    void mismatchBoolean_ShouldReturnIndexNotFound_WhenArraysAreEqual() {
+        // Given
+        boolean[] inputArray1 = new boolean[]{false, true, false, true};
+        boolean[] inputArray2 = new boolean[]{false, true, false, true};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void mismatchBooleanWithRange_ShouldReturnRelativeIndex_WhenRangesDiffer() {
+        // Given
+        boolean[] inputArray1 = new boolean[]{false, true, false, true};
+        boolean[] inputArray2 = new boolean[]{false, true, true, true};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, 1, 4, inputArray2, 1, 4);
+
+        // Then
+        then(actual).isEqualTo(1);
+    }
+
+    @Test
+    void mismatchByte_ShouldReturnIndexOfFirstDifference_WhenArraysDiffer() {
+        // Given
+        byte[] inputArray1 = new byte[]{1, 2, 3, 4};
+        byte[] inputArray2 = new byte[]{1, 2, 6, 4};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(2);
+    }
+
+    @Test
+    void mismatchByte_ShouldReturnIndexNotFound_WhenArraysAreEqual() {
+        // Given
+        byte[] inputArray1 = new byte[]{1, 2, 3, 4};
+        byte[] inputArray2 = new byte[]{1, 2, 3, 4};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void mismatchByteWithRange_ShouldReturnRelativeIndex_WhenRangesDiffer() {
+        // Given
+        byte[] inputArray1 = new byte[]{1, 2, 3, 4};
+        byte[] inputArray2 = new byte[]{1, 2, 6, 4};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, 1, 4, inputArray2, 1, 4);
+
+        // Then
+        then(actual).isEqualTo(1);
+    }
+
+    @Test
+    void mismatchChar_ShouldReturnIndexOfFirstDifference_WhenArraysDiffer() {
+        // Given
+        char[] inputArray1 = new char[]{'a', 'b', 'c', 'd'};
+        char[] inputArray2 = new char[]{'a', 'b', 'f', 'd'};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(2);
+    }
+
+    @Test
+    void mismatchChar_ShouldReturnIndexNotFound_WhenArraysAreEqual() {
+        // Given
+        char[] inputArray1 = new char[]{'a', 'b', 'c', 'd'};
+        char[] inputArray2 = new char[]{'a', 'b', 'c', 'd'};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void mismatchCharWithRange_ShouldReturnRelativeIndex_WhenRangesDiffer() {
+        // Given
+        char[] inputArray1 = new char[]{'a', 'b', 'c', 'd'};
+        char[] inputArray2 = new char[]{'a', 'b', 'f', 'd'};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, 1, 4, inputArray2, 1, 4);
+
+        // Then
+        then(actual).isEqualTo(1);
+    }
+
+    @Test
+    void mismatchShort_ShouldReturnIndexOfFirstDifference_WhenArraysDiffer() {
+        // Given
+        short[] inputArray1 = new short[]{1, 2, 3, 4};
+        short[] inputArray2 = new short[]{1, 2, 6, 4};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(2);
+    }
+
+    @Test
+    void mismatchShort_ShouldReturnIndexNotFound_WhenArraysAreEqual() {
+        // Given
+        short[] inputArray1 = new short[]{1, 2, 3, 4};
+        short[] inputArray2 = new short[]{1, 2, 3, 4};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void mismatchShortWithRange_ShouldReturnRelativeIndex_WhenRangesDiffer() {
+        // Given
+        short[] inputArray1 = new short[]{1, 2, 3, 4};
+        short[] inputArray2 = new short[]{1, 2, 6, 4};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, 1, 4, inputArray2, 1, 4);
+
+        // Then
+        then(actual).isEqualTo(1);
+    }
+
+    @Test
+    void mismatchInt_ShouldReturnIndexOfFirstDifference_WhenArraysDiffer() {
+        // Given
+        int[] inputArray1 = new int[]{1, 2, 3, 4};
+        int[] inputArray2 = new int[]{1, 2, 6, 4};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(2);
+    }
+
+    @Test
+    void mismatchInt_ShouldReturnIndexNotFound_WhenArraysAreEqual() {
+        // Given
+        int[] inputArray1 = new int[]{1, 2, 3, 4};
+        int[] inputArray2 = new int[]{1, 2, 3, 4};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void mismatchIntWithRange_ShouldReturnRelativeIndex_WhenRangesDiffer() {
+        // Given
+        int[] inputArray1 = new int[]{1, 2, 3, 4};
+        int[] inputArray2 = new int[]{1, 2, 6, 4};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, 1, 4, inputArray2, 1, 4);
+
+        // Then
+        then(actual).isEqualTo(1);
+    }
+
+    @Test
+    void mismatchInt_ShouldReturnShorterLength_WhenArrayIsPrefix() {
+        // Given
+        int[] inputArray1 = new int[]{1, 2, 3, 4};
+        int[] inputArray2 = new int[]{1, 2, 3};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(3);
+    }
+
+    @Test
+    void mismatchInt_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        int[] inputArray1 = new int[]{1, 2, 3, 4};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.mismatch(inputArray1, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void mismatchLong_ShouldReturnIndexOfFirstDifference_WhenArraysDiffer() {
+        // Given
+        long[] inputArray1 = new long[]{1L, 2L, 3L, 4L};
+        long[] inputArray2 = new long[]{1L, 2L, 6L, 4L};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(2);
+    }
+
+    @Test
+    void mismatchLong_ShouldReturnIndexNotFound_WhenArraysAreEqual() {
+        // Given
+        long[] inputArray1 = new long[]{1L, 2L, 3L, 4L};
+        long[] inputArray2 = new long[]{1L, 2L, 3L, 4L};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void mismatchLongWithRange_ShouldReturnRelativeIndex_WhenRangesDiffer() {
+        // Given
+        long[] inputArray1 = new long[]{1L, 2L, 3L, 4L};
+        long[] inputArray2 = new long[]{1L, 2L, 6L, 4L};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, 1, 4, inputArray2, 1, 4);
+
+        // Then
+        then(actual).isEqualTo(1);
+    }
+
+    @Test
+    void mismatchFloat_ShouldReturnIndexOfFirstDifference_WhenArraysDiffer() {
+        // Given
+        float[] inputArray1 = new float[]{1.0f, 2.0f, 3.0f, 4.0f};
+        float[] inputArray2 = new float[]{1.0f, 2.0f, 6.0f, 4.0f};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(2);
+    }
+
+    @Test
+    void mismatchFloat_ShouldReturnIndexNotFound_WhenArraysAreEqual() {
+        // Given
+        float[] inputArray1 = new float[]{1.0f, 2.0f, 3.0f, 4.0f};
+        float[] inputArray2 = new float[]{1.0f, 2.0f, 3.0f, 4.0f};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void mismatchFloatWithRange_ShouldReturnRelativeIndex_WhenRangesDiffer() {
+        // Given
+        float[] inputArray1 = new float[]{1.0f, 2.0f, 3.0f, 4.0f};
+        float[] inputArray2 = new float[]{1.0f, 2.0f, 6.0f, 4.0f};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, 1, 4, inputArray2, 1, 4);
+
+        // Then
+        then(actual).isEqualTo(1);
+    }
+
+    @Test
+    void mismatchDouble_ShouldReturnIndexOfFirstDifference_WhenArraysDiffer() {
+        // Given
+        double[] inputArray1 = new double[]{1.0, 2.0, 3.0, 4.0};
+        double[] inputArray2 = new double[]{1.0, 2.0, 6.0, 4.0};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(2);
+    }
+
+    @Test
+    void mismatchDouble_ShouldReturnIndexNotFound_WhenArraysAreEqual() {
+        // Given
+        double[] inputArray1 = new double[]{1.0, 2.0, 3.0, 4.0};
+        double[] inputArray2 = new double[]{1.0, 2.0, 3.0, 4.0};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void mismatchDoubleWithRange_ShouldReturnRelativeIndex_WhenRangesDiffer() {
+        // Given
+        double[] inputArray1 = new double[]{1.0, 2.0, 3.0, 4.0};
+        double[] inputArray2 = new double[]{1.0, 2.0, 6.0, 4.0};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, 1, 4, inputArray2, 1, 4);
+
+        // Then
+        then(actual).isEqualTo(1);
+    }
+
+    @Test
+    void mismatchGeneric_ShouldReturnIndexOfFirstDifference_WhenArraysDiffer() {
+        // Given
+        String[] inputArray1 = new String[]{"a", "b", "c", "d"};
+        String[] inputArray2 = new String[]{"a", "b", "f", "d"};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(2);
+    }
+
+    @Test
+    void mismatchGeneric_ShouldReturnIndexNotFound_WhenArraysAreEqual() {
+        // Given
+        String[] inputArray1 = new String[]{"a", "b", "c", "d"};
+        String[] inputArray2 = new String[]{"a", "b", "c", "d"};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, inputArray2);
+
+        // Then
+        then(actual).isEqualTo(INDEX_NOT_FOUND);
+    }
+
+    @Test
+    void mismatchGenericWithRange_ShouldReturnRelativeIndex_WhenRangesDiffer() {
+        // Given
+        String[] inputArray1 = new String[]{"a", "b", "c", "d"};
+        String[] inputArray2 = new String[]{"a", "b", "f", "d"};
+
+        // When
+        int actual = ArrayUtils.mismatch(inputArray1, 1, 4, inputArray2, 1, 4);
+
+        // Then
+        then(actual).isEqualTo(1);
+    }
+
+    @Test
+    void prefixSumInt_ShouldAccumulateElementsInPlace_WhenSourceIsProvided() {
+        // Given
+        int[] inputSource = new int[]{3, 1, 4, 1, 5};
+
+        // When
+        int[] actual = ArrayUtils.prefixSum(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(3, 4, 8, 9, 14);
+    }
+
+    @Test
+    void prefixSumInt_ShouldReturnNull_WhenSourceIsNull() {
+        // Given
+        int[] inputSource = null;
+
+        // When
+        int[] actual = ArrayUtils.prefixSum(inputSource);
+
+        // Then
+        then(actual).isNull();
+    }
+
+    @Test
+    void prefixSumInt_ShouldMatchSequentialResult_WhenArrayIsScannedInParallel() {
+        // Given
+        int[] inputSource = new int[100_000];
+        Arrays.fill(inputSource, 1);
+
+        // When
+        int[] actual = ArrayUtils.prefixSum(inputSource);
+
+        // Then
+        then(actual[0]).isEqualTo(1);
+        then(actual[99_999]).isEqualTo(100000);
+        then(actual[50_000]).isEqualTo(50001);
+    }
+
+    @Test
+    void prefixSumLong_ShouldAccumulateElementsInPlace_WhenSourceIsProvided() {
+        // Given
+        long[] inputSource = new long[]{3L, 1L, 4L, 1L, 5L};
+
+        // When
+        long[] actual = ArrayUtils.prefixSum(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(3L, 4L, 8L, 9L, 14L);
+    }
+
+    @Test
+    void prefixSumLong_ShouldReturnNull_WhenSourceIsNull() {
+        // Given
+        long[] inputSource = null;
+
+        // When
+        long[] actual = ArrayUtils.prefixSum(inputSource);
+
+        // Then
+        then(actual).isNull();
+    }
+
+    @Test
+    void prefixSumLong_ShouldMatchSequentialResult_WhenArrayIsScannedInParallel() {
+        // Given
+        long[] inputSource = new long[100_000];
+        Arrays.fill(inputSource, 1L);
+
+        // When
+        long[] actual = ArrayUtils.prefixSum(inputSource);
+
+        // Then
+        then(actual[0]).isEqualTo(1L);
+        then(actual[99_999]).isEqualTo(100000L);
+        then(actual[50_000]).isEqualTo(50001L);
+    }
+
+    @Test
+    void prefixSumFloat_ShouldAccumulateElementsInPlace_WhenSourceIsProvided() {
+        // Given
+        float[] inputSource = new float[]{3.0f, 1.0f, 4.0f, 1.0f, 5.0f};
+
+        // When
+        float[] actual = ArrayUtils.prefixSum(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(3.0f, 4.0f, 8.0f, 9.0f, 14.0f);
+    }
+
+    @Test
+    void prefixSumFloat_ShouldReturnNull_WhenSourceIsNull() {
+        // Given
+        float[] inputSource = null;
+
+        // When
+        float[] actual = ArrayUtils.prefixSum(inputSource);
+
+        // Then
+        then(actual).isNull();
+    }
+
+    @Test
+    void prefixSumDouble_ShouldAccumulateElementsInPlace_WhenSourceIsProvided() {
+        // Given
+        double[] inputSource = new double[]{3.0, 1.0, 4.0, 1.0, 5.0};
+
+        // When
+        double[] actual = ArrayUtils.prefixSum(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(3.0, 4.0, 8.0, 9.0, 14.0);
+    }
+
+    @Test
+    void prefixSumDouble_ShouldReturnNull_WhenSourceIsNull() {
+        // Given
+        double[] inputSource = null;
+
+        // When
+        double[] actual = ArrayUtils.prefixSum(inputSource);
+
+        // Then
+        then(actual).isNull();
+    }
+
+    @Test
+    void removeBoolean_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        boolean[] inputSource = null;
+        int inputIndex = 0;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeBoolean_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+        // Given
+        boolean[] inputSource = new boolean[]{true, false};
+        int inputIndex = -1;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 2");
+    }
+
+    @Test
+    void removeBoolean_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+        // Given
+        boolean[] inputSource = new boolean[]{true, false};
+        int inputIndex = 2;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 2 out of bounds for length 2");
+    }
+
+    @Test
+    void removeBoolean_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+        // Given
+        boolean[] inputSource = new boolean[]{true};
+        int inputIndex = 0;
+
+        // When
+        boolean[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("removeBooleanTestCases")
+    void removeBoolean_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, boolean[] expected, String description) {
+        // Given
+        boolean[] inputSource = new boolean[]{true, false, true};
+
+        // When
+        boolean[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(expected);
+    }
+
+    private static Stream<Arguments> removeBooleanTestCases() {
+        return Stream.of(
+                Arguments.of(0, new boolean[]{false, true}, "removing first element"),
+                Arguments.of(2, new boolean[]{true, false}, "removing last element"),
+                Arguments.of(1, new boolean[]{true, true}, "removing middle element")
+        );
+    }
+
+    @Test
+    void removeByte_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        byte[] inputSource = null;
+        int inputIndex = 0;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeByte_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+        // Given
+        byte[] inputSource = new byte[]{1, 2};
+        int inputIndex = -1;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 2");
+    }
+
+    @Test
+    void removeByte_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+        // Given
+        byte[] inputSource = new byte[]{1, 2};
+        int inputIndex = 2;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 2 out of bounds for length 2");
+    }
+
+    @Test
+    void removeByte_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+        // Given
+        byte[] inputSource = new byte[]{1};
+        int inputIndex = 0;
+
+        // When
+        byte[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("removeByteTestCases")
+    void removeByte_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, byte[] expected, String description) {
+        // Given
+        byte[] inputSource = new byte[]{1, 2, 3};
+
+        // When
+        byte[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(expected);
+    }
+
+    private static Stream<Arguments> removeByteTestCases() {
+        return Stream.of(
+                Arguments.of(0, new byte[]{2, 3}, "removing first element"),
+                Arguments.of(2, new byte[]{1, 2}, "removing last element"),
+                Arguments.of(1, new byte[]{1, 3}, "removing middle element")
+        );
+    }
+
+    @Test
+    void removeChar_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        char[] inputSource = null;
+        int inputIndex = 0;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeChar_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+        // Given
+        char[] inputSource = new char[]{'a', 'b'};
+        int inputIndex = -1;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 2");
+    }
+
+    @Test
+    void removeChar_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+        // Given
+        char[] inputSource = new char[]{'a', 'b'};
+        int inputIndex = 2;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 2 out of bounds for length 2");
+    }
+
+    @Test
+    void removeChar_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+        // Given
+        char[] inputSource = new char[]{'a'};
+        int inputIndex = 0;
+
+        // When
+        char[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("removeCharTestCases")
+    void removeChar_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, char[] expected, String description) {
+        // Given
+        char[] inputSource = new char[]{'a', 'b', 'c'};
+
+        // When
+        char[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(expected);
+    }
+
+    private static Stream<Arguments> removeCharTestCases() {
+        return Stream.of(
+                Arguments.of(0, new char[]{'b', 'c'}, "removing first element"),
+                Arguments.of(2, new char[]{'a', 'b'}, "removing last element"),
+                Arguments.of(1, new char[]{'a', 'c'}, "removing middle element")
+        );
+    }
+
+    @Test
+    void removeShort_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        short[] inputSource = null;
+        int inputIndex = 0;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeShort_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+        // Given
+        short[] inputSource = new short[]{1, 2};
+        int inputIndex = -1;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 2");
+    }
+
+    @Test
+    void removeShort_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+        // Given
+        short[] inputSource = new short[]{1, 2};
+        int inputIndex = 2;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 2 out of bounds for length 2");
+    }
+
+    @Test
+    void removeShort_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+        // Given
+        short[] inputSource = new short[]{1};
+        int inputIndex = 0;
+
+        // When
+        short[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("removeShortTestCases")
+    void removeShort_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, short[] expected, String description) {
+        // Given
+        short[] inputSource = new short[]{1, 2, 3};
+
+        // When
+        short[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(expected);
+    }
+
+    private static Stream<Arguments> removeShortTestCases() {
+        return Stream.of(
+                Arguments.of(0, new short[]{2, 3}, "removing first element"),
+                Arguments.of(2, new short[]{1, 2}, "removing last element"),
+                Arguments.of(1, new short[]{1, 3}, "removing middle element")
+        );
+    }
+
+    @Test
+    void removeInt_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        int[] inputSource = null;
+        int inputIndex = 0;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeInt_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+        // Given
+        int[] inputSource = new int[]{1, 2};
+        int inputIndex = -1;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 2");
+    }
+
+    @Test
+    void removeInt_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+        // Given
+        int[] inputSource = new int[]{1, 2};
+        int inputIndex = 2;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 2 out of bounds for length 2");
+    }
+
+    @Test
+    void removeInt_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+        // Given
+        int[] inputSource = new int[]{1};
+        int inputIndex = 0;
+
+        // When
+        int[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("removeIntTestCases")
+    void removeInt_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, int[] expected, String description) {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3};
+
+        // When
+        int[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(expected);
+    }
+
+    private static Stream<Arguments> removeIntTestCases() {
+        return Stream.of(
+                Arguments.of(0, new int[]{2, 3}, "removing first element"),
+                Arguments.of(2, new int[]{1, 2}, "removing last element"),
+                Arguments.of(1, new int[]{1, 3}, "removing middle element")
+        );
+    }
+
+    @Test
+    void removeLong_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        long[] inputSource = null;
+        int inputIndex = 0;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeLong_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+        // Given
+        long[] inputSource = new long[]{1L, 2L};
+        int inputIndex = -1;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 2");
+    }
+
+    @Test
+    void removeLong_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+        // Given
+        long[] inputSource = new long[]{1L, 2L};
+        int inputIndex = 2;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 2 out of bounds for length 2");
+    }
+
+    @Test
+    void removeLong_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+        // Given
+        long[] inputSource = new long[]{1L};
+        int inputIndex = 0;
+
+        // When
+        long[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("removeLongTestCases")
+    void removeLong_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, long[] expected, String description) {
+        // Given
+        long[] inputSource = new long[]{1L, 2L, 3L};
+
+        // When
+        long[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(expected);
+    }
+
+    private static Stream<Arguments> removeLongTestCases() {
+        return Stream.of(
+                Arguments.of(0, new long[]{2L, 3L}, "removing first element"),
+                Arguments.of(2, new long[]{1L, 2L}, "removing last element"),
+                Arguments.of(1, new long[]{1L, 3L}, "removing middle element")
+        );
+    }
+
+    @Test
+    void removeFloat_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        float[] inputSource = null;
+        int inputIndex = 0;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeFloat_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+        // Given
+        float[] inputSource = new float[]{1.0F, 2.0F};
+        int inputIndex = -1;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 2");
+    }
+
+    @Test
+    void removeFloat_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+        // Given
+        float[] inputSource = new float[]{1.0F, 2.0F};
+        int inputIndex = 2;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 2 out of bounds for length 2");
+    }
+
+    @Test
+    void removeFloat_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+        // Given
+        float[] inputSource = new float[]{1.0F};
+        int inputIndex = 0;
+
+        // When
+        float[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("removeFloatTestCases")
+    void removeFloat_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, float[] expected, String description) {
+        // Given
+        float[] inputSource = new float[]{1.0F, 2.0F, 3.0F};
+
+        // When
+        float[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(expected);
+    }
+
+    private static Stream<Arguments> removeFloatTestCases() {
+        return Stream.of(
+                Arguments.of(0, new float[]{2.0F, 3.0F}, "removing first element"),
+                Arguments.of(2, new float[]{1.0F, 2.0F}, "removing last element"),
+                Arguments.of(1, new float[]{1.0F, 3.0F}, "removing middle element")
+        );
+    }
+
+    @Test
+    void removeDouble_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        double[] inputSource = null;
+        int inputIndex = 0;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeDouble_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+        // Given
+        double[] inputSource = new double[]{1.0, 2.0};
+        int inputIndex = -1;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 2");
+    }
+
+    @Test
+    void removeDouble_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+        // Given
+        double[] inputSource = new double[]{1.0, 2.0};
+        int inputIndex = 2;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 2 out of bounds for length 2");
+    }
+
+    @Test
+    void removeDouble_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+        // Given
+        double[] inputSource = new double[]{1.0};
+        int inputIndex = 0;
+
+        // When
+        double[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("removeDoubleTestCases")
+    void removeDouble_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, double[] expected, String description) {
+        // Given
+        double[] inputSource = new double[]{1.0, 2.0, 3.0};
+
+        // When
+        double[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(expected);
+    }
+
+    private static Stream<Arguments> removeDoubleTestCases() {
+        return Stream.of(
+                Arguments.of(0, new double[]{2.0, 3.0}, "removing first element"),
+                Arguments.of(2, new double[]{1.0, 2.0}, "removing last element"),
+                Arguments.of(1, new double[]{1.0, 3.0}, "removing middle element")
+        );
+    }
+
+    @Test
+    void removeGeneric_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        String[] inputSource = null;
+        int inputIndex = 0;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeGeneric_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+        // Given
+        String[] inputSource = new String[]{"a", "b"};
+        int inputIndex = -1;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 2");
+    }
+
+    @Test
+    void removeGeneric_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+        // Given
+        String[] inputSource = new String[]{"a", "b"};
+        int inputIndex = 2;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 2 out of bounds for length 2");
+    }
+
+    @Test
+    void removeGeneric_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+        // Given
+        String[] inputSource = new String[]{"a"};
+        int inputIndex = 0;
+
+        // When
+        String[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @ParameterizedTest(name = "{2}")
+    @MethodSource("removeGenericTestCases")
+    void removeGeneric_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, String[] expected, String description) {
+        // Given
+        String[] inputSource = new String[]{"a", "b", "c"};
+
+        // When
+        String[] actual = ArrayUtils.remove(inputSource, inputIndex);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(expected);
+    }
+
+    private static Stream<Arguments> removeGenericTestCases() {
+        return Stream.of(
+                Arguments.of(0, new String[]{"b", "c"}, "removing first element"),
+                Arguments.of(2, new String[]{"a", "b"}, "removing last element"),
+                Arguments.of(1, new String[]{"a", "c"}, "removing middle element")
+        );
+    }
+
+    @Test
+    void removeBooleanWithDestination_ShouldSkipElementAtIndex_WhenIndexIsValid() {
+        // Given
+        boolean[] inputSource = new boolean[]{true, true, false, true};
+        boolean[] destination = new boolean[3];
+
+        // When
+        int actual = ArrayUtils.remove(inputSource, 1, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(true, false, true);
+    }
+
+    @Test
+    void removeByteWithDestination_ShouldSkipElementAtIndex_WhenIndexIsValid() {
+        // Given
+        byte[] inputSource = new byte[]{1, 2, 3, 4};
+        byte[] destination = new byte[3];
+
+        // When
+        int actual = ArrayUtils.remove(inputSource, 1, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    void removeCharWithDestination_ShouldSkipElementAtIndex_WhenIndexIsValid() {
+        // Given
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd'};
+        char[] destination = new char[3];
+
+        // When
+        int actual = ArrayUtils.remove(inputSource, 1, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly('a', 'c', 'd');
+    }
+
+    @Test
+    void removeShortWithDestination_ShouldSkipElementAtIndex_WhenIndexIsValid() {
+        // Given
+        short[] inputSource = new short[]{1, 2, 3, 4};
+        short[] destination = new short[3];
+
+        // When
+        int actual = ArrayUtils.remove(inputSource, 1, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    void removeIntWithDestination_ShouldSkipElementAtIndex_WhenIndexIsValid() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3, 4};
+        int[] destination = new int[3];
+
+        // When
+        int actual = ArrayUtils.remove(inputSource, 1, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    void removeIntWithDestination_ShouldThrowIndexOutOfBoundsException_WhenIndexIsInvalid() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3, 4};
+        int[] destination = new int[3];
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(inputSource, 4, destination, 0))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 4 out of bounds for length 4");
+    }
+
+    @Test
+    void removeIntWithDestination_ShouldThrowIllegalArgumentException_WhenSourceIsNull() {
+        // Given
+        int[] destination = new int[3];
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.remove(null, 0, destination, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeLongWithDestination_ShouldSkipElementAtIndex_WhenIndexIsValid() {
+        // Given
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L};
+        long[] destination = new long[3];
+
+        // When
+        int actual = ArrayUtils.remove(inputSource, 1, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    void removeFloatWithDestination_ShouldSkipElementAtIndex_WhenIndexIsValid() {
+        // Given
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f};
+        float[] destination = new float[3];
+
+        // When
+        int actual = ArrayUtils.remove(inputSource, 1, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(1.0f, 3.0f, 4.0f);
+    }
+
+    @Test
+    void removeDoubleWithDestination_ShouldSkipElementAtIndex_WhenIndexIsValid() {
+        // Given
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0};
+        double[] destination = new double[3];
+
+        // When
+        int actual = ArrayUtils.remove(inputSource, 1, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(1.0, 3.0, 4.0);
+    }
+
+    @Test
+    void removeGenericWithDestination_ShouldSkipElementAtIndex_WhenIndexIsValid() {
+        // Given
+        String[] inputSource = new String[]{"a", "b", "c", "d"};
+        String[] destination = new String[3];
+
+        // When
+        int actual = ArrayUtils.remove(inputSource, 1, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly("a", "c", "d");
+    }
+
+    @Test
+    void removeFirstBoolean_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        boolean[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeFirstBoolean_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        boolean[] inputSource = new boolean[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 0 out of bounds for length 0");
+    }
+
+    @Test
+    void removeFirstBoolean_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        boolean[] inputSource = new boolean[]{true};
+
+        // When
+        boolean[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeFirstBoolean_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+        // Given
+        boolean[] inputSource = new boolean[]{true, false, true};
+
+        // When
+        boolean[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(false, true);
+    }
+
+    @Test
+    void removeFirstByte_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        byte[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeFirstByte_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        byte[] inputSource = new byte[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 0 out of bounds for length 0");
+    }
+
+    @Test
+    void removeFirstByte_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        byte[] inputSource = new byte[]{1};
+
+        // When
+        byte[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeFirstByte_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+        // Given
+        byte[] inputSource = new byte[]{1, 2, 3};
+
+        // When
+        byte[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(2, 3);
+    }
+
+    @Test
+    void removeFirstChar_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        char[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeFirstChar_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        char[] inputSource = new char[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 0 out of bounds for length 0");
+    }
+
+    @Test
+    void removeFirstChar_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        char[] inputSource = new char[]{'a'};
+
+        // When
+        char[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeFirstChar_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+        // Given
+        char[] inputSource = new char[]{'a', 'b', 'c'};
+
+        // When
+        char[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly('b', 'c');
+    }
+
+    @Test
+    void removeFirstShort_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        short[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeFirstShort_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        short[] inputSource = new short[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 0 out of bounds for length 0");
+    }
+
+    @Test
+    void removeFirstShort_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        short[] inputSource = new short[]{1};
+
+        // When
+        short[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeFirstShort_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+        // Given
+        short[] inputSource = new short[]{1, 2, 3};
+
+        // When
+        short[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(2, 3);
+    }
+
+    @Test
+    void removeFirstInt_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        int[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeFirstInt_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        int[] inputSource = new int[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 0 out of bounds for length 0");
+    }
+
+    @Test
+    void removeFirstInt_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        int[] inputSource = new int[]{1};
+
+        // When
+        int[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeFirstInt_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3};
+
+        // When
+        int[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(2, 3);
+    }
+
+    @Test
+    void removeFirstLong_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        long[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeFirstLong_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        long[] inputSource = new long[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 0 out of bounds for length 0");
+    }
+
+    @Test
+    void removeFirstLong_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        long[] inputSource = new long[]{1L};
+
+        // When
+        long[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeFirstLong_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+        // Given
+        long[] inputSource = new long[]{1L, 2L, 3L};
+
+        // When
+        long[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(2L, 3L);
+    }
+
+    @Test
+    void removeFirstFloat_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        float[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeFirstFloat_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        float[] inputSource = new float[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 0 out of bounds for length 0");
+    }
+
+    @Test
+    void removeFirstFloat_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        float[] inputSource = new float[]{1.0F};
+
+        // When
+        float[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeFirstFloat_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+        // Given
+        float[] inputSource = new float[]{1.0F, 2.0F, 3.0F};
+
+        // When
+        float[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(2.0F, 3.0F);
+    }
+
+    @Test
+    void removeFirstDouble_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        double[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeFirstDouble_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        double[] inputSource = new double[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 0 out of bounds for length 0");
+    }
+
+    @Test
+    void removeFirstDouble_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        double[] inputSource = new double[]{1.0};
+
+        // When
+        double[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeFirstDouble_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+        // Given
+        double[] inputSource = new double[]{1.0, 2.0, 3.0};
+
+        // When
+        double[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(2.0, 3.0);
+    }
+
+    @Test
+    void removeFirstGeneric_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        String[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeFirstGeneric_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        String[] inputSource = new String[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 0 out of bounds for length 0");
+    }
+
+    @Test
+    void removeFirstGeneric_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        String[] inputSource = new String[]{"a"};
+
+        // When
+        String[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeFirstGeneric_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+        // Given
+        String[] inputSource = new String[]{"a", "b", "c"};
+
+        // When
+        String[] actual = ArrayUtils.removeFirst(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly("b", "c");
+    }
+
+    @Test
+    void removeLastBoolean_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        boolean[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeLastBoolean_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        boolean[] inputSource = new boolean[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 0");
+    }
+
+    @Test
+    void removeLastBoolean_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        boolean[] inputSource = new boolean[]{true};
+
+        // When
+        boolean[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeLastBoolean_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+        // Given
+        boolean[] inputSource = new boolean[]{true, false, true};
+
+        // When
+        boolean[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(true, false);
+    }
+
+    @Test
+    void removeLastByte_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        byte[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeLastByte_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        byte[] inputSource = new byte[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 0");
+    }
+
+    @Test
+    void removeLastByte_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        byte[] inputSource = new byte[]{1};
+
+        // When
+        byte[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeLastByte_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+        // Given
+        byte[] inputSource = new byte[]{1, 2, 3};
+
+        // When
+        byte[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    void removeLastChar_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        char[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeLastChar_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        char[] inputSource = new char[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 0");
+    }
+
+    @Test
+    void removeLastChar_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        char[] inputSource = new char[]{'a'};
+
+        // When
+        char[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeLastChar_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+        // Given
+        char[] inputSource = new char[]{'a', 'b', 'c'};
+
+        // When
+        char[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly('a', 'b');
+    }
+
+    @Test
+    void removeLastShort_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        short[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeLastShort_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        short[] inputSource = new short[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 0");
+    }
+
+    @Test
+    void removeLastShort_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        short[] inputSource = new short[]{1};
+
+        // When
+        short[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeLastShort_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+        // Given
+        short[] inputSource = new short[]{1, 2, 3};
+
+        // When
+        short[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    void removeLastInt_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        int[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeLastInt_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        int[] inputSource = new int[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 0");
+    }
+
+    @Test
+    void removeLastInt_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        int[] inputSource = new int[]{1};
+
+        // When
+        int[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeLastInt_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3};
+
+        // When
+        int[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    void removeLastLong_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        long[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeLastLong_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        long[] inputSource = new long[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 0");
+    }
+
+    @Test
+    void removeLastLong_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        long[] inputSource = new long[]{1L};
+
+        // When
+        long[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeLastLong_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+        // Given
+        long[] inputSource = new long[]{1L, 2L, 3L};
+
+        // When
+        long[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void removeLastFloat_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        float[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeLastFloat_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        float[] inputSource = new float[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 0");
+    }
+
+    @Test
+    void removeLastFloat_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        float[] inputSource = new float[]{1.0F};
+
+        // When
+        float[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeLastFloat_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+        // Given
+        float[] inputSource = new float[]{1.0F, 2.0F, 3.0F};
+
+        // When
+        float[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(1.0F, 2.0F);
+    }
+
+    @Test
+    void removeLastDouble_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        double[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeLastDouble_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        double[] inputSource = new double[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 0");
+    }
+
+    @Test
+    void removeLastDouble_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        double[] inputSource = new double[]{1.0};
+
+        // When
+        double[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeLastDouble_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+        // Given
+        double[] inputSource = new double[]{1.0, 2.0, 3.0};
+
+        // When
+        double[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    void removeLastGeneric_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+        // Given
+        String[] inputSource = null;
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The input array cannot be null");
+    }
+
+    @Test
+    void removeLastGeneric_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+        // Given
+        String[] inputSource = new String[]{};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index -1 out of bounds for length 0");
+    }
+
+    @Test
+    void removeLastGeneric_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+        // Given
+        String[] inputSource = new String[]{"a"};
+
+        // When
+        String[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeLastGeneric_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+        // Given
+        String[] inputSource = new String[]{"a", "b", "c"};
+
+        // When
+        String[] actual = ArrayUtils.removeLast(inputSource);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly("a", "b");
+    }
+
+    @Test
+    void removeElementBoolean_ShouldReturnEmptyArray_WhenArrayIsNull() {
+        // Given
+        boolean[] inputSource = null;
+        boolean inputElement = true;
+
+        // When
+        boolean[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual).isEmpty();
+    }
+
+    @Test
+    void removeElementBoolean_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+        // Given
+        boolean[] inputSource = new boolean[0];
+        boolean inputElement = true;
+
+        // When
+        boolean[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeElementBoolean_ShouldReturnClone_WhenElementNotFound() {
+        // Given
+        boolean[] inputSource = new boolean[]{true, true, true};
+        boolean inputElement = false;
+
+        // When
+        boolean[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(true, true, true);
+    }
+
+    @Test
+    void removeElementBoolean_ShouldRemoveFirstOccurrence_WhenElementExists() {
+        // Given
+        boolean[] inputSource = new boolean[]{true, false, true, false};
+        boolean inputElement = false;
+
+        // When
+        boolean[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(true, true, false);
+    }
+
+    @Test
+    void removeElementByte_ShouldReturnEmptyArray_WhenArrayIsNull() {
+        // Given
+        byte[] inputSource = null;
+        byte inputElement = 1;
+
+        // When
+        byte[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual).isEmpty();
+    }
+
+    @Test
+    void removeElementByte_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+        // Given
+        byte[] inputSource = new byte[0];
+        byte inputElement = 1;
+
+        // When
+        byte[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeElementByte_ShouldReturnClone_WhenElementNotFound() {
+        // Given
+        byte[] inputSource = new byte[]{1, 2, 3};
+        byte inputElement = 4;
+
+        // When
+        byte[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void removeElementByte_ShouldRemoveFirstOccurrence_WhenElementExists() {
+        // Given
+        byte[] inputSource = new byte[]{1, 2, 3, 2};
+        byte inputElement = 2;
+
+        // When
+        byte[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1, 3, 2);
+    }
+
+    @Test
+    void removeElementChar_ShouldReturnEmptyArray_WhenArrayIsNull() {
+        // Given
+        char[] inputSource = null;
+        char inputElement = 'a';
+
+        // When
+        char[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual).isEmpty();
+    }
+
+    @Test
+    void removeElementChar_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+        // Given
+        char[] inputSource = new char[0];
+        char inputElement = 'a';
+
+        // When
+        char[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeElementChar_ShouldReturnClone_WhenElementNotFound() {
+        // Given
+        char[] inputSource = new char[]{'a', 'b', 'c'};
+        char inputElement = 'd';
+
+        // When
+        char[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly('a', 'b', 'c');
+    }
+
+    @Test
+    void removeElementChar_ShouldRemoveFirstOccurrence_WhenElementExists() {
+        // Given
+        char[] inputSource = new char[]{'a', 'b', 'c', 'b'};
+        char inputElement = 'b';
+
+        // When
+        char[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly('a', 'c', 'b');
+    }
+
+    @Test
+    void removeElementShort_ShouldReturnEmptyArray_WhenArrayIsNull() {
+        // Given
+        short[] inputSource = null;
+        short inputElement = 1;
+
+        // When
+        short[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual).isEmpty();
+    }
+
+    @Test
+    void removeElementShort_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+        // Given
+        short[] inputSource = new short[0];
+        short inputElement = 1;
+
+        // When
+        short[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeElementShort_ShouldReturnClone_WhenElementNotFound() {
+        // Given
+        short[] inputSource = new short[]{1, 2, 3};
+        short inputElement = 4;
+
+        // When
+        short[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void removeElementShort_ShouldRemoveFirstOccurrence_WhenElementExists() {
+        // Given
+        short[] inputSource = new short[]{1, 2, 3, 2};
+        short inputElement = 2;
+
+        // When
+        short[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1, 3, 2);
+    }
+
+    @Test
+    void removeElementInt_ShouldReturnEmptyArray_WhenArrayIsNull() {
+        // Given
+        int[] inputSource = null;
+        int inputElement = 1;
+
+        // When
+        int[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual).isEmpty();
+    }
+
+    @Test
+    void removeElementInt_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+        // Given
+        int[] inputSource = new int[0];
+        int inputElement = 1;
+
+        // When
+        int[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeElementInt_ShouldReturnClone_WhenElementNotFound() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3};
+        int inputElement = 4;
+
+        // When
+        int[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void removeElementInt_ShouldRemoveFirstOccurrence_WhenElementExists() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3, 2};
+        int inputElement = 2;
+
+        // When
+        int[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1, 3, 2);
+    }
+
+    @Test
+    void removeElementLong_ShouldReturnEmptyArray_WhenArrayIsNull() {
+        // Given
+        long[] inputSource = null;
+        long inputElement = 1L;
+
+        // When
+        long[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual).isEmpty();
+    }
+
+    @Test
+    void removeElementLong_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+        // Given
+        long[] inputSource = new long[0];
+        long inputElement = 1L;
+
+        // When
+        long[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeElementLong_ShouldReturnClone_WhenElementNotFound() {
+        // Given
+        long[] inputSource = new long[]{1L, 2L, 3L};
+        long inputElement = 4L;
+
+        // When
+        long[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void removeElementLong_ShouldRemoveFirstOccurrence_WhenElementExists() {
+        // Given
+        long[] inputSource = new long[]{1L, 2L, 3L, 2L};
+        long inputElement = 2L;
+
+        // When
+        long[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void removeElementFloat_ShouldReturnEmptyArray_WhenArrayIsNull() {
+        // Given
+        float[] inputSource = null;
+        float inputElement = 1.0F;
+
+        // When
+        float[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual).isEmpty();
+    }
+
+    @Test
+    void removeElementFloat_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+        // Given
+        float[] inputSource = new float[0];
+        float inputElement = 1.0F;
+
+        // When
+        float[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeElementFloat_ShouldReturnClone_WhenElementNotFound() {
+        // Given
+        float[] inputSource = new float[]{1.0F, 2.0F, 3.0F};
+        float inputElement = 4.0F;
+
+        // When
+        float[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1.0F, 2.0F, 3.0F);
+    }
+
+    @Test
+    void removeElementFloat_ShouldRemoveFirstOccurrence_WhenElementExists() {
+        // Given
+        float[] inputSource = new float[]{1.0F, 2.0F, 3.0F, 2.0F};
+        float inputElement = 2.0F;
+
+        // When
+        float[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1.0F, 3.0F, 2.0F);
+    }
+
+    @Test
+    void removeElementDouble_ShouldReturnEmptyArray_WhenArrayIsNull() {
+        // Given
+        double[] inputSource = null;
+        double inputElement = 1.0;
+
+        // When
+        double[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual).isEmpty();
+    }
+
+    @Test
+    void removeElementDouble_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+        // Given
+        double[] inputSource = new double[0];
+        double inputElement = 1.0;
+
+        // When
+        double[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeElementDouble_ShouldReturnClone_WhenElementNotFound() {
+        // Given
+        double[] inputSource = new double[]{1.0, 2.0, 3.0};
+        double inputElement = 4.0;
+
+        // When
+        double[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1.0, 2.0, 3.0);
+    }
+
+    @Test
+    void removeElementDouble_ShouldRemoveFirstOccurrence_WhenElementExists() {
+        // Given
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 2.0};
+        double inputElement = 2.0;
+
+        // When
+        double[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1.0, 3.0, 2.0);
+    }
+
+    @Test
+    void removeElementGeneric_ShouldReturnNull_WhenArrayIsNull() {
+        // Given
+        String[] inputSource = null;
+        String inputElement = "a";
+
+        // When
+        String[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual).isNull();
+    }
+
+    @Test
+    void removeElementGeneric_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+        // Given
+        String[] inputSource = new String[0];
+        String inputElement = "a";
+
+        // When
+        String[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .isEmpty();
+    }
+
+    @Test
+    void removeElementGeneric_ShouldReturnClone_WhenElementNotFound() {
+        // Given
+        String[] inputSource = new String[]{"a", "b", "c"};
+        String inputElement = "d";
+
+        // When
+        String[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void removeElementGeneric_ShouldRemoveFirstOccurrence_WhenElementExists() {
+        // Given
+        String[] inputSource = new String[]{"a", "b", "c", "b"};
+        String inputElement = "b";
+
+        // When
+        String[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly("a", "c", "b");
+    }
+
+    @Test
+    void removeElementGeneric_ShouldHandleNullElement_WhenElementIsNull() {
+        // Given
+        String[] inputSource = new String[]{"a", null, "c"};
+        String inputElement = null;
+
+        // When
+        String[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+
+        // Then
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly("a", "c");
+    }
+
+    @Test
+    void removeElementBooleanWithDestination_ShouldSkipFirstOccurrence_WhenElementIsFound() {
+        // Given
+        boolean[] inputSource = new boolean[]{true, false, true, false};
+        boolean[] destination = new boolean[4];
+
+        // When
+        int actual = ArrayUtils.removeElement(inputSource, false, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(true, true, false, false);
+    }
+
+    @Test
+    void removeElementByteWithDestination_ShouldSkipFirstOccurrence_WhenElementIsFound() {
+        // Given
+        byte[] inputSource = new byte[]{1, 2, 3, 4};
+        byte[] destination = new byte[4];
+
+        // When
+        int actual = ArrayUtils.removeElement(inputSource, (byte) 2, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(1, 3, 4, (byte) 0);
+    }
+
+    @Test
+    void removeElementCharWithDestination_ShouldSkipFirstOccurrence_WhenElementIsFound() {
+        // Given
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd'};
+        char[] destination = new char[4];
+
+        // When
+        int actual = ArrayUtils.removeElement(inputSource, 'b', destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly('a', 'c', 'd', '\u0000');
+    }
+
+    @Test
+    void removeElementShortWithDestination_ShouldSkipFirstOccurrence_WhenElementIsFound() {
+        // Given
+        short[] inputSource = new short[]{1, 2, 3, 4};
+        short[] destination = new short[4];
+
+        // When
+        int actual = ArrayUtils.removeElement(inputSource, (short) 2, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(1, 3, 4, (short) 0);
+    }
+
+    @Test
+    void removeElementIntWithDestination_ShouldSkipFirstOccurrence_WhenElementIsFound() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3, 4};
+        int[] destination = new int[4];
+
+        // When
+        int actual = ArrayUtils.removeElement(inputSource, 2, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(1, 3, 4, 0);
+    }
+
+    @Test
+    void removeElementIntWithDestination_ShouldWriteAllElements_WhenElementIsNotFound() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3, 4};
+        int[] destination = new int[4];
+
+        // When
+        int actual = ArrayUtils.removeElement(inputSource, 9, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(4);
+        then(destination).containsExactly(1, 2, 3, 4);
+    }
+
+    @Test
+    void removeElementLongWithDestination_ShouldSkipFirstOccurrence_WhenElementIsFound() {
         // Given
-        double[] inputArray1 = new double[]{1.0, 2.0};
-        double[] inputArray2 = new double[0];
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L};
+        long[] destination = new long[4];
 
         // When
-        double[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int actual = ArrayUtils.removeElement(inputSource, 2L, destination, 0);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly(1.0, 2.0);
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(1L, 3L, 4L, 0L);
     }
 
     @Test
-    void mergeDouble_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+    void removeElementFloatWithDestination_ShouldSkipFirstOccurrence_WhenElementIsFound() {
         // Given
-        double[] inputArray1 = new double[]{1.0, 2.0};
-        double[] inputArray2 = new double[]{3.0, 4.0};
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f};
+        float[] destination = new float[4];
 
         // When
-        double[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int actual = ArrayUtils.removeElement(inputSource, 2.0f, destination, 0);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .hasSize(4)
-                .containsExactly(1.0, 2.0, 3.0, 4.0);
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(1.0f, 3.0f, 4.0f, 0.0f);
     }
 
     @Test
-    void mergeGeneric_ShouldReturnNull_WhenBothArraysAreNull() {
+    void removeElementDoubleWithDestination_ShouldSkipFirstOccurrence_WhenElementIsFound() {
         // Given
-        String[] inputArray1 = null;
-        String[] inputArray2 = null;
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0};
+        double[] destination = new double[4];
 
         // When
-        String[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        int actual = ArrayUtils.removeElement(inputSource, 2.0, destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(1.0, 3.0, 4.0, 0.0);
+    }
+
+    @Test
+    void removeElementGenericWithDestination_ShouldSkipFirstOccurrence_WhenElementIsFound() {
+        // Given
+        String[] inputSource = new String[]{"a", "b", "c", "d"};
+        String[] destination = new String[4];
+
+        // When
+        int actual = ArrayUtils.removeElement(inputSource, "b", destination, 0);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly("a", "c", "d", null);
+    }
+
+    @Test
+    void reverseBoolean_ShouldReturnNull_WhenSourceIsNull() {
+        // Given
+        boolean[] inputSource = null;
+
+        // When
+        boolean[] actual = ArrayUtils.reverse(inputSource);
 
         // Then
         then(actual).isNull();
     }
 
     @Test
-    void mergeGeneric_ShouldReturnEmptyArray_WhenBothArraysAreEmpty() {
+    void reverseBoolean_ShouldReverseElementsInPlace_WhenSourceIsProvided() {
         // Given
-        String[] inputArray1 = new String[0];
-        String[] inputArray2 = new String[0];
+        boolean[] inputSource = new boolean[]{true, true, false, true, false};
 
         // When
-        String[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        boolean[] actual = ArrayUtils.reverse(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(false, true, false, true, true);
     }
 
     @Test
-    void mergeGeneric_ShouldReturnCopyOfArray2_WhenArray1IsNull() {
+    void reverseBoolean_ShouldReverseOnlyRange_WhenRangeIsProvided() {
         // Given
-        String[] inputArray1 = null;
-        String[] inputArray2 = new String[]{"a", "b"};
+        boolean[] inputSource = new boolean[]{true, true, false, true, false};
 
         // When
-        String[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        boolean[] actual = ArrayUtils.reverse(inputSource, 1, 4);
 
         // Then
         then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly("a", "b");
+                .isSameAs(inputSource)
+                .containsExactly(true, true, false, true, false);
     }
 
     @Test
-    void mergeGeneric_ShouldReturnCopyOfArray2_WhenArray1IsEmpty() {
+    void reverseByte_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        String[] inputArray1 = new String[0];
-        String[] inputArray2 = new String[]{"a", "b"};
+        byte[] inputSource = null;
 
         // When
-        String[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        byte[] actual = ArrayUtils.reverse(inputSource);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray2)
-                .hasSize(2)
-                .containsExactly("a", "b");
+        then(actual).isNull();
     }
 
     @Test
-    void mergeGeneric_ShouldReturnCopyOfArray1_WhenArray2IsNull() {
+    void reverseByte_ShouldReverseElementsInPlace_WhenSourceIsProvided() {
         // Given
-        String[] inputArray1 = new String[]{"a", "b"};
-        String[] inputArray2 = null;
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5};
 
         // When
-        String[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        byte[] actual = ArrayUtils.reverse(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly("a", "b");
+                .isSameAs(inputSource)
+                .containsExactly(5, 4, 3, 2, 1);
     }
 
     @Test
-    void mergeGeneric_ShouldReturnCopyOfArray1_WhenArray2IsEmpty() {
+    void reverseByte_ShouldReverseOnlyRange_WhenRangeIsProvided() {
         // Given
-        String[] inputArray1 = new String[]{"a", "b"};
-        String[] inputArray2 = new String[0];
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5};
 
         // When
-        String[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        byte[] actual = ArrayUtils.reverse(inputSource, 1, 4);
 
         // Then
         then(actual)
-                .isNotSameAs(inputArray1)
-                .hasSize(2)
-                .containsExactly("a", "b");
+                .isSameAs(inputSource)
+                .containsExactly(1, 4, 3, 2, 5);
     }
 
     @Test
-    void mergeGeneric_ShouldMergeArrays_WhenBothArraysAreNotEmpty() {
+    void reverseChar_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        String[] inputArray1 = new String[]{"a", "b"};
-        String[] inputArray2 = new String[]{"c", "d"};
+        char[] inputSource = null;
 
         // When
-        String[] actual = ArrayUtils.merge(inputArray1, inputArray2);
+        char[] actual = ArrayUtils.reverse(inputSource);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputArray1)
-                .isNotSameAs(inputArray2)
-                .hasSize(4)
-                .containsExactly("a", "b", "c", "d");
+        then(actual).isNull();
     }
 
     @Test
-    void removeBoolean_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void reverseChar_ShouldReverseElementsInPlace_WhenSourceIsProvided() {
         // Given
-        boolean[] inputSource = null;
-        int inputIndex = 0;
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e'};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        char[] actual = ArrayUtils.reverse(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly('e', 'd', 'c', 'b', 'a');
     }
 
     @Test
-    void removeBoolean_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+    void reverseChar_ShouldReverseOnlyRange_WhenRangeIsProvided() {
         // Given
-        boolean[] inputSource = new boolean[]{true, false};
-        int inputIndex = -1;
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e'};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 2");
+        // When
+        char[] actual = ArrayUtils.reverse(inputSource, 1, 4);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly('a', 'd', 'c', 'b', 'e');
     }
 
     @Test
-    void removeBoolean_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+    void reverseShort_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        boolean[] inputSource = new boolean[]{true, false};
-        int inputIndex = 2;
+        short[] inputSource = null;
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 2 out of bounds for length 2");
+        // When
+        short[] actual = ArrayUtils.reverse(inputSource);
+
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeBoolean_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+    void reverseShort_ShouldReverseElementsInPlace_WhenSourceIsProvided() {
         // Given
-        boolean[] inputSource = new boolean[]{true};
-        int inputIndex = 0;
+        short[] inputSource = new short[]{1, 2, 3, 4, 5};
 
         // When
-        boolean[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        short[] actual = ArrayUtils.reverse(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(5, 4, 3, 2, 1);
     }
 
-    @ParameterizedTest(name = "{2}")
-    @MethodSource("removeBooleanTestCases")
-    void removeBoolean_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, boolean[] expected, String description) {
+    @Test
+    void reverseShort_ShouldReverseOnlyRange_WhenRangeIsProvided() {
         // Given
-        boolean[] inputSource = new boolean[]{true, false, true};
+        short[] inputSource = new short[]{1, 2, 3, 4, 5};
 
         // When
-        boolean[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        short[] actual = ArrayUtils.reverse(inputSource, 1, 4);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(expected);
+                .isSameAs(inputSource)
+                .containsExactly(1, 4, 3, 2, 5);
     }
 
-    private static Stream<Arguments> removeBooleanTestCases() {
-        return Stream.of(
-                Arguments.of(0, new boolean[]{false, true}, "removing first element"),
-                Arguments.of(2, new boolean[]{true, false}, "removing last element"),
-                Arguments.of(1, new boolean[]{true, true}, "removing middle element")
-        );
+    @Test
+    void reverseInt_ShouldReturnNull_WhenSourceIsNull() {
+        // Given
+        int[] inputSource = null;
+
+        // When
+        int[] actual = ArrayUtils.reverse(inputSource);
+
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeByte_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void reverseInt_ShouldReverseElementsInPlace_WhenSourceIsProvided() {
         // Given
-        byte[] inputSource = null;
-        int inputIndex = 0;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        int[] actual = ArrayUtils.reverse(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(5, 4, 3, 2, 1);
     }
 
     @Test
-    void removeByte_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+    void reverseInt_ShouldReverseOnlyRange_WhenRangeIsProvided() {
         // Given
-        byte[] inputSource = new byte[]{1, 2};
-        int inputIndex = -1;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 2");
+        // When
+        int[] actual = ArrayUtils.reverse(inputSource, 1, 4);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1, 4, 3, 2, 5);
     }
 
     @Test
-    void removeByte_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+    void reverseInt_ShouldThrowIndexOutOfBoundsException_WhenFromIndexIsNegative() {
         // Given
-        byte[] inputSource = new byte[]{1, 2};
-        int inputIndex = 2;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
         // When & Then
         thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
+                .isThrownBy(() -> ArrayUtils.reverse(inputSource, -1, 2))
                 .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 2 out of bounds for length 2");
+                .withMessage("Index -1 out of bounds for length 5");
     }
 
     @Test
-    void removeByte_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+    void reverseLong_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        byte[] inputSource = new byte[]{1};
-        int inputIndex = 0;
+        long[] inputSource = null;
 
         // When
-        byte[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        long[] actual = ArrayUtils.reverse(inputSource);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+        then(actual).isNull();
     }
 
-    @ParameterizedTest(name = "{2}")
-    @MethodSource("removeByteTestCases")
-    void removeByte_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, byte[] expected, String description) {
+    @Test
+    void reverseLong_ShouldReverseElementsInPlace_WhenSourceIsProvided() {
         // Given
-        byte[] inputSource = new byte[]{1, 2, 3};
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L};
 
         // When
-        byte[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        long[] actual = ArrayUtils.reverse(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(expected);
-    }
-
-    private static Stream<Arguments> removeByteTestCases() {
-        return Stream.of(
-                Arguments.of(0, new byte[]{2, 3}, "removing first element"),
-                Arguments.of(2, new byte[]{1, 2}, "removing last element"),
-                Arguments.of(1, new byte[]{1, 3}, "removing middle element")
-        );
+                .isSameAs(inputSource)
+                .containsExactly(5L, 4L, 3L, 2L, 1L);
     }
 
     @Test
-    void removeChar_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void reverseLong_ShouldReverseOnlyRange_WhenRangeIsProvided() {
         // Given
-        char[] inputSource = null;
-        int inputIndex = 0;
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
-    }
-
-    @Test
-    void removeChar_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
-        // Given
-        char[] inputSource = new char[]{'a', 'b'};
-        int inputIndex = -1;
+        // When
+        long[] actual = ArrayUtils.reverse(inputSource, 1, 4);
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 2");
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1L, 4L, 3L, 2L, 5L);
     }
 
     @Test
-    void removeChar_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+    void reverseFloat_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        char[] inputSource = new char[]{'a', 'b'};
-        int inputIndex = 2;
+        float[] inputSource = null;
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 2 out of bounds for length 2");
+        // When
+        float[] actual = ArrayUtils.reverse(inputSource);
+
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeChar_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+    void reverseFloat_ShouldReverseElementsInPlace_WhenSourceIsProvided() {
         // Given
-        char[] inputSource = new char[]{'a'};
-        int inputIndex = 0;
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f};
 
         // When
-        char[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        float[] actual = ArrayUtils.reverse(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(5.0f, 4.0f, 3.0f, 2.0f, 1.0f);
     }
 
-    @ParameterizedTest(name = "{2}")
-    @MethodSource("removeCharTestCases")
-    void removeChar_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, char[] expected, String description) {
+    @Test
+    void reverseFloat_ShouldReverseOnlyRange_WhenRangeIsProvided() {
         // Given
-        char[] inputSource = new char[]{'a', 'b', 'c'};
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f};
 
         // When
-        char[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        float[] actual = ArrayUtils.reverse(inputSource, 1, 4);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(expected);
-    }
-
-    private static Stream<Arguments> removeCharTestCases() {
-        return Stream.of(
-                Arguments.of(0, new char[]{'b', 'c'}, "removing first element"),
-                Arguments.of(2, new char[]{'a', 'b'}, "removing last element"),
-                Arguments.of(1, new char[]{'a', 'c'}, "removing middle element")
-        );
+                .isSameAs(inputSource)
+                .containsExactly(1.0f, 4.0f, 3.0f, 2.0f, 5.0f);
     }
 
     @Test
-    void removeShort_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void reverseDouble_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        short[] inputSource = null;
-        int inputIndex = 0;
-
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
-    }
+        double[] inputSource = null;
 
-    @Test
-    void removeShort_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
-        // Given
-        short[] inputSource = new short[]{1, 2};
-        int inputIndex = -1;
+        // When
+        double[] actual = ArrayUtils.reverse(inputSource);
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 2");
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeShort_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+    void reverseDouble_ShouldReverseElementsInPlace_WhenSourceIsProvided() {
         // Given
-        short[] inputSource = new short[]{1, 2};
-        int inputIndex = 2;
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 2 out of bounds for length 2");
+        // When
+        double[] actual = ArrayUtils.reverse(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(5.0, 4.0, 3.0, 2.0, 1.0);
     }
 
     @Test
-    void removeShort_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+    void reverseDouble_ShouldReverseOnlyRange_WhenRangeIsProvided() {
         // Given
-        short[] inputSource = new short[]{1};
-        int inputIndex = 0;
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0};
 
         // When
-        short[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        double[] actual = ArrayUtils.reverse(inputSource, 1, 4);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(1.0, 4.0, 3.0, 2.0, 5.0);
     }
 
-    @ParameterizedTest(name = "{2}")
-    @MethodSource("removeShortTestCases")
-    void removeShort_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, short[] expected, String description) {
+    @Test
+    void reverseGeneric_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        short[] inputSource = new short[]{1, 2, 3};
+        String[] inputSource = null;
 
         // When
-        short[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        String[] actual = ArrayUtils.reverse(inputSource);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(expected);
-    }
-
-    private static Stream<Arguments> removeShortTestCases() {
-        return Stream.of(
-                Arguments.of(0, new short[]{2, 3}, "removing first element"),
-                Arguments.of(2, new short[]{1, 2}, "removing last element"),
-                Arguments.of(1, new short[]{1, 3}, "removing middle element")
-        );
+        then(actual).isNull();
     }
 
     @Test
-    void removeInt_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void reverseGeneric_ShouldReverseElementsInPlace_WhenSourceIsProvided() {
         // Given
-        int[] inputSource = null;
-        int inputIndex = 0;
+        String[] inputSource = new String[]{"a", "b", "c", "d", "e"};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        String[] actual = ArrayUtils.reverse(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly("e", "d", "c", "b", "a");
     }
 
     @Test
-    void removeInt_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+    void reverseGeneric_ShouldReverseOnlyRange_WhenRangeIsProvided() {
         // Given
-        int[] inputSource = new int[]{1, 2};
-        int inputIndex = -1;
+        String[] inputSource = new String[]{"a", "b", "c", "d", "e"};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 2");
+        // When
+        String[] actual = ArrayUtils.reverse(inputSource, 1, 4);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly("a", "d", "c", "b", "e");
     }
 
     @Test
-    void removeInt_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+    void rotateBoolean_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        int[] inputSource = new int[]{1, 2};
-        int inputIndex = 2;
+        boolean[] inputSource = null;
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 2 out of bounds for length 2");
+        // When
+        boolean[] actual = ArrayUtils.rotate(inputSource, 1);
+
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeInt_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+    void rotateBoolean_ShouldRotateRight_WhenDistanceIsPositive() {
         // Given
-        int[] inputSource = new int[]{1};
-        int inputIndex = 0;
+        boolean[] inputSource = new boolean[]{true, true, false, true, false};
 
         // When
-        int[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        boolean[] actual = ArrayUtils.rotate(inputSource, 2);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(true, false, true, true, false);
     }
 
-    @ParameterizedTest(name = "{2}")
-    @MethodSource("removeIntTestCases")
-    void removeInt_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, int[] expected, String description) {
+    @Test
+    void rotateBoolean_ShouldRotateLeft_WhenDistanceIsNegative() {
         // Given
-        int[] inputSource = new int[]{1, 2, 3};
+        boolean[] inputSource = new boolean[]{true, true, false, true, false};
 
         // When
-        int[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        boolean[] actual = ArrayUtils.rotate(inputSource, -1);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(expected);
-    }
-
-    private static Stream<Arguments> removeIntTestCases() {
-        return Stream.of(
-                Arguments.of(0, new int[]{2, 3}, "removing first element"),
-                Arguments.of(2, new int[]{1, 2}, "removing last element"),
-                Arguments.of(1, new int[]{1, 3}, "removing middle element")
-        );
+                .isSameAs(inputSource)
+                .containsExactly(true, false, true, false, true);
     }
 
     @Test
-    void removeLong_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void rotateBoolean_ShouldRotateOnlyRange_WhenRangeIsProvided() {
         // Given
-        long[] inputSource = null;
-        int inputIndex = 0;
+        boolean[] inputSource = new boolean[]{true, true, false, true, false};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        boolean[] actual = ArrayUtils.rotate(inputSource, 1, 4, 4);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(true, true, true, false, false);
     }
 
     @Test
-    void removeLong_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+    void rotateByte_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        long[] inputSource = new long[]{1L, 2L};
-        int inputIndex = -1;
+        byte[] inputSource = null;
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 2");
+        // When
+        byte[] actual = ArrayUtils.rotate(inputSource, 1);
+
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeLong_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+    void rotateByte_ShouldRotateRight_WhenDistanceIsPositive() {
         // Given
-        long[] inputSource = new long[]{1L, 2L};
-        int inputIndex = 2;
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 2 out of bounds for length 2");
+        // When
+        byte[] actual = ArrayUtils.rotate(inputSource, 2);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(4, 5, 1, 2, 3);
     }
 
     @Test
-    void removeLong_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+    void rotateByte_ShouldRotateLeft_WhenDistanceIsNegative() {
         // Given
-        long[] inputSource = new long[]{1L};
-        int inputIndex = 0;
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5};
 
         // When
-        long[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        byte[] actual = ArrayUtils.rotate(inputSource, -1);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(2, 3, 4, 5, 1);
     }
 
-    @ParameterizedTest(name = "{2}")
-    @MethodSource("removeLongTestCases")
-    void removeLong_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, long[] expected, String description) {
+    @Test
+    void rotateByte_ShouldRotateOnlyRange_WhenRangeIsProvided() {
         // Given
-        long[] inputSource = new long[]{1L, 2L, 3L};
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5};
 
         // When
-        long[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        byte[] actual = ArrayUtils.rotate(inputSource, 1, 4, 4);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(expected);
-    }
-
-    private static Stream<Arguments> removeLongTestCases() {
-        return Stream.of(
-                Arguments.of(0, new long[]{2L, 3L}, "removing first element"),
-                Arguments.of(2, new long[]{1L, 2L}, "removing last element"),
-                Arguments.of(1, new long[]{1L, 3L}, "removing middle element")
-        );
+                .isSameAs(inputSource)
+                .containsExactly(1, 4, 2, 3, 5);
     }
 
     @Test
-    void removeFloat_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void rotateChar_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        float[] inputSource = null;
-        int inputIndex = 0;
+        char[] inputSource = null;
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        char[] actual = ArrayUtils.rotate(inputSource, 1);
+
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeFloat_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+    void rotateChar_ShouldRotateRight_WhenDistanceIsPositive() {
         // Given
-        float[] inputSource = new float[]{1.0F, 2.0F};
-        int inputIndex = -1;
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e'};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 2");
+        // When
+        char[] actual = ArrayUtils.rotate(inputSource, 2);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly('d', 'e', 'a', 'b', 'c');
     }
 
     @Test
-    void removeFloat_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+    void rotateChar_ShouldRotateLeft_WhenDistanceIsNegative() {
         // Given
-        float[] inputSource = new float[]{1.0F, 2.0F};
-        int inputIndex = 2;
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e'};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 2 out of bounds for length 2");
+        // When
+        char[] actual = ArrayUtils.rotate(inputSource, -1);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly('b', 'c', 'd', 'e', 'a');
     }
 
     @Test
-    void removeFloat_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+    void rotateChar_ShouldRotateOnlyRange_WhenRangeIsProvided() {
         // Given
-        float[] inputSource = new float[]{1.0F};
-        int inputIndex = 0;
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e'};
 
         // When
-        float[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        char[] actual = ArrayUtils.rotate(inputSource, 1, 4, 4);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly('a', 'd', 'b', 'c', 'e');
     }
 
-    @ParameterizedTest(name = "{2}")
-    @MethodSource("removeFloatTestCases")
-    void removeFloat_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, float[] expected, String description) {
+    @Test
+    void rotateShort_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        float[] inputSource = new float[]{1.0F, 2.0F, 3.0F};
+        short[] inputSource = null;
 
         // When
-        float[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        short[] actual = ArrayUtils.rotate(inputSource, 1);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(expected);
+        then(actual).isNull();
     }
 
-    private static Stream<Arguments> removeFloatTestCases() {
-        return Stream.of(
-                Arguments.of(0, new float[]{2.0F, 3.0F}, "removing first element"),
-                Arguments.of(2, new float[]{1.0F, 2.0F}, "removing last element"),
-                Arguments.of(1, new float[]{1.0F, 3.0F}, "removing middle element")
-        );
+    @Test
+    void rotateShort_ShouldRotateRight_WhenDistanceIsPositive() {
+        // Given
+        short[] inputSource = new short[]{1, 2, 3, 4, 5};
+
+        // When
+        short[] actual = ArrayUtils.rotate(inputSource, 2);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(4, 5, 1, 2, 3);
     }
 
     @Test
-    void removeDouble_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void rotateShort_ShouldRotateLeft_WhenDistanceIsNegative() {
         // Given
-        double[] inputSource = null;
-        int inputIndex = 0;
+        short[] inputSource = new short[]{1, 2, 3, 4, 5};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        short[] actual = ArrayUtils.rotate(inputSource, -1);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(2, 3, 4, 5, 1);
     }
 
     @Test
-    void removeDouble_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+    void rotateShort_ShouldRotateOnlyRange_WhenRangeIsProvided() {
         // Given
-        double[] inputSource = new double[]{1.0, 2.0};
-        int inputIndex = -1;
+        short[] inputSource = new short[]{1, 2, 3, 4, 5};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 2");
+        // When
+        short[] actual = ArrayUtils.rotate(inputSource, 1, 4, 4);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1, 4, 2, 3, 5);
     }
 
     @Test
-    void removeDouble_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+    void rotateInt_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        double[] inputSource = new double[]{1.0, 2.0};
-        int inputIndex = 2;
+        int[] inputSource = null;
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 2 out of bounds for length 2");
+        // When
+        int[] actual = ArrayUtils.rotate(inputSource, 1);
+
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeDouble_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+    void rotateInt_ShouldRotateRight_WhenDistanceIsPositive() {
         // Given
-        double[] inputSource = new double[]{1.0};
-        int inputIndex = 0;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
         // When
-        double[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        int[] actual = ArrayUtils.rotate(inputSource, 2);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(4, 5, 1, 2, 3);
     }
 
-    @ParameterizedTest(name = "{2}")
-    @MethodSource("removeDoubleTestCases")
-    void removeDouble_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, double[] expected, String description) {
+    @Test
+    void rotateInt_ShouldRotateLeft_WhenDistanceIsNegative() {
         // Given
-        double[] inputSource = new double[]{1.0, 2.0, 3.0};
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
         // When
-        double[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        int[] actual = ArrayUtils.rotate(inputSource, -1);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(expected);
-    }
-
-    private static Stream<Arguments> removeDoubleTestCases() {
-        return Stream.of(
-                Arguments.of(0, new double[]{2.0, 3.0}, "removing first element"),
-                Arguments.of(2, new double[]{1.0, 2.0}, "removing last element"),
-                Arguments.of(1, new double[]{1.0, 3.0}, "removing middle element")
-        );
+                .isSameAs(inputSource)
+                .containsExactly(2, 3, 4, 5, 1);
     }
 
     @Test
-    void removeGeneric_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void rotateInt_ShouldRotateOnlyRange_WhenRangeIsProvided() {
         // Given
-        String[] inputSource = null;
-        int inputIndex = 0;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        int[] actual = ArrayUtils.rotate(inputSource, 1, 4, 4);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1, 4, 2, 3, 5);
     }
 
     @Test
-    void removeGeneric_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNegative() {
+    void rotateInt_ShouldNotChangeArray_WhenDistanceIsMultipleOfLength() {
         // Given
-        String[] inputSource = new String[]{"a", "b"};
-        int inputIndex = -1;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 2");
+        // When
+        int[] actual = ArrayUtils.rotate(inputSource, 10);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1, 2, 3, 4, 5);
     }
 
     @Test
-    void removeGeneric_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfBounds() {
+    void rotateLong_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        String[] inputSource = new String[]{"a", "b"};
-        int inputIndex = 2;
+        long[] inputSource = null;
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.remove(inputSource, inputIndex))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 2 out of bounds for length 2");
+        // When
+        long[] actual = ArrayUtils.rotate(inputSource, 1);
+
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeGeneric_ShouldReturnEmptyArray_WhenRemovingFromSingleElementArray() {
+    void rotateLong_ShouldRotateRight_WhenDistanceIsPositive() {
         // Given
-        String[] inputSource = new String[]{"a"};
-        int inputIndex = 0;
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L};
 
         // When
-        String[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        long[] actual = ArrayUtils.rotate(inputSource, 2);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(4L, 5L, 1L, 2L, 3L);
     }
 
-    @ParameterizedTest(name = "{2}")
-    @MethodSource("removeGenericTestCases")
-    void removeGeneric_ShouldRemoveElement_WhenIndexIsProvided(int inputIndex, String[] expected, String description) {
+    @Test
+    void rotateLong_ShouldRotateLeft_WhenDistanceIsNegative() {
         // Given
-        String[] inputSource = new String[]{"a", "b", "c"};
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L};
 
         // When
-        String[] actual = ArrayUtils.remove(inputSource, inputIndex);
+        long[] actual = ArrayUtils.rotate(inputSource, -1);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(expected);
-    }
-
-    private static Stream<Arguments> removeGenericTestCases() {
-        return Stream.of(
-                Arguments.of(0, new String[]{"b", "c"}, "removing first element"),
-                Arguments.of(2, new String[]{"a", "b"}, "removing last element"),
-                Arguments.of(1, new String[]{"a", "c"}, "removing middle element")
-        );
+                .isSameAs(inputSource)
+                .containsExactly(2L, 3L, 4L, 5L, 1L);
     }
 
     @Test
-    void removeFirstBoolean_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void rotateLong_ShouldRotateOnlyRange_WhenRangeIsProvided() {
         // Given
-        boolean[] inputSource = null;
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        long[] actual = ArrayUtils.rotate(inputSource, 1, 4, 4);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1L, 4L, 2L, 3L, 5L);
     }
 
     @Test
-    void removeFirstBoolean_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void rotateFloat_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        boolean[] inputSource = new boolean[]{};
+        float[] inputSource = null;
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 0 out of bounds for length 0");
+        // When
+        float[] actual = ArrayUtils.rotate(inputSource, 1);
+
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeFirstBoolean_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void rotateFloat_ShouldRotateRight_WhenDistanceIsPositive() {
         // Given
-        boolean[] inputSource = new boolean[]{true};
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f};
 
         // When
-        boolean[] actual = ArrayUtils.removeFirst(inputSource);
+        float[] actual = ArrayUtils.rotate(inputSource, 2);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(4.0f, 5.0f, 1.0f, 2.0f, 3.0f);
     }
 
     @Test
-    void removeFirstBoolean_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+    void rotateFloat_ShouldRotateLeft_WhenDistanceIsNegative() {
         // Given
-        boolean[] inputSource = new boolean[]{true, false, true};
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f};
 
         // When
-        boolean[] actual = ArrayUtils.removeFirst(inputSource);
+        float[] actual = ArrayUtils.rotate(inputSource, -1);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(false, true);
+                .isSameAs(inputSource)
+                .containsExactly(2.0f, 3.0f, 4.0f, 5.0f, 1.0f);
     }
 
     @Test
-    void removeFirstByte_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void rotateFloat_ShouldRotateOnlyRange_WhenRangeIsProvided() {
         // Given
-        byte[] inputSource = null;
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        float[] actual = ArrayUtils.rotate(inputSource, 1, 4, 4);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1.0f, 4.0f, 2.0f, 3.0f, 5.0f);
     }
 
     @Test
-    void removeFirstByte_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void rotateDouble_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        byte[] inputSource = new byte[]{};
+        double[] inputSource = null;
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 0 out of bounds for length 0");
+        // When
+        double[] actual = ArrayUtils.rotate(inputSource, 1);
+
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeFirstByte_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void rotateDouble_ShouldRotateRight_WhenDistanceIsPositive() {
         // Given
-        byte[] inputSource = new byte[]{1};
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0};
 
         // When
-        byte[] actual = ArrayUtils.removeFirst(inputSource);
+        double[] actual = ArrayUtils.rotate(inputSource, 2);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(4.0, 5.0, 1.0, 2.0, 3.0);
     }
 
     @Test
-    void removeFirstByte_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+    void rotateDouble_ShouldRotateLeft_WhenDistanceIsNegative() {
         // Given
-        byte[] inputSource = new byte[]{1, 2, 3};
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0};
 
         // When
-        byte[] actual = ArrayUtils.removeFirst(inputSource);
+        double[] actual = ArrayUtils.rotate(inputSource, -1);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(2, 3);
+                .isSameAs(inputSource)
+                .containsExactly(2.0, 3.0, 4.0, 5.0, 1.0);
     }
 
     @Test
-    void removeFirstChar_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void rotateDouble_ShouldRotateOnlyRange_WhenRangeIsProvided() {
         // Given
-        char[] inputSource = null;
-
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
-    }
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0};
 
-    @Test
-    void removeFirstChar_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
-        // Given
-        char[] inputSource = new char[]{};
+        // When
+        double[] actual = ArrayUtils.rotate(inputSource, 1, 4, 4);
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 0 out of bounds for length 0");
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(1.0, 4.0, 2.0, 3.0, 5.0);
     }
 
     @Test
-    void removeFirstChar_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void rotateGeneric_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        char[] inputSource = new char[]{'a'};
+        String[] inputSource = null;
 
         // When
-        char[] actual = ArrayUtils.removeFirst(inputSource);
+        String[] actual = ArrayUtils.rotate(inputSource, 1);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void removeFirstChar_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+    void rotateGeneric_ShouldRotateRight_WhenDistanceIsPositive() {
         // Given
-        char[] inputSource = new char[]{'a', 'b', 'c'};
+        String[] inputSource = new String[]{"a", "b", "c", "d", "e"};
 
         // When
-        char[] actual = ArrayUtils.removeFirst(inputSource);
+        String[] actual = ArrayUtils.rotate(inputSource, 2);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly('b', 'c');
+                .isSameAs(inputSource)
+                .containsExactly("d", "e", "a", "b", "c");
     }
 
     @Test
-    void removeFirstShort_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void rotateGeneric_ShouldRotateLeft_WhenDistanceIsNegative() {
         // Given
-        short[] inputSource = null;
+        String[] inputSource = new String[]{"a", "b", "c", "d", "e"};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        String[] actual = ArrayUtils.rotate(inputSource, -1);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly("b", "c", "d", "e", "a");
     }
 
     @Test
-    void removeFirstShort_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void rotateGeneric_ShouldRotateOnlyRange_WhenRangeIsProvided() {
         // Given
-        short[] inputSource = new short[]{};
+        String[] inputSource = new String[]{"a", "b", "c", "d", "e"};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 0 out of bounds for length 0");
+        // When
+        String[] actual = ArrayUtils.rotate(inputSource, 1, 4, 4);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly("a", "d", "b", "c", "e");
     }
 
     @Test
-    void removeFirstShort_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void runningMaxInt_ShouldKeepLargestSoFar_WhenSourceIsProvided() {
         // Given
-        short[] inputSource = new short[]{1};
+        int[] inputSource = new int[]{3, 1, 4, 1, 5};
 
         // When
-        short[] actual = ArrayUtils.removeFirst(inputSource);
+        int[] actual = ArrayUtils.runningMax(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(3, 3, 4, 4, 5);
     }
 
     @Test
-    void removeFirstShort_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+    void runningMaxLong_ShouldKeepLargestSoFar_WhenSourceIsProvided() {
         // Given
-        short[] inputSource = new short[]{1, 2, 3};
+        long[] inputSource = new long[]{3L, 1L, 4L, 1L, 5L};
 
         // When
-        short[] actual = ArrayUtils.removeFirst(inputSource);
+        long[] actual = ArrayUtils.runningMax(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(2, 3);
+                .isSameAs(inputSource)
+                .containsExactly(3L, 3L, 4L, 4L, 5L);
     }
 
     @Test
-    void removeFirstInt_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void runningMaxFloat_ShouldKeepLargestSoFar_WhenSourceIsProvided() {
         // Given
-        int[] inputSource = null;
+        float[] inputSource = new float[]{3.0f, 1.0f, 4.0f, 1.0f, 5.0f};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        float[] actual = ArrayUtils.runningMax(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(3.0f, 3.0f, 4.0f, 4.0f, 5.0f);
     }
 
     @Test
-    void removeFirstInt_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void runningMaxDouble_ShouldKeepLargestSoFar_WhenSourceIsProvided() {
         // Given
-        int[] inputSource = new int[]{};
+        double[] inputSource = new double[]{3.0, 1.0, 4.0, 1.0, 5.0};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 0 out of bounds for length 0");
+        // When
+        double[] actual = ArrayUtils.runningMax(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(3.0, 3.0, 4.0, 4.0, 5.0);
     }
 
     @Test
-    void removeFirstInt_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void runningMaxDouble_ShouldPropagateNaN_WhenSourceContainsNaN() {
         // Given
-        int[] inputSource = new int[]{1};
+        double[] inputSource = new double[]{1.0, Double.NaN, 3.0};
 
         // When
-        int[] actual = ArrayUtils.removeFirst(inputSource);
+        double[] actual = ArrayUtils.runningMax(inputSource);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+        then(actual).containsExactly(1.0, Double.NaN, Double.NaN);
     }
 
     @Test
-    void removeFirstInt_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+    void runningMinInt_ShouldKeepSmallestSoFar_WhenSourceIsProvided() {
         // Given
-        int[] inputSource = new int[]{1, 2, 3};
+        int[] inputSource = new int[]{3, 1, 4, 1, 5};
 
         // When
-        int[] actual = ArrayUtils.removeFirst(inputSource);
+        int[] actual = ArrayUtils.runningMin(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(2, 3);
+                .isSameAs(inputSource)
+                .containsExactly(3, 1, 1, 1, 1);
     }
 
     @Test
-    void removeFirstLong_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void runningMinLong_ShouldKeepSmallestSoFar_WhenSourceIsProvided() {
         // Given
-        long[] inputSource = null;
+        long[] inputSource = new long[]{3L, 1L, 4L, 1L, 5L};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        long[] actual = ArrayUtils.runningMin(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(3L, 1L, 1L, 1L, 1L);
     }
 
     @Test
-    void removeFirstLong_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void runningMinFloat_ShouldKeepSmallestSoFar_WhenSourceIsProvided() {
         // Given
-        long[] inputSource = new long[]{};
+        float[] inputSource = new float[]{3.0f, 1.0f, 4.0f, 1.0f, 5.0f};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 0 out of bounds for length 0");
+        // When
+        float[] actual = ArrayUtils.runningMin(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(3.0f, 1.0f, 1.0f, 1.0f, 1.0f);
     }
 
     @Test
-    void removeFirstLong_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void runningMinDouble_ShouldKeepSmallestSoFar_WhenSourceIsProvided() {
         // Given
-        long[] inputSource = new long[]{1L};
+        double[] inputSource = new double[]{3.0, 1.0, 4.0, 1.0, 5.0};
 
         // When
-        long[] actual = ArrayUtils.removeFirst(inputSource);
+        double[] actual = ArrayUtils.runningMin(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(3.0, 1.0, 1.0, 1.0, 1.0);
     }
 
     @Test
-    void removeFirstLong_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+    void scanInt_ShouldCombineWithOperator_WhenOperatorIsProvided() {
         // Given
-        long[] inputSource = new long[]{1L, 2L, 3L};
+        int[] inputSource = new int[]{3, 1, 4, 1, 5};
 
         // When
-        long[] actual = ArrayUtils.removeFirst(inputSource);
+        int[] actual = ArrayUtils.scan(inputSource, (left, right) -> left * right);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(2L, 3L);
+                .isSameAs(inputSource)
+                .containsExactly(3, 3, 12, 12, 60);
     }
 
     @Test
-    void removeFirstFloat_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void scanInt_ShouldThrowIllegalArgumentException_WhenOperatorIsNull() {
         // Given
-        float[] inputSource = null;
+        int[] inputSource = new int[]{3, 1, 4, 1, 5};
 
         // When & Then
         thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isThrownBy(() -> ArrayUtils.scan(inputSource, null))
                 .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+                .withMessage("The operator cannot be null");
     }
 
     @Test
-    void removeFirstFloat_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void scanLong_ShouldCombineWithOperator_WhenOperatorIsProvided() {
         // Given
-        float[] inputSource = new float[]{};
+        long[] inputSource = new long[]{3L, 1L, 4L, 1L, 5L};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 0 out of bounds for length 0");
+        // When
+        long[] actual = ArrayUtils.scan(inputSource, (left, right) -> left * right);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(3L, 3L, 12L, 12L, 60L);
     }
 
     @Test
-    void removeFirstFloat_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void scanDouble_ShouldCombineWithOperator_WhenOperatorIsProvided() {
         // Given
-        float[] inputSource = new float[]{1.0F};
+        double[] inputSource = new double[]{3.0, 1.0, 4.0, 1.0, 5.0};
 
         // When
-        float[] actual = ArrayUtils.removeFirst(inputSource);
+        double[] actual = ArrayUtils.scan(inputSource, (left, right) -> left * right);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(3.0, 3.0, 12.0, 12.0, 60.0);
     }
 
     @Test
-    void removeFirstFloat_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+    void segmentedPrefixSumInt_ShouldRestartSum_WhenSegmentStarts() {
         // Given
-        float[] inputSource = new float[]{1.0F, 2.0F, 3.0F};
+        int[] inputSource = new int[]{3, 1, 4, 1, 5};
+        BitSet inputSegmentStarts = new BitSet();
+        inputSegmentStarts.set(0);
+        inputSegmentStarts.set(3);
 
         // When
-        float[] actual = ArrayUtils.removeFirst(inputSource);
+        int[] actual = ArrayUtils.segmentedPrefixSum(inputSource, inputSegmentStarts);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(2.0F, 3.0F);
+                .isSameAs(inputSource)
+                .containsExactly(3, 4, 8, 1, 6);
     }
 
     @Test
-    void removeFirstDouble_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void segmentedPrefixSumInt_ShouldThrowIllegalArgumentException_WhenSegmentStartsIsNull() {
         // Given
-        double[] inputSource = null;
+        int[] inputSource = new int[]{3, 1, 4, 1, 5};
 
         // When & Then
         thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
+                .isThrownBy(() -> ArrayUtils.segmentedPrefixSum(inputSource, null))
                 .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+                .withMessage("The segment starts cannot be null");
     }
 
     @Test
-    void removeFirstDouble_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void segmentedPrefixSumLong_ShouldRestartSum_WhenSegmentStarts() {
         // Given
-        double[] inputSource = new double[]{};
+        long[] inputSource = new long[]{3L, 1L, 4L, 1L, 5L};
+        BitSet inputSegmentStarts = new BitSet();
+        inputSegmentStarts.set(0);
+        inputSegmentStarts.set(3);
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 0 out of bounds for length 0");
+        // When
+        long[] actual = ArrayUtils.segmentedPrefixSum(inputSource, inputSegmentStarts);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactly(3L, 4L, 8L, 1L, 6L);
     }
 
     @Test
-    void removeFirstDouble_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void segmentedPrefixSumFloat_ShouldRestartSum_WhenSegmentStarts() {
         // Given
-        double[] inputSource = new double[]{1.0};
+        float[] inputSource = new float[]{3.0f, 1.0f, 4.0f, 1.0f, 5.0f};
+        BitSet inputSegmentStarts = new BitSet();
+        inputSegmentStarts.set(0);
+        inputSegmentStarts.set(3);
 
         // When
-        double[] actual = ArrayUtils.removeFirst(inputSource);
+        float[] actual = ArrayUtils.segmentedPrefixSum(inputSource, inputSegmentStarts);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(3.0f, 4.0f, 8.0f, 1.0f, 6.0f);
     }
 
     @Test
-    void removeFirstDouble_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+    void segmentedPrefixSumDouble_ShouldRestartSum_WhenSegmentStarts() {
         // Given
-        double[] inputSource = new double[]{1.0, 2.0, 3.0};
+        double[] inputSource = new double[]{3.0, 1.0, 4.0, 1.0, 5.0};
+        BitSet inputSegmentStarts = new BitSet();
+        inputSegmentStarts.set(0);
+        inputSegmentStarts.set(3);
 
         // When
-        double[] actual = ArrayUtils.removeFirst(inputSource);
+        double[] actual = ArrayUtils.segmentedPrefixSum(inputSource, inputSegmentStarts);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(2.0, 3.0);
+                .isSameAs(inputSource)
+                .containsExactly(3.0, 4.0, 8.0, 1.0, 6.0);
     }
 
     @Test
-    void removeFirstGeneric_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void shuffleBoolean_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        String[] inputSource = null;
+        boolean[] inputSource = null;
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        boolean[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
+
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeFirstGeneric_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void shuffleBoolean_ShouldPermuteElementsInPlace_WhenRandomIsProvided() {
         // Given
-        String[] inputSource = new String[]{};
+        boolean[] inputSource = new boolean[]{true, true, false, true, false};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeFirst(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index 0 out of bounds for length 0");
+        // When
+        boolean[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactlyInAnyOrder(true, true, false, true, false);
     }
 
     @Test
-    void removeFirstGeneric_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void shuffleBoolean_ShouldKeepElementsOutsideRange_WhenRangeIsProvided() {
         // Given
-        String[] inputSource = new String[]{"a"};
+        boolean[] inputSource = new boolean[]{true, true, false, true, false};
 
         // When
-        String[] actual = ArrayUtils.removeFirst(inputSource);
+        boolean[] actual = ArrayUtils.shuffle(inputSource, 1, 4, new Random(42));
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+        then(actual).startsWith(true).endsWith(false);
+        then(ArrayUtils.subarray(actual, 1, 4)).containsExactlyInAnyOrder(true, false, true);
     }
 
     @Test
-    void removeFirstGeneric_ShouldRemoveFirstElement_WhenArrayHasMultipleElements() {
+    void shuffleByte_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        String[] inputSource = new String[]{"a", "b", "c"};
+        byte[] inputSource = null;
 
         // When
-        String[] actual = ArrayUtils.removeFirst(inputSource);
+        byte[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly("b", "c");
+        then(actual).isNull();
     }
 
     @Test
-    void removeLastBoolean_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void shuffleByte_ShouldPermuteElementsInPlace_WhenRandomIsProvided() {
         // Given
-        boolean[] inputSource = null;
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        byte[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactlyInAnyOrder(1, 2, 3, 4, 5);
     }
 
     @Test
-    void removeLastBoolean_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void shuffleByte_ShouldKeepElementsOutsideRange_WhenRangeIsProvided() {
         // Given
-        boolean[] inputSource = new boolean[]{};
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 0");
+        // When
+        byte[] actual = ArrayUtils.shuffle(inputSource, 1, 4, new Random(42));
+
+        // Then
+        then(actual).startsWith(1).endsWith(5);
+        then(ArrayUtils.subarray(actual, 1, 4)).containsExactlyInAnyOrder(2, 3, 4);
     }
 
     @Test
-    void removeLastBoolean_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void shuffleChar_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        boolean[] inputSource = new boolean[]{true};
+        char[] inputSource = null;
 
         // When
-        boolean[] actual = ArrayUtils.removeLast(inputSource);
+        char[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
 
-        // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeLastBoolean_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+    void shuffleChar_ShouldPermuteElementsInPlace_WhenRandomIsProvided() {
         // Given
-        boolean[] inputSource = new boolean[]{true, false, true};
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e'};
 
         // When
-        boolean[] actual = ArrayUtils.removeLast(inputSource);
+        char[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(true, false);
+                .isSameAs(inputSource)
+                .containsExactlyInAnyOrder('a', 'b', 'c', 'd', 'e');
     }
 
     @Test
-    void removeLastByte_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void shuffleChar_ShouldKeepElementsOutsideRange_WhenRangeIsProvided() {
         // Given
-        byte[] inputSource = null;
-
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
-    }
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e'};
 
-    @Test
-    void removeLastByte_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
-        // Given
-        byte[] inputSource = new byte[]{};
+        // When
+        char[] actual = ArrayUtils.shuffle(inputSource, 1, 4, new Random(42));
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 0");
+        // Then
+        then(actual).startsWith('a').endsWith('e');
+        then(ArrayUtils.subarray(actual, 1, 4)).containsExactlyInAnyOrder('b', 'c', 'd');
     }
 
     @Test
-    void removeLastByte_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void shuffleShort_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        byte[] inputSource = new byte[]{1};
+        short[] inputSource = null;
 
         // When
-        byte[] actual = ArrayUtils.removeLast(inputSource);
+        short[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void removeLastByte_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+    void shuffleShort_ShouldPermuteElementsInPlace_WhenRandomIsProvided() {
         // Given
-        byte[] inputSource = new byte[]{1, 2, 3};
+        short[] inputSource = new short[]{1, 2, 3, 4, 5};
 
         // When
-        byte[] actual = ArrayUtils.removeLast(inputSource);
+        short[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(1, 2);
+                .isSameAs(inputSource)
+                .containsExactlyInAnyOrder(1, 2, 3, 4, 5);
     }
 
     @Test
-    void removeLastChar_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void shuffleShort_ShouldKeepElementsOutsideRange_WhenRangeIsProvided() {
         // Given
-        char[] inputSource = null;
+        short[] inputSource = new short[]{1, 2, 3, 4, 5};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        short[] actual = ArrayUtils.shuffle(inputSource, 1, 4, new Random(42));
+
+        // Then
+        then(actual).startsWith(1).endsWith(5);
+        then(ArrayUtils.subarray(actual, 1, 4)).containsExactlyInAnyOrder(2, 3, 4);
     }
 
     @Test
-    void removeLastChar_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void shuffleInt_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        char[] inputSource = new char[]{};
+        int[] inputSource = null;
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 0");
+        // When
+        int[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
+
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeLastChar_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void shuffleInt_ShouldPermuteElementsInPlace_WhenRandomIsProvided() {
         // Given
-        char[] inputSource = new char[]{'a'};
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
         // When
-        char[] actual = ArrayUtils.removeLast(inputSource);
+        int[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactlyInAnyOrder(1, 2, 3, 4, 5);
     }
 
     @Test
-    void removeLastChar_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+    void shuffleInt_ShouldKeepElementsOutsideRange_WhenRangeIsProvided() {
         // Given
-        char[] inputSource = new char[]{'a', 'b', 'c'};
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
         // When
-        char[] actual = ArrayUtils.removeLast(inputSource);
+        int[] actual = ArrayUtils.shuffle(inputSource, 1, 4, new Random(42));
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly('a', 'b');
+        then(actual).startsWith(1).endsWith(5);
+        then(ArrayUtils.subarray(actual, 1, 4)).containsExactlyInAnyOrder(2, 3, 4);
     }
 
     @Test
-    void removeLastShort_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void shuffleInt_ShouldThrowIllegalArgumentException_WhenRandomIsNull() {
         // Given
-        short[] inputSource = null;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
         // When & Then
         thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
+                .isThrownBy(() -> ArrayUtils.shuffle(inputSource, null))
                 .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+                .withMessage("The random generator cannot be null");
     }
 
     @Test
-    void removeLastShort_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void shuffleInt_ShouldBeDeterministic_WhenSameSeedIsUsed() {
         // Given
-        short[] inputSource = new short[]{};
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
+        int[] inputOther = new int[]{1, 2, 3, 4, 5};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 0");
+        // When
+        int[] actual = ArrayUtils.shuffle(inputSource, new Random(7));
+        int[] expected = ArrayUtils.shuffle(inputOther, new Random(7));
+
+        // Then
+        then(actual).containsExactly(expected);
     }
 
     @Test
-    void removeLastShort_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void shuffleLong_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        short[] inputSource = new short[]{1};
+        long[] inputSource = null;
 
         // When
-        short[] actual = ArrayUtils.removeLast(inputSource);
+        long[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void removeLastShort_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+    void shuffleLong_ShouldPermuteElementsInPlace_WhenRandomIsProvided() {
         // Given
-        short[] inputSource = new short[]{1, 2, 3};
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L};
 
         // When
-        short[] actual = ArrayUtils.removeLast(inputSource);
+        long[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(1, 2);
+                .isSameAs(inputSource)
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
     }
 
     @Test
-    void removeLastInt_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void shuffleLong_ShouldKeepElementsOutsideRange_WhenRangeIsProvided() {
         // Given
-        int[] inputSource = null;
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        long[] actual = ArrayUtils.shuffle(inputSource, 1, 4, new Random(42));
+
+        // Then
+        then(actual).startsWith(1L).endsWith(5L);
+        then(ArrayUtils.subarray(actual, 1, 4)).containsExactlyInAnyOrder(2L, 3L, 4L);
     }
 
     @Test
-    void removeLastInt_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void shuffleFloat_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        int[] inputSource = new int[]{};
+        float[] inputSource = null;
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 0");
+        // When
+        float[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
+
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeLastInt_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void shuffleFloat_ShouldPermuteElementsInPlace_WhenRandomIsProvided() {
         // Given
-        int[] inputSource = new int[]{1};
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f};
 
         // When
-        int[] actual = ArrayUtils.removeLast(inputSource);
+        float[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactlyInAnyOrder(1.0f, 2.0f, 3.0f, 4.0f, 5.0f);
     }
 
     @Test
-    void removeLastInt_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+    void shuffleFloat_ShouldKeepElementsOutsideRange_WhenRangeIsProvided() {
         // Given
-        int[] inputSource = new int[]{1, 2, 3};
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f};
 
         // When
-        int[] actual = ArrayUtils.removeLast(inputSource);
+        float[] actual = ArrayUtils.shuffle(inputSource, 1, 4, new Random(42));
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(1, 2);
+        then(actual).startsWith(1.0f).endsWith(5.0f);
+        then(ArrayUtils.subarray(actual, 1, 4)).containsExactlyInAnyOrder(2.0f, 3.0f, 4.0f);
     }
 
     @Test
-    void removeLastLong_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void shuffleDouble_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        long[] inputSource = null;
+        double[] inputSource = null;
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        double[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
+
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeLastLong_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void shuffleDouble_ShouldPermuteElementsInPlace_WhenRandomIsProvided() {
         // Given
-        long[] inputSource = new long[]{};
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 0");
+        // When
+        double[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactlyInAnyOrder(1.0, 2.0, 3.0, 4.0, 5.0);
     }
 
     @Test
-    void removeLastLong_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void shuffleDouble_ShouldKeepElementsOutsideRange_WhenRangeIsProvided() {
         // Given
-        long[] inputSource = new long[]{1L};
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0};
 
         // When
-        long[] actual = ArrayUtils.removeLast(inputSource);
+        double[] actual = ArrayUtils.shuffle(inputSource, 1, 4, new Random(42));
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+        then(actual).startsWith(1.0).endsWith(5.0);
+        then(ArrayUtils.subarray(actual, 1, 4)).containsExactlyInAnyOrder(2.0, 3.0, 4.0);
     }
 
     @Test
-    void removeLastLong_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+    void shuffleGeneric_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        long[] inputSource = new long[]{1L, 2L, 3L};
+        String[] inputSource = null;
 
         // When
-        long[] actual = ArrayUtils.removeLast(inputSource);
+        String[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(1L, 2L);
+        then(actual).isNull();
     }
 
     @Test
-    void removeLastFloat_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void shuffleGeneric_ShouldPermuteElementsInPlace_WhenRandomIsProvided() {
         // Given
-        float[] inputSource = null;
+        String[] inputSource = new String[]{"a", "b", "c", "d", "e"};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        String[] actual = ArrayUtils.shuffle(inputSource, new Random(42));
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .containsExactlyInAnyOrder("a", "b", "c", "d", "e");
     }
 
     @Test
-    void removeLastFloat_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void shuffleGeneric_ShouldKeepElementsOutsideRange_WhenRangeIsProvided() {
         // Given
-        float[] inputSource = new float[]{};
+        String[] inputSource = new String[]{"a", "b", "c", "d", "e"};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 0");
+        // When
+        String[] actual = ArrayUtils.shuffle(inputSource, 1, 4, new Random(42));
+
+        // Then
+        then(actual).startsWith("a").endsWith("e");
+        then(ArrayUtils.subarray(actual, 1, 4)).containsExactlyInAnyOrder("b", "c", "d");
     }
 
     @Test
-    void removeLastFloat_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void sortByte_ShouldReturnNull_WhenArrayIsNull() {
         // Given
-        float[] inputSource = new float[]{1.0F};
+        byte[] inputSource = null;
 
         // When
-        float[] actual = ArrayUtils.removeLast(inputSource);
+        byte[] actual = ArrayUtils.sort(inputSource);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void removeLastFloat_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+    void sortByte_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        float[] inputSource = new float[]{1.0F, 2.0F, 3.0F};
+        byte[] inputSource = new byte[0];
 
         // When
-        float[] actual = ArrayUtils.removeLast(inputSource);
+        byte[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(1.0F, 2.0F);
+                .isSameAs(inputSource)
+                .isEmpty();
     }
 
     @Test
-    void removeLastDouble_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void sortByte_ShouldSortArray_WhenArrayIsUnsorted() {
         // Given
-        double[] inputSource = null;
+        byte[] inputSource = new byte[]{3, 1, 2};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        byte[] actual = ArrayUtils.sort(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1, 2, 3);
     }
 
     @Test
-    void removeLastDouble_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void sortByte_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
         // Given
-        double[] inputSource = new double[]{};
+        byte[] inputSource = new byte[]{1, 2, 3};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 0");
+        // When
+        byte[] actual = ArrayUtils.sort(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1, 2, 3);
     }
 
     @Test
-    void removeLastDouble_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void sortByte_ShouldSortArray_WhenArrayHasDuplicates() {
         // Given
-        double[] inputSource = new double[]{1.0};
+        byte[] inputSource = new byte[]{2, 1, 2, 1};
 
         // When
-        double[] actual = ArrayUtils.removeLast(inputSource);
+        byte[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .hasSize(4)
+                .containsExactly(1, 1, 2, 2);
     }
 
     @Test
-    void removeLastDouble_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+    void sortChar_ShouldReturnNull_WhenArrayIsNull() {
         // Given
-        double[] inputSource = new double[]{1.0, 2.0, 3.0};
+        char[] inputSource = null;
 
         // When
-        double[] actual = ArrayUtils.removeLast(inputSource);
+        char[] actual = ArrayUtils.sort(inputSource);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly(1.0, 2.0);
+        then(actual).isNull();
     }
 
     @Test
-    void removeLastGeneric_ShouldThrowIllegalArgumentException_WhenArrayIsNull() {
+    void sortChar_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        String[] inputSource = null;
+        char[] inputSource = new char[0];
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IllegalArgumentException.class)
-                .withMessage("The input array cannot be null");
+        // When
+        char[] actual = ArrayUtils.sort(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .isEmpty();
     }
 
     @Test
-    void removeLastGeneric_ShouldThrowIndexOutOfBoundsException_WhenArrayIsEmpty() {
+    void sortChar_ShouldSortArray_WhenArrayIsUnsorted() {
         // Given
-        String[] inputSource = new String[]{};
+        char[] inputSource = new char[]{'c', 'a', 'b'};
 
-        // When & Then
-        thenException()
-                .isThrownBy(() -> ArrayUtils.removeLast(inputSource))
-                .isInstanceOf(IndexOutOfBoundsException.class)
-                .withMessage("Index -1 out of bounds for length 0");
+        // When
+        char[] actual = ArrayUtils.sort(inputSource);
+
+        // Then
+        then(actual)
+                .isSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly('a', 'b', 'c');
     }
 
     @Test
-    void removeLastGeneric_ShouldReturnEmptyArray_WhenArrayHasSingleElement() {
+    void sortChar_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
         // Given
-        String[] inputSource = new String[]{"a"};
+        char[] inputSource = new char[]{'a', 'b', 'c'};
 
         // When
-        String[] actual = ArrayUtils.removeLast(inputSource);
+        char[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly('a', 'b', 'c');
     }
 
     @Test
-    void removeLastGeneric_ShouldRemoveLastElement_WhenArrayHasMultipleElements() {
+    void sortChar_ShouldSortArray_WhenArrayHasDuplicates() {
         // Given
-        String[] inputSource = new String[]{"a", "b", "c"};
+        char[] inputSource = new char[]{'b', 'a', 'b', 'a'};
 
         // When
-        String[] actual = ArrayUtils.removeLast(inputSource);
+        char[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly("a", "b");
+                .isSameAs(inputSource)
+                .hasSize(4)
+                .containsExactly('a', 'a', 'b', 'b');
     }
 
     @Test
-    void removeElementBoolean_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void sortShort_ShouldReturnNull_WhenArrayIsNull() {
         // Given
-        boolean[] inputSource = null;
-        boolean inputElement = true;
+        short[] inputSource = null;
 
         // When
-        boolean[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        short[] actual = ArrayUtils.sort(inputSource);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void removeElementBoolean_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void sortShort_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        boolean[] inputSource = new boolean[0];
-        boolean inputElement = true;
+        short[] inputSource = new short[0];
 
         // When
-        boolean[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        short[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
+                .isSameAs(inputSource)
                 .isEmpty();
     }
 
     @Test
-    void removeElementBoolean_ShouldReturnClone_WhenElementNotFound() {
+    void sortShort_ShouldSortArray_WhenArrayIsUnsorted() {
         // Given
-        boolean[] inputSource = new boolean[]{true, true, true};
-        boolean inputElement = false;
+        short[] inputSource = new short[]{3, 1, 2};
 
         // When
-        boolean[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        short[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
+                .isSameAs(inputSource)
                 .hasSize(3)
-                .containsExactly(true, true, true);
+                .containsExactly(1, 2, 3);
     }
 
     @Test
-    void removeElementBoolean_ShouldRemoveFirstOccurrence_WhenElementExists() {
+    void sortShort_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
         // Given
-        boolean[] inputSource = new boolean[]{true, false, true, false};
-        boolean inputElement = false;
+        short[] inputSource = new short[]{1, 2, 3};
 
         // When
-        boolean[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        short[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
+                .isSameAs(inputSource)
                 .hasSize(3)
-                .containsExactly(true, true, false);
+                .containsExactly(1, 2, 3);
     }
 
     @Test
-    void removeElementByte_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void sortShort_ShouldSortArray_WhenArrayHasDuplicates() {
         // Given
-        byte[] inputSource = null;
-        byte inputElement = 1;
+        short[] inputSource = new short[]{2, 1, 2, 1};
 
         // When
-        byte[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        short[] actual = ArrayUtils.sort(inputSource);
 
         // Then
-        then(actual).isEmpty();
+        then(actual)
+                .isSameAs(inputSource)
+                .hasSize(4)
+                .containsExactly(1, 1, 2, 2);
     }
 
     @Test
-    void removeElementByte_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void sortInt_ShouldReturnNull_WhenArrayIsNull() {
         // Given
-        byte[] inputSource = new byte[0];
-        byte inputElement = 1;
+        int[] inputSource = null;
 
         // When
-        byte[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        int[] actual = ArrayUtils.sort(inputSource);
+
+        // Then
+        then(actual).isNull();
+    }
+
+    @Test
+    void sortInt_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+        // Given
+        int[] inputSource = new int[0];
+
+        // When
+        int[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
+                .isSameAs(inputSource)
                 .isEmpty();
     }
 
     @Test
-    void removeElementByte_ShouldReturnClone_WhenElementNotFound() {
+    void sortInt_ShouldSortArray_WhenArrayIsUnsorted() {
         // Given
-        byte[] inputSource = new byte[]{1, 2, 3};
-        byte inputElement = 4;
+        int[] inputSource = new int[]{3, 1, 2};
 
         // When
-        byte[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        int[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
+                .isSameAs(inputSource)
                 .hasSize(3)
                 .containsExactly(1, 2, 3);
     }
 
     @Test
-    void removeElementByte_ShouldRemoveFirstOccurrence_WhenElementExists() {
+    void sortInt_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
         // Given
-        byte[] inputSource = new byte[]{1, 2, 3, 2};
-        byte inputElement = 2;
+        int[] inputSource = new int[]{1, 2, 3};
 
         // When
-        byte[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        int[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
+                .isSameAs(inputSource)
                 .hasSize(3)
-                .containsExactly(1, 3, 2);
+                .containsExactly(1, 2, 3);
     }
 
     @Test
-    void removeElementChar_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void sortInt_ShouldSortArray_WhenArrayHasDuplicates() {
         // Given
-        char[] inputSource = null;
-        char inputElement = 'a';
+        int[] inputSource = new int[]{2, 1, 2, 1};
 
         // When
-        char[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        int[] actual = ArrayUtils.sort(inputSource);
 
         // Then
-        then(actual).isEmpty();
+        then(actual)
+                .isSameAs(inputSource)
+                .hasSize(4)
+                .containsExactly(1, 1, 2, 2);
     }
 
     @Test
-    void removeElementChar_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void sortLong_ShouldReturnNull_WhenArrayIsNull() {
         // Given
-        char[] inputSource = new char[0];
-        char inputElement = 'a';
+        long[] inputSource = null;
 
         // When
-        char[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        long[] actual = ArrayUtils.sort(inputSource);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void removeElementChar_ShouldReturnClone_WhenElementNotFound() {
+    void sortLong_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        char[] inputSource = new char[]{'a', 'b', 'c'};
-        char inputElement = 'd';
+        long[] inputSource = new long[0];
 
         // When
-        char[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        long[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly('a', 'b', 'c');
+                .isSameAs(inputSource)
+                .isEmpty();
     }
 
     @Test
-    void removeElementChar_ShouldRemoveFirstOccurrence_WhenElementExists() {
+    void sortLong_ShouldSortArray_WhenArrayIsUnsorted() {
         // Given
-        char[] inputSource = new char[]{'a', 'b', 'c', 'b'};
-        char inputElement = 'b';
+        long[] inputSource = new long[]{3L, 1L, 2L};
 
         // When
-        char[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        long[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
+                .isSameAs(inputSource)
                 .hasSize(3)
-                .containsExactly('a', 'c', 'b');
+                .containsExactly(1L, 2L, 3L);
     }
 
     @Test
-    void removeElementShort_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void sortLong_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
         // Given
-        short[] inputSource = null;
-        short inputElement = 1;
+        long[] inputSource = new long[]{1L, 2L, 3L};
 
         // When
-        short[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        long[] actual = ArrayUtils.sort(inputSource);
 
         // Then
-        then(actual).isEmpty();
+        then(actual)
+                .isSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1L, 2L, 3L);
     }
 
     @Test
-    void removeElementShort_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void sortLong_ShouldSortArray_WhenArrayHasDuplicates() {
         // Given
-        short[] inputSource = new short[0];
-        short inputElement = 1;
+        long[] inputSource = new long[]{2L, 1L, 2L, 1L};
 
         // When
-        short[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        long[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .hasSize(4)
+                .containsExactly(1L, 1L, 2L, 2L);
     }
 
     @Test
-    void removeElementShort_ShouldReturnClone_WhenElementNotFound() {
+    void sortFloat_ShouldReturnNull_WhenArrayIsNull() {
         // Given
-        short[] inputSource = new short[]{1, 2, 3};
-        short inputElement = 4;
+        float[] inputSource = null;
 
         // When
-        short[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        float[] actual = ArrayUtils.sort(inputSource);
 
-        // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1, 2, 3);
+        // Then
+        then(actual).isNull();
     }
 
     @Test
-    void removeElementShort_ShouldRemoveFirstOccurrence_WhenElementExists() {
+    void sortFloat_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        short[] inputSource = new short[]{1, 2, 3, 2};
-        short inputElement = 2;
+        float[] inputSource = new float[0];
 
         // When
-        short[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        float[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1, 3, 2);
+                .isSameAs(inputSource)
+                .isEmpty();
     }
 
     @Test
-    void removeElementInt_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void sortFloat_ShouldSortArray_WhenArrayIsUnsorted() {
         // Given
-        int[] inputSource = null;
-        int inputElement = 1;
+        float[] inputSource = new float[]{3.0F, 1.0F, 2.0F};
 
         // When
-        int[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        float[] actual = ArrayUtils.sort(inputSource);
 
         // Then
-        then(actual).isEmpty();
+        then(actual)
+                .isSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1.0F, 2.0F, 3.0F);
     }
 
     @Test
-    void removeElementInt_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void sortFloat_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
         // Given
-        int[] inputSource = new int[0];
-        int inputElement = 1;
+        float[] inputSource = new float[]{1.0F, 2.0F, 3.0F};
 
         // When
-        int[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        float[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1.0F, 2.0F, 3.0F);
     }
 
     @Test
-    void removeElementInt_ShouldReturnClone_WhenElementNotFound() {
+    void sortFloat_ShouldSortArray_WhenArrayHasDuplicates() {
         // Given
-        int[] inputSource = new int[]{1, 2, 3};
-        int inputElement = 4;
+        float[] inputSource = new float[]{2.0F, 1.0F, 2.0F, 1.0F};
 
         // When
-        int[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        float[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1, 2, 3);
+                .isSameAs(inputSource)
+                .hasSize(4)
+                .containsExactly(1.0F, 1.0F, 2.0F, 2.0F);
     }
 
     @Test
-    void removeElementInt_ShouldRemoveFirstOccurrence_WhenElementExists() {
+    void sortDouble_ShouldReturnNull_WhenArrayIsNull() {
         // Given
-        int[] inputSource = new int[]{1, 2, 3, 2};
-        int inputElement = 2;
+        double[] inputSource = null;
 
         // When
-        int[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        double[] actual = ArrayUtils.sort(inputSource);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1, 3, 2);
+        then(actual).isNull();
     }
 
     @Test
-    void removeElementLong_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void sortDouble_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        long[] inputSource = null;
-        long inputElement = 1L;
+        double[] inputSource = new double[0];
 
         // When
-        long[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        double[] actual = ArrayUtils.sort(inputSource);
 
         // Then
-        then(actual).isEmpty();
+        then(actual)
+                .isSameAs(inputSource)
+                .isEmpty();
     }
 
     @Test
-    void removeElementLong_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void sortDouble_ShouldSortArray_WhenArrayIsUnsorted() {
         // Given
-        long[] inputSource = new long[0];
-        long inputElement = 1L;
+        double[] inputSource = new double[]{3.0, 1.0, 2.0};
 
         // When
-        long[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        double[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly(1.0, 2.0, 3.0);
     }
 
     @Test
-    void removeElementLong_ShouldReturnClone_WhenElementNotFound() {
+    void sortDouble_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
         // Given
-        long[] inputSource = new long[]{1L, 2L, 3L};
-        long inputElement = 4L;
+        double[] inputSource = new double[]{1.0, 2.0, 3.0};
 
         // When
-        long[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        double[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
+                .isSameAs(inputSource)
                 .hasSize(3)
-                .containsExactly(1L, 2L, 3L);
+                .containsExactly(1.0, 2.0, 3.0);
     }
 
     @Test
-    void removeElementLong_ShouldRemoveFirstOccurrence_WhenElementExists() {
+    void sortDouble_ShouldSortArray_WhenArrayHasDuplicates() {
         // Given
-        long[] inputSource = new long[]{1L, 2L, 3L, 2L};
-        long inputElement = 2L;
+        double[] inputSource = new double[]{2.0, 1.0, 2.0, 1.0};
 
         // When
-        long[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        double[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1L, 3L, 2L);
+                .isSameAs(inputSource)
+                .hasSize(4)
+                .containsExactly(1.0, 1.0, 2.0, 2.0);
     }
 
     @Test
-    void removeElementFloat_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void sortGeneric_ShouldReturnNull_WhenArrayIsNull() {
         // Given
-        float[] inputSource = null;
-        float inputElement = 1.0F;
+        String[] inputSource = null;
 
         // When
-        float[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        String[] actual = ArrayUtils.sort(inputSource);
 
         // Then
-        then(actual).isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void removeElementFloat_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void sortGeneric_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        float[] inputSource = new float[0];
-        float inputElement = 1.0F;
+        String[] inputSource = new String[0];
 
         // When
-        float[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        String[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
+                .isSameAs(inputSource)
                 .isEmpty();
     }
 
     @Test
-    void removeElementFloat_ShouldReturnClone_WhenElementNotFound() {
+    void sortGeneric_ShouldSortArray_WhenArrayIsUnsorted() {
         // Given
-        float[] inputSource = new float[]{1.0F, 2.0F, 3.0F};
-        float inputElement = 4.0F;
+        String[] inputSource = new String[]{"c", "a", "b"};
 
         // When
-        float[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        String[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
+                .isSameAs(inputSource)
                 .hasSize(3)
-                .containsExactly(1.0F, 2.0F, 3.0F);
+                .containsExactly("a", "b", "c");
     }
 
     @Test
-    void removeElementFloat_ShouldRemoveFirstOccurrence_WhenElementExists() {
+    void sortGeneric_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
         // Given
-        float[] inputSource = new float[]{1.0F, 2.0F, 3.0F, 2.0F};
-        float inputElement = 2.0F;
+        String[] inputSource = new String[]{"a", "b", "c"};
 
         // When
-        float[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        String[] actual = ArrayUtils.sort(inputSource);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
+                .isSameAs(inputSource)
                 .hasSize(3)
-                .containsExactly(1.0F, 3.0F, 2.0F);
+                .containsExactly("a", "b", "c");
     }
 
     @Test
-    void removeElementDouble_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void sortGeneric_ShouldSortArray_WhenArrayHasDuplicates() {
         // Given
-        double[] inputSource = null;
-        double inputElement = 1.0;
+        String[] inputSource = new String[]{"b", "a", "b", "a"};
 
         // When
-        double[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        String[] actual = ArrayUtils.sort(inputSource);
 
         // Then
-        then(actual).isEmpty();
+        then(actual)
+                .isSameAs(inputSource)
+                .hasSize(4)
+                .containsExactly("a", "a", "b", "b");
     }
 
     @Test
-    void removeElementDouble_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void sortGenericWithComparator_ShouldReturnNull_WhenArrayIsNull() {
         // Given
-        double[] inputSource = new double[0];
-        double inputElement = 1.0;
+        String[] inputSource = null;
+        Comparator<String> inputComparator = String::compareTo;
 
         // When
-        double[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        String[] actual = ArrayUtils.sort(inputSource, inputComparator);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void removeElementDouble_ShouldReturnClone_WhenElementNotFound() {
+    void sortGenericWithComparator_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        double[] inputSource = new double[]{1.0, 2.0, 3.0};
-        double inputElement = 4.0;
+        String[] inputSource = new String[0];
+        Comparator<String> inputComparator = String::compareTo;
 
         // When
-        double[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        String[] actual = ArrayUtils.sort(inputSource, inputComparator);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1.0, 2.0, 3.0);
+                .isSameAs(inputSource)
+                .isEmpty();
     }
 
     @Test
-    void removeElementDouble_ShouldRemoveFirstOccurrence_WhenElementExists() {
+    void sortGenericWithComparator_ShouldSortArrayAscending_WhenArrayIsUnsorted() {
         // Given
-        double[] inputSource = new double[]{1.0, 2.0, 3.0, 2.0};
-        double inputElement = 2.0;
+        String[] inputSource = new String[]{"c", "a", "b"};
+        Comparator<String> inputComparator = String::compareTo;
 
         // When
-        double[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        String[] actual = ArrayUtils.sort(inputSource, inputComparator);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
+                .isSameAs(inputSource)
                 .hasSize(3)
-                .containsExactly(1.0, 3.0, 2.0);
+                .containsExactly("a", "b", "c");
     }
 
     @Test
-    void removeElementGeneric_ShouldReturnNull_WhenArrayIsNull() {
+    void sortGenericWithComparator_ShouldSortArrayDescending_WhenUsingReverseComparator() {
         // Given
-        String[] inputSource = null;
-        String inputElement = "a";
+        String[] inputSource = new String[]{"a", "c", "b"};
+        Comparator<String> inputComparator = Comparator.reverseOrder();
 
         // When
-        String[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        String[] actual = ArrayUtils.sort(inputSource, inputComparator);
 
         // Then
-        then(actual).isNull();
+        then(actual)
+                .isSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly("c", "b", "a");
     }
 
     @Test
-    void removeElementGeneric_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void sortGenericWithComparator_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
         // Given
-        String[] inputSource = new String[0];
-        String inputElement = "a";
+        String[] inputSource = new String[]{"a", "b", "c"};
+        Comparator<String> inputComparator = String::compareTo;
 
         // When
-        String[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        String[] actual = ArrayUtils.sort(inputSource, inputComparator);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .isEmpty();
+                .isSameAs(inputSource)
+                .hasSize(3)
+                .containsExactly("a", "b", "c");
     }
 
     @Test
-    void removeElementGeneric_ShouldReturnClone_WhenElementNotFound() {
+    void sortGenericWithComparator_ShouldSortArray_WhenArrayHasDuplicates() {
         // Given
-        String[] inputSource = new String[]{"a", "b", "c"};
-        String inputElement = "d";
+        String[] inputSource = new String[]{"b", "a", "b", "a"};
+        Comparator<String> inputComparator = String::compareTo;
 
         // When
-        String[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        String[] actual = ArrayUtils.sort(inputSource, inputComparator);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly("a", "b", "c");
+                .isSameAs(inputSource)
+                .hasSize(4)
+                .containsExactly("a", "a", "b", "b");
     }
 
     @Test
-    void removeElementGeneric_ShouldRemoveFirstOccurrence_WhenElementExists() {
+    void sortByDoubleKey_ShouldSortStably_WhenKeysAreEqual() {
         // Given
-        String[] inputSource = new String[]{"a", "b", "c", "b"};
-        String inputElement = "b";
+        String[] inputSource = new String[]{"pear", "fig", "apple", "kiwi", "plum", "date"};
 
         // When
-        String[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        String[] actual = ArrayUtils.sortByDoubleKey(inputSource, value -> value.length() / 2.0);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly("a", "c", "b");
+                .isSameAs(inputSource)
+                .containsExactly("fig", "pear", "kiwi", "plum", "date", "apple");
     }
 
     @Test
-    void removeElementGeneric_ShouldHandleNullElement_WhenElementIsNull() {
+    void sortByDoubleKey_ShouldOrderLikeDoubleCompare_WhenKeysAreSpecialValues() {
         // Given
-        String[] inputSource = new String[]{"a", null, "c"};
-        String inputElement = null;
+        Double[] inputSource = new Double[]{Double.NaN, 0.0, -0.0, Double.NEGATIVE_INFINITY, -1.5, 2.5};
 
         // When
-        String[] actual = ArrayUtils.removeElement(inputSource, inputElement);
+        Double[] actual = ArrayUtils.sortByDoubleKey(inputSource, Double::doubleValue);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(2)
-                .containsExactly("a", "c");
+        then(actual).containsExactly(Double.NEGATIVE_INFINITY, -1.5, -0.0, 0.0, 2.5, Double.NaN);
+    }
+
+    @Test
+    void sortByDoubleKey_ShouldThrowIllegalArgumentException_WhenKeyExtractorIsNull() {
+        // Given
+        String[] inputSource = new String[]{"pear", "fig", "apple", "kiwi", "plum", "date"};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.sortByDoubleKey(inputSource, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The key extractor cannot be null");
     }
 
     @Test
-    void sortByte_ShouldReturnNull_WhenArrayIsNull() {
+    void sortByIntKey_ShouldReturnNull_WhenArrayIsNull() {
         // Given
-        byte[] inputSource = null;
+        String[] inputSource = null;
 
         // When
-        byte[] actual = ArrayUtils.sort(inputSource);
+        String[] actual = ArrayUtils.sortByIntKey(inputSource, String::length);
 
         // Then
         then(actual).isNull();
     }
 
     @Test
-    void sortByte_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void sortByIntKey_ShouldSortStably_WhenKeysAreEqual() {
         // Given
-        byte[] inputSource = new byte[0];
+        String[] inputSource = new String[]{"pear", "fig", "apple", "kiwi", "plum", "date"};
 
         // When
-        byte[] actual = ArrayUtils.sort(inputSource);
+        String[] actual = ArrayUtils.sortByIntKey(inputSource, String::length);
 
         // Then
         then(actual)
                 .isSameAs(inputSource)
-                .isEmpty();
+                .containsExactly("fig", "pear", "kiwi", "plum", "date", "apple");
     }
 
     @Test
-    void sortByte_ShouldSortArray_WhenArrayIsUnsorted() {
+    void sortByIntKey_ShouldSortNegativeKeys_WhenKeysSpanWholeRange() {
         // Given
-        byte[] inputSource = new byte[]{3, 1, 2};
+        Integer[] inputSource = new Integer[]{5, Integer.MIN_VALUE, -1, Integer.MAX_VALUE, 0};
 
         // When
-        byte[] actual = ArrayUtils.sort(inputSource);
+        Integer[] actual = ArrayUtils.sortByIntKey(inputSource, Integer::intValue);
 
         // Then
-        then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1, 2, 3);
+        then(actual).containsExactly(Integer.MIN_VALUE, -1, 0, 5, Integer.MAX_VALUE);
     }
 
     @Test
-    void sortByte_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
+    void sortByIntKey_ShouldExtractEachKeyOnce_WhenArrayIsSorted() {
         // Given
-        byte[] inputSource = new byte[]{1, 2, 3};
+        String[] inputSource = new String[]{"pear", "fig", "apple", "kiwi", "plum", "date"};
+        int[] calls = new int[1];
 
         // When
-        byte[] actual = ArrayUtils.sort(inputSource);
+        ArrayUtils.sortByIntKey(inputSource, value -> {
+            calls[0]++;
+            return value.length();
+        });
 
         // Then
-        then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1, 2, 3);
+        then(calls[0]).isEqualTo(inputSource.length);
     }
 
     @Test
-    void sortByte_ShouldSortArray_WhenArrayHasDuplicates() {
+    void sortByKey_ShouldSortStably_WhenKeysAreEqual() {
         // Given
-        byte[] inputSource = new byte[]{2, 1, 2, 1};
+        String[] inputSource = new String[]{"pear", "fig", "apple", "kiwi", "plum", "date"};
 
         // When
-        byte[] actual = ArrayUtils.sort(inputSource);
+        String[] actual = ArrayUtils.sortByKey(inputSource, value -> value.substring(0, 1));
 
         // Then
         then(actual)
                 .isSameAs(inputSource)
-                .hasSize(4)
-                .containsExactly(1, 1, 2, 2);
+                .containsExactly("apple", "date", "fig", "kiwi", "pear", "plum");
     }
 
     @Test
-    void sortChar_ShouldReturnNull_WhenArrayIsNull() {
+    void sortByKey_ShouldMatchStableSort_WhenArrayIsLarge() {
         // Given
-        char[] inputSource = null;
+        Random random = new Random(42);
+        Integer[] inputSource = new Integer[1000];
+        for (int i = 0; i < inputSource.length; i++) {
+            inputSource[i] = random.nextInt(10_000);
+        }
+        Integer[] expected = inputSource.clone();
+        Arrays.sort(expected, Comparator.comparing(value -> value % 100));
 
         // When
-        char[] actual = ArrayUtils.sort(inputSource);
+        Integer[] actual = ArrayUtils.sortByKey(inputSource, value -> value % 100);
 
         // Then
-        then(actual).isNull();
+        then(actual).containsExactly(expected);
     }
 
     @Test
-    void sortChar_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void sortByKey_ShouldThrowIllegalArgumentException_WhenKeyExtractorIsNull() {
         // Given
-        char[] inputSource = new char[0];
+        String[] inputSource = new String[]{"pear", "fig", "apple", "kiwi", "plum", "date"};
 
-        // When
-        char[] actual = ArrayUtils.sort(inputSource);
-
-        // Then
-        then(actual)
-                .isSameAs(inputSource)
-                .isEmpty();
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.sortByKey(inputSource, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The key extractor cannot be null");
     }
 
     @Test
-    void sortChar_ShouldSortArray_WhenArrayIsUnsorted() {
+    void sortByLongKey_ShouldSortStably_WhenKeysAreEqual() {
         // Given
-        char[] inputSource = new char[]{'c', 'a', 'b'};
+        String[] inputSource = new String[]{"pear", "fig", "apple", "kiwi", "plum", "date"};
 
         // When
-        char[] actual = ArrayUtils.sort(inputSource);
+        String[] actual = ArrayUtils.sortByLongKey(inputSource, value -> -value.length());
 
         // Then
         then(actual)
                 .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly('a', 'b', 'c');
+                .containsExactly("apple", "pear", "kiwi", "plum", "date", "fig");
     }
 
     @Test
-    void sortChar_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
+    void sortByLongKey_ShouldMatchStableSort_WhenKeysSpanWholeRange() {
         // Given
-        char[] inputSource = new char[]{'a', 'b', 'c'};
+        Random random = new Random(7);
+        Long[] inputSource = new Long[1000];
+        for (int i = 0; i < inputSource.length; i++) {
+            inputSource[i] = random.nextLong();
+        }
+        Long[] expected = inputSource.clone();
+        Arrays.sort(expected);
 
         // When
-        char[] actual = ArrayUtils.sort(inputSource);
+        Long[] actual = ArrayUtils.sortByLongKey(inputSource, Long::longValue);
 
         // Then
-        then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly('a', 'b', 'c');
+        then(actual).containsExactly(expected);
     }
 
     @Test
-    void sortChar_ShouldSortArray_WhenArrayHasDuplicates() {
+    void subarrayBoolean_ShouldReturnEmptyArray_WhenArrayIsNull() {
         // Given
-        char[] inputSource = new char[]{'b', 'a', 'b', 'a'};
+        boolean[] inputValue = null;
+        int inputStart = 1;
+        int inputEnd = 3;
 
         // When
-        char[] actual = ArrayUtils.sort(inputSource);
+        boolean[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(4)
-                .containsExactly('a', 'a', 'b', 'b');
+                .isNotNull()
+                .isEmpty();
     }
 
     @Test
-    void sortShort_ShouldReturnNull_WhenArrayIsNull() {
+    void subarrayBoolean_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        short[] inputSource = null;
+        boolean[] inputValue = new boolean[0];
+        int inputStart = 0;
+        int inputEnd = 1;
 
         // When
-        short[] actual = ArrayUtils.sort(inputSource);
+        boolean[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
-        then(actual).isNull();
+        then(actual)
+                .isNotNull()
+                .isEmpty();
     }
 
     @Test
-    void sortShort_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void subarrayBoolean_ShouldReturnSubarray_WhenStartAndEndAreValid() {
         // Given
-        short[] inputSource = new short[0];
+        boolean[] inputValue = new boolean[]{true, false, true, false};
+        int inputStart = 1;
+        int inputEnd = 3;
 
         // When
-        short[] actual = ArrayUtils.sort(inputSource);
+        boolean[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .isEmpty();
+                .hasSize(2)
+                .containsExactly(false, true);
     }
 
     @Test
-    void sortShort_ShouldSortArray_WhenArrayIsUnsorted() {
+    void subarrayBoolean_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
         // Given
-        short[] inputSource = new short[]{3, 1, 2};
+        boolean[] inputValue = new boolean[]{true, false, true};
+        int inputStart = 2;
+        int inputEnd = 2;
 
         // When
-        short[] actual = ArrayUtils.sort(inputSource);
+        boolean[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1, 2, 3);
+                .isNotNull()
+                .isEmpty();
     }
 
     @Test
-    void sortShort_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
+    void subarrayBoolean_ShouldReturnSubarray_WhenStartIsNegative() {
         // Given
-        short[] inputSource = new short[]{1, 2, 3};
+        boolean[] inputValue = new boolean[]{true, false, true};
+        int inputStart = -1;
+        int inputEnd = 2;
 
         // When
-        short[] actual = ArrayUtils.sort(inputSource);
+        boolean[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1, 2, 3);
+                .hasSize(2)
+                .containsExactly(true, false);
     }
 
     @Test
-    void sortShort_ShouldSortArray_WhenArrayHasDuplicates() {
+    void subarrayBoolean_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
         // Given
-        short[] inputSource = new short[]{2, 1, 2, 1};
+        boolean[] inputValue = new boolean[]{true, false, true};
+        int inputStart = 1;
+        int inputEnd = 5;
 
         // When
-        short[] actual = ArrayUtils.sort(inputSource);
+        boolean[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(4)
-                .containsExactly(1, 1, 2, 2);
+                .hasSize(2)
+                .containsExactly(false, true);
     }
 
     @Test
-    void sortInt_ShouldReturnNull_WhenArrayIsNull() {
+    void subarrayByte_ShouldReturnEmptyArray_WhenArrayIsNull() {
         // Given
-        int[] inputSource = null;
+        byte[] inputValue = null;
+        int inputStart = 1;
+        int inputEnd = 3;
 
         // When
-        int[] actual = ArrayUtils.sort(inputSource);
+        byte[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
-        then(actual).isNull();
+        then(actual)
+                .isNotNull()
+                .isEmpty();
     }
 
     @Test
-    void sortInt_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void subarrayByte_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        int[] inputSource = new int[0];
+        byte[] inputValue = new byte[0];
+        int inputStart = 0;
+        int inputEnd = 1;
 
         // When
-        int[] actual = ArrayUtils.sort(inputSource);
+        byte[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
+                .isNotNull()
                 .isEmpty();
     }
 
     @Test
-    void sortInt_ShouldSortArray_WhenArrayIsUnsorted() {
+    void subarrayByte_ShouldReturnSubarray_WhenStartAndEndAreValid() {
         // Given
-        int[] inputSource = new int[]{3, 1, 2};
+        byte[] inputValue = new byte[]{1, 2, 3, 4};
+        int inputStart = 1;
+        int inputEnd = 3;
 
         // When
-        int[] actual = ArrayUtils.sort(inputSource);
+        byte[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1, 2, 3);
+                .hasSize(2)
+                .containsExactly(2, 3);
     }
 
     @Test
-    void sortInt_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
+    void subarrayByte_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
         // Given
-        int[] inputSource = new int[]{1, 2, 3};
+        byte[] inputValue = new byte[]{1, 2, 3};
+        int inputStart = 2;
+        int inputEnd = 2;
 
         // When
-        int[] actual = ArrayUtils.sort(inputSource);
+        byte[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1, 2, 3);
+                .isNotNull()
+                .isEmpty();
     }
 
     @Test
-    void sortInt_ShouldSortArray_WhenArrayHasDuplicates() {
+    void subarrayByte_ShouldReturnSubarray_WhenStartIsNegative() {
         // Given
-        int[] inputSource = new int[]{2, 1, 2, 1};
+        byte[] inputValue = new byte[]{1, 2, 3};
+        int inputStart = -1;
+        int inputEnd = 2;
 
         // When
-        int[] actual = ArrayUtils.sort(inputSource);
+        byte[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(4)
-                .containsExactly(1, 1, 2, 2);
+                .hasSize(2)
+                .containsExactly(1, 2);
     }
 
     @Test
-    void sortLong_ShouldReturnNull_WhenArrayIsNull() {
+    void subarrayByte_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
         // Given
-        long[] inputSource = null;
+        byte[] inputValue = new byte[]{1, 2, 3};
+        int inputStart = 1;
+        int inputEnd = 5;
 
         // When
-        long[] actual = ArrayUtils.sort(inputSource);
+        byte[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
-        then(actual).isNull();
+        then(actual)
+                .hasSize(2)
+                .containsExactly(2, 3);
     }
 
     @Test
-    void sortLong_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void subarrayChar_ShouldReturnEmptyArray_WhenSourceIsNull() {
         // Given
-        long[] inputSource = new long[0];
+        char[] inputSource = null;
+        int inputStart = 1;
+        int inputEnd = 3;
 
         // When
-        long[] actual = ArrayUtils.sort(inputSource);
+        char[] actual = ArrayUtils.subarray(inputSource, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
+                .isNotNull()
                 .isEmpty();
     }
 
     @Test
-    void sortLong_ShouldSortArray_WhenArrayIsUnsorted() {
+    void subarrayChar_ShouldReturnEmptyArray_WhenSourceIsEmpty() {
         // Given
-        long[] inputSource = new long[]{3L, 1L, 2L};
+        char[] inputSource = new char[0];
+        int inputStart = 0;
+        int inputEnd = 1;
 
         // When
-        long[] actual = ArrayUtils.sort(inputSource);
+        char[] actual = ArrayUtils.subarray(inputSource, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1L, 2L, 3L);
+                .isNotNull()
+                .isEmpty();
     }
 
     @Test
-    void sortLong_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
+    void subarrayChar_ShouldReturnSubarray_WhenStartAndEndAreValid() {
         // Given
-        long[] inputSource = new long[]{1L, 2L, 3L};
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd'};
+        int inputStart = 1;
+        int inputEnd = 3;
 
         // When
-        long[] actual = ArrayUtils.sort(inputSource);
+        char[] actual = ArrayUtils.subarray(inputSource, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1L, 2L, 3L);
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly('b', 'c');
     }
 
     @Test
-    void sortLong_ShouldSortArray_WhenArrayHasDuplicates() {
+    void subarrayChar_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
         // Given
-        long[] inputSource = new long[]{2L, 1L, 2L, 1L};
+        char[] inputSource = new char[]{'a', 'b', 'c'};
+        int inputStart = 2;
+        int inputEnd = 2;
 
         // When
-        long[] actual = ArrayUtils.sort(inputSource);
+        char[] actual = ArrayUtils.subarray(inputSource, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(4)
-                .containsExactly(1L, 1L, 2L, 2L);
+                .isNotNull()
+                .isEmpty();
     }
 
     @Test
-    void sortFloat_ShouldReturnNull_WhenArrayIsNull() {
+    void subarrayChar_ShouldReturnSubarray_WhenStartIsNegative() {
         // Given
-        float[] inputSource = null;
+        char[] inputSource = new char[]{'a', 'b', 'c'};
+        int inputStart = -1;
+        int inputEnd = 2;
 
         // When
-        float[] actual = ArrayUtils.sort(inputSource);
+        char[] actual = ArrayUtils.subarray(inputSource, inputStart, inputEnd);
 
         // Then
-        then(actual).isNull();
+        then(actual)
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly('a', 'b');
     }
 
     @Test
-    void sortFloat_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void subarrayChar_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
         // Given
-        float[] inputSource = new float[0];
+        char[] inputSource = new char[]{'a', 'b', 'c'};
+        int inputStart = 1;
+        int inputEnd = 5;
 
         // When
-        float[] actual = ArrayUtils.sort(inputSource);
+        char[] actual = ArrayUtils.subarray(inputSource, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .isEmpty();
+                .isNotSameAs(inputSource)
+                .hasSize(2)
+                .containsExactly('b', 'c');
     }
 
     @Test
-    void sortFloat_ShouldSortArray_WhenArrayIsUnsorted() {
+    void subarrayChar_ShouldReturnSingleElement_WhenStartAndEndCoverOneElement() {
         // Given
-        float[] inputSource = new float[]{3.0F, 1.0F, 2.0F};
+        char[] inputSource = new char[]{'a', 'b', 'c'};
+        int inputStart = 1;
+        int inputEnd = 2;
 
         // When
-        float[] actual = ArrayUtils.sort(inputSource);
+        char[] actual = ArrayUtils.subarray(inputSource, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1.0F, 2.0F, 3.0F);
+                .isNotSameAs(inputSource)
+                .hasSize(1)
+                .containsExactly('b');
     }
 
     @Test
-    void sortFloat_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
+    void subarrayShort_ShouldReturnEmptyArray_WhenArrayIsNull() {
         // Given
-        float[] inputSource = new float[]{1.0F, 2.0F, 3.0F};
+        short[] inputValue = null;
+        int inputStart = 1;
+        int inputEnd = 3;
 
         // When
-        float[] actual = ArrayUtils.sort(inputSource);
+        short[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1.0F, 2.0F, 3.0F);
+                .isNotNull()
+                .isEmpty();
     }
 
     @Test
-    void sortFloat_ShouldSortArray_WhenArrayHasDuplicates() {
+    void subarrayShort_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        float[] inputSource = new float[]{2.0F, 1.0F, 2.0F, 1.0F};
+        short[] inputValue = new short[0];
+        int inputStart = 0;
+        int inputEnd = 1;
 
         // When
-        float[] actual = ArrayUtils.sort(inputSource);
+        short[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(4)
-                .containsExactly(1.0F, 1.0F, 2.0F, 2.0F);
+                .isNotNull()
+                .isEmpty();
     }
 
     @Test
-    void sortDouble_ShouldReturnNull_WhenArrayIsNull() {
+    void subarrayShort_ShouldReturnSubarray_WhenStartAndEndAreValid() {
         // Given
-        double[] inputSource = null;
+        short[] inputValue = new short[]{1, 2, 3, 4};
+        int inputStart = 1;
+        int inputEnd = 3;
 
         // When
-        double[] actual = ArrayUtils.sort(inputSource);
+        short[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
-        then(actual).isNull();
+        then(actual)
+                .hasSize(2)
+                .containsExactly(2, 3);
     }
 
     @Test
-    void sortDouble_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void subarrayShort_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
         // Given
-        double[] inputSource = new double[0];
+        short[] inputValue = new short[]{1, 2, 3};
+        int inputStart = 2;
+        int inputEnd = 2;
 
         // When
-        double[] actual = ArrayUtils.sort(inputSource);
+        short[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
+                .isNotNull()
                 .isEmpty();
     }
 
     @Test
-    void sortDouble_ShouldSortArray_WhenArrayIsUnsorted() {
+    void subarrayShort_ShouldReturnSubarray_WhenStartIsNegative() {
         // Given
-        double[] inputSource = new double[]{3.0, 1.0, 2.0};
+        short[] inputValue = new short[]{1, 2, 3};
+        int inputStart = -1;
+        int inputEnd = 2;
 
         // When
-        double[] actual = ArrayUtils.sort(inputSource);
+        short[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1.0, 2.0, 3.0);
+                .hasSize(2)
+                .containsExactly(1, 2);
     }
 
     @Test
-    void sortDouble_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
+    void subarrayShort_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
         // Given
-        double[] inputSource = new double[]{1.0, 2.0, 3.0};
+        short[] inputValue = new short[]{1, 2, 3};
+        int inputStart = 1;
+        int inputEnd = 5;
 
         // When
-        double[] actual = ArrayUtils.sort(inputSource);
+        short[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly(1.0, 2.0, 3.0);
+                .hasSize(2)
+                .containsExactly(2, 3);
     }
 
     @Test
-    void sortDouble_ShouldSortArray_WhenArrayHasDuplicates() {
+    void subarrayInt_ShouldReturnEmptyArray_WhenArrayIsNull() {
         // Given
-        double[] inputSource = new double[]{2.0, 1.0, 2.0, 1.0};
+        int[] inputValue = null;
+        int inputStart = 1;
+        int inputEnd = 3;
 
         // When
-        double[] actual = ArrayUtils.sort(inputSource);
+        int[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(4)
-                .containsExactly(1.0, 1.0, 2.0, 2.0);
+                .isNotNull()
+                .isEmpty();
     }
 
     @Test
-    void sortGeneric_ShouldReturnNull_WhenArrayIsNull() {
+    void subarrayInt_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        String[] inputSource = null;
+        int[] inputValue = new int[0];
+        int inputStart = 0;
+        int inputEnd = 1;
 
         // When
-        String[] actual = ArrayUtils.sort(inputSource);
+        int[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
-        then(actual).isNull();
+        then(actual)
+                .isNotNull()
+                .isEmpty();
     }
 
     @Test
-    void sortGeneric_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void subarrayInt_ShouldReturnSubarray_WhenStartAndEndAreValid() {
         // Given
-        String[] inputSource = new String[0];
+        int[] inputValue = new int[]{1, 2, 3, 4};
+        int inputStart = 1;
+        int inputEnd = 3;
 
         // When
-        String[] actual = ArrayUtils.sort(inputSource);
+        int[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .isEmpty();
+                .hasSize(2)
+                .containsExactly(2, 3);
     }
 
     @Test
-    void sortGeneric_ShouldSortArray_WhenArrayIsUnsorted() {
+    void subarrayInt_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
         // Given
-        String[] inputSource = new String[]{"c", "a", "b"};
+        int[] inputValue = new int[]{1, 2, 3};
+        int inputStart = 2;
+        int inputEnd = 2;
 
         // When
-        String[] actual = ArrayUtils.sort(inputSource);
+        int[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly("a", "b", "c");
+                .isNotNull()
+                .isEmpty();
     }
 
     @Test
-    void sortGeneric_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
+    void subarrayInt_ShouldReturnSubarray_WhenStartIsNegative() {
         // Given
-        String[] inputSource = new String[]{"a", "b", "c"};
+        int[] inputValue = new int[]{1, 2, 3};
+        int inputStart = -1;
+        int inputEnd = 2;
 
         // When
-        String[] actual = ArrayUtils.sort(inputSource);
+        int[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly("a", "b", "c");
+                .hasSize(2)
+                .containsExactly(1, 2);
     }
 
     @Test
-    void sortGeneric_ShouldSortArray_WhenArrayHasDuplicates() {
+    void subarrayInt_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
         // Given
-        String[] inputSource = new String[]{"b", "a", "b", "a"};
+        int[] inputValue = new int[]{1, 2, 3};
+        int inputStart = 1;
+        int inputEnd = 5;
 
         // When
-        String[] actual = ArrayUtils.sort(inputSource);
+        int[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(4)
-                .containsExactly("a", "a", "b", "b");
+                .hasSize(2)
+                .containsExactly(2, 3);
     }
 
     @Test
-    void sortGenericWithComparator_ShouldReturnNull_WhenArrayIsNull() {
+    void subarrayLong_ShouldReturnEmptyArray_WhenArrayIsNull() {
         // Given
-        String[] inputSource = null;
-        Comparator<String> inputComparator = String::compareTo;
+        long[] inputValue = null;
+        int inputStart = 1;
+        int inputEnd = 3;
 
         // When
-        String[] actual = ArrayUtils.sort(inputSource, inputComparator);
+        long[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
-        then(actual).isNull();
+        then(actual)
+                .isNotNull()
+                .isEmpty();
     }
 
     @Test
-    void sortGenericWithComparator_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void subarrayLong_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        String[] inputSource = new String[0];
-        Comparator<String> inputComparator = String::compareTo;
+        long[] inputValue = new long[0];
+        int inputStart = 0;
+        int inputEnd = 1;
 
         // When
-        String[] actual = ArrayUtils.sort(inputSource, inputComparator);
+        long[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
+                .isNotNull()
                 .isEmpty();
     }
 
     @Test
-    void sortGenericWithComparator_ShouldSortArrayAscending_WhenArrayIsUnsorted() {
+    void subarrayLong_ShouldReturnSubarray_WhenStartAndEndAreValid() {
         // Given
-        String[] inputSource = new String[]{"c", "a", "b"};
-        Comparator<String> inputComparator = String::compareTo;
+        long[] inputValue = new long[]{1L, 2L, 3L, 4L};
+        int inputStart = 1;
+        int inputEnd = 3;
 
         // When
-        String[] actual = ArrayUtils.sort(inputSource, inputComparator);
+        long[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly("a", "b", "c");
+                .hasSize(2)
+                .containsExactly(2L, 3L);
     }
 
     @Test
-    void sortGenericWithComparator_ShouldSortArrayDescending_WhenUsingReverseComparator() {
+    void subarrayLong_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
         // Given
-        String[] inputSource = new String[]{"a", "c", "b"};
-        Comparator<String> inputComparator = Comparator.reverseOrder();
+        long[] inputValue = new long[]{1L, 2L, 3L};
+        int inputStart = 2;
+        int inputEnd = 2;
 
         // When
-        String[] actual = ArrayUtils.sort(inputSource, inputComparator);
+        long[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly("c", "b", "a");
+                .isNotNull()
+                .isEmpty();
     }
 
     @Test
-    void sortGenericWithComparator_ShouldReturnSameArray_WhenArrayIsAlreadySorted() {
+    void subarrayLong_ShouldReturnSubarray_WhenStartIsNegative() {
         // Given
-        String[] inputSource = new String[]{"a", "b", "c"};
-        Comparator<String> inputComparator = String::compareTo;
+        long[] inputValue = new long[]{1L, 2L, 3L};
+        int inputStart = -1;
+        int inputEnd = 2;
 
         // When
-        String[] actual = ArrayUtils.sort(inputSource, inputComparator);
+        long[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(3)
-                .containsExactly("a", "b", "c");
+                .hasSize(2)
+                .containsExactly(1L, 2L);
     }
 
     @Test
-    void sortGenericWithComparator_ShouldSortArray_WhenArrayHasDuplicates() {
+    void subarrayLong_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
         // Given
-        String[] inputSource = new String[]{"b", "a", "b", "a"};
-        Comparator<String> inputComparator = String::compareTo;
+        long[] inputValue = new long[]{1L, 2L, 3L};
+        int inputStart = 1;
+        int inputEnd = 5;
 
         // When
-        String[] actual = ArrayUtils.sort(inputSource, inputComparator);
+        long[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isSameAs(inputSource)
-                .hasSize(4)
-                .containsExactly("a", "a", "b", "b");
+                .hasSize(2)
+                .containsExactly(2L, 3L);
     }
 
     @Test
-    void subarrayBoolean_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void subarrayFloat_ShouldReturnEmptyArray_WhenArrayIsNull() {
         // Given
-        boolean[] inputValue = null;
+        float[] inputValue = null;
         int inputStart = 1;
         int inputEnd = 3;
 
         // When
-        boolean[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        float[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
@@ -12463,14 +18087,14 @@ void subarrayBoolean_ShouldReturnEmptyArray_WhenArrayIsNull() {
     }
 
     @Test
-    void subarrayBoolean_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void subarrayFloat_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        boolean[] inputValue = new boolean[0];
+        float[] inputValue = new float[0];
         int inputStart = 0;
         int inputEnd = 1;
 
         // When
-        boolean[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        float[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
@@ -12479,30 +18103,30 @@ void subarrayBoolean_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
     }
 
     @Test
-    void subarrayBoolean_ShouldReturnSubarray_WhenStartAndEndAreValid() {
+    void subarrayFloat_ShouldReturnSubarray_WhenStartAndEndAreValid() {
         // Given
-        boolean[] inputValue = new boolean[]{true, false, true, false};
+        float[] inputValue = new float[]{1.0F, 2.0F, 3.0F, 4.0F};
         int inputStart = 1;
         int inputEnd = 3;
 
         // When
-        boolean[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        float[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
                 .hasSize(2)
-                .containsExactly(false, true);
+                .containsExactly(2.0F, 3.0F);
     }
 
     @Test
-    void subarrayBoolean_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
+    void subarrayFloat_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
         // Given
-        boolean[] inputValue = new boolean[]{true, false, true};
+        float[] inputValue = new float[]{1.0F, 2.0F, 3.0F};
         int inputStart = 2;
         int inputEnd = 2;
 
         // When
-        boolean[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        float[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
@@ -12511,46 +18135,46 @@ void subarrayBoolean_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd()
     }
 
     @Test
-    void subarrayBoolean_ShouldReturnSubarray_WhenStartIsNegative() {
+    void subarrayFloat_ShouldReturnSubarray_WhenStartIsNegative() {
         // Given
-        boolean[] inputValue = new boolean[]{true, false, true};
+        float[] inputValue = new float[]{1.0F, 2.0F, 3.0F};
         int inputStart = -1;
         int inputEnd = 2;
 
         // When
-        boolean[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        float[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
                 .hasSize(2)
-                .containsExactly(true, false);
+                .containsExactly(1.0F, 2.0F);
     }
 
     @Test
-    void subarrayBoolean_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
+    void subarrayFloat_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
         // Given
-        boolean[] inputValue = new boolean[]{true, false, true};
+        float[] inputValue = new float[]{1.0F, 2.0F, 3.0F};
         int inputStart = 1;
         int inputEnd = 5;
 
         // When
-        boolean[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        float[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
                 .hasSize(2)
-                .containsExactly(false, true);
+                .containsExactly(2.0F, 3.0F);
     }
 
     @Test
-    void subarrayByte_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void subarrayDouble_ShouldReturnEmptyArray_WhenArrayIsNull() {
         // Given
-        byte[] inputValue = null;
+        double[] inputValue = null;
         int inputStart = 1;
         int inputEnd = 3;
 
         // When
-        byte[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        double[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
@@ -12559,14 +18183,14 @@ void subarrayByte_ShouldReturnEmptyArray_WhenArrayIsNull() {
     }
 
     @Test
-    void subarrayByte_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void subarrayDouble_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        byte[] inputValue = new byte[0];
+        double[] inputValue = new double[0];
         int inputStart = 0;
         int inputEnd = 1;
 
         // When
-        byte[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        double[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
@@ -12575,30 +18199,30 @@ void subarrayByte_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
     }
 
     @Test
-    void subarrayByte_ShouldReturnSubarray_WhenStartAndEndAreValid() {
+    void subarrayDouble_ShouldReturnSubarray_WhenStartAndEndAreValid() {
         // Given
-        byte[] inputValue = new byte[]{1, 2, 3, 4};
+        double[] inputValue = new double[]{1.0, 2.0, 3.0, 4.0};
         int inputStart = 1;
         int inputEnd = 3;
 
         // When
-        byte[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        double[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
                 .hasSize(2)
-                .containsExactly(2, 3);
+                .containsExactly(2.0, 3.0);
     }
 
     @Test
-    void subarrayByte_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
+    void subarrayDouble_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
         // Given
-        byte[] inputValue = new byte[]{1, 2, 3};
+        double[] inputValue = new double[]{1.0, 2.0, 3.0};
         int inputStart = 2;
         int inputEnd = 2;
 
         // When
-        byte[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        double[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
@@ -12607,62 +18231,60 @@ void subarrayByte_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
     }
 
     @Test
-    void subarrayByte_ShouldReturnSubarray_WhenStartIsNegative() {
+    void subarrayDouble_ShouldReturnSubarray_WhenStartIsNegative() {
         // Given
-        byte[] inputValue = new byte[]{1, 2, 3};
+        double[] inputValue = new double[]{1.0, 2.0, 3.0};
         int inputStart = -1;
         int inputEnd = 2;
 
         // When
-        byte[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        double[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
                 .hasSize(2)
-                .containsExactly(1, 2);
+                .containsExactly(1.0, 2.0);
     }
 
     @Test
-    void subarrayByte_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
+    void subarrayDouble_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
         // Given
-        byte[] inputValue = new byte[]{1, 2, 3};
+        double[] inputValue = new double[]{1.0, 2.0, 3.0};
         int inputStart = 1;
         int inputEnd = 5;
 
         // When
-        byte[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        double[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
                 .hasSize(2)
-                .containsExactly(2, 3);
+                .containsExactly(2.0, 3.0);
     }
 
     @Test
-    void subarrayChar_ShouldReturnEmptyArray_WhenSourceIsNull() {
+    void subarrayGeneric_ShouldReturnNull_WhenArrayIsNull() {
         // Given
-        char[] inputSource = null;
+        String[] inputValue = null;
         int inputStart = 1;
         int inputEnd = 3;
 
         // When
-        char[] actual = ArrayUtils.subarray(inputSource, inputStart, inputEnd);
+        String[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void subarrayChar_ShouldReturnEmptyArray_WhenSourceIsEmpty() {
+    void subarrayGeneric_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
         // Given
-        char[] inputSource = new char[0];
+        String[] inputValue = new String[0];
         int inputStart = 0;
         int inputEnd = 1;
 
         // When
-        char[] actual = ArrayUtils.subarray(inputSource, inputStart, inputEnd);
+        String[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
@@ -12671,31 +18293,30 @@ void subarrayChar_ShouldReturnEmptyArray_WhenSourceIsEmpty() {
     }
 
     @Test
-    void subarrayChar_ShouldReturnSubarray_WhenStartAndEndAreValid() {
+    void subarrayGeneric_ShouldReturnSubarray_WhenStartAndEndAreValid() {
         // Given
-        char[] inputSource = new char[]{'a', 'b', 'c', 'd'};
+        String[] inputValue = new String[]{"a", "b", "c", "d"};
         int inputStart = 1;
         int inputEnd = 3;
 
         // When
-        char[] actual = ArrayUtils.subarray(inputSource, inputStart, inputEnd);
+        String[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
                 .hasSize(2)
-                .containsExactly('b', 'c');
+                .containsExactly("b", "c");
     }
 
     @Test
-    void subarrayChar_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
+    void subarrayGeneric_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
         // Given
-        char[] inputSource = new char[]{'a', 'b', 'c'};
+        String[] inputValue = new String[]{"a", "b", "c"};
         int inputStart = 2;
         int inputEnd = 2;
 
         // When
-        char[] actual = ArrayUtils.subarray(inputSource, inputStart, inputEnd);
+        String[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
@@ -12704,627 +18325,595 @@ void subarrayChar_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
     }
 
     @Test
-    void subarrayChar_ShouldReturnSubarray_WhenStartIsNegative() {
+    void subarrayGeneric_ShouldReturnSubarray_WhenStartIsNegative() {
         // Given
-        char[] inputSource = new char[]{'a', 'b', 'c'};
+        String[] inputValue = new String[]{"a", "b", "c"};
         int inputStart = -1;
         int inputEnd = 2;
 
         // When
-        char[] actual = ArrayUtils.subarray(inputSource, inputStart, inputEnd);
+        String[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
                 .hasSize(2)
-                .containsExactly('a', 'b');
+                .containsExactly("a", "b");
     }
 
     @Test
-    void subarrayChar_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
+    void subarrayGeneric_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
         // Given
-        char[] inputSource = new char[]{'a', 'b', 'c'};
+        String[] inputValue = new String[]{"a", "b", "c"};
         int inputStart = 1;
         int inputEnd = 5;
 
         // When
-        char[] actual = ArrayUtils.subarray(inputSource, inputStart, inputEnd);
+        String[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
 
         // Then
         then(actual)
-                .isNotSameAs(inputSource)
                 .hasSize(2)
-                .containsExactly('b', 'c');
+                .containsExactly("b", "c");
     }
 
     @Test
-    void subarrayChar_ShouldReturnSingleElement_WhenStartAndEndCoverOneElement() {
+    void subarrayBooleanWithDestination_ShouldWriteRange_WhenDestinationIsLargeEnough() {
         // Given
-        char[] inputSource = new char[]{'a', 'b', 'c'};
-        int inputStart = 1;
-        int inputEnd = 2;
+        boolean[] inputSource = new boolean[]{true, true, false, true, false};
+        boolean[] destination = new boolean[4];
 
         // When
-        char[] actual = ArrayUtils.subarray(inputSource, inputStart, inputEnd);
+        int actual = ArrayUtils.subarray(inputSource, 1, 4, destination, 1);
 
         // Then
-        then(actual)
-                .isNotSameAs(inputSource)
-                .hasSize(1)
-                .containsExactly('b');
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(false, true, false, true);
     }
 
     @Test
-    void subarrayShort_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void subarrayByteWithDestination_ShouldWriteRange_WhenDestinationIsLargeEnough() {
         // Given
-        short[] inputValue = null;
-        int inputStart = 1;
-        int inputEnd = 3;
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5};
+        byte[] destination = new byte[4];
 
         // When
-        short[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        int actual = ArrayUtils.subarray(inputSource, 1, 4, destination, 1);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly((byte) 0, 2, 3, 4);
     }
 
     @Test
-    void subarrayShort_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void subarrayCharWithDestination_ShouldWriteRange_WhenDestinationIsLargeEnough() {
         // Given
-        short[] inputValue = new short[0];
-        int inputStart = 0;
-        int inputEnd = 1;
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e'};
+        char[] destination = new char[4];
 
         // When
-        short[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        int actual = ArrayUtils.subarray(inputSource, 1, 4, destination, 1);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly('\u0000', 'b', 'c', 'd');
     }
 
     @Test
-    void subarrayShort_ShouldReturnSubarray_WhenStartAndEndAreValid() {
+    void subarrayShortWithDestination_ShouldWriteRange_WhenDestinationIsLargeEnough() {
         // Given
-        short[] inputValue = new short[]{1, 2, 3, 4};
-        int inputStart = 1;
-        int inputEnd = 3;
+        short[] inputSource = new short[]{1, 2, 3, 4, 5};
+        short[] destination = new short[4];
 
         // When
-        short[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        int actual = ArrayUtils.subarray(inputSource, 1, 4, destination, 1);
 
         // Then
-        then(actual)
-                .hasSize(2)
-                .containsExactly(2, 3);
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly((short) 0, 2, 3, 4);
     }
 
     @Test
-    void subarrayShort_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
+    void subarrayIntWithDestination_ShouldWriteRange_WhenDestinationIsLargeEnough() {
         // Given
-        short[] inputValue = new short[]{1, 2, 3};
-        int inputStart = 2;
-        int inputEnd = 2;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
+        int[] destination = new int[4];
 
         // When
-        short[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        int actual = ArrayUtils.subarray(inputSource, 1, 4, destination, 1);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(0, 2, 3, 4);
     }
 
     @Test
-    void subarrayShort_ShouldReturnSubarray_WhenStartIsNegative() {
+    void subarrayIntWithDestination_ShouldWriteNothing_WhenSourceIsNull() {
         // Given
-        short[] inputValue = new short[]{1, 2, 3};
-        int inputStart = -1;
-        int inputEnd = 2;
+        int[] destination = new int[2];
 
         // When
-        short[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        int actual = ArrayUtils.subarray(null, 0, 2, destination, 0);
 
         // Then
-        then(actual)
-                .hasSize(2)
-                .containsExactly(1, 2);
+        then(actual).isEqualTo(0);
+        then(destination).containsExactly(0, 0);
     }
 
     @Test
-    void subarrayShort_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
+    void subarrayIntWithDestination_ShouldClampIndexes_WhenRangeExceedsSource() {
         // Given
-        short[] inputValue = new short[]{1, 2, 3};
-        int inputStart = 1;
-        int inputEnd = 5;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
+        int[] destination = new int[4];
 
         // When
-        short[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        int actual = ArrayUtils.subarray(inputSource, -2, 3, destination, 0);
 
         // Then
-        then(actual)
-                .hasSize(2)
-                .containsExactly(2, 3);
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(1, 2, 3, 0);
     }
 
     @Test
-    void subarrayInt_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void subarrayLongWithDestination_ShouldWriteRange_WhenDestinationIsLargeEnough() {
         // Given
-        int[] inputValue = null;
-        int inputStart = 1;
-        int inputEnd = 3;
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L};
+        long[] destination = new long[4];
 
         // When
-        int[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        int actual = ArrayUtils.subarray(inputSource, 1, 4, destination, 1);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(0L, 2L, 3L, 4L);
     }
 
     @Test
-    void subarrayInt_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void subarrayFloatWithDestination_ShouldWriteRange_WhenDestinationIsLargeEnough() {
         // Given
-        int[] inputValue = new int[0];
-        int inputStart = 0;
-        int inputEnd = 1;
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f};
+        float[] destination = new float[4];
 
         // When
-        int[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        int actual = ArrayUtils.subarray(inputSource, 1, 4, destination, 1);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(0.0f, 2.0f, 3.0f, 4.0f);
     }
 
     @Test
-    void subarrayInt_ShouldReturnSubarray_WhenStartAndEndAreValid() {
+    void subarrayDoubleWithDestination_ShouldWriteRange_WhenDestinationIsLargeEnough() {
         // Given
-        int[] inputValue = new int[]{1, 2, 3, 4};
-        int inputStart = 1;
-        int inputEnd = 3;
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0};
+        double[] destination = new double[4];
+
+        // When
+        int actual = ArrayUtils.subarray(inputSource, 1, 4, destination, 1);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(0.0, 2.0, 3.0, 4.0);
+    }
+
+    @Test
+    void subarrayGenericWithDestination_ShouldWriteRange_WhenDestinationIsLargeEnough() {
+        // Given
+        String[] inputSource = new String[]{"a", "b", "c", "d", "e"};
+        String[] destination = new String[4];
+
+        // When
+        int actual = ArrayUtils.subarray(inputSource, 1, 4, destination, 1);
+
+        // Then
+        then(actual).isEqualTo(3);
+        then(destination).containsExactly(null, "b", "c", "d");
+    }
+
+    @Test
+    void swapBoolean_ShouldReturnNull_WhenSourceIsNull() {
+        // Given
+        boolean[] inputSource = null;
+
+        // When
+        boolean[] actual = ArrayUtils.swap(inputSource, 0, 1);
+
+        // Then
+        then(actual).isNull();
+    }
+
+    @Test
+    void swapBoolean_ShouldSwapElements_WhenIndexesAreValid() {
+        // Given
+        boolean[] inputSource = new boolean[]{true, true, false, true, false};
 
         // When
-        int[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        boolean[] actual = ArrayUtils.swap(inputSource, 0, 4);
 
         // Then
         then(actual)
-                .hasSize(2)
-                .containsExactly(2, 3);
+                .isSameAs(inputSource)
+                .containsExactly(false, true, false, true, true);
     }
 
     @Test
-    void subarrayInt_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
+    void swapBoolean_ShouldSwapRanges_WhenRangesDoNotOverlap() {
         // Given
-        int[] inputValue = new int[]{1, 2, 3};
-        int inputStart = 2;
-        int inputEnd = 2;
+        boolean[] inputSource = new boolean[]{true, true, false, true, false};
 
         // When
-        int[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        boolean[] actual = ArrayUtils.swap(inputSource, 0, 3, 2);
 
         // Then
         then(actual)
-                .isNotNull()
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(true, false, false, true, true);
     }
 
     @Test
-    void subarrayInt_ShouldReturnSubarray_WhenStartIsNegative() {
+    void swapByte_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        int[] inputValue = new int[]{1, 2, 3};
-        int inputStart = -1;
-        int inputEnd = 2;
+        byte[] inputSource = null;
 
         // When
-        int[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        byte[] actual = ArrayUtils.swap(inputSource, 0, 1);
 
         // Then
-        then(actual)
-                .hasSize(2)
-                .containsExactly(1, 2);
+        then(actual).isNull();
     }
 
     @Test
-    void subarrayInt_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
+    void swapByte_ShouldSwapElements_WhenIndexesAreValid() {
         // Given
-        int[] inputValue = new int[]{1, 2, 3};
-        int inputStart = 1;
-        int inputEnd = 5;
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5};
 
         // When
-        int[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        byte[] actual = ArrayUtils.swap(inputSource, 0, 4);
 
         // Then
         then(actual)
-                .hasSize(2)
-                .containsExactly(2, 3);
+                .isSameAs(inputSource)
+                .containsExactly(5, 2, 3, 4, 1);
     }
 
     @Test
-    void subarrayLong_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void swapByte_ShouldSwapRanges_WhenRangesDoNotOverlap() {
         // Given
-        long[] inputValue = null;
-        int inputStart = 1;
-        int inputEnd = 3;
+        byte[] inputSource = new byte[]{1, 2, 3, 4, 5};
 
         // When
-        long[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        byte[] actual = ArrayUtils.swap(inputSource, 0, 3, 2);
 
         // Then
         then(actual)
-                .isNotNull()
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(4, 5, 3, 1, 2);
     }
 
     @Test
-    void subarrayLong_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void swapChar_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        long[] inputValue = new long[0];
-        int inputStart = 0;
-        int inputEnd = 1;
+        char[] inputSource = null;
 
         // When
-        long[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        char[] actual = ArrayUtils.swap(inputSource, 0, 1);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void subarrayLong_ShouldReturnSubarray_WhenStartAndEndAreValid() {
+    void swapChar_ShouldSwapElements_WhenIndexesAreValid() {
         // Given
-        long[] inputValue = new long[]{1L, 2L, 3L, 4L};
-        int inputStart = 1;
-        int inputEnd = 3;
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e'};
 
         // When
-        long[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        char[] actual = ArrayUtils.swap(inputSource, 0, 4);
 
         // Then
         then(actual)
-                .hasSize(2)
-                .containsExactly(2L, 3L);
+                .isSameAs(inputSource)
+                .containsExactly('e', 'b', 'c', 'd', 'a');
     }
 
     @Test
-    void subarrayLong_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
+    void swapChar_ShouldSwapRanges_WhenRangesDoNotOverlap() {
         // Given
-        long[] inputValue = new long[]{1L, 2L, 3L};
-        int inputStart = 2;
-        int inputEnd = 2;
+        char[] inputSource = new char[]{'a', 'b', 'c', 'd', 'e'};
 
         // When
-        long[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        char[] actual = ArrayUtils.swap(inputSource, 0, 3, 2);
 
         // Then
         then(actual)
-                .isNotNull()
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly('d', 'e', 'c', 'a', 'b');
     }
 
     @Test
-    void subarrayLong_ShouldReturnSubarray_WhenStartIsNegative() {
+    void swapShort_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        long[] inputValue = new long[]{1L, 2L, 3L};
-        int inputStart = -1;
-        int inputEnd = 2;
+        short[] inputSource = null;
 
         // When
-        long[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        short[] actual = ArrayUtils.swap(inputSource, 0, 1);
 
         // Then
-        then(actual)
-                .hasSize(2)
-                .containsExactly(1L, 2L);
+        then(actual).isNull();
     }
 
     @Test
-    void subarrayLong_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
+    void swapShort_ShouldSwapElements_WhenIndexesAreValid() {
         // Given
-        long[] inputValue = new long[]{1L, 2L, 3L};
-        int inputStart = 1;
-        int inputEnd = 5;
+        short[] inputSource = new short[]{1, 2, 3, 4, 5};
 
         // When
-        long[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        short[] actual = ArrayUtils.swap(inputSource, 0, 4);
 
         // Then
         then(actual)
-                .hasSize(2)
-                .containsExactly(2L, 3L);
+                .isSameAs(inputSource)
+                .containsExactly(5, 2, 3, 4, 1);
     }
 
     @Test
-    void subarrayFloat_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void swapShort_ShouldSwapRanges_WhenRangesDoNotOverlap() {
         // Given
-        float[] inputValue = null;
-        int inputStart = 1;
-        int inputEnd = 3;
+        short[] inputSource = new short[]{1, 2, 3, 4, 5};
 
         // When
-        float[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        short[] actual = ArrayUtils.swap(inputSource, 0, 3, 2);
 
         // Then
         then(actual)
-                .isNotNull()
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(4, 5, 3, 1, 2);
     }
 
     @Test
-    void subarrayFloat_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void swapInt_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        float[] inputValue = new float[0];
-        int inputStart = 0;
-        int inputEnd = 1;
+        int[] inputSource = null;
 
         // When
-        float[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        int[] actual = ArrayUtils.swap(inputSource, 0, 1);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void subarrayFloat_ShouldReturnSubarray_WhenStartAndEndAreValid() {
+    void swapInt_ShouldSwapElements_WhenIndexesAreValid() {
         // Given
-        float[] inputValue = new float[]{1.0F, 2.0F, 3.0F, 4.0F};
-        int inputStart = 1;
-        int inputEnd = 3;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
         // When
-        float[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        int[] actual = ArrayUtils.swap(inputSource, 0, 4);
 
         // Then
         then(actual)
-                .hasSize(2)
-                .containsExactly(2.0F, 3.0F);
+                .isSameAs(inputSource)
+                .containsExactly(5, 2, 3, 4, 1);
     }
 
     @Test
-    void subarrayFloat_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
+    void swapInt_ShouldSwapRanges_WhenRangesDoNotOverlap() {
         // Given
-        float[] inputValue = new float[]{1.0F, 2.0F, 3.0F};
-        int inputStart = 2;
-        int inputEnd = 2;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
         // When
-        float[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        int[] actual = ArrayUtils.swap(inputSource, 0, 3, 2);
 
         // Then
         then(actual)
-                .isNotNull()
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(4, 5, 3, 1, 2);
     }
 
     @Test
-    void subarrayFloat_ShouldReturnSubarray_WhenStartIsNegative() {
+    void swapInt_ShouldThrowIndexOutOfBoundsException_WhenIndexIsInvalid() {
         // Given
-        float[] inputValue = new float[]{1.0F, 2.0F, 3.0F};
-        int inputStart = -1;
-        int inputEnd = 2;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
-        // When
-        float[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.swap(inputSource, 0, 5))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 5 out of bounds for length 5");
+    }
 
-        // Then
-        then(actual)
-                .hasSize(2)
-                .containsExactly(1.0F, 2.0F);
+    @Test
+    void swapInt_ShouldThrowIllegalArgumentException_WhenRangesOverlap() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.swap(inputSource, 0, 1, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The ranges to swap cannot overlap");
     }
 
     @Test
-    void subarrayFloat_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
+    void swapInt_ShouldThrowIllegalArgumentException_WhenLengthIsNegative() {
         // Given
-        float[] inputValue = new float[]{1.0F, 2.0F, 3.0F};
-        int inputStart = 1;
-        int inputEnd = 5;
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
 
-        // When
-        float[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.swap(inputSource, 0, 1, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The length cannot be negative");
+    }
 
-        // Then
-        then(actual)
-                .hasSize(2)
-                .containsExactly(2.0F, 3.0F);
+    @Test
+    void swapInt_ShouldThrowIndexOutOfBoundsException_WhenRangeExceedsArrayLength() {
+        // Given
+        int[] inputSource = new int[]{1, 2, 3, 4, 5};
+
+        // When & Then
+        thenException()
+                .isThrownBy(() -> ArrayUtils.swap(inputSource, 0, 3, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class)
+                .withMessage("Index 6 out of bounds for length 5");
     }
 
     @Test
-    void subarrayDouble_ShouldReturnEmptyArray_WhenArrayIsNull() {
+    void swapLong_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        double[] inputValue = null;
-        int inputStart = 1;
-        int inputEnd = 3;
+        long[] inputSource = null;
 
         // When
-        double[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        long[] actual = ArrayUtils.swap(inputSource, 0, 1);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void subarrayDouble_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void swapLong_ShouldSwapElements_WhenIndexesAreValid() {
         // Given
-        double[] inputValue = new double[0];
-        int inputStart = 0;
-        int inputEnd = 1;
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L};
 
         // When
-        double[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        long[] actual = ArrayUtils.swap(inputSource, 0, 4);
 
         // Then
         then(actual)
-                .isNotNull()
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(5L, 2L, 3L, 4L, 1L);
     }
 
     @Test
-    void subarrayDouble_ShouldReturnSubarray_WhenStartAndEndAreValid() {
+    void swapLong_ShouldSwapRanges_WhenRangesDoNotOverlap() {
         // Given
-        double[] inputValue = new double[]{1.0, 2.0, 3.0, 4.0};
-        int inputStart = 1;
-        int inputEnd = 3;
+        long[] inputSource = new long[]{1L, 2L, 3L, 4L, 5L};
 
         // When
-        double[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        long[] actual = ArrayUtils.swap(inputSource, 0, 3, 2);
 
         // Then
         then(actual)
-                .hasSize(2)
-                .containsExactly(2.0, 3.0);
+                .isSameAs(inputSource)
+                .containsExactly(4L, 5L, 3L, 1L, 2L);
     }
 
     @Test
-    void subarrayDouble_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
+    void swapFloat_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        double[] inputValue = new double[]{1.0, 2.0, 3.0};
-        int inputStart = 2;
-        int inputEnd = 2;
+        float[] inputSource = null;
 
         // When
-        double[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        float[] actual = ArrayUtils.swap(inputSource, 0, 1);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void subarrayDouble_ShouldReturnSubarray_WhenStartIsNegative() {
+    void swapFloat_ShouldSwapElements_WhenIndexesAreValid() {
         // Given
-        double[] inputValue = new double[]{1.0, 2.0, 3.0};
-        int inputStart = -1;
-        int inputEnd = 2;
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f};
 
         // When
-        double[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        float[] actual = ArrayUtils.swap(inputSource, 0, 4);
 
         // Then
         then(actual)
-                .hasSize(2)
-                .containsExactly(1.0, 2.0);
+                .isSameAs(inputSource)
+                .containsExactly(5.0f, 2.0f, 3.0f, 4.0f, 1.0f);
     }
 
     @Test
-    void subarrayDouble_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
+    void swapFloat_ShouldSwapRanges_WhenRangesDoNotOverlap() {
         // Given
-        double[] inputValue = new double[]{1.0, 2.0, 3.0};
-        int inputStart = 1;
-        int inputEnd = 5;
+        float[] inputSource = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f};
 
         // When
-        double[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        float[] actual = ArrayUtils.swap(inputSource, 0, 3, 2);
 
         // Then
         then(actual)
-                .hasSize(2)
-                .containsExactly(2.0, 3.0);
+                .isSameAs(inputSource)
+                .containsExactly(4.0f, 5.0f, 3.0f, 1.0f, 2.0f);
     }
 
     @Test
-    void subarrayGeneric_ShouldReturnNull_WhenArrayIsNull() {
+    void swapDouble_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        String[] inputValue = null;
-        int inputStart = 1;
-        int inputEnd = 3;
+        double[] inputSource = null;
 
         // When
-        String[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        double[] actual = ArrayUtils.swap(inputSource, 0, 1);
 
         // Then
         then(actual).isNull();
     }
 
     @Test
-    void subarrayGeneric_ShouldReturnEmptyArray_WhenArrayIsEmpty() {
+    void swapDouble_ShouldSwapElements_WhenIndexesAreValid() {
         // Given
-        String[] inputValue = new String[0];
-        int inputStart = 0;
-        int inputEnd = 1;
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0};
 
         // When
-        String[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        double[] actual = ArrayUtils.swap(inputSource, 0, 4);
 
         // Then
         then(actual)
-                .isNotNull()
-                .isEmpty();
+                .isSameAs(inputSource)
+                .containsExactly(5.0, 2.0, 3.0, 4.0, 1.0);
     }
 
     @Test
-    void subarrayGeneric_ShouldReturnSubarray_WhenStartAndEndAreValid() {
+    void swapDouble_ShouldSwapRanges_WhenRangesDoNotOverlap() {
         // Given
-        String[] inputValue = new String[]{"a", "b", "c", "d"};
-        int inputStart = 1;
-        int inputEnd = 3;
+        double[] inputSource = new double[]{1.0, 2.0, 3.0, 4.0, 5.0};
 
         // When
-        String[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        double[] actual = ArrayUtils.swap(inputSource, 0, 3, 2);
 
         // Then
         then(actual)
-                .hasSize(2)
-                .containsExactly("b", "c");
+                .isSameAs(inputSource)
+                .containsExactly(4.0, 5.0, 3.0, 1.0, 2.0);
     }
 
     @Test
-    void subarrayGeneric_ShouldReturnEmptyArray_WhenStartIsGreaterThanOrEqualToEnd() {
+    void swapGeneric_ShouldReturnNull_WhenSourceIsNull() {
         // Given
-        String[] inputValue = new String[]{"a", "b", "c"};
-        int inputStart = 2;
-        int inputEnd = 2;
+        String[] inputSource = null;
 
         // When
-        String[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        String[] actual = ArrayUtils.swap(inputSource, 0, 1);
 
         // Then
-        then(actual)
-                .isNotNull()
-                .isEmpty();
+        then(actual).isNull();
     }
 
     @Test
-    void subarrayGeneric_ShouldReturnSubarray_WhenStartIsNegative() {
+    void swapGeneric_ShouldSwapElements_WhenIndexesAreValid() {
         // Given
-        String[] inputValue = new String[]{"a", "b", "c"};
-        int inputStart = -1;
-        int inputEnd = 2;
+        String[] inputSource = new String[]{"a", "b", "c", "d", "e"};
 
         // When
-        String[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        String[] actual = ArrayUtils.swap(inputSource, 0, 4);
 
         // Then
         then(actual)
-                .hasSize(2)
-                .containsExactly("a", "b");
+                .isSameAs(inputSource)
+                .containsExactly("e", "b", "c", "d", "a");
     }
 
     @Test
-    void subarrayGeneric_ShouldReturnSubarray_WhenEndExceedsArrayLength() {
+    void swapGeneric_ShouldSwapRanges_WhenRangesDoNotOverlap() {
         // Given
-        String[] inputValue = new String[]{"a", "b", "c"};
-        int inputStart = 1;
-        int inputEnd = 5;
+        String[] inputSource = new String[]{"a", "b", "c", "d", "e"};
 
         // When
-        String[] actual = ArrayUtils.subarray(inputValue, inputStart, inputEnd);
+        String[] actual = ArrayUtils.swap(inputSource, 0, 3, 2);
 
         // Then
         then(actual)
-                .hasSize(2)
-                .containsExactly("b", "c");
+                .isSameAs(inputSource)
+                .containsExactly("d", "e", "c", "a", "b");
     }
 }
@@ -0,0 +1,79 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link BatchReport} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("BatchReport")
+class BatchReportTests {
+
+    private static final IllegalStateException FAILURE = new IllegalStateException("boom");
+
+    private final BatchReport<String> report = new BatchReport<>(List.of(
+            new BatchReport.Batch<>(0, 3, 5_000, "a", null),
+            new BatchReport.Batch<>(1, 3, 9_000, null, FAILURE),
+            new BatchReport.Batch<>(2, 1, 1_000, "c", null)));
+
+    @Test
+    void results_ShouldReturnSuccessfulResultsInOrder_WhenSomeBatchesFailed() {
+        // When & Then
+        then(report.results()).containsExactly("a", "c");
+        then(report.failures()).extracting(BatchReport.Batch::index).containsExactly(1);
+        then(report.hasFailures()).isTrue();
+    }
+
+    @Test
+    void latency_ShouldAggregateBatchLatencies_WhenCalled() {
+        // When & Then
+        then(report.maxLatency()).isEqualTo(Duration.ofNanos(9_000));
+        then(report.totalLatency()).isEqualTo(Duration.ofNanos(15_000));
+        then(report.batches().get(0).latency()).isEqualTo(Duration.ofNanos(5_000));
+    }
+
+    @Test
+    void rethrowFailures_ShouldThrowFirstFailure_WhenBatchFailed() {
+        // When & Then
+        thenException()
+                .isThrownBy(report::rethrowFailures)
+                .isInstanceOf(CompletionException.class)
+                .withMessage("Batch 1 failed")
+                .withCause(FAILURE);
+    }
+
+    @Test
+    void rethrowFailures_ShouldReturnReport_WhenNoBatchFailed() {
+        // Given
+        BatchReport<String> successful = new BatchReport<>(List.of(new BatchReport.Batch<>(0, 2, 10, "a", null)));
+
+        // When & Then
+        then(successful.rethrowFailures()).isSameAs(successful);
+        then(successful.hasFailures()).isFalse();
+        then(successful.failures()).isEmpty();
+    }
+
+    @Test
+    void batches_ShouldBeUnmodifiable_WhenReturned() {
+        // When & Then
+        thenException()
+                .isThrownBy(() -> report.batches().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void toString_ShouldSummarizeBatches_WhenCalled() {
+        // When & Then
+        then(report).hasToString("BatchReport{batches=3, failures=1, maxLatency=PT0.000009S}");
+        then(report.batches().get(1).toString()).contains("index=1", "failure=java.lang.IllegalStateException: boom");
+    }
+}
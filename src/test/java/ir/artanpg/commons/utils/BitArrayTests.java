@@ -0,0 +1,286 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link BitArray} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("BitArray")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class BitArrayTests {
+
+    private static boolean[] randomFlags(int length, long seed) {
+        Random random = new Random(seed);
+        boolean[] flags = new boolean[length];
+        for (int i = 0; i < length; i++) {
+            flags[i] = random.nextBoolean();
+        }
+        return flags;
+    }
+
+    @Nested
+    @DisplayName("BitArray(int) and valueOf(boolean[])")
+    class Creation {
+
+        @Test
+        void constructor_ShouldThrowIllegalArgumentException_WhenLengthIsNegative() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> new BitArray(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The length cannot be negative");
+        }
+
+        @Test
+        void valueOf_ShouldThrowIllegalArgumentException_WhenSourceIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> BitArray.valueOf(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The input array cannot be null");
+        }
+
+        @Test
+        void valueOf_ShouldRoundTrip_WhenFlagsSpanSeveralWords() {
+            // Given
+            boolean[] flags = randomFlags(200, 1);
+
+            // When
+            BitArray actual = BitArray.valueOf(flags);
+
+            // Then
+            then(actual.length()).isEqualTo(200);
+            then(actual.toBooleanArray()).containsExactly(flags);
+        }
+    }
+
+    @Nested
+    @DisplayName("get(int), set(int, boolean), flip(int) and fill(int, int, boolean)")
+    class Access {
+
+        @Test
+        void set_ShouldChangeOnlyTargetFlag_WhenIndexIsValid() {
+            // Given
+            BitArray bits = new BitArray(70);
+
+            // When
+            bits.set(65, true).set(3, true).set(3, false).flip(0);
+
+            // Then
+            then(bits.get(65)).isTrue();
+            then(bits.get(3)).isFalse();
+            then(bits.get(0)).isTrue();
+            then(bits.count()).isEqualTo(2);
+        }
+
+        @Test
+        void get_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfRange() {
+            // Given
+            BitArray bits = new BitArray(10);
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> bits.get(10))
+                    .isInstanceOf(IndexOutOfBoundsException.class)
+                    .withMessage("Index 10 out of bounds for length 10");
+        }
+
+        @Test
+        void fill_ShouldSetRange_WhenRangeSpansWords() {
+            // Given
+            BitArray bits = new BitArray(300);
+
+            // When
+            bits.fill(true).fill(10, 250, false);
+
+            // Then
+            then(bits.count()).isEqualTo(60);
+            then(bits.get(9)).isTrue();
+            then(bits.get(10)).isFalse();
+            then(bits.get(249)).isFalse();
+            then(bits.get(250)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("count(), count(int, int) and indexesOf(boolean)")
+    class Count {
+
+        @Test
+        void count_ShouldMatchBooleanArray_WhenRangesAreArbitrary() {
+            // Given
+            boolean[] flags = randomFlags(257, 2);
+            BitArray bits = BitArray.valueOf(flags);
+
+            // When & Then
+            for (int from = 0; from < flags.length; from += 13) {
+                for (int to = from; to <= flags.length; to += 29) {
+                    int expected = 0;
+                    for (int i = from; i < to; i++) {
+                        if (flags[i]) expected++;
+                    }
+                    then(bits.count(from, to)).isEqualTo(expected);
+                }
+            }
+            then(bits.count()).isEqualTo(bits.count(0, flags.length));
+        }
+
+        @Test
+        void indexesOf_ShouldMatchArrayUtils_WhenValueIsTrueOrFalse() {
+            // Given
+            boolean[] flags = randomFlags(130, 3);
+            BitArray bits = BitArray.valueOf(flags);
+
+            // When
+            BitSet trueIndexes = bits.indexesOf(true);
+            BitSet falseIndexes = bits.indexesOf(false);
+
+            // Then
+            then(trueIndexes).isEqualTo(ArrayUtils.indexesOf(flags, true));
+            then(falseIndexes).isEqualTo(ArrayUtils.indexesOf(flags, false));
+        }
+    }
+
+    @Nested
+    @DisplayName("indexOf(boolean, int) and lastIndexOf(boolean, int)")
+    class Search {
+
+        @Test
+        void indexOf_ShouldMatchArrayUtils_WhenSearchingFromEveryIndex() {
+            // Given
+            boolean[] flags = new boolean[150];
+            flags[7] = true;
+            flags[64] = true;
+            flags[149] = true;
+            BitArray bits = BitArray.valueOf(flags);
+
+            // When & Then
+            for (int from = -1; from <= flags.length; from++) {
+                then(bits.indexOf(true, from)).isEqualTo(ArrayUtils.indexOf(flags, true, from));
+                then(bits.lastIndexOf(true, from)).isEqualTo(ArrayUtils.lastIndexOf(flags, true, from));
+            }
+        }
+
+        @Test
+        void indexOf_ShouldReturnMinusOne_WhenOnlyPaddingBitsMatch() {
+            // Given
+            BitArray bits = new BitArray(70).fill(true);
+
+            // When & Then
+            then(bits.indexOf(false)).isEqualTo(-1);
+            then(bits.lastIndexOf(false)).isEqualTo(-1);
+            then(bits.lastIndexOf(true)).isEqualTo(69);
+            then(bits.not().indexOf(true)).isEqualTo(-1);
+        }
+    }
+
+    @Nested
+    @DisplayName("add(int, boolean), remove(int) and merge(BitArray)")
+    class Structural {
+
+        @Test
+        void add_ShouldMatchArrayUtils_WhenInsertingAtEveryIndex() {
+            // Given
+            boolean[] flags = randomFlags(130, 4);
+            BitArray bits = BitArray.valueOf(flags);
+
+            // When & Then
+            for (int index = 0; index <= flags.length; index++) {
+                then(bits.add(index, true).toBooleanArray()).containsExactly(ArrayUtils.add(flags, true, index));
+            }
+            then(bits.toBooleanArray()).containsExactly(flags);
+        }
+
+        @Test
+        void add_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfRange() {
+            // Given
+            BitArray bits = new BitArray(3);
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> bits.add(4, true))
+                    .isInstanceOf(IndexOutOfBoundsException.class)
+                    .withMessage("Index 4 out of bounds for length 3");
+        }
+
+        @Test
+        void remove_ShouldMatchArrayUtils_WhenRemovingAtEveryIndex() {
+            // Given
+            boolean[] flags = randomFlags(130, 5);
+            BitArray bits = BitArray.valueOf(flags);
+
+            // When & Then
+            for (int index = 0; index < flags.length; index++) {
+                then(bits.remove(index).toBooleanArray()).containsExactly(ArrayUtils.remove(flags, index));
+            }
+        }
+
+        @Test
+        void merge_ShouldConcatenateFlags_WhenArraysAreUnaligned() {
+            // Given
+            boolean[] first = randomFlags(70, 6);
+            boolean[] second = randomFlags(100, 7);
+
+            // When
+            BitArray actual = BitArray.valueOf(first).merge(BitArray.valueOf(second));
+
+            // Then
+            then(actual.toBooleanArray()).containsExactly(ArrayUtils.merge(first, second));
+            then(BitArray.valueOf(first).merge(null)).isEqualTo(BitArray.valueOf(first));
+        }
+    }
+
+    @Nested
+    @DisplayName("and, andNot, or, xor and not")
+    class Logical {
+
+        @Test
+        void logicalOperations_ShouldCombineFlags_WhenLengthsMatch() {
+            // Given
+            BitArray left = BitArray.valueOf(new boolean[]{true, true, false, false});
+            BitArray right = BitArray.valueOf(new boolean[]{true, false, true, false});
+
+            // When & Then
+            then(left.copy().and(right)).hasToString("1000");
+            then(left.copy().andNot(right)).hasToString("0100");
+            then(left.copy().or(right)).hasToString("1110");
+            then(left.copy().xor(right)).hasToString("0110");
+            then(left.copy().not()).hasToString("0011");
+            then(left.copy().not().count()).isEqualTo(2);
+        }
+
+        @Test
+        void and_ShouldThrowIllegalArgumentException_WhenLengthsDiffer() {
+            // Given
+            BitArray bits = new BitArray(3);
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> bits.and(new BitArray(4)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The bit arrays must have the same length");
+        }
+
+        @Test
+        void or_ShouldThrowIllegalArgumentException_WhenOtherIsNull() {
+            // Given
+            BitArray bits = new BitArray(3);
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> bits.or(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The other bit array cannot be null");
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link BloomFilter} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("BloomFilter")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class BloomFilterTests {
+
+    @Nested
+    @DisplayName("of(int, double) and of(Collection, double)")
+    class Of {
+
+        @Test
+        void of_ShouldSizeFilter_WhenRateIsValid() {
+            // When
+            BloomFilter<String> actual = BloomFilter.of(1_000, 0.01);
+
+            // Then
+            then(actual.bitSize()).isBetween(9_000L, 10_000L);
+            then(actual.hashCount()).isEqualTo(7);
+            then(actual.expectedFalsePositiveRate()).isZero();
+        }
+
+        @Test
+        void of_ShouldHoldAllElements_WhenCreatedFromCollection() {
+            // Given
+            List<String> source = Arrays.asList("a", "b", null);
+
+            // When
+            BloomFilter<String> actual = BloomFilter.of(source, 0.01);
+
+            // Then
+            then(source).allMatch(actual::mightContain);
+        }
+
+        @Test
+        void of_ShouldCreateEmptyFilter_WhenCollectionIsNull() {
+            // When
+            BloomFilter<String> actual = BloomFilter.of(null, 0.01);
+
+            // Then
+            then(actual.mightContain("a")).isFalse();
+        }
+
+        @Test
+        void of_ShouldThrowException_WhenArgumentsAreInvalid() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> BloomFilter.of(-1, 0.01))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The expected number of elements cannot be negative");
+            thenException()
+                    .isThrownBy(() -> BloomFilter.of(10, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The false positive rate must be between 0 and 1");
+            thenException()
+                    .isThrownBy(() -> BloomFilter.of(10, Double.NaN))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The false positive rate must be between 0 and 1");
+        }
+    }
+
+    @Nested
+    @DisplayName("add(T) and mightContain(Object)")
+    class Membership {
+
+        @Test
+        void add_ShouldReportChange_WhenElementIsNew() {
+            // Given
+            BloomFilter<String> filter = BloomFilter.of(100, 0.01);
+
+            // When & Then
+            then(filter.add("a")).isTrue();
+            then(filter.add("a")).isFalse();
+        }
+
+        @Test
+        void mightContain_ShouldNeverReturnFalseNegatives_WhenElementsWereAdded() {
+            // Given
+            BloomFilter<Integer> filter = BloomFilter.of(10_000, 0.01);
+            for (int i = 0; i < 10_000; i++) {
+                filter.add(i);
+            }
+
+            // When & Then
+            for (int i = 0; i < 10_000; i++) {
+                then(filter.mightContain(i)).isTrue();
+            }
+        }
+
+        @Test
+        void mightContain_ShouldStayNearConfiguredRate_WhenFilterIsFull() {
+            // Given
+            List<String> added = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                added.add("added-" + i);
+            }
+            BloomFilter<String> filter = BloomFilter.of(added, 0.01);
+
+            // When
+            int falsePositives = 0;
+            for (int i = 0; i < 100_000; i++) {
+                if (filter.mightContain("absent-" + i)) falsePositives++;
+            }
+
+            // Then
+            then(falsePositives / 100_000.0).isLessThan(0.02);
+            then(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+        }
+    }
+
+    @Test
+    void toString_ShouldShowSize_WhenCalled() {
+        // When & Then
+        then(BloomFilter.of(0, 0.5)).hasToString("BloomFilter{bitSize=64, hashCount=1}");
+    }
+}
@@ -4,6 +4,8 @@
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -12,19 +14,39 @@
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
@@ -46,6 +68,18 @@ class CollectionUtilsTests {
     @DisplayName("contains(Collection<T>, T)")
     class ContainsCollectionWithItem {
 
+        @Test
+        void contains_ShouldFindNull_WhenListContainsNull() {
+            // Given
+            Collection<String> input = Arrays.asList("a", null);
+
+            // When
+            boolean actual = CollectionUtils.contains(input, (String) null);
+
+            // Then
+            then(actual).isTrue();
+        }
+
         @Test
         void contains_ShouldReturnFalse_WhenCollectionIsNull() {
             // Given
@@ -125,6 +159,23 @@ void contains_ShouldWorkProperly_WhenCollectionIsSet() {
     @DisplayName("contains(Collection<T>, Collection<T>)")
     class ContainsCollectionWithCollection {
 
+        @Test
+        void contains_ShouldFindCandidate_WhenLargeSourceIsHashed() {
+            // Given
+            List<Integer> source = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                source.add(i);
+            }
+            Collection<Integer> candidates = Arrays.asList(-1, -2, -3, -4, 42);
+
+            // When
+            boolean actual = CollectionUtils.contains(source, candidates);
+
+            // Then
+            then(actual).isTrue();
+            then(CollectionUtils.find(source, candidates)).contains(42);
+        }
+
         @Test
         void contains_ShouldReturnFalse_WhenSourceIsNull() {
             // Given
@@ -256,6 +307,32 @@ void contains_ShouldReturnFalse_WhenCandidateIsNullButSourceHasNoNull() {
         }
     }
 
+    @Nested
+    @DisplayName("contains(Collection<T>, Collection<T>, double)")
+    class ContainsCollectionWithBloomFilter {
+
+        @Test
+        void contains_ShouldMatchPlainContains_WhenCandidatesMostlyMiss() {
+            // Given
+            List<Integer> source = range(0, 5_000);
+
+            // When & Then
+            then(CollectionUtils.contains(source, range(10_000, 20_000), 0.01)).isFalse();
+            then(CollectionUtils.contains(source, range(4_999, 20_000), 0.01)).isTrue();
+            then(CollectionUtils.contains(Set.of(1, 2), List.of(2), 0.01)).isTrue();
+            then(CollectionUtils.contains(source, null, 0.01)).isFalse();
+        }
+
+        @Test
+        void contains_ShouldThrowException_WhenRateIsInvalid() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.contains(List.of(1), List.of(2), 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The false positive rate must be between 0 and 1");
+        }
+    }
+
     @Nested
     @DisplayName("contains(Collection<T>, Predicate<T>)")
     class ContainsCollectionWithPredicate {
@@ -799,6 +876,54 @@ void difference_ShouldReturnAllItems_WhenNoOverlapBetweenSourceAndCandidates() {
         }
     }
 
+    @Nested
+    @DisplayName("difference(Collection<T>, Collection<T>, double)")
+    class DifferenceCollectionWithBloomFilter {
+
+        @Test
+        void difference_ShouldMatchPlainDifference_WhenCandidatesAreHuge() {
+            // Given
+            List<Integer> source = range(0, 2_000);
+            List<Integer> candidates = range(1_900, 50_000);
+
+            // When
+            List<Integer> actual = CollectionUtils.difference(source, candidates, 0.01);
+
+            // Then
+            then(actual).isEqualTo(CollectionUtils.difference(source, candidates));
+            then(actual).hasSize(1_900);
+        }
+
+        @Test
+        void difference_ShouldKeepDuplicatesAndNulls_WhenSourceHasThem() {
+            // Given
+            List<String> source = Arrays.asList("a", null, "b", "a", "c");
+            List<String> candidates = List.of("b", "x", "y");
+
+            // When
+            List<String> actual = CollectionUtils.difference(source, candidates, 0.1);
+
+            // Then
+            then(actual).containsExactly("a", null, "a", "c");
+        }
+
+        @Test
+        void difference_ShouldReturnSource_WhenCandidatesAreEmpty() {
+            // When & Then
+            then(CollectionUtils.difference(List.of("a"), List.of(), 0.01)).containsExactly("a");
+            then(CollectionUtils.difference(null, List.of("a"), 0.01)).isEmpty();
+        }
+
+        @Test
+        void difference_ShouldThrowException_WhenRateIsInvalid() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.difference(List.of(1), List.of(2), 1.5))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The false positive rate must be between 0 and 1");
+        }
+    }
+
     @Nested
     @DisplayName("difference(Collection<T>, Collection<T>, Supplier<C>)")
     class DifferenceCollectionWithCollection {
@@ -2099,6 +2224,69 @@ void findAll_ShouldReturnEmptyList_WhenNoEntryMatches() {
         }
     }
 
+    @Nested
+    @DisplayName("findBottomK(Collection<T>, int, Comparator<T>) and findBottomKByLongKey(Collection<T>, int, ToLongFunction<T>)")
+    class FindBottomK {
+
+        @Test
+        void findBottomK_ShouldReturnEmptyList_WhenSourceIsNullOrEmpty() {
+            // When & Then
+            then(CollectionUtils.findBottomK(null, 3, Comparator.<Integer>naturalOrder())).isEmpty();
+            then(CollectionUtils.findBottomK(List.<Integer>of(), 3, Comparator.<Integer>naturalOrder())).isEmpty();
+        }
+
+        @Test
+        void findBottomK_ShouldReturnSmallestElementsAscending_WhenSourceHasMoreThanK() {
+            // Given
+            Collection<Integer> source = List.of(5, 3, 9, 1, 7, 2, 8);
+
+            // When
+            List<Integer> actual = CollectionUtils.findBottomK(source, 3, Comparator.naturalOrder());
+
+            // Then
+            then(actual).containsExactly(1, 2, 3);
+        }
+
+        @Test
+        void findBottomK_ShouldKeepSourceOrder_WhenElementsAreEqual() {
+            // Given
+            Collection<String> source = List.of("bbb", "a1", "ccc", "a2", "a3");
+
+            // When
+            List<String> actual = CollectionUtils.findBottomK(source, 2, Comparator.comparingInt(String::length));
+
+            // Then
+            then(actual).containsExactly("a1", "a2");
+        }
+
+        @Test
+        void findBottomKByLongKey_ShouldMatchSortedPrefix_WhenKeysAreRandom() {
+            // Given
+            Random random = new Random(42);
+            List<Long> source = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                source.add((long) random.nextInt(200));
+            }
+            List<Long> expected = new ArrayList<>(source);
+            expected.sort(Comparator.naturalOrder());
+
+            // When
+            List<Long> actual = CollectionUtils.findBottomKByLongKey(source, 25, Long::longValue);
+
+            // Then
+            then(actual).containsExactlyElementsOf(expected.subList(0, 25));
+        }
+
+        @Test
+        void findBottomKByLongKey_ShouldThrowException_WhenKeyIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.findBottomKByLongKey(List.of(1), 1, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The key extractor cannot be null");
+        }
+    }
+
     @Nested
     @DisplayName("findMax(Collection<T>, Comparator<T>)")
     class FindMaxCollection {
@@ -2249,6 +2437,215 @@ void findMin_ShouldReturnMinElement_WhenAllElementsEqual() {
         }
     }
 
+    @Nested
+    @DisplayName("findMinMax(Collection<T>, Comparator<T>) and findMinMaxByLongKey(Collection<T>, ToLongFunction<T>)")
+    class FindMinMax {
+
+        @Test
+        void findMinMax_ShouldReturnEmpty_WhenSourceIsNullOrEmpty() {
+            // When & Then
+            then(CollectionUtils.findMinMax(null, Comparator.<Integer>naturalOrder())).isEmpty();
+            then(CollectionUtils.findMinMax(emptyList(), Comparator.<Integer>naturalOrder())).isEmpty();
+            then(CollectionUtils.findMinMaxByLongKey(emptyList(), (ToLongFunction<Integer>) Integer::longValue))
+                    .isEmpty();
+        }
+
+        @Test
+        void findMinMax_ShouldReturnSameElement_WhenSourceHasSingleElement() {
+            // When
+            Optional<MinMax<Integer>> actual = CollectionUtils.findMinMax(List.of(7), Comparator.naturalOrder());
+
+            // Then
+            then(actual).contains(new MinMax<>(7, 7));
+        }
+
+        @Test
+        void findMinMax_ShouldReturnMinAndMax_WhenSizeIsOddOrEven() {
+            // When & Then
+            then(CollectionUtils.findMinMax(List.of(3, 1, 4, 1, 5), Comparator.<Integer>naturalOrder()))
+                    .contains(new MinMax<>(1, 5));
+            then(CollectionUtils.findMinMax(List.of(3, 1, 4, 1, 5, 9), Comparator.<Integer>naturalOrder()))
+                    .contains(new MinMax<>(1, 9));
+        }
+
+        @Test
+        void findMinMax_ShouldReturnFirstOfEqualElements_LikeFindMinAndFindMax() {
+            // Given
+            Collection<String> source = List.of("bb", "a1", "cc", "a2", "dd", "e");
+            Comparator<String> comparator = Comparator.comparingInt(String::length);
+
+            // When
+            MinMax<String> actual = CollectionUtils.findMinMax(source, comparator).orElseThrow();
+
+            // Then
+            then(actual.min()).isSameAs(CollectionUtils.findMin(source, comparator::compare).orElseThrow());
+            then(actual.max()).isSameAs(CollectionUtils.findMax(source, comparator::compare).orElseThrow());
+            then(actual.max()).isEqualTo("bb");
+        }
+
+        @Test
+        void findMinMaxByLongKey_ShouldReturnFirstOfEqualKeys_WhenKeysRepeat() {
+            // Given
+            Collection<String> source = List.of("bb", "a1", "ccc", "a2", "ddd", "e");
+
+            // When
+            Optional<MinMax<String>> actual = CollectionUtils.findMinMaxByLongKey(source, String::length);
+
+            // Then
+            then(actual).contains(new MinMax<>("e", "ccc"));
+        }
+
+        @Test
+        void findMinMax_ShouldThrowException_WhenComparatorIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.findMinMax(List.of(1), null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The comparator cannot be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("findTopK(Collection<T>, int, Comparator<T>) and findTopKByLongKey(Collection<T>, int, ToLongFunction<T>)")
+    class FindTopK {
+
+        @Test
+        void findTopK_ShouldReturnLargestElementsDescending_WhenSourceHasMoreThanK() {
+            // Given
+            Collection<Integer> source = List.of(5, 3, 9, 1, 7, 2, 8);
+
+            // When
+            List<Integer> actual = CollectionUtils.findTopK(source, 3, Comparator.naturalOrder());
+
+            // Then
+            then(actual).containsExactly(9, 8, 7);
+        }
+
+        @Test
+        void findTopK_ShouldReturnAllElementsSorted_WhenKExceedsSize() {
+            // When
+            List<Integer> actual = CollectionUtils.findTopK(List.of(2, 3, 1), 10, Comparator.naturalOrder());
+
+            // Then
+            then(actual).containsExactly(3, 2, 1);
+        }
+
+        @Test
+        void findTopK_ShouldReturnEmptyList_WhenKIsZero() {
+            // When
+            List<Integer> actual = CollectionUtils.findTopK(List.of(2, 3, 1), 0, Comparator.naturalOrder());
+
+            // Then
+            then(actual).isEmpty();
+        }
+
+        @Test
+        void findTopK_ShouldReturnUnmodifiableList_WhenCalled() {
+            // Given
+            List<Integer> actual = CollectionUtils.findTopK(List.of(2, 3, 1), 2, Comparator.naturalOrder());
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> actual.add(4))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        void findTopK_ShouldKeepSourceOrder_WhenElementsAreEqual() {
+            // Given
+            Collection<String> source = List.of("a", "b1", "c", "b2", "b3");
+
+            // When
+            List<String> actual = CollectionUtils.findTopK(source, 2, Comparator.comparingInt(String::length));
+
+            // Then
+            then(actual).containsExactly("b1", "b2");
+        }
+
+        @Test
+        void findTopKByLongKey_ShouldMatchSortedPrefix_WhenKeysAreRandom() {
+            // Given
+            Random random = new Random(7);
+            List<String> source = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                source.add(random.nextInt(300) + "-" + i);
+            }
+            ToLongFunction<String> key = s -> Long.parseLong(s.substring(0, s.indexOf('-')));
+            List<String> expected = new ArrayList<>(source);
+            expected.sort(Comparator.comparingLong(key).reversed());
+
+            // When
+            List<String> actual = CollectionUtils.findTopKByLongKey(source, 40, key);
+
+            // Then
+            then(actual).containsExactlyElementsOf(expected.subList(0, 40));
+            then(CollectionUtils.findTopK(source, 40, Comparator.comparingLong(key))).isEqualTo(actual);
+        }
+
+        @Test
+        void findTopK_ShouldIterateSourceWithoutCopying_WhenSourceIsLarge() {
+            // Given
+            Collection<Integer> source = new AbstractCollection<>() {
+                @Override
+                public Iterator<Integer> iterator() {
+                    return IntStream.range(0, 100_000).map(i -> (i * 7_919) % 100_000).iterator();
+                }
+
+                @Override
+                public int size() {
+                    return 100_000;
+                }
+
+                @Override
+                public Object[] toArray() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+
+            // When & Then
+            then(CollectionUtils.findTopK(source, 3, Comparator.naturalOrder()))
+                    .containsExactly(99_999, 99_998, 99_997);
+            then(CollectionUtils.findBottomKByLongKey(source, 3, Integer::longValue)).containsExactly(0, 1, 2);
+        }
+
+        @Test
+        void findTopKAndBottomK_ShouldMatchStableSort_WhenElementsTie() {
+            // Given
+            Random random = new Random(11);
+            List<String> source = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                source.add(random.nextInt(50) + "-" + i);
+            }
+            Comparator<String> byKey = Comparator.comparingInt(s -> Integer.parseInt(s.substring(0, s.indexOf('-'))));
+            List<String> ascending = new ArrayList<>(source);
+            ascending.sort(byKey);
+            List<String> descending = new ArrayList<>(source);
+            descending.sort(byKey.reversed());
+
+            // When & Then
+            then(CollectionUtils.findTopK(source, 100, byKey)).containsExactlyElementsOf(descending.subList(0, 100));
+            then(CollectionUtils.findBottomK(source, 100, byKey)).containsExactlyElementsOf(ascending.subList(0, 100));
+        }
+
+        @Test
+        void findTopK_ShouldThrowException_WhenKIsNegative() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.findTopK(List.of(1), -1, Comparator.naturalOrder()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The number of elements cannot be negative");
+        }
+
+        @Test
+        void findTopK_ShouldThrowException_WhenComparatorIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.findTopK(List.of(1), 1, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The comparator cannot be null");
+        }
+    }
+
     @Nested
     @DisplayName("groupBy(Collection<T>, Function<T, K>)")
     class GroupByCollection {
@@ -2339,635 +2736,1694 @@ void groupBy_ShouldGroupMultipleItemsUnderSameKey() {
     }
 
     @Nested
-    @DisplayName("isEmpty(Collection)")
-    class IsEmptyCollection {
+    @DisplayName("groupBy(Collection<T>, Function<T, K>, Collector<T, A, D>)")
+    class GroupByCollectionWithDownstream {
 
         @Test
-        void isEmpty_ShouldReturnTrue_WhenCollectionIsNull() {
+        void groupBy_ShouldCountElements_WhenDownstreamIsCounting() {
             // Given
-            Collection<String> input = null;
+            Collection<String> source = List.of("a", "bb", "cc", "d", "eee");
 
             // When
-            boolean actual = CollectionUtils.isEmpty(input);
+            Map<Integer, Long> result = CollectionUtils.groupBy(source, String::length, Collectors.counting());
 
             // Then
-            then(actual).isTrue();
+            then(result).containsOnly(Map.entry(1, 2L), Map.entry(2, 2L), Map.entry(3, 1L));
         }
 
         @Test
-        void isEmpty_ShouldReturnTrue_WhenCollectionIsEmpty() {
+        void groupBy_ShouldApplyFinisher_WhenDownstreamIsMinBy() {
             // Given
-            Collection<String> input = emptyList();
+            Collection<String> source = List.of("pear", "apple", "plum", "avocado");
 
             // When
-            boolean actual = CollectionUtils.isEmpty(input);
+            Map<Character, Optional<String>> result = CollectionUtils.groupBy(source, s -> s.charAt(0),
+                    Collectors.minBy(Comparator.naturalOrder()));
 
             // Then
-            then(actual).isTrue();
+            then(result).containsOnly(Map.entry('p', Optional.of("pear")), Map.entry('a', Optional.of("apple")));
         }
 
         @Test
-        void isEmpty_ShouldReturnFalse_WhenCollectionIsNotNullAndNotEmpty() {
-            // Given
-            Collection<String> input = singletonList("a");
-
+        void groupBy_ShouldReturnEmptyMap_WhenSourceIsNull() {
             // When
-            boolean actual = CollectionUtils.isEmpty(input);
+            Map<Integer, Long> result = CollectionUtils.groupBy(null, String::length, Collectors.counting());
 
             // Then
-            then(actual).isFalse();
+            then(result).isEmpty();
+        }
+
+        @Test
+        void groupBy_ShouldThrowIllegalArgumentException_WhenDownstreamIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.groupBy(List.of("a"), String::length, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The downstream cannot be null");
         }
     }
 
     @Nested
-    @DisplayName("isEmpty(Map)")
-    class IsEmptyMap {
+    @DisplayName("groupByInt(Collection<T>, ToIntFunction<T>) and groupByLong(Collection<T>, ToLongFunction<T>)")
+    class GroupByPrimitiveKey {
 
         @Test
-        void isEmpty_ShouldReturnTrue_WhenMapIsNull() {
+        void groupByInt_ShouldGroupByKey_WhenSourceIsNotEmpty() {
             // Given
-            Map<String, Integer> input = null;
+            Collection<String> source = List.of("a", "bb", "cc", "d");
 
             // When
-            boolean actual = CollectionUtils.isEmpty(input);
+            IntGrouping<String> result = CollectionUtils.groupByInt(source, String::length);
 
             // Then
-            then(actual).isTrue();
+            then(result.get(1)).containsExactly("a", "d");
+            then(result.get(2)).containsExactly("bb", "cc");
         }
 
         @Test
-        void isEmpty_ShouldReturnTrue_WhenMapIsEmpty() {
-            // Given
-            Map<String, Integer> input = emptyMap();
-
-            // When
-            boolean actual = CollectionUtils.isEmpty(input);
-
-            // Then
-            then(actual).isTrue();
+        void groupByInt_ShouldThrowIllegalArgumentException_WhenFunctionIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.groupByInt(List.of("a"), null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The function cannot be null");
         }
 
         @Test
-        void isEmpty_ShouldReturnFalse_WhenMapIsNotNullAndNotEmpty() {
+        void groupByLong_ShouldThrowIllegalArgumentException_WhenFunctionIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.groupByLong(List.of("a"), null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The function cannot be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("parallelGroupBy(Collection<T>, Function<T, K>, Collector<T, A, D>, ForkJoinPool)")
+    class ParallelGroupBy {
+
+        private List<Integer> numbers(int count) {
+            List<Integer> numbers = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                numbers.add(i);
+            }
+            return numbers;
+        }
+
+        @Test
+        void parallelGroupBy_ShouldMatchGroupBy_WhenSourceIsLarge() {
             // Given
-            Map<String, Integer> input = Map.of("a", 1);
+            List<Integer> source = numbers(100_000);
 
             // When
-            boolean actual = CollectionUtils.isEmpty(input);
+            Map<Integer, List<Integer>> result = CollectionUtils.parallelGroupBy(source, i -> i % 7);
 
             // Then
-            then(actual).isFalse();
+            then(result).isEqualTo(CollectionUtils.groupBy(source, i -> i % 7));
         }
-    }
-
-    @Nested
-    @DisplayName("intersection(Collection, Collection)")
-    class IntersectionCollection {
 
         @Test
-        void intersection_ShouldReturnEmpty_WhenSourceIsNull() {
+        void parallelGroupBy_ShouldCombinePartialSums_WhenPoolIsGiven() {
             // Given
-            Collection<String> inputSource = null;
-            Collection<String> inputCandidates = singletonList("a");
+            List<Integer> source = numbers(50_000);
+            ForkJoinPool pool = new ForkJoinPool(2);
 
             // When
-            Collection<String> actual = CollectionUtils.intersection(inputSource, inputCandidates);
+            Map<Boolean, Long> result;
+            try {
+                result = CollectionUtils.parallelGroupBy(source, i -> i % 2 == 0,
+                        Collectors.summingLong(Integer::longValue), pool);
+            } finally {
+                pool.shutdown();
+            }
 
             // Then
-            then(actual).isEmpty();
+            then(result).containsOnly(Map.entry(true, 624_975_000L), Map.entry(false, 625_000_000L));
         }
 
         @Test
-        void intersection_ShouldReturnEmpty_WhenCandidatesIsNull() {
+        void parallelGroupBy_ShouldUseCustomCollector_WhenSourceIsSmall() {
             // Given
-            Collection<String> inputSource = singletonList("a");
-            Collection<String> inputCandidates = null;
+            Collection<String> source = List.of("x", "yy", "zz");
+            Collector<String, StringBuilder, String> joining = Collector.of(StringBuilder::new,
+                    StringBuilder::append, StringBuilder::append, StringBuilder::toString);
 
             // When
-            Collection<String> actual = CollectionUtils.intersection(inputSource, inputCandidates);
+            Map<Integer, String> result = CollectionUtils.parallelGroupBy(source, String::length, joining);
 
             // Then
-            then(actual).isEmpty();
+            then(result).containsOnly(Map.entry(1, "x"), Map.entry(2, "yyzz"));
         }
 
         @Test
-        void intersection_ShouldReturnCommonElementsWithMinCardinality_WhenDuplicatesExist() {
+        void parallelGroupBy_ShouldThrowIllegalArgumentException_WhenPoolIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.parallelGroupBy(List.of("a"), String::length,
+                            Collectors.counting(), null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The pool cannot be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("concurrentTransform, concurrentFindAll and concurrentGroupBy")
+    class Concurrent {
+
+        private <T> T withPool(int threads, Function<ExecutorService, T> action) {
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                return action.apply(pool);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+
+        private List<Integer> numbers(int count) {
+            List<Integer> numbers = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                numbers.add(i);
+            }
+            return numbers;
+        }
+
+        @Test
+        void concurrentTransform_ShouldPreserveSourceOrder_WhenRunOnSeveralThreads() {
             // Given
-            Collection<String> inputSource = Arrays.asList("a", "b", "b", "c");
-            Collection<String> inputCandidates = Arrays.asList("b", "b", "d", "c", "c");
+            List<Integer> source = numbers(2_000);
 
             // When
-            Collection<String> actual = CollectionUtils.intersection(inputSource, inputCandidates);
+            List<String> actual = withPool(4, pool ->
+                    CollectionUtils.concurrentTransform(source, i -> "#" + i, pool, 3));
 
             // Then
-            then(actual).containsExactlyInAnyOrder("b", "b", "c");
+            then(actual).isEqualTo(CollectionUtils.transform(source, i -> "#" + i));
         }
 
         @Test
-        void intersection_ShouldReturnEmpty_WhenNoCommonElements() {
+        void concurrentTransform_ShouldNotExceedConcurrency_WhenPoolIsLarger() {
             // Given
-            Collection<String> inputSource = Arrays.asList("a", "b");
-            Collection<String> inputCandidates = Arrays.asList("c", "d");
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+            Function<Integer, Integer> blocking = i -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return i;
+            };
 
             // When
-            Collection<String> actual = CollectionUtils.intersection(inputSource, inputCandidates);
+            List<Integer> actual = withPool(6, pool ->
+                    CollectionUtils.concurrentTransform(numbers(40), blocking, pool, 2));
 
             // Then
-            then(actual).isEmpty();
+            then(actual).isEqualTo(numbers(40));
+            then(peak.get()).isBetween(1, 2);
         }
-    }
 
-    @Nested
-    @DisplayName("intersection(Map, Map)")
-    class IntersectionMap {
+        @Test
+        void concurrentTransform_ShouldRethrowFirstFailure_WhenFunctionThrows() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> withPool(2, pool -> CollectionUtils.concurrentTransform(numbers(100), i -> {
+                        if (i == 50) throw new IllegalStateException("Failed at " + i);
+                        return i;
+                    }, pool, 2)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .withMessage("Failed at 50");
+        }
 
         @Test
-        void intersection_ShouldReturnEmpty_WhenSourceIsNull() {
+        void concurrentTransform_ShouldInterruptCalls_WhenTimeoutElapses() {
             // Given
-            Map<String, Integer> inputSource = null;
-            Map<String, Integer> inputCandidates = Map.of("a", 1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+            Function<Integer, Integer> hanging = i -> {
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return i;
+            };
+
+            // When & Then
+            withPool(1, pool -> {
+                thenException()
+                        .isThrownBy(() -> CollectionUtils.concurrentTransform(List.of(1), hanging, pool, 1,
+                                Duration.ofMillis(50)))
+                        .isInstanceOf(CompletionException.class)
+                        .withCauseInstanceOf(TimeoutException.class);
+                try {
+                    then(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return null;
+            });
+        }
+
+        @Test
+        void concurrentTransform_ShouldUseStartedWorkers_WhenExecutorRejectsSome() {
+            // Given
+            AtomicInteger accepted = new AtomicInteger();
+            Executor onePermit = task -> {
+                if (accepted.getAndIncrement() > 0) throw new RejectedExecutionException("Saturated");
+                new Thread(task).start();
+            };
 
             // When
-            Map<String, Integer> actual = CollectionUtils.intersection(inputSource, inputCandidates);
+            List<Integer> actual = CollectionUtils.concurrentTransform(numbers(10), i -> i * 2, onePermit, 4);
 
             // Then
-            then(actual).isEmpty();
+            then(actual).containsExactly(0, 2, 4, 6, 8, 10, 12, 14, 16, 18);
         }
 
         @Test
-        void intersection_ShouldReturnEmpty_WhenCandidatesIsNull() {
+        void concurrentFindAll_ShouldMatchFindAll_WhenRunConcurrently() {
             // Given
-            Map<String, Integer> inputSource = Map.of("a", 1);
-            Map<String, Integer> inputCandidates = null;
+            List<Integer> source = numbers(500);
+            Predicate<Integer> multipleOfSeven = i -> i % 7 == 0;
 
             // When
-            Map<String, Integer> actual = CollectionUtils.intersection(inputSource, inputCandidates);
+            List<Integer> actual = withPool(3, pool -> CollectionUtils.concurrentFindAll(source, multipleOfSeven, pool,
+                    3, Duration.ofSeconds(30)));
 
             // Then
-            then(actual).isEmpty();
+            then(actual).isEqualTo(CollectionUtils.findAll(source, multipleOfSeven));
         }
 
         @Test
-        void intersection_ShouldReturnEntriesWithCommonKeys_WhenValuesDiffer() {
+        void concurrentGroupBy_ShouldKeepSourceOrderInGroups_WhenRunConcurrently() {
             // Given
-            Map<String, Integer> inputSource = Map.of("a", 1, "b", 2, "c", 3);
-            Map<String, Integer> inputCandidates = Map.of("b", 20, "c", 30, "d", 4);
+            List<Integer> source = numbers(500);
 
             // When
-            Map<String, Integer> actual = CollectionUtils.intersection(inputSource, inputCandidates);
+            Map<Integer, List<Integer>> actual = withPool(3, pool -> CollectionUtils.concurrentGroupBy(source,
+                    i -> i % 5, pool, 3, null));
 
             // Then
-            then(actual).containsOnly(
-                    Map.entry("b", 20),
-                    Map.entry("c", 30)
-            );
+            then(actual).isEqualTo(CollectionUtils.groupBy(source, (Function<Integer, Integer>) i -> i % 5));
         }
 
         @Test
-        void intersection_ShouldReturnEmpty_WhenNoCommonKeys() {
+        void concurrentFindAllAndGroupBy_ShouldWaitWithoutLimit_WhenNoTimeoutIsGiven() {
             // Given
-            Map<String, Integer> inputSource = Map.of("a", 1);
-            Map<String, Integer> inputCandidates = Map.of("b", 2);
+            List<Integer> source = numbers(200);
+            Predicate<Integer> even = i -> i % 2 == 0;
 
             // When
-            Map<String, Integer> actual = CollectionUtils.intersection(inputSource, inputCandidates);
+            List<Integer> matches = withPool(2, pool -> CollectionUtils.concurrentFindAll(source, even, pool, 2));
+            Map<Boolean, List<Integer>> groups = withPool(2, pool ->
+                    CollectionUtils.concurrentGroupBy(source, even::test, pool, 2));
+
+            // Then
+            then(matches).isEqualTo(CollectionUtils.findAll(source, even));
+            then(groups.get(true)).isEqualTo(matches);
+            then(groups.get(false)).hasSize(100);
+        }
+
+        @Test
+        void concurrentTransform_ShouldReturnEmptyList_WhenSourceIsNull() {
+            // When
+            List<String> actual = CollectionUtils.concurrentTransform(null, String::valueOf, Runnable::run, 1);
 
             // Then
             then(actual).isEmpty();
         }
+
+        @Test
+        void concurrentTransform_ShouldThrowIllegalArgumentException_WhenConcurrencyIsNotPositive() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.concurrentTransform(List.of(1), i -> i, Runnable::run, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The concurrency must be positive");
+        }
+
+        @Test
+        void concurrentFindAll_ShouldThrowIllegalArgumentException_WhenExecutorIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.concurrentFindAll(List.of(1), i -> true, null, 1, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The executor cannot be null");
+        }
     }
 
     @Nested
-    @DisplayName("merge(Collection, T...)")
-    class MergeCollectionWithVarargs {
+    @DisplayName("index(Collection)")
+    class Index {
 
         @Test
-        void merge_ShouldReturnCandidates_WhenSourceIsNull() {
+        void index_ShouldAnswerLookups_WhenSourceIsList() {
             // Given
-            Collection<String> inputSource = null;
-            String[] inputCandidates = {"a", "b"};
+            List<String> source = Arrays.asList("a", "b", "c");
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            MembershipIndex<String> actual = CollectionUtils.index(source);
 
             // Then
-            then(actual).containsExactly("a", "b");
+            then(actual.contains("b")).isTrue();
+            then(actual.contains("d")).isFalse();
         }
 
         @Test
-        void merge_ShouldReturnSource_WhenCandidatesIsEmpty() {
+        void index_ShouldReturnEmptyIndex_WhenSourceIsEmpty() {
             // Given
-            Collection<String> inputSource = Arrays.asList("a", "b");
-            String[] inputCandidates = {};
+            Collection<String> source = emptyList();
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            MembershipIndex<String> actual = CollectionUtils.index(source);
 
             // Then
-            then(actual).containsExactly("a", "b");
+            then(actual.contains("a")).isFalse();
         }
+    }
+
+    @Nested
+    @DisplayName("isEmpty(Collection)")
+    class IsEmptyCollection {
 
         @Test
-        void merge_ShouldCombineCollectionAndVarargs_WhenBothNonEmpty() {
+        void isEmpty_ShouldReturnTrue_WhenCollectionIsNull() {
             // Given
-            Collection<String> inputSource = Arrays.asList("a", "b");
-            String[] inputCandidates = {"c", "d"};
+            Collection<String> input = null;
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            boolean actual = CollectionUtils.isEmpty(input);
 
             // Then
-            then(actual).containsExactly("a", "b", "c", "d");
+            then(actual).isTrue();
         }
 
         @Test
-        void merge_ShouldReturnEmpty_WhenBothNullOrEmpty() {
+        void isEmpty_ShouldReturnTrue_WhenCollectionIsEmpty() {
             // Given
-            Collection<String> inputSource = null;
-            String[] inputCandidates = {};
+            Collection<String> input = emptyList();
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            boolean actual = CollectionUtils.isEmpty(input);
 
             // Then
-            then(actual).isEmpty();
+            then(actual).isTrue();
+        }
+
+        @Test
+        void isEmpty_ShouldReturnFalse_WhenCollectionIsNotNullAndNotEmpty() {
+            // Given
+            Collection<String> input = singletonList("a");
+
+            // When
+            boolean actual = CollectionUtils.isEmpty(input);
+
+            // Then
+            then(actual).isFalse();
         }
     }
 
     @Nested
-    @DisplayName("merge(Collection, Collection)")
-    class MergeTwoCollections {
+    @DisplayName("isEmpty(Map)")
+    class IsEmptyMap {
 
         @Test
-        void merge_ShouldReturnCandidates_WhenSourceIsNull() {
+        void isEmpty_ShouldReturnTrue_WhenMapIsNull() {
             // Given
-            Collection<String> inputSource = null;
-            Collection<String> inputCandidates = Arrays.asList("a", "b");
+            Map<String, Integer> input = null;
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            boolean actual = CollectionUtils.isEmpty(input);
 
             // Then
-            then(actual).containsExactly("a", "b");
+            then(actual).isTrue();
         }
 
         @Test
-        void merge_ShouldReturnEmpty_WhenBothNullOrEmpty() {
+        void isEmpty_ShouldReturnTrue_WhenMapIsEmpty() {
             // Given
-            Collection<String> inputSource = emptyList();
-            Collection<String> inputCandidates = null;
+            Map<String, Integer> input = emptyMap();
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            boolean actual = CollectionUtils.isEmpty(input);
 
             // Then
-            then(actual).isEmpty();
+            then(actual).isTrue();
         }
 
         @Test
-        void merge_ShouldCombineBothCollections_WhenBothNonEmpty() {
+        void isEmpty_ShouldReturnFalse_WhenMapIsNotNullAndNotEmpty() {
             // Given
-            Collection<String> inputSource = Arrays.asList("a", "b");
-            Collection<String> inputCandidates = Arrays.asList("c", "d");
+            Map<String, Integer> input = Map.of("a", 1);
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            boolean actual = CollectionUtils.isEmpty(input);
 
             // Then
-            then(actual).containsExactly("a", "b", "c", "d");
+            then(actual).isFalse();
         }
+    }
+
+    @Nested
+    @DisplayName("intersection(Collection, Collection)")
+    class IntersectionCollection {
 
         @Test
-        void merge_ShouldReturnEmptyList_WhenBothNull() {
+        void intersection_ShouldFollowLargerCollectionOrder_WhenCollectionsContainNull() {
             // Given
-            Collection<String> inputSource = null;
-            Collection<String> inputCandidates = null;
+            Collection<String> source = Arrays.asList("x", null, "b", "a", "b", "a");
+            Collection<String> candidates = Arrays.asList("a", "b", null);
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            Collection<String> actual = CollectionUtils.intersection(source, candidates);
 
             // Then
-            then(actual).isEmpty();
+            then(actual).containsExactly(null, "b", "a");
         }
 
         @Test
-        void merge_ShouldReturnEmptyList_WhenSourceNull_And_CandidatesEmpty() {
+        void intersection_ShouldReturnEmpty_WhenSourceIsNull() {
             // Given
             Collection<String> inputSource = null;
-            Collection<String> inputCandidates = emptyList();
+            Collection<String> inputCandidates = singletonList("a");
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            Collection<String> actual = CollectionUtils.intersection(inputSource, inputCandidates);
 
             // Then
             then(actual).isEmpty();
         }
 
         @Test
-        void merge_ShouldReturnEmptyList_WhenBothEmpty() {
+        void intersection_ShouldReturnEmpty_WhenCandidatesIsNull() {
             // Given
-            Collection<String> inputSource = emptyList();
-            Collection<String> inputCandidates = emptySet();
+            Collection<String> inputSource = singletonList("a");
+            Collection<String> inputCandidates = null;
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            Collection<String> actual = CollectionUtils.intersection(inputSource, inputCandidates);
 
             // Then
             then(actual).isEmpty();
         }
 
         @Test
-        void merge_ShouldReturnCandidates_WhenSourceNull_And_CandidatesHasElements() {
+        void intersection_ShouldReturnCommonElementsWithMinCardinality_WhenDuplicatesExist() {
             // Given
-            Collection<String> inputSource = null;
-            Collection<String> inputCandidates = Arrays.asList("x", "y");
+            Collection<String> inputSource = Arrays.asList("a", "b", "b", "c");
+            Collection<String> inputCandidates = Arrays.asList("b", "b", "d", "c", "c");
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            Collection<String> actual = CollectionUtils.intersection(inputSource, inputCandidates);
 
             // Then
-            then(actual).containsExactly("x", "y");
+            then(actual).containsExactlyInAnyOrder("b", "b", "c");
         }
 
         @Test
-        void merge_ShouldReturnCandidates_WhenSourceEmpty_And_CandidatesHasElements() {
+        void intersection_ShouldReturnEmpty_WhenNoCommonElements() {
             // Given
-            Collection<String> inputSource = emptyList();
-            Collection<String> inputCandidates = Arrays.asList("a", "b");
+            Collection<String> inputSource = Arrays.asList("a", "b");
+            Collection<String> inputCandidates = Arrays.asList("c", "d");
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            Collection<String> actual = CollectionUtils.intersection(inputSource, inputCandidates);
 
             // Then
-            then(actual).containsExactly("a", "b");
+            then(actual).isEmpty();
         }
+    }
+
+    @Nested
+    @DisplayName("intersection(Collection<T>, Collection<T>, double)")
+    class IntersectionCollectionWithBloomFilter {
 
         @Test
-        void merge_ShouldReturnSource_WhenCandidatesNull_And_SourceHasElements() {
+        void intersection_ShouldCountOccurrences_WhenElementsRepeat() {
             // Given
-            Collection<String> inputSource = Arrays.asList("a", "b");
-            Collection<String> inputCandidates = null;
+            List<String> source = List.of("a", "a", "b", "c");
+            List<String> candidates = List.of("x", "a", "b", "a", "a", "y");
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            Collection<String> actual = CollectionUtils.intersection(source, candidates, 0.01);
 
             // Then
-            then(actual).containsExactly("a", "b");
+            then(actual).containsExactly("a", "b", "a");
         }
 
         @Test
-        void merge_ShouldReturnSource_WhenCandidatesEmpty_And_SourceHasElements() {
+        void intersection_ShouldMatchPlainIntersection_WhenCandidatesAreHuge() {
             // Given
-            Collection<String> inputSource = Arrays.asList("a", "b");
-            Collection<String> inputCandidates = emptySet();
+            List<Integer> source = range(0, 1_000);
+            List<Integer> candidates = range(900, 30_000);
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            Collection<Integer> actual = CollectionUtils.intersection(source, candidates, 0.01);
 
             // Then
-            then(actual).containsExactly("a", "b");
+            then(actual).containsExactlyElementsOf(range(900, 1_000));
         }
 
         @Test
-        void merge_ShouldPreserveOrder_WhenSourceIsLinkedList() {
+        void intersection_ShouldKeepLargerCollectionOrder_WhenSourceIsLarger() {
             // Given
-            Collection<String> inputSource = new LinkedList<>(Arrays.asList("x", "y"));
-            Collection<String> inputCandidates = List.of("z");
+            List<String> source = List.of("c", "b", "a", "d");
+            List<String> candidates = List.of("a", "b", "c");
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            Collection<String> actual = CollectionUtils.intersection(source, candidates, 0.01);
 
             // Then
-            then(actual).containsExactly("x", "y", "z");
+            then(actual).containsExactlyElementsOf(CollectionUtils.intersection(source, candidates));
+            then(actual).containsExactly("c", "b", "a");
+        }
+
+        @Test
+        void intersection_ShouldThrowException_WhenRateIsInvalid() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.intersection(null, null, -0.1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The false positive rate must be between 0 and 1");
+        }
+    }
+
+    @Nested
+    @DisplayName("intersection(Map, Map)")
+    class IntersectionMap {
+
+        @Test
+        void intersection_ShouldReturnEmpty_WhenSourceIsNull() {
+            // Given
+            Map<String, Integer> inputSource = null;
+            Map<String, Integer> inputCandidates = Map.of("a", 1);
+
+            // When
+            Map<String, Integer> actual = CollectionUtils.intersection(inputSource, inputCandidates);
+
+            // Then
+            then(actual).isEmpty();
+        }
+
+        @Test
+        void intersection_ShouldReturnEmpty_WhenCandidatesIsNull() {
+            // Given
+            Map<String, Integer> inputSource = Map.of("a", 1);
+            Map<String, Integer> inputCandidates = null;
+
+            // When
+            Map<String, Integer> actual = CollectionUtils.intersection(inputSource, inputCandidates);
+
+            // Then
+            then(actual).isEmpty();
+        }
+
+        @Test
+        void intersection_ShouldReturnEntriesWithCommonKeys_WhenValuesDiffer() {
+            // Given
+            Map<String, Integer> inputSource = Map.of("a", 1, "b", 2, "c", 3);
+            Map<String, Integer> inputCandidates = Map.of("b", 20, "c", 30, "d", 4);
+
+            // When
+            Map<String, Integer> actual = CollectionUtils.intersection(inputSource, inputCandidates);
+
+            // Then
+            then(actual).containsOnly(
+                    Map.entry("b", 20),
+                    Map.entry("c", 30)
+            );
+        }
+
+        @Test
+        void intersection_ShouldReturnEmpty_WhenNoCommonKeys() {
+            // Given
+            Map<String, Integer> inputSource = Map.of("a", 1);
+            Map<String, Integer> inputCandidates = Map.of("b", 2);
+
+            // When
+            Map<String, Integer> actual = CollectionUtils.intersection(inputSource, inputCandidates);
+
+            // Then
+            then(actual).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("merge(Collection, T...)")
+    class MergeCollectionWithVarargs {
+
+        @Test
+        void merge_ShouldReturnCandidates_WhenSourceIsNull() {
+            // Given
+            Collection<String> inputSource = null;
+            String[] inputCandidates = {"a", "b"};
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).containsExactly("a", "b");
+        }
+
+        @Test
+        void merge_ShouldReturnSource_WhenCandidatesIsEmpty() {
+            // Given
+            Collection<String> inputSource = Arrays.asList("a", "b");
+            String[] inputCandidates = {};
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).containsExactly("a", "b");
+        }
+
+        @Test
+        void merge_ShouldCombineCollectionAndVarargs_WhenBothNonEmpty() {
+            // Given
+            Collection<String> inputSource = Arrays.asList("a", "b");
+            String[] inputCandidates = {"c", "d"};
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).containsExactly("a", "b", "c", "d");
+        }
+
+        @Test
+        void merge_ShouldReturnEmpty_WhenBothNullOrEmpty() {
+            // Given
+            Collection<String> inputSource = null;
+            String[] inputCandidates = {};
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("merge(Collection, Collection)")
+    class MergeTwoCollections {
+
+        @Test
+        void merge_ShouldReturnCandidates_WhenSourceIsNull() {
+            // Given
+            Collection<String> inputSource = null;
+            Collection<String> inputCandidates = Arrays.asList("a", "b");
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).containsExactly("a", "b");
+        }
+
+        @Test
+        void merge_ShouldReturnEmpty_WhenBothNullOrEmpty() {
+            // Given
+            Collection<String> inputSource = emptyList();
+            Collection<String> inputCandidates = null;
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).isEmpty();
+        }
+
+        @Test
+        void merge_ShouldCombineBothCollections_WhenBothNonEmpty() {
+            // Given
+            Collection<String> inputSource = Arrays.asList("a", "b");
+            Collection<String> inputCandidates = Arrays.asList("c", "d");
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).containsExactly("a", "b", "c", "d");
+        }
+
+        @Test
+        void merge_ShouldReturnEmptyList_WhenBothNull() {
+            // Given
+            Collection<String> inputSource = null;
+            Collection<String> inputCandidates = null;
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).isEmpty();
+        }
+
+        @Test
+        void merge_ShouldReturnEmptyList_WhenSourceNull_And_CandidatesEmpty() {
+            // Given
+            Collection<String> inputSource = null;
+            Collection<String> inputCandidates = emptyList();
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).isEmpty();
+        }
+
+        @Test
+        void merge_ShouldReturnEmptyList_WhenBothEmpty() {
+            // Given
+            Collection<String> inputSource = emptyList();
+            Collection<String> inputCandidates = emptySet();
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).isEmpty();
+        }
+
+        @Test
+        void merge_ShouldReturnCandidates_WhenSourceNull_And_CandidatesHasElements() {
+            // Given
+            Collection<String> inputSource = null;
+            Collection<String> inputCandidates = Arrays.asList("x", "y");
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).containsExactly("x", "y");
+        }
+
+        @Test
+        void merge_ShouldReturnCandidates_WhenSourceEmpty_And_CandidatesHasElements() {
+            // Given
+            Collection<String> inputSource = emptyList();
+            Collection<String> inputCandidates = Arrays.asList("a", "b");
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).containsExactly("a", "b");
+        }
+
+        @Test
+        void merge_ShouldReturnSource_WhenCandidatesNull_And_SourceHasElements() {
+            // Given
+            Collection<String> inputSource = Arrays.asList("a", "b");
+            Collection<String> inputCandidates = null;
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).containsExactly("a", "b");
+        }
+
+        @Test
+        void merge_ShouldReturnSource_WhenCandidatesEmpty_And_SourceHasElements() {
+            // Given
+            Collection<String> inputSource = Arrays.asList("a", "b");
+            Collection<String> inputCandidates = emptySet();
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).containsExactly("a", "b");
+        }
+
+        @Test
+        void merge_ShouldPreserveOrder_WhenSourceIsLinkedList() {
+            // Given
+            Collection<String> inputSource = new LinkedList<>(Arrays.asList("x", "y"));
+            Collection<String> inputCandidates = List.of("z");
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).containsExactly("x", "y", "z");
+        }
+
+        @Test
+        void merge_ShouldHandleDuplicates_WhenBothHaveSameElement() {
+            // Given
+            Collection<String> inputSource = Arrays.asList("a", "b", "a");
+            Collection<String> inputCandidates = Arrays.asList("b", "c");
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).containsExactly("a", "b", "a", "b", "c");
+        }
+
+        @Test
+        void merge_ShouldHandleNullElements_WhenSourceContainsNull() {
+            // Given
+            Collection<String> inputSource = Arrays.asList("a", null, "b");
+            Collection<String> inputCandidates = Arrays.asList("c", null);
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).containsExactly("a", null, "b", "c", null);
+        }
+
+        @Test
+        void merge_ShouldNotThrowNPE_WhenSourceNull_ButBranchHandled() {
+            // Given
+            Collection<String> inputSource = null;
+            Collection<String> inputCandidates = List.of("safe");
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual).containsExactly("safe");
+        }
+
+        @Test
+        void merge_ShouldCreateNewListInstance_WhenBothNonEmpty() {
+            // Given
+            Collection<String> inputSource = new ArrayList<>(List.of("a"));
+            Collection<String> inputCandidates = List.of("b");
+
+            // When
+            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+
+            // Then
+            then(actual)
+                    .isNotSameAs(inputSource)
+                    .containsExactly("a", "b");
+        }
+    }
+
+    @Nested
+    @DisplayName("sortedDifference(Collection<T>, Collection<T>, Comparator<? super T>)")
+    class SortedDifference {
+
+        @Test
+        void sortedDifference_ShouldMatchDifference_WhenInputsAreSorted() {
+            // Given
+            List<Integer> inputSource = List.of(1, 2, 2, 3, 5, 8, 8, 9);
+            List<Integer> inputCandidates = List.of(0, 2, 4, 8, 10);
+
+            // When
+            Iterable<Integer> actual = CollectionUtils.sortedDifference(inputSource, inputCandidates,
+                    Comparator.naturalOrder());
+
+            // Then
+            then(actual).containsExactlyElementsOf(CollectionUtils.difference(inputSource, inputCandidates));
+            then(actual).containsExactly(1, 3, 5, 9);
+        }
+
+        @Test
+        void sortedDifference_ShouldReturnSource_WhenCandidatesIsNull() {
+            // When
+            Iterable<String> actual = CollectionUtils.sortedDifference(List.of("a", "b"), null,
+                    Comparator.naturalOrder());
+
+            // Then
+            then(actual).containsExactly("a", "b");
+            then(CollectionUtils.sortedDifference(null, List.of("a"), Comparator.<String>naturalOrder())).isEmpty();
+        }
+
+        @Test
+        void sortedDifference_ShouldThrowIllegalArgumentException_WhenComparatorIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.sortedDifference(List.of("a"), List.of("b"), null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The comparator cannot be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("sortedIntersection(Collection<T>, Collection<T>, Comparator<? super T>)")
+    class SortedIntersection {
+
+        @Test
+        void sortedIntersection_ShouldKeepMinimumOccurrences_WhenInputsAreSorted() {
+            // Given
+            List<String> inputSource = List.of("a", "b", "b", "b", "d", "e");
+            List<String> inputCandidates = List.of("b", "b", "c", "e", "e", "f");
+
+            // When
+            Iterable<String> actual = CollectionUtils.sortedIntersection(inputSource, inputCandidates,
+                    Comparator.naturalOrder());
+
+            // Then
+            then(actual).containsExactly("b", "b", "e");
+            then(actual).containsExactlyInAnyOrderElementsOf(
+                    CollectionUtils.intersection(inputSource, inputCandidates));
+        }
+
+        @Test
+        void sortedIntersection_ShouldUseComparatorEquality_WhenComparatorIgnoresCase() {
+            // Given
+            List<String> inputSource = List.of("Apple", "cherry");
+            List<String> inputCandidates = List.of("apple", "banana", "CHERRY");
+
+            // When
+            Iterable<String> actual = CollectionUtils.sortedIntersection(inputSource, inputCandidates,
+                    String.CASE_INSENSITIVE_ORDER);
+
+            // Then
+            then(actual).containsExactly("Apple", "cherry");
+        }
+
+        @Test
+        void sortedIntersection_ShouldBeLazy_WhenOnlyFirstElementIsRead() {
+            // Given
+            List<Integer> inputSource = new ArrayList<>();
+            for (int i = 0; i < 1_000_000; i++) {
+                inputSource.add(i);
+            }
+
+            // When
+            Iterator<Integer> actual = CollectionUtils.sortedIntersection(inputSource, List.of(3, 999_999),
+                    Comparator.<Integer>naturalOrder()).iterator();
+
+            // Then
+            then(actual.next()).isEqualTo(3);
+            then(actual.next()).isEqualTo(999_999);
+            then(actual.hasNext()).isFalse();
+            thenException()
+                    .isThrownBy(actual::next)
+                    .isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("sortedUnion(Collection<T>, Collection<T>, Comparator<? super T>)")
+    class SortedUnion {
+
+        @Test
+        void sortedUnion_ShouldKeepDominantDuplicatesOnly_WhenInputsAreSorted() {
+            // Given
+            List<Integer> inputDominant = List.of(2, 2, 5, 7);
+            List<Integer> inputRecessive = List.of(1, 1, 2, 2, 6, 7, 9, 9);
+
+            // When
+            Iterable<Integer> actual = CollectionUtils.sortedUnion(inputDominant, inputRecessive,
+                    Comparator.naturalOrder());
+
+            // Then
+            then(actual).containsExactly(1, 2, 2, 5, 6, 7, 9);
+            then(actual).containsExactlyInAnyOrderElementsOf(CollectionUtils.union(inputDominant, inputRecessive));
+        }
+
+        @Test
+        void sortedUnion_ShouldReturnRecessiveWithoutDuplicates_WhenDominantIsEmpty() {
+            // When
+            Iterable<Integer> actual = CollectionUtils.sortedUnion(emptyList(), List.of(1, 1, 2),
+                    Comparator.naturalOrder());
+
+            // Then
+            then(actual).containsExactly(1, 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("transformView(Collection<T>, Function<T, R>) and filterView(Collection<T>, Predicate<T>)")
+    class LazyViews {
+
+        @Test
+        void transformView_ShouldMatchTransform_WhenMaterialized() {
+            // Given
+            Collection<String> source = new LinkedHashSet<>(List.of("a", "bb", "ccc"));
+
+            // When
+            List<Integer> actual = CollectionUtils.transformView(source, String::length).materialize();
+
+            // Then
+            then(actual).isEqualTo(CollectionUtils.transform(source, String::length));
+        }
+
+        @Test
+        void filterView_ShouldMatchFindAll_WhenMaterialized() {
+            // Given
+            Collection<Integer> source = List.of(5, 2, 8, 1, 4);
+
+            // When
+            List<Integer> actual = CollectionUtils.filterView(source, i -> i > 3).materialize();
+
+            // Then
+            then(actual).isEqualTo(CollectionUtils.findAll(source, (Predicate<Integer>) i -> i > 3));
+        }
+
+        @Test
+        void views_ShouldReflectLaterAdditions_WhenSourceStartsEmpty() {
+            // Given
+            List<String> list = new ArrayList<>();
+            Set<String> set = new HashSet<>();
+            LazyList<Integer> listView = CollectionUtils.transformView(list, String::length);
+            LazyCollection<Integer> setView = CollectionUtils.transformView(set, String::length);
+            LazyCollection<String> filterView = CollectionUtils.filterView(set, element -> element.length() > 1);
+
+            // When
+            list.add("ab");
+            set.add("abc");
+
+            // Then
+            then(listView).containsExactly(2);
+            then(setView).containsExactly(3);
+            then(filterView).containsExactly("abc");
+        }
+
+        @Test
+        void transformView_ShouldThrowIllegalArgumentException_WhenTransformerIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.transformView(List.of("a"), null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The transformer cannot be null");
+        }
+
+        @Test
+        void filterView_ShouldThrowIllegalArgumentException_WhenPredicateIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.filterView(List.of("a"), null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The predicate cannot be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("subtract(Collection, Collection)")
+    class SubtractCollection {
+
+        @Test
+        void subtract_ShouldReturnSource_WhenToRemoveIsNull() {
+            // Given
+            Collection<String> inputSource = Arrays.asList("a", "b");
+            Collection<String> inputToRemove = null;
+
+            // When
+            Collection<String> actual = CollectionUtils.subtract(inputSource, inputToRemove);
+
+            // Then
+            then(actual).containsExactly("a", "b");
+        }
+
+        @Test
+        void subtract_ShouldReturnEmpty_WhenSourceIsNull() {
+            // Given
+            Collection<String> inputSource = null;
+            Collection<String> inputToRemove = singletonList("a");
+
+            // When
+            Collection<String> actual = CollectionUtils.subtract(inputSource, inputToRemove);
+
+            // Then
+            then(actual).isEmpty();
+        }
+
+        @Test
+        void subtract_ShouldRemoveAllElementsInToRemove_WhenPresent() {
+            // Given
+            Collection<String> inputSource = new ArrayList<>(Arrays.asList("a", "b", "c", "b"));
+            Collection<String> inputToRemove = Arrays.asList("b", "d");
+
+            // When
+            Collection<String> actual = CollectionUtils.subtract(inputSource, inputToRemove);
+
+            // Then
+            then(actual).containsExactly("a", "c");
+        }
+
+        @Test
+        void subtract_ShouldRemoveEveryOccurrence_WhenToRemoveIsLargerList() {
+            // Given
+            Collection<Integer> inputSource = Arrays.asList(5, 1, 5, null, 7, 3);
+            List<Integer> inputToRemove = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                inputToRemove.add(i % 2 == 0 ? i : -i);
+            }
+            inputToRemove.add(null);
+
+            // When
+            Collection<Integer> actual = CollectionUtils.subtract(inputSource, inputToRemove);
+
+            // Then
+            then(actual).containsExactly(5, 1, 5, 7, 3);
+        }
+
+        @Test
+        void subtract_ShouldMatchRemoveAll_WhenBothSidesAreLarge() {
+            // Given
+            List<Integer> inputSource = new ArrayList<>();
+            List<Integer> inputToRemove = new ArrayList<>();
+            for (int i = 0; i < 5_000; i++) {
+                inputSource.add(i % 700);
+                if (i % 3 == 0) inputToRemove.add(i % 1_000);
+            }
+            List<Integer> expected = new ArrayList<>(inputSource);
+            expected.removeAll(new HashSet<>(inputToRemove));
+
+            // When
+            Collection<Integer> actual = CollectionUtils.subtract(inputSource, inputToRemove);
+
+            // Then
+            then(actual).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Nested
+    @DisplayName("subtract(Collection<T>, Collection<T>, Predicate<T>, Supplier<C>)")
+    class SubtractCollectionWithPredicateAndFactory {
+
+        @Test
+        void subtract_ShouldApplyPredicateAndFactory_WhenElementsRemain() {
+            // Given
+            Collection<String> inputSource = Arrays.asList("apple", "kiwi", "banana", "fig", "apple");
+            Collection<String> inputToRemove = Set.of("banana");
+
+            // When
+            Set<String> actual = CollectionUtils.subtract(inputSource, inputToRemove, s -> s.length() > 3,
+                    LinkedHashSet::new);
+
+            // Then
+            then(actual).containsExactly("apple", "kiwi");
+        }
+
+        @Test
+        void subtract_ShouldApplyPredicate_WhenToRemoveIsNull() {
+            // Given
+            Collection<Integer> inputSource = Arrays.asList(1, 2, 3, 4);
+
+            // When
+            List<Integer> actual = CollectionUtils.subtract(inputSource, null, i -> i % 2 == 0, ArrayList::new);
+
+            // Then
+            then(actual).containsExactly(2, 4);
+        }
+
+        @Test
+        void subtract_ShouldReturnFactoryResult_WhenSourceIsNull() {
+            // When
+            List<String> actual = CollectionUtils.subtract(null, List.of("a"), LinkedList::new);
+
+            // Then
+            then(actual).isInstanceOf(LinkedList.class).isEmpty();
+        }
+
+        @Test
+        void subtract_ShouldThrowIllegalArgumentException_WhenPredicateIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.subtract(List.of("a"), List.of("b"), null, ArrayList::new))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The predicate cannot be null");
+        }
+
+        @Test
+        void subtract_ShouldThrowIllegalArgumentException_WhenFactoryIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.subtract(List.of("a"), List.of("b"), (Supplier<List<String>>) null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The factory cannot be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("subtract(Map, Map)")
+    class SubtractMap {
+
+        @Test
+        void subtract_ShouldReturnEmpty_WhenSourceIsNull() {
+            // Given
+            Map<String, Integer> inputSource = null;
+            Map<String, Integer> inputToRemove = Map.of("a", 1);
+
+            // When
+            Map<String, Integer> actual = CollectionUtils.subtract(inputSource, inputToRemove);
+
+            // Then
+            then(actual).isEmpty();
+        }
+
+        @Test
+        void subtract_ShouldReturnSource_WhenToRemoveIsNull() {
+            // Given
+            Map<String, Integer> inputSource = Map.of("a", 1);
+            Map<String, Integer> inputToRemove = null;
+
+            // When
+            Map<String, Integer> actual = CollectionUtils.subtract(inputSource, inputToRemove);
+
+            // Then
+            then(actual).containsExactly(Map.entry("a", 1));
+        }
+
+        @Test
+        void subtract_ShouldRemoveKeysInToRemove_WhenPresent() {
+            // Given
+            Map<String, Integer> inputSource = new HashMap<>(Map.of("a", 1, "b", 2, "c", 3));
+            Map<String, Integer> inputToRemove = Map.of("b", 20, "d", 4);
+
+            // When
+            Map<String, Integer> actual = CollectionUtils.subtract(inputSource, inputToRemove);
+
+            // Then
+            then(actual).containsOnly(
+                    Map.entry("a", 1),
+                    Map.entry("c", 3)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("partition(List<T>, int)")
+    class Partition {
+
+        @Test
+        void partition_shouldReturnEmptyList_WhenSourceIsNull() {
+            // Given
+            List<String> source = null;
+            int size = 2;
+
+            // When
+            List<List<String>> actual = CollectionUtils.partition(source, size);
+
+            // Then
+            then(actual).isEmpty();
+        }
+
+        @Test
+        void partition_shouldReturnEmptyList_WhenSourceIsEmpty() {
+            // Given
+            List<String> source = emptyList();
+            int size = 3;
+
+            // When
+            List<List<String>> actual = CollectionUtils.partition(source, size);
+
+            // Then
+            then(actual).isEmpty();
+        }
+
+        @Test
+        void partition_shouldThrowException_WhenSizeIsZeroOrNegative() {
+            // Given
+            List<String> source = List.of("a", "b");
+
+            // When / Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.partition(source, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("Size must be greater than 0");
+
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.partition(source, -1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("Size must be greater than 0");
+        }
+
+        @Test
+        void partition_shouldPartitionList_WhenSizeIsValid() {
+            // Given
+            List<String> source = List.of("a", "b", "c", "d", "e");
+            int size = 2;
+
+            // When
+            List<List<String>> actual = CollectionUtils.partition(source, size);
+
+            // Then
+            then(actual)
+                    .isInstanceOf(Collections.unmodifiableList(actual).getClass())
+                    .hasSize(3)
+                    .containsExactly(
+                            List.of("a", "b"),
+                            List.of("c", "d"),
+                            List.of("e")
+                    );
+        }
+
+        @Test
+        void partition_shouldReturnSinglePartition_WhenSizeGreaterThanListSize() {
+            // Given
+            List<String> source = List.of("a", "b", "c");
+            int size = 10;
+
+            // When
+            List<List<String>> actual = CollectionUtils.partition(source, size);
+
+            // Then
+            then(actual)
+                    .isInstanceOf(Collections.unmodifiableList(actual).getClass())
+                    .hasSize(1)
+                    .containsExactly(List.of("a", "b", "c"));
+        }
+
+        @Test
+        void partition_shouldSupportRandomAccess_WhenSourceSupportsRandomAccess() {
+            // When & Then
+            then(CollectionUtils.partition(new ArrayList<>(List.of("a", "b", "c")), 2))
+                    .isInstanceOf(RandomAccess.class);
+            then(CollectionUtils.partition(new LinkedList<>(List.of("a", "b", "c")), 2))
+                    .isNotInstanceOf(RandomAccess.class);
+        }
+
+        @Test
+        void partition_shouldReturnViews_WhenSourceIsLinkedList() {
+            // Given
+            List<Integer> source = new LinkedList<>();
+            for (int i = 0; i < 10; i++) {
+                source.add(i);
+            }
+
+            // When
+            List<List<Integer>> actual = CollectionUtils.partition(source, 4);
+
+            // Then
+            then(actual).hasSize(3);
+            then(actual.get(2)).containsExactly(8, 9);
+            then(new ArrayList<>(actual)).containsExactly(List.of(0, 1, 2, 3), List.of(4, 5, 6, 7), List.of(8, 9));
+            then(actual).containsExactlyElementsOf(CollectionUtils.partition(new ArrayList<>(source), 4));
+            actual.iterator().next().set(0, -1);
+            then(source.get(0)).isEqualTo(-1);
         }
 
         @Test
-        void merge_ShouldHandleDuplicates_WhenBothHaveSameElement() {
+        void partition_shouldThrowException_WhenIndexIsOutOfBounds() {
             // Given
-            Collection<String> inputSource = Arrays.asList("a", "b", "a");
-            Collection<String> inputCandidates = Arrays.asList("b", "c");
+            List<List<String>> actual = CollectionUtils.partition(List.of("a", "b", "c"), 2);
 
-            // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> actual.get(2))
+                    .isInstanceOf(IndexOutOfBoundsException.class)
+                    .withMessage("Index 2 must be less than size 2");
+        }
+    }
 
-            // Then
-            then(actual).containsExactly("a", "b", "a", "b", "c");
+    @Nested
+    @DisplayName("partition(Iterable<T>, int), partition(Iterator<T>, int) and partition(Stream<T>, int)")
+    class PartitionLazily {
+
+        @Test
+        void partition_ShouldReturnEmpty_WhenSourceIsNull() {
+            // When & Then
+            then(CollectionUtils.partition((Iterable<String>) null, 2)).isEmpty();
+            then(CollectionUtils.partition((Iterator<String>) null, 2)).isExhausted();
+            then(CollectionUtils.partition((Stream<String>) null, 2)).isEmpty();
         }
 
         @Test
-        void merge_ShouldHandleNullElements_WhenSourceContainsNull() {
+        void partition_ShouldYieldBatchesOnEveryIteration_WhenSourceIsIterable() {
             // Given
-            Collection<String> inputSource = Arrays.asList("a", null, "b");
-            Collection<String> inputCandidates = Arrays.asList("c", null);
+            Iterable<Integer> source = Set.of(1, 2, 3, 4, 5)::iterator;
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            Iterable<List<Integer>> actual = CollectionUtils.partition(source, 2);
 
             // Then
-            then(actual).containsExactly("a", null, "b", "c", null);
+            for (int run = 0; run < 2; run++) {
+                List<Integer> flattened = new ArrayList<>();
+                List<Integer> sizes = new ArrayList<>();
+                for (List<Integer> batch : actual) {
+                    flattened.addAll(batch);
+                    sizes.add(batch.size());
+                }
+                then(sizes).containsExactly(2, 2, 1);
+                then(flattened).containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+            }
         }
 
         @Test
-        void merge_ShouldNotThrowNPE_WhenSourceNull_ButBranchHandled() {
+        void partition_ShouldAdvanceSourceOnlyAsFarAsRead_WhenSourceIsIterator() {
             // Given
-            Collection<String> inputSource = null;
-            Collection<String> inputCandidates = List.of("safe");
+            Iterator<Integer> source = List.of(1, 2, 3, 4, 5).iterator();
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            Iterator<List<Integer>> actual = CollectionUtils.partition(source, 2);
 
             // Then
-            then(actual).containsExactly("safe");
+            then(actual.next()).containsExactly(1, 2);
+            then(source.next()).isEqualTo(3);
+            then(actual.next()).containsExactly(4, 5);
+            then(actual).isExhausted();
+            thenException()
+                    .isThrownBy(actual::next)
+                    .isInstanceOf(NoSuchElementException.class);
         }
 
         @Test
-        void merge_ShouldCreateNewListInstance_WhenBothNonEmpty() {
+        void partition_ShouldReadLazilyAndCloseSource_WhenSourceIsStream() {
             // Given
-            Collection<String> inputSource = new ArrayList<>(List.of("a"));
-            Collection<String> inputCandidates = List.of("b");
+            AtomicInteger pulled = new AtomicInteger();
+            AtomicInteger closed = new AtomicInteger();
+            Stream<Integer> source = Stream.iterate(0, i -> i + 1)
+                    .peek(i -> pulled.incrementAndGet())
+                    .onClose(closed::incrementAndGet);
 
             // When
-            List<String> actual = CollectionUtils.merge(inputSource, inputCandidates);
+            List<List<Integer>> actual;
+            try (Stream<List<Integer>> partitions = CollectionUtils.partition(source, 3)) {
+                actual = partitions.limit(2).collect(Collectors.toList());
+            }
 
             // Then
-            then(actual)
-                    .isNotSameAs(inputSource)
-                    .containsExactly("a", "b");
+            then(actual).containsExactly(List.of(0, 1, 2), List.of(3, 4, 5));
+            then(pulled).hasValue(6);
+            then(closed).hasValue(1);
+        }
+
+        @Test
+        void partition_ShouldThrowException_WhenSizeIsNotPositive() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.partition(List.of(1).iterator(), 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("Size must be greater than 0");
         }
     }
 
     @Nested
-    @DisplayName("subtract(Collection, Collection)")
-    class SubtractCollection {
+    @DisplayName("forEachPartition(Iterable<T>, int, Consumer<List<T>>)")
+    class ForEachPartition {
 
         @Test
-        void subtract_ShouldReturnSource_WhenToRemoveIsNull() {
+        void forEachPartition_ShouldReuseBuffer_WhenPartitionsArePassed() {
             // Given
-            Collection<String> inputSource = Arrays.asList("a", "b");
-            Collection<String> inputToRemove = null;
+            List<List<Integer>> buffers = new ArrayList<>();
+            List<List<Integer>> copies = new ArrayList<>();
 
             // When
-            Collection<String> actual = CollectionUtils.subtract(inputSource, inputToRemove);
+            CollectionUtils.forEachPartition(List.of(1, 2, 3, 4, 5, 6, 7), 3, batch -> {
+                buffers.add(batch);
+                copies.add(List.copyOf(batch));
+            });
 
             // Then
-            then(actual).containsExactly("a", "b");
+            then(copies).containsExactly(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7));
+            then(buffers.get(0)).isSameAs(buffers.get(2));
         }
 
         @Test
-        void subtract_ShouldReturnEmpty_WhenSourceIsNull() {
+        void forEachPartition_ShouldNotCallAction_WhenSourceIsNullOrEmpty() {
             // Given
-            Collection<String> inputSource = null;
-            Collection<String> inputToRemove = singletonList("a");
+            AtomicInteger calls = new AtomicInteger();
 
             // When
-            Collection<String> actual = CollectionUtils.subtract(inputSource, inputToRemove);
+            CollectionUtils.forEachPartition(null, 2, batch -> calls.incrementAndGet());
+            CollectionUtils.forEachPartition(List.of(), 2, batch -> calls.incrementAndGet());
 
             // Then
-            then(actual).isEmpty();
+            then(calls).hasValue(0);
         }
 
         @Test
-        void subtract_ShouldRemoveAllElementsInToRemove_WhenPresent() {
-            // Given
-            Collection<String> inputSource = new ArrayList<>(Arrays.asList("a", "b", "c", "b"));
-            Collection<String> inputToRemove = Arrays.asList("b", "d");
-
-            // When
-            Collection<String> actual = CollectionUtils.subtract(inputSource, inputToRemove);
-
-            // Then
-            then(actual).containsExactly("a", "c");
+        void forEachPartition_ShouldThrowException_WhenActionIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.forEachPartition(List.of(1), 2, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The action cannot be null");
         }
     }
 
     @Nested
-    @DisplayName("subtract(Map, Map)")
-    class SubtractMap {
+    @DisplayName("processBatches and forEachBatch")
+    class Batches {
+
+        private <T> T withPool(int threads, Function<ExecutorService, T> action) {
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                return action.apply(pool);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
 
         @Test
-        void subtract_ShouldReturnEmpty_WhenSourceIsNull() {
+        void processBatches_ShouldReturnResultsInSourceOrder_WhenAllBatchesSucceed() {
             // Given
-            Map<String, Integer> inputSource = null;
-            Map<String, Integer> inputToRemove = Map.of("a", 1);
+            List<Integer> source = List.of(1, 2, 3, 4, 5, 6, 7);
+            Function<List<Integer>, Integer> sum = batch -> batch.stream().mapToInt(Integer::intValue).sum();
 
             // When
-            Map<String, Integer> actual = CollectionUtils.subtract(inputSource, inputToRemove);
+            BatchReport<Integer> actual = withPool(3, pool ->
+                    CollectionUtils.processBatches(source, 3, sum, pool, 2, null));
 
             // Then
-            then(actual).isEmpty();
+            then(actual.results()).containsExactly(6, 15, 7);
+            then(actual.hasFailures()).isFalse();
+            then(actual.batches()).extracting(BatchReport.Batch::size).containsExactly(3, 3, 1);
+            then(actual.batches()).extracting(BatchReport.Batch::index).containsExactly(0, 1, 2);
         }
 
         @Test
-        void subtract_ShouldReturnSource_WhenToRemoveIsNull() {
+        void processBatches_ShouldRecordFailures_WhenSomeBatchesThrow() {
             // Given
-            Map<String, Integer> inputSource = Map.of("a", 1);
-            Map<String, Integer> inputToRemove = null;
+            Set<Integer> source = new LinkedHashSet<>(List.of(1, 2, 3, 4, 5, 6));
+            Function<List<Integer>, Integer> failOnEven = batch -> {
+                if (batch.get(0) % 2 == 0) throw new IllegalStateException("even " + batch.get(0));
+                return batch.get(0);
+            };
 
             // When
-            Map<String, Integer> actual = CollectionUtils.subtract(inputSource, inputToRemove);
+            BatchReport<Integer> actual = withPool(2, pool ->
+                    CollectionUtils.processBatches(source, 1, failOnEven, pool, 2, Duration.ofSeconds(10)));
 
             // Then
-            then(actual).containsExactly(Map.entry("a", 1));
+            then(actual.results()).containsExactly(1, 3, 5);
+            then(actual.failures())
+                    .extracting(batch -> batch.failure().getMessage())
+                    .containsExactly("even 2", "even 4", "even 6");
+            thenException()
+                    .isThrownBy(actual::rethrowFailures)
+                    .isInstanceOf(CompletionException.class)
+                    .withMessage("Batch 1 failed")
+                    .satisfies(e -> then(e.getSuppressed()).hasSize(2));
         }
 
         @Test
-        void subtract_ShouldRemoveKeysInToRemove_WhenPresent() {
+        void processBatches_ShouldReportSuccess_WhenResultIsAnException() {
             // Given
-            Map<String, Integer> inputSource = new HashMap<>(Map.of("a", 1, "b", 2, "c", 3));
-            Map<String, Integer> inputToRemove = Map.of("b", 20, "d", 4);
+            Function<List<String>, IllegalArgumentException> validate =
+                    batch -> new IllegalArgumentException("checked " + batch.size());
 
             // When
-            Map<String, Integer> actual = CollectionUtils.subtract(inputSource, inputToRemove);
+            BatchReport<IllegalArgumentException> actual = withPool(1, pool ->
+                    CollectionUtils.processBatches(List.of("a", "b", "c"), 2, validate, pool, 1, null));
 
             // Then
-            then(actual).containsOnly(
-                    Map.entry("a", 1),
-                    Map.entry("c", 3)
-            );
+            then(actual.hasFailures()).isFalse();
+            then(actual.results()).extracting(Throwable::getMessage).containsExactly("checked 2", "checked 1");
         }
-    }
-
-    @Nested
-    @DisplayName("partition(List<T>, int)")
-    class Partition {
 
         @Test
-        void partition_shouldReturnEmptyList_WhenSourceIsNull() {
+        void processBatches_ShouldNotSeekSource_WhenSourceIsLinkedList() {
             // Given
-            List<String> source = null;
-            int size = 2;
+            List<Integer> source = new LinkedList<>(List.of(1, 2, 3, 4, 5, 6, 7)) {
+                @Override
+                public ListIterator<Integer> listIterator(int index) {
+                    if (index > 0) throw new AssertionError("Seeked to index " + index);
+                    return super.listIterator(index);
+                }
+            };
+            Function<List<Integer>, Integer> sum = batch -> batch.stream().mapToInt(Integer::intValue).sum();
 
             // When
-            List<List<String>> actual = CollectionUtils.partition(source, size);
+            BatchReport<Integer> actual = withPool(2, pool ->
+                    CollectionUtils.processBatches(source, 3, sum, pool, 2, null));
 
             // Then
-            then(actual).isEmpty();
+            then(actual.hasFailures()).isFalse();
+            then(actual.results()).containsExactly(6, 15, 7);
         }
 
         @Test
-        void partition_shouldReturnEmptyList_WhenSourceIsEmpty() {
+        void processBatches_ShouldPassReadOnlyBatches_WhenSourceIsModifiable() {
             // Given
-            List<String> source = emptyList();
-            int size = 3;
+            List<Integer> source = new ArrayList<>(List.of(1, 2, 3));
 
             // When
-            List<List<String>> actual = CollectionUtils.partition(source, size);
+            BatchReport<Boolean> actual = withPool(1, pool ->
+                    CollectionUtils.processBatches(source, 2, batch -> batch.add(0), pool, 1, null));
 
             // Then
-            then(actual).isEmpty();
+            then(actual.failures())
+                    .hasSize(2)
+                    .allSatisfy(batch -> then(batch.failure()).isInstanceOf(UnsupportedOperationException.class));
+            then(source).containsExactly(1, 2, 3);
         }
 
         @Test
-        void partition_shouldThrowException_WhenSizeIsZeroOrNegative() {
+        void processBatches_ShouldNotExceedConcurrency_WhenPoolIsLarger() {
             // Given
-            List<String> source = List.of("a", "b");
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+            List<Integer> source = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                source.add(i);
+            }
 
-            // When / Then
-            thenException()
-                    .isThrownBy(() -> CollectionUtils.partition(source, 0))
-                    .isInstanceOf(IllegalArgumentException.class)
-                    .withMessage("Size must be greater than 0");
+            // When
+            BatchReport<Void> actual = withPool(4, pool -> CollectionUtils.forEachBatch(source, 2, batch -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            }, pool, 2, null));
 
-            thenException()
-                    .isThrownBy(() -> CollectionUtils.partition(source, -1))
-                    .isInstanceOf(IllegalArgumentException.class)
-                    .withMessage("Size must be greater than 0");
+            // Then
+            then(actual.batches()).hasSize(20);
+            then(peak.get()).isLessThanOrEqualTo(2);
+            then(actual.maxLatency()).isPositive();
+            then(actual.totalLatency()).isGreaterThanOrEqualTo(actual.maxLatency());
         }
 
         @Test
-        void partition_shouldPartitionList_WhenSizeIsValid() {
-            // Given
-            List<String> source = List.of("a", "b", "c", "d", "e");
-            int size = 2;
-
+        void processBatches_ShouldReturnEmptyReport_WhenSourceIsNull() {
             // When
-            List<List<String>> actual = CollectionUtils.partition(source, size);
+            BatchReport<Integer> actual = CollectionUtils.processBatches(null, 2, List::size, Runnable::run, 1, null);
 
             // Then
-            then(actual)
-                    .isInstanceOf(Collections.unmodifiableList(actual).getClass())
-                    .hasSize(3)
-                    .containsExactly(
-                            List.of("a", "b"),
-                            List.of("c", "d"),
-                            List.of("e")
-                    );
+            then(actual.batches()).isEmpty();
+            then(actual.maxLatency()).isZero();
         }
 
         @Test
-        void partition_shouldReturnSinglePartition_WhenSizeGreaterThanListSize() {
-            // Given
-            List<String> source = List.of("a", "b", "c");
-            int size = 10;
-
-            // When
-            List<List<String>> actual = CollectionUtils.partition(source, size);
-
-            // Then
-            then(actual)
-                    .isInstanceOf(Collections.unmodifiableList(actual).getClass())
-                    .hasSize(1)
-                    .containsExactly(List.of("a", "b", "c"));
+        void processBatches_ShouldThrowException_WhenArgumentsAreInvalid() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.processBatches(List.of(1), 0, List::size, Runnable::run, 1, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("Size must be greater than 0");
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.processBatches(List.of(1), 1, null, Runnable::run, 1, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The processor cannot be null");
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.forEachBatch(List.of(1), 1, null, Runnable::run, 1, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The action cannot be null");
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.processBatches(List.of(1), 1, List::size, Runnable::run, 0, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The concurrency must be positive");
         }
     }
 
@@ -3529,6 +4985,100 @@ void toCopyOnWriteArraySet_ShouldBeThreadSafeInstance() {
         }
     }
 
+    @Nested
+    @DisplayName("toIntArray, toLongArray and toDoubleArray")
+    class ToPrimitiveArray {
+
+        @Test
+        void toIntArray_ShouldReturnEmptyArray_WhenCollectionIsNull() {
+            // Given
+            Collection<Integer> input = null;
+
+            // When
+            int[] actual = CollectionUtils.toIntArray(input);
+
+            // Then
+            then(actual).isEmpty();
+        }
+
+        @Test
+        void toIntArray_ShouldUnboxElements_WhenCollectionIsArrayList() {
+            // Given
+            Collection<Integer> input = new ArrayList<>(List.of(3, 1, 2));
+
+            // When
+            int[] actual = CollectionUtils.toIntArray(input);
+
+            // Then
+            then(actual).containsExactly(3, 1, 2);
+        }
+
+        @Test
+        void toIntArray_ShouldUnboxElements_WhenCollectionIsNotRandomAccess() {
+            // Given
+            Collection<Integer> input = new LinkedHashSet<>(List.of(5, 4, 6));
+
+            // When
+            int[] actual = CollectionUtils.toIntArray(input);
+
+            // Then
+            then(actual).containsExactly(5, 4, 6);
+        }
+
+        @Test
+        void toIntArray_ShouldCopyBackingRange_WhenCollectionIsArrayView() {
+            // Given
+            int[] backing = new int[]{1, 2, 3, 4};
+            Collection<Integer> input = ArrayUtils.asList(backing).subList(1, 3);
+
+            // When
+            int[] actual = CollectionUtils.toIntArray(input);
+
+            // Then
+            then(actual)
+                    .isNotSameAs(backing)
+                    .containsExactly(2, 3);
+        }
+
+        @Test
+        void toIntArray_ShouldThrowNullPointerException_WhenCollectionContainsNull() {
+            // Given
+            Collection<Integer> input = Arrays.asList(1, null);
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.toIntArray(input))
+                    .isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        void toLongArray_ShouldUnboxElements_WhenCollectionIsProvided() {
+            // Given
+            Collection<Long> input = new LinkedList<>(List.of(7L, 8L));
+
+            // When
+            long[] actual = CollectionUtils.toLongArray(input);
+
+            // Then
+            then(actual).containsExactly(7L, 8L);
+            then(CollectionUtils.toLongArray(ArrayUtils.asUnmodifiableList(new long[]{9L}))).containsExactly(9L);
+        }
+
+        @Test
+        void toDoubleArray_ShouldUnboxElements_WhenCollectionIsProvided() {
+            // Given
+            Collection<Double> input = Arrays.asList(1.5, -2.5);
+
+            // When
+            double[] actual = CollectionUtils.toDoubleArray(input);
+
+            // Then
+            then(actual).containsExactly(1.5, -2.5);
+            then(CollectionUtils.toDoubleArray(ArrayUtils.asList(new double[]{0.5}))).containsExactly(0.5);
+            then(CollectionUtils.toDoubleArray(emptyList())).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("union(Collection, T...)")
     class UnionCollectionWithVarargs {
@@ -3694,6 +5244,28 @@ void union_ShouldIncludeDominantThenUniqueRecessive_WhenBothNonEmpty() {
     @DisplayName("union(Collection, Collection)")
     class UnionTwoCollections {
 
+        @Test
+        void union_ShouldKeepDominantDuplicatesAndDropRepeatedRecessive_WhenCollectionsAreLarge() {
+            // Given
+            List<Integer> inputDominant = new ArrayList<>();
+            List<Integer> inputRecessive = new ArrayList<>();
+            for (int i = 0; i < 100_000; i++) {
+                inputDominant.add(i);
+                inputRecessive.add(i + 50_000);
+                inputRecessive.add(i + 50_000);
+            }
+            inputDominant.add(0);
+
+            // When
+            List<Integer> actual = CollectionUtils.union(inputDominant, inputRecessive);
+
+            // Then
+            then(actual).hasSize(150_001);
+            then(actual.subList(0, 100_001)).isEqualTo(inputDominant);
+            then(actual.get(100_001)).isEqualTo(100_000);
+            then(actual.get(150_000)).isEqualTo(149_999);
+        }
+
         @Test
         void union_ShouldReturnEmpty_WhenBothNull() {
             // Given
@@ -3825,6 +5397,48 @@ void union_ShouldIncludeDominantThenUniqueRecessive_WhenBothNonEmpty() {
         }
     }
 
+    @Nested
+    @DisplayName("union(Collection, Collection, Supplier)")
+    class UnionTwoCollectionsWithFactory {
+
+        @Test
+        void union_ShouldThrowIllegalArgumentException_WhenFactoryIsNull() {
+            // Given
+            Collection<String> inputDominant = Arrays.asList("a", "b");
+            Collection<String> inputRecessive = Arrays.asList("b", "c");
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.union(inputDominant, inputRecessive, (Supplier<List<String>>) null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The factory cannot be null");
+        }
+
+        @Test
+        void union_ShouldFillFactoryCollection_WhenFactoryIsProvided() {
+            // Given
+            Collection<String> inputDominant = Arrays.asList("b", "a", "b");
+            Collection<String> inputRecessive = Arrays.asList("c", "a", "c", "d");
+
+            // When
+            LinkedList<String> actual = CollectionUtils.union(inputDominant, inputRecessive, LinkedList::new);
+
+            // Then
+            then(actual).containsExactly("b", "a", "b", "c", "d");
+        }
+
+        @Test
+        void union_ShouldReturnEmptyFactoryCollection_WhenBothAreNull() {
+            // When
+            Set<String> actual = CollectionUtils.union(null, null, LinkedHashSet::new);
+
+            // Then
+            then(actual)
+                    .isInstanceOf(LinkedHashSet.class)
+                    .isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("union(Map, Map)")
     class UnionTwoMaps {
@@ -3976,4 +5590,12 @@ void union_ShouldThrowIllegalArgumentException_WhenRecessiveHasNullKey() {
                     .withMessage("Key cannot be null");
         }
     }
+
+    private static List<Integer> range(int from, int to) {
+        List<Integer> numbers = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            numbers.add(i);
+        }
+        return numbers;
+    }
 }
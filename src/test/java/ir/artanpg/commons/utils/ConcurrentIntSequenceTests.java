@@ -0,0 +1,220 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link ConcurrentIntSequence} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("ConcurrentIntSequence")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class ConcurrentIntSequenceTests {
+
+    @Nested
+    @DisplayName("ConcurrentIntSequence(int)")
+    class Constructor {
+
+        @Test
+        void constructor_ShouldThrowIllegalArgumentException_WhenInitialCapacityIsNegative() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> new ConcurrentIntSequence(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The initial capacity cannot be negative");
+        }
+
+        @Test
+        void constructor_ShouldCreateEmptySequence_WhenInitialCapacityIsProvided() {
+            // When
+            ConcurrentIntSequence actual = new ConcurrentIntSequence(100);
+
+            // Then
+            then(actual.isEmpty()).isTrue();
+            then(actual.toArray()).isEmpty();
+            then(actual).hasToString("[]");
+        }
+    }
+
+    @Nested
+    @DisplayName("append(int)")
+    class Append {
+
+        @Test
+        void append_ShouldReturnConsecutiveIndexes_WhenCalledFromOneThread() {
+            // Given
+            ConcurrentIntSequence sequence = new ConcurrentIntSequence(16);
+
+            // When
+            for (int i = 0; i < 100; i++) {
+                then(sequence.append(i * 3)).isEqualTo(i);
+            }
+
+            // Then
+            then(sequence.size()).isEqualTo(100);
+            then(sequence.get(0)).isEqualTo(0);
+            then(sequence.get(99)).isEqualTo(297);
+        }
+
+        @Test
+        void append_ShouldKeepEveryValue_WhenProducersRunConcurrently() {
+            // Given
+            ConcurrentIntSequence sequence = new ConcurrentIntSequence();
+            int producers = 4;
+            int perProducer = 10_000;
+
+            // When
+            CompletableFuture.allOf(IntStream.range(0, producers)
+                    .mapToObj(producer -> CompletableFuture.runAsync(() -> {
+                        for (int i = 0; i < perProducer; i++) {
+                            sequence.append(producer * perProducer + i);
+                        }
+                    }))
+                    .toArray(CompletableFuture[]::new)).join();
+
+            // Then
+            int[] actual = ArrayUtils.sort(sequence.toArray());
+            then(actual).hasSize(producers * perProducer);
+            for (int i = 0; i < actual.length; i++) {
+                then(actual[i]).isEqualTo(i);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("appendAll(int[], int, int)")
+    class AppendAll {
+
+        @Test
+        void appendAll_ShouldStoreChunkContiguously_WhenChunkSpansSegments() {
+            // Given
+            ConcurrentIntSequence sequence = new ConcurrentIntSequence(16);
+            sequence.append(-1);
+            int[] chunk = new int[100];
+            for (int i = 0; i < chunk.length; i++) {
+                chunk[i] = i;
+            }
+
+            // When
+            int actual = sequence.appendAll(chunk, 10, 60);
+
+            // Then
+            then(actual).isEqualTo(1);
+            then(sequence.size()).isEqualTo(51);
+            then(sequence.toArray(1, 51)).containsExactly(ArrayUtils.subarray(chunk, 10, 60));
+        }
+
+        @Test
+        void appendAll_ShouldNotInterleaveChunks_WhenProducersRunConcurrently() {
+            // Given
+            ConcurrentIntSequence sequence = new ConcurrentIntSequence();
+            int[] chunk = new int[]{1, 2, 3, 4, 5, 6, 7, 8};
+
+            // When
+            CompletableFuture.allOf(IntStream.range(0, 8)
+                    .mapToObj(producer -> CompletableFuture.runAsync(() -> {
+                        for (int i = 0; i < 1000; i++) {
+                            sequence.appendAll(chunk);
+                        }
+                    }))
+                    .toArray(CompletableFuture[]::new)).join();
+
+            // Then
+            int[] actual = sequence.toArray();
+            then(actual).hasSize(8 * 1000 * chunk.length);
+            for (int i = 0; i < actual.length; i++) {
+                then(actual[i]).isEqualTo(chunk[i % chunk.length]);
+            }
+        }
+
+        @Test
+        void appendAll_ShouldThrowIllegalArgumentException_WhenValuesIsNull() {
+            // Given
+            ConcurrentIntSequence sequence = new ConcurrentIntSequence();
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> sequence.appendAll(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The input array cannot be null");
+        }
+
+        @Test
+        void appendAll_ShouldThrowIndexOutOfBoundsException_WhenRangeIsInvalid() {
+            // Given
+            ConcurrentIntSequence sequence = new ConcurrentIntSequence();
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> sequence.appendAll(new int[2], 1, 3))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+            then(sequence.isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("get(int), copyTo(int[], int) and toArray(int, int)")
+    class Read {
+
+        @Test
+        void get_ShouldThrowIndexOutOfBoundsException_WhenIndexIsNotVisible() {
+            // Given
+            ConcurrentIntSequence sequence = new ConcurrentIntSequence();
+            sequence.append(1);
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> sequence.get(1))
+                    .isInstanceOf(IndexOutOfBoundsException.class)
+                    .withMessage("Index 1 out of bounds for length 1");
+        }
+
+        @Test
+        void copyTo_ShouldWriteSnapshotAtOffset_WhenDestinationHasRoom() {
+            // Given
+            ConcurrentIntSequence sequence = new ConcurrentIntSequence();
+            sequence.appendAll(new int[]{4, 5, 6});
+            int[] destination = new int[5];
+
+            // When
+            int actual = sequence.copyTo(destination, 2);
+
+            // Then
+            then(actual).isEqualTo(3);
+            then(destination).containsExactly(0, 0, 4, 5, 6);
+            then(sequence).hasToString("[4, 5, 6]");
+        }
+
+        @Test
+        void copyTo_ShouldThrowIndexOutOfBoundsException_WhenDestinationIsTooSmall() {
+            // Given
+            ConcurrentIntSequence sequence = new ConcurrentIntSequence();
+            sequence.appendAll(new int[]{4, 5, 6});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> sequence.copyTo(new int[3], 1))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        void toArray_ShouldThrowIndexOutOfBoundsException_WhenRangeExceedsSize() {
+            // Given
+            ConcurrentIntSequence sequence = new ConcurrentIntSequence();
+            sequence.appendAll(new int[]{4, 5, 6});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> sequence.toArray(1, 4))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+}
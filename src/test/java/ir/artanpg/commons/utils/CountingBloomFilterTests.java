@@ -0,0 +1,102 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link CountingBloomFilter} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("CountingBloomFilter")
+class CountingBloomFilterTests {
+
+    @Test
+    void remove_ShouldForgetElement_WhenAllOccurrencesAreRemoved() {
+        // Given
+        CountingBloomFilter<String> filter = CountingBloomFilter.of(100, 0.01);
+        filter.addAll(List.of("a", "a", "b"));
+
+        // When & Then
+        then(filter.approximateCount("a")).isEqualTo(2);
+        then(filter.remove("a")).isTrue();
+        then(filter.mightContain("a")).isTrue();
+        then(filter.remove("a")).isTrue();
+        then(filter.mightContain("a")).isFalse();
+        then(filter.mightContain("b")).isTrue();
+    }
+
+    @Test
+    void remove_ShouldLeaveFilterUnchanged_WhenElementIsAbsent() {
+        // Given
+        CountingBloomFilter<String> filter = CountingBloomFilter.of(100, 0.01);
+        filter.add("a");
+
+        // When
+        boolean actual = filter.remove("z");
+
+        // Then
+        then(actual).isFalse();
+        then(filter.approximateCount("a")).isEqualTo(1);
+    }
+
+    @Test
+    void mightContain_ShouldKeepRemainingElements_WhenOthersAreRemoved() {
+        // Given
+        CountingBloomFilter<Integer> filter = CountingBloomFilter.of(5_000, 0.01);
+        for (int i = 0; i < 5_000; i++) {
+            filter.add(i);
+        }
+
+        // When
+        for (int i = 0; i < 5_000; i += 2) {
+            filter.remove(i);
+        }
+
+        // Then
+        for (int i = 1; i < 5_000; i += 2) {
+            then(filter.mightContain(i)).isTrue();
+        }
+    }
+
+    @Test
+    void add_ShouldSaturateCounters_WhenElementIsAddedTooOften() {
+        // Given
+        CountingBloomFilter<String> filter = CountingBloomFilter.of(10, 0.01);
+        for (int i = 0; i < 300; i++) {
+            filter.add("a");
+        }
+
+        // When
+        for (int i = 0; i < 300; i++) {
+            filter.remove("a");
+        }
+
+        // Then
+        then(filter.approximateCount("a")).isEqualTo(255);
+    }
+
+    @Test
+    void of_ShouldThrowException_WhenRateIsInvalid() {
+        // When & Then
+        thenException()
+                .isThrownBy(() -> CountingBloomFilter.of(10, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .withMessage("The false positive rate must be between 0 and 1");
+    }
+
+    @Test
+    void toString_ShouldShowSize_WhenCalled() {
+        // Given
+        CountingBloomFilter<String> filter = CountingBloomFilter.of(0, 0.5);
+
+        // When & Then
+        then(filter.size()).isEqualTo(64);
+        then(filter).hasToString("CountingBloomFilter{size=64, hashCount=1}");
+    }
+}
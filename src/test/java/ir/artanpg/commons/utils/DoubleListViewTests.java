@@ -0,0 +1,207 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link DoubleListView} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("DoubleListView")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class DoubleListViewTests {
+
+    @Nested
+    @DisplayName("get(int) and set(int, Double)")
+    class Access {
+
+        @Test
+        void get_ShouldReadBackingArray_WhenArrayChanges() {
+            // Given
+            double[] array = new double[]{1.0, 2.0, 3.0};
+            DoubleListView view = ArrayUtils.asUnmodifiableList(array);
+
+            // When
+            array[2] = 7.0;
+
+            // Then
+            then(view.get(2)).isEqualTo(7.0);
+            then(view.getDouble(2)).isEqualTo(7.0);
+        }
+
+        @Test
+        void get_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfRange() {
+            // Given
+            DoubleListView view = ArrayUtils.asList(new double[]{1.0, 2.0, 3.0});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.getDouble(3))
+                    .isInstanceOf(IndexOutOfBoundsException.class)
+                    .withMessage("Index 3 out of bounds for length 3");
+        }
+
+        @Test
+        void set_ShouldReturnPreviousElement_WhenViewIsWritable() {
+            // Given
+            double[] array = new double[]{1.0, 2.0, 3.0};
+            DoubleListView view = ArrayUtils.asList(array);
+
+            // When
+            double actual = view.setDouble(0, 5.0);
+
+            // Then
+            then(actual).isEqualTo(1.0);
+            then(array).containsExactly(5.0, 2.0, 3.0);
+        }
+
+        @Test
+        void add_ShouldThrowUnsupportedOperationException_WhenViewIsFixedSize() {
+            // Given
+            DoubleListView view = ArrayUtils.asList(new double[]{1.0});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.add(2.0))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("indexOf(Object) and lastIndexOf(Object)")
+    class Search {
+
+        @Test
+        void indexOf_ShouldFindFirstAndLastOccurrence_WhenElementIsPresent() {
+            // Given
+            DoubleListView view = ArrayUtils.asList(new double[]{4.0, 5.0, 4.0});
+
+            // When & Then
+            then(view.indexOf(4.0)).isZero();
+            then(view.lastIndexOf(4.0)).isEqualTo(2);
+            then(view.contains(5.0)).isTrue();
+        }
+
+        @Test
+        void indexOf_ShouldReturnMinusOne_WhenElementHasOtherType() {
+            // Given
+            DoubleListView view = ArrayUtils.asList(new double[]{4.0, 5.0, 4.0});
+
+            // When & Then
+            then(view.indexOf(4L)).isEqualTo(-1);
+            then(view.contains(null)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("subList(int, int)")
+    class SubList {
+
+        @Test
+        void subList_ShouldViewSameArray_WhenRangeIsValid() {
+            // Given
+            double[] array = new double[]{1.0, 2.0, 3.0, 4.0};
+            DoubleListView view = ArrayUtils.asList(array);
+
+            // When
+            DoubleListView actual = view.subList(1, 3);
+            actual.setDouble(0, 9.0);
+
+            // Then
+            then(actual).containsExactly(9.0, 3.0);
+            then(array).containsExactly(1.0, 9.0, 3.0, 4.0);
+            then(actual.toDoubleArray()).containsExactly(9.0, 3.0);
+        }
+
+        @Test
+        void subList_ShouldThrowIndexOutOfBoundsException_WhenRangeIsInvalid() {
+            // Given
+            DoubleListView view = ArrayUtils.asList(new double[]{1.0, 2.0});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.subList(1, 3))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        void subList_ShouldStayReadOnly_WhenViewIsReadOnly() {
+            // Given
+            DoubleListView view = ArrayUtils.asUnmodifiableList(new double[]{1.0, 2.0});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.subList(0, 1).set(0, 3.0))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("copyTo(double[], int)")
+    class CopyTo {
+
+        @Test
+        void copyTo_ShouldWriteElementsAtOffset_WhenDestinationHasRoom() {
+            // Given
+            DoubleListView view = ArrayUtils.asList(new double[]{1.0, 2.0});
+            double[] destination = new double[4];
+
+            // When
+            int actual = view.copyTo(destination, 1);
+
+            // Then
+            then(actual).isEqualTo(2);
+            then(destination).containsExactly(0.0, 1.0, 2.0, 0.0);
+        }
+
+        @Test
+        void copyTo_ShouldThrowIndexOutOfBoundsException_WhenDestinationIsTooSmall() {
+            // Given
+            DoubleListView view = ArrayUtils.asList(new double[]{1.0, 2.0});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.copyTo(new double[2], 1))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        void copyTo_ShouldThrowIllegalArgumentException_WhenDestinationIsNull() {
+            // Given
+            DoubleListView view = ArrayUtils.asList(new double[]{1.0, 2.0});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.copyTo(null, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The destination array cannot be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("equals(Object) and hashCode()")
+    class Equality {
+
+        @Test
+        void equals_ShouldMatchBoxedList_WhenElementsAreEqual() {
+            // Given
+            DoubleListView view = ArrayUtils.asList(new double[]{1.0, 2.0, 3.0});
+            List<Double> boxed = new ArrayList<>(List.of(1.0, 2.0, 3.0));
+
+            // When & Then
+            then(view).isEqualTo(boxed);
+            then(boxed).isEqualTo(view);
+            then(view.hashCode()).isEqualTo(boxed.hashCode());
+            then(view).isEqualTo(ArrayUtils.asUnmodifiableList(new double[]{0.0, 1.0, 2.0, 3.0}).subList(1, 4));
+            then(view.toArray()).containsExactly(1.0, 2.0, 3.0);
+        }
+    }
+}
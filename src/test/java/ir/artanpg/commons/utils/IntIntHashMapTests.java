@@ -0,0 +1,241 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link IntIntHashMap} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("IntIntHashMap")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class IntIntHashMapTests {
+
+    @Nested
+    @DisplayName("IntIntHashMap(int)")
+    class Constructor {
+
+        @Test
+        void constructor_ShouldThrowIllegalArgumentException_WhenExpectedSizeIsNegative() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> new IntIntHashMap(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The expected size cannot be negative");
+        }
+
+        @Test
+        void constructor_ShouldCreateEmptyMap_WhenExpectedSizeIsProvided() {
+            // When
+            IntIntHashMap actual = new IntIntHashMap(100);
+
+            // Then
+            then(actual.isEmpty()).isTrue();
+            then(actual.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("put(int, int) and get(int)")
+    class PutAndGet {
+
+        @Test
+        void get_ShouldReturnZero_WhenKeyIsAbsent() {
+            // Given
+            IntIntHashMap map = new IntIntHashMap();
+
+            // When
+            int actual = map.get(42);
+
+            // Then
+            then(actual).isZero();
+            then(map.getOrDefault(42, -1)).isEqualTo(-1);
+            then(map.containsKey(42)).isFalse();
+        }
+
+        @Test
+        void put_ShouldReplaceValue_WhenKeyIsPresent() {
+            // Given
+            IntIntHashMap map = new IntIntHashMap();
+            map.put(7, 1);
+
+            // When
+            map.put(7, 2);
+
+            // Then
+            then(map.get(7)).isEqualTo(2);
+            then(map.size()).isEqualTo(1);
+        }
+
+        @Test
+        void put_ShouldStoreZeroKey_WhenKeyIsZero() {
+            // Given
+            IntIntHashMap map = new IntIntHashMap();
+
+            // When
+            map.put(0, 5);
+
+            // Then
+            then(map.containsKey(0)).isTrue();
+            then(map.get(0)).isEqualTo(5);
+            then(map.size()).isEqualTo(1);
+            then(map.keys()).containsExactly(0);
+        }
+
+        @Test
+        void put_ShouldKeepAllEntries_WhenMapGrows() {
+            // Given
+            IntIntHashMap map = new IntIntHashMap();
+
+            // When
+            for (int i = -500; i < 500; i++) {
+                map.put(i * 31, i);
+            }
+
+            // Then
+            then(map.size()).isEqualTo(1000);
+            for (int i = -500; i < 500; i++) {
+                then(map.get(i * 31)).isEqualTo(i);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("addTo(int, int)")
+    class AddTo {
+
+        @Test
+        void addTo_ShouldStartFromZero_WhenKeyIsAbsent() {
+            // Given
+            IntIntHashMap map = new IntIntHashMap();
+
+            // When
+            int first = map.addTo(3, 1);
+            int second = map.addTo(3, 4);
+            int zero = map.addTo(0, 2);
+
+            // Then
+            then(first).isEqualTo(1);
+            then(second).isEqualTo(5);
+            then(zero).isEqualTo(2);
+            then(map.size()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("remove(int)")
+    class Remove {
+
+        @Test
+        void remove_ShouldReturnFalse_WhenKeyIsAbsent() {
+            // Given
+            IntIntHashMap map = new IntIntHashMap();
+            map.put(1, 1);
+
+            // When
+            boolean actual = map.remove(2);
+
+            // Then
+            then(actual).isFalse();
+            then(map.size()).isEqualTo(1);
+        }
+
+        @Test
+        void remove_ShouldRemoveZeroKey_WhenKeyIsZero() {
+            // Given
+            IntIntHashMap map = new IntIntHashMap();
+            map.put(0, 1);
+
+            // When
+            boolean actual = map.remove(0);
+
+            // Then
+            then(actual).isTrue();
+            then(map.containsKey(0)).isFalse();
+            then(map.isEmpty()).isTrue();
+        }
+
+        @Test
+        void remove_ShouldKeepOtherKeysReachable_WhenRandomKeysAreRemoved() {
+            // Given
+            IntIntHashMap map = new IntIntHashMap();
+            Map<Integer, Integer> expected = new HashMap<>();
+            Random random = new Random(42);
+
+            // When
+            for (int i = 0; i < 5000; i++) {
+                int key = random.nextInt(512);
+                if (random.nextBoolean()) {
+                    map.put(key, i);
+                    expected.put(key, i);
+                } else {
+                    then(map.remove(key)).isEqualTo(expected.remove(key) != null);
+                }
+            }
+
+            // Then
+            then(map.size()).isEqualTo(expected.size());
+            expected.forEach((key, value) -> then(map.get(key)).isEqualTo(value));
+        }
+    }
+
+    @Nested
+    @DisplayName("keys(), forEach(EntryConsumer) and clear()")
+    class Iteration {
+
+        @Test
+        void forEach_ShouldVisitEveryEntry_WhenMapIsNotEmpty() {
+            // Given
+            IntIntHashMap map = new IntIntHashMap();
+            map.put(0, 10);
+            map.put(1, 11);
+            map.put(-1, 9);
+            Map<Integer, Integer> actual = new HashMap<>();
+
+            // When
+            map.forEach(actual::put);
+
+            // Then
+            then(actual).containsOnly(Map.entry(0, 10), Map.entry(1, 11), Map.entry(-1, 9));
+            then(map.keys()).containsExactlyInAnyOrder(0, 1, -1);
+        }
+
+        @Test
+        void forEach_ShouldThrowIllegalArgumentException_WhenActionIsNull() {
+            // Given
+            IntIntHashMap map = new IntIntHashMap();
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> map.forEach(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The action cannot be null");
+        }
+
+        @Test
+        void clear_ShouldRemoveAllEntries_WhenMapIsNotEmpty() {
+            // Given
+            IntIntHashMap map = new IntIntHashMap();
+            map.put(0, 1);
+            map.put(5, 1);
+
+            // When
+            map.clear();
+
+            // Then
+            then(map.isEmpty()).isTrue();
+            then(map.containsKey(5)).isFalse();
+            then(map.keys()).isEmpty();
+            then(map).hasToString("{}");
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link IntListView} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("IntListView")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class IntListViewTests {
+
+    @Nested
+    @DisplayName("get(int) and set(int, Integer)")
+    class Access {
+
+        @Test
+        void get_ShouldReadBackingArray_WhenArrayChanges() {
+            // Given
+            int[] array = new int[]{1, 2, 3};
+            IntListView view = ArrayUtils.asUnmodifiableList(array);
+
+            // When
+            array[2] = 7;
+
+            // Then
+            then(view.get(2)).isEqualTo(7);
+            then(view.getInt(2)).isEqualTo(7);
+        }
+
+        @Test
+        void get_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfRange() {
+            // Given
+            IntListView view = ArrayUtils.asList(new int[]{1, 2, 3});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.getInt(3))
+                    .isInstanceOf(IndexOutOfBoundsException.class)
+                    .withMessage("Index 3 out of bounds for length 3");
+        }
+
+        @Test
+        void set_ShouldReturnPreviousElement_WhenViewIsWritable() {
+            // Given
+            int[] array = new int[]{1, 2, 3};
+            IntListView view = ArrayUtils.asList(array);
+
+            // When
+            int actual = view.setInt(0, 5);
+
+            // Then
+            then(actual).isEqualTo(1);
+            then(array).containsExactly(5, 2, 3);
+        }
+
+        @Test
+        void add_ShouldThrowUnsupportedOperationException_WhenViewIsFixedSize() {
+            // Given
+            IntListView view = ArrayUtils.asList(new int[]{1});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.add(2))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("indexOf(Object) and lastIndexOf(Object)")
+    class Search {
+
+        @Test
+        void indexOf_ShouldFindFirstAndLastOccurrence_WhenElementIsPresent() {
+            // Given
+            IntListView view = ArrayUtils.asList(new int[]{4, 5, 4});
+
+            // When & Then
+            then(view.indexOf(4)).isZero();
+            then(view.lastIndexOf(4)).isEqualTo(2);
+            then(view.contains(5)).isTrue();
+        }
+
+        @Test
+        void indexOf_ShouldReturnMinusOne_WhenElementHasOtherType() {
+            // Given
+            IntListView view = ArrayUtils.asList(new int[]{4, 5, 4});
+
+            // When & Then
+            then(view.indexOf(4L)).isEqualTo(-1);
+            then(view.contains(null)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("subList(int, int)")
+    class SubList {
+
+        @Test
+        void subList_ShouldViewSameArray_WhenRangeIsValid() {
+            // Given
+            int[] array = new int[]{1, 2, 3, 4};
+            IntListView view = ArrayUtils.asList(array);
+
+            // When
+            IntListView actual = view.subList(1, 3);
+            actual.setInt(0, 9);
+
+            // Then
+            then(actual).containsExactly(9, 3);
+            then(array).containsExactly(1, 9, 3, 4);
+            then(actual.toIntArray()).containsExactly(9, 3);
+        }
+
+        @Test
+        void subList_ShouldThrowIndexOutOfBoundsException_WhenRangeIsInvalid() {
+            // Given
+            IntListView view = ArrayUtils.asList(new int[]{1, 2});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.subList(1, 3))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        void subList_ShouldStayReadOnly_WhenViewIsReadOnly() {
+            // Given
+            IntListView view = ArrayUtils.asUnmodifiableList(new int[]{1, 2});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.subList(0, 1).set(0, 3))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("copyTo(int[], int)")
+    class CopyTo {
+
+        @Test
+        void copyTo_ShouldWriteElementsAtOffset_WhenDestinationHasRoom() {
+            // Given
+            IntListView view = ArrayUtils.asList(new int[]{1, 2});
+            int[] destination = new int[4];
+
+            // When
+            int actual = view.copyTo(destination, 1);
+
+            // Then
+            then(actual).isEqualTo(2);
+            then(destination).containsExactly(0, 1, 2, 0);
+        }
+
+        @Test
+        void copyTo_ShouldThrowIndexOutOfBoundsException_WhenDestinationIsTooSmall() {
+            // Given
+            IntListView view = ArrayUtils.asList(new int[]{1, 2});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.copyTo(new int[2], 1))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        void copyTo_ShouldThrowIllegalArgumentException_WhenDestinationIsNull() {
+            // Given
+            IntListView view = ArrayUtils.asList(new int[]{1, 2});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.copyTo(null, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The destination array cannot be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("equals(Object) and hashCode()")
+    class Equality {
+
+        @Test
+        void equals_ShouldMatchBoxedList_WhenElementsAreEqual() {
+            // Given
+            IntListView view = ArrayUtils.asList(new int[]{1, 2, 3});
+            List<Integer> boxed = new ArrayList<>(List.of(1, 2, 3));
+
+            // When & Then
+            then(view).isEqualTo(boxed);
+            then(boxed).isEqualTo(view);
+            then(view.hashCode()).isEqualTo(boxed.hashCode());
+            then(view).isEqualTo(ArrayUtils.asUnmodifiableList(new int[]{0, 1, 2, 3}).subList(1, 4));
+            then(view.toArray()).containsExactly(1, 2, 3);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link LazyCollection} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("LazyCollection")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class LazyCollectionTests {
+
+    @Nested
+    @DisplayName("transform(Function) and filter(Predicate)")
+    class Chaining {
+
+        @Test
+        void transform_ShouldApplyFunctionOnlyToReadElements_WhenIteratedPartially() {
+            // Given
+            AtomicInteger calls = new AtomicInteger();
+            LazyCollection<Integer> view = CollectionUtils.transformView(Set.of("a", "bb", "ccc"),
+                    s -> calls.incrementAndGet() + s.length());
+
+            // When
+            Iterator<Integer> iterator = view.iterator();
+            iterator.next();
+
+            // Then
+            then(calls).hasValue(1);
+            then(view.size()).isEqualTo(3);
+            then(calls).hasValue(1);
+        }
+
+        @Test
+        void filter_ShouldStopAtFirstMatch_WhenOnlyFirstElementIsRead() {
+            // Given
+            AtomicInteger tests = new AtomicInteger();
+            LazyCollection<Integer> view = CollectionUtils.filterView(List.of(1, 2, 3, 4, 5, 6), i -> {
+                tests.incrementAndGet();
+                return i % 2 == 0;
+            });
+
+            // When
+            Integer first = view.iterator().next();
+
+            // Then
+            then(first).isEqualTo(2);
+            then(tests).hasValue(2);
+        }
+
+        @Test
+        void chain_ShouldComposeSteps_WhenTransformAndFilterAreMixed() {
+            // Given
+            List<String> source = List.of("apple", "fig", "banana", "kiwi", "cherry");
+
+            // When
+            LazyCollection<String> view = CollectionUtils.filterView(source, s -> s.length() > 3)
+                    .transform(String::toUpperCase)
+                    .filter(s -> s.indexOf('A') >= 0);
+
+            // Then
+            then(view).containsExactly("APPLE", "BANANA");
+            then(view.size()).isEqualTo(2);
+            then(view.isEmpty()).isFalse();
+        }
+
+        @Test
+        void filter_ShouldReflectSourceChanges_WhenIteratedAgain() {
+            // Given
+            List<Integer> source = new ArrayList<>(List.of(1, 2));
+            LazyCollection<Integer> view = CollectionUtils.filterView(source, i -> i > 1);
+
+            // When
+            source.add(3);
+
+            // Then
+            then(view).containsExactly(2, 3);
+        }
+
+        @Test
+        void filter_ShouldThrowNoSuchElementException_WhenNothingMatches() {
+            // Given
+            LazyCollection<Integer> view = CollectionUtils.filterView(List.of(1, 3), i -> i % 2 == 0);
+
+            // When & Then
+            then(view.isEmpty()).isTrue();
+            thenException()
+                    .isThrownBy(() -> view.iterator().next())
+                    .isInstanceOf(NoSuchElementException.class);
+        }
+
+        @Test
+        void transform_ShouldThrowIllegalArgumentException_WhenTransformerIsNull() {
+            // Given
+            LazyCollection<Integer> view = CollectionUtils.filterView(List.of(1), i -> true);
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.transform(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The transformer cannot be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("materialize()")
+    class Materialize {
+
+        @Test
+        void materialize_ShouldEvaluateOnce_WhenCopied() {
+            // Given
+            AtomicInteger calls = new AtomicInteger();
+            LazyCollection<Integer> view = CollectionUtils.transformView(Set.of(1, 2, 3), i -> {
+                calls.incrementAndGet();
+                return i * 10;
+            });
+
+            // When
+            List<Integer> actual = view.materialize();
+            actual.add(40);
+
+            // Then
+            then(actual).containsExactlyInAnyOrder(10, 20, 30, 40);
+            then(calls).hasValue(3);
+        }
+
+        @Test
+        void materialize_ShouldReturnEmptyList_WhenSourceIsNull() {
+            // When
+            List<String> actual = CollectionUtils.filterView((List<String>) null, s -> true).materialize();
+
+            // Then
+            then(actual).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link LazyList} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("LazyList")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class LazyListTests {
+
+    @Nested
+    @DisplayName("get(int), size() and iterator()")
+    class Access {
+
+        @Test
+        void get_ShouldApplyFunctionOnlyToReadElement_WhenIndexed() {
+            // Given
+            AtomicInteger calls = new AtomicInteger();
+            LazyList<Integer> view = CollectionUtils.transformView(List.of("a", "bb", "ccc"), s -> {
+                calls.incrementAndGet();
+                return s.length();
+            });
+
+            // When
+            Integer actual = view.get(2);
+
+            // Then
+            then(actual).isEqualTo(3);
+            then(calls).hasValue(1);
+            then(view.size()).isEqualTo(3);
+        }
+
+        @Test
+        void transformView_ShouldPreserveRandomAccess_WhenSourceSupportsIt() {
+            // Given
+            List<String> arrayList = new ArrayList<>(List.of("a"));
+            List<String> linkedList = new LinkedList<>(List.of("a"));
+
+            // When
+            LazyList<Integer> randomAccess = CollectionUtils.transformView(arrayList, String::length);
+            LazyList<Integer> sequential = CollectionUtils.transformView(linkedList, String::length);
+
+            // Then
+            then(randomAccess).isInstanceOf(RandomAccess.class);
+            then(sequential).isNotInstanceOf(RandomAccess.class);
+            then(sequential).containsExactly(1);
+        }
+
+        @Test
+        void get_ShouldReflectSourceChanges_WhenSourceIsModified() {
+            // Given
+            List<Integer> source = new ArrayList<>(List.of(1, 2));
+            LazyList<Integer> view = CollectionUtils.transformView(source, i -> -i);
+
+            // When
+            source.set(0, 5);
+            source.add(7);
+
+            // Then
+            then(view).containsExactly(-5, -2, -7);
+            then(view.subList(1, 3)).containsExactly(-2, -7);
+        }
+
+        @Test
+        void set_ShouldThrowUnsupportedOperationException_WhenViewIsModified() {
+            // Given
+            LazyList<Integer> view = CollectionUtils.transformView(List.of(1), i -> i);
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.set(0, 2))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("transform(Function), filter(Predicate) and materialize()")
+    class Chaining {
+
+        @Test
+        void transform_ShouldFuseFunctions_WhenChained() {
+            // Given
+            LinkedList<Integer> source = new LinkedList<>(List.of(1, 2, 3));
+
+            // When
+            LazyList<String> view = CollectionUtils.transformView(source, i -> i * 2).transform(i -> "#" + i);
+
+            // Then
+            then(view).containsExactly("#2", "#4", "#6");
+            then(view).isNotInstanceOf(RandomAccess.class);
+            then(view.get(1)).isEqualTo("#4");
+        }
+
+        @Test
+        void filter_ShouldReturnMatchingElements_WhenChainedOnList() {
+            // When
+            LazyCollection<Integer> view = CollectionUtils.transformView(List.of("a", "bb", "ccc"), String::length)
+                    .filter(i -> i != 2);
+
+            // Then
+            then(view).containsExactly(1, 3);
+        }
+
+        @Test
+        void materialize_ShouldReturnIndependentCopy_WhenCalled() {
+            // Given
+            List<Integer> source = new ArrayList<>(List.of(1, 2));
+            LazyList<Integer> view = CollectionUtils.transformView(source, i -> i + 1);
+
+            // When
+            List<Integer> actual = view.materialize();
+            source.clear();
+
+            // Then
+            then(actual).containsExactly(2, 3);
+            then(view).isEmpty();
+        }
+
+        @Test
+        void transform_ShouldThrowIllegalArgumentException_WhenTransformerIsNull() {
+            // Given
+            LazyList<Integer> view = CollectionUtils.transformView(List.of(1), i -> i);
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.transform(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The transformer cannot be null");
+        }
+    }
+}
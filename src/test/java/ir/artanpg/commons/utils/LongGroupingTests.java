@@ -0,0 +1,140 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link LongGrouping} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("LongGrouping")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class LongGroupingTests {
+
+    private final List<String> words = List.of("pear", "fig", "plum", "kiwi", "apple", "date", "lime");
+
+    @Nested
+    @DisplayName("get(long), count(long) and indexes(long)")
+    class Lookup {
+
+        @Test
+        void get_ShouldReturnGroupInSourceOrder_WhenKeyIsPresent() {
+            // Given
+            LongGrouping<String> grouping = CollectionUtils.groupByLong(words, String::length);
+
+            // When
+            List<String> actual = grouping.get(4);
+
+            // Then
+            then(actual).containsExactly("pear", "plum", "kiwi", "date", "lime");
+            then(grouping.count(4)).isEqualTo(5);
+            then(grouping.indexes(4)).containsExactly(0, 2, 3, 5, 6);
+        }
+
+        @Test
+        void get_ShouldReturnEmptyGroup_WhenKeyIsAbsent() {
+            // Given
+            LongGrouping<String> grouping = CollectionUtils.groupByLong(words, String::length);
+
+            // When & Then
+            then(grouping.get(9)).isEmpty();
+            then(grouping.count(9)).isZero();
+            then(grouping.indexes(9)).isEmpty();
+            then(grouping.containsKey(9)).isFalse();
+        }
+
+        @Test
+        void get_ShouldSupportZeroAndNegativeKeys_WhenKeysAreExtracted() {
+            // Given
+            List<Long> numbers = List.of(0L, -3L, Long.MAX_VALUE, 0L, -3L);
+
+            // When
+            LongGrouping<Long> grouping = CollectionUtils.groupByLong(numbers, Long::longValue);
+
+            // Then
+            then(grouping.get(0)).containsExactly(0L, 0L);
+            then(grouping.get(-3)).containsExactly(-3L, -3L);
+            then(grouping.keys()).containsExactly(0L, -3L, Long.MAX_VALUE);
+        }
+
+        @Test
+        void get_ShouldReturnReadOnlyGroup_WhenModified() {
+            // Given
+            List<String> group = CollectionUtils.groupByLong(words, String::length).get(3);
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> group.add("x"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            thenException()
+                    .isThrownBy(() -> group.get(1))
+                    .isInstanceOf(IndexOutOfBoundsException.class)
+                    .withMessage("Index 1 out of bounds for length 1");
+        }
+    }
+
+    @Nested
+    @DisplayName("keys(), groupCount(), forEach(ObjLongConsumer) and toMap()")
+    class Groups {
+
+        @Test
+        void keys_ShouldFollowFirstOccurrence_WhenSourceHasSeveralGroups() {
+            // When
+            LongGrouping<String> grouping = CollectionUtils.groupByLong(words, String::length);
+
+            // Then
+            then(grouping.keys()).containsExactly(4L, 3L, 5L);
+            then(grouping.groupCount()).isEqualTo(3);
+            then(grouping.size()).isEqualTo(words.size());
+            then(grouping).hasToString("{4=[pear, plum, kiwi, date, lime], 3=[fig], 5=[apple]}");
+        }
+
+        @Test
+        void toMap_ShouldMatchGroupBy_WhenSourceIsLarge() {
+            // Given
+            List<Integer> numbers = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                numbers.add((i * 31) % 997);
+            }
+
+            // When
+            Map<Long, List<Integer>> actual = CollectionUtils.groupByLong(numbers, i -> i % 13L).toMap();
+
+            // Then
+            then(actual).isEqualTo(CollectionUtils.groupBy(numbers, (Function<Integer, Long>) i -> i % 13L));
+        }
+
+        @Test
+        void forEach_ShouldThrowIllegalArgumentException_WhenActionIsNull() {
+            // Given
+            LongGrouping<String> grouping = CollectionUtils.groupByLong(words, String::length);
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> grouping.forEach(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The action cannot be null");
+        }
+
+        @Test
+        void groupByLong_ShouldReturnEmptyGrouping_WhenSourceIsNull() {
+            // When
+            LongGrouping<String> grouping = CollectionUtils.groupByLong(null, String::length);
+
+            // Then
+            then(grouping.isEmpty()).isTrue();
+            then(grouping.keys()).isEmpty();
+            then(grouping).hasToString("{}");
+        }
+    }
+}
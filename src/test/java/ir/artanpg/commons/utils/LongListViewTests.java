@@ -0,0 +1,207 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link LongListView} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("LongListView")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class LongListViewTests {
+
+    @Nested
+    @DisplayName("get(int) and set(int, Long)")
+    class Access {
+
+        @Test
+        void get_ShouldReadBackingArray_WhenArrayChanges() {
+            // Given
+            long[] array = new long[]{1L, 2L, 3L};
+            LongListView view = ArrayUtils.asUnmodifiableList(array);
+
+            // When
+            array[2] = 7L;
+
+            // Then
+            then(view.get(2)).isEqualTo(7L);
+            then(view.getLong(2)).isEqualTo(7L);
+        }
+
+        @Test
+        void get_ShouldThrowIndexOutOfBoundsException_WhenIndexIsOutOfRange() {
+            // Given
+            LongListView view = ArrayUtils.asList(new long[]{1L, 2L, 3L});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.getLong(3))
+                    .isInstanceOf(IndexOutOfBoundsException.class)
+                    .withMessage("Index 3 out of bounds for length 3");
+        }
+
+        @Test
+        void set_ShouldReturnPreviousElement_WhenViewIsWritable() {
+            // Given
+            long[] array = new long[]{1L, 2L, 3L};
+            LongListView view = ArrayUtils.asList(array);
+
+            // When
+            long actual = view.setLong(0, 5L);
+
+            // Then
+            then(actual).isEqualTo(1L);
+            then(array).containsExactly(5L, 2L, 3L);
+        }
+
+        @Test
+        void add_ShouldThrowUnsupportedOperationException_WhenViewIsFixedSize() {
+            // Given
+            LongListView view = ArrayUtils.asList(new long[]{1L});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.add(2L))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("indexOf(Object) and lastIndexOf(Object)")
+    class Search {
+
+        @Test
+        void indexOf_ShouldFindFirstAndLastOccurrence_WhenElementIsPresent() {
+            // Given
+            LongListView view = ArrayUtils.asList(new long[]{4L, 5L, 4L});
+
+            // When & Then
+            then(view.indexOf(4L)).isZero();
+            then(view.lastIndexOf(4L)).isEqualTo(2);
+            then(view.contains(5L)).isTrue();
+        }
+
+        @Test
+        void indexOf_ShouldReturnMinusOne_WhenElementHasOtherType() {
+            // Given
+            LongListView view = ArrayUtils.asList(new long[]{4L, 5L, 4L});
+
+            // When & Then
+            then(view.indexOf(4)).isEqualTo(-1);
+            then(view.contains(null)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("subList(int, int)")
+    class SubList {
+
+        @Test
+        void subList_ShouldViewSameArray_WhenRangeIsValid() {
+            // Given
+            long[] array = new long[]{1L, 2L, 3L, 4L};
+            LongListView view = ArrayUtils.asList(array);
+
+            // When
+            LongListView actual = view.subList(1, 3);
+            actual.setLong(0, 9L);
+
+            // Then
+            then(actual).containsExactly(9L, 3L);
+            then(array).containsExactly(1L, 9L, 3L, 4L);
+            then(actual.toLongArray()).containsExactly(9L, 3L);
+        }
+
+        @Test
+        void subList_ShouldThrowIndexOutOfBoundsException_WhenRangeIsInvalid() {
+            // Given
+            LongListView view = ArrayUtils.asList(new long[]{1L, 2L});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.subList(1, 3))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        void subList_ShouldStayReadOnly_WhenViewIsReadOnly() {
+            // Given
+            LongListView view = ArrayUtils.asUnmodifiableList(new long[]{1L, 2L});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.subList(0, 1).set(0, 3L))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("copyTo(long[], int)")
+    class CopyTo {
+
+        @Test
+        void copyTo_ShouldWriteElementsAtOffset_WhenDestinationHasRoom() {
+            // Given
+            LongListView view = ArrayUtils.asList(new long[]{1L, 2L});
+            long[] destination = new long[4];
+
+            // When
+            int actual = view.copyTo(destination, 1);
+
+            // Then
+            then(actual).isEqualTo(2);
+            then(destination).containsExactly(0L, 1L, 2L, 0L);
+        }
+
+        @Test
+        void copyTo_ShouldThrowIndexOutOfBoundsException_WhenDestinationIsTooSmall() {
+            // Given
+            LongListView view = ArrayUtils.asList(new long[]{1L, 2L});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.copyTo(new long[2], 1))
+                    .isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        void copyTo_ShouldThrowIllegalArgumentException_WhenDestinationIsNull() {
+            // Given
+            LongListView view = ArrayUtils.asList(new long[]{1L, 2L});
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> view.copyTo(null, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The destination array cannot be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("equals(Object) and hashCode()")
+    class Equality {
+
+        @Test
+        void equals_ShouldMatchBoxedList_WhenElementsAreEqual() {
+            // Given
+            LongListView view = ArrayUtils.asList(new long[]{1L, 2L, 3L});
+            List<Long> boxed = new ArrayList<>(List.of(1L, 2L, 3L));
+
+            // When & Then
+            then(view).isEqualTo(boxed);
+            then(boxed).isEqualTo(view);
+            then(view.hashCode()).isEqualTo(boxed.hashCode());
+            then(view).isEqualTo(ArrayUtils.asUnmodifiableList(new long[]{0L, 1L, 2L, 3L}).subList(1, 4));
+            then(view.toArray()).containsExactly(1L, 2L, 3L);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * Unit tests for the {@link MembershipIndex} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("MembershipIndex")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class MembershipIndexTests {
+
+    @Nested
+    @DisplayName("contains(Object)")
+    class Contains {
+
+        @Test
+        void contains_ShouldFindElements_WhenSourceIsSmallList() {
+            // Given
+            MembershipIndex<String> index = CollectionUtils.index(Arrays.asList("a", null, "b"));
+
+            // When & Then
+            then(index.contains("a")).isTrue();
+            then(index.contains(null)).isTrue();
+            then(index.contains("c")).isFalse();
+        }
+
+        @Test
+        void contains_ShouldFindElements_WhenSourceIsLargeList() {
+            // Given
+            List<Integer> source = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+            MembershipIndex<Integer> index = CollectionUtils.index(source);
+
+            // When & Then
+            then(index.contains(999)).isTrue();
+            then(index.contains(1000)).isFalse();
+        }
+
+        @Test
+        void contains_ShouldReturnFalse_WhenSourceIsNull() {
+            // Given
+            MembershipIndex<String> index = CollectionUtils.index(null);
+
+            // When & Then
+            then(index.contains("a")).isFalse();
+            then(index.find("a")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("snapshot semantics")
+    class Snapshot {
+
+        @Test
+        void index_ShouldIgnoreLaterChanges_WhenSourceIsCopied() {
+            // Given
+            List<String> source = new ArrayList<>(List.of("a", "b"));
+            MembershipIndex<String> index = CollectionUtils.index(source);
+
+            // When
+            source.add("c");
+
+            // Then
+            then(index.contains("c")).isFalse();
+        }
+
+        @Test
+        void index_ShouldSeeLaterChanges_WhenSourceIsSet() {
+            // Given
+            Set<String> source = new HashSet<>(Set.of("a", "b"));
+            MembershipIndex<String> index = CollectionUtils.index(source);
+
+            // When
+            source.add("c");
+
+            // Then
+            then(index.contains("c")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("containsAny(Collection), find(T) and findFirst(Collection)")
+    class Lookups {
+
+        @Test
+        void containsAny_ShouldReturnTrue_WhenAnyCandidateIsIndexed() {
+            // Given
+            MembershipIndex<String> index = CollectionUtils.index(List.of("a", "b"));
+
+            // When & Then
+            then(index.containsAny(List.of("x", "b"))).isTrue();
+            then(index.containsAny(List.of("x", "y"))).isFalse();
+            then(index.containsAny(null)).isFalse();
+        }
+
+        @Test
+        void findFirst_ShouldReturnFirstIndexedCandidate_WhenCandidatesMatch() {
+            // Given
+            MembershipIndex<String> index = CollectionUtils.index(List.of("a", "b", "c"));
+
+            // When
+            Optional<String> actual = index.findFirst(List.of("x", "c", "b"));
+
+            // Then
+            then(actual).contains("c");
+            then(index.find("b")).contains("b");
+            then(index.find(null)).isEmpty();
+        }
+    }
+}
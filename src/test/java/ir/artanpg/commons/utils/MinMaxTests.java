@@ -0,0 +1,44 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * Unit tests for the {@link MinMax} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("MinMax")
+class MinMaxTests {
+
+    @Test
+    void accessors_ShouldReturnElements_WhenCreated() {
+        // Given
+        MinMax<String> actual = new MinMax<>("a", "z");
+
+        // When & Then
+        then(actual.min()).isEqualTo("a");
+        then(actual.max()).isEqualTo("z");
+    }
+
+    @Test
+    void equals_ShouldCompareBothElements_WhenOtherIsMinMax() {
+        // Given
+        MinMax<String> actual = new MinMax<>("a", "z");
+
+        // When & Then
+        then(actual)
+                .isEqualTo(new MinMax<>("a", "z"))
+                .hasSameHashCodeAs(new MinMax<>("a", "z"))
+                .isNotEqualTo(new MinMax<>("a", "y"))
+                .isNotEqualTo(new MinMax<>(null, "z"));
+    }
+
+    @Test
+    void toString_ShouldShowBothElements_WhenCalled() {
+        // When & Then
+        then(new MinMax<>(1, 9)).hasToString("MinMax{min=1, max=9}");
+    }
+}
@@ -0,0 +1,178 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link Multiset} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("Multiset")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class MultisetTests {
+
+    @Nested
+    @DisplayName("of(Collection), add(T, int) and remove(Object, int)")
+    class Counting {
+
+        @Test
+        void of_ShouldCountDuplicates_WhenSourceHasRepeatedElements() {
+            // When
+            Multiset<String> actual = Multiset.of(Arrays.asList("a", "b", "a", null, "a"));
+
+            // Then
+            then(actual.count("a")).isEqualTo(3);
+            then(actual.count("b")).isEqualTo(1);
+            then(actual.count(null)).isEqualTo(1);
+            then(actual.count("c")).isZero();
+            then(actual.size()).isEqualTo(5);
+            then(actual.elementSet()).containsExactlyInAnyOrder("a", "b", null);
+        }
+
+        @Test
+        void of_ShouldReturnEmptyMultiset_WhenSourceIsNull() {
+            // When
+            Multiset<String> actual = Multiset.of(null);
+
+            // Then
+            then(actual.isEmpty()).isTrue();
+            then(actual).hasToString("{}");
+        }
+
+        @Test
+        void add_ShouldReturnPreviousCount_WhenOccurrencesAreAdded() {
+            // Given
+            Multiset<String> multiset = new Multiset<>();
+
+            // When
+            int first = multiset.add("a", 2);
+            int second = multiset.add("a");
+
+            // Then
+            then(first).isZero();
+            then(second).isEqualTo(2);
+            then(multiset.count("a")).isEqualTo(3);
+        }
+
+        @Test
+        void add_ShouldThrowIllegalArgumentException_WhenOccurrencesIsNegative() {
+            // Given
+            Multiset<String> multiset = new Multiset<>();
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> multiset.add("a", -1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The occurrences cannot be negative");
+        }
+
+        @Test
+        void add_ShouldThrowIllegalArgumentException_WhenCountWouldOverflow() {
+            // Given
+            Multiset<String> multiset = new Multiset<>();
+            multiset.add("a", Integer.MAX_VALUE);
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> multiset.add("a"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            then(multiset.count("a")).isEqualTo(Integer.MAX_VALUE);
+        }
+
+        @Test
+        void remove_ShouldDropElement_WhenAllOccurrencesAreRemoved() {
+            // Given
+            Multiset<String> multiset = Multiset.of(List.of("a", "a", "b"));
+
+            // When
+            int previous = multiset.remove("a", 5);
+            boolean removedB = multiset.remove("b");
+            boolean removedC = multiset.remove("c");
+
+            // Then
+            then(previous).isEqualTo(2);
+            then(removedB).isTrue();
+            then(removedC).isFalse();
+            then(multiset.contains("a")).isFalse();
+            then(multiset.isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("intersection, union, sum and difference")
+    class Algebra {
+
+        private final Multiset<String> left = Multiset.of(List.of("a", "a", "a", "b", "c"));
+        private final Multiset<String> right = Multiset.of(List.of("a", "b", "b", "d"));
+
+        @Test
+        void intersection_ShouldKeepMinimumCounts_WhenElementsAreShared() {
+            // When
+            Multiset<String> actual = left.intersection(right);
+
+            // Then
+            then(actual).isEqualTo(Multiset.of(List.of("a", "b")));
+            then(right.intersection(left)).isEqualTo(actual);
+        }
+
+        @Test
+        void union_ShouldKeepMaximumCounts_WhenElementsAreShared() {
+            // When
+            Multiset<String> actual = left.union(right);
+
+            // Then
+            then(actual).isEqualTo(Multiset.of(List.of("a", "a", "a", "b", "b", "c", "d")));
+            then(actual.size()).isEqualTo(7);
+        }
+
+        @Test
+        void sum_ShouldAddCounts_WhenElementsAreShared() {
+            // When
+            Multiset<String> actual = left.sum(right);
+
+            // Then
+            then(actual.count("a")).isEqualTo(4);
+            then(actual.count("b")).isEqualTo(3);
+            then(actual.size()).isEqualTo(9);
+        }
+
+        @Test
+        void difference_ShouldSubtractCounts_WhenElementsAreShared() {
+            // When
+            Multiset<String> actual = left.difference(right);
+
+            // Then
+            then(actual).isEqualTo(Multiset.of(List.of("a", "a", "c")));
+            then(actual.toList()).containsExactlyInAnyOrder("a", "a", "c");
+        }
+
+        @Test
+        void algebra_ShouldLeaveOperandsUnchanged_WhenResultIsCreated() {
+            // When
+            left.union(right).add("z");
+            left.sum(right).add("z");
+
+            // Then
+            then(left.size()).isEqualTo(5);
+            then(right.size()).isEqualTo(4);
+            then(left.hashCode()).isEqualTo(Multiset.of(List.of("c", "b", "a", "a", "a")).hashCode());
+        }
+
+        @Test
+        void intersection_ShouldThrowIllegalArgumentException_WhenOtherIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> left.intersection(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The other multiset cannot be null");
+        }
+    }
+}
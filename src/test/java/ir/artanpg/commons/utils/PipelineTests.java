@@ -0,0 +1,221 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link Pipeline} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("Pipeline")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class PipelineTests {
+
+    private final List<String> words = List.of("pear", "fig", "plum", "kiwi", "apple", "fig", "lime", "date");
+
+    @Nested
+    @DisplayName("filter(Predicate), map(Function), distinct() and limit(int)")
+    class Steps {
+
+        @Test
+        void pipeline_ShouldMatchChainedUtilities_WhenStepsAreFused() {
+            // Given
+            Predicate<String> longWord = word -> word.length() > 3;
+
+            // When
+            List<Integer> actual = CollectionUtils.pipeline(words)
+                    .filter(longWord)
+                    .map(String::length)
+                    .toList();
+
+            // Then
+            then(actual).isEqualTo(CollectionUtils.transform(
+                    CollectionUtils.findAll(words, longWord), String::length));
+        }
+
+        @Test
+        void distinct_ShouldKeepFirstOccurrences_WhenElementsRepeat() {
+            // When
+            List<String> actual = CollectionUtils.pipeline(words).distinct().toList();
+
+            // Then
+            then(actual).containsExactly("pear", "fig", "plum", "kiwi", "apple", "lime", "date");
+        }
+
+        @Test
+        void limit_ShouldStopReadingSource_WhenEnoughElementsPassed() {
+            // Given
+            AtomicInteger reads = new AtomicInteger();
+
+            // When
+            List<String> actual = CollectionUtils.pipeline(words)
+                    .map(word -> {
+                        reads.incrementAndGet();
+                        return word;
+                    })
+                    .filter(word -> word.startsWith("p"))
+                    .limit(2)
+                    .toList();
+
+            // Then
+            then(actual).containsExactly("pear", "plum");
+            then(reads).hasValue(3);
+        }
+
+        @Test
+        void limit_ShouldReturnNothing_WhenMaxSizeIsZero() {
+            // When & Then
+            then(CollectionUtils.pipeline(words).limit(0).toList()).isEmpty();
+            then(CollectionUtils.pipeline(words).limit(3).limit(5).count()).isEqualTo(3);
+        }
+
+        @Test
+        void pipeline_ShouldBeReusable_WhenRunSeveralTimes() {
+            // Given
+            List<Integer> source = new ArrayList<>(List.of(3, 1, 3));
+            Pipeline<Integer> pipeline = CollectionUtils.pipeline(source).distinct();
+
+            // When
+            List<Integer> first = pipeline.toList();
+            source.add(2);
+            List<Integer> second = pipeline.toList();
+
+            // Then
+            then(first).containsExactly(3, 1);
+            then(second).containsExactly(3, 1, 2);
+        }
+
+        @Test
+        void pipeline_ShouldReadLaterElements_WhenSourceStartsEmpty() {
+            // Given
+            List<String> source = new ArrayList<>();
+            Pipeline<Integer> pipeline = CollectionUtils.pipeline(source).map(String::length);
+
+            // When
+            source.add("ab");
+
+            // Then
+            then(pipeline.toList()).containsExactly(2);
+        }
+
+        @Test
+        void limit_ShouldThrowIllegalArgumentException_WhenMaxSizeIsNegative() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.pipeline(words).limit(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The max size cannot be negative");
+        }
+
+        @Test
+        void map_ShouldThrowIllegalArgumentException_WhenMapperIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.pipeline(words).map(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The mapper cannot be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("toSet(), toCollection(Supplier), groupBy, collect, findFirst, count and forEach")
+    class Terminals {
+
+        @Test
+        void toSet_ShouldCollectDistinctElements_WhenMapped() {
+            // When
+            Set<Integer> actual = CollectionUtils.pipeline(words).map(String::length).toSet();
+
+            // Then
+            then(actual).containsExactlyInAnyOrder(3, 4, 5);
+        }
+
+        @Test
+        void toCollection_ShouldUseFactory_WhenGiven() {
+            // When
+            Set<String> actual = CollectionUtils.pipeline(words).limit(3).toCollection(LinkedHashSet::new);
+
+            // Then
+            then(actual).isInstanceOf(LinkedHashSet.class).containsExactly("pear", "fig", "plum");
+        }
+
+        @Test
+        void groupBy_ShouldMatchCollectionUtils_WhenGroupingWithoutDownstream() {
+            // When
+            Map<Integer, List<String>> actual = CollectionUtils.pipeline(words).groupBy(String::length);
+
+            // Then
+            then(actual).isEqualTo(CollectionUtils.groupBy(words, String::length));
+        }
+
+        @Test
+        void groupBy_ShouldReduceGroups_WhenDownstreamIsGiven() {
+            // When
+            Map<Character, String> actual = CollectionUtils.pipeline(words)
+                    .filter(word -> word.length() == 4)
+                    .groupBy(word -> word.charAt(0), Collectors.joining("+"));
+
+            // Then
+            then(actual).containsOnly(Map.entry('p', "pear+plum"), Map.entry('k', "kiwi"),
+                    Map.entry('l', "lime"), Map.entry('d', "date"));
+        }
+
+        @Test
+        void collect_ShouldApplyCollector_WhenCalled() {
+            // When
+            String actual = CollectionUtils.pipeline(words).limit(2).collect(Collectors.joining(","));
+
+            // Then
+            then(actual).isEqualTo("pear,fig");
+        }
+
+        @Test
+        void findFirst_ShouldReturnFirstMatch_WhenPresent() {
+            // When
+            Optional<String> actual = CollectionUtils.pipeline(words).filter(word -> word.startsWith("k")).findFirst();
+            Optional<String> missing = CollectionUtils.pipeline(words).filter(String::isEmpty).findFirst();
+
+            // Then
+            then(actual).contains("kiwi");
+            then(missing).isEmpty();
+        }
+
+        @Test
+        void countAndForEach_ShouldVisitEveryElement_WhenSourceIsNull() {
+            // Given
+            List<String> visited = new ArrayList<>();
+
+            // When
+            CollectionUtils.pipeline((List<String>) null).forEach(visited::add);
+
+            // Then
+            then(visited).isEmpty();
+            then(CollectionUtils.pipeline((List<String>) null).count()).isZero();
+            then(CollectionUtils.pipeline(words).count()).isEqualTo(words.size());
+        }
+
+        @Test
+        void forEach_ShouldThrowIllegalArgumentException_WhenActionIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.pipeline(words).forEach(null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The action cannot be null");
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package ir.artanpg.commons.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenException;
+
+/**
+ * Unit tests for the {@link PropertyIndex} class.
+ *
+ * @author Mohammad Yazdian
+ */
+@DisplayName("PropertyIndex")
+@SuppressWarnings({"ConstantValue", "DataFlowIssue"})
+class PropertyIndexTests {
+
+    private final List<String> words = List.of("pear", "fig", "plum", "kiwi", "apple", "lime");
+
+    @Nested
+    @DisplayName("contains(Object), find(Object), findAll(Object) and count(Object)")
+    class Lookup {
+
+        @Test
+        void lookups_ShouldMatchLinearScans_WhenIndexIsMultiValued() {
+            // Given
+            Function<String, Integer> length = String::length;
+            PropertyIndex<String, Integer> index = CollectionUtils.index(words, length);
+
+            // When & Then
+            for (int value = 0; value <= 6; value++) {
+                then(index.contains(value)).isEqualTo(CollectionUtils.contains(words, length, value));
+                then(index.find(value)).isEqualTo(CollectionUtils.find(words, length, value));
+                then(index.findAll(value)).isEqualTo(CollectionUtils.findAll(words, length, value));
+                then(index.count(value)).isEqualTo(CollectionUtils.findAll(words, length, value).size());
+            }
+            then(index.values()).containsExactlyInAnyOrder(3, 4, 5);
+            then(index.size()).isEqualTo(words.size());
+        }
+
+        @Test
+        void index_ShouldApplyExtractorOncePerElement_WhenQueriedRepeatedly() {
+            // Given
+            AtomicInteger calls = new AtomicInteger();
+            PropertyIndex<String, Character> index = CollectionUtils.index(words, word -> {
+                calls.incrementAndGet();
+                return word.charAt(0);
+            });
+
+            // When
+            for (int i = 0; i < 100; i++) {
+                index.findAll('p');
+            }
+
+            // Then
+            then(calls).hasValue(words.size());
+            then(index.findAll('p')).containsExactly("pear", "plum");
+        }
+
+        @Test
+        void find_ShouldSupportNullValues_WhenExtractorReturnsNull() {
+            // Given
+            List<String> source = new ArrayList<>(List.of("a", "", "b"));
+            PropertyIndex<String, Character> index = CollectionUtils.index(source,
+                    word -> word.isEmpty() ? null : word.charAt(0));
+
+            // When
+            Optional<String> actual = index.find(null);
+
+            // Then
+            then(actual).contains("");
+            then(index.count(null)).isEqualTo(1);
+            then(index.find('z')).isEmpty();
+            then(index.findAll('z')).isEmpty();
+        }
+
+        @Test
+        void findAll_ShouldReturnUnmodifiableList_WhenValueIsShared() {
+            // Given
+            PropertyIndex<String, Integer> index = CollectionUtils.index(words, String::length);
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> index.findAll(4).add("x"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("add(T) and remove(T)")
+    class Maintenance {
+
+        @Test
+        void add_ShouldMakeElementFindable_WhenAddedAfterCreation() {
+            // Given
+            PropertyIndex<String, Integer> index = CollectionUtils.index(words, String::length);
+
+            // When
+            index.add("banana");
+            index.add("fig");
+
+            // Then
+            then(index.find(6)).contains("banana");
+            then(index.findAll(3)).containsExactly("fig", "fig");
+            then(index.size()).isEqualTo(words.size() + 2);
+        }
+
+        @Test
+        void remove_ShouldDropValue_WhenLastElementIsRemoved() {
+            // Given
+            PropertyIndex<String, Integer> index = CollectionUtils.index(words, String::length);
+
+            // When
+            boolean removedApple = index.remove("apple");
+            boolean removedPear = index.remove("pear");
+            boolean removedMissing = index.remove("grape");
+
+            // Then
+            then(removedApple).isTrue();
+            then(removedPear).isTrue();
+            then(removedMissing).isFalse();
+            then(index.contains(5)).isFalse();
+            then(index.findAll(4)).containsExactly("plum", "kiwi", "lime");
+            then(index.size()).isEqualTo(words.size() - 2);
+        }
+
+        @Test
+        void remove_ShouldKeepSingleElement_WhenBucketShrinksToOne() {
+            // Given
+            PropertyIndex<String, Integer> index = CollectionUtils.index(List.of("ab", "cd"), String::length);
+
+            // When
+            index.remove("ab");
+
+            // Then
+            then(index.findAll(2)).containsExactly("cd");
+            then(index.find(2)).contains("cd");
+            then(index.remove("ab")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("uniqueIndex(Collection, Function)")
+    class Unique {
+
+        @Test
+        void uniqueIndex_ShouldFindEachElement_WhenValuesAreDistinct() {
+            // When
+            PropertyIndex<String, String> index = CollectionUtils.uniqueIndex(words, String::toUpperCase);
+
+            // Then
+            then(index.isUnique()).isTrue();
+            then(index.find("KIWI")).contains("kiwi");
+            then(index.count("KIWI")).isEqualTo(1);
+        }
+
+        @Test
+        void uniqueIndex_ShouldThrowIllegalArgumentException_WhenValuesRepeat() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.uniqueIndex(words, String::length))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The index already contains an element with value 4");
+        }
+
+        @Test
+        void add_ShouldThrowIllegalArgumentException_WhenUniqueValueIsTaken() {
+            // Given
+            PropertyIndex<String, String> index = CollectionUtils.uniqueIndex(words, Function.identity());
+
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> index.add("fig"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The index already contains an element with value fig");
+            then(index.size()).isEqualTo(words.size());
+        }
+
+        @Test
+        void index_ShouldThrowIllegalArgumentException_WhenExtractorIsNull() {
+            // When & Then
+            thenException()
+                    .isThrownBy(() -> CollectionUtils.index(words, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .withMessage("The extractor cannot be null");
+        }
+    }
+}